@@ -0,0 +1,77 @@
+package com.fasterxml.jackson.dataformat.spade.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.fasterxml.jackson.dataformat.spade.util.BitUnpacker;
+
+/**
+ * Benchmarks for unpacking bit-packed values (as used for packed integer columns):
+ * unpackers specialized for each bit width ({@link BitUnpacker}), compared to
+ * generic loop that computes word index and shifts for each value. Throughput
+ * is reported (via {@link BytesCounter}) as millions of values per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class BitUnpackerBenchmark
+{
+    // Number of values per block of packed integer columns
+    private final static int VALUES = 128;
+
+    @Param({ "1", "3", "8", "13", "21", "32", "47", "64" })
+    public int width;
+
+    protected final long[] _words = new long[VALUES + 1];
+
+    protected final long[] _values = new long[VALUES];
+
+    @Setup
+    public void setup()
+    {
+        Random r = new Random(123);
+        for (int i = 0; i < VALUES; ++i) {
+            _words[i] = r.nextLong();
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Actual benchmarks
+    /**********************************************************************
+     */
+
+    @Benchmark
+    public long unpackSpecialized(BytesCounter counter)
+    {
+        counter.bytes += VALUES;
+        final int width = this.width;
+        BitUnpacker.unpack(width, _words, 0, _values, 0);
+        BitUnpacker.unpack(width, _words, width, _values, BitUnpacker.GROUP_SIZE);
+        return _values[VALUES - 1];
+    }
+
+    @Benchmark
+    public long unpackGeneric(BytesCounter counter)
+    {
+        counter.bytes += VALUES;
+        final long[] words = _words;
+        final long[] values = _values;
+        final int width = this.width;
+        // Same as shifts of specialized unpackers, but computed for each value. Note that
+        // shift distances of longs only use 6 lowest bits, so "bitPos" works as shift of
+        // bits within the word, and "~bitPos" as 63 minus that
+        final int align = 64 - width;
+        for (int i = 0, bitPos = 0; i < VALUES; ++i, bitPos += width) {
+            final int word = bitPos >>> 6;
+            values[i] = ((words[word] << bitPos)
+                    | ((words[word+1] >>> 1) >>> ~bitPos)) >>> align;
+        }
+        return values[VALUES - 1];
+    }
+}
@@ -0,0 +1,19 @@
+package com.fasterxml.jackson.dataformat.spade.bench;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Auxiliary counter used for reporting throughput as (uncompressed) bytes
+ * per time unit: with microseconds as the time unit, that is, MB/s.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class BytesCounter
+{
+    public long bytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        bytes = 0L;
+    }
+}
@@ -0,0 +1,205 @@
+package com.fasterxml.jackson.dataformat.spade.bench;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.fasterxml.jackson.dataformat.spade.*;
+
+/**
+ * Base class for presence bitset codec benchmarks: sub-classes only need to
+ * produce input bitsets; encoding and decoding of all bitsets is then
+ * measured, with throughput reported (via {@link BytesCounter}) as MB/s
+ * of uncompressed presence bytes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public abstract class PresenceBenchmarkBase
+{
+    private final static int RAT_CHUNK = BitRatEncoder.FULL_CHUNK_SIZE;
+
+    private final static int NIBBLER_CHUNK = NibblerEncoder.MAX_CHUNK_SIZE;
+
+    protected final BitRatEncoder _ratEncoder = new BitRatEncoder();
+    protected final BitRatDecoder _ratDecoder = new BitRatDecoder();
+    protected final NibblerEncoder _nibblerEncoder = new NibblerEncoder();
+    protected final NibblerDecoder _nibblerDecoder = new NibblerDecoder();
+
+    /**
+     * Raw bitsets, one per column
+     */
+    protected byte[][] _bitsets;
+
+    /**
+     * Raw bitsets split in BitRat chunks, since encoder can not take input offset
+     */
+    protected byte[][][] _ratChunks;
+
+    protected byte[][] _ratEncoded;
+    protected int[][] _ratMasks;
+
+    protected byte[][] _nibblerEncoded;
+
+    protected long _totalBytes;
+
+    protected final byte[] _output = new byte[Math.max(RAT_CHUNK, NIBBLER_CHUNK) * 2];
+
+    protected void _prepare(List<byte[]> bitsets)
+    {
+        final int count = bitsets.size();
+        _bitsets = bitsets.toArray(new byte[count][]);
+        _ratChunks = new byte[count][][];
+        _ratEncoded = new byte[count][];
+        _ratMasks = new int[count][];
+        _nibblerEncoded = new byte[count][];
+        _totalBytes = 0L;
+
+        for (int i = 0; i < count; ++i) {
+            final byte[] data = _bitsets[i];
+            final int len = data.length;
+            _totalBytes += len;
+            final int chunks = (len + RAT_CHUNK - 1) / RAT_CHUNK;
+            _ratChunks[i] = new byte[chunks][];
+            for (int c = 0; c < chunks; ++c) {
+                int offset = c * RAT_CHUNK;
+                _ratChunks[i][c] = Arrays.copyOfRange(data, offset, Math.min(len, offset + RAT_CHUNK));
+            }
+            // then pre-encode for decoding tests
+            byte[] enc = new byte[len * 2 + 100];
+            _ratMasks[i] = new int[chunks];
+            int ptr = 0;
+            boolean prevBit = false;
+            for (int c = 0; c < chunks; ++c) {
+                byte[] chunk = _ratChunks[i][c];
+                _ratMasks[i][c] = _ratEncoder.encodePartialChunk(prevBit, chunk, chunk.length, enc, ptr);
+                ptr = _ratEncoder.getOutputPtr();
+                prevBit = _ratEncoder.wasLastBitSet();
+            }
+            _ratEncoded[i] = Arrays.copyOf(enc, ptr);
+
+            ptr = 0;
+            enc = new byte[len + (len / NIBBLER_CHUNK + 1) * NibblerEncoder.MAX_OVERHEAD_BYTES];
+            for (int offset = 0; offset < len; offset += NIBBLER_CHUNK) {
+                ptr = _nibblerEncoder.encode(data, offset, Math.min(NIBBLER_CHUNK, len - offset), enc, ptr);
+            }
+            _nibblerEncoded[i] = Arrays.copyOf(enc, ptr);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Actual benchmarks
+    /**********************************************************************
+     */
+
+    @Benchmark
+    public int bitratEncode(BytesCounter counter)
+    {
+        final BitRatEncoder enc = _ratEncoder;
+        final byte[] output = _output;
+        int total = 0;
+        for (byte[][] chunks : _ratChunks) {
+            boolean prevBit = false;
+            for (byte[] chunk : chunks) {
+                total += enc.encodePartialChunk(prevBit, chunk, chunk.length, output, 0);
+                total += enc.getOutputPtr();
+                prevBit = enc.wasLastBitSet();
+            }
+        }
+        counter.bytes += _totalBytes;
+        return total;
+    }
+
+    @Benchmark
+    public int nibblerEncode(BytesCounter counter)
+    {
+        final NibblerEncoder enc = _nibblerEncoder;
+        final byte[] output = _output;
+        int total = 0;
+        for (byte[] data : _bitsets) {
+            final int len = data.length;
+            for (int offset = 0; offset < len; offset += NIBBLER_CHUNK) {
+                total += enc.encode(data, offset, Math.min(NIBBLER_CHUNK, len - offset), output, 0);
+            }
+        }
+        counter.bytes += _totalBytes;
+        return total;
+    }
+
+    @Benchmark
+    public int bitratDecode(BytesCounter counter)
+    {
+        final BitRatDecoder dec = _ratDecoder;
+        final byte[] output = _output;
+        int total = 0;
+        for (int i = 0, end = _bitsets.length; i < end; ++i) {
+            final byte[] encoded = _ratEncoded[i];
+            final int[] masks = _ratMasks[i];
+            int left = _bitsets[i].length;
+            int ptr = 0;
+            boolean prevBit = false;
+            for (int c = 0; c < masks.length; ++c, left -= RAT_CHUNK) {
+                ptr = dec.decodePartialChunk(prevBit, masks[c], encoded, ptr,
+                        output, 0, Math.min(left, RAT_CHUNK));
+                prevBit = dec.wasLastBitSet();
+            }
+            total += ptr + output[0];
+        }
+        counter.bytes += _totalBytes;
+        return total;
+    }
+
+    @Benchmark
+    public int nibblerDecode(BytesCounter counter)
+    {
+        final NibblerDecoder dec = _nibblerDecoder;
+        final byte[] output = _output;
+        int total = 0;
+        for (int i = 0, end = _bitsets.length; i < end; ++i) {
+            final byte[] encoded = _nibblerEncoded[i];
+            final int len = _bitsets[i].length;
+            int ptr = 0;
+            for (int offset = 0; offset < len; offset += NIBBLER_CHUNK) {
+                ptr = dec.decode(encoded, ptr, output, 0, Math.min(NIBBLER_CHUNK, len - offset));
+            }
+            total += ptr + output[0];
+        }
+        counter.bytes += _totalBytes;
+        return total;
+    }
+
+    /**
+     * Benchmark for iterating over Nibbler segments without expanding runs,
+     * counting set bits of literals
+     */
+    @Benchmark
+    public int nibblerSegments(BytesCounter counter)
+    {
+        final NibblerDecoder dec = _nibblerDecoder;
+        int total = 0;
+        for (int i = 0, end = _bitsets.length; i < end; ++i) {
+            final byte[] encoded = _nibblerEncoded[i];
+            final int len = _bitsets[i].length;
+            int ptr = 0;
+            for (int offset = 0; offset < len; offset += NIBBLER_CHUNK) {
+                ptr = dec.startChunk(encoded, ptr, Math.min(NIBBLER_CHUNK, len - offset));
+                int type;
+                while ((type = dec.nextSegment()) != NibblerDecoder.SEGMENT_END) {
+                    if (type == NibblerDecoder.SEGMENT_LITERAL) {
+                        for (int j = 0, segLen = dec.getSegmentLength(); j < segLen; ++j) {
+                            total += Integer.bitCount(dec.getLiteralByte(j));
+                        }
+                    } else if (type == NibblerDecoder.SEGMENT_ONES) {
+                        total += dec.getSegmentLength() << 3;
+                    }
+                }
+            }
+        }
+        counter.bytes += _totalBytes;
+        return total;
+    }
+}
@@ -0,0 +1,86 @@
+package com.fasterxml.jackson.dataformat.spade.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Helper class for producing presence bitsets to use as benchmark input:
+ * either synthetic ones with given density, or ones read from output of
+ * {@link com.fasterxml.jackson.dataformat.spade.cli.WriteBitSets}.
+ */
+public class PresenceData
+{
+    /**
+     * Mean length of set-bit runs, for "clustered" distribution
+     */
+    private final static int MEAN_CLUSTER_BITS = 64;
+
+    private PresenceData() { }
+
+    /**
+     * @param byteLength Length of bitset to generate, in bytes
+     * @param density Ratio of set bits, [0.0, 1.0]
+     * @param clustered Whether set bits are clustered in runs (true) or
+     *   uniformly distributed (false)
+     */
+    public static byte[] synthetic(int byteLength, double density, boolean clustered, long seed)
+    {
+        final Random r = new Random(seed);
+        final byte[] result = new byte[byteLength];
+        final int bits = byteLength * 8;
+        if (!clustered) {
+            for (int i = 0; i < bits; ++i) {
+                if (r.nextDouble() < density) {
+                    result[i >> 3] |= (byte) (0x80 >> (i & 7));
+                }
+            }
+            return result;
+        }
+        // For clustered, alternate between clear and set runs, with geometrically
+        // distributed lengths, choosing means to get the expected density
+        final double meanSet = MEAN_CLUSTER_BITS;
+        final double meanClear = MEAN_CLUSTER_BITS * (1.0 - density) / density;
+        int ix = 0;
+        while (ix < bits) {
+            ix += _geometric(r, meanClear);
+            int end = Math.min(bits, ix + _geometric(r, meanSet));
+            for (; ix < end; ++ix) {
+                result[ix >> 3] |= (byte) (0x80 >> (ix & 7));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Method for reading bitsets from JSON file produced by <code>WriteBitSets</code>;
+     * columns with 100% presence (for which no bitset is written) are skipped.
+     */
+    public static List<byte[]> fromWriteBitSets(String filename) throws IOException
+    {
+        JsonNode root = new ObjectMapper().readTree(new File(filename));
+        List<byte[]> result = new ArrayList<>();
+        Iterator<JsonNode> it = root.path("bitsets").elements();
+        while (it.hasNext()) {
+            JsonNode presence = it.next().get("presence");
+            if (presence != null) {
+                result.add(presence.binaryValue());
+            }
+        }
+        if (result.isEmpty()) {
+            throw new IOException("No presence bitsets found in '"+filename+"'");
+        }
+        return result;
+    }
+
+    private static int _geometric(Random r, double mean) {
+        if (mean <= 1.0) {
+            return 1;
+        }
+        double p = 1.0 / mean;
+        return 1 + (int) (Math.log(1.0 - r.nextDouble()) / Math.log(1.0 - p));
+    }
+}
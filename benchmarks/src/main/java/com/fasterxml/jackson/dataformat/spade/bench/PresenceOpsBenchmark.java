@@ -0,0 +1,191 @@
+package com.fasterxml.jackson.dataformat.spade.bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.roaringbitmap.RoaringBitmap;
+
+import com.fasterxml.jackson.dataformat.spade.*;
+import com.fasterxml.jackson.dataformat.spade.util.ByteBuilder;
+
+/**
+ * Benchmarks for boolean operations over encoded presence bitsets: operating
+ * on encoded chunks using {@link PresenceBitsetOps}, compared to inflating both
+ * operands, combining raw bytes and encoding result, as well as to the same
+ * operations on {@link RoaringBitmap}s (with operands already deserialized,
+ * as Roaring operates on in-memory bitmaps, but result serialized, for
+ * parity with encoded results of other variants). Operands are synthetic
+ * bitsets of 512k bytes (4M rows) each, encoded with the adaptive codec;
+ * throughput is reported (via {@link BytesCounter}) as MB/s of raw presence
+ * bytes of one operand.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class PresenceOpsBenchmark
+{
+    private final static int BYTES = 512 * 1024;
+
+    /**
+     * Ratio of set bits in operands
+     */
+    @Param({ "0.0001", "0.01", "0.5", "0.99" })
+    public double density;
+
+    @Param({ "uniform", "clustered" })
+    public String distribution;
+
+    protected byte[] _encodedA, _encodedB;
+
+    protected final byte[] _rawA = new byte[BYTES];
+    protected final byte[] _rawB = new byte[BYTES];
+
+    protected RoaringBitmap _roaringA, _roaringB;
+
+    protected final ByteBuilder _output = new ByteBuilder(BYTES);
+
+    @Setup
+    public void setup() throws IOException
+    {
+        final boolean clustered = "clustered".equals(distribution);
+        final byte[] rawA = PresenceData.synthetic(BYTES, density, clustered, 1);
+        final byte[] rawB = PresenceData.synthetic(BYTES, density, clustered, 2);
+        _encodedA = _encode(rawA);
+        _encodedB = _encode(rawB);
+        _roaringA = _roaring(rawA);
+        _roaringB = _roaring(rawB);
+    }
+
+    /*
+    /**********************************************************************
+    /* Actual benchmarks
+    /**********************************************************************
+     */
+
+    @Benchmark
+    public int andCompressed(BytesCounter counter) throws IOException {
+        counter.bytes += BYTES;
+        return PresenceBitsetOps.and(_encodedA, _encodedB).length;
+    }
+
+    @Benchmark
+    public int andInflated(BytesCounter counter) throws IOException
+    {
+        counter.bytes += BYTES;
+        _inflate(_encodedA, _rawA);
+        _inflate(_encodedB, _rawB);
+        for (int i = 0; i < BYTES; ++i) {
+            _rawA[i] &= _rawB[i];
+        }
+        return _encode(_rawA).length;
+    }
+
+    @Benchmark
+    public int andRoaring(BytesCounter counter) throws IOException {
+        counter.bytes += BYTES;
+        return _serialize(RoaringBitmap.and(_roaringA, _roaringB));
+    }
+
+    @Benchmark
+    public int orCompressed(BytesCounter counter) throws IOException {
+        counter.bytes += BYTES;
+        return PresenceBitsetOps.or(_encodedA, _encodedB).length;
+    }
+
+    @Benchmark
+    public int orInflated(BytesCounter counter) throws IOException
+    {
+        counter.bytes += BYTES;
+        _inflate(_encodedA, _rawA);
+        _inflate(_encodedB, _rawB);
+        for (int i = 0; i < BYTES; ++i) {
+            _rawA[i] |= _rawB[i];
+        }
+        return _encode(_rawA).length;
+    }
+
+    @Benchmark
+    public int orRoaring(BytesCounter counter) throws IOException {
+        counter.bytes += BYTES;
+        return _serialize(RoaringBitmap.or(_roaringA, _roaringB));
+    }
+
+    @Benchmark
+    public int andNotCompressed(BytesCounter counter) throws IOException {
+        counter.bytes += BYTES;
+        return PresenceBitsetOps.andNot(_encodedA, _encodedB).length;
+    }
+
+    @Benchmark
+    public int andNotInflated(BytesCounter counter) throws IOException
+    {
+        counter.bytes += BYTES;
+        _inflate(_encodedA, _rawA);
+        _inflate(_encodedB, _rawB);
+        for (int i = 0; i < BYTES; ++i) {
+            _rawA[i] &= ~_rawB[i];
+        }
+        return _encode(_rawA).length;
+    }
+
+    @Benchmark
+    public int andNotRoaring(BytesCounter counter) throws IOException {
+        counter.bytes += BYTES;
+        return _serialize(RoaringBitmap.andNot(_roaringA, _roaringB));
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper methods
+    /**********************************************************************
+     */
+
+    private byte[] _encode(byte[] raw) throws IOException
+    {
+        _output.reset();
+        PresenceBitsetOutputStream out = new PresenceBitsetOutputStream(_output,
+                PresenceBitsetOutputStream.CODEC_ADAPTIVE);
+        out.write(raw);
+        out.finish();
+        return _output.toByteArray();
+    }
+
+    // Result of an operation is run-optimized and serialized, like encoded results
+    private int _serialize(RoaringBitmap result) throws IOException
+    {
+        _output.reset();
+        result.runOptimize();
+        result.serialize(new DataOutputStream(_output));
+        return _output.size();
+    }
+
+    private static RoaringBitmap _roaring(byte[] raw)
+    {
+        RoaringBitmap r = new RoaringBitmap();
+        for (int i = 0, ix = 0; i < raw.length; ++i) {
+            final int ch = raw[i];
+            for (int mask = 0x80; mask != 0; mask >>= 1, ++ix) {
+                if ((ch & mask) != 0) {
+                    r.add(ix);
+                }
+            }
+        }
+        r.runOptimize();
+        return r;
+    }
+
+    private static void _inflate(byte[] encoded, byte[] raw) throws IOException
+    {
+        PresenceBitsetInputStream in = new PresenceBitsetInputStream(new ByteArrayInputStream(encoded));
+        int count = 0;
+        while (count < raw.length) {
+            count += in.read(raw, count, raw.length - count);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.fasterxml.jackson.dataformat.spade.bench;
+
+import java.util.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Codec benchmarks over synthetic presence bitsets: set of 16 columns
+ * of 64kB each (that is, 1 MB of raw presence data, 512k rows per column),
+ * with given density and distribution of set bits.
+ */
+@State(Scope.Benchmark)
+public class SyntheticPresenceBenchmark extends PresenceBenchmarkBase
+{
+    private final static int COLUMNS = 16;
+
+    private final static int COLUMN_BYTES = 64 * 1024;
+
+    /**
+     * Ratio of set bits: 0.01%, 1%, 10%, 50%, 99%
+     */
+    @Param({ "0.0001", "0.01", "0.1", "0.5", "0.99" })
+    public double density;
+
+    @Param({ "uniform", "clustered" })
+    public String distribution;
+
+    @Setup
+    public void setup()
+    {
+        final boolean clustered;
+        if ("clustered".equals(distribution)) {
+            clustered = true;
+        } else if ("uniform".equals(distribution)) {
+            clustered = false;
+        } else {
+            throw new IllegalArgumentException("Unrecognized distribution '"+distribution+"'");
+        }
+        List<byte[]> bitsets = new ArrayList<>();
+        for (int i = 0; i < COLUMNS; ++i) {
+            bitsets.add(PresenceData.synthetic(COLUMN_BYTES, density, clustered, i));
+        }
+        _prepare(bitsets);
+    }
+}
@@ -0,0 +1,144 @@
+package com.fasterxml.jackson.dataformat.spade.bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.spade.SpadeFactory;
+import com.fasterxml.jackson.dataformat.spade.SpadeTextTranscoder;
+
+/**
+ * Benchmarks for converting between binary Spade format and textual JSON:
+ * direct transcoding of block structure with {@link SpadeTextTranscoder},
+ * compared to reading rows as {@link JsonNode} trees with one
+ * {@link ObjectMapper} and writing them with another (which produces
+ * row-oriented JSON, instead of textual Spade representation).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class TranscodeBenchmark
+{
+    private final static int ROWS = 100000;
+
+    protected final JsonFactory _jsonFactory = new JsonFactory();
+
+    protected final ObjectMapper _jsonMapper = new ObjectMapper(_jsonFactory);
+
+    protected final ObjectMapper _spadeMapper = new ObjectMapper(new SpadeFactory());
+
+    protected byte[] _binary;
+
+    /**
+     * Textual Spade representation of {@link #_binary}
+     */
+    protected byte[] _text;
+
+    /**
+     * Rows of {@link #_binary} as JSON
+     */
+    protected byte[] _rowsJson;
+
+    protected final ByteArrayOutputStream _output = new ByteArrayOutputStream(16 * 1024 * 1024);
+
+    @Setup
+    public void setup() throws IOException
+    {
+        final Random r = new Random(17);
+        final String[] levels = new String[] { "DEBUG", "INFO", "INFO", "INFO", "WARN", "ERROR" };
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonGenerator g = _spadeMapper.getFactory().createGenerator(bytes)) {
+            long timestamp = 1500000000000L;
+            for (int i = 0; i < ROWS; ++i) {
+                Map<String,Object> row = new LinkedHashMap<>();
+                timestamp += r.nextInt(200);
+                row.put("timestamp", timestamp);
+                final String level = levels[r.nextInt(levels.length)];
+                row.put("level", level);
+                row.put("latency", Math.round(r.nextGaussian() * 500.0 + 2000.0) / 100.0);
+                if (r.nextInt(4) == 0) {
+                    row.put("user", "user-"+r.nextInt(500));
+                }
+                if ("ERROR".equals(level)) {
+                    row.put("error", "code-"+r.nextInt(20));
+                }
+                _spadeMapper.writeValue(g, row);
+            }
+        }
+        _binary = bytes.toByteArray();
+        _text = binaryToTextTranscoder();
+        _rowsJson = binaryToTextTrees();
+        System.out.printf("%n%d rows: %d bytes binary, %d bytes as textual Spade, %d bytes as JSON rows%n",
+                ROWS, _binary.length, _text.length, _rowsJson.length);
+    }
+
+    /*
+    /**********************************************************************
+    /* Actual benchmarks
+    /**********************************************************************
+     */
+
+    @Benchmark
+    public byte[] binaryToTextTranscoder() throws IOException
+    {
+        _output.reset();
+        try (JsonGenerator g = _jsonFactory.createGenerator(_output)) {
+            SpadeTextTranscoder.toText(new ByteArrayInputStream(_binary), g);
+        }
+        return _output.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] binaryToTextTrees() throws IOException
+    {
+        _output.reset();
+        try (JsonGenerator g = _jsonFactory.createGenerator(_output)) {
+            g.writeStartArray();
+            MappingIterator<JsonNode> it = _spadeMapper.readerFor(JsonNode.class).readValues(_binary);
+            while (it.hasNextValue()) {
+                _jsonMapper.writeTree(g, it.nextValue());
+            }
+            g.writeEndArray();
+        }
+        return _output.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] textToBinaryTranscoder() throws IOException
+    {
+        _output.reset();
+        try (JsonParser p = _jsonFactory.createParser(_text)) {
+            SpadeTextTranscoder.toBinary(p, _output);
+        }
+        return _output.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] textToBinaryTrees() throws IOException
+    {
+        _output.reset();
+        try (JsonGenerator g = _spadeMapper.getFactory().createGenerator(_output)) {
+            Iterator<JsonNode> it = _jsonMapper.readTree(_rowsJson).elements();
+            while (it.hasNext()) {
+                _spadeMapper.writeTree(g, it.next());
+            }
+        }
+        return _output.toByteArray();
+    }
+}
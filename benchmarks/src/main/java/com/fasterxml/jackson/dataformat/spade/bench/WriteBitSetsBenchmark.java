@@ -0,0 +1,26 @@
+package com.fasterxml.jackson.dataformat.spade.bench;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Codec benchmarks over actual presence bitsets, as produced by
+ * {@link com.fasterxml.jackson.dataformat.spade.cli.WriteBitSets}: input file
+ * must be specified with <code>-p inputFile=path/to/bitsets.json</code>.
+ */
+@State(Scope.Benchmark)
+public class WriteBitSetsBenchmark extends PresenceBenchmarkBase
+{
+    @Param({ "" })
+    public String inputFile;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        if (inputFile == null || inputFile.isEmpty()) {
+            throw new IllegalStateException("Missing input file: specify with '-p inputFile=<path>'");
+        }
+        _prepare(PresenceData.fromWriteBitSets(inputFile));
+    }
+}
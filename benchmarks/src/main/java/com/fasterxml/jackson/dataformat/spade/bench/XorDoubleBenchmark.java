@@ -0,0 +1,157 @@
+package com.fasterxml.jackson.dataformat.spade.bench;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.fasterxml.jackson.dataformat.spade.XorDoubleDecoder;
+import com.fasterxml.jackson.dataformat.spade.XorDoubleEncoder;
+import com.fasterxml.jackson.dataformat.spade.util.ByteBuilder;
+
+/**
+ * Benchmarks for XOR encoding of <code>double</code> columns, compared to the
+ * raw 8-byte (big-endian) layout used by plain token encoding. Throughput is
+ * reported (via {@link BytesCounter}) as MB/s of raw 8-byte values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class XorDoubleBenchmark
+{
+    private final static int VALUES = 256 * 1024;
+
+    /**
+     * Kind of values: "gauge" for slowly changing measurements with few significant
+     * digits, "walk" for random walk of full-precision values, "random" for
+     * uniformly random values (worst case for XOR encoding)
+     */
+    @Param({ "gauge", "walk", "random" })
+    public String series;
+
+    protected double[] _values;
+
+    protected byte[] _xorEncoded;
+
+    protected byte[] _rawEncoded;
+
+    protected final ByteBuilder _output = new ByteBuilder();
+
+    protected final XorDoubleEncoder _encoder = new XorDoubleEncoder(_output);
+
+    protected final XorDoubleDecoder _decoder = new XorDoubleDecoder();
+
+    @Setup
+    public void setup() throws IOException
+    {
+        final Random r = new Random(123);
+        _values = new double[VALUES];
+        double v = 100.0;
+        for (int i = 0; i < VALUES; ++i) {
+            if ("gauge".equals(series)) {
+                if (r.nextInt(8) == 0) {
+                    v = Math.round((v + r.nextGaussian()) * 10.0) / 10.0;
+                }
+            } else if ("walk".equals(series)) {
+                v += r.nextGaussian() * 0.01;
+            } else if ("random".equals(series)) {
+                v = r.nextDouble();
+            } else {
+                throw new IllegalArgumentException("Unrecognized series '"+series+"'");
+            }
+            _values[i] = v;
+        }
+        _rawEncoded = new byte[VALUES * 8];
+        _rawEncode(_values, _rawEncoded);
+        _xorEncode(_values);
+        _xorEncoded = _output.toByteArray();
+        System.out.printf("%nSeries '%s': %d bytes XOR-encoded, %d raw (%.1f%%)%n",
+                series, _xorEncoded.length, _rawEncoded.length,
+                100.0 * _xorEncoded.length / _rawEncoded.length);
+    }
+
+    /*
+    /**********************************************************************
+    /* Actual benchmarks
+    /**********************************************************************
+     */
+
+    @Benchmark
+    public int xorEncode(BytesCounter counter) throws IOException
+    {
+        _xorEncode(_values);
+        counter.bytes += VALUES * 8;
+        return _output.size();
+    }
+
+    @Benchmark
+    public double xorDecode(BytesCounter counter) throws IOException
+    {
+        final XorDoubleDecoder dec = _decoder;
+        dec.init(_xorEncoded, 0, _xorEncoded.length);
+        double total = 0.0;
+        for (int i = 0; i < VALUES; ++i) {
+            total += dec.read();
+        }
+        counter.bytes += VALUES * 8;
+        return total;
+    }
+
+    @Benchmark
+    public int rawEncode(BytesCounter counter)
+    {
+        _rawEncode(_values, _rawEncoded);
+        counter.bytes += VALUES * 8;
+        return _rawEncoded[0];
+    }
+
+    @Benchmark
+    public double rawDecode(BytesCounter counter)
+    {
+        final byte[] input = _rawEncoded;
+        double total = 0.0;
+        for (int i = 0, ptr = 0; i < VALUES; ++i, ptr += 8) {
+            long l = ((long) (input[ptr] & 0xFF) << 56)
+                    | ((long) (input[ptr+1] & 0xFF) << 48)
+                    | ((long) (input[ptr+2] & 0xFF) << 40)
+                    | ((long) (input[ptr+3] & 0xFF) << 32)
+                    | ((long) (input[ptr+4] & 0xFF) << 24)
+                    | ((input[ptr+5] & 0xFF) << 16)
+                    | ((input[ptr+6] & 0xFF) << 8)
+                    | (input[ptr+7] & 0xFF);
+            total += Double.longBitsToDouble(l);
+        }
+        counter.bytes += VALUES * 8;
+        return total;
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper methods
+    /**********************************************************************
+     */
+
+    private void _xorEncode(double[] values) throws IOException
+    {
+        _output.reset();
+        final XorDoubleEncoder enc = _encoder;
+        for (double d : values) {
+            enc.write(d);
+        }
+        enc.finish();
+    }
+
+    private static void _rawEncode(double[] values, byte[] output)
+    {
+        for (int i = 0, ptr = 0; i < values.length; ++i) {
+            final long l = Double.doubleToRawLongBits(values[i]);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                output[ptr++] = (byte) (l >> shift);
+            }
+        }
+    }
+}
@@ -1,3 +0,0 @@
-#!/bin/sh
-
-java -cp target/classes:lib/\* manual.SpeedTest $*
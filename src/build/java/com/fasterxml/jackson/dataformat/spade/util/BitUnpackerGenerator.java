@@ -0,0 +1,132 @@
+package com.fasterxml.jackson.dataformat.spade.util;
+
+import java.io.*;
+
+/**
+ * Tool for generating source of {@link BitUnpacker}: one method per
+ * bit width, unpacking 64 values with all shifts and masks as constants.
+ * Usage: <code>BitUnpackerGenerator [output-file]</code> (default: stdout).
+ *<p>
+ * Generated source is committed under <code>src/main/java</code>; this tool is only
+ * compiled with tests (see <code>pom.xml</code>), and <code>BitUnpackerTest</code>
+ * verifies that committed source matches output of the tool.
+ */
+public class BitUnpackerGenerator
+{
+    private final static int MAX_WIDTH = 64;
+
+    private final static int GROUP_SIZE = 64;
+
+    public static void main(String[] args) throws IOException
+    {
+        final String src = generate();
+        if (args.length == 0) {
+            System.out.print(src);
+        } else {
+            try (Writer w = new OutputStreamWriter(new FileOutputStream(args[0]), "UTF-8")) {
+                w.write(src);
+            }
+        }
+    }
+
+    /**
+     * @return Full source of <code>BitUnpacker</code>
+     */
+    public static String generate()
+    {
+        StringWriter sw = new StringWriter();
+        PrintWriter out = new PrintWriter(sw);
+        _generate(out);
+        out.flush();
+        return sw.toString();
+    }
+
+    private static void _generate(PrintWriter out)
+    {
+        out.print("package com.fasterxml.jackson.dataformat.spade.util;\n"
+                +"\n"
+                +"import java.util.Arrays;\n"
+                +"\n"
+                +"/**\n"
+                +" * Unpacking of bit-packed unsigned values, packed MSB-first into 64-bit words\n"
+                +" * (that is, the first value starts at the most significant bit of the first word).\n"
+                +" * Values are unpacked in groups of {@link #GROUP_SIZE}, which take exactly\n"
+                +" * <code>width</code> words, using separate method for each width, with\n"
+                +" * constant shifts and masks, and no branches or loops.\n"
+                +" *<p>\n"
+                +" * NOTE: generated by <code>BitUnpackerGenerator</code> (in <code>src/build/java</code>);\n"
+                +" * do not edit by hand.\n"
+                +" */\n"
+                +"public final class BitUnpacker\n"
+                +"{\n"
+                +"    public final static int GROUP_SIZE = "+GROUP_SIZE+";\n"
+                +"\n"
+                +"    private BitUnpacker() { }\n"
+                +"\n"
+                +"    /**\n"
+                +"     * Method for unpacking {@link #GROUP_SIZE} values of given bit width from\n"
+                +"     * <code>width</code> words of <code>in</code>, starting at <code>inPtr</code>,\n"
+                +"     * into <code>out</code>, starting at <code>outPtr</code>.\n"
+                +"     *\n"
+                +"     * @param width Bit width of values, 0 - 64\n"
+                +"     */\n"
+                +"    public static void unpack(int width, long[] in, int inPtr, long[] out, int outPtr)\n"
+                +"    {\n"
+                +"        switch (width) {\n"
+                +"        case 0:\n"
+                +"            Arrays.fill(out, outPtr, outPtr + GROUP_SIZE, 0L);\n"
+                +"            return;\n");
+        for (int w = 1; w < MAX_WIDTH; ++w) {
+            out.printf("        case %d:\n", w);
+            out.printf("            _unpack%d(in, inPtr, out, outPtr);\n", w);
+            out.print("            return;\n");
+        }
+        out.print("        case 64:\n"
+                +"            System.arraycopy(in, inPtr, out, outPtr, GROUP_SIZE);\n"
+                +"            return;\n"
+                +"        default:\n"
+                +"            throw new IllegalArgumentException(\"Invalid bit width \"+width);\n"
+                +"        }\n"
+                +"    }\n");
+        for (int w = 1; w < MAX_WIDTH; ++w) {
+            _generateMethod(out, w);
+        }
+        out.print("}\n");
+    }
+
+    private static void _generateMethod(PrintWriter out, int width)
+    {
+        final String mask = String.format("0x%XL", (1L << width) - 1);
+        out.printf("\n    private static void _unpack%d(long[] in, int ip, long[] out, int op)\n", width);
+        out.print("    {\n");
+        out.print("        final long w0 = in[ip];\n");
+        int loaded = 0;
+        for (int i = 0; i < GROUP_SIZE; ++i) {
+            final int bitPos = i * width;
+            final int word = bitPos >>> 6;
+            final int shift = bitPos & 63;
+            final int end = shift + width;
+            // load words as they are first needed, as locals, since arrays may alias
+            final int lastWord = (end > 64) ? word + 1 : word;
+            while (loaded < lastWord) {
+                ++loaded;
+                out.printf("        final long w%d = in[ip+%d];\n", loaded, loaded);
+            }
+            final String value;
+            if (end <= 64) {
+                if (shift == 0) {
+                    value = String.format("w%d >>> %d", word, 64 - width);
+                } else if (end == 64) {
+                    value = String.format("w%d & %s", word, mask);
+                } else {
+                    value = String.format("(w%d >>> %d) & %s", word, 64 - end, mask);
+                }
+            } else {
+                value = String.format("((w%d << %d) | (w%d >>> %d)) & %s",
+                        word, end - 64, word + 1, 128 - end, mask);
+            }
+            out.printf("        out[%s] = %s;\n", (i == 0) ? "op" : ("op+"+i), value);
+        }
+        out.print("    }\n");
+    }
+}
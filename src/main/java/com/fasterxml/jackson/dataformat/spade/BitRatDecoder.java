@@ -0,0 +1,343 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+/**
+ * Decoder for content encoded by {@link BitRatEncoder}: inflates encoded
+ * chunks back into raw presence bytes. Instances are stateful (just like
+ * encoders) but reusable, and no allocations are made during decoding:
+ * caller passes in both input and output buffers.
+ */
+public class BitRatDecoder
+{
+    public final static int FULL_CHUNK_SIZE = BitRatEncoder.FULL_CHUNK_SIZE;
+
+    public final static int LEVEL2_CHUNK_SIZE = BitRatEncoder.LEVEL2_CHUNK_SIZE;
+
+    /**
+     * Buffer from which encoded content is read.
+     */
+    protected byte[] _input;
+
+    protected byte[] _output;
+
+    // Pointer to point after last encoded byte consumed
+    protected int _inputPtr;
+
+    // Pointer to point after last decoded byte written
+    protected int _outputPtr;
+
+    // 8-bit value that constitutes continuation of the match
+    protected int _matchLevel1 = 0x0; // starts with clear bits
+
+    public BitRatDecoder() { }
+
+    /*
+    /**********************************************************************
+    /* Public API, accessors
+    /**********************************************************************
+     */
+
+    public int getInputPtr() { return _inputPtr; }
+    public int getOutputPtr() { return _outputPtr; }
+
+    /**
+     * Accessor for checking value of the last decoded bit; needs to be passed
+     * as <code>prevBit</code> when decoding the following chunk.
+     */
+    public boolean wasLastBitSet() {
+        return (_matchLevel1 != 0);
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API, decoding
+    /**********************************************************************
+     */
+
+    /**
+     * Method for decoding a full 4k chunk, as encoded by
+     * {@link BitRatEncoder#encodeFullChunk}.
+     *
+     * @param prevBit Value of the last bit of the preceding chunk (false for first chunk)
+     * @param chunkMask 8-bit mask returned by the encoder for the chunk
+     *
+     * @return Offset right after last encoded byte consumed
+     */
+    public int decodeFullChunk(boolean prevBit, int chunkMask,
+            byte[] input, int inputPtr, byte[] output, int outputPtr)
+    {
+        _input = input;
+        _inputPtr = inputPtr;
+        _output = output;
+        _outputPtr = outputPtr;
+        _matchLevel1 = prevBit ? 0xFF : 0x0;
+
+        for (int marker = 0x80; marker != 0; marker >>= 1) {
+            if ((chunkMask & marker) == 0) {
+                _fill(LEVEL2_CHUNK_SIZE);
+            } else {
+                _decodeFullLevel2();
+            }
+        }
+        return _inputPtr;
+    }
+
+    /**
+     * Method for decoding a chunk shorter than 4k, as encoded by
+     * {@link BitRatEncoder#encodePartialChunk}. Caller has to know the
+     * length of decoded content, as it is not included in encoded data.
+     *
+     * @return Offset right after last encoded byte consumed
+     */
+    public int decodePartialChunk(boolean prevBit, int chunkMask,
+            byte[] input, int inputPtr, byte[] output, int outputPtr, int outputLen)
+    {
+        if (outputLen >= FULL_CHUNK_SIZE) {
+            if (outputLen == FULL_CHUNK_SIZE) {
+                return decodeFullChunk(prevBit, chunkMask, input, inputPtr, output, outputPtr);
+            }
+            throw new IllegalArgumentException(String.format(
+                    "Invalid chunk size %d for partial input: should be less than %d",
+                    outputLen, FULL_CHUNK_SIZE));
+        }
+        _input = input;
+        _inputPtr = inputPtr;
+        _output = output;
+        _outputPtr = outputPtr;
+        _matchLevel1 = prevBit ? 0xFF : 0x0;
+
+        int marker = 0x80;
+        int left = outputLen;
+        for (; left >= LEVEL2_CHUNK_SIZE; left -= LEVEL2_CHUNK_SIZE) {
+            if ((chunkMask & marker) == 0) {
+                _fill(LEVEL2_CHUNK_SIZE);
+            } else {
+                _decodeFullLevel2();
+            }
+            marker >>= 1;
+        }
+        if (left > 0) {
+            if ((chunkMask & marker) == 0) {
+                _fill(left);
+            } else {
+                _decodePartialLevel2(left);
+            }
+        }
+        return _inputPtr;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, full chunk decoding
+    /**********************************************************************
+     */
+
+    /**
+     * Second-level decoding method that handles 512 byte block, as 8 blocks
+     * of 64 bytes, each with a two-nibble mask for {@link #_decodeFullLevel1}.
+     */
+    void _decodeFullLevel2()
+    {
+        final int mask = _input[_inputPtr++];
+        for (int bit = 0x80; bit != 0; bit >>= 1) {
+            if ((mask & bit) == 0) {
+                _fill(64);
+            } else {
+                int mask2 = _input[_inputPtr++];
+                _decodeFullLevel1((mask2 >> 4) & 0xF);
+                _decodeFullLevel1(mask2 & 0xF);
+            }
+        }
+    }
+
+    /**
+     * Lowest-level decoding method for full blocks: handles 32 bytes, that is, 256 bits,
+     * as 4 groups of 8 bytes; or, as a special case, 32 bytes of literals prefixed
+     * by a zero byte.
+     *
+     * @param mask 4-bit mask that indicates which of 8-byte groups have literals
+     */
+    void _decodeFullLevel1(int mask)
+    {
+        if (mask == 0) {
+            _fill(32);
+            return;
+        }
+        final byte[] input = _input;
+        int inputPtr = _inputPtr;
+        // "non-compressing" special case, signalled by otherwise illegal zero mask byte
+        if ((mask == 0xF) && (input[inputPtr] == 0)) {
+            ++inputPtr;
+            System.arraycopy(input, inputPtr, _output, _outputPtr, 32);
+            inputPtr += 32;
+            _outputPtr += 32;
+            _matchLevel1 = ((input[inputPtr-1] & 0x1) == 0) ? 0 : 0xFF;
+            _inputPtr = inputPtr;
+            return;
+        }
+        final byte[] output = _output;
+        int outputPtr = _outputPtr;
+        int match = _matchLevel1;
+        for (int bit = 0x8; bit != 0; bit >>= 1) {
+            if ((mask & bit) == 0) {
+                final byte b = (byte) match;
+                output[outputPtr++] = b;
+                output[outputPtr++] = b;
+                output[outputPtr++] = b;
+                output[outputPtr++] = b;
+                output[outputPtr++] = b;
+                output[outputPtr++] = b;
+                output[outputPtr++] = b;
+                output[outputPtr++] = b;
+                continue;
+            }
+            int mask8 = input[inputPtr++] & 0xFF;
+            if (mask8 == 0xFF) { // all literals
+                System.arraycopy(input, inputPtr, output, outputPtr, 8);
+                inputPtr += 8;
+                outputPtr += 8;
+                match = ((input[inputPtr-1] & 0x1) == 0) ? 0 : 0xFF;
+                continue;
+            }
+            if (Integer.bitCount(mask8) > 2) { // dense, just branch per byte
+                for (int bit8 = 0x80; bit8 != 0; bit8 >>= 1) {
+                    if ((mask8 & bit8) == 0) {
+                        output[outputPtr++] = (byte) match;
+                    } else {
+                        byte b = input[inputPtr++];
+                        output[outputPtr++] = b;
+                        match = ((b & 0x1) == 0) ? 0 : 0xFF;
+                    }
+                }
+                continue;
+            }
+            // But for sparse groups, rather than branching on each mask bit, fill
+            // the group with match first, then loop over literals only; rest of group
+            // needs to be re-filled only if a literal changes the match
+            byte b = (byte) match;
+            output[outputPtr] = b;
+            output[outputPtr+1] = b;
+            output[outputPtr+2] = b;
+            output[outputPtr+3] = b;
+            output[outputPtr+4] = b;
+            output[outputPtr+5] = b;
+            output[outputPtr+6] = b;
+            output[outputPtr+7] = b;
+            do {
+                final int ix = Integer.numberOfLeadingZeros(mask8) - 24;
+                mask8 &= ~(0x80 >> ix);
+                b = input[inputPtr++];
+                output[outputPtr+ix] = b;
+                if ((b & 0x1) != (match & 0x1)) {
+                    match ^= 0xFF;
+                    for (int i = ix+1; i < 8; ++i) {
+                        output[outputPtr+i] = (byte) match;
+                    }
+                }
+            } while (mask8 != 0);
+            outputPtr += 8;
+        }
+        _inputPtr = inputPtr;
+        _outputPtr = outputPtr;
+        _matchLevel1 = match;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, partial chunk decoding
+    /**********************************************************************
+     */
+
+    /**
+     * Alternate method used when decoding the last level2 block of a partial
+     * chunk, one shorter than 512 bytes.
+     */
+    void _decodePartialLevel2(int chunkSize)
+    {
+        final int mask = _input[_inputPtr++];
+        int marker = 0x80;
+        int left = chunkSize;
+        for (; left >= 64; left -= 64) {
+            if ((mask & marker) == 0) {
+                _fill(64);
+            } else {
+                int mask2 = _input[_inputPtr++];
+                _decodeFullLevel1((mask2 >> 4) & 0xF);
+                _decodeFullLevel1(mask2 & 0xF);
+            }
+            marker >>= 1;
+        }
+        if (left > 0) {
+            if ((mask & marker) == 0) {
+                _fill(left);
+            } else {
+                _decodePartialLevel1(left);
+            }
+        }
+    }
+
+    void _decodePartialLevel1(int chunkSize)
+    {
+        final int mask = _input[_inputPtr++];
+        int bit = 0x80;
+        int left = chunkSize;
+        for (; left >= 8; left -= 8) {
+            if ((mask & bit) == 0) {
+                _fill(8);
+            } else {
+                _decodeGroup(8);
+            }
+            bit >>= 1;
+        }
+        if (left > 0) {
+            if ((mask & bit) == 0) {
+                _fill(left);
+            } else {
+                _decodeGroup(left);
+            }
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal helper methods
+    /**********************************************************************
+     */
+
+    // Helper method for decoding group of up to 8 bytes, prefixed by mask
+    // that indicates literal bytes
+    private void _decodeGroup(int count)
+    {
+        final byte[] input = _input;
+        final byte[] output = _output;
+        int inputPtr = _inputPtr;
+        int outputPtr = _outputPtr;
+        int match = _matchLevel1;
+        final int mask8 = input[inputPtr++];
+
+        for (int bit8 = 0x80; --count >= 0; bit8 >>= 1) {
+            if ((mask8 & bit8) == 0) {
+                output[outputPtr++] = (byte) match;
+            } else {
+                byte b = input[inputPtr++];
+                output[outputPtr++] = b;
+                match = ((b & 0x1) == 0) ? 0 : 0xFF;
+            }
+        }
+        _inputPtr = inputPtr;
+        _outputPtr = outputPtr;
+        _matchLevel1 = match;
+    }
+
+    // Helper method for appending a run of all-zero or all-one bytes, as per current match
+    private void _fill(int count)
+    {
+        final byte[] output = _output;
+        final byte b = (byte) _matchLevel1;
+        int ptr = _outputPtr;
+        final int end = ptr + count;
+        while (ptr < end) {
+            output[ptr++] = b;
+        }
+        _outputPtr = end;
+    }
+}
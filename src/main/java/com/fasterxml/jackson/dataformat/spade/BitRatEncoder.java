@@ -1,6 +1,8 @@
 package com.fasterxml.jackson.dataformat.spade;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 public class BitRatEncoder
 {
@@ -8,10 +10,17 @@ public class BitRatEncoder
 
     public final static int LEVEL2_CHUNK_SIZE = 512;
 
+    /**
+     * Size of output buffer that is guaranteed to be big enough for encoding
+     * a single chunk (full or partial).
+     */
+    public final static int MAX_OUTPUT_BUFFER = FULL_CHUNK_SIZE + (FULL_CHUNK_SIZE >> 3);
+
     private final static byte ZERO_BYTE = 0;
 
     /**
-     * Buffer from which input to encode is read.
+     * Buffer from which input to encode is read, if input given as a byte array;
+     * null if given as {@link ByteBuffer}.
      */
     protected byte[] _input;
 
@@ -25,8 +34,38 @@ public class BitRatEncoder
     // 8-bit value that constitutes continuation of the match
     protected int _matchLevel1 = 0x0; // starts with clear bits
 
+    /**
+     * Buffer through which all input is read (mostly 8 bytes at a time): either
+     * wrapper around {@link #_input} (lazily (re)created if input array changes),
+     * or {@link ByteBuffer} passed by caller (only retained during the call, as it
+     * may be a view with an array offset).
+     */
+    protected ByteBuffer _inputWords;
+
+    /**
+     * Buffer used for output when caller passes direct {@link ByteBuffer} for output;
+     * lazily created.
+     */
+    protected byte[] _outputScratch;
+
     public BitRatEncoder() { }
 
+    /**
+     * Method for resetting state of the encoder, including references to
+     * input and output buffers of the last call, so that the instance may be
+     * pooled and reused without retaining caller's data. Internal scratch
+     * buffers are retained.
+     */
+    public void reset()
+    {
+        _input = null;
+        _output = null;
+        _inputPtr = 0;
+        _outputTail = 0;
+        _matchLevel1 = 0x0;
+        _inputWords = null;
+    }
+
     /*
     /**********************************************************************
     /* Public API, accessors
@@ -62,17 +101,23 @@ public class BitRatEncoder
         _outputTail = outputPtr;
         _matchLevel1 = prevBit ? 0xFF : 0x0;
         _inputPtr = 0;
+        return _encodeFull(outputPtr);
+    }
+
+    protected int _encodeFull(int outputPtr)
+    {
+        int resultMask = 0;
 
         // Let's do this unrolled:
-        int resultMask = _encodeFullLevel2(outputPtr+1);
-        if (resultMask != 0) { // had output, so prepend mask
-            _output[outputPtr] = (byte) resultMask;
-            resultMask |= 0x80;
+        int mask = _encodeFullLevel2(outputPtr+1);
+        if (mask != 0) { // had output, so prepend mask
+            _output[outputPtr] = (byte) mask;
+            resultMask = 0x80;
             outputPtr = _outputTail;
         }
 
         // and then 7 more times
-        int mask = _encodeFullLevel2(outputPtr+1);
+        mask = _encodeFullLevel2(outputPtr+1);
         if (mask != 0) {
             _output[outputPtr] = (byte) mask;
             resultMask |= 0x40;
@@ -131,12 +176,21 @@ public class BitRatEncoder
                     "Invalid chunk size %d for partial output: should be less than %d",
                     inputLen, FULL_CHUNK_SIZE));
         }
+        return _encodePartial(prevBit, input, 0, inputLen, output, outputPtr);
+    }
+
+    protected int _encodePartial(boolean prevBit, byte[] input, int inputPtr, int inputLen,
+            byte[] output, int outputPtr)
+    {
         _input = input;
-        _inputPtr = 0;
+        _inputPtr = inputPtr;
         _output = output;
         _outputTail = outputPtr;
         _matchLevel1 = prevBit ? 0xFF : 0x0;
-        
+
+        if (inputLen == FULL_CHUNK_SIZE) {
+            return _encodeFull(outputPtr);
+        }
         int resultMask = 0;
         int marker = 0x80;
 
@@ -163,6 +217,77 @@ public class BitRatEncoder
         return resultMask;
     }
 
+    /**
+     * Alternative to {@link #encodeFullChunk(boolean, byte[], byte[], int)} that reads input
+     * from given buffer (heap, direct or memory-mapped; or view of a <code>MemorySegment</code>
+     * via <code>asByteBuffer()</code>) without copying it. Input is read from current
+     * position, which is then advanced by {@link #FULL_CHUNK_SIZE}; encoded content is
+     * written at current position of output buffer, and position is advanced accordingly.
+     *
+     * @return Byte mask indicating which of 512 chunks (of 4k input) have literal bytes
+     */
+    public int encodeFullChunk(boolean prevBit, ByteBuffer input, ByteBuffer output)
+    {
+        return encodePartialChunk(prevBit, input, FULL_CHUNK_SIZE, output);
+    }
+
+    /**
+     * Alternative to {@link #encodePartialChunk(boolean, byte[], int, byte[], int)} that
+     * reads input from given buffer without copying it.
+     * Input is read from current position, which is then advanced by <code>inputLen</code>;
+     * encoded content is written at current position of output buffer, and position is
+     * advanced accordingly.
+     *
+     * @return Byte mask indicating which of 512 chunks (of 4k input) have literal bytes
+     */
+    public int encodePartialChunk(boolean prevBit, ByteBuffer input, int inputLen, ByteBuffer output)
+    {
+        if (inputLen > FULL_CHUNK_SIZE) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid chunk size %d for partial output: should be at most %d",
+                    inputLen, FULL_CHUNK_SIZE));
+        }
+        if (inputLen > input.remaining()) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid chunk size %d: only %d bytes remaining in input buffer",
+                    inputLen, input.remaining()));
+        }
+        // need big-endian access for byte-by-byte extraction from 8-byte reads
+        ByteBuffer words = (input.order() == ByteOrder.BIG_ENDIAN) ? input
+                : input.duplicate().order(ByteOrder.BIG_ENDIAN);
+        final int inputStart = input.position();
+        final byte[] outBuf;
+        final int outStart;
+        final boolean useScratch = !output.hasArray() || (output.remaining() < MAX_OUTPUT_BUFFER);
+        if (useScratch) { // encode in scratch buffer, then copy (just encoded bytes)
+            if (_outputScratch == null) {
+                _outputScratch = new byte[MAX_OUTPUT_BUFFER];
+            }
+            outBuf = _outputScratch;
+            outStart = 0;
+        } else {
+            outBuf = output.array();
+            outStart = output.arrayOffset() + output.position();
+        }
+        _inputWords = words;
+        final int mask;
+        try {
+            mask = _encodePartial(prevBit, null, inputStart, inputLen, outBuf, outStart);
+        } finally {
+            // must not be used as wrapper of backing array by calls with byte array
+            // input, nor retain caller's buffer if encoding fails
+            _inputWords = null;
+        }
+        final int outputLen = _outputTail - outStart;
+        if (useScratch) {
+            output.put(outBuf, 0, outputLen);
+        } else {
+            output.position(output.position() + outputLen);
+        }
+        input.position(inputStart + inputLen);
+        return mask;
+    }
+
     /*
     /**********************************************************************
     /* Internal methods, full chunk encoding
@@ -179,6 +304,11 @@ public class BitRatEncoder
      */
     int _encodeFullLevel2(int outputPtr)
     {
+        // Quick check first: sparse content often has full 512 byte runs
+        if (_isFullRun(_inputPtr, LEVEL2_CHUNK_SIZE)) {
+            _inputPtr += LEVEL2_CHUNK_SIZE;
+            return 0;
+        }
         int resultMask = 0;
 
         // Need 8 loops of 8 bytes each, with each level1-call getting a nibble
@@ -222,71 +352,77 @@ public class BitRatEncoder
      */
     int _encodeFullLevel1(int outputPtr)
     {
+        final ByteBuffer words = _inputWords();
+        final byte[] output = _output;
         int match = _matchLevel1;
         int resultBits = 0;
         int origOutputPtr = outputPtr; // to check whether compression achieved
         int inputPtr = _inputPtr;
-        
+
         // Need 4 loops of 8 bytes each as prefixes are interleaved
         int rounds = 4;
         while (true) {
-            final int baseOut = outputPtr;
-            int mask = 0; // lowest-level mask for group of 8 bytes
-
-            byte b = _input[inputPtr++];
-            // Basic component, repeated 8 times: see if run continues; if not, output byte, add bit
-            if ((b & 0xFF) != match) {
-                _output[++outputPtr] = b; // important: advance first, to leave room for prefix
-                match = ((b & 0x1) == 0) ? 0 : 0xFF;
-                mask |= 0x80;
-            }
-            // and then repeat 7 more times
-            b = _input[inputPtr++];
-            if ((b & 0xFF) != match) {
-                _output[++outputPtr] = b;
-                match = ((b & 0x1) == 0) ? 0 : 0xFF;
-                mask |= 0x40;
-            }
-            b = _input[inputPtr++];
-            if ((b & 0xFF) != match) {
-                _output[++outputPtr] = b;
-                match = ((b & 0x1) == 0) ? 0 : 0xFF;
-                mask |= 0x20;
-            }
-            b = _input[inputPtr++];
-            if ((b & 0xFF) != match) {
-                _output[++outputPtr] = b;
-                match = ((b & 0x1) == 0) ? 0 : 0xFF;
-                mask |= 0x10;
-            }
-            b = _input[inputPtr++];
-            if ((b & 0xFF) != match) {
-                _output[++outputPtr] = b;
-                match = ((b & 0x1) == 0) ? 0 : 0xFF;
-                mask |= 0x08;
-            }
-            b = _input[inputPtr++];
-            if ((b & 0xFF) != match) {
-                _output[++outputPtr] = b;
-                match = ((b & 0x1) == 0) ? 0 : 0xFF;
-                mask |= 0x04;
-            }
-            b = _input[inputPtr++];
-            if ((b & 0xFF) != match) {
-                _output[++outputPtr] = b;
-                match = ((b & 0x1) == 0) ? 0 : 0xFF;
-                mask |= 0x02;
-            }
-            b = _input[inputPtr++];
-            if ((b & 0xFF) != match) {
-                _output[++outputPtr] = b;
-                match = ((b & 0x1) == 0) ? 0 : 0xFF;
-                mask |= 0x01;
-            }
+            // Input read 8 bytes at a time: and if the whole group continues
+            // the run, no need to check byte by byte
+            final long w = words.getLong(inputPtr);
+            inputPtr += 8;
+            if (w != ((match == 0) ? 0L : -1L)) {
+                final int baseOut = outputPtr;
+                int mask = 0; // lowest-level mask for group of 8 bytes
+
+                int b = (int) (w >>> 56);
+                // Basic component, repeated 8 times: see if run continues; if not, output byte, add bit
+                if ((b & 0xFF) != match) {
+                    output[++outputPtr] = (byte) b; // important: advance first, to leave room for prefix
+                    match = ((b & 0x1) == 0) ? 0 : 0xFF;
+                    mask |= 0x80;
+                }
+                // and then repeat 7 more times
+                b = (int) (w >>> 48);
+                if ((b & 0xFF) != match) {
+                    output[++outputPtr] = (byte) b;
+                    match = ((b & 0x1) == 0) ? 0 : 0xFF;
+                    mask |= 0x40;
+                }
+                b = (int) (w >>> 40);
+                if ((b & 0xFF) != match) {
+                    output[++outputPtr] = (byte) b;
+                    match = ((b & 0x1) == 0) ? 0 : 0xFF;
+                    mask |= 0x20;
+                }
+                b = (int) (w >>> 32);
+                if ((b & 0xFF) != match) {
+                    output[++outputPtr] = (byte) b;
+                    match = ((b & 0x1) == 0) ? 0 : 0xFF;
+                    mask |= 0x10;
+                }
+                b = (int) (w >>> 24);
+                if ((b & 0xFF) != match) {
+                    output[++outputPtr] = (byte) b;
+                    match = ((b & 0x1) == 0) ? 0 : 0xFF;
+                    mask |= 0x08;
+                }
+                b = (int) (w >>> 16);
+                if ((b & 0xFF) != match) {
+                    output[++outputPtr] = (byte) b;
+                    match = ((b & 0x1) == 0) ? 0 : 0xFF;
+                    mask |= 0x04;
+                }
+                b = (int) (w >>> 8);
+                if ((b & 0xFF) != match) {
+                    output[++outputPtr] = (byte) b;
+                    match = ((b & 0x1) == 0) ? 0 : 0xFF;
+                    mask |= 0x02;
+                }
+                b = (int) w;
+                if ((b & 0xFF) != match) {
+                    output[++outputPtr] = (byte) b;
+                    match = ((b & 0x1) == 0) ? 0 : 0xFF;
+                    mask |= 0x01;
+                }
 
-            // and then assess the situation: did we output anything?
-            if (mask != 0) { // yup: add prefix mask
-                _output[baseOut] = (byte) mask;
+                // must have output something, as at least one byte broke the run: add prefix mask
+                output[baseOut] = (byte) mask;
                 ++outputPtr; // since it pointed to the last added byte
                 resultBits |= 1;
             }
@@ -309,7 +445,7 @@ public class BitRatEncoder
 
             if (amount > 32) { // (c), need to re-do
                 _output[origOutputPtr++] = ZERO_BYTE;
-                System.arraycopy(_input, _inputPtr, _output, origOutputPtr, 32);
+                _copyInput(_inputPtr, origOutputPtr, 32);
                 outputPtr = origOutputPtr+32;
                 // also ensure we declare everything to be non-compressed
                 resultBits = 0xF;
@@ -368,7 +504,7 @@ public class BitRatEncoder
         if (left > 0) {
             int mask = _encodePartialLevel1(outputPtr+1, left);
             if (mask != 0) {
-                _output[outputPtr] = (byte) resultMask;
+                _output[outputPtr] = (byte) mask;
                 resultMask |= marker;
                 outputPtr = _outputTail;
             }
@@ -389,6 +525,7 @@ public class BitRatEncoder
         // First, full 8-byte chunks. Note that here we do NOT worry about
         // sub-optimal last chunk
 
+        final ByteBuffer words = _inputWords();
         int match = _matchLevel1;
         int inputPtr = _inputPtr;
         
@@ -398,7 +535,7 @@ public class BitRatEncoder
 
             int mask8 = 0;
             for (int bit8 = 0x80; bit8 != 0; bit8 >>= 1) {
-                byte b = _input[inputPtr++];
+                byte b = words.get(inputPtr++);
                 // Basic component, repeated 8 times: see if run continues; if not, output byte, add bit
                 if ((b & 0xFF) != match) {
                     _output[++outputPtr] = b; // important: advance first, to leave room for prefix
@@ -422,13 +559,14 @@ public class BitRatEncoder
             final int baseOut = outputPtr;
 
             while (--left >= 0) {
-                byte b = _input[inputPtr++];
+                byte b = words.get(inputPtr++);
                 // Basic component, repeated 8 times: see if run continues; if not, output byte, add bit
                 if ((b & 0xFF) != match) {
                     _output[++outputPtr] = b; // important: advance first, to leave room for prefix
                     match = ((b & 0x1) == 0) ? 0 : 0xFF;
                     mask8 |= bit8;
                 }
+                bit8 >>= 1;
             }
             if (mask8 != 0) { // yes, need to output prefix
                 _output[baseOut] = (byte) mask8;
@@ -451,7 +589,49 @@ public class BitRatEncoder
     /* Internal helper methods
     /**********************************************************************
      */
-    
+
+    /**
+     * Helper method for checking whether given input range (length of which
+     * must be a multiple of 8) consists of bytes that all continue the current
+     * run; done 8 bytes at a time, without per-byte branching.
+     */
+    final boolean _isFullRun(int inputPtr, int length)
+    {
+        final ByteBuffer words = _inputWords();
+        // byte order does not matter since all bytes are compared to the same value
+        final long match = (_matchLevel1 == 0) ? 0L : -1L;
+        for (final int end = inputPtr + length; inputPtr < end; inputPtr += 8) {
+            if (words.getLong(inputPtr) != match) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final ByteBuffer _inputWords()
+    {
+        ByteBuffer words = _inputWords;
+        final byte[] input = _input;
+        if ((input != null)
+                && ((words == null) || !words.hasArray() || (words.array() != input))) {
+            _inputWords = words = ByteBuffer.wrap(input);
+        }
+        return words;
+    }
+
+    private final void _copyInput(int inputPtr, int outputPtr, int length)
+    {
+        if (_input != null) {
+            System.arraycopy(_input, inputPtr, _output, outputPtr, length);
+        } else {
+            final ByteBuffer words = _inputWords;
+            final byte[] output = _output;
+            for (int end = inputPtr + length; inputPtr < end; ) {
+                output[outputPtr++] = words.get(inputPtr++);
+            }
+        }
+    }
+
     // Helper method for changing extra unused bits to be the same
     // as the last actual content bit; this to make sure last run
     // is not accidentally broken by garbage
@@ -0,0 +1,798 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Buffer for contents of a single column of the block being read by
+ * {@link SpadeParser}: counterpart of {@link ColumnWriter}. Presence bitset
+ * is decoded fully when column is loaded; values are decoded lazily by
+ * the parser, one token at a time. Instances are reused across blocks.
+ *<p>
+ * Alternatively numeric columns may be decoded in bulk into primitive arrays
+ * indexed by row (see {@link #readIntegers(long[], int, long)} and
+ * {@link #readDoubles(double[], int, double)}), processing runs of rows with and
+ * without values at a time, instead of checking presence of each row separately.
+ *<p>
+ * For integer- and double-encoded columns, null values are indicated by a separate
+ * bitset over values, decoded fully when column is loaded: callers need to check
+ * for nulls using {@link #readNullValue} before reading each value.
+ *<p>
+ * For dictionary-encoded columns, distinct String values are decoded once
+ * per block, and the same String instances are returned for all rows
+ * (as well as across blocks, for values seen recently).
+ */
+public class ColumnReader
+{
+    // Maximum number of canonical String instances retained across blocks
+    private final static int MAX_CANONICAL_STRINGS = 4 * ColumnWriter.DEFAULT_MAX_DICTIONARY_SIZE;
+
+    protected final String _name;
+
+    // Raw contents of the column for current block
+    protected byte[] _buffer = new byte[64];
+
+    // Offset of the next value token within buffer
+    protected int _ptr;
+
+    // End offset of column content within buffer
+    protected int _end;
+
+    // Decoded presence bitset, MSB-first
+    protected byte[] _presence = new byte[64];
+
+    protected int _valueCount;
+
+    protected int _encoding;
+
+    // Number of rows in current block
+    protected int _rowCount;
+
+    // Offset of the first value within buffer
+    protected int _valuesStart;
+
+    /*
+    /**********************************************************************
+    /* Null state of integer and double encodings
+    /**********************************************************************
+     */
+
+    // Decoded null bitset over values, MSB-first; only valid if there are nulls
+    protected byte[] _nulls = new byte[16];
+
+    protected int _nullCount;
+
+    // Index of the next value
+    protected int _valueIndex;
+
+    /*
+    /**********************************************************************
+    /* Dictionary encoding state
+    /**********************************************************************
+     */
+
+    // Distinct values of dictionary-encoded column, indexed by id; null at index 0
+    protected String[] _dictionary = new String[16];
+
+    protected int _dictionarySize;
+
+    protected int _idBitWidth;
+
+    // Index of the next dictionary-encoded value
+    protected int _idIndex;
+
+    // Offset of bit-packed ids within buffer
+    protected int _idStart;
+
+    // Canonical String instances of dictionary values, retained across blocks
+    protected final Map<String,String> _canonicalStrings = new HashMap<>();
+
+    /*
+    /**********************************************************************
+    /* Integer encoding state
+    /**********************************************************************
+     */
+
+    protected PackedIntegerCodec _integerCodec;
+
+    // Decoded values of the current packed block
+    protected long[] _integers;
+
+    protected int _integerPtr;
+
+    protected int _integerEnd;
+
+    // Number of values not yet decoded
+    protected int _integersLeft;
+
+    /*
+    /**********************************************************************
+    /* Double encoding state
+    /**********************************************************************
+     */
+
+    protected XorDoubleDecoder _doubleDecoder;
+
+    // Number of XOR-encoded values not yet decoded
+    protected int _doublesLeft;
+
+    public ColumnReader(String name)
+    {
+        _name = name;
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors
+    /**********************************************************************
+     */
+
+    public String getName() { return _name; }
+
+    public int getValueCount() { return _valueCount; }
+
+    public boolean isPresent(int row) {
+        return (_presence[row >> 3] & (0x80 >> (row & 7))) != 0;
+    }
+
+    public boolean hasMoreValues() {
+        if (_encoding == SpadeConstants.COLUMN_ENCODING_DICTIONARY) {
+            return _idIndex < _valueCount;
+        }
+        if (_encoding == SpadeConstants.COLUMN_ENCODING_INTEGERS
+                || _encoding == SpadeConstants.COLUMN_ENCODING_DOUBLES) {
+            return _valueIndex < _valueCount;
+        }
+        return _ptr < _end;
+    }
+
+    public boolean isDictionaryEncoded() {
+        return _encoding == SpadeConstants.COLUMN_ENCODING_DICTIONARY;
+    }
+
+    public boolean isIntegerEncoded() {
+        return _encoding == SpadeConstants.COLUMN_ENCODING_INTEGERS;
+    }
+
+    public boolean isDoubleEncoded() {
+        return _encoding == SpadeConstants.COLUMN_ENCODING_DOUBLES;
+    }
+
+    /*
+    /**********************************************************************
+    /* Loading
+    /**********************************************************************
+     */
+
+    /**
+     * Method for accessing buffer into which caller is to read raw column contents
+     * of the next block, before calling {@link #load}.
+     */
+    public byte[] getBuffer(int contentLength)
+    {
+        if (_buffer.length < contentLength) {
+            _buffer = new byte[Math.max(contentLength, _buffer.length + (_buffer.length >> 1))];
+        }
+        return _buffer;
+    }
+
+    /**
+     * Method called after contents of the column for the next block have been read
+     * in buffer (see {@link #getBuffer}) to decode presence bitset and prepare
+     * for reading of values.
+     */
+    public void load(int contentLength, int rowCount) throws IOException
+    {
+        _ptr = 0;
+        _end = contentLength;
+        final int encoding = readByte();
+        if (encoding != SpadeConstants.COLUMN_ENCODING_TOKENS
+                && encoding != SpadeConstants.COLUMN_ENCODING_DICTIONARY
+                && encoding != SpadeConstants.COLUMN_ENCODING_INTEGERS
+                && encoding != SpadeConstants.COLUMN_ENCODING_DOUBLES) {
+            throw new IOException(String.format("Invalid column encoding 0x%02X for column '%s'",
+                    encoding, _name));
+        }
+        _encoding = encoding;
+        _valueCount = readVInt();
+        final int presenceBytes = (rowCount + 7) >> 3;
+        if (_presence.length < presenceBytes) {
+            _presence = new byte[presenceBytes];
+        }
+        if (!_readBitset(_presence, rowCount)) {
+            throw new IOException(String.format(
+                    "Invalid presence bitset for column '%s': does not match row count %d",
+                    _name, rowCount));
+        }
+        _rowCount = rowCount;
+        _valueIndex = 0;
+        _idIndex = 0;
+        _nullCount = 0;
+        if ((encoding == SpadeConstants.COLUMN_ENCODING_INTEGERS)
+                || (encoding == SpadeConstants.COLUMN_ENCODING_DOUBLES)) {
+            _loadNulls();
+        }
+        if (encoding == SpadeConstants.COLUMN_ENCODING_DICTIONARY) {
+            _loadDictionary();
+        } else if (encoding == SpadeConstants.COLUMN_ENCODING_INTEGERS) {
+            if (_integerCodec == null) {
+                _integerCodec = new PackedIntegerCodec();
+                _integers = new long[PackedIntegerCodec.BLOCK_SIZE];
+            }
+            _integerPtr = _integerEnd = 0;
+            _integersLeft = _valueCount - _nullCount;
+        } else if (encoding == SpadeConstants.COLUMN_ENCODING_DOUBLES) {
+            if (_doubleDecoder == null) {
+                _doubleDecoder = new XorDoubleDecoder();
+            }
+            _doubleDecoder.init(_buffer, _ptr, _end);
+            _doublesLeft = _valueCount - _nullCount;
+        }
+        _valuesStart = _ptr;
+    }
+
+    /**
+     * Helper method for decoding bitset of given number of bits, written by
+     * {@link PresenceBitsetOutputStream}, starting at current offset.
+     *
+     * @return True if bitset had expected number of bits; false if not
+     */
+    protected boolean _readBitset(byte[] dst, int bitCount) throws IOException
+    {
+        final int byteCount = (bitCount + 7) >> 3;
+        ByteArrayInputStream in = new ByteArrayInputStream(_buffer, _ptr, _end - _ptr);
+        PresenceBitsetInputStream bits = new PresenceBitsetInputStream(in);
+        int count = 0;
+        while (count < byteCount) {
+            int n = bits.read(dst, count, byteCount - count);
+            if (n < 0) {
+                break;
+            }
+            count += n;
+        }
+        if ((count != byteCount) || (bits.read() >= 0)) {
+            return false;
+        }
+        _ptr = _end - in.available();
+        return true;
+    }
+
+    protected void _loadNulls() throws IOException
+    {
+        final int nullCount = readVInt();
+        if (nullCount == 0) {
+            return;
+        }
+        final int nullBytes = (_valueCount + 7) >> 3;
+        if (_nulls.length < nullBytes) {
+            _nulls = new byte[nullBytes];
+        }
+        boolean valid = (nullCount <= _valueCount) && _readBitset(_nulls, _valueCount);
+        if (valid) {
+            int count = 0;
+            for (int i = 0; i < nullBytes; ++i) {
+                count += Integer.bitCount(_nulls[i] & 0xFF);
+            }
+            valid = (count == nullCount);
+        }
+        if (!valid) {
+            throw new IOException(String.format(
+                    "Invalid null bitset for column '%s': does not match null count %d of %d values",
+                    _name, nullCount, _valueCount));
+        }
+        _nullCount = nullCount;
+    }
+
+    protected void _loadDictionary() throws IOException
+    {
+        final int size = readVInt();
+        if (size < 0 || size >= (1 << SpadeConstants.MAX_DICTIONARY_ID_BITS)) {
+            throw new IOException(String.format("Invalid dictionary size %d for column '%s'",
+                    size, _name));
+        }
+        if (_dictionary.length <= size) {
+            _dictionary = new String[size+1];
+        }
+        if (_canonicalStrings.size() + size > MAX_CANONICAL_STRINGS) {
+            _canonicalStrings.clear();
+        }
+        for (int i = 1; i <= size; ++i) {
+            String str = readLengthPrefixedString();
+            String canonical = _canonicalStrings.get(str);
+            if (canonical == null) {
+                _canonicalStrings.put(str, str);
+                canonical = str;
+            }
+            _dictionary[i] = canonical;
+        }
+        final int width = readByte();
+        if (width != (32 - Integer.numberOfLeadingZeros(size))) {
+            throw new IOException(String.format(
+                    "Invalid dictionary id bit width %d for column '%s' (dictionary size %d)",
+                    width, _name, size));
+        }
+        _dictionarySize = size;
+        _idBitWidth = width;
+        _idStart = _ptr;
+        _idIndex = 0;
+        _verifyAvailable((int) (((long) _valueCount * width + 7) >> 3));
+    }
+
+    /*
+    /**********************************************************************
+    /* Value decoding
+    /**********************************************************************
+     */
+
+    public int readByte() throws IOException {
+        if (_ptr >= _end) {
+            _reportEOF();
+        }
+        return _buffer[_ptr++] & 0xFF;
+    }
+
+    public int readVInt() throws IOException
+    {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    public long readVLong() throws IOException
+    {
+        long value = 0L;
+        for (int shift = 0; ; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    public int readZigzagVInt() throws IOException {
+        int v = readVInt();
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    public long readZigzagVLong() throws IOException {
+        long v = readVLong();
+        return (v >>> 1) ^ -(v & 1L);
+    }
+
+    public int readInt32() throws IOException
+    {
+        _verifyAvailable(4);
+        final byte[] b = _buffer;
+        int ptr = _ptr;
+        _ptr = ptr + 4;
+        return (b[ptr] << 24) | ((b[ptr+1] & 0xFF) << 16)
+                | ((b[ptr+2] & 0xFF) << 8) | (b[ptr+3] & 0xFF);
+    }
+
+    public long readInt64() throws IOException
+    {
+        long hi = readInt32();
+        return (hi << 32) | (readInt32() & 0xFFFFFFFFL);
+    }
+
+    public byte[] readLengthPrefixed() throws IOException
+    {
+        final int len = readVInt();
+        _verifyAvailable(len);
+        byte[] result = new byte[len];
+        System.arraycopy(_buffer, _ptr, result, 0, len);
+        _ptr += len;
+        return result;
+    }
+
+    public String readLengthPrefixedString() throws IOException
+    {
+        final int len = readVInt();
+        _verifyAvailable(len);
+        String str = new String(_buffer, _ptr, len, StandardCharsets.UTF_8);
+        _ptr += len;
+        return str;
+    }
+
+    /**
+     * Method for reading the next value of dictionary-encoded column.
+     *
+     * @return Next value; null for null value
+     */
+    public String readDictionaryValue() throws IOException
+    {
+        if (_idIndex >= _valueCount) {
+            _reportEOF();
+        }
+        final int width = _idBitWidth;
+        if (width == 0) {
+            ++_idIndex;
+            return null;
+        }
+        final long bitPos = (long) _idIndex++ * width;
+        int ptr = _idStart + (int) (bitPos >> 3);
+        final int bits = (int) (bitPos & 7) + width;
+        final int byteCount = (bits + 7) >> 3;
+        int acc = 0;
+        for (int i = 0; i < byteCount; ++i) {
+            acc = (acc << 8) | (_buffer[ptr++] & 0xFF);
+        }
+        final int id = (acc >>> ((byteCount << 3) - bits)) & ((1 << width) - 1);
+        if (id > _dictionarySize) {
+            throw new IOException(String.format("Invalid dictionary id %d for column '%s'",
+                    id, _name));
+        }
+        return _dictionary[id];
+    }
+
+    /**
+     * Method for checking whether the next value of integer- or double-encoded
+     * column is null, and if so, skipping it.
+     *
+     * @return True if the next value was null (and was skipped); false if not
+     */
+    public boolean readNullValue() throws IOException
+    {
+        final int index = _valueIndex;
+        if (index >= _valueCount) {
+            _reportEOF();
+        }
+        if (_isNull(index)) {
+            _valueIndex = index + 1;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Method for reading the next value of integer-encoded column, if it is not
+     * null (see {@link #readNullValue}).
+     */
+    public long readIntegerValue() throws IOException
+    {
+        _verifyNotNull();
+        if (_integerPtr == _integerEnd) {
+            _decodeIntegerBlock();
+        }
+        ++_valueIndex;
+        return _integers[_integerPtr++];
+    }
+
+    protected void _decodeIntegerBlock() throws IOException
+    {
+        if (_integersLeft == 0) {
+            _reportEOF();
+        }
+        final int count = Math.min(_integersLeft, PackedIntegerCodec.BLOCK_SIZE);
+        _ptr = _integerCodec.decodeBlock(_buffer, _ptr, _end, _integers, 0, count);
+        _integersLeft -= count;
+        _integerPtr = 0;
+        _integerEnd = count;
+    }
+
+    /**
+     * Method for reading the next value of XOR-encoded <code>double</code> column,
+     * if it is not null (see {@link #readNullValue}).
+     */
+    public double readDoubleValue() throws IOException
+    {
+        _verifyNotNull();
+        if (_doublesLeft == 0) {
+            _reportEOF();
+        }
+        --_doublesLeft;
+        ++_valueIndex;
+        final double d = _doubleDecoder.read();
+        _ptr = _doubleDecoder.getOffset();
+        return d;
+    }
+
+    protected final boolean _isNull(int index) {
+        return (_nullCount > 0) && ((_nulls[index >> 3] & (0x80 >> (index & 7))) != 0);
+    }
+
+    protected void _verifyNotNull()
+    {
+        if (_isNull(_valueIndex)) {
+            throw new IllegalStateException(String.format(
+                    "Can not read value #%d of column '%s': value is null",
+                    _valueIndex, _name));
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Bulk access
+    /**********************************************************************
+     */
+
+    /**
+     * Method for decoding all values of integer-valued column of the current block
+     * into given array, indexed by row: values of rows that have one are stored at
+     * <code>offset + row</code>, and <code>absentValue</code> at indexes of rows that
+     * have no value (or have null value). Must be called before any values are read.
+     * Column must either be integer-encoded, token-encoded with only integral
+     * and null values, or dictionary-encoded with only null values.
+     *
+     * @param dst Array to decode values into; must have room for all rows of the block
+     * @param offset Index of the first row of the block in <code>dst</code>
+     * @param absentValue Value to use for rows without value
+     */
+    public void readIntegers(long[] dst, int offset, long absentValue) throws IOException
+    {
+        _verifyBulkRead(SpadeConstants.COLUMN_ENCODING_INTEGERS, dst.length, offset);
+        final int rows = _rowCount;
+        if (isDictionaryEncoded()) {
+            Arrays.fill(dst, offset, offset + rows, absentValue);
+            _idIndex = _valueCount;
+            return;
+        }
+        final boolean packed = (_encoding == SpadeConstants.COLUMN_ENCODING_INTEGERS);
+        int row = 0;
+        while (row < rows) {
+            final int bits = _presence[row >> 3];
+            if (((row & 7) == 0) && ((bits == 0) || (bits == -1))) {
+                // full byte without (or with) values: process the whole run at once
+                final int end = _runEnd(row, rows, bits != 0);
+                if (bits == 0) {
+                    Arrays.fill(dst, offset + row, offset + end, absentValue);
+                } else if (packed && (_nullCount == 0)) {
+                    _copyIntegers(dst, offset + row, end - row);
+                } else if (packed) {
+                    for (int i = row; i < end; ++i) {
+                        dst[offset + i] = _readInteger(absentValue);
+                    }
+                } else {
+                    for (int i = row; i < end; ++i) {
+                        dst[offset + i] = _readLongToken(absentValue);
+                    }
+                }
+                row = end;
+            } else {
+                // otherwise check rows one at a time, up to the byte boundary
+                for (final int end = Math.min((row | 7) + 1, rows); row < end; ++row) {
+                    if (((bits << (row & 7)) & 0x80) == 0) {
+                        dst[offset + row] = absentValue;
+                    } else {
+                        dst[offset + row] = packed ? _readInteger(absentValue) : _readLongToken(absentValue);
+                    }
+                }
+            }
+        }
+        _verifyBulkReadComplete();
+    }
+
+    /**
+     * Alternative to {@link #readIntegers(long[], int, long)} for columns
+     * with only values within range of Java <code>int</code>.
+     */
+    public void readIntegers(int[] dst, int offset, int absentValue) throws IOException
+    {
+        _verifyBulkRead(SpadeConstants.COLUMN_ENCODING_INTEGERS, dst.length, offset);
+        final int rows = _rowCount;
+        if (isDictionaryEncoded()) {
+            Arrays.fill(dst, offset, offset + rows, absentValue);
+            _idIndex = _valueCount;
+            return;
+        }
+        int row = 0;
+        while (row < rows) {
+            final int bits = _presence[row >> 3];
+            if (((row & 7) == 0) && ((bits == 0) || (bits == -1))) {
+                final int end = _runEnd(row, rows, bits != 0);
+                if (bits == 0) {
+                    Arrays.fill(dst, offset + row, offset + end, absentValue);
+                } else {
+                    for (int i = row; i < end; ++i) {
+                        dst[offset + i] = _readIntValue(absentValue);
+                    }
+                }
+                row = end;
+            } else {
+                for (final int end = Math.min((row | 7) + 1, rows); row < end; ++row) {
+                    dst[offset + row] = (((bits << (row & 7)) & 0x80) == 0)
+                            ? absentValue : _readIntValue(absentValue);
+                }
+            }
+        }
+        _verifyBulkReadComplete();
+    }
+
+    /**
+     * Method for decoding all values of <code>double</code>-valued column of the current
+     * block into given array, indexed by row, similar to
+     * {@link #readIntegers(long[], int, long)}. Column must either be XOR-encoded,
+     * token-encoded with only numeric and null values, or dictionary-encoded with
+     * only null values.
+     */
+    public void readDoubles(double[] dst, int offset, double absentValue) throws IOException
+    {
+        _verifyBulkRead(SpadeConstants.COLUMN_ENCODING_DOUBLES, dst.length, offset);
+        final int rows = _rowCount;
+        if (isDictionaryEncoded()) {
+            Arrays.fill(dst, offset, offset + rows, absentValue);
+            _idIndex = _valueCount;
+            return;
+        }
+        final boolean xor = (_encoding == SpadeConstants.COLUMN_ENCODING_DOUBLES);
+        int row = 0;
+        while (row < rows) {
+            final int bits = _presence[row >> 3];
+            if (((row & 7) == 0) && ((bits == 0) || (bits == -1))) {
+                final int end = _runEnd(row, rows, bits != 0);
+                if (bits == 0) {
+                    Arrays.fill(dst, offset + row, offset + end, absentValue);
+                } else {
+                    for (int i = row; i < end; ++i) {
+                        dst[offset + i] = xor ? _readDouble(absentValue) : _readDoubleToken(absentValue);
+                    }
+                }
+                row = end;
+            } else {
+                for (final int end = Math.min((row | 7) + 1, rows); row < end; ++row) {
+                    if (((bits << (row & 7)) & 0x80) == 0) {
+                        dst[offset + row] = absentValue;
+                    } else {
+                        dst[offset + row] = xor ? _readDouble(absentValue) : _readDoubleToken(absentValue);
+                    }
+                }
+            }
+        }
+        _verifyBulkReadComplete();
+    }
+
+    protected void _verifyBulkRead(int encoding, int length, int offset)
+    {
+        // dictionary-encoded columns are only compatible if they only have nulls
+        if ((_encoding != encoding) && (_encoding != SpadeConstants.COLUMN_ENCODING_TOKENS)
+                && !(isDictionaryEncoded() && (_idBitWidth == 0))) {
+            throw new IllegalStateException(String.format(
+                    "Can not bulk read column '%s': incompatible column encoding 0x%02X",
+                    _name, _encoding));
+        }
+        if ((_ptr != _valuesStart) || (_valueIndex != 0) || (_idIndex != 0)) {
+            throw new IllegalStateException(String.format(
+                    "Can not bulk read column '%s': values already read", _name));
+        }
+        if (offset < 0 || offset > (length - _rowCount)) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid offset %d for %d rows: array length only %d",
+                    offset, _rowCount, length));
+        }
+    }
+
+    protected void _verifyBulkReadComplete() throws IOException
+    {
+        if (hasMoreValues()) {
+            throw new IOException(String.format(
+                    "Invalid content for column '%s': more values than rows with value (%d)",
+                    _name, _valueCount));
+        }
+    }
+
+    /**
+     * Helper method for finding the end of run of rows with (or without) value,
+     * starting at given row: checks individual bits only up to byte boundary and
+     * within the last byte of the run; full bytes in between are compared as is.
+     *
+     * @return Index of the first row after run (or <code>end</code>)
+     */
+    protected int _runEnd(int row, int end, boolean present)
+    {
+        final byte[] bits = _presence;
+        for (; (row & 7) != 0; ++row) {
+            if ((row == end) || (isPresent(row) != present)) {
+                return row;
+            }
+        }
+        final byte full = present ? (byte) 0xFF : 0;
+        final int fullEnd = end >> 3;
+        int i = row >> 3;
+        while ((i < fullEnd) && (bits[i] == full)) {
+            ++i;
+        }
+        row = i << 3;
+        while ((row < end) && (isPresent(row) == present)) {
+            ++row;
+        }
+        return row;
+    }
+
+    // Copies given number of packed integer values, decoding blocks as needed
+    protected void _copyIntegers(long[] dst, int offset, int count) throws IOException
+    {
+        while (count > 0) {
+            if (_integerPtr == _integerEnd) {
+                _decodeIntegerBlock();
+            }
+            final int n = Math.min(count, _integerEnd - _integerPtr);
+            System.arraycopy(_integers, _integerPtr, dst, offset, n);
+            _integerPtr += n;
+            _valueIndex += n;
+            offset += n;
+            count -= n;
+        }
+    }
+
+    // Reads the next packed value; null values are returned as given default
+    protected long _readInteger(long nullValue) throws IOException {
+        return readNullValue() ? nullValue : readIntegerValue();
+    }
+
+    protected double _readDouble(double nullValue) throws IOException {
+        return readNullValue() ? nullValue : readDoubleValue();
+    }
+
+    protected int _readIntValue(int nullValue) throws IOException
+    {
+        final long l = (_encoding == SpadeConstants.COLUMN_ENCODING_INTEGERS)
+                ? _readInteger(nullValue) : _readLongToken(nullValue);
+        final int i = (int) l;
+        if (i != l) {
+            throw new IOException(String.format(
+                    "Value %d of column '%s' out of range of Java int", l, _name));
+        }
+        return i;
+    }
+
+    // Reads the next token-encoded value as long; null values are returned as given default
+    protected long _readLongToken(long nullValue) throws IOException
+    {
+        final int token = readByte();
+        switch (token) {
+        case SpadeConstants.TOKEN_INT:
+            return readZigzagVInt();
+        case SpadeConstants.TOKEN_LONG:
+            return readZigzagVLong();
+        case SpadeConstants.TOKEN_NULL:
+            return nullValue;
+        default:
+        }
+        throw _unexpectedToken(token, "long");
+    }
+
+    protected double _readDoubleToken(double nullValue) throws IOException
+    {
+        final int token = readByte();
+        switch (token) {
+        case SpadeConstants.TOKEN_DOUBLE:
+            return Double.longBitsToDouble(readInt64());
+        case SpadeConstants.TOKEN_FLOAT:
+            return Float.intBitsToFloat(readInt32());
+        case SpadeConstants.TOKEN_INT:
+            return readZigzagVInt();
+        case SpadeConstants.TOKEN_LONG:
+            return readZigzagVLong();
+        case SpadeConstants.TOKEN_NULL:
+            return nullValue;
+        default:
+        }
+        throw _unexpectedToken(token, "double");
+    }
+
+    protected IOException _unexpectedToken(int token, String type) {
+        return new IOException(String.format(
+                "Can not read value of column '%s' as %s: unexpected token 0x%02X",
+                _name, type, token));
+    }
+
+    protected void _verifyAvailable(int len) throws IOException {
+        if (len < 0 || len > (_end - _ptr)) {
+            _reportEOF();
+        }
+    }
+
+    protected void _reportEOF() throws IOException {
+        throw new IOException(String.format("Unexpected end of content for column '%s'", _name));
+    }
+}
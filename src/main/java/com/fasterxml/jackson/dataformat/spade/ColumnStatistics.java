@@ -0,0 +1,302 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import com.fasterxml.jackson.dataformat.spade.util.HyperLogLog;
+
+/**
+ * Statistics of values of a single column within a row group: number of
+ * rows with value (including nulls), number of null values, estimated number
+ * of distinct non-null values, and lower and upper bounds of values, if all
+ * non-null values are of the same comparable type. Written in block headers
+ * (and footer index, see {@link SpadeFileIndex}, if one is written) if
+ * {@link SpadeGenerator.Feature#COLUMN_STATISTICS} is enabled, and used by
+ * {@link RowGroupFilter} for skipping row groups.
+ *<p>
+ * Bounds are exact for numbers; String bounds are truncated to at most
+ * {@link #MAX_STRING_BOUND_LENGTH} characters (with upper bound adjusted so
+ * that it is still greater than all values), and Strings are compared using
+ * {@link String#compareTo}. Integral (<code>int</code>, <code>long</code>) and
+ * floating-point (<code>float</code>, <code>double</code>) values are tracked
+ * as different types; no bounds are recorded for columns with both, or with
+ * NaN values.
+ *<p>
+ * Instances are immutable.
+ */
+public final class ColumnStatistics
+{
+    /**
+     * Value type of columns without bounds: no non-null values, values of
+     * different types, or values of types for which bounds are not tracked
+     * (Booleans, binary data, big numbers, Objects and Arrays)
+     */
+    public final static int TYPE_NONE = 0;
+
+    /**
+     * Value type of columns with only <code>int</code> and <code>long</code>
+     * (and null) values; bounds are {@link Long}s
+     */
+    public final static int TYPE_INTEGER = 1;
+
+    /**
+     * Value type of columns with only <code>float</code> and <code>double</code>
+     * (and null) values; bounds are {@link Double}s
+     */
+    public final static int TYPE_DOUBLE = 2;
+
+    /**
+     * Value type of columns with only String (and null) values; bounds are
+     * {@link String}s
+     */
+    public final static int TYPE_STRING = 3;
+
+    public final static int MAX_STRING_BOUND_LENGTH = 64;
+
+    protected final int _presentCount;
+
+    protected final int _nullCount;
+
+    protected final long _distinctCount;
+
+    protected final int _valueType;
+
+    protected final Object _min, _max;
+
+    protected ColumnStatistics(int presentCount, int nullCount, long distinctCount,
+            int valueType, Object min, Object max)
+    {
+        _presentCount = presentCount;
+        _nullCount = nullCount;
+        _distinctCount = distinctCount;
+        _valueType = valueType;
+        _min = min;
+        _max = max;
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors
+    /**********************************************************************
+     */
+
+    /**
+     * @return Number of rows that have value for the column (including nulls);
+     *    same as number of set bits in presence bitset
+     */
+    public int getPresentCount() { return _presentCount; }
+
+    public int getNullCount() { return _nullCount; }
+
+    /**
+     * @return Number of rows that have non-null value for the column
+     */
+    public int getNonNullCount() { return _presentCount - _nullCount; }
+
+    /**
+     * @return Estimated number of distinct non-null values; -1 if not known
+     *    (column has Object or Array values)
+     */
+    public long getDistinctCount() { return _distinctCount; }
+
+    /**
+     * @return Type of values, and of bounds; one of <code>TYPE_xxx</code>
+     */
+    public int getValueType() { return _valueType; }
+
+    /**
+     * @return Lower bound of non-null values ({@link Long}, {@link Double} or
+     *    {@link String}, depending on value type); null for {@link #TYPE_NONE}
+     */
+    public Object getMin() { return _min; }
+
+    /**
+     * @return Upper bound of non-null values; null for {@link #TYPE_NONE}
+     */
+    public Object getMax() { return _max; }
+
+    @Override
+    public String toString() {
+        return String.format("[present=%d, nulls=%d, distinct=%d, min=%s, max=%s]",
+                _presentCount, _nullCount, _distinctCount, _min, _max);
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper classes
+    /**********************************************************************
+     */
+
+    /**
+     * Helper class used by {@link ColumnWriter} for collecting statistics of
+     * row values of a column, as they are written. Instances are reused across
+     * row groups.
+     */
+    public final static class Collector
+    {
+        // Value type; -1 until the first non-null value
+        private int _valueType = -1;
+
+        private int _nullCount;
+
+        private long _minLong, _maxLong;
+
+        private double _minDouble, _maxDouble;
+
+        private String _minString, _maxString;
+
+        private final HyperLogLog _distinct = new HyperLogLog();
+
+        // Set if distinct values can not be estimated
+        private boolean _distinctUnknown;
+
+        public void addNull() {
+            ++_nullCount;
+        }
+
+        public void addLong(long v)
+        {
+            _distinct.add(HyperLogLog.hash(v));
+            if (_updateType(TYPE_INTEGER)) {
+                if (v < _minLong) {
+                    _minLong = v;
+                }
+                if (v > _maxLong) {
+                    _maxLong = v;
+                }
+            }
+        }
+
+        public void addDouble(double v)
+        {
+            // all zeroes and NaNs count as the same value
+            _distinct.add(HyperLogLog.hash(Double.doubleToLongBits(v + 0.0)));
+            if (Double.isNaN(v)) { // can not be bounded
+                _valueType = TYPE_NONE;
+            } else if (_updateType(TYPE_DOUBLE)) {
+                if (v < _minDouble) {
+                    _minDouble = v;
+                }
+                if (v > _maxDouble) {
+                    _maxDouble = v;
+                }
+            }
+        }
+
+        public void addString(String v)
+        {
+            long h = 1125899906842597L;
+            for (int i = 0, len = v.length(); i < len; ++i) {
+                h = 31L * h + v.charAt(i);
+            }
+            _distinct.add(HyperLogLog.hash(h));
+            if (_updateType(TYPE_STRING)) {
+                if ((_minString == null) || (v.compareTo(_minString) < 0)) {
+                    _minString = v;
+                }
+                if ((_maxString == null) || (v.compareTo(_maxString) > 0)) {
+                    _maxString = v;
+                }
+            }
+        }
+
+        /**
+         * Method for adding a scalar value of a type without bounds, like
+         * Boolean or binary data.
+         *
+         * @param hashCode Hash code of the value, for estimating distinct values
+         */
+        public void addOther(int hashCode)
+        {
+            _distinct.add(HyperLogLog.hash(hashCode));
+            _valueType = TYPE_NONE;
+        }
+
+        /**
+         * Method for adding an Object or Array value.
+         */
+        public void addStructured()
+        {
+            _distinctUnknown = true;
+            _valueType = TYPE_NONE;
+        }
+
+        /**
+         * @param presentCount Number of rows with value (including nulls)
+         */
+        public ColumnStatistics build(int presentCount)
+        {
+            final int nonNull = presentCount - _nullCount;
+            final long distinct = _distinctUnknown ? -1L : Math.min(_distinct.estimate(), nonNull);
+            switch (_valueType) {
+            case TYPE_INTEGER:
+                return new ColumnStatistics(presentCount, _nullCount, distinct, TYPE_INTEGER,
+                        _minLong, _maxLong);
+            case TYPE_DOUBLE:
+                return new ColumnStatistics(presentCount, _nullCount, distinct, TYPE_DOUBLE,
+                        _minDouble, _maxDouble);
+            case TYPE_STRING:
+                final String max = _upperBound(_maxString);
+                if (max != null) {
+                    return new ColumnStatistics(presentCount, _nullCount, distinct, TYPE_STRING,
+                            _lowerBound(_minString), max);
+                }
+                break;
+            default:
+            }
+            return new ColumnStatistics(presentCount, _nullCount, distinct, TYPE_NONE, null, null);
+        }
+
+        public void reset()
+        {
+            _valueType = -1;
+            _nullCount = 0;
+            _minString = _maxString = null;
+            _distinct.reset();
+            _distinctUnknown = false;
+        }
+
+        // @return True if bounds are to be updated for value of given type
+        private boolean _updateType(int type)
+        {
+            if (_valueType == type) {
+                return true;
+            }
+            if (_valueType < 0) {
+                _valueType = type;
+                _minLong = Long.MAX_VALUE;
+                _maxLong = Long.MIN_VALUE;
+                _minDouble = Double.POSITIVE_INFINITY;
+                _maxDouble = Double.NEGATIVE_INFINITY;
+                return true;
+            }
+            _valueType = TYPE_NONE;
+            return false;
+        }
+
+        private static String _lowerBound(String str)
+        {
+            if (str.length() <= MAX_STRING_BOUND_LENGTH) {
+                return str;
+            }
+            // prefix is smaller, as long as surrogate pairs are not split
+            int len = MAX_STRING_BOUND_LENGTH;
+            if (Character.isHighSurrogate(str.charAt(len-1))) {
+                --len;
+            }
+            return str.substring(0, len);
+        }
+
+        // @return Upper bound; null if one can not be produced by truncation
+        private static String _upperBound(String str)
+        {
+            if (str.length() <= MAX_STRING_BOUND_LENGTH) {
+                return str;
+            }
+            // prefix with last character incremented is bigger
+            final int len = MAX_STRING_BOUND_LENGTH;
+            final char c = str.charAt(len-1);
+            if (c >= Character.MIN_SURROGATE - 1) {
+                return null;
+            }
+            return str.substring(0, len-1) + (char) (c + 1);
+        }
+    }
+}
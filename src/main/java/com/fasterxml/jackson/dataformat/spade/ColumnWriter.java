@@ -0,0 +1,1082 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import static com.fasterxml.jackson.dataformat.spade.SpadeConstants.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.dataformat.spade.util.ByteBuilder;
+
+/**
+ * Buffer for contents of a single column of the block being written by
+ * {@link SpadeGenerator}: presence bitset is encoded as rows are added, and
+ * values are buffered in encoded form; both are written out once block
+ * is complete. Instances are reused across blocks.
+ *<p>
+ * Encoding of values is chosen based on the first value of the block, if the
+ * matching specialized encoding is enabled:
+ *<ul>
+ * <li>Strings and nulls: {@link SpadeConstants#COLUMN_ENCODING_DICTIONARY}, as long
+ *   as number of distinct values stays at or below the specified maximum. If maximum
+ *   size is exceeded, dictionary encoding is also disabled for subsequent blocks.
+ *  </li>
+ * <li><code>int</code>s and <code>long</code>s: {@link SpadeConstants#COLUMN_ENCODING_INTEGERS}</li>
+ * <li><code>double</code>s: {@link SpadeConstants#COLUMN_ENCODING_DOUBLES}</li>
+ *</ul>
+ * Nulls do not affect the choice: encoding stays undecided until the first non-null
+ * value, and with integer and <code>double</code> encodings, indexes of null values
+ * are kept separately from the encoded non-null values.
+ * If a value that the chosen encoding can not handle is written, content of the block
+ * is converted to plain token encoding ({@link SpadeConstants#COLUMN_ENCODING_TOKENS}).
+ *<p>
+ * Besides adding values one row at a time, numeric values may be added in bulk
+ * from primitive arrays indexed by row, using a sentinel value to indicate rows
+ * without value: see {@link #writeIntegers(int, long[], int, int, long)}.
+ *<p>
+ * If enabled (see {@link #enableStatistics}), statistics of row values
+ * (but not of values nested in Objects and Arrays) are collected for each
+ * block: they are available via {@link #getStatistics} for block header, and
+ * added to file index (if any) along with location of column content.
+ */
+public class ColumnWriter
+{
+    /**
+     * Default maximum number of distinct values for dictionary encoding.
+     */
+    public final static int DEFAULT_MAX_DICTIONARY_SIZE = 256;
+
+    // Encoding of values of the current block: not yet chosen if block has no values
+    protected final static int MODE_UNDECIDED = 0;
+    protected final static int MODE_TOKENS = 1;
+    protected final static int MODE_DICTIONARY = 2;
+    protected final static int MODE_INTEGERS = 3;
+    protected final static int MODE_DOUBLES = 4;
+
+    protected final String _name;
+
+    protected final byte[] _nameUTF8;
+
+    /**
+     * Codec used for presence bitsets; one of
+     * <code>PresenceBitsetOutputStream.TAG_xxx</code>, or
+     * {@link PresenceBitsetOutputStream#CODEC_ADAPTIVE}
+     */
+    protected final int _presenceCodec;
+
+    protected final ByteBuilder _presence = new ByteBuilder();
+
+    protected PresenceBitsetOutputStream _presenceWriter;
+
+    protected final ByteBuilder _values = new ByteBuilder();
+
+    // Number of rows in current block that have value for this column
+    protected int _valueCount;
+
+    // Index of the last row (within block) that has value for this column
+    protected int _lastRow = -1;
+
+    // One of MODE_xxx
+    protected int _mode = MODE_UNDECIDED;
+
+    // Indexes (among values of the block) of null values, if encoding is undecided,
+    // or integer or double encoding
+    protected int[] _nullIndexes = new int[16];
+
+    protected int _nullCount;
+
+    // Null bitset of integer- and double-encoded content, built when block is written
+    protected final ByteBuilder _nulls = new ByteBuilder();
+
+    protected PresenceBitsetOutputStream _nullWriter;
+
+    /*
+    /**********************************************************************
+    /* Dictionary encoding state
+    /**********************************************************************
+     */
+
+    // Maximum number of distinct values for dictionary encoding; 0 if disabled
+    protected final int _maxDictionarySize;
+
+    // Set if maximum dictionary size was exceeded, to disable dictionary for later blocks
+    protected boolean _dictionaryDisabled;
+
+    // Ids of distinct values (1-based, as 0 is used for nulls)
+    protected final Map<String,Integer> _dictionary = new HashMap<>();
+
+    // UTF-8 encoded distinct values, in order of ids
+    protected final List<byte[]> _dictionaryEntries = new ArrayList<>();
+
+    protected int _dictionaryBytes;
+
+    protected int[] _dictionaryIds = new int[64];
+
+    protected int _dictionaryIdCount;
+
+    /*
+    /**********************************************************************
+    /* Integer encoding state
+    /**********************************************************************
+     */
+
+    protected final boolean _packIntegers;
+
+    protected PackedIntegerCodec _integerCodec;
+
+    // Values not yet encoded as a packed block
+    protected final long[] _pendingIntegers;
+
+    protected int _pendingIntegerCount;
+
+    // Number of values (encoded or pending) of the current block in integer mode
+    protected int _integerCount;
+
+    /*
+    /**********************************************************************
+    /* Double encoding state
+    /**********************************************************************
+     */
+
+    protected final boolean _xorDoubles;
+
+    // Encoder that writes into value buffer, created when first needed
+    protected XorDoubleEncoder _doubleEncoder;
+
+    /*
+    /**********************************************************************
+    /* Statistics state
+    /**********************************************************************
+     */
+
+    // Collector of statistics of the current block, if enabled
+    protected ColumnStatistics.Collector _statistics;
+
+    // Statistics of the current block, once built (for block header and footer index)
+    protected ColumnStatistics _blockStatistics;
+
+    // Whether the next value written is a row value, that is, not nested, for statistics
+    protected boolean _rowValue;
+
+    public ColumnWriter(String name, int presenceCodec) {
+        this(name, presenceCodec, 0, false, false);
+    }
+
+    /**
+     * @param maxDictionarySize Maximum number of distinct String values for which
+     *    dictionary encoding is used; 0 to disable dictionary encoding
+     * @param packIntegers Whether integer encoding is to be used for columns with
+     *    only integral values
+     * @param xorDoubles Whether XOR encoding is to be used for columns with
+     *    only <code>double</code> values
+     */
+    public ColumnWriter(String name, int presenceCodec, int maxDictionarySize,
+            boolean packIntegers, boolean xorDoubles)
+    {
+        if (maxDictionarySize < 0 || maxDictionarySize >= (1 << MAX_DICTIONARY_ID_BITS)) {
+            throw new IllegalArgumentException(String.format("Invalid maximum dictionary size %d",
+                    maxDictionarySize));
+        }
+        _name = name;
+        _nameUTF8 = name.getBytes(StandardCharsets.UTF_8);
+        _presenceCodec = presenceCodec;
+        _maxDictionarySize = maxDictionarySize;
+        _packIntegers = packIntegers;
+        _pendingIntegers = packIntegers ? new long[PackedIntegerCodec.BLOCK_SIZE] : null;
+        _xorDoubles = xorDoubles;
+    }
+
+    /**
+     * Method for enabling collection of statistics of row values for each block
+     * (see {@link ColumnStatistics}); needs to be called before any values are added.
+     *
+     * @return This writer, for call chaining
+     */
+    public ColumnWriter enableStatistics()
+    {
+        if (_statistics == null) {
+            _statistics = new ColumnStatistics.Collector();
+        }
+        return this;
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors
+    /**********************************************************************
+     */
+
+    public String getName() { return _name; }
+
+    public int getValueCount() { return _valueCount; }
+
+    public int getLastRow() { return _lastRow; }
+
+    /**
+     * Method for accessing statistics of values of the current block; should
+     * only be called once all values of the block have been written.
+     *
+     * @return Statistics, if collection is enabled (see {@link #enableStatistics})
+     *    and column has values in the current block; null if not
+     */
+    public ColumnStatistics getStatistics()
+    {
+        if (_blockStatistics == null && _statistics != null && _valueCount > 0) {
+            _blockStatistics = _statistics.build(_valueCount);
+        }
+        return _blockStatistics;
+    }
+
+    /**
+     * @return Whether values of the current block are dictionary-encoded
+     */
+    public boolean isDictionaryEncoded() { return _mode == MODE_DICTIONARY; }
+
+    /**
+     * @return Approximate number of bytes buffered for the current block
+     */
+    public int getBufferedSize() {
+        switch (_mode) {
+        case MODE_DICTIONARY:
+            return _presence.size() + _dictionaryBytes
+                    + (int) (((long) _dictionaryIdCount * _idBitWidth()) >> 3);
+        case MODE_INTEGERS:
+            return _presence.size() + _values.size() + (_pendingIntegerCount << 3)
+                    + (_nullCount << 2);
+        default:
+            return _presence.size() + _values.size() + (_nullCount << 2);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Adding values
+    /**********************************************************************
+     */
+
+    /**
+     * Method called before appending (top-level) value for given row of the
+     * current block; caller must ensure rows are given in increasing order.
+     */
+    public void startValue(int row) throws IOException
+    {
+        if (_presenceWriter == null) {
+            _presenceWriter = new PresenceBitsetOutputStream(_presence, _presenceCodec);
+        }
+        _presenceWriter.setBit(row);
+        _lastRow = row;
+        ++_valueCount;
+        _rowValue = (_statistics != null);
+    }
+
+    public void writeNull() {
+        if (_rowValue()) {
+            _statistics.addNull();
+        }
+        switch (_mode) {
+        case MODE_DICTIONARY:
+            _appendDictionaryId(0);
+            break;
+        case MODE_UNDECIDED:
+        case MODE_INTEGERS:
+        case MODE_DOUBLES:
+            // only row values are possible here, as Objects and Arrays use tokens
+            _appendNull(_valueCount - 1);
+            break;
+        default:
+            _values.write(TOKEN_NULL);
+        }
+    }
+
+    public void writeBoolean(boolean state) {
+        if (_rowValue()) {
+            _statistics.addOther(Boolean.valueOf(state).hashCode());
+        }
+        _selectMode(MODE_TOKENS);
+        _values.write(state ? TOKEN_TRUE : TOKEN_FALSE);
+    }
+
+    public void writeInt(int v) {
+        if (_rowValue()) {
+            _statistics.addLong(v);
+        }
+        if (_selectMode(MODE_INTEGERS) == MODE_INTEGERS) {
+            _appendInteger(v);
+            return;
+        }
+        _values.write(TOKEN_INT);
+        _values.appendZigzagVInt(v);
+    }
+
+    public void writeLong(long v) {
+        if (_rowValue()) {
+            _statistics.addLong(v);
+        }
+        if (_selectMode(MODE_INTEGERS) == MODE_INTEGERS) {
+            _appendInteger(v);
+            return;
+        }
+        _values.write(TOKEN_LONG);
+        _values.appendZigzagVLong(v);
+    }
+
+    public void writeBigInteger(BigInteger v) {
+        if (_rowValue()) {
+            _statistics.addOther(v.hashCode());
+        }
+        _selectMode(MODE_TOKENS);
+        _values.write(TOKEN_BIG_INTEGER);
+        byte[] b = v.toByteArray();
+        _values.appendLengthPrefixed(b, 0, b.length);
+    }
+
+    public void writeFloat(float v) {
+        if (_rowValue()) {
+            _statistics.addDouble(v);
+        }
+        _selectMode(MODE_TOKENS);
+        _values.write(TOKEN_FLOAT);
+        _values.appendInt32(Float.floatToRawIntBits(v));
+    }
+
+    public void writeDouble(double v) throws IOException {
+        if (_rowValue()) {
+            _statistics.addDouble(v);
+        }
+        if (_selectMode(MODE_DOUBLES) == MODE_DOUBLES) {
+            _doubleEncoder.write(v);
+            return;
+        }
+        _values.write(TOKEN_DOUBLE);
+        _values.appendInt64(Double.doubleToRawLongBits(v));
+    }
+
+    public void writeBigDecimal(BigDecimal v) {
+        if (_rowValue()) {
+            _statistics.addOther(v.hashCode());
+        }
+        _selectMode(MODE_TOKENS);
+        _values.write(TOKEN_BIG_DECIMAL);
+        _values.appendZigzagVInt(v.scale());
+        byte[] b = v.unscaledValue().toByteArray();
+        _values.appendLengthPrefixed(b, 0, b.length);
+    }
+
+    public void writeString(String v) {
+        if (_rowValue()) {
+            _statistics.addString(v);
+        }
+        if (_selectMode(MODE_DICTIONARY) == MODE_DICTIONARY) {
+            _writeDictionaryString(v);
+            return;
+        }
+        byte[] b = v.getBytes(StandardCharsets.UTF_8);
+        _values.write(TOKEN_STRING);
+        _values.appendLengthPrefixed(b, 0, b.length);
+    }
+
+    public void writeUTF8String(byte[] b, int offset, int len) {
+        if (_rowValue()) {
+            _statistics.addString(new String(b, offset, len, StandardCharsets.UTF_8));
+        }
+        if (_selectMode(MODE_DICTIONARY) == MODE_DICTIONARY) {
+            _writeDictionaryString(new String(b, offset, len, StandardCharsets.UTF_8));
+            return;
+        }
+        _values.write(TOKEN_STRING);
+        _values.appendLengthPrefixed(b, offset, len);
+    }
+
+    public void writeBinary(byte[] b, int offset, int len) {
+        if (_rowValue()) {
+            _statistics.addOther(_hashCode(b, offset, len));
+        }
+        _selectMode(MODE_TOKENS);
+        _values.write(TOKEN_BINARY);
+        _values.appendLengthPrefixed(b, offset, len);
+    }
+
+    public void writeStartObject() {
+        if (_rowValue()) {
+            _statistics.addStructured();
+        }
+        _selectMode(MODE_TOKENS);
+        _values.write(TOKEN_START_OBJECT);
+    }
+
+    public void writeEndObject() {
+        _values.write(TOKEN_END_OBJECT);
+    }
+
+    public void writeStartArray() {
+        if (_rowValue()) {
+            _statistics.addStructured();
+        }
+        _selectMode(MODE_TOKENS);
+        _values.write(TOKEN_START_ARRAY);
+    }
+
+    public void writeEndArray() {
+        _values.write(TOKEN_END_ARRAY);
+    }
+
+    public void writeFieldName(String name) {
+        byte[] b = name.getBytes(StandardCharsets.UTF_8);
+        _values.write(TOKEN_FIELD_NAME);
+        _values.appendLengthPrefixed(b, 0, b.length);
+    }
+
+    /*
+    /**********************************************************************
+    /* Adding values, bulk
+    /**********************************************************************
+     */
+
+    /**
+     * Method for appending values for a range of rows of the current block from
+     * given array, where element at <code>offset + i</code> is the value of row
+     * <code>firstRow + i</code>, and elements equal to <code>absentValue</code>
+     * indicate rows without value. Presence of each run of consecutive rows with
+     * (or without) values is appended at once; resulting content is identical to
+     * calling {@link #startValue} and {@link #writeLong} for each row with value.
+     *
+     * @param firstRow Row of the first element; must be after rows already written
+     */
+    public void writeIntegers(int firstRow, long[] values, int offset, int len, long absentValue)
+        throws IOException
+    {
+        _verifyBulkWrite(firstRow, values.length, offset, len);
+        final int end = offset + len;
+        int i = offset;
+        while (true) {
+            while ((i < end) && (values[i] == absentValue)) {
+                ++i;
+            }
+            if (i == end) {
+                return;
+            }
+            final int start = i;
+            while ((i < end) && (values[i] != absentValue)) {
+                ++i;
+            }
+            _appendPresentRun(firstRow + (start - offset), i - start);
+            if (_statistics != null) {
+                for (int j = start; j < i; ++j) {
+                    _statistics.addLong(values[j]);
+                }
+            }
+            if (_selectMode(MODE_INTEGERS) == MODE_INTEGERS) {
+                _appendIntegers(values, start, i - start);
+            } else {
+                for (int j = start; j < i; ++j) {
+                    _values.write(TOKEN_LONG);
+                    _values.appendZigzagVLong(values[j]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Alternative to {@link #writeIntegers(int, long[], int, int, long)} for
+     * <code>int</code> values; content is identical to calling {@link #startValue}
+     * and {@link #writeInt} for each row with value.
+     */
+    public void writeIntegers(int firstRow, int[] values, int offset, int len, int absentValue)
+        throws IOException
+    {
+        _verifyBulkWrite(firstRow, values.length, offset, len);
+        final int end = offset + len;
+        int i = offset;
+        while (true) {
+            while ((i < end) && (values[i] == absentValue)) {
+                ++i;
+            }
+            if (i == end) {
+                return;
+            }
+            final int start = i;
+            while ((i < end) && (values[i] != absentValue)) {
+                ++i;
+            }
+            _appendPresentRun(firstRow + (start - offset), i - start);
+            if (_statistics != null) {
+                for (int j = start; j < i; ++j) {
+                    _statistics.addLong(values[j]);
+                }
+            }
+            if (_selectMode(MODE_INTEGERS) == MODE_INTEGERS) {
+                for (int j = start; j < i; ++j) {
+                    _appendInteger(values[j]);
+                }
+            } else {
+                for (int j = start; j < i; ++j) {
+                    _values.write(TOKEN_INT);
+                    _values.appendZigzagVInt(values[j]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method for appending <code>double</code> values for a range of rows, similar to
+     * {@link #writeIntegers(int, long[], int, int, long)}; content is identical to
+     * calling {@link #startValue} and {@link #writeDouble} for each row with value.
+     * Values are compared by their bit patterns, so <code>absentValue</code> may be NaN.
+     */
+    public void writeDoubles(int firstRow, double[] values, int offset, int len, double absentValue)
+        throws IOException
+    {
+        _verifyBulkWrite(firstRow, values.length, offset, len);
+        final long absentBits = Double.doubleToLongBits(absentValue);
+        final int end = offset + len;
+        int i = offset;
+        while (true) {
+            while ((i < end) && (Double.doubleToLongBits(values[i]) == absentBits)) {
+                ++i;
+            }
+            if (i == end) {
+                return;
+            }
+            final int start = i;
+            while ((i < end) && (Double.doubleToLongBits(values[i]) != absentBits)) {
+                ++i;
+            }
+            _appendPresentRun(firstRow + (start - offset), i - start);
+            if (_statistics != null) {
+                for (int j = start; j < i; ++j) {
+                    _statistics.addDouble(values[j]);
+                }
+            }
+            if (_selectMode(MODE_DOUBLES) == MODE_DOUBLES) {
+                final XorDoubleEncoder enc = _doubleEncoder;
+                for (int j = start; j < i; ++j) {
+                    enc.write(values[j]);
+                }
+            } else {
+                for (int j = start; j < i; ++j) {
+                    _values.write(TOKEN_DOUBLE);
+                    _values.appendInt64(Double.doubleToRawLongBits(values[j]));
+                }
+            }
+        }
+    }
+
+    protected void _verifyBulkWrite(int firstRow, int length, int offset, int len)
+    {
+        if (firstRow <= _lastRow) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid first row %d for column '%s': rows up to %d already have value",
+                    firstRow, _name, _lastRow));
+        }
+        if (offset < 0 || len < 0 || offset > (length - len)) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid offset %d and length %d for array of length %d",
+                    offset, len, length));
+        }
+    }
+
+    /**
+     * Method for appending presence of given number of rows with value, starting
+     * at given row; rows between the last row with value and the run are absent.
+     */
+    protected void _appendPresentRun(int row, int count) throws IOException
+    {
+        if (_presenceWriter == null) {
+            _presenceWriter = new PresenceBitsetOutputStream(_presence, _presenceCodec);
+        }
+        final long gap = row - _presenceWriter.getBitCount();
+        if (count == 1) { // common for scattered values; single bit is cheaper to append
+            _presenceWriter.appendSetBit(gap);
+        } else {
+            _presenceWriter.appendRun(gap, false);
+            _presenceWriter.appendRun(count, true);
+        }
+        _lastRow = row + count - 1;
+        _valueCount += count;
+    }
+
+    /*
+    /**********************************************************************
+    /* Block output
+    /**********************************************************************
+     */
+
+    /**
+     * Method called to write out column contents of the completed block
+     * (if column has any values), and reset column for the next block.
+     *
+     * @param rowCount Number of rows in the block
+     * @param header Buffer to use for building column header
+     *
+     * @return True if column had values (and was written), false if not
+     */
+    public boolean writeBlock(OutputStream out, int rowCount, ByteBuilder header) throws IOException {
+        return writeBlock(out, rowCount, header, null);
+    }
+
+    /**
+     * Alternative to {@link #writeBlock(OutputStream, int, ByteBuilder)} that also
+     * adds location of column contents to given file index, if not null.
+     */
+    public boolean writeBlock(OutputStream out, int rowCount, ByteBuilder header,
+            SpadeFileIndex.Builder index) throws IOException
+    {
+        if (_valueCount == 0) {
+            return false;
+        }
+        // complete presence bitset with trailing absent rows
+        _presenceWriter.appendRun(rowCount - _presenceWriter.getBitCount(), false);
+        _presenceWriter.finish();
+        if (_mode == MODE_UNDECIDED) { // only nulls
+            _selectMode(MODE_DICTIONARY);
+        }
+
+        final byte encoding;
+        switch (_mode) {
+        case MODE_DICTIONARY:
+            encoding = COLUMN_ENCODING_DICTIONARY;
+            _encodeDictionaryValues();
+            break;
+        case MODE_INTEGERS:
+            encoding = COLUMN_ENCODING_INTEGERS;
+            _encodePendingIntegers();
+            _encodeNulls();
+            break;
+        case MODE_DOUBLES:
+            encoding = COLUMN_ENCODING_DOUBLES;
+            _doubleEncoder.finish();
+            _encodeNulls();
+            break;
+        default:
+            encoding = COLUMN_ENCODING_TOKENS;
+        }
+        final int contentLength = 1 + ByteBuilder.vIntLength(_valueCount)
+                + _presence.size() + _nulls.size() + _values.size();
+        header.reset();
+        header.appendLengthPrefixed(_nameUTF8, 0, _nameUTF8.length);
+        header.appendVInt(contentLength);
+        if (index != null) {
+            index.addColumn(_name, header.size(), contentLength, encoding, _valueCount,
+                    getStatistics());
+        }
+        header.write(encoding);
+        header.appendVInt(_valueCount);
+        header.writeTo(out);
+        _presence.writeTo(out);
+        _nulls.writeTo(out);
+        _values.writeTo(out);
+        reset();
+        return true;
+    }
+
+    public void reset()
+    {
+        _presence.reset();
+        // presence stream writes into _presence, so it can be reused as well
+        if (_presenceWriter != null) {
+            _presenceWriter.reset();
+        }
+        _values.reset();
+        _nulls.reset();
+        if (_nullWriter != null) {
+            _nullWriter.reset();
+        }
+        _valueCount = 0;
+        _lastRow = -1;
+        _mode = MODE_UNDECIDED;
+        _nullCount = 0;
+        _resetDictionary();
+        _pendingIntegerCount = 0;
+        _integerCount = 0;
+        if (_doubleEncoder != null) {
+            _doubleEncoder.reset(_values);
+        }
+        if (_statistics != null) {
+            _statistics.reset();
+        }
+        _blockStatistics = null;
+        _rowValue = false;
+    }
+
+    /**
+     * Helper method called by value write methods to check whether the value
+     * is a row value, for which statistics are to be collected.
+     */
+    protected final boolean _rowValue()
+    {
+        if (_rowValue) {
+            _rowValue = false;
+            return true;
+        }
+        return false;
+    }
+
+    protected static int _hashCode(byte[] b, int offset, int len)
+    {
+        int h = 1;
+        for (int end = offset + len; offset < end; ++offset) {
+            h = 31 * h + b[offset];
+        }
+        return h;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, encoding selection
+    /**********************************************************************
+     */
+
+    /**
+     * Method called before writing a value, with the encoding preferred for it:
+     * for the first value of the block, preferred encoding is chosen if enabled;
+     * for later values, if current encoding differs from preferred one, values
+     * written so far are converted to plain tokens.
+     *
+     * @return Encoding to use for the value (one of <code>MODE_xxx</code>)
+     */
+    protected int _selectMode(int preferred)
+    {
+        final int mode = _mode;
+        if (mode == preferred || mode == MODE_TOKENS) {
+            return mode;
+        }
+        if (mode == MODE_UNDECIDED) {
+            _mode = _isEnabled(preferred) ? preferred : MODE_TOKENS;
+            _convertLeadingNulls();
+            return _mode;
+        }
+        _plainValues();
+        return MODE_TOKENS;
+    }
+
+    protected boolean _isEnabled(int mode)
+    {
+        switch (mode) {
+        case MODE_DICTIONARY:
+            return (_maxDictionarySize > 0) && !_dictionaryDisabled;
+        case MODE_INTEGERS:
+            return _packIntegers;
+        case MODE_DOUBLES:
+            if (_xorDoubles && (_doubleEncoder == null)) {
+                _doubleEncoder = new XorDoubleEncoder(_values);
+            }
+            return _xorDoubles;
+        default:
+            return true;
+        }
+    }
+
+    /**
+     * Method called when a value that can not be encoded using the current
+     * specialized encoding is written: converts values written so far to
+     * token encoding.
+     */
+    protected void _plainValues()
+    {
+        switch (_mode) {
+        case MODE_DICTIONARY:
+            _plainDictionaryValues();
+            break;
+        case MODE_INTEGERS:
+            _plainIntegerValues();
+            break;
+        case MODE_DOUBLES:
+            _plainDoubleValues();
+            break;
+        default:
+        }
+        _mode = MODE_TOKENS;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, nulls
+    /**********************************************************************
+     */
+
+    protected void _appendNull(int index)
+    {
+        if (_nullCount == _nullIndexes.length) {
+            _nullIndexes = Arrays.copyOf(_nullIndexes, _nullCount << 1);
+        }
+        _nullIndexes[_nullCount++] = index;
+    }
+
+    /**
+     * Method called when encoding is chosen: nulls written before that (which are
+     * all the values so far) are converted to the chosen encoding, unless it keeps
+     * null indexes separately.
+     */
+    protected void _convertLeadingNulls()
+    {
+        final int count = _nullCount;
+        if (_mode == MODE_DICTIONARY) {
+            for (int i = 0; i < count; ++i) {
+                _appendDictionaryId(0);
+            }
+        } else if (_mode == MODE_TOKENS) {
+            for (int i = 0; i < count; ++i) {
+                _values.write(TOKEN_NULL);
+            }
+        } else {
+            return;
+        }
+        _nullCount = 0;
+    }
+
+    /**
+     * Method for encoding null indexes of integer- or double-encoded content:
+     * number of nulls, followed by bitset of null values (if any).
+     */
+    protected void _encodeNulls() throws IOException
+    {
+        _nulls.appendVInt(_nullCount);
+        if (_nullCount == 0) {
+            return;
+        }
+        if (_nullWriter == null) {
+            _nullWriter = new PresenceBitsetOutputStream(_nulls, _presenceCodec);
+        }
+        final int[] indexes = _nullIndexes;
+        for (int i = 0, end = _nullCount; i < end; ++i) {
+            _nullWriter.setBit(indexes[i]);
+        }
+        _nullWriter.appendRun(_valueCount - _nullWriter.getBitCount(), false);
+        _nullWriter.finish();
+    }
+
+    /**
+     * Method for writing null tokens for consecutive nulls starting at given value
+     * index, when converting values to tokens.
+     *
+     * @param n Number of nulls already written
+     *
+     * @return Number of nulls written after call
+     */
+    protected int _plainNulls(int n, int index)
+    {
+        final int[] nulls = _nullIndexes;
+        while ((n < _nullCount) && (nulls[n] == index)) {
+            _values.write(TOKEN_NULL);
+            ++n;
+            ++index;
+        }
+        return n;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, dictionary encoding
+    /**********************************************************************
+     */
+
+    protected void _writeDictionaryString(String value)
+    {
+        Integer id = _dictionary.get(value);
+        if (id == null) {
+            if (_dictionary.size() == _maxDictionarySize) {
+                // too many distinct values: not worth trying again for later blocks either
+                _dictionaryDisabled = true;
+                _plainValues();
+                writeString(value);
+                return;
+            }
+            id = _dictionary.size() + 1;
+            _dictionary.put(value, id);
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            _dictionaryEntries.add(utf8);
+            _dictionaryBytes += utf8.length + 1;
+        }
+        _appendDictionaryId(id.intValue());
+    }
+
+    protected void _appendDictionaryId(int id)
+    {
+        if (_dictionaryIdCount == _dictionaryIds.length) {
+            _dictionaryIds = Arrays.copyOf(_dictionaryIds, _dictionaryIdCount << 1);
+        }
+        _dictionaryIds[_dictionaryIdCount++] = id;
+    }
+
+    /**
+     * Method for converting dictionary ids written so far into plain tokens.
+     */
+    protected void _plainDictionaryValues()
+    {
+        final int[] ids = _dictionaryIds;
+        for (int i = 0, end = _dictionaryIdCount; i < end; ++i) {
+            final int id = ids[i];
+            if (id == 0) {
+                _values.write(TOKEN_NULL);
+            } else {
+                byte[] b = _dictionaryEntries.get(id-1);
+                _values.write(TOKEN_STRING);
+                _values.appendLengthPrefixed(b, 0, b.length);
+            }
+        }
+        _resetDictionary();
+    }
+
+    protected void _resetDictionary()
+    {
+        _dictionary.clear();
+        _dictionaryEntries.clear();
+        _dictionaryBytes = 0;
+        _dictionaryIdCount = 0;
+    }
+
+    // Minimum number of bits needed for ids of current dictionary
+    protected int _idBitWidth() {
+        return 32 - Integer.numberOfLeadingZeros(_dictionary.size());
+    }
+
+    protected void _encodeDictionaryValues()
+    {
+        final ByteBuilder out = _values;
+        out.appendVInt(_dictionaryEntries.size());
+        for (byte[] b : _dictionaryEntries) {
+            out.appendLengthPrefixed(b, 0, b.length);
+        }
+        final int width = _idBitWidth();
+        out.write(width);
+        if (width == 0) { // all nulls
+            return;
+        }
+        final int[] ids = _dictionaryIds;
+        long acc = 0L;
+        int bits = 0;
+        for (int i = 0, end = _dictionaryIdCount; i < end; ++i) {
+            acc = (acc << width) | ids[i];
+            bits += width;
+            while (bits >= 8) {
+                bits -= 8;
+                out.write((int) (acc >>> bits));
+            }
+        }
+        if (bits > 0) {
+            out.write((int) (acc << (8 - bits)));
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, integer encoding
+    /**********************************************************************
+     */
+
+    protected void _appendInteger(long value)
+    {
+        _pendingIntegers[_pendingIntegerCount++] = value;
+        ++_integerCount;
+        if (_pendingIntegerCount == PackedIntegerCodec.BLOCK_SIZE) {
+            _encodePendingIntegers();
+        }
+    }
+
+    protected void _appendIntegers(long[] values, int offset, int len)
+    {
+        while (len > 0) {
+            final int count = Math.min(len, PackedIntegerCodec.BLOCK_SIZE - _pendingIntegerCount);
+            System.arraycopy(values, offset, _pendingIntegers, _pendingIntegerCount, count);
+            _pendingIntegerCount += count;
+            _integerCount += count;
+            offset += count;
+            len -= count;
+            if (_pendingIntegerCount == PackedIntegerCodec.BLOCK_SIZE) {
+                _encodePendingIntegers();
+            }
+        }
+    }
+
+    protected void _encodePendingIntegers()
+    {
+        if (_pendingIntegerCount > 0) {
+            if (_integerCodec == null) {
+                _integerCodec = new PackedIntegerCodec();
+            }
+            _integerCodec.encodeBlock(_pendingIntegers, _pendingIntegerCount, _values);
+            _pendingIntegerCount = 0;
+        }
+    }
+
+    /**
+     * Method for converting packed integers (and nulls) written so far into plain tokens.
+     */
+    protected void _plainIntegerValues()
+    {
+        final int count = _integerCount;
+        final int pending = _pendingIntegerCount;
+        long[] values = new long[count];
+        final int encodedCount = count - pending;
+        final byte[] encoded = _values.getBuffer();
+        final int end = _values.size();
+        int ptr = 0;
+        try {
+            for (int i = 0; i < encodedCount; i += PackedIntegerCodec.BLOCK_SIZE) {
+                ptr = _integerCodec.decodeBlock(encoded, ptr, end, values, i,
+                        PackedIntegerCodec.BLOCK_SIZE);
+            }
+        } catch (IOException e) { // should never occur, as we wrote the content
+            throw new IllegalStateException(e);
+        }
+        System.arraycopy(_pendingIntegers, 0, values, encodedCount, pending);
+        _values.reset();
+        int n = 0;
+        for (int i = 0; i < count; ++i) {
+            n = _plainNulls(n, i + n);
+            final long v = values[i];
+            if (v >= Integer.MIN_VALUE && v <= Integer.MAX_VALUE) {
+                _values.write(TOKEN_INT);
+                _values.appendZigzagVInt((int) v);
+            } else {
+                _values.write(TOKEN_LONG);
+                _values.appendZigzagVLong(v);
+            }
+        }
+        _plainNulls(n, count + n);
+        _nullCount = 0;
+        _pendingIntegerCount = 0;
+        _integerCount = 0;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, double encoding
+    /**********************************************************************
+     */
+
+    /**
+     * Method for converting XOR-encoded doubles (and nulls) written so far into plain tokens.
+     */
+    protected void _plainDoubleValues()
+    {
+        final int count = _doubleEncoder.getValueCount();
+        final double[] values = new double[count];
+        try {
+            _doubleEncoder.finish();
+            XorDoubleDecoder dec = new XorDoubleDecoder();
+            dec.init(_values.getBuffer(), 0, _values.size());
+            for (int i = 0; i < count; ++i) {
+                values[i] = dec.read();
+            }
+        } catch (IOException e) { // should never occur, as we wrote the content
+            throw new IllegalStateException(e);
+        }
+        _values.reset();
+        int n = 0;
+        for (int i = 0; i < count; ++i) {
+            n = _plainNulls(n, i + n);
+            _values.write(TOKEN_DOUBLE);
+            _values.appendInt64(Double.doubleToRawLongBits(values[i]));
+        }
+        _plainNulls(n, count + n);
+        _nullCount = 0;
+    }
+}
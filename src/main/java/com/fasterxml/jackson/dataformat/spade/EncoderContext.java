@@ -0,0 +1,123 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Container for reusable encoder instances and scratch buffers needed for
+ * encoding presence bitset chunks; similar to Jackson's <code>BufferRecycler</code>.
+ * Contexts are obtained from an {@link EncoderContextPool}, used by a single
+ * thread at a time, and returned using {@link #release}, after which caller
+ * must not use the context (or any instances or buffers it handed out).
+ * Encoders and buffers are created lazily, as not all callers need all of them.
+ */
+public final class EncoderContext
+{
+    /**
+     * Size of the chunk buffer: big enough for a chunk of either codec
+     */
+    public final static int CHUNK_BUFFER_SIZE = Math.max(BitRatEncoder.FULL_CHUNK_SIZE,
+            NibblerEncoder.MAX_CHUNK_SIZE);
+
+    /**
+     * Size of the output buffer: big enough for an encoded chunk of either codec,
+     * including framing of {@link PresenceBitsetOutputStream}
+     */
+    public final static int OUTPUT_BUFFER_SIZE = PresenceBitsetOutputStream.MAX_FRAME_LENGTH;
+
+    private final EncoderContextPool _pool;
+
+    private BitRatEncoder _bitrat;
+
+    private NibblerEncoder _nibbler;
+
+    private PresenceCodecSelector _selector;
+
+    private byte[] _chunkBuffer;
+
+    private byte[] _outputBuffer;
+
+    private ByteBuffer _outputWrapper;
+
+    EncoderContext(EncoderContextPool pool) {
+        _pool = pool;
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors
+    /**********************************************************************
+     */
+
+    public BitRatEncoder getBitRatEncoder() {
+        if (_bitrat == null) {
+            _bitrat = new BitRatEncoder();
+        }
+        return _bitrat;
+    }
+
+    public NibblerEncoder getNibblerEncoder() {
+        if (_nibbler == null) {
+            _nibbler = new NibblerEncoder();
+        }
+        return _nibbler;
+    }
+
+    public PresenceCodecSelector getCodecSelector() {
+        if (_selector == null) {
+            _selector = new PresenceCodecSelector();
+        }
+        return _selector;
+    }
+
+    /**
+     * @return Buffer of {@link #CHUNK_BUFFER_SIZE} bytes for raw chunk content
+     */
+    public byte[] getChunkBuffer() {
+        if (_chunkBuffer == null) {
+            _chunkBuffer = new byte[CHUNK_BUFFER_SIZE];
+        }
+        return _chunkBuffer;
+    }
+
+    /**
+     * @return Buffer of {@link #OUTPUT_BUFFER_SIZE} bytes for encoded content
+     */
+    public byte[] getOutputBuffer() {
+        if (_outputBuffer == null) {
+            _outputBuffer = new byte[OUTPUT_BUFFER_SIZE];
+        }
+        return _outputBuffer;
+    }
+
+    /**
+     * @return Cleared {@link ByteBuffer} that wraps {@link #getOutputBuffer()}
+     */
+    public ByteBuffer getOutputByteBuffer() {
+        if (_outputWrapper == null) {
+            _outputWrapper = ByteBuffer.wrap(getOutputBuffer());
+        }
+        _outputWrapper.clear();
+        return _outputWrapper;
+    }
+
+    /*
+    /**********************************************************************
+    /* Life-cycle
+    /**********************************************************************
+     */
+
+    /**
+     * Method called when caller is done with the context: resets encoders
+     * and returns context to the pool it came from.
+     */
+    public void release()
+    {
+        if (_bitrat != null) {
+            _bitrat.reset();
+        }
+        if (_nibbler != null) {
+            _nibbler.reset();
+        }
+        _pool.release(this);
+    }
+}
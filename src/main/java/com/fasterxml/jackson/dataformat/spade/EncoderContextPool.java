@@ -0,0 +1,138 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Pool of {@link EncoderContext}s, used to avoid allocating encoders and
+ * buffers for every chunk (or column) encoded. Three implementations are
+ * available:
+ *<ul>
+ * <li>{@link #threadLocalPool()}: one context per thread; fastest for a fixed
+ *   set of long-lived platform threads, but retains a context for each thread
+ *   that ever used it, so not suitable for virtual threads
+ *  </li>
+ * <li>{@link #boundedPool(int)}: shared pool of up to given number of contexts;
+ *   works for any kind of threads, including virtual threads (access does not
+ *   pin carrier threads). {@link #defaultPool()} is a pool of this type.
+ *  </li>
+ * <li>{@link #nonRecyclingPool()}: allocates a new context for each call
+ *  </li>
+ *</ul>
+ * All implementations are thread-safe.
+ */
+public abstract class EncoderContextPool
+{
+    /**
+     * Maximum number of contexts retained by {@link #defaultPool()}
+     */
+    public final static int DEFAULT_POOL_SIZE = 64;
+
+    private final static EncoderContextPool DEFAULT_POOL = new Bounded(DEFAULT_POOL_SIZE);
+
+    /**
+     * Method for getting a context for exclusive use of the caller, until
+     * {@link EncoderContext#release} is called.
+     */
+    public abstract EncoderContext acquire();
+
+    /**
+     * Method called by {@link EncoderContext#release}; not to be called directly.
+     */
+    protected abstract void release(EncoderContext ctx);
+
+    /*
+    /**********************************************************************
+    /* Factory methods
+    /**********************************************************************
+     */
+
+    /**
+     * @return Shared bounded pool used by default by {@link PresenceBitsetOutputStream}
+     *    and {@link ParallelPresenceEncoder}
+     */
+    public static EncoderContextPool defaultPool() {
+        return DEFAULT_POOL;
+    }
+
+    public static EncoderContextPool threadLocalPool() {
+        return new PerThread();
+    }
+
+    public static EncoderContextPool boundedPool(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException(String.format("Invalid pool size %d", maxSize));
+        }
+        return new Bounded(maxSize);
+    }
+
+    public static EncoderContextPool nonRecyclingPool() {
+        return new NonRecycling();
+    }
+
+    /*
+    /**********************************************************************
+    /* Implementations
+    /**********************************************************************
+     */
+
+    private final static class PerThread extends EncoderContextPool
+    {
+        // Single-element array, to avoid ThreadLocal.set() calls; element
+        // is null while context is in use, so nested use gets a new context
+        private final ThreadLocal<EncoderContext[]> _slots = new ThreadLocal<EncoderContext[]>() {
+            @Override
+            protected EncoderContext[] initialValue() {
+                return new EncoderContext[1];
+            }
+        };
+
+        @Override
+        public EncoderContext acquire() {
+            final EncoderContext[] slot = _slots.get();
+            EncoderContext ctx = slot[0];
+            if (ctx == null) {
+                return new EncoderContext(this);
+            }
+            slot[0] = null;
+            return ctx;
+        }
+
+        @Override
+        protected void release(EncoderContext ctx) {
+            _slots.get()[0] = ctx;
+        }
+    }
+
+    private final static class Bounded extends EncoderContextPool
+    {
+        // Uses ReentrantLock (not monitors), so virtual threads are not pinned
+        private final ArrayBlockingQueue<EncoderContext> _contexts;
+
+        Bounded(int maxSize) {
+            _contexts = new ArrayBlockingQueue<>(maxSize);
+        }
+
+        @Override
+        public EncoderContext acquire() {
+            EncoderContext ctx = _contexts.poll();
+            return (ctx == null) ? new EncoderContext(this) : ctx;
+        }
+
+        @Override
+        protected void release(EncoderContext ctx) {
+            // if pool is full, context is simply dropped
+            _contexts.offer(ctx);
+        }
+    }
+
+    private final static class NonRecycling extends EncoderContextPool
+    {
+        @Override
+        public EncoderContext acquire() {
+            return new EncoderContext(this);
+        }
+
+        @Override
+        protected void release(EncoderContext ctx) { }
+    }
+}
@@ -0,0 +1,225 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * Random-access view of an encoded presence bitset, using a {@link PresenceRankIndex}
+ * to answer membership, rank and select queries by decoding at most one chunk
+ * per query: chunk (and block within chunk) is located using the index, and
+ * only remaining bits within the block need to be counted.
+ * The most recently decoded chunk is retained, so queries for nearby rows
+ * are cheap.
+ *<p>
+ * Useful for mapping row numbers to value indexes of a column (and vice versa)
+ * without decoding presence bitset of the whole column.
+ *<p>
+ * Instances are not thread-safe.
+ */
+public class IndexedPresenceBitset
+{
+    protected final PresenceRankIndex _index;
+
+    protected final ChunkReader _reader;
+
+    /**
+     * Index of the chunk currently decoded in reader; -1 if none
+     */
+    protected int _currentChunk = -1;
+
+    /**
+     * @param encoded Buffer that contains encoded bitset
+     * @param offset Offset of encoded bitset in buffer; offsets in index are relative to this
+     * @param len Length of encoded bitset
+     */
+    public IndexedPresenceBitset(byte[] encoded, int offset, int len, PresenceRankIndex index)
+    {
+        _index = index;
+        _reader = new ChunkReader(new SeekableInput(encoded, offset, len));
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    public PresenceRankIndex getIndex() { return _index; }
+
+    /**
+     * @return Number of bits (rows) in the bitset
+     */
+    public long getBitCount() { return _index.getBitCount(); }
+
+    /**
+     * @return Number of set bits in the bitset
+     */
+    public long getCardinality() { return _index.getCardinality(); }
+
+    /**
+     * @return Whether bit for given row is set
+     */
+    public boolean get(long row) throws IOException
+    {
+        _verifyRow(row, _index.getBitCount() - 1);
+        final byte[] chunk = _loadChunk(_chunkIndex(row));
+        final int bit = (int) (row & ((PresenceBitsetOutputStream.CHUNK_SIZE << 3) - 1));
+        return (chunk[bit >> 3] & (0x80 >> (bit & 7))) != 0;
+    }
+
+    /**
+     * Method for finding number of set bits before given row; for a set row,
+     * this is the index of value for the row.
+     *
+     * @param row Row (bit index) to count set bits up to (exclusive); may be
+     *    at most {@link #getBitCount()}
+     */
+    public long rank(long row) throws IOException
+    {
+        final long bitCount = _index.getBitCount();
+        _verifyRow(row, bitCount);
+        if (row == bitCount) {
+            return _index.getCardinality();
+        }
+        final int chunkIx = _chunkIndex(row);
+        final int bit = (int) (row & ((PresenceBitsetOutputStream.CHUNK_SIZE << 3) - 1));
+        final int byteIx = bit >> 3;
+        final int block = byteIx / PresenceRankIndex.BLOCK_SIZE;
+        long rank = _index.getChunkRank(chunkIx) + _index.getBlockRank(chunkIx, block);
+        final int bitInByte = bit & 7;
+        final int blockStart = block * PresenceRankIndex.BLOCK_SIZE;
+        // No need to decode if preceding bits within the block do not matter
+        if ((byteIx == blockStart) && (bitInByte == 0)) {
+            return rank;
+        }
+        final byte[] chunk = _loadChunk(chunkIx);
+        for (int i = blockStart; i < byteIx; ++i) {
+            rank += Integer.bitCount(chunk[i] & 0xFF);
+        }
+        return rank + Integer.bitCount((chunk[byteIx] & 0xFF) >> (8 - bitInByte));
+    }
+
+    /**
+     * Method for finding row of n-th set bit; for value index, this is the row
+     * of the value.
+     *
+     * @param n Index (0-based) of set bit to find
+     *
+     * @return Row of the set bit, if one exists; -1 if there are fewer than
+     *   <code>n+1</code> set bits
+     */
+    public long select(long n) throws IOException
+    {
+        if ((n < 0L) || (n >= _index.getCardinality())) {
+            return -1L;
+        }
+        final int chunkIx = _index.findChunkForSetBit(n);
+        int remaining = (int) (n - _index.getChunkRank(chunkIx));
+        int block = PresenceRankIndex.BLOCKS_PER_CHUNK - 1;
+        while (_index.getBlockRank(chunkIx, block) > remaining) {
+            --block;
+        }
+        remaining -= _index.getBlockRank(chunkIx, block);
+        final byte[] chunk = _loadChunk(chunkIx);
+        int ptr = block * PresenceRankIndex.BLOCK_SIZE;
+        int b;
+        while (true) {
+            b = chunk[ptr] & 0xFF;
+            final int count = Integer.bitCount(b);
+            if (remaining < count) {
+                break;
+            }
+            remaining -= count;
+            ++ptr;
+        }
+        // and finally, bit within byte
+        while (remaining > 0) {
+            b &= ~(0x80 >> (Integer.numberOfLeadingZeros(b) - 24));
+            --remaining;
+        }
+        final long chunkStart = (long) chunkIx * (PresenceBitsetOutputStream.CHUNK_SIZE << 3);
+        return chunkStart + (ptr << 3) + (Integer.numberOfLeadingZeros(b) - 24);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    protected void _verifyRow(long row, long max)
+    {
+        if ((row < 0L) || (row > max)) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid row %d: bitset has %d rows", row, _index.getBitCount()));
+        }
+    }
+
+    protected static int _chunkIndex(long row) {
+        return (int) (row / (PresenceBitsetOutputStream.CHUNK_SIZE << 3));
+    }
+
+    protected byte[] _loadChunk(int chunkIx) throws IOException
+    {
+        if (chunkIx != _currentChunk) {
+            _currentChunk = -1;
+            _reader.load(_index.getChunkOffset(chunkIx), _index.getPrevBit(chunkIx));
+            _currentChunk = chunkIx;
+        }
+        return _reader.chunk();
+    }
+
+    /**
+     * Input stream that allows repositioning, to read chunks in any order
+     */
+    private final static class SeekableInput extends ByteArrayInputStream
+    {
+        private final int _start;
+
+        SeekableInput(byte[] buffer, int offset, int len) {
+            super(buffer, offset, len);
+            _start = offset;
+        }
+
+        void seek(long offset) throws IOException {
+            if ((offset < 0L) || (offset >= (count - _start))) {
+                throw new IOException(String.format(
+                        "Invalid presence rank index: chunk offset %d outside of encoded bitset", offset));
+            }
+            pos = _start + (int) offset;
+        }
+    }
+
+    /**
+     * Bitset stream that can be positioned to decode any chunk, given its offset
+     * and the value of the last bit of the preceding chunk.
+     */
+    private final static class ChunkReader extends PresenceBitsetInputStream
+    {
+        private final SeekableInput _input;
+
+        ChunkReader(SeekableInput in) {
+            super(in);
+            _input = in;
+        }
+
+        void load(long offset, boolean prevBit) throws IOException
+        {
+            _input.seek(offset);
+            _ended = false;
+            _nextTag = -1;
+            _frameTag = -1;
+            _chunkPtr = _chunkEnd = 0;
+            _bitPtr = 0;
+            _consumedBytes = 0L;
+            _prevBit = prevBit;
+            if (!_loadChunk()) {
+                _reportCorrupt(String.format("no chunk at offset %d", offset));
+            }
+        }
+
+        byte[] chunk() {
+            return _chunk;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+/**
+ * Decoder for content encoded by {@link NibblerEncoder}. Can be used either to
+ * fully inflate a chunk (see {@link #decode}), or as a cursor that iterates over
+ * run and literal segments (see {@link #startChunk} and {@link #nextSegment}),
+ * in which case cost only depends on number of segments and literal bytes:
+ * all-zero and all-one runs are only reported, never expanded.
+ *<p>
+ * Note that since encoded content only indicates its own length, caller has to
+ * know decoded length of the chunk: this is {@link NibblerEncoder#MAX_CHUNK_SIZE}
+ * for all but the last chunk.
+ */
+public class NibblerDecoder
+{
+    /**
+     * Marker returned by {@link #nextSegment} when there are no more segments
+     */
+    public final static int SEGMENT_END = -1;
+
+    /**
+     * Segment type for a run of all-zero bytes
+     */
+    public final static int SEGMENT_ZEROES = 0;
+
+    /**
+     * Segment type for a run of all-one bytes
+     */
+    public final static int SEGMENT_ONES = 1;
+
+    /**
+     * Segment type for a sequence of literal bytes
+     */
+    public final static int SEGMENT_LITERAL = 2;
+
+    protected byte[] _input;
+
+    // Pointer to the next encoded byte to read
+    protected int _inputPtr;
+
+    // Pointer to point after the last encoded byte of current chunk
+    protected int _inputEnd;
+
+    /**
+     * Pointer to byte with unread length nibble in its LSB; 0 if none
+     * (header bytes precede all indicators, so 0 is never a valid position)
+     */
+    protected int _nibblePtr;
+
+    // Number of decoded bytes not yet covered by returned segments
+    protected int _decodedLeft;
+
+    // Whether the next segment is a run (true) or literals (false)
+    protected boolean _nextIsRun;
+
+    // Byte value for the next run segment, 0x0 or 0xFF
+    protected int _runByte;
+
+    // Whether we are at the first segment, which uses different length bias for runs
+    protected boolean _firstSegment;
+
+    // Information about the current segment
+
+    protected int _segmentType = SEGMENT_END;
+
+    protected int _segmentLength;
+
+    // Decoded offset (relative to the start of the chunk) of the current segment
+    protected int _segmentOffset;
+
+    // For literals, offset of the first physical literal byte in input
+    protected int _literalPtr;
+
+    /**
+     * For literals, number of leading literals that were moved after the
+     * rest, to make room for the length indicator.
+     */
+    protected int _literalShift;
+
+    public NibblerDecoder() { }
+
+    /*
+    /**********************************************************************
+    /* Public API, full decoding
+    /**********************************************************************
+     */
+
+    /**
+     * Method for fully decoding a chunk.
+     *
+     * @param input Buffer with encoded chunk
+     * @param inputPtr Offset of the chunk header in input
+     * @param output Buffer to decode contents to
+     * @param outputPtr Offset in output to decode contents to
+     * @param outputLen Length of decoded chunk
+     *
+     * @return Offset right after last encoded byte of the chunk
+     */
+    public int decode(byte[] input, int inputPtr,
+            byte[] output, int outputPtr, int outputLen)
+    {
+        if ((outputPtr < 0) || (outputPtr + outputLen) > output.length) {
+            throw new IllegalArgumentException("invalid outputPtr ("+outputPtr+") and/or outputLen ("
+                    +outputLen+"), for output buffer of size "+output.length);
+        }
+        startChunk(input, inputPtr, outputLen);
+        int type;
+        while ((type = nextSegment()) != SEGMENT_END) {
+            final int len = _segmentLength;
+            if (type == SEGMENT_LITERAL) {
+                _copyLiterals(output, outputPtr);
+            } else {
+                final byte b = (type == SEGMENT_ZEROES) ? 0 : (byte) 0xFF;
+                for (int end = outputPtr + len, ptr = outputPtr; ptr < end; ++ptr) {
+                    output[ptr] = b;
+                }
+            }
+            outputPtr += len;
+        }
+        return _inputEnd;
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API, segment iteration
+    /**********************************************************************
+     */
+
+    /**
+     * Method for starting iteration over segments of the encoded chunk.
+     *
+     * @param input Buffer with encoded chunk
+     * @param inputPtr Offset of the chunk header in input
+     * @param decodedLen Length of decoded chunk
+     *
+     * @return Offset right after last encoded byte of the chunk
+     */
+    public int startChunk(byte[] input, int inputPtr, int decodedLen)
+    {
+        if (decodedLen < 0 || decodedLen > NibblerEncoder.MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("invalid decodedLen ("+decodedLen
+                    +"), exceeds max chunk size of "+NibblerEncoder.MAX_CHUNK_SIZE);
+        }
+        final int header = input[inputPtr] & 0xFF;
+        final int encodedLen = ((header & 0x3F) << 8) + (input[inputPtr+1] & 0xFF);
+        _input = input;
+        _inputPtr = inputPtr+2;
+        _inputEnd = _inputPtr + encodedLen;
+        if (_inputEnd > input.length) {
+            throw new IllegalArgumentException("invalid encoded length ("+encodedLen+") at offset "
+                    +inputPtr+", for input buffer of size "+input.length);
+        }
+        _nibblePtr = 0;
+        _decodedLeft = decodedLen;
+        _firstSegment = true;
+        _segmentType = SEGMENT_END;
+        _segmentLength = 0;
+        _segmentOffset = 0;
+
+        switch (header & 0xC0) {
+        case 0x00:
+            _nextIsRun = true;
+            _runByte = 0x0;
+            break;
+        case 0x40:
+            _nextIsRun = true;
+            _runByte = 0xFF;
+            break;
+        default:
+            _nextIsRun = false;
+        }
+        return _inputEnd;
+    }
+
+    /**
+     * Method for advancing to the next segment of the chunk started with
+     * {@link #startChunk}.
+     *
+     * @return Type of the segment ({@link #SEGMENT_ZEROES}, {@link #SEGMENT_ONES}
+     *    or {@link #SEGMENT_LITERAL}); or {@link #SEGMENT_END} if no more segments
+     */
+    public int nextSegment()
+    {
+        _segmentOffset += _segmentLength;
+        if (_decodedLeft <= 0) {
+            _segmentLength = 0;
+            return (_segmentType = SEGMENT_END);
+        }
+        int len;
+        if (_nextIsRun) {
+            // first run has bias of 1, later runs 3 (since minimum run length is 3)
+            len = _readLength() + (_firstSegment ? 1 : 3);
+            _segmentType = (_runByte == 0) ? SEGMENT_ZEROES : SEGMENT_ONES;
+        } else {
+            final boolean hadNibble = (_nibblePtr != 0);
+            final int ptr = _inputPtr;
+            len = _readLength() + 1;
+            // Encoder may have moved 1 or 2 first literal bytes at the end of segment:
+            // we can determine this from how many new bytes the indicator needed
+            int used = _inputPtr - ptr;
+            _literalShift = hadNibble ? used : Math.max(0, used - 1);
+            _literalPtr = _inputPtr;
+            _inputPtr += len;
+            if (_inputPtr > _inputEnd) {
+                _reportCorrupt("literal segment of "+len+" bytes");
+            }
+            _runByte = ((_literalByte(len-1) & 0x1) == 0) ? 0x0 : 0xFF;
+            _segmentType = SEGMENT_LITERAL;
+        }
+        if (len > _decodedLeft) {
+            _reportCorrupt("segment of "+len+" bytes with only "+_decodedLeft+" left");
+        }
+        _nextIsRun = !_nextIsRun;
+        _firstSegment = false;
+        _decodedLeft -= len;
+        _segmentLength = len;
+        return _segmentType;
+    }
+
+    public int getSegmentType() { return _segmentType; }
+
+    public int getSegmentLength() { return _segmentLength; }
+
+    /**
+     * @return Offset of the current segment within decoded chunk
+     */
+    public int getSegmentOffset() { return _segmentOffset; }
+
+    /**
+     * Accessor for literal bytes of the current segment, which must be
+     * of type {@link #SEGMENT_LITERAL}.
+     *
+     * @param index Index of the literal within segment
+     */
+    public int getLiteralByte(int index) {
+        if (_segmentType != SEGMENT_LITERAL) {
+            throw new IllegalStateException("Current segment not literal but of type "+_segmentType);
+        }
+        return _literalByte(index);
+    }
+
+    /**
+     * Method for copying literal bytes of the current segment, which must be
+     * of type {@link #SEGMENT_LITERAL}, into given buffer.
+     *
+     * @return Offset after the last byte copied
+     */
+    public int copyLiterals(byte[] output, int outputPtr) {
+        if (_segmentType != SEGMENT_LITERAL) {
+            throw new IllegalStateException("Current segment not literal but of type "+_segmentType);
+        }
+        return _copyLiterals(output, outputPtr);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    protected int _copyLiterals(byte[] output, int outputPtr)
+    {
+        final int len = _segmentLength;
+        final int shift = _literalShift;
+        if (shift == 0) {
+            System.arraycopy(_input, _literalPtr, output, outputPtr, len);
+        } else {
+            System.arraycopy(_input, _literalPtr, output, outputPtr+shift, len-shift);
+            System.arraycopy(_input, _literalPtr+len-shift, output, outputPtr, shift);
+        }
+        return outputPtr + len;
+    }
+
+    protected final int _literalByte(int index)
+    {
+        final int shift = _literalShift;
+        if (shift != 0) {
+            index = (index < shift) ? (index + _segmentLength - shift) : (index - shift);
+        }
+        return _input[_literalPtr + index] & 0xFF;
+    }
+
+    /**
+     * Method for reading a length indicator, encoded using either 1, 2 or 4 nibbles
+     * (3, 6 or 14 bits), as written by encoder.
+     */
+    protected final int _readLength()
+    {
+        int n = _readNibble();
+        if ((n & 0x8) == 0) { // 3-bit
+            return n;
+        }
+        if ((n & 0x4) == 0) { // 6-bit
+            return (((n & 0x3) << 4) | _readNibble()) + 8;
+        }
+        n = ((n & 0x3) << 4) | _readNibble();
+        n = (n << 4) | _readNibble();
+        return (n << 4) | _readNibble();
+    }
+
+    protected final int _readNibble()
+    {
+        int ptr = _nibblePtr;
+        if (ptr != 0) {
+            _nibblePtr = 0;
+            return _input[ptr] & 0xF;
+        }
+        ptr = _inputPtr;
+        if (ptr >= _inputEnd) {
+            _reportCorrupt("length indicator");
+        }
+        _inputPtr = ptr+1;
+        _nibblePtr = ptr;
+        return (_input[ptr] >> 4) & 0xF;
+    }
+
+    protected void _reportCorrupt(String what)
+    {
+        throw new IllegalArgumentException("Invalid encoded content: unexpected "+what
+                +" at offset "+_inputPtr+" (chunk ends at "+_inputEnd+")");
+    }
+}
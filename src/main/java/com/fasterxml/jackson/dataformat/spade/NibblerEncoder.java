@@ -1,6 +1,9 @@
 package com.fasterxml.jackson.dataformat.spade;
 
 import java.io.FileInputStream;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.dataformat.spade.util.RunScanner;
 
 public class NibblerEncoder
 {
@@ -32,7 +35,40 @@ public class NibblerEncoder
      * LSB; 0 if, no such place available.
      */
     protected int _nibblePtr;
-    
+
+    /**
+     * Implementation used for finding runs and literal sequences
+     */
+    protected final RunScanner _scanner;
+
+    /**
+     * Buffers used when caller passes direct {@link ByteBuffer}s; lazily created.
+     */
+    protected byte[] _inputScratch, _outputScratch;
+
+    public NibblerEncoder() {
+        this(RunScanner.instance());
+    }
+
+    public NibblerEncoder(RunScanner scanner) {
+        _scanner = scanner;
+    }
+
+    /**
+     * Clears encoding state and drops references to caller-provided buffers
+     * (but keeps lazily allocated scratch buffers); called before instance
+     * is returned to a pool.
+     */
+    public void reset()
+    {
+        _input = null;
+        _output = null;
+        _inputEnd = 0;
+        _outputPtr = 0;
+        _matchByte = 0x0;
+        _nibblePtr = 0;
+    }
+
     /**
      * @return Offset right after last encoded byte
      */
@@ -57,7 +93,6 @@ public class NibblerEncoder
             // this point even one is enough to warrant write (no minimum)
             int repeats = _findRunLength(inputPtr, ch); // one less than full length
             marker = (ch == 0) ? 0x0 : 0x40;
-            _outputPtr = outputPtr;
             _writeRunLength(repeats);
             // also possible, if unlikely, that we are all done now
             inputPtr += repeats;
@@ -80,6 +115,64 @@ public class NibblerEncoder
         return outputPtr;
     }
 
+    /**
+     * Alternative to {@link #encode(byte[], int, int, byte[], int)} that encodes all
+     * remaining content of given input buffer (at most {@link #MAX_CHUNK_SIZE} bytes)
+     * into output buffer at its current position; positions of both buffers are
+     * advanced accordingly.
+     *<p>
+     * Content of heap buffers is accessed without copying. Since encoding is done
+     * byte by byte (unlike with {@link BitRatEncoder}), input from direct (and memory-mapped)
+     * buffers is first bulk-copied into a reusable internal buffer; similarly for output.
+     *
+     * @return Position of output buffer after encoding
+     */
+    public int encode(ByteBuffer input, ByteBuffer output)
+    {
+        final int inputPos = input.position();
+        final int inputLen = input.remaining();
+        final byte[] inBuf;
+        final int inStart;
+        if (input.hasArray()) {
+            inBuf = input.array();
+            inStart = input.arrayOffset() + inputPos;
+        } else {
+            if (_inputScratch == null) {
+                _inputScratch = new byte[MAX_CHUNK_SIZE];
+            }
+            inBuf = _inputScratch;
+            inStart = 0;
+            // validation would catch too-long content, but only after we tried to copy it
+            if (inputLen > MAX_CHUNK_SIZE) {
+                throw new IllegalArgumentException("invalid inputLen ("+inputLen
+                        +"), exceeds max chunk size of "+MAX_CHUNK_SIZE);
+            }
+            input.get(inBuf, 0, inputLen);
+        }
+        final byte[] outBuf;
+        final int outStart;
+        final boolean useScratch = !output.hasArray()
+                || (output.remaining() < (inputLen + MAX_OVERHEAD_BYTES));
+        if (useScratch) {
+            if (_outputScratch == null) {
+                _outputScratch = new byte[MAX_OUTPUT_BUFFER];
+            }
+            outBuf = _outputScratch;
+            outStart = 0;
+        } else {
+            outBuf = output.array();
+            outStart = output.arrayOffset() + output.position();
+        }
+        final int outputLen = encode(inBuf, inStart, inputLen, outBuf, outStart) - outStart;
+        if (useScratch) {
+            output.put(outBuf, 0, outputLen);
+        } else {
+            output.position(output.position() + outputLen);
+        }
+        input.position(inputPos + inputLen);
+        return output.position();
+    }
+
     /**
      * Second-level method, starts with a literal-run of length of at least 1 byte
      */
@@ -89,10 +182,10 @@ public class NibblerEncoder
         final int lastStart = _inputEnd - 3;
 
         // reserve room for one length byte iff no room for nibble.
-        int startOutputOffset = _outputPtr;
         if (_nibblePtr == 0) {
             ++_outputPtr;
         }
+        int startOutputOffset = _outputPtr;
         int count = 1;
         _output[_outputPtr++] = (byte) ch;
         int match = ((ch & 1) == 1) ? -1 : 0x0;
@@ -101,6 +194,18 @@ public class NibblerEncoder
             if (inputPtr > lastStart) {
                 return _encodeTailLiterals(inputPtr, ch, startOutputOffset, count);
             }
+            // bytes that are neither all-zero nor all-one can not start a run,
+            // so they can be located (and then copied) in bulk
+            int literalEnd = _scanner.findRunCandidate(_input, inputPtr, lastStart+1);
+            if (literalEnd > inputPtr) {
+                int len = literalEnd - inputPtr;
+                System.arraycopy(_input, inputPtr, _output, _outputPtr, len);
+                _outputPtr += len;
+                count += len;
+                inputPtr = literalEnd;
+                match = ((_input[literalEnd-1] & 1) == 1) ? -1 : 0x0;
+                continue;
+            }
             ch = _input[inputPtr++];
             // first, simple case; can't start a new run, so just copy
             if (ch != match) {
@@ -143,10 +248,10 @@ public class NibblerEncoder
                 return _outputPtr;
             }
             ch = _input[inputPtr++];
-            startOutputOffset = _outputPtr;
             if (_nibblePtr == 0) {
                 ++_outputPtr;
             }
+            startOutputOffset = _outputPtr;
             count = 1;
             _output[_outputPtr++] = (byte) ch;
             match = ((ch & 1) == 1) ? -1 : 0x0;
@@ -171,7 +276,8 @@ public class NibblerEncoder
      * length we will need to shuffle one of literal bytes.
      *
      * @param lengthInd Modified length indicator to use
-     * @param startOutputOffset Offset of the first copied literal
+     * @param startOutputOffset Offset of the first copied literal; if there was no
+     *    nibble slot available, one byte before it was reserved for length indicator
      */
     protected void _writeLiteralLength(int lengthInd, int startOutputOffset)
     {
@@ -192,7 +298,6 @@ public class NibblerEncoder
         }
         // 6-bit value into 8-bit, 2 nibble slots
         if (lengthInd <= 71) {
-            lengthInd -= 8;
             // prefix with marker
             lengthInd = (lengthInd - 8) | 0x80;
 
@@ -201,10 +306,11 @@ public class NibblerEncoder
             if (nptr != 0) {
                 int value = _output[nptr];
                 _output[nptr] = (byte) (value | (lengthInd >> 4));
-                // and produce another nibble slot...
-                nptr = startOutputOffset-1;
-                _output[nptr] = (byte) (lengthInd << 4);
-                _nibblePtr = nptr;
+                // and produce another nibble slot; but since no byte was reserved,
+                // need to move the first literal byte after the last one
+                _output[_outputPtr++] = _output[startOutputOffset];
+                _output[startOutputOffset] = (byte) (lengthInd << 4);
+                _nibblePtr = startOutputOffset;
             } else { // but if not, simpler, just append length indicator as is
                  nptr = startOutputOffset-1;
                 _output[nptr] = (byte) lengthInd;
@@ -218,21 +324,21 @@ public class NibblerEncoder
         }
         // note: we won't modify length indicator any further; this leaves values (0-71) as
         // indicators that should not be used
-        lengthInd = (lengthInd - 8) | 0xC0;
+        lengthInd |= 0xC000;
         // still, nibble-alignment needs to be followed
         int nptr = _nibblePtr;
         if (nptr != 0) {
             // got nibble; do nibble, full-byte, another nibble
             int value = _output[nptr];
             _output[nptr] = (byte) (value | (lengthInd >> 12));
-            // then the full byte
-            _output[startOutputOffset-1] = (byte) (lengthInd >> 4);
-            // and produce another nibble slot, but this one requires moving the
-            // first byte output to go after last otherwise written, and then using
-            // "free" slot for nibble
+            // but since no byte was reserved, this requires moving the first
+            // two bytes output to go after last otherwise written, and then using
+            // "free" slots for the full byte and nibble
             _output[_outputPtr++] = _output[startOutputOffset];
-            _output[startOutputOffset] = (byte) ((lengthInd & 0xF) << 4);
-            _nibblePtr = startOutputOffset;
+            _output[_outputPtr++] = _output[startOutputOffset+1];
+            _output[startOutputOffset] = (byte) (lengthInd >> 4);
+            _output[startOutputOffset+1] = (byte) ((lengthInd & 0xF) << 4);
+            _nibblePtr = startOutputOffset+1;
         } else { // no nibble. Can use pre-allocated one, but then need to do the shuffle
            _output[startOutputOffset-1] = (byte) (lengthInd >> 8);
            _output[_outputPtr++] = _output[startOutputOffset];
@@ -268,7 +374,6 @@ public class NibblerEncoder
         }
         // 6-bit value into 8-bit, 2 nibble slots
         if (lengthInd <= 71) {
-            lengthInd -= 8;
             // prefix with marker
             lengthInd = (lengthInd - 8) | 0x80;
 
@@ -296,7 +401,7 @@ public class NibblerEncoder
         }
         // note: we won't modify length indicator any further; this leaves values (0-71) as
         // indicators that should not be used
-        lengthInd = (lengthInd - 8) | 0xC0;
+        lengthInd |= 0xC000;
         // still, nibble-alignment needs to be followed
         int nptr = _nibblePtr;
         if (nptr != 0) {
@@ -320,15 +425,7 @@ public class NibblerEncoder
 
     protected int _findRunLength(int ptr, int ch)
     {
-        final int start = ptr;
-
-        for (final int end = _inputEnd; ptr < end; ) {
-            if (_input[ptr] != ch) {
-                break;
-            }
-            ++ptr;
-        }
-        return (ptr - start);
+        return _scanner.runLength(_input, ptr, _inputEnd, ch);
     }
 
     protected void _validate(byte[] input, int inputPtr, int inputLen,
@@ -0,0 +1,267 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.dataformat.spade.util.BitUnpacker;
+import com.fasterxml.jackson.dataformat.spade.util.ByteBuilder;
+
+/**
+ * Codec for blocks of up to {@link #BLOCK_SIZE} integer values, used for
+ * {@link SpadeConstants#COLUMN_ENCODING_INTEGERS}. Each block is encoded
+ * either as frame-of-reference (offsets from minimum value), or as deltas
+ * between consecutive values (as offsets from minimum delta), whichever is
+ * estimated to be more compact, and offsets are bit-packed at minimum
+ * width. Block format:
+ *<ul>
+ * <li>Method (1 byte): {@link #METHOD_FOR} or {@link #METHOD_DELTA}</li>
+ * <li>Bit width of packed offsets (1 byte; 0 - 64)</li>
+ * <li>For {@link #METHOD_FOR}: minimum value (zigzag VLong), followed by
+ *   offsets of all values from it</li>
+ * <li>For {@link #METHOD_DELTA}: first value (zigzag VLong), minimum delta
+ *   (zigzag VLong), followed by offsets of deltas of the remaining values
+ *   from it</li>
+ *</ul>
+ * Offsets are packed MSB-first, with last byte padded with zero bits.
+ * Arithmetic wraps around, so the full range of <code>long</code> values is
+ * supported.
+ *<p>
+ * Instances are not thread-safe since they contain scratch buffers.
+ */
+final class PackedIntegerCodec
+{
+    public final static int BLOCK_SIZE = 128;
+
+    public final static int METHOD_FOR = 0;
+    public final static int METHOD_DELTA = 1;
+
+    // Packed bits as 64-bit words, with an extra word for branch-free packing
+    private final long[] _words = new long[BLOCK_SIZE + 1];
+
+    private final long[] _offsets = new long[BLOCK_SIZE];
+
+    private ByteBuffer _inputWords;
+
+    /*
+    /**********************************************************************
+    /* Encoding
+    /**********************************************************************
+     */
+
+    public void encodeBlock(long[] values, int count, ByteBuilder out)
+    {
+        if (count < 1 || count > BLOCK_SIZE) {
+            throw new IllegalArgumentException(String.format("Invalid block size %d", count));
+        }
+        long min = values[0], max = min;
+        long minDelta = 0L, maxDelta = 0L;
+        long prev = min;
+        for (int i = 1; i < count; ++i) {
+            final long v = values[i];
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+            final long delta = v - prev;
+            if (i == 1) {
+                minDelta = maxDelta = delta;
+            } else {
+                minDelta = Math.min(minDelta, delta);
+                maxDelta = Math.max(maxDelta, delta);
+            }
+            prev = v;
+        }
+        // differences are unsigned, so wrap-around is fine
+        final int forWidth = _bitWidth(max - min);
+        final int deltaWidth = _bitWidth(maxDelta - minDelta);
+        final long forCost = (long) count * forWidth;
+        final long deltaCost = (long) (count - 1) * deltaWidth
+                + 8 * _vLongLength(_zigzag(minDelta));
+
+        if ((count > 1) && (deltaCost < forCost)) {
+            out.write(METHOD_DELTA);
+            out.write(deltaWidth);
+            out.appendZigzagVLong(values[0]);
+            out.appendZigzagVLong(minDelta);
+            for (int i = 1; i < count; ++i) {
+                _offsets[i-1] = (values[i] - values[i-1]) - minDelta;
+            }
+            _pack(count-1, deltaWidth, out);
+        } else {
+            out.write(METHOD_FOR);
+            out.write(forWidth);
+            out.appendZigzagVLong(min);
+            for (int i = 0; i < count; ++i) {
+                _offsets[i] = values[i] - min;
+            }
+            _pack(count, forWidth, out);
+        }
+    }
+
+    private void _pack(int count, int width, ByteBuilder out)
+    {
+        if (width == 0) {
+            return;
+        }
+        final long[] words = _words;
+        final long[] offsets = _offsets;
+        final int byteCount = (count * width + 7) >> 3;
+        final int wordCount = (byteCount + 7) >> 3;
+        for (int i = 0; i <= wordCount; ++i) {
+            words[i] = 0L;
+        }
+        final int align = 64 - width;
+        long bitPos = 0L;
+        for (int i = 0; i < count; ++i, bitPos += width) {
+            final int word = (int) (bitPos >>> 6);
+            final int shift = (int) (bitPos & 63);
+            final long top = offsets[i] << align;
+            words[word] |= top >>> shift;
+            // bits that do not fit; double shift to get 0 for shift of 0
+            words[word+1] |= (top << 1) << (63 - shift);
+        }
+        for (int i = 0; i < byteCount; ++i) {
+            out.write((int) (words[i >> 3] >>> (56 - ((i & 7) << 3))));
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Decoding
+    /**********************************************************************
+     */
+
+    /**
+     * Method for decoding a block of <code>count</code> values, starting at
+     * given offset of input buffer, into <code>values</code> starting at
+     * <code>valuesOffset</code>.
+     *
+     * @return Offset after the block
+     */
+    public int decodeBlock(byte[] input, int ptr, int end, long[] values, int valuesOffset,
+            int count)
+        throws IOException
+    {
+        if ((end - ptr) < 3) {
+            _reportEOF();
+        }
+        final int method = input[ptr++];
+        final int width = input[ptr++];
+        if ((method != METHOD_FOR && method != METHOD_DELTA) || width < 0 || width > 64) {
+            throw new IOException(String.format(
+                    "Invalid packed integer block: method %d, bit width %d", method, width));
+        }
+        long first = 0L;
+        int shift = 0;
+        int b;
+        do {
+            if (ptr >= end) {
+                _reportEOF();
+            }
+            b = input[ptr++];
+            first |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        first = _unzigzag(first);
+
+        if (method == METHOD_FOR) {
+            ptr = _unpack(input, ptr, end, count, width);
+            final long[] offsets = _offsets;
+            for (int i = 0; i < count; ++i) {
+                values[valuesOffset + i] = first + offsets[i];
+            }
+            return ptr;
+        }
+        long minDelta = 0L;
+        shift = 0;
+        do {
+            if (ptr >= end) {
+                _reportEOF();
+            }
+            b = input[ptr++];
+            minDelta |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        minDelta = _unzigzag(minDelta);
+        ptr = _unpack(input, ptr, end, count-1, width);
+        final long[] offsets = _offsets;
+        long v = first;
+        values[valuesOffset] = v;
+        for (int i = 1; i < count; ++i) {
+            v += minDelta + offsets[i-1];
+            values[valuesOffset + i] = v;
+        }
+        return ptr;
+    }
+
+    private int _unpack(byte[] input, int ptr, int end, int count, int width) throws IOException
+    {
+        final long[] offsets = _offsets;
+        if (width == 0) {
+            for (int i = 0; i < count; ++i) {
+                offsets[i] = 0L;
+            }
+            return ptr;
+        }
+        final int byteCount = (count * width + 7) >> 3;
+        if ((end - ptr) < byteCount) {
+            _reportEOF();
+        }
+        final long[] words = _words;
+        final int fullWords = byteCount >> 3;
+        final ByteBuffer inputWords = _inputWords(input);
+        for (int i = 0; i < fullWords; ++i, ptr += 8) {
+            words[i] = inputWords.getLong(ptr);
+        }
+        long last = 0L;
+        for (int i = fullWords << 3; i < byteCount; ++i) {
+            last |= (long) (input[ptr++] & 0xFF) << (56 - ((i & 7) << 3));
+        }
+        words[fullWords] = last;
+
+        // Values are unpacked in full groups, using unpacker specialized for the width:
+        // a partial last group just gets zero bits as padding
+        final int groups = (count + BitUnpacker.GROUP_SIZE - 1) / BitUnpacker.GROUP_SIZE;
+        for (int i = fullWords + 1, wordCount = groups * width; i < wordCount; ++i) {
+            words[i] = 0L;
+        }
+        for (int i = 0; i < groups; ++i) {
+            BitUnpacker.unpack(width, words, i * width, offsets, i * BitUnpacker.GROUP_SIZE);
+        }
+        return ptr;
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper methods
+    /**********************************************************************
+     */
+
+    // Big-endian wrapper for reading input 8 bytes at a time, (re)created if input array changes
+    private ByteBuffer _inputWords(byte[] input)
+    {
+        ByteBuffer words = _inputWords;
+        if ((words == null) || (words.array() != input)) {
+            _inputWords = words = ByteBuffer.wrap(input);
+        }
+        return words;
+    }
+
+    private static int _bitWidth(long unsignedRange) {
+        return 64 - Long.numberOfLeadingZeros(unsignedRange);
+    }
+
+    private static int _vLongLength(long value) {
+        return 1 + ((63 - Long.numberOfLeadingZeros(value | 1L)) / 7);
+    }
+
+    private static long _zigzag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+    private static long _unzigzag(long v) {
+        return (v >>> 1) ^ -(v & 1L);
+    }
+
+    private static void _reportEOF() throws IOException {
+        throw new IOException("Unexpected end of content for packed integer block");
+    }
+}
@@ -0,0 +1,214 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import static com.fasterxml.jackson.dataformat.spade.PresenceBitsetOutputStream.*;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Encoder for large presence bitsets that splits input into segments of
+ * multiple chunks, encodes segments concurrently using given {@link ExecutorService}
+ * (by default, {@link ForkJoinPool#commonPool()}), and concatenates results in order.
+ * Output is byte-for-byte identical to that produced by writing the same content
+ * using {@link PresenceBitsetOutputStream}.
+ *<p>
+ * Parallelization is possible since chunks only depend on preceding content via
+ * the value of the last bit of the previous chunk, which can be determined
+ * up front from the input.
+ *<p>
+ * Instances are thread-safe and may be shared.
+ */
+public class ParallelPresenceEncoder
+{
+    /**
+     * Default number of chunks encoded by a single task: 256 kB of input,
+     * enough to amortize task overhead.
+     */
+    public final static int DEFAULT_CHUNKS_PER_TASK = 64;
+
+    protected final int _codec;
+
+    protected final ExecutorService _executor;
+
+    protected final int _chunksPerTask;
+
+    public ParallelPresenceEncoder(int codec) {
+        this(codec, ForkJoinPool.commonPool(), DEFAULT_CHUNKS_PER_TASK);
+    }
+
+    /**
+     * @param codec Codec to use: {@link PresenceBitsetOutputStream#TAG_BITRAT},
+     *    {@link PresenceBitsetOutputStream#TAG_NIBBLER} or
+     *    {@link PresenceBitsetOutputStream#CODEC_ADAPTIVE}
+     * @param executor Executor to use for encoding tasks
+     * @param chunksPerTask Number of chunks each task encodes
+     */
+    public ParallelPresenceEncoder(int codec, ExecutorService executor, int chunksPerTask)
+    {
+        // constructed just to validate codec
+        new PresenceChunkEncoder(codec);
+        if (chunksPerTask < 1) {
+            throw new IllegalArgumentException(String.format("Invalid chunksPerTask %d", chunksPerTask));
+        }
+        _codec = codec;
+        _executor = executor;
+        _chunksPerTask = chunksPerTask;
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * Method for encoding given bitset content, including end marker.
+     *
+     * @return Encoded bitset
+     */
+    public byte[] encode(byte[] input, int inputPtr, int inputLen) throws IOException
+    {
+        List<Future<Segment>> segments = _submit(input, inputPtr, inputLen);
+        Segment[] results = new Segment[segments.size()];
+        int total = 2; // for end marker
+        for (int i = 0; i < results.length; ++i) {
+            results[i] = _await(segments, i);
+            total += results[i].length;
+        }
+        final byte[] output = new byte[total];
+        int ptr = 0;
+        for (Segment segment : results) {
+            System.arraycopy(segment.buffer, 0, output, ptr, segment.length);
+            ptr += segment.length;
+        }
+        PresenceChunkEncoder.encodeEnd(0, output, ptr);
+        return output;
+    }
+
+    /**
+     * Method for encoding given bitset content, including end marker, and
+     * writing it to given stream: segments are written in order as soon as they
+     * are complete.
+     */
+    public void encode(byte[] input, int inputPtr, int inputLen, OutputStream out) throws IOException
+    {
+        List<Future<Segment>> segments = _submit(input, inputPtr, inputLen);
+        for (int i = 0, end = segments.size(); i < end; ++i) {
+            Segment segment = _await(segments, i);
+            out.write(segment.buffer, 0, segment.length);
+        }
+        byte[] endMarker = new byte[2];
+        PresenceChunkEncoder.encodeEnd(0, endMarker, 0);
+        out.write(endMarker);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    protected List<Future<Segment>> _submit(byte[] input, int inputPtr, int inputLen)
+    {
+        if ((inputPtr < 0) || (inputLen < 0) || (inputPtr + inputLen) > input.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid inputPtr (%d) and/or inputLen (%d), for input buffer of size %d",
+                    inputPtr, inputLen, input.length));
+        }
+        final int segmentSize = _chunksPerTask * CHUNK_SIZE;
+        final int inputEnd = inputPtr + inputLen;
+        List<Future<Segment>> segments = new ArrayList<>();
+        // no point in handing off a single segment
+        if (inputLen <= segmentSize) {
+            Segment segment = new Segment(_codec, input, inputPtr, inputEnd, false);
+            segments.add(CompletableFuture.completedFuture(segment.call()));
+            return segments;
+        }
+        for (int ptr = inputPtr; ptr < inputEnd; ptr += segmentSize) {
+            // only dependency between chunks: last bit of the preceding one
+            final boolean prevBit = (ptr > inputPtr) && ((input[ptr-1] & 0x1) != 0);
+            segments.add(_executor.submit(new Segment(_codec, input, ptr,
+                    Math.min(inputEnd, ptr + segmentSize), prevBit)));
+        }
+        return segments;
+    }
+
+    protected Segment _await(List<Future<Segment>> segments, int index) throws IOException
+    {
+        try {
+            return segments.get(index).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (Future<?> f : segments) {
+                f.cancel(true);
+            }
+            throw new InterruptedIOException("Interrupted while waiting for encoding tasks");
+        } catch (ExecutionException e) {
+            for (Future<?> f : segments) {
+                f.cancel(true);
+            }
+            Throwable t = e.getCause();
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            }
+            if (t instanceof Error) {
+                throw (Error) t;
+            }
+            throw new IOException(t);
+        }
+    }
+
+    /**
+     * Task for encoding a sequence of chunks into a buffer of its own.
+     */
+    protected static class Segment implements Callable<Segment>
+    {
+        protected final int _codec;
+        protected final byte[] _input;
+        protected final int _inputPtr, _inputEnd;
+        protected final boolean _prevBit;
+
+        byte[] buffer;
+        int length;
+
+        public Segment(int codec, byte[] input, int inputPtr, int inputEnd, boolean prevBit) {
+            _codec = codec;
+            _input = input;
+            _inputPtr = inputPtr;
+            _inputEnd = inputEnd;
+            _prevBit = prevBit;
+        }
+
+        @Override
+        public Segment call()
+        {
+            final PresenceChunkEncoder encoder = new PresenceChunkEncoder(_codec);
+            final EncoderContext ctx = EncoderContextPool.defaultPool().acquire();
+            // Worst-case size would be wasteful for typical (compressible) content;
+            // start with a guess and grow as needed
+            byte[] output = new byte[((_inputEnd - _inputPtr) >> 3) + MAX_FRAME_LENGTH];
+            int outputPtr = 0;
+            try {
+                boolean prevBit = _prevBit;
+                for (int ptr = _inputPtr; ptr < _inputEnd; ptr += CHUNK_SIZE) {
+                    if ((output.length - outputPtr) < MAX_FRAME_LENGTH) {
+                        output = Arrays.copyOf(output, output.length + (output.length >> 1) + MAX_FRAME_LENGTH);
+                    }
+                    final int len = Math.min(CHUNK_SIZE, _inputEnd - ptr);
+                    outputPtr = encoder.encodeChunk(ctx, prevBit, _input, ptr, len, output, outputPtr);
+                    prevBit = (_input[ptr+len-1] & 0x1) != 0;
+                }
+            } finally {
+                ctx.release();
+            }
+            buffer = output;
+            length = outputPtr;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,496 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import static com.fasterxml.jackson.dataformat.spade.PresenceBitsetOutputStream.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Stream for reading presence bitsets written using {@link PresenceBitsetOutputStream}:
+ * bits may be read one at a time ({@link #readBit}) or 8 at a time (as bytes,
+ * using {@link InputStream} methods). Content is decoded one chunk at a time,
+ * so memory usage is bounded regardless of number of rows.
+ *<p>
+ * Stream reads underlying content up to and including end marker, but not
+ * past it, so that other content may follow encoded bitset.
+ */
+public class PresenceBitsetInputStream extends InputStream
+{
+    protected final InputStream _in;
+
+    protected final ReadableByteChannel _channel;
+
+    // Decoders are lazily created, since stream usually only uses one codec
+    protected BitRatDecoder _bitrat;
+
+    protected NibblerDecoder _nibbler;
+
+    /**
+     * Buffer for decoded content of the current chunk
+     */
+    protected final byte[] _chunk = new byte[CHUNK_SIZE];
+
+    // Pointer to the byte in current chunk that contains the next bit to read
+    protected int _chunkPtr;
+
+    protected int _chunkEnd;
+
+    // Index of the next bit to read within current byte, starting from MSB
+    protected int _bitPtr;
+
+    // Number of bytes in chunks before the current one
+    protected long _consumedBytes;
+
+    // Value of the last bit of the previously decoded chunk
+    protected boolean _prevBit;
+
+    /**
+     * Tag of the next chunk, if already read; -1 if not
+     */
+    protected int _nextTag = -1;
+
+    /**
+     * Tag (without {@link PresenceBitsetOutputStream#TAG_PARTIAL}) of the current
+     * chunk, if its encoded content has been read but not yet decoded; -1 if none
+     */
+    protected int _frameTag = -1;
+
+    // BitRat chunk mask of the current chunk, if not yet decoded
+    protected int _frameMask;
+
+    // Length of encoded row list of the current chunk, if not yet decoded
+    protected int _frameDataLen;
+
+    /**
+     * Flag set when end marker has been read; if so, current chunk is
+     * the last one
+     */
+    protected boolean _ended;
+
+    // Number of padding bits in the last byte; only valid when `_ended`
+    protected int _padding;
+
+    protected final byte[] _inputBuffer = new byte[MAX_FRAME_LENGTH];
+
+    // Wrapper needed for reading from a channel; lazily created
+    protected ByteBuffer _inputWrapper;
+
+    /*
+    /**********************************************************************
+    /* Life-cycle
+    /**********************************************************************
+     */
+
+    public PresenceBitsetInputStream(InputStream in) {
+        this(in, null);
+    }
+
+    public PresenceBitsetInputStream(ReadableByteChannel channel) {
+        this(null, channel);
+    }
+
+    protected PresenceBitsetInputStream(InputStream in, ReadableByteChannel channel) {
+        _in = in;
+        _channel = channel;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        if (_in != null) {
+            _in.close();
+        } else {
+            _channel.close();
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API, reading
+    /**********************************************************************
+     */
+
+    /**
+     * @return Number of bits (rows) read so far
+     */
+    public long getBitPosition() {
+        return ((_consumedBytes + _chunkPtr) << 3) + _bitPtr;
+    }
+
+    /**
+     * @return Value of the next bit (0 or 1), or -1 if all bits have been read
+     */
+    public int readBit() throws IOException
+    {
+        if ((_chunkPtr == _chunkEnd) && !_loadChunk()) {
+            return -1;
+        }
+        if (_ended && (_chunkPtr == _chunkEnd-1) && (_bitPtr >= 8 - _padding)) {
+            return -1;
+        }
+        final int bit = (_chunk[_chunkPtr] >> (7 - _bitPtr)) & 0x1;
+        if (++_bitPtr == 8) {
+            _bitPtr = 0;
+            ++_chunkPtr;
+        }
+        return bit;
+    }
+
+    /**
+     * Method for reading next 8 bits, MSB first; if fewer remain, missing
+     * ones are returned as clear bits.
+     *
+     * @return Next 8 bits as unsigned byte value, or -1 if all bits have been read
+     */
+    @Override
+    public int read() throws IOException
+    {
+        if (_bitPtr != 0) { // unaligned, assemble bit by bit
+            int bit = readBit();
+            if (bit < 0) {
+                return -1;
+            }
+            int b = bit;
+            for (int i = 1; i < 8; ++i) {
+                b = (b << 1) | Math.max(0, readBit());
+            }
+            return b;
+        }
+        if ((_chunkPtr == _chunkEnd) && !_loadChunk()) {
+            return -1;
+        }
+        return _chunk[_chunkPtr++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int offset, int len) throws IOException
+    {
+        if (len == 0) {
+            return 0;
+        }
+        if (_bitPtr != 0) {
+            int count = 0;
+            int c;
+            while ((count < len) && ((c = read()) >= 0)) {
+                b[offset++] = (byte) c;
+                ++count;
+            }
+            return (count == 0) ? -1 : count;
+        }
+        if ((_chunkPtr == _chunkEnd) && !_loadChunk()) {
+            return -1;
+        }
+        final int count = Math.min(len, _chunkEnd - _chunkPtr);
+        System.arraycopy(_chunk, _chunkPtr, b, offset, count);
+        _chunkPtr += count;
+        return count;
+    }
+
+    /**
+     * @return Number of bytes available without decoding another chunk
+     */
+    @Override
+    public int available() {
+        return _chunkEnd - _chunkPtr;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, decoding
+    /**********************************************************************
+     */
+
+    /**
+     * Method called to decode the next chunk, if any.
+     *
+     * @return True if a chunk was decoded; false if end marker reached
+     */
+    protected boolean _loadChunk() throws IOException
+    {
+        if (!_readFrame()) {
+            return false;
+        }
+        _decodeFrame();
+        return true;
+    }
+
+    /**
+     * Method for reading encoded content of the next chunk (but not decoding it),
+     * as well as tag of the chunk that follows it, if any (to know whether this
+     * is the last chunk).
+     *
+     * @return True if a chunk was read; false if end marker reached
+     */
+    protected boolean _readFrame() throws IOException
+    {
+        if (_ended) {
+            return false;
+        }
+        int tag = _nextTag;
+        if (tag < 0) {
+            tag = _readByte();
+            if (tag == TAG_END) {
+                _readEnd();
+                return false;
+            }
+        }
+        _nextTag = -1;
+        int len = CHUNK_SIZE;
+        if ((tag & TAG_PARTIAL) != 0) {
+            _readFully(0, 2);
+            len = ((_inputBuffer[0] & 0xFF) << 8) | (_inputBuffer[1] & 0xFF);
+            if ((len == 0) || (len > CHUNK_SIZE)) {
+                _reportCorrupt(String.format("invalid partial chunk length %d", len));
+            }
+            tag &= ~TAG_PARTIAL;
+        }
+        final byte[] input = _inputBuffer;
+        switch (tag) {
+        case TAG_BITRAT:
+            {
+                _readFully(0, 3);
+                _frameMask = input[0] & 0xFF;
+                final int encodedLen = ((input[1] & 0xFF) << 8) | (input[2] & 0xFF);
+                if (encodedLen > BitRatEncoder.MAX_OUTPUT_BUFFER) {
+                    _reportCorrupt(String.format("invalid BitRat chunk length %d", encodedLen));
+                }
+                _readFully(0, encodedLen);
+            }
+            break;
+        case TAG_NIBBLER:
+            {
+                _readFully(0, 2);
+                final int encodedLen = ((input[0] & 0x3F) << 8) | (input[1] & 0xFF);
+                if (encodedLen > NibblerEncoder.MAX_OUTPUT_BUFFER) {
+                    _reportCorrupt(String.format("invalid Nibbler chunk length %d", encodedLen));
+                }
+                _readFully(2, encodedLen);
+            }
+            break;
+        case TAG_ALL_CLEAR:
+        case TAG_ALL_SET:
+            break;
+        case TAG_RAW:
+            _readFully(0, len);
+            break;
+        case TAG_ROW_LIST:
+            {
+                _readFully(0, 2);
+                final int encodedLen = ((input[0] & 0xFF) << 8) | (input[1] & 0xFF);
+                if (encodedLen > len) { // never longer than raw content
+                    _reportCorrupt(String.format("invalid row list chunk length %d", encodedLen));
+                }
+                _readFully(0, encodedLen);
+                _frameDataLen = encodedLen;
+            }
+            break;
+        default:
+            _reportCorrupt(String.format("unrecognized chunk tag 0x%02X", tag));
+        }
+        _frameTag = tag;
+        _consumedBytes += _chunkEnd;
+        _chunkPtr = 0;
+        _chunkEnd = len;
+        _bitPtr = 0;
+
+        // Need to know whether this is the last chunk, to know where bits end
+        tag = _readByte();
+        if (tag == TAG_END) {
+            _readEnd();
+        } else {
+            _nextTag = tag;
+        }
+        return true;
+    }
+
+    /**
+     * Method for decoding content of the chunk read using {@link #_readFrame},
+     * if not yet decoded.
+     */
+    protected void _decodeFrame() throws IOException
+    {
+        final int tag = _frameTag;
+        if (tag < 0) {
+            return;
+        }
+        _frameTag = -1;
+        final int len = _chunkEnd;
+        final byte[] input = _inputBuffer;
+        switch (tag) {
+        case TAG_BITRAT:
+            if (_bitrat == null) {
+                _bitrat = new BitRatDecoder();
+            }
+            _bitrat.decodePartialChunk(_prevBit, _frameMask, input, 0, _chunk, 0, len);
+            break;
+        case TAG_NIBBLER:
+            if (_nibbler == null) {
+                _nibbler = new NibblerDecoder();
+            }
+            _nibbler.decode(input, 0, _chunk, 0, len);
+            break;
+        case TAG_ALL_CLEAR:
+            Arrays.fill(_chunk, 0, len, (byte) 0);
+            break;
+        case TAG_ALL_SET:
+            Arrays.fill(_chunk, 0, len, (byte) 0xFF);
+            break;
+        case TAG_RAW:
+            System.arraycopy(input, 0, _chunk, 0, len);
+            break;
+        default: // row list
+            _decodeRowList(input, _frameDataLen, len);
+        }
+        _prevBit = (_chunk[len-1] & 0x1) != 0;
+        // padding bits may have been written as set; make sure they read as clear
+        if (_ended) {
+            _chunk[len-1] &= (byte) (0xFF << _padding);
+        }
+    }
+
+    /**
+     * Method for checking whether content of the chunk read using {@link #_readFrame}
+     * (but not yet decoded) is known to consist of only clear or only set bits,
+     * without decoding it.
+     *
+     * @return 0x00 if all bits are known to be clear; 0xFF if all set; -1 if not known
+     */
+    protected int _frameFill()
+    {
+        switch (_frameTag) {
+        case TAG_ALL_CLEAR:
+            return 0x00;
+        case TAG_ALL_SET:
+            // except for padding bits, which must read as clear
+            return (_ended && (_padding != 0)) ? -1 : 0xFF;
+        case TAG_BITRAT:
+            // no literals: all bits continue the last bit of the preceding chunk
+            if (_frameMask == 0) {
+                if (!_prevBit) {
+                    return 0x00;
+                }
+                return (_ended && (_padding != 0)) ? -1 : 0xFF;
+            }
+            return -1;
+        default:
+            return -1;
+        }
+    }
+
+    /**
+     * Method for skipping content of the chunk read using {@link #_readFrame}:
+     * content is only decoded if needed for decoding the following chunk.
+     */
+    protected void _skipFrame() throws IOException
+    {
+        final int fill = _frameFill();
+        if (fill >= 0) {
+            _prevBit = (fill != 0);
+        } else if ((_nextTag & ~TAG_PARTIAL) == TAG_BITRAT) {
+            _decodeFrame();
+        }
+        _frameTag = -1;
+        _chunkPtr = _chunkEnd;
+    }
+
+    /**
+     * Method for decoding (if not yet decoded) content of the chunk read using
+     * {@link #_readFrame} for caller to access directly, and marking it consumed.
+     *
+     * @return Buffer that contains decoded chunk (of length {@link #_chunkEnd});
+     *    caller may modify content
+     */
+    protected byte[] _consumeFrame() throws IOException
+    {
+        _decodeFrame();
+        _chunkPtr = _chunkEnd;
+        return _chunk;
+    }
+
+    private void _decodeRowList(byte[] input, int encodedLen, int len) throws IOException
+    {
+        Arrays.fill(_chunk, 0, len, (byte) 0);
+        final int maxIndex = len << 3;
+        int index = -1;
+        for (int ptr = 0; ptr < encodedLen; ) {
+            int value = 0;
+            int shift = 0;
+            int b;
+            do {
+                if ((ptr == encodedLen) || (shift > 14)) {
+                    _reportCorrupt("invalid row list entry");
+                }
+                b = input[ptr++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            index += value + 1;
+            if (index >= maxIndex) {
+                _reportCorrupt(String.format("invalid row list index %d (chunk of %d bits)",
+                        index, maxIndex));
+            }
+            _chunk[index >> 3] |= (byte) (0x80 >> (index & 7));
+        }
+    }
+
+    private void _readEnd() throws IOException
+    {
+        _padding = _readByte();
+        if (_padding > 7) {
+            _reportCorrupt(String.format("invalid padding bit count %d", _padding));
+        }
+        _ended = true;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, input
+    /**********************************************************************
+     */
+
+    private int _readByte() throws IOException
+    {
+        // use the last byte, not needed for chunk content, which may not yet be decoded
+        final int ptr = _inputBuffer.length - 1;
+        _readFully(ptr, 1);
+        return _inputBuffer[ptr] & 0xFF;
+    }
+
+    private void _readFully(int offset, int len) throws IOException
+    {
+        if (_in != null) {
+            while (len > 0) {
+                int count = _in.read(_inputBuffer, offset, len);
+                if (count < 0) {
+                    _reportEOF();
+                }
+                offset += count;
+                len -= count;
+            }
+            return;
+        }
+        ByteBuffer bb = _inputWrapper;
+        if (bb == null) {
+            _inputWrapper = bb = ByteBuffer.wrap(_inputBuffer);
+        }
+        bb.clear();
+        bb.position(offset);
+        bb.limit(offset + len);
+        while (bb.hasRemaining()) {
+            if (_channel.read(bb) < 0) {
+                _reportEOF();
+            }
+        }
+    }
+
+    protected void _reportEOF() throws IOException {
+        throw new IOException("Unexpected end-of-input in presence bitset: no end marker found");
+    }
+
+    protected void _reportCorrupt(String msg) throws IOException {
+        throw new IOException("Invalid presence bitset content: "+msg);
+    }
+}
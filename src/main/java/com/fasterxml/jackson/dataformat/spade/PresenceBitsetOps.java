@@ -0,0 +1,310 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.dataformat.spade.util.ByteBuilder;
+
+/**
+ * Boolean operations (AND, OR, AND-NOT) over encoded presence bitsets, producing
+ * encoded result; comparable to <code>and</code>, <code>or</code> and
+ * <code>andNot</code> of <code>RoaringBitmap</code>.
+ *<p>
+ * Operands are processed a chunk at a time, without inflating whole bitsets.
+ * Chunks known to consist of only clear or set bits (all-clear and all-set chunks,
+ * as well as BitRat chunks without literals) are handled without decoding:
+ * for example, when one operand of AND has an all-clear chunk, the corresponding
+ * chunk of the other operand is skipped, and when it has an all-set chunk, the
+ * other chunk is copied as is. Only chunks with mixed content in both operands
+ * are decoded and combined, 8 bytes at a time.
+ *<p>
+ * Operands may have different number of bits: missing bits of the shorter one
+ * are considered clear, and result has as many bits as the longer one.
+ */
+public final class PresenceBitsetOps
+{
+    private final static int OP_AND = 1;
+    private final static int OP_OR = 2;
+    private final static int OP_AND_NOT = 3;
+
+    // Results of combining chunks, if not computed bit by bit
+    private final static int RESULT_COMPUTE = 0;
+    private final static int RESULT_CLEAR = 1;
+    private final static int RESULT_SET = 2;
+    private final static int RESULT_COPY_A = 3;
+    private final static int RESULT_COPY_B = 4;
+    private final static int RESULT_NOT_B = 5;
+
+    private PresenceBitsetOps() { }
+
+    /*
+    /**********************************************************************
+    /* Public API, encoded bitsets
+    /**********************************************************************
+     */
+
+    /**
+     * @return Encoded bitset (using {@link PresenceBitsetOutputStream#CODEC_ADAPTIVE})
+     *    with bits set in both <code>a</code> and <code>b</code>
+     */
+    public static byte[] and(byte[] a, byte[] b) throws IOException {
+        return _combine(OP_AND, a, b);
+    }
+
+    /**
+     * @return Encoded bitset (using {@link PresenceBitsetOutputStream#CODEC_ADAPTIVE})
+     *    with bits set in either <code>a</code> or <code>b</code>
+     */
+    public static byte[] or(byte[] a, byte[] b) throws IOException {
+        return _combine(OP_OR, a, b);
+    }
+
+    /**
+     * @return Encoded bitset (using {@link PresenceBitsetOutputStream#CODEC_ADAPTIVE})
+     *    with bits set in <code>a</code> but not in <code>b</code>
+     */
+    public static byte[] andNot(byte[] a, byte[] b) throws IOException {
+        return _combine(OP_AND_NOT, a, b);
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API, streams
+    /**********************************************************************
+     */
+
+    /**
+     * Method for writing bits set in both <code>a</code> and <code>b</code> into
+     * <code>out</code>, and finishing it (but not closing).
+     * Input streams must not have been read from, and output stream must not have
+     * been written to; input streams are read up to their end markers.
+     */
+    public static void and(PresenceBitsetInputStream a, PresenceBitsetInputStream b,
+            PresenceBitsetOutputStream out) throws IOException {
+        _combine(OP_AND, a, b, out);
+    }
+
+    /**
+     * Method for writing bits set in either <code>a</code> or <code>b</code> into
+     * <code>out</code>; see {@link #and(PresenceBitsetInputStream,PresenceBitsetInputStream,PresenceBitsetOutputStream)}
+     * for details.
+     */
+    public static void or(PresenceBitsetInputStream a, PresenceBitsetInputStream b,
+            PresenceBitsetOutputStream out) throws IOException {
+        _combine(OP_OR, a, b, out);
+    }
+
+    /**
+     * Method for writing bits set in <code>a</code> but not in <code>b</code> into
+     * <code>out</code>; see {@link #and(PresenceBitsetInputStream,PresenceBitsetInputStream,PresenceBitsetOutputStream)}
+     * for details.
+     */
+    public static void andNot(PresenceBitsetInputStream a, PresenceBitsetInputStream b,
+            PresenceBitsetOutputStream out) throws IOException {
+        _combine(OP_AND_NOT, a, b, out);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private static byte[] _combine(int op, byte[] a, byte[] b) throws IOException
+    {
+        ByteBuilder result = new ByteBuilder(Math.max(a.length, b.length));
+        _combine(op, new PresenceBitsetInputStream(new ByteArrayInputStream(a)),
+                new PresenceBitsetInputStream(new ByteArrayInputStream(b)),
+                new PresenceBitsetOutputStream(result, PresenceBitsetOutputStream.CODEC_ADAPTIVE));
+        return result.toByteArray();
+    }
+
+    private static void _combine(int op, PresenceBitsetInputStream a, PresenceBitsetInputStream b,
+            PresenceBitsetOutputStream out) throws IOException
+    {
+        if ((a.getBitPosition() != 0L) || (b.getBitPosition() != 0L)) {
+            throw new IllegalArgumentException("Input streams must not have been read from");
+        }
+        if (out.getBitCount() != 0L) {
+            throw new IllegalArgumentException("Output stream must not have been written to");
+        }
+        // Chunk buffers of streams never change, so wrappers may be created up front
+        final ByteBuffer wordsA = ByteBuffer.wrap(a._chunk);
+        final ByteBuffer wordsB = ByteBuffer.wrap(b._chunk);
+
+        while (true) {
+            final boolean hasA = a._readFrame();
+            final boolean hasB = b._readFrame();
+            if (!hasA && !hasB) {
+                break;
+            }
+            final int lenA = hasA ? a._chunkEnd : 0;
+            final int lenB = hasB ? b._chunkEnd : 0;
+            final int len = Math.max(lenA, lenB);
+            // partial chunk of the shorter operand can not be uniform over whole length
+            final int fillA = (lenA == len) ? a._frameFill() : ((lenA == 0) ? 0x00 : -1);
+            final int fillB = (lenB == len) ? b._frameFill() : ((lenB == 0) ? 0x00 : -1);
+
+            // If this is the last chunk, need to leave out padding bits
+            int bits = len << 3;
+            if (a._ended && b._ended) {
+                int padding;
+                if (lenA == lenB) {
+                    padding = Math.min(a._padding, b._padding);
+                } else {
+                    padding = (lenA > lenB) ? a._padding : b._padding;
+                }
+                bits -= padding;
+            }
+
+            final int result = _result(op, fillA, fillB);
+            if ((result != RESULT_COPY_A) && (result != RESULT_COMPUTE) && hasA) {
+                a._skipFrame();
+            }
+            if ((result == RESULT_CLEAR || result == RESULT_SET || result == RESULT_COPY_A) && hasB) {
+                b._skipFrame();
+            }
+            switch (result) {
+            case RESULT_CLEAR:
+                out.appendRun(bits, false);
+                break;
+            case RESULT_SET:
+                out.appendRun(bits, true);
+                break;
+            case RESULT_COPY_A:
+                _write(out, _content(a, lenA, len), bits);
+                break;
+            case RESULT_COPY_B:
+                _write(out, _content(b, lenB, len), bits);
+                break;
+            case RESULT_NOT_B:
+                {
+                    final byte[] chunk = _content(b, lenB, len);
+                    _invert(wordsB, len);
+                    _write(out, chunk, bits);
+                }
+                break;
+            default:
+                {
+                    final byte[] chunk = _content(a, lenA, len);
+                    _content(b, lenB, len);
+                    _compute(op, wordsA, wordsB, len);
+                    _write(out, chunk, bits);
+                }
+            }
+        }
+        out.finish();
+    }
+
+    /**
+     * Method for determining how result chunk can be produced, given what is
+     * known about operand chunks without decoding them.
+     *
+     * @param fillA 0x00 if chunk of first operand is all clear, 0xFF if all set; -1 if not known
+     * @param fillB Same for second operand
+     */
+    private static int _result(int op, int fillA, int fillB)
+    {
+        switch (op) {
+        case OP_AND:
+            if (fillA == 0x00 || fillB == 0x00) {
+                return RESULT_CLEAR;
+            }
+            if (fillA == 0xFF) {
+                return (fillB == 0xFF) ? RESULT_SET : RESULT_COPY_B;
+            }
+            return (fillB == 0xFF) ? RESULT_COPY_A : RESULT_COMPUTE;
+        case OP_OR:
+            if (fillA == 0xFF || fillB == 0xFF) {
+                return RESULT_SET;
+            }
+            if (fillA == 0x00) {
+                return (fillB == 0x00) ? RESULT_CLEAR : RESULT_COPY_B;
+            }
+            return (fillB == 0x00) ? RESULT_COPY_A : RESULT_COMPUTE;
+        default: // AND-NOT
+            if (fillA == 0x00 || fillB == 0xFF) {
+                return RESULT_CLEAR;
+            }
+            if (fillB == 0x00) {
+                return (fillA == 0xFF) ? RESULT_SET : RESULT_COPY_A;
+            }
+            return (fillA == 0xFF) ? RESULT_NOT_B : RESULT_COMPUTE;
+        }
+    }
+
+    /**
+     * @return Decoded chunk of given stream, with bits past its end (if shorter
+     *    than <code>len</code>) cleared
+     */
+    private static byte[] _content(PresenceBitsetInputStream in, int inLen, int len)
+        throws IOException
+    {
+        final byte[] chunk = (inLen == 0) ? in._chunk : in._consumeFrame();
+        for (int i = inLen; i < len; ++i) {
+            chunk[i] = 0;
+        }
+        return chunk;
+    }
+
+    private static void _compute(int op, ByteBuffer a, ByteBuffer b, int len)
+    {
+        final int wordEnd = len & ~7;
+        int i = 0;
+        switch (op) {
+        case OP_AND:
+            for (; i < wordEnd; i += 8) {
+                a.putLong(i, a.getLong(i) & b.getLong(i));
+            }
+            for (; i < len; ++i) {
+                a.put(i, (byte) (a.get(i) & b.get(i)));
+            }
+            break;
+        case OP_OR:
+            for (; i < wordEnd; i += 8) {
+                a.putLong(i, a.getLong(i) | b.getLong(i));
+            }
+            for (; i < len; ++i) {
+                a.put(i, (byte) (a.get(i) | b.get(i)));
+            }
+            break;
+        default:
+            for (; i < wordEnd; i += 8) {
+                a.putLong(i, a.getLong(i) & ~b.getLong(i));
+            }
+            for (; i < len; ++i) {
+                a.put(i, (byte) (a.get(i) & ~b.get(i)));
+            }
+        }
+    }
+
+    private static void _invert(ByteBuffer b, int len)
+    {
+        final int wordEnd = len & ~7;
+        int i = 0;
+        for (; i < wordEnd; i += 8) {
+            b.putLong(i, ~b.getLong(i));
+        }
+        for (; i < len; ++i) {
+            b.put(i, (byte) ~b.get(i));
+        }
+    }
+
+    /**
+     * Method for writing given number of bits (from the start of given buffer)
+     */
+    private static void _write(PresenceBitsetOutputStream out, byte[] chunk, int bits)
+        throws IOException
+    {
+        final int fullBytes = bits >> 3;
+        out.write(chunk, 0, fullBytes);
+        final int partialBits = bits & 7;
+        if (partialBits != 0) {
+            final int b = chunk[fullBytes];
+            for (int i = 0; i < partialBits; ++i) {
+                out.appendBit((b & (0x80 >> i)) != 0);
+            }
+        }
+    }
+}
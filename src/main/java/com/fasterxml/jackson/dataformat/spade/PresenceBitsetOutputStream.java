@@ -0,0 +1,586 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Stream for writing presence bitsets of arbitrary length: bits (one per row)
+ * may be appended one at a time ({@link #appendBit}, {@link #setBit},
+ * {@link #appendSetBit}), as runs ({@link #appendRun}) or 8 at a time (as bytes,
+ * using {@link OutputStream} methods).
+ * Content is encoded one chunk of {@link #CHUNK_SIZE} bytes at a time, as soon as
+ * chunk fills up, so memory usage is bounded regardless of number of rows.
+ *<p>
+ * Bits are ordered most-significant-bit first, so that row <code>n</code> is
+ * bit <code>0x80 &gt;&gt; (n &amp; 7)</code> of byte <code>n &gt;&gt; 3</code>;
+ * this is the ordering codecs use for continuing runs across chunks.
+ *<p>
+ * Encoded stream consists of chunks, each starting with a tag byte that indicates
+ * codec used (see {@link PresenceCodec}). All but the last chunk
+ * are full; last one may be partial, indicated by {@link #TAG_PARTIAL} bit in tag,
+ * followed by 2-byte length of decoded content. Codec-specific framing follows:
+ *<ul>
+ * <li>{@link #TAG_BITRAT}: chunk mask and 2-byte length of encoded content
+ *  </li>
+ * <li>{@link #TAG_NIBBLER}: none; Nibbler content has its own header
+ *  </li>
+ * <li>{@link #TAG_ALL_CLEAR}, {@link #TAG_ALL_SET}: no payload at all
+ *  </li>
+ * <li>{@link #TAG_RAW}: chunk content as is
+ *  </li>
+ * <li>{@link #TAG_ROW_LIST}: 2-byte length of encoded content, followed by
+ *   indexes of set bits within chunk as VInts (7 bits per byte, least-significant
+ *   first, high bit set for all but the last byte): first index as is, following
+ *   ones as difference to previous index, minus one
+ *  </li>
+ *</ul>
+ * Stream ends with {@link #TAG_END}, followed by a byte that
+ * indicates number of padding bits (0 - 7) in the last byte.
+ * Writers may use a single codec for all chunks, or choose one for each
+ * chunk ({@link #CODEC_ADAPTIVE}).
+ * Content can be read using {@link PresenceBitsetInputStream}.
+ *<p>
+ * Encoders and output buffers are only needed while a chunk is being encoded,
+ * so they are borrowed from an {@link EncoderContextPool} for each chunk, instead
+ * of being allocated per stream. Streams may also be reused (for the same target)
+ * by calling {@link #reset}.
+ */
+public class PresenceBitsetOutputStream extends OutputStream
+{
+    /**
+     * Size of chunks (in bytes of uncompressed bitset) used for encoding: same for
+     * both codecs, to allow mixing.
+     */
+    public final static int CHUNK_SIZE = BitRatEncoder.FULL_CHUNK_SIZE;
+
+    public final static int TAG_END = 0x00;
+
+    public final static int TAG_BITRAT = 0x01;
+
+    public final static int TAG_NIBBLER = 0x02;
+
+    public final static int TAG_ALL_CLEAR = 0x03;
+
+    public final static int TAG_ALL_SET = 0x04;
+
+    public final static int TAG_RAW = 0x05;
+
+    public final static int TAG_ROW_LIST = 0x06;
+
+    /**
+     * Pseudo-codec that may be passed to writers instead of a tag, to have
+     * {@link PresenceCodecSelector} choose codec separately for each chunk.
+     * Never written in encoded content.
+     */
+    public final static int CODEC_ADAPTIVE = 0xFF;
+
+    /**
+     * Bit set in chunk tag to indicate partial (last) chunk
+     */
+    public final static int TAG_PARTIAL = 0x80;
+
+    /**
+     * Maximum length of a single framed chunk
+     */
+    final static int MAX_FRAME_LENGTH = 1 + 2 + 3
+            + Math.max(BitRatEncoder.MAX_OUTPUT_BUFFER, NibblerEncoder.MAX_OUTPUT_BUFFER);
+
+    protected final OutputStream _out;
+
+    protected final WritableByteChannel _channel;
+
+    protected final PresenceChunkEncoder _encoder;
+
+    protected final EncoderContextPool _pool;
+
+    /**
+     * Buffer for raw content of the current chunk
+     */
+    protected final byte[] _chunk = new byte[CHUNK_SIZE];
+
+    // Pointer to point after last full byte in current chunk
+    protected int _chunkPtr;
+
+    // Bits appended after the last full byte in current chunk, starting with MSB:
+    // accumulated a word at a time, to only need a branch per 64 bits
+    protected long _currWord;
+
+    // Number of bits in the incomplete word (0 - 63)
+    protected int _currBits;
+
+    // Number of bytes in chunks already encoded
+    protected long _flushedBytes;
+
+    // Value of the last bit of the previously encoded chunk
+    protected boolean _prevBit;
+
+    protected boolean _finished;
+
+    /**
+     * Builder for rank index, if one is to be built
+     */
+    protected PresenceRankIndex.Builder _rankIndexBuilder;
+
+    protected PresenceRankIndex _rankIndex;
+
+    /*
+    /**********************************************************************
+    /* Life-cycle
+    /**********************************************************************
+     */
+
+    public PresenceBitsetOutputStream(OutputStream out) {
+        this(out, TAG_BITRAT);
+    }
+
+    /**
+     * @param codec Codec to use: {@link #TAG_BITRAT}, {@link #TAG_NIBBLER} or {@link #CODEC_ADAPTIVE}
+     */
+    public PresenceBitsetOutputStream(OutputStream out, int codec) {
+        this(out, null, codec, EncoderContextPool.defaultPool());
+    }
+
+    /**
+     * @param codec Codec to use: {@link #TAG_BITRAT}, {@link #TAG_NIBBLER} or {@link #CODEC_ADAPTIVE}
+     * @param pool Pool from which encoders and buffers are borrowed
+     */
+    public PresenceBitsetOutputStream(OutputStream out, int codec, EncoderContextPool pool) {
+        this(out, null, codec, pool);
+    }
+
+    /**
+     * @param codec Codec to use: {@link #TAG_BITRAT}, {@link #TAG_NIBBLER} or {@link #CODEC_ADAPTIVE}
+     */
+    public PresenceBitsetOutputStream(WritableByteChannel channel, int codec) {
+        this(null, channel, codec, EncoderContextPool.defaultPool());
+    }
+
+    protected PresenceBitsetOutputStream(OutputStream out, WritableByteChannel channel, int codec,
+            EncoderContextPool pool)
+    {
+        _encoder = new PresenceChunkEncoder(codec);
+        _pool = pool;
+        _out = out;
+        _channel = channel;
+    }
+
+    /**
+     * Method for resetting stream to start writing a new bitset into the
+     * same target; any content not yet finished is discarded.
+     */
+    public void reset()
+    {
+        _chunkPtr = 0;
+        _currWord = 0L;
+        _currBits = 0;
+        _flushedBytes = 0L;
+        _prevBit = false;
+        _finished = false;
+        _rankIndex = null;
+        if (_rankIndexBuilder != null) {
+            _rankIndexBuilder = new PresenceRankIndex.Builder();
+        }
+    }
+
+    /**
+     * Method for enabling building of {@link PresenceRankIndex} for the bitset,
+     * available using {@link #getRankIndex} once stream is finished. Must be
+     * called before appending any bits; remains enabled over {@link #reset}.
+     *
+     * @return This stream, for call chaining
+     */
+    public PresenceBitsetOutputStream enableRankIndex()
+    {
+        if (getBitCount() > 0L || _finished) {
+            throw new IllegalStateException("Can not enable rank index: bits already appended");
+        }
+        if (_rankIndexBuilder == null) {
+            _rankIndexBuilder = new PresenceRankIndex.Builder();
+        }
+        return this;
+    }
+
+    /**
+     * @return Rank index for the bitset, if building was enabled (see
+     *    {@link #enableRankIndex}) and stream has been finished; null otherwise
+     */
+    public PresenceRankIndex getRankIndex() {
+        return _rankIndex;
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API, appending bits
+    /**********************************************************************
+     */
+
+    /**
+     * @return Number of bits (rows) appended so far
+     */
+    public long getBitCount() {
+        return ((_flushedBytes + _chunkPtr) << 3) + _currBits;
+    }
+
+    public void appendBit(boolean set) throws IOException
+    {
+        _verifyNotFinished();
+        if (set) {
+            _currWord |= (Long.MIN_VALUE >>> _currBits);
+        }
+        if (++_currBits == 64) {
+            _appendWord(_currWord);
+            _currWord = 0L;
+            _currBits = 0;
+        }
+    }
+
+    /**
+     * Method for setting bit for given row, appending clear bits for all
+     * rows between the last appended row and given one.
+     *
+     * @param row Index of the row to set; must not be lower than {@link #getBitCount()}
+     */
+    public void setBit(long row) throws IOException
+    {
+        _verifyNotFinished();
+        final long count = getBitCount();
+        if (row < count) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid row %d: already appended %d rows", row, count));
+        }
+        appendSetBit(row - count);
+    }
+
+    /**
+     * Method for appending given number of clear bits followed by a single set bit;
+     * alternative to {@link #setBit} for callers that track gaps between rows
+     * instead of row indexes.
+     *
+     * @param clearBits Number of clear bits (rows without value) before the set bit
+     */
+    public void appendSetBit(long clearBits) throws IOException
+    {
+        _verifyNotFinished();
+        // common case for all but sparse bitsets: short gap, within current
+        // word or the next one
+        if ((clearBits >= 0L) && (clearBits < 64L)) {
+            int bit = _currBits + (int) clearBits;
+            if (bit >= 64) {
+                _appendWord(_currWord);
+                _currWord = 0L;
+                bit -= 64;
+            }
+            _currWord |= (Long.MIN_VALUE >>> bit);
+            if ((_currBits = bit + 1) == 64) {
+                _appendWord(_currWord);
+                _currWord = 0L;
+                _currBits = 0;
+            }
+            return;
+        }
+        appendRun(clearBits, false);
+        appendBit(true);
+    }
+
+    /**
+     * Method for appending given number of bits, all either set or clear.
+     */
+    public void appendRun(long count, boolean set) throws IOException
+    {
+        _verifyNotFinished();
+        if (count < 0L) {
+            throw new IllegalArgumentException(String.format("Invalid run length %d", count));
+        }
+        // first, short runs that fit in the incomplete word
+        final int avail = 64 - _currBits;
+        if (count < avail) {
+            if (set) {
+                _currWord |= (-1L >>> _currBits) & ~(-1L >>> (_currBits + (int) count));
+            }
+            _currBits += (int) count;
+            return;
+        }
+        // otherwise complete the word, fill full bytes, and leave the rest in a new word
+        if (set) {
+            _currWord |= (-1L >>> _currBits);
+        }
+        _appendWord(_currWord);
+        count -= avail;
+        final byte b = set ? (byte) 0xFF : 0;
+        for (long bytes = count >> 3; bytes > 0L; ) {
+            final int len = (int) Math.min(bytes, CHUNK_SIZE - _chunkPtr);
+            Arrays.fill(_chunk, _chunkPtr, _chunkPtr + len, b);
+            bytes -= len;
+            if ((_chunkPtr += len) == CHUNK_SIZE) {
+                _flushChunk(CHUNK_SIZE);
+            }
+        }
+        _currBits = (int) (count & 7);
+        _currWord = set ? ~(-1L >>> _currBits) : 0L;
+    }
+
+    /**
+     * Method for appending 8 bits, MSB first.
+     */
+    @Override
+    public void write(int b) throws IOException
+    {
+        _verifyNotFinished();
+        final long bits = (long) (b & 0xFF) << 56;
+        final int shift = _currBits;
+        if (shift == 0) {
+            _appendByte(b & 0xFF);
+        } else if (shift <= 56) {
+            _currWord |= bits >>> shift;
+            if ((_currBits = shift + 8) == 64) {
+                _appendWord(_currWord);
+                _currWord = 0L;
+                _currBits = 0;
+            }
+        } else { // spans words
+            _appendWord(_currWord | (bits >>> shift));
+            _currWord = bits << (64 - shift);
+            _currBits = shift - 56;
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int offset, int len) throws IOException
+    {
+        _verifyNotFinished();
+        _flushFullBytes();
+        if (_currBits != 0) { // unaligned, need to shift all bytes
+            for (int end = offset+len; offset < end; ++offset) {
+                write(b[offset]);
+            }
+            return;
+        }
+        while (len > 0) {
+            final int count = Math.min(len, CHUNK_SIZE - _chunkPtr);
+            System.arraycopy(b, offset, _chunk, _chunkPtr, count);
+            offset += count;
+            len -= count;
+            if ((_chunkPtr += count) == CHUNK_SIZE) {
+                _flushChunk(CHUNK_SIZE);
+            }
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API, completion
+    /**********************************************************************
+     */
+
+    /**
+     * Method for encoding and writing out remaining content (last, possibly
+     * partial chunk) and end marker, but without closing the underlying
+     * stream or channel. No more bits may be appended after calling this method.
+     */
+    public void finish() throws IOException
+    {
+        if (_finished) {
+            return;
+        }
+        _flushFullBytes();
+        final int padding = (8 - _currBits) & 7;
+        if (_currBits != 0) {
+            // can not fill the chunk (full chunks are flushed right away)
+            _chunk[_chunkPtr++] = (byte) _paddedByte(_currWord, _currBits);
+            _currWord = 0L;
+            _currBits = 0;
+        }
+        if (_chunkPtr > 0) {
+            _flushChunk(_chunkPtr, padding);
+        }
+        _finished = true;
+        if (_rankIndexBuilder != null) {
+            _rankIndex = _rankIndexBuilder.build(getBitCount() - padding);
+        }
+        final EncoderContext ctx = _pool.acquire();
+        try {
+            final byte[] output = ctx.getOutputBuffer();
+            _writeOutput(ctx, output, PresenceChunkEncoder.encodeEnd(padding, output, 0));
+        } finally {
+            ctx.release();
+        }
+    }
+
+    /**
+     * Method for encoding content appended after the last full chunk (if any) as
+     * the last chunk, followed by end marker, into given stream, without finishing
+     * this stream or writing into its target: when appended to content written
+     * so far, the result is a complete encoded bitset of {@link #getBitCount()} bits.
+     * Allows accessing bitset while more bits are still to be appended.
+     */
+    public void encodePending(OutputStream out) throws IOException
+    {
+        if (_finished) {
+            throw new IllegalStateException("Can not encode pending content: stream already finished");
+        }
+        final int padding = (8 - _currBits) & 7;
+        // full bytes of incomplete word may complete the chunk, so need a copy
+        final byte[] pending = Arrays.copyOf(_chunk, CHUNK_SIZE + 8);
+        int len = _chunkPtr;
+        long word = _currWord;
+        int bits = _currBits;
+        for (; bits >= 8; bits -= 8, word <<= 8) {
+            pending[len++] = (byte) (word >>> 56);
+        }
+        if (bits != 0) {
+            pending[len++] = (byte) _paddedByte(word, bits);
+        }
+        final EncoderContext ctx = _pool.acquire();
+        try {
+            final byte[] output = ctx.getOutputBuffer();
+            int offset = 0;
+            boolean prevBit = _prevBit;
+            while (offset < len) {
+                final int chunkLen = Math.min(len - offset, CHUNK_SIZE);
+                out.write(output, 0, _encoder.encodeChunk(ctx, prevBit, pending, offset, chunkLen,
+                        output, 0));
+                offset += chunkLen;
+                prevBit = (pending[offset-1] & 0x1) != 0;
+            }
+            out.write(output, 0, PresenceChunkEncoder.encodeEnd(padding, output, 0));
+        } finally {
+            ctx.release();
+        }
+    }
+
+    /**
+     * Flushes the underlying stream; note that this does not encode current
+     * incomplete chunk, as all but the last chunk must be full.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (_out != null) {
+            _out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        finish();
+        if (_out != null) {
+            _out.close();
+        } else {
+            _channel.close();
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    protected final void _appendWord(long w) throws IOException
+    {
+        final int ptr = _chunkPtr;
+        if (ptr > (CHUNK_SIZE - 8)) { // word spans chunks
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                _appendByte((int) (w >>> shift));
+            }
+            return;
+        }
+        final byte[] chunk = _chunk;
+        chunk[ptr] = (byte) (w >>> 56);
+        chunk[ptr+1] = (byte) (w >>> 48);
+        chunk[ptr+2] = (byte) (w >>> 40);
+        chunk[ptr+3] = (byte) (w >>> 32);
+        chunk[ptr+4] = (byte) (w >>> 24);
+        chunk[ptr+5] = (byte) (w >>> 16);
+        chunk[ptr+6] = (byte) (w >>> 8);
+        chunk[ptr+7] = (byte) w;
+        if ((_chunkPtr = ptr + 8) == CHUNK_SIZE) {
+            _flushChunk(CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * Method for moving full bytes of the incomplete word into chunk, leaving
+     * fewer than 8 bits in word.
+     */
+    protected final void _flushFullBytes() throws IOException
+    {
+        while (_currBits >= 8) {
+            _appendByte((int) (_currWord >>> 56));
+            _currWord <<= 8;
+            _currBits -= 8;
+        }
+    }
+
+    /**
+     * Method for constructing incomplete last byte from given (1 - 7) leading bits
+     * of word. With adaptive codec, padded with copies of the last bit, so that
+     * partial chunks may be all-set; padding is cleared by reader.
+     */
+    protected final int _paddedByte(long word, int bits)
+    {
+        int b = (int) (word >>> 56);
+        if (_encoder.isAdaptive() && ((b & (0x100 >> bits)) != 0)) {
+            b |= (0xFF >> bits);
+        }
+        return b;
+    }
+
+    protected final void _appendByte(int b) throws IOException
+    {
+        _chunk[_chunkPtr] = (byte) b;
+        if (++_chunkPtr == CHUNK_SIZE) {
+            _flushChunk(CHUNK_SIZE);
+        }
+    }
+
+    protected void _flushChunk(int len) throws IOException {
+        _flushChunk(len, 0);
+    }
+
+    /**
+     * @param paddingBits Number of padding bits in the last byte of chunk; only
+     *    non-zero for the last chunk
+     */
+    protected void _flushChunk(int len, int paddingBits) throws IOException
+    {
+        _verifyNotFinished();
+        final EncoderContext ctx = _pool.acquire();
+        try {
+            final byte[] output = ctx.getOutputBuffer();
+            final int end = _encoder.encodeChunk(ctx, _prevBit, _chunk, 0, len, output, 0);
+            _prevBit = (_chunk[len-1] & 0x1) != 0;
+            if (_rankIndexBuilder != null) {
+                _rankIndexBuilder.addChunk(_chunk, 0, len, end, paddingBits);
+            }
+            _flushedBytes += len;
+            _chunkPtr = 0;
+            _writeOutput(ctx, output, end);
+        } finally {
+            ctx.release();
+        }
+    }
+
+    protected final void _verifyNotFinished() throws IOException
+    {
+        if (_finished) {
+            throw new IOException("Can not append bits: stream already finished");
+        }
+    }
+
+    protected void _writeOutput(EncoderContext ctx, byte[] buffer, int len) throws IOException
+    {
+        if (_out != null) {
+            _out.write(buffer, 0, len);
+            return;
+        }
+        ByteBuffer bb = ctx.getOutputByteBuffer();
+        bb.limit(len);
+        while (bb.hasRemaining()) {
+            _channel.write(bb);
+        }
+    }
+}
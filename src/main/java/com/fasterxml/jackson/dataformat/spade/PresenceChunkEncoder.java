@@ -0,0 +1,111 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import static com.fasterxml.jackson.dataformat.spade.PresenceBitsetOutputStream.*;
+
+/**
+ * Helper class that encodes a single chunk of presence bitset using configured
+ * codec (or one chosen by {@link PresenceCodecSelector} for each chunk), and adds
+ * framing as described in {@link PresenceBitsetOutputStream}.
+ * Shared by all writers of the format, to guarantee identical output. Encoders
+ * are taken from the {@link EncoderContext} passed by caller, so instances
+ * themselves are stateless and thread-safe.
+ */
+final class PresenceChunkEncoder
+{
+    private final int _codec;
+
+    public PresenceChunkEncoder(int codec)
+    {
+        if (codec != TAG_BITRAT && codec != TAG_NIBBLER && codec != CODEC_ADAPTIVE) {
+            throw new IllegalArgumentException(String.format("Unrecognized codec 0x%02X", codec));
+        }
+        _codec = codec;
+    }
+
+    public boolean isAdaptive() {
+        return _codec == CODEC_ADAPTIVE;
+    }
+
+    /**
+     * @param prevBit Value of the last bit of the preceding chunk (false for first chunk)
+     * @param len Length of chunk; less than {@link PresenceBitsetOutputStream#CHUNK_SIZE}
+     *    only for the last chunk
+     *
+     * @return Offset right after last encoded byte
+     */
+    public int encodeChunk(EncoderContext ctx, boolean prevBit, byte[] input, int inputPtr, int len,
+            byte[] output, int outputPtr)
+    {
+        final int tag = (_codec == CODEC_ADAPTIVE)
+                ? ctx.getCodecSelector().select(prevBit, input, inputPtr, len).getTag()
+                : _codec;
+        if (len < CHUNK_SIZE) {
+            output[outputPtr++] = (byte) (TAG_PARTIAL | tag);
+            output[outputPtr++] = (byte) (len >> 8);
+            output[outputPtr++] = (byte) len;
+        } else {
+            output[outputPtr++] = (byte) tag;
+        }
+        switch (tag) {
+        case TAG_BITRAT:
+            {
+                // room for chunk mask and 2-byte length
+                final int start = outputPtr+3;
+                final BitRatEncoder bitrat = ctx.getBitRatEncoder();
+                int mask = bitrat._encodePartial(prevBit, input, inputPtr, len, output, start);
+                final int encodedLen = bitrat.getOutputPtr() - start;
+                output[outputPtr] = (byte) mask;
+                output[outputPtr+1] = (byte) (encodedLen >> 8);
+                output[outputPtr+2] = (byte) encodedLen;
+                return start + encodedLen;
+            }
+        case TAG_NIBBLER:
+            return ctx.getNibblerEncoder().encode(input, inputPtr, len, output, outputPtr);
+        case TAG_RAW:
+            System.arraycopy(input, inputPtr, output, outputPtr, len);
+            return outputPtr + len;
+        case TAG_ROW_LIST:
+            return _encodeRowList(input, inputPtr, len, output, outputPtr);
+        default: // all-clear, all-set: tag is all there is
+            return outputPtr;
+        }
+    }
+
+    /**
+     * @return Offset right after the end marker
+     */
+    public static int encodeEnd(int paddingBits, byte[] output, int outputPtr)
+    {
+        output[outputPtr++] = TAG_END;
+        output[outputPtr++] = (byte) paddingBits;
+        return outputPtr;
+    }
+
+    private static int _encodeRowList(byte[] input, int inputPtr, int len,
+            byte[] output, int outputPtr)
+    {
+        // room for 2-byte length
+        final int start = outputPtr+2;
+        int ptr = start;
+        int prev = -1;
+        for (int i = 0; i < len; ++i) {
+            int b = input[inputPtr + i] & 0xFF;
+            while (b != 0) {
+                final int bit = Integer.numberOfLeadingZeros(b) - 24;
+                final int index = (i << 3) + bit;
+                int value = index - prev - 1;
+                while (value > 0x7F) {
+                    output[ptr++] = (byte) (0x80 | (value & 0x7F));
+                    value >>>= 7;
+                }
+                output[ptr++] = (byte) value;
+                prev = index;
+                b &= ~(0x80 >> bit);
+            }
+        }
+        final int encodedLen = ptr - start;
+        output[outputPtr] = (byte) (encodedLen >> 8);
+        output[outputPtr+1] = (byte) encodedLen;
+        return ptr;
+    }
+}
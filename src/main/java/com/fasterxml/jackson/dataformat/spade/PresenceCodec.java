@@ -0,0 +1,66 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+/**
+ * Enumeration of representations available for a single chunk of presence
+ * bitset: each is identified by its tag byte in encoded content (see
+ * {@link PresenceBitsetOutputStream} for framing). Writers either use one
+ * fixed codec ({@link #BITRAT} or {@link #NIBBLER}) for all chunks, or
+ * let {@link PresenceCodecSelector} choose one per chunk
+ * (see {@link PresenceBitsetOutputStream#CODEC_ADAPTIVE}).
+ */
+public enum PresenceCodec
+{
+    /**
+     * All bits clear: no payload
+     */
+    ALL_CLEAR(PresenceBitsetOutputStream.TAG_ALL_CLEAR),
+
+    /**
+     * All bits set: no payload
+     */
+    ALL_SET(PresenceBitsetOutputStream.TAG_ALL_SET),
+
+    /**
+     * Content encoded using {@link BitRatEncoder}; compact for sparse (or dense)
+     * content with set (or clear) bits scattered evenly.
+     */
+    BITRAT(PresenceBitsetOutputStream.TAG_BITRAT),
+
+    /**
+     * Content encoded using {@link NibblerEncoder}; compact for content with
+     * long runs of set and/or clear bits.
+     */
+    NIBBLER(PresenceBitsetOutputStream.TAG_NIBBLER),
+
+    /**
+     * Content stored as is; used when content does not compress.
+     */
+    RAW(PresenceBitsetOutputStream.TAG_RAW),
+
+    /**
+     * Sorted list of indexes of set bits, as deltas; most compact for
+     * extremely sparse content.
+     */
+    ROW_LIST(PresenceBitsetOutputStream.TAG_ROW_LIST)
+    ;
+
+    private final int _tag;
+
+    private PresenceCodec(int tag) {
+        _tag = tag;
+    }
+
+    public int getTag() { return _tag; }
+
+    /**
+     * @return Codec with given tag, if any; null if none
+     */
+    public static PresenceCodec forTag(int tag) {
+        for (PresenceCodec codec : values()) {
+            if (codec._tag == tag) {
+                return codec;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,289 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.dataformat.spade.util.ByteBuilder;
+
+/**
+ * Helper class used for choosing the most compact {@link PresenceCodec} for a
+ * chunk of presence bitset, without trial-encoding content with every codec:
+ * instead, a single pass over chunk (mostly 8 bytes at a time) collects
+ * statistics (number of set bits, literal bytes and runs as seen by BitRat and
+ * Nibbler), from which encoded sizes are estimated. Estimate is exact for
+ * all-clear, all-set, raw and row-list representations, and close for BitRat
+ * and Nibbler.
+ *<p>
+ * Instances are not thread-safe; they are available from {@link EncoderContext}.
+ */
+public final class PresenceCodecSelector
+{
+    /**
+     * Minimum length of a run (in bytes) that Nibbler encodes as run instead of
+     * literal bytes
+     */
+    private final static int NIBBLER_MIN_RUN = 3;
+
+    private final static long LOW_BITS = 0x0101010101010101L;
+
+    private final static long HIGH_BITS = 0x8080808080808080L;
+
+    // Input wrapper for reading 8 bytes at a time; re-created if input array changes
+    private ByteBuffer _inputWords;
+
+    private int _setBits;
+
+    private int _estimatedSize;
+
+    private final NibblerStats _nibbler = new NibblerStats();
+
+    public PresenceCodecSelector() { }
+
+    /*
+    /**********************************************************************
+    /* Accessors
+    /**********************************************************************
+     */
+
+    /**
+     * @return Number of set bits in the chunk of the last {@link #select} call
+     */
+    public int getSetBitCount() { return _setBits; }
+
+    /**
+     * @return Estimated encoded size (excluding framing common to all codecs)
+     *    for the codec returned by the last {@link #select} call
+     */
+    public int getEstimatedSize() { return _estimatedSize; }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * @param prevBit Value of the last bit of the preceding chunk (false for first chunk)
+     * @param input Buffer that contains chunk
+     * @param inputPtr Offset of the first byte of chunk
+     * @param len Length of chunk in bytes; at most {@link PresenceBitsetOutputStream#CHUNK_SIZE}
+     */
+    public PresenceCodec select(boolean prevBit, byte[] input, int inputPtr, int len)
+    {
+        final ByteBuffer words = _inputWords(input);
+        // BitRat: literal bytes, and 8-, 64- and 512-byte blocks with literals (for masks)
+        int literals = 0, groups = 0, blocks64 = 0, blocks512 = 0;
+        int lastBlock64 = -1, lastBlock512 = -1;
+        // Nibbler: literal bytes and segment (literal sequence or run) count
+        final NibblerStats nibbler = _nibbler;
+        nibbler.reset();
+        int setBits = 0;
+
+        // Byte continues the current run (is not a literal) if it is all-clear or
+        // all-set, matching the last bit of the preceding byte; this is
+        // checked for 8 bytes at a time
+        long prev = prevBit ? 0xFF : 0x00;
+        final int wordCount = len >> 3;
+        for (int w = 0; w < wordCount; ++w) {
+            final long word = words.getLong(inputPtr + (w << 3));
+            setBits += Long.bitCount(word);
+            final long match = (((word >>> 8) | (prev << 56)) & LOW_BITS) * 0xFF;
+            prev = word & 0xFF;
+            final long diff = word ^ match;
+            if (diff == 0L) {
+                nibbler.streak += 8;
+                continue;
+            }
+            // high bit of each byte set for literal (non-matching) bytes
+            final long literalMask = (((diff & ~HIGH_BITS) + ~HIGH_BITS) | diff) & HIGH_BITS;
+            literals += Long.bitCount(literalMask);
+            ++groups;
+            if ((w >> 3) != lastBlock64) {
+                lastBlock64 = w >> 3;
+                ++blocks64;
+            }
+            if ((w >> 6) != lastBlock512) {
+                lastBlock512 = w >> 6;
+                ++blocks512;
+            }
+            nibbler.addWord(literalMask);
+        }
+        // and then remaining bytes of partial chunk, if any: all in the same 8-byte group
+        boolean tailLiterals = false;
+        for (int i = wordCount << 3; i < len; ++i) {
+            final int b = input[inputPtr + i] & 0xFF;
+            setBits += Integer.bitCount(b);
+            final int match = ((prev & 1) == 0) ? 0x00 : 0xFF;
+            prev = b;
+            if (b == match) {
+                ++nibbler.streak;
+                continue;
+            }
+            ++literals;
+            tailLiterals = true;
+            nibbler.addLiteral();
+        }
+        if (tailLiterals) {
+            ++groups;
+            if ((wordCount >> 3) != lastBlock64) {
+                ++blocks64;
+            }
+            if ((wordCount >> 6) != lastBlock512) {
+                ++blocks512;
+            }
+        }
+        nibbler.finish();
+        _setBits = setBits;
+
+        if (setBits == 0) {
+            return _choose(PresenceCodec.ALL_CLEAR, 0);
+        }
+        if (setBits == (len << 3)) {
+            return _choose(PresenceCodec.ALL_SET, 0);
+        }
+        PresenceCodec best = PresenceCodec.RAW;
+        int bestSize = len;
+        // mask byte and 2-byte length, then masks and literals
+        final int bitratSize = 3 + literals + groups + blocks64 + blocks512;
+        if (bitratSize < bestSize) {
+            best = PresenceCodec.BITRAT;
+            bestSize = bitratSize;
+        }
+        // 2-byte header, then roughly one byte of length indicator per segment
+        final int nibblerSize = 2 + nibbler.literals + nibbler.segments;
+        if (nibblerSize < bestSize) {
+            best = PresenceCodec.NIBBLER;
+            bestSize = nibblerSize;
+        }
+        // every set bit takes at least one byte, so only calculate if possibly smaller
+        if ((2 + setBits) < bestSize) {
+            final int rowListSize = 2 + _rowListLength(words, input, inputPtr, len);
+            if (rowListSize < bestSize) {
+                best = PresenceCodec.ROW_LIST;
+                bestSize = rowListSize;
+            }
+        }
+        return _choose(best, bestSize);
+    }
+
+    /**
+     * Method for calculating length of row list representation of the chunk:
+     * indexes of set bits as VInts, first as is, and following ones as deltas
+     * minus one.
+     */
+    public static int rowListLength(byte[] input, int inputPtr, int len) {
+        return _rowListLength(ByteBuffer.wrap(input), input, inputPtr, len);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private PresenceCodec _choose(PresenceCodec codec, int size) {
+        _estimatedSize = size;
+        return codec;
+    }
+
+    private ByteBuffer _inputWords(byte[] input)
+    {
+        ByteBuffer words = _inputWords;
+        if ((words == null) || (words.array() != input)) {
+            _inputWords = words = ByteBuffer.wrap(input);
+        }
+        return words;
+    }
+
+    private static int _rowListLength(ByteBuffer words, byte[] input, int inputPtr, int len)
+    {
+        int length = 0;
+        int prev = -1;
+        final int wordCount = len >> 3;
+        for (int w = 0; w < wordCount; ++w) {
+            long word = words.getLong(inputPtr + (w << 3));
+            while (word != 0L) {
+                // MSB-first: leading zeroes give bit index
+                final int bit = Long.numberOfLeadingZeros(word);
+                final int index = (w << 6) + bit;
+                length += ByteBuilder.vIntLength(index - prev - 1);
+                prev = index;
+                word &= ~(Long.MIN_VALUE >>> bit);
+            }
+        }
+        for (int i = wordCount << 3; i < len; ++i) {
+            int b = input[inputPtr + i] & 0xFF;
+            while (b != 0) {
+                final int bit = Integer.numberOfLeadingZeros(b) - 24;
+                final int index = (i << 3) + bit;
+                length += ByteBuilder.vIntLength(index - prev - 1);
+                prev = index;
+                b &= ~(0x80 >> bit);
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Helper class for estimating Nibbler output: tracks literal bytes, and
+     * streaks of run-continuing bytes, which are only encoded as runs if long
+     * enough.
+     */
+    private final static class NibblerStats
+    {
+        int literals, segments, streak;
+
+        boolean inLiteral;
+
+        void reset() {
+            literals = segments = streak = 0;
+            inLiteral = false;
+        }
+
+        /**
+         * @param literalMask High bit of each byte set for literal bytes
+         */
+        void addWord(long literalMask)
+        {
+            if (literalMask == HIGH_BITS) { // common case for dense content
+                addLiteral();
+                literals += 7;
+                return;
+            }
+            for (long m = Long.MIN_VALUE; m != 0L; m >>>= 8) {
+                if ((literalMask & m) == 0L) {
+                    ++streak;
+                } else {
+                    addLiteral();
+                }
+            }
+        }
+
+        void addLiteral()
+        {
+            if (streak >= NIBBLER_MIN_RUN) { // preceded by a run
+                ++segments;
+                inLiteral = false;
+            } else {
+                literals += streak;
+            }
+            if (!inLiteral) {
+                ++segments;
+                inLiteral = true;
+            }
+            ++literals;
+            streak = 0;
+        }
+
+        void finish()
+        {
+            if (streak >= NIBBLER_MIN_RUN) {
+                ++segments;
+            } else {
+                literals += streak;
+                if (!inLiteral && (streak > 0)) {
+                    ++segments;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,537 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import static com.fasterxml.jackson.dataformat.spade.PresenceBitsetOutputStream.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.LongConsumer;
+
+/**
+ * Iterator over indexes of set bits (rows for which column has a value) of an
+ * encoded presence bitset, working directly on encoded chunks: nothing is
+ * inflated into a byte array, and no allocations are made during iteration.
+ *<p>
+ * Encoded structure is used to skip content: runs of clear bytes (BitRat blocks
+ * and groups without literals, Nibbler zero runs, all-clear chunks) are jumped
+ * over as a whole; runs of set bytes produce rows without looking at bits;
+ * and literal bytes are combined into 64-bit words, from which set bits are
+ * located using {@link Long#numberOfLeadingZeros} (bits are stored MSB first).
+ * Whole chunks before target row of {@link #advance} are skipped, usually without
+ * looking at their encoded content.
+ *<p>
+ * Instances are not thread-safe.
+ */
+public class PresenceIterator
+{
+    protected final PresenceBitsetInputStream _in;
+
+    /**
+     * Encoded content of the current chunk (input buffer of the stream)
+     */
+    protected final byte[] _input;
+
+    // Wrapper for reading 8 bytes of raw chunk content at a time
+    protected final ByteBuffer _inputWords;
+
+    // Created on demand, only if stream has Nibbler-encoded chunks
+    protected NibblerDecoder _nibbler;
+
+    /**
+     * Tag of the current chunk; -1 if no chunk is being iterated
+     */
+    protected int _tag = -1;
+
+    // Whether end marker has been reached, that is, there are no more chunks
+    protected boolean _done;
+
+    // Length of the current chunk in bytes
+    protected int _chunkLen;
+
+    // Row of the first bit of the current chunk
+    protected long _chunkStart;
+
+    // Row after the last bit of the current chunk, excluding padding
+    protected long _chunkLimit;
+
+    // Pointer to the next byte of encoded content of the current chunk
+    protected int _inputPtr;
+
+    protected int _inputEnd;
+
+    /**
+     * Value of the last bit of the preceding chunk; needed for BitRat-encoded
+     * chunks, but only updated when following chunk is BitRat-encoded
+     */
+    protected boolean _prevBit;
+
+    // Pending set bits of literal bytes, MSB being the bit for `_wordRow`
+    protected long _word;
+
+    protected long _wordRow;
+
+    // Pending run of set bits, from `_runRow` (inclusive) to `_runEnd` (exclusive)
+    protected long _runRow, _runEnd;
+
+    // BitRat state: offset of the next byte in chunk, masks in effect, and
+    // byte value that continues the match
+
+    protected int _byteIx;
+
+    protected int _chunkMask, _level2Mask, _level1Mask;
+
+    // Whether current 64-byte block is full (so that 32-byte literal blocks are possible)
+    protected boolean _level1Full;
+
+    // Number of 8-byte groups remaining of a non-compressed 32-byte block
+    protected int _rawGroups;
+
+    protected int _match;
+
+    // Nibbler state: literal segment being iterated
+
+    protected int _literalIx, _literalLen;
+
+    // Row list state: index of the last set bit within chunk
+
+    protected int _rowIndex;
+
+    /**
+     * @param in Stream to read encoded bitset from; must not have been read from
+     */
+    public PresenceIterator(PresenceBitsetInputStream in)
+    {
+        if (in.getBitPosition() != 0L) {
+            throw new IllegalArgumentException("Input stream must not have been read from");
+        }
+        _in = in;
+        _input = in._inputBuffer;
+        _inputWords = ByteBuffer.wrap(_input);
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * @return Row of the next set bit, if any; -1 if there are no more set bits
+     */
+    public long nextSetBit() throws IOException
+    {
+        while (true) {
+            long word = _word;
+            if (word != 0L) {
+                final int bit = Long.numberOfLeadingZeros(word);
+                _word = word & ~(Long.MIN_VALUE >>> bit);
+                return _wordRow + bit;
+            }
+            if (_runRow < _runEnd) {
+                return _runRow++;
+            }
+            if (!_nextPiece() && !_nextChunk()) {
+                return -1L;
+            }
+        }
+    }
+
+    /**
+     * Method for skipping to the first set bit at or after given row.
+     *
+     * @return Row of the first set bit at or after <code>row</code>, if any;
+     *    -1 if there are no such set bits
+     */
+    public long advance(long row) throws IOException
+    {
+        if (row < 0L) {
+            throw new IllegalArgumentException(String.format("Invalid row %d: can not be negative", row));
+        }
+        while (true) {
+            if (_word != 0L) {
+                final long offset = row - _wordRow;
+                if (offset >= 64L) {
+                    _word = 0L;
+                } else if (offset > 0L) {
+                    _word &= (-1L >>> offset);
+                }
+                if (_word != 0L) {
+                    return nextSetBit();
+                }
+            }
+            if (_runRow < _runEnd) {
+                if (_runEnd > row) {
+                    _runRow = Math.max(_runRow, row);
+                    return _runRow++;
+                }
+                _runRow = _runEnd;
+            }
+            if (_tag >= 0) {
+                if (_chunkLimit > row) {
+                    if (_nextPiece()) {
+                        continue;
+                    }
+                } else {
+                    _skipChunk();
+                }
+            }
+            if (!_nextChunk()) {
+                return -1L;
+            }
+        }
+    }
+
+    /**
+     * Method for calling given consumer for rows of all remaining set bits.
+     */
+    public void forEach(LongConsumer consumer) throws IOException
+    {
+        long row;
+        while ((row = nextSetBit()) >= 0L) {
+            consumer.accept(row);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, chunk handling
+    /**********************************************************************
+     */
+
+    /**
+     * Method called to start iteration over the next chunk, if any.
+     *
+     * @return True if there was a chunk; false if end marker was reached
+     */
+    protected boolean _nextChunk() throws IOException
+    {
+        final PresenceBitsetInputStream in = _in;
+        _tag = -1;
+        if (_done || !in._readFrame()) {
+            _done = true;
+            return false;
+        }
+        final int len = in._chunkEnd;
+        _chunkLen = len;
+        _chunkStart = in._consumedBytes << 3;
+        _chunkLimit = _chunkStart + (len << 3) - (in._ended ? in._padding : 0);
+        _inputPtr = 0;
+        final int tag = in._frameTag;
+        switch (tag) {
+        case TAG_BITRAT:
+            _byteIx = 0;
+            _chunkMask = in._frameMask;
+            _rawGroups = 0;
+            _match = _prevBit ? 0xFF : 0x00;
+            break;
+        case TAG_NIBBLER:
+            if (_nibbler == null) {
+                _nibbler = new NibblerDecoder();
+            }
+            try {
+                _nibbler.startChunk(_input, 0, len);
+            } catch (IllegalArgumentException e) {
+                in._reportCorrupt(e.getMessage());
+            }
+            _literalIx = _literalLen = 0;
+            break;
+        case TAG_ALL_CLEAR:
+            _prevBit = false;
+            break;
+        case TAG_ALL_SET:
+            _prevBit = true;
+            _setRun(_chunkStart, len << 3);
+            break;
+        case TAG_RAW:
+            _inputEnd = len;
+            _prevBit = (_input[len-1] & 0x1) != 0;
+            break;
+        default: // row list
+            _inputEnd = in._frameDataLen;
+            _rowIndex = -1;
+        }
+        // frame is never decoded by the stream
+        in._frameTag = -1;
+        in._chunkPtr = len;
+        _tag = tag;
+        return true;
+    }
+
+    /**
+     * Method called to skip the rest of the current chunk. Encoded content only
+     * needs to be iterated over if the next chunk is BitRat-encoded, to find
+     * the value of the last bit.
+     */
+    protected void _skipChunk() throws IOException
+    {
+        if ((_in._nextTag & ~TAG_PARTIAL) == TAG_BITRAT) {
+            while (_nextPiece()) { }
+        }
+        _word = 0L;
+        _runRow = _runEnd;
+        _tag = -1;
+    }
+
+    /**
+     * Method for finding the next piece of the current chunk with set bits: either
+     * a run of set bits, or a word of literal bits with at least one set bit.
+     *
+     * @return True if a piece was found; false if there are no more set bits in
+     *   the current chunk (or there is no current chunk)
+     */
+    protected boolean _nextPiece() throws IOException
+    {
+        switch (_tag) {
+        case TAG_BITRAT:
+            return _nextBitRatPiece();
+        case TAG_NIBBLER:
+            return _nextNibblerPiece();
+        case TAG_RAW:
+            return _nextRawPiece();
+        case TAG_ROW_LIST:
+            return _nextRowListPiece();
+        default: // all-set chunk has only one piece, set up when chunk is started
+            return false;
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, codec-specific iteration
+    /**********************************************************************
+     */
+
+    private boolean _nextBitRatPiece() throws IOException
+    {
+        final byte[] input = _input;
+        final int len = _chunkLen;
+        int ix;
+        while ((ix = _byteIx) < len) {
+            // Run over 512 or 64 bytes, as indicated by upper levels of masks?
+            if ((ix & 511) == 0) {
+                if ((_chunkMask & (0x80 >> (ix >> 9))) == 0) {
+                    if (_bitRatRun(ix, 512)) {
+                        return true;
+                    }
+                    continue;
+                }
+                _level2Mask = input[_inputPtr++];
+            }
+            if ((ix & 63) == 0) {
+                if ((_level2Mask & (0x80 >> ((ix >> 6) & 7))) == 0) {
+                    if (_bitRatRun(ix, 64)) {
+                        return true;
+                    }
+                    continue;
+                }
+                // for full blocks, two 4-bit masks; for the last partial one, a
+                // single 8-bit mask: either way, one bit per 8-byte group
+                _level1Mask = input[_inputPtr++];
+                _level1Full = (ix + 64) <= len;
+            }
+            if ((_level1Mask & (0x80 >> ((ix >> 3) & 7))) == 0) {
+                if (_bitRatRun(ix, 8)) {
+                    return true;
+                }
+                continue;
+            }
+            // Start of a 32-byte block with all literals, as signalled by zero mask byte?
+            if (_level1Full && ((ix & 31) == 0) && (input[_inputPtr] == 0)
+                    && (((_level1Mask >> (((ix & 32) == 0) ? 4 : 0)) & 0xF) == 0xF)) {
+                ++_inputPtr;
+                _rawGroups = 4;
+            }
+            final long word;
+            final int count = Math.min(8, len - ix);
+            if (_rawGroups > 0) {
+                --_rawGroups;
+                word = _inputWords.getLong(_inputPtr);
+                _inputPtr += 8;
+                _match = ((word & 0x1) == 0) ? 0x00 : 0xFF;
+            } else {
+                word = _bitRatGroup(input, count);
+            }
+            _byteIx = ix + count;
+            if (word != 0L) {
+                _setWord(_chunkStart + (ix << 3), word);
+                return true;
+            }
+        }
+        _prevBit = (_match != 0);
+        return false;
+    }
+
+    /**
+     * Helper method for assembling bytes of a group of literal and match bytes.
+     */
+    private long _bitRatGroup(byte[] input, int count)
+    {
+        int ptr = _inputPtr;
+        final int mask8 = input[ptr++] & 0xFF;
+        int match = _match;
+        long word;
+        if (mask8 == 0xFF && count == 8) { // all literals
+            word = _inputWords.getLong(ptr);
+            ptr += 8;
+            match = ((word & 0x1) == 0) ? 0x00 : 0xFF;
+        } else {
+            word = 0L;
+            for (int i = 0; i < count; ++i) {
+                int b = match;
+                if ((mask8 & (0x80 >> i)) != 0) {
+                    b = input[ptr++] & 0xFF;
+                    match = ((b & 0x1) == 0) ? 0x00 : 0xFF;
+                }
+                word |= ((long) b) << (56 - (i << 3));
+            }
+        }
+        _inputPtr = ptr;
+        _match = match;
+        return word;
+    }
+
+    /**
+     * Helper method for handling a run of bytes that continue the match.
+     *
+     * @return True if run is of set bits (and is now pending); false if of clear bits
+     */
+    private boolean _bitRatRun(int ix, int count)
+    {
+        count = Math.min(count, _chunkLen - ix);
+        _byteIx = ix + count;
+        if (_match == 0) {
+            return false;
+        }
+        _setRun(_chunkStart + (ix << 3), count << 3);
+        return true;
+    }
+
+    private boolean _nextNibblerPiece() throws IOException
+    {
+        final NibblerDecoder nibbler = _nibbler;
+        while (true) {
+            // First: remaining literal bytes of current segment, up to 8 at a time
+            int ix = _literalIx;
+            final int end = _literalLen;
+            while (ix < end) {
+                final int count = Math.min(8, end - ix);
+                long word = 0L;
+                for (int i = 0; i < count; ++i) {
+                    word |= ((long) nibbler._literalByte(ix + i)) << (56 - (i << 3));
+                }
+                final int offset = nibbler.getSegmentOffset() + ix;
+                ix += count;
+                if (word != 0L) {
+                    _literalIx = ix;
+                    _setWord(_chunkStart + (offset << 3), word);
+                    return true;
+                }
+            }
+            _literalIx = _literalLen = 0;
+            final int type;
+            try {
+                type = nibbler.nextSegment();
+            } catch (IllegalArgumentException e) {
+                _in._reportCorrupt(e.getMessage());
+                return false;
+            }
+            switch (type) {
+            case NibblerDecoder.SEGMENT_END:
+                return false;
+            case NibblerDecoder.SEGMENT_ZEROES:
+                _prevBit = false;
+                break;
+            case NibblerDecoder.SEGMENT_ONES:
+                _prevBit = true;
+                _setRun(_chunkStart + (nibbler.getSegmentOffset() << 3),
+                        nibbler.getSegmentLength() << 3);
+                return true;
+            default: // literals
+                _literalLen = nibbler.getSegmentLength();
+                _prevBit = (nibbler._literalByte(_literalLen - 1) & 0x1) != 0;
+            }
+        }
+    }
+
+    private boolean _nextRawPiece()
+    {
+        int ptr = _inputPtr;
+        final int end = _inputEnd;
+        final int wordEnd = end & ~7;
+        while (ptr < wordEnd) {
+            final long word = _inputWords.getLong(ptr);
+            ptr += 8;
+            if (word != 0L) {
+                _inputPtr = ptr;
+                _setWord(_chunkStart + ((ptr - 8) << 3), word);
+                return true;
+            }
+        }
+        if (ptr < end) { // partial last word
+            long word = 0L;
+            for (int i = 0; ptr + i < end; ++i) {
+                word |= ((long) (_input[ptr + i] & 0xFF)) << (56 - (i << 3));
+            }
+            _inputPtr = end;
+            if (word != 0L) {
+                _setWord(_chunkStart + (ptr << 3), word);
+                return true;
+            }
+        }
+        _inputPtr = end;
+        return false;
+    }
+
+    private boolean _nextRowListPiece() throws IOException
+    {
+        final byte[] input = _input;
+        final int end = _inputEnd;
+        int ptr = _inputPtr;
+        if (ptr >= end) {
+            _prevBit = (_rowIndex == (_chunkLen << 3) - 1);
+            return false;
+        }
+        int value = 0;
+        int shift = 0;
+        int b;
+        do {
+            if ((ptr == end) || (shift > 14)) {
+                _in._reportCorrupt("invalid row list entry");
+            }
+            b = input[ptr++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        _inputPtr = ptr;
+        final int index = _rowIndex + value + 1;
+        if (index >= (_chunkLen << 3)) {
+            _in._reportCorrupt(String.format("invalid row list index %d (chunk of %d bits)",
+                    index, _chunkLen << 3));
+        }
+        _rowIndex = index;
+        _setRun(_chunkStart + index, 1);
+        return true;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, pending bits
+    /**********************************************************************
+     */
+
+    private void _setWord(long row, long word)
+    {
+        // bits past the end of the last chunk are padding
+        final long excess = row + 64 - _chunkLimit;
+        if (excess > 0L) {
+            word = (excess >= 64L) ? 0L : (word & (-1L << excess));
+        }
+        _wordRow = row;
+        _word = word;
+    }
+
+    private void _setRun(long row, int count)
+    {
+        _runRow = row;
+        _runEnd = Math.min(row + count, _chunkLimit);
+    }
+}
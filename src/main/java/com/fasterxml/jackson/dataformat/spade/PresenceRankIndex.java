@@ -0,0 +1,352 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.dataformat.spade.util.ByteBuilder;
+
+/**
+ * Index for answering rank (number of set bits before given row) and select
+ * (row of n-th set bit) queries over an encoded presence bitset without
+ * decoding all of it: contains cumulative popcounts for each chunk and for each
+ * {@link #BLOCK_SIZE}-byte block (BitRat level-2 block) within chunk, as well as
+ * offsets of chunks within encoded content.
+ * Index is built by {@link PresenceBitsetOutputStream} (see
+ * {@link PresenceBitsetOutputStream#enableRankIndex}), may be serialized using
+ * {@link #appendTo} and {@link #read}, and is used by {@link IndexedPresenceBitset}.
+ *<p>
+ * Serialized form consists of number of bits (VLong) and number of chunks (VInt),
+ * followed, for each chunk, by: length of encoded chunk, shifted left by one, with
+ * value of the last bit of the chunk as the lowest bit (VInt); number of set
+ * bits in chunk (VInt); and number of set bits in each block except the last (VInts).
+ *<p>
+ * Instances are immutable.
+ */
+public final class PresenceRankIndex
+{
+    /**
+     * Size of blocks (in bytes of uncompressed bitset) for which popcounts are
+     * kept; same as size of BitRat level-2 blocks.
+     */
+    public final static int BLOCK_SIZE = 512;
+
+    public final static int BLOCKS_PER_CHUNK = PresenceBitsetOutputStream.CHUNK_SIZE / BLOCK_SIZE;
+
+    protected final long _bitCount;
+
+    protected final int _chunkCount;
+
+    /**
+     * Number of set bits before each chunk; one extra entry at the end for
+     * total count.
+     */
+    protected final long[] _chunkRanks;
+
+    /**
+     * Number of set bits before each block, within its chunk
+     */
+    protected final char[] _blockRanks;
+
+    /**
+     * Offsets of chunks within encoded content; one extra entry at the end for
+     * the offset of the end marker.
+     */
+    protected final long[] _chunkOffsets;
+
+    /**
+     * Values of the last bits of chunks, needed as context for decoding the
+     * following chunk.
+     */
+    protected final long[] _lastBits;
+
+    protected PresenceRankIndex(long bitCount, int chunkCount, long[] chunkRanks,
+            char[] blockRanks, long[] chunkOffsets, long[] lastBits)
+    {
+        _bitCount = bitCount;
+        _chunkCount = chunkCount;
+        _chunkRanks = chunkRanks;
+        _blockRanks = blockRanks;
+        _chunkOffsets = chunkOffsets;
+        _lastBits = lastBits;
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors
+    /**********************************************************************
+     */
+
+    /**
+     * @return Number of bits (rows) in the indexed bitset
+     */
+    public long getBitCount() { return _bitCount; }
+
+    /**
+     * @return Number of set bits in the indexed bitset
+     */
+    public long getCardinality() { return _chunkRanks[_chunkCount]; }
+
+    public int getChunkCount() { return _chunkCount; }
+
+    /**
+     * @return Number of set bits before given chunk
+     */
+    public long getChunkRank(int chunk) { return _chunkRanks[chunk]; }
+
+    /**
+     * @return Number of set bits before given block of given chunk, counting
+     *    from the start of the chunk
+     */
+    public int getBlockRank(int chunk, int block) {
+        return _blockRanks[chunk * BLOCKS_PER_CHUNK + block];
+    }
+
+    /**
+     * @return Offset of given chunk within encoded bitset
+     */
+    public long getChunkOffset(int chunk) { return _chunkOffsets[chunk]; }
+
+    /**
+     * @return Value of the last bit of the chunk that precedes given chunk
+     *   (false for the first chunk)
+     */
+    public boolean getPrevBit(int chunk) {
+        if (chunk == 0) {
+            return false;
+        }
+        --chunk;
+        return (_lastBits[chunk >> 6] & (1L << chunk)) != 0L;
+    }
+
+    /**
+     * @return Index of the chunk that contains the n-th (0-based) set bit;
+     *    caller must ensure that <code>n</code> is less than {@link #getCardinality()}
+     */
+    public int findChunkForSetBit(long n)
+    {
+        // last chunk whose rank is at most n
+        int ix = Arrays.binarySearch(_chunkRanks, 0, _chunkCount, n);
+        if (ix < 0) {
+            return -ix - 2;
+        }
+        // with empty chunks, multiple ones may have same rank: need the last
+        while ((ix + 1) < _chunkCount && _chunkRanks[ix + 1] == n) {
+            ++ix;
+        }
+        return ix;
+    }
+
+    /*
+    /**********************************************************************
+    /* Serialization
+    /**********************************************************************
+     */
+
+    public void appendTo(ByteBuilder out)
+    {
+        out.appendVLong(_bitCount);
+        out.appendVInt(_chunkCount);
+        for (int i = 0; i < _chunkCount; ++i) {
+            final int encodedLen = (int) (_chunkOffsets[i+1] - _chunkOffsets[i]);
+            final boolean lastBit = getPrevBit(i+1);
+            out.appendVInt((encodedLen << 1) | (lastBit ? 1 : 0));
+            out.appendVInt((int) (_chunkRanks[i+1] - _chunkRanks[i]));
+            final int base = i * BLOCKS_PER_CHUNK;
+            for (int b = 1; b < BLOCKS_PER_CHUNK; ++b) {
+                out.appendVInt(_blockRanks[base + b] - _blockRanks[base + b - 1]);
+            }
+        }
+    }
+
+    /**
+     * Method for reading index serialized using {@link #appendTo}.
+     *
+     * @return Index read; offsets of chunks are relative to <code>encodedOffset</code>
+     */
+    public static PresenceRankIndex read(byte[] buffer, int offset, int len, long encodedOffset)
+        throws IOException
+    {
+        final Reader r = new Reader(buffer, offset, offset + len);
+        final long bitCount = r.readVLong();
+        final int chunkCount = r.readVInt();
+        final long maxChunks = (bitCount + (8L * PresenceBitsetOutputStream.CHUNK_SIZE) - 1)
+                / (8L * PresenceBitsetOutputStream.CHUNK_SIZE);
+        if (bitCount < 0L || chunkCount != maxChunks || chunkCount > len) {
+            throw new IOException(String.format(
+                    "Invalid presence rank index: %d chunks for %d bits", chunkCount, bitCount));
+        }
+        final Builder b = new Builder(chunkCount);
+        b._encodedOffset = encodedOffset;
+        final int[] blockCounts = new int[BLOCKS_PER_CHUNK];
+        for (int i = 0; i < chunkCount; ++i) {
+            final int lenAndBit = r.readVInt();
+            int remaining = r.readVInt();
+            for (int block = 0; block < BLOCKS_PER_CHUNK - 1; ++block) {
+                remaining -= (blockCounts[block] = r.readVInt());
+            }
+            blockCounts[BLOCKS_PER_CHUNK - 1] = remaining;
+            for (int count : blockCounts) {
+                if (count < 0 || count > (BLOCK_SIZE << 3)) {
+                    throw new IOException(String.format(
+                            "Invalid presence rank index: invalid set bit counts for chunk #%d", i));
+                }
+            }
+            b._addChunk(blockCounts, lenAndBit >>> 1, (lenAndBit & 1) != 0);
+        }
+        if (r._ptr != r._end) {
+            throw new IOException(String.format(
+                    "Invalid presence rank index: %d trailing bytes", r._end - r._ptr));
+        }
+        return b.build(bitCount);
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper classes
+    /**********************************************************************
+     */
+
+    /**
+     * Builder used for constructing index, one chunk at a time, as chunks
+     * are encoded.
+     */
+    public final static class Builder
+    {
+        private long[] _chunkRanks;
+        private char[] _blockRanks;
+        private long[] _chunkOffsets;
+        private long[] _lastBits;
+
+        private int _chunkCount;
+
+        private long _encodedOffset;
+
+        // Wrapper for reading 8 bytes at a time; re-created if chunk array changes
+        private ByteBuffer _inputWords;
+
+        private final int[] _blockCounts = new int[BLOCKS_PER_CHUNK];
+
+        public Builder() {
+            this(16);
+        }
+
+        Builder(int chunks) {
+            chunks = Math.max(1, chunks);
+            _chunkRanks = new long[chunks + 1];
+            _blockRanks = new char[chunks * BLOCKS_PER_CHUNK];
+            _chunkOffsets = new long[chunks + 1];
+            _lastBits = new long[(chunks + 63) >> 6];
+        }
+
+        /**
+         * Method to call after encoding a chunk.
+         *
+         * @param chunk Buffer that contains raw content of chunk
+         * @param offset Offset of chunk within buffer
+         * @param len Length of chunk
+         * @param encodedLen Length of encoded chunk, including framing
+         * @param paddingBits Number of padding bits in the last byte of chunk
+         *    (only non-zero for the last chunk)
+         */
+        public void addChunk(byte[] chunk, int offset, int len, int encodedLen, int paddingBits)
+        {
+            final int[] counts = _blockCounts;
+            ByteBuffer words = _inputWords;
+            if ((words == null) || (words.array() != chunk)) {
+                _inputWords = words = ByteBuffer.wrap(chunk);
+            }
+            for (int block = 0; block < BLOCKS_PER_CHUNK; ++block) {
+                final int start = offset + block * BLOCK_SIZE;
+                final int end = offset + Math.min(len, (block + 1) * BLOCK_SIZE);
+                int count = 0;
+                int ptr = start;
+                for (final int wordEnd = end - 7; ptr < wordEnd; ptr += 8) {
+                    count += Long.bitCount(words.getLong(ptr));
+                }
+                for (; ptr < end; ++ptr) {
+                    count += Integer.bitCount(chunk[ptr] & 0xFF);
+                }
+                counts[block] = count;
+            }
+            // padding bits may have been set; those are not part of the bitset
+            final int last = chunk[offset + len - 1];
+            counts[(len - 1) / BLOCK_SIZE] -= Integer.bitCount(last & ((1 << paddingBits) - 1));
+            _addChunk(counts, encodedLen, (last & 1) != 0);
+        }
+
+        /**
+         * @param bitCount Number of bits in the bitset
+         */
+        public PresenceRankIndex build(long bitCount) {
+            return new PresenceRankIndex(bitCount, _chunkCount, _chunkRanks, _blockRanks,
+                    _chunkOffsets, _lastBits);
+        }
+
+        void _addChunk(int[] blockCounts, int encodedLen, boolean lastBit)
+        {
+            final int ix = _chunkCount;
+            if ((ix + 1) == _chunkRanks.length) {
+                final int newSize = ix + (ix >> 1) + 1;
+                _chunkRanks = Arrays.copyOf(_chunkRanks, newSize + 1);
+                _blockRanks = Arrays.copyOf(_blockRanks, newSize * BLOCKS_PER_CHUNK);
+                _chunkOffsets = Arrays.copyOf(_chunkOffsets, newSize + 1);
+                _lastBits = Arrays.copyOf(_lastBits, (newSize + 63) >> 6);
+            }
+            int rank = 0;
+            final int base = ix * BLOCKS_PER_CHUNK;
+            for (int block = 0; block < BLOCKS_PER_CHUNK; ++block) {
+                _blockRanks[base + block] = (char) rank;
+                rank += blockCounts[block];
+            }
+            _chunkRanks[ix+1] = _chunkRanks[ix] + rank;
+            _chunkOffsets[ix] = _encodedOffset;
+            _encodedOffset += encodedLen;
+            _chunkOffsets[ix+1] = _encodedOffset;
+            if (lastBit) {
+                _lastBits[ix >> 6] |= (1L << ix);
+            }
+            _chunkCount = ix+1;
+        }
+    }
+
+    /**
+     * Minimal reader for serialized index content
+     */
+    private final static class Reader
+    {
+        final byte[] _buffer;
+        int _ptr;
+        final int _end;
+
+        Reader(byte[] buffer, int ptr, int end) {
+            _buffer = buffer;
+            _ptr = ptr;
+            _end = end;
+        }
+
+        int readVInt() throws IOException {
+            long v = readVLong();
+            if (v > Integer.MAX_VALUE) {
+                throw new IOException("Invalid presence rank index: VInt overflow");
+            }
+            return (int) v;
+        }
+
+        long readVLong() throws IOException
+        {
+            long value = 0L;
+            for (int shift = 0; shift < 63; shift += 7) {
+                if (_ptr >= _end) {
+                    throw new IOException("Invalid presence rank index: unexpected end of content");
+                }
+                final int b = _buffer[_ptr++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Invalid presence rank index: VLong overflow");
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.util.Arrays;
+
+/**
+ * Simple predicates on values of a single column, evaluated against row group
+ * metadata to find row groups that can not have any matching rows, and may thus
+ * be skipped without accessing their contents: either using footer index (see
+ * {@link SpadeFileReader#findRowGroups}), or statistics in block headers when
+ * streaming (see {@link SpadeSchema#withFilter}).
+ *<p>
+ * Evaluation is conservative: a row group is only excluded if column metadata
+ * proves that no row matches; if column has no statistics (see
+ * {@link SpadeGenerator.Feature#COLUMN_STATISTICS}), only presence of the column
+ * can be used. Numbers are compared numerically (integral and floating-point
+ * values with each other), Strings using {@link String#compareTo}; numbers and
+ * Strings never match each other.
+ */
+public abstract class RowGroupFilter
+{
+    protected final String _column;
+
+    protected RowGroupFilter(String column)
+    {
+        if (column == null) {
+            throw new IllegalArgumentException("Column name can not be null");
+        }
+        _column = column;
+    }
+
+    /*
+    /**********************************************************************
+    /* Factory methods
+    /**********************************************************************
+     */
+
+    /**
+     * Predicate for rows that have a value (including null) for given column.
+     */
+    public static RowGroupFilter isPresent(String column) {
+        return new Present(column);
+    }
+
+    /**
+     * Predicate for rows that have given value for given column.
+     *
+     * @param value Value to match: {@link Number} (other than <code>BigInteger</code> and
+     *    <code>BigDecimal</code>), {@link String}, {@link Boolean}, or null to match null values
+     */
+    public static RowGroupFilter equal(String column, Object value) {
+        return new In(column, new Object[] { _value(value) });
+    }
+
+    /**
+     * Predicate for rows with value less than given value for given column.
+     *
+     * @param value Value to compare to: {@link Number} (other than <code>BigInteger</code>
+     *    and <code>BigDecimal</code>) or {@link String}
+     */
+    public static RowGroupFilter lessThan(String column, Object value)
+    {
+        if (value == null) {
+            throw new IllegalArgumentException("Can not compare to null");
+        }
+        if (value instanceof Boolean) {
+            throw new IllegalArgumentException("Can not compare to java.lang.Boolean");
+        }
+        return new LessThan(column, _value(value));
+    }
+
+    /**
+     * Predicate for rows that have one of given values for given column.
+     */
+    public static RowGroupFilter in(String column, Object... values)
+    {
+        Object[] v = new Object[values.length];
+        for (int i = 0; i < v.length; ++i) {
+            v[i] = _value(values[i]);
+        }
+        return new In(column, v);
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    public String getColumn() { return _column; }
+
+    /**
+     * Method for checking whether given row group may have rows that match
+     * this predicate.
+     *
+     * @return False if no row of the row group can match; true if some may
+     */
+    public boolean mightMatch(SpadeFileIndex.RowGroup rowGroup)
+    {
+        final SpadeFileIndex.ColumnChunk col = rowGroup.findColumn(_column);
+        if (col == null) { // no row has value
+            return false;
+        }
+        final ColumnStatistics stats = col.getStatistics();
+        return (stats == null) || _mightMatch(stats);
+    }
+
+    /**
+     * Method for checking whether a row group may have rows that match this
+     * predicate, given statistics of the column in row group (as written in
+     * block header).
+     *
+     * @param stats Statistics of the column; null if row group has no values for it
+     *
+     * @return False if no row of the row group can match; true if some may
+     */
+    public boolean mightMatch(ColumnStatistics stats) {
+        return (stats != null) && _mightMatch(stats);
+    }
+
+    protected abstract boolean _mightMatch(ColumnStatistics stats);
+
+    /*
+    /**********************************************************************
+    /* Helper methods
+    /**********************************************************************
+     */
+
+    // Converts numbers to Longs or Doubles; verifies that value is of supported type
+    protected static Object _value(Object value)
+    {
+        if ((value == null) || (value instanceof String) || (value instanceof Boolean)
+                || (value instanceof Long) || (value instanceof Double)) {
+            return value;
+        }
+        if ((value instanceof Integer) || (value instanceof Short) || (value instanceof Byte)) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Float) {
+            return ((Number) value).doubleValue();
+        }
+        throw new IllegalArgumentException(String.format(
+                "Unsupported value type for filtering: %s", value.getClass().getName()));
+    }
+
+    /**
+     * @return True if given value may be comparable to non-null values of column
+     *   with given statistics; false if no non-null value can be. Booleans are only
+     *   comparable to values of columns without bounds.
+     */
+    protected static boolean _comparable(Object value, ColumnStatistics stats)
+    {
+        if (stats.getNonNullCount() == 0) {
+            return false;
+        }
+        switch (stats.getValueType()) {
+        case ColumnStatistics.TYPE_INTEGER:
+        case ColumnStatistics.TYPE_DOUBLE:
+            return value instanceof Number;
+        case ColumnStatistics.TYPE_STRING:
+            return value instanceof String;
+        default: // no bounds; may be anything
+            return true;
+        }
+    }
+
+    /**
+     * Comparison of a value to a bound of the same kind (number or String).
+     * Numbers are compared as <code>long</code>s if both are integral, as
+     * <code>double</code>s if both are floating-point; mixed comparisons are
+     * exact (see {@link #_compare(long, double)}), since converting a
+     * <code>long</code> above 2^53 to <code>double</code> may round it.
+     * Comparisons with NaN are always false.
+     */
+    protected static boolean _less(Object a, Object b)
+    {
+        if (a instanceof String) {
+            return ((String) a).compareTo((String) b) < 0;
+        }
+        if (a instanceof Long) {
+            final long l = ((Long) a).longValue();
+            if (b instanceof Long) {
+                return l < ((Long) b).longValue();
+            }
+            final double d = ((Number) b).doubleValue();
+            return !Double.isNaN(d) && (_compare(l, d) < 0);
+        }
+        final double d = ((Number) a).doubleValue();
+        if (b instanceof Long) {
+            return !Double.isNaN(d) && (_compare(((Long) b).longValue(), d) > 0);
+        }
+        return d < ((Number) b).doubleValue();
+    }
+
+    /**
+     * Exact comparison of a <code>long</code> and a (non-NaN) <code>double</code>:
+     * within range of <code>long</code>, compares integral part of the double
+     * (which is exactly representable as <code>long</code>) first, and its
+     * fractional part only if integral parts are equal.
+     *
+     * @return Negative if <code>l</code> is less than <code>d</code>, zero if
+     *    equal, positive if greater
+     */
+    protected static int _compare(long l, double d)
+    {
+        // 2^63 is exact as double; anything at or above is beyond range of long
+        if (d >= 0x1p63) {
+            return -1;
+        }
+        if (d < -0x1p63) {
+            return 1;
+        }
+        final long whole = (long) d; // truncates towards zero, exactly
+        if (l != whole) {
+            return (l < whole) ? -1 : 1;
+        }
+        final double fraction = d - whole;
+        return (fraction > 0.0) ? -1 : ((fraction < 0.0) ? 1 : 0);
+    }
+
+    /*
+    /**********************************************************************
+    /* Implementations
+    /**********************************************************************
+     */
+
+    private final static class Present extends RowGroupFilter
+    {
+        Present(String column) {
+            super(column);
+        }
+
+        @Override
+        protected boolean _mightMatch(ColumnStatistics stats) {
+            // chunk only exists if some row has value
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return _column+" IS PRESENT";
+        }
+    }
+
+    private final static class In extends RowGroupFilter
+    {
+        private final Object[] _values;
+
+        In(String column, Object[] values) {
+            super(column);
+            _values = values;
+        }
+
+        @Override
+        protected boolean _mightMatch(ColumnStatistics stats)
+        {
+            for (Object value : _values) {
+                if (value == null) {
+                    if (stats.getNullCount() > 0) {
+                        return true;
+                    }
+                } else if (_comparable(value, stats)) {
+                    if ((stats.getValueType() == ColumnStatistics.TYPE_NONE)
+                            || (!_less(value, stats.getMin()) && !_less(stats.getMax(), value))) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            if (_values.length == 1) {
+                return _column+" = "+_values[0];
+            }
+            return _column+" IN "+Arrays.toString(_values);
+        }
+    }
+
+    private final static class LessThan extends RowGroupFilter
+    {
+        private final Object _value;
+
+        LessThan(String column, Object value) {
+            super(column);
+            _value = value;
+        }
+
+        @Override
+        protected boolean _mightMatch(ColumnStatistics stats)
+        {
+            if (!_comparable(_value, stats)) {
+                return false;
+            }
+            return (stats.getValueType() == ColumnStatistics.TYPE_NONE)
+                    || _less(stats.getMin(), _value);
+        }
+
+        @Override
+        public String toString() {
+            return _column+" < "+_value;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+/**
+ * Constants that define binary Spade format.
+ *<p>
+ * Encoded content starts with a 4-byte header ({@link #HEADER_BYTE_1} to
+ * {@link #HEADER_BYTE_3}, followed by {@link #FORMAT_VERSION}), followed by
+ * zero or more blocks (row groups), and ends with {@link #MARKER_END}.
+ * Each block consists of:
+ *<ul>
+ * <li>{@link #MARKER_BLOCK} or {@link #MARKER_BLOCK_WITH_STATISTICS}</li>
+ * <li>Number of rows in block (VInt)</li>
+ * <li>Number of columns in block (VInt)</li>
+ * <li>For {@link #MARKER_BLOCK_WITH_STATISTICS} only: length of statistics
+ *    section (VInt), followed by statistics of each column of block (see
+ *    {@link SpadeFileIndex#appendBlockStatistics})</li>
+ * <li>For each column: name (VInt length, UTF-8 bytes), length of column
+ *    content (VInt), and column content, which consists of
+ *  <ul>
+ *   <li>Encoding of values (1 byte, one of <code>COLUMN_ENCODING_xxx</code>)</li>
+ *   <li>Number of values (VInt)</li>
+ *   <li>Presence bitset, as written by {@link PresenceBitsetOutputStream}</li>
+ *   <li>Values of rows that have the column, as per encoding</li>
+ *  </ul>
+ * </li>
+ *</ul>
+ * Since column content is length-prefixed, readers can skip columns they
+ * are not interested in without decoding them; and with statistics in block
+ * header, whole blocks that can not have rows of interest.
+ *<p>
+ * Files may additionally have a footer index after the end marker (see
+ * {@link SpadeFileIndex} for its contents), followed by a fixed-size trailer:
+ * length of footer index (4-byte big-endian int) and {@link #FOOTER_BYTE_1}
+ * to {@link #FOOTER_BYTE_4}. This allows random access to row groups and
+ * columns (see {@link SpadeFileReader}); streaming readers just stop at the
+ * end marker.
+ *<p>
+ * All VInts are unsigned, 7 bits per byte, least-significant group first,
+ * with high bit set for all but the last byte.
+ */
+public final class SpadeConstants
+{
+    private SpadeConstants() { }
+
+    /*
+    /**********************************************************************
+    /* Header, markers
+    /**********************************************************************
+     */
+
+    public final static byte HEADER_BYTE_1 = (byte) 'S';
+    public final static byte HEADER_BYTE_2 = (byte) 'P';
+    public final static byte HEADER_BYTE_3 = (byte) 'D';
+
+    public final static byte FORMAT_VERSION = 1;
+
+    public final static byte MARKER_END = 0x00;
+
+    public final static byte MARKER_BLOCK = 0x01;
+
+    /**
+     * Marker for blocks with column statistics (see {@link ColumnStatistics})
+     * in block header; written if {@link SpadeGenerator.Feature#COLUMN_STATISTICS}
+     * is enabled.
+     */
+    public final static byte MARKER_BLOCK_WITH_STATISTICS = 0x02;
+
+    public final static byte FOOTER_BYTE_1 = (byte) 'S';
+    public final static byte FOOTER_BYTE_2 = (byte) 'P';
+    public final static byte FOOTER_BYTE_3 = (byte) 'D';
+    public final static byte FOOTER_BYTE_4 = (byte) 'F';
+
+    /**
+     * Length of the trailer that follows footer index: 4-byte length of the
+     * index, and 4-byte footer signature.
+     */
+    public final static int TRAILER_LENGTH = 8;
+
+    /*
+    /**********************************************************************
+    /* Column value encodings
+    /**********************************************************************
+     */
+
+    /**
+     * Generic encoding in which each value is encoded as a sequence of
+     * tokens (<code>TOKEN_xxx</code>): single token for scalars, and
+     * full token sequence for Objects and Arrays.
+     */
+    public final static byte COLUMN_ENCODING_TOKENS = 0x01;
+
+    /**
+     * Encoding for columns with only String (and null) values with low
+     * cardinality. Values consist of
+     *<ul>
+     * <li>Number of distinct Strings (VInt)</li>
+     * <li>Distinct Strings, each as VInt length followed by UTF-8 bytes</li>
+     * <li>Bit width of ids (1 byte; 0 - 24)</li>
+     * <li>Ids of values, bit-packed MSB-first, last byte padded with zero bits:
+     *   0 for null, and <code>1</code> to <code>N</code> for Strings of dictionary</li>
+     *</ul>
+     */
+    public final static byte COLUMN_ENCODING_DICTIONARY = 0x02;
+
+    /**
+     * Encoding for columns with only integral (<code>int</code> and <code>long</code>)
+     * and null values. Values consist of
+     *<ul>
+     * <li>Number of null values (VInt)</li>
+     * <li>If there are nulls, bitset with one bit per value, set for nulls, as
+     *   written by {@link PresenceBitsetOutputStream}</li>
+     * <li>Non-null values, split in blocks of 128 (last block may be shorter),
+     *   each encoded using either frame-of-reference or delta encoding, with
+     *   bit-packed offsets (see <code>PackedIntegerCodec</code> for details)</li>
+     *</ul>
+     */
+    public final static byte COLUMN_ENCODING_INTEGERS = 0x03;
+
+    /**
+     * Encoding for columns with only <code>double</code> and null values: nulls
+     * are indicated as with {@link #COLUMN_ENCODING_INTEGERS}, and non-null values
+     * are XOR-encoded against the previous value, as a single bit stream padded
+     * to full bytes at the end (see {@link XorDoubleEncoder} for details).
+     */
+    public final static byte COLUMN_ENCODING_DOUBLES = 0x04;
+
+    /**
+     * Maximum bit width of dictionary ids, to limit dictionary size.
+     */
+    public final static int MAX_DICTIONARY_ID_BITS = 24;
+
+    /*
+    /**********************************************************************
+    /* Value tokens
+    /**********************************************************************
+     */
+
+    public final static byte TOKEN_NULL = 0x01;
+    public final static byte TOKEN_FALSE = 0x02;
+    public final static byte TOKEN_TRUE = 0x03;
+
+    /**
+     * 32-bit int, as zigzag-encoded VInt
+     */
+    public final static byte TOKEN_INT = 0x04;
+
+    /**
+     * 64-bit long, as zigzag-encoded VLong
+     */
+    public final static byte TOKEN_LONG = 0x05;
+
+    /**
+     * Big integer, as VInt length followed by two's-complement big-endian bytes
+     */
+    public final static byte TOKEN_BIG_INTEGER = 0x06;
+
+    /**
+     * 32-bit float, as 4-byte big-endian IEEE 754 bits
+     */
+    public final static byte TOKEN_FLOAT = 0x07;
+
+    /**
+     * 64-bit double, as 8-byte big-endian IEEE 754 bits
+     */
+    public final static byte TOKEN_DOUBLE = 0x08;
+
+    /**
+     * Big decimal, as zigzag-encoded VInt scale followed by unscaled value
+     * encoded like {@link #TOKEN_BIG_INTEGER}
+     */
+    public final static byte TOKEN_BIG_DECIMAL = 0x09;
+
+    /**
+     * String, as VInt length followed by UTF-8 bytes
+     */
+    public final static byte TOKEN_STRING = 0x0A;
+
+    /**
+     * Binary data, as VInt length followed by bytes
+     */
+    public final static byte TOKEN_BINARY = 0x0B;
+
+    public final static byte TOKEN_START_OBJECT = 0x0C;
+    public final static byte TOKEN_END_OBJECT = 0x0D;
+    public final static byte TOKEN_START_ARRAY = 0x0E;
+    public final static byte TOKEN_END_ARRAY = 0x0F;
+
+    /**
+     * Property name within Object value, encoded like {@link #TOKEN_STRING}
+     */
+    public final static byte TOKEN_FIELD_NAME = 0x10;
+}
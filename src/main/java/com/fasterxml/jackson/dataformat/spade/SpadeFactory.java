@@ -0,0 +1,327 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.*;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.core.format.InputAccessor;
+import com.fasterxml.jackson.core.format.MatchStrength;
+import com.fasterxml.jackson.core.io.IOContext;
+
+/**
+ * Factory used for constructing {@link SpadeParser} and {@link SpadeGenerator}
+ * instances; and
+ * the main entry point for Spade format handling, when used with
+ * <code>ObjectMapper</code>:
+ *<pre>
+ *  ObjectMapper mapper = new ObjectMapper(new SpadeFactory());
+ *</pre>
+ */
+public class SpadeFactory extends JsonFactory
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Name used to identify Spade format.
+     * (and returned by {@link #getFormatName()}
+     */
+    public final static String FORMAT_NAME_SPADE = "Spade";
+
+    /**
+     * Default maximum number of rows in a block: enough to fill exactly
+     * one presence bitset chunk.
+     */
+    public final static int DEFAULT_MAX_BLOCK_ROWS = PresenceBitsetOutputStream.CHUNK_SIZE * 8;
+
+    /**
+     * Default (approximate) maximum size of encoded content of a block,
+     * to keep blocks in sub-megabyte range.
+     */
+    public final static int DEFAULT_MAX_BLOCK_BYTES = 512 * 1024;
+
+    /**
+     * Bitfield (set of flags) of all generator features that are enabled
+     * by default.
+     */
+    final static int DEFAULT_SPADE_GENERATOR_FEATURE_FLAGS = SpadeGenerator.Feature.collectDefaults();
+
+    /*
+    /**********************************************************************
+    /* Configuration
+    /**********************************************************************
+     */
+
+    protected int _formatGeneratorFeatures;
+
+    protected int _maxBlockRows;
+
+    protected int _maxBlockBytes;
+
+    /*
+    /**********************************************************************
+    /* Factory construction, configuration
+    /**********************************************************************
+     */
+
+    /**
+     * Default constructor used to create factory instances.
+     * Creation of a factory instance is a light-weight operation,
+     * but it is still a good idea to reuse limited number of
+     * factory instances (and quite often just a single instance):
+     * factories are used as context for storing some reused
+     * processing objects (such as symbol tables parsers use)
+     * and this reuse only works within context of a single
+     * factory instance.
+     */
+    public SpadeFactory() { this(null); }
+
+    public SpadeFactory(ObjectCodec oc) {
+        super(oc);
+        _formatGeneratorFeatures = DEFAULT_SPADE_GENERATOR_FEATURE_FLAGS;
+        _maxBlockRows = DEFAULT_MAX_BLOCK_ROWS;
+        _maxBlockBytes = DEFAULT_MAX_BLOCK_BYTES;
+    }
+
+    public SpadeFactory(SpadeFactory src, ObjectCodec oc)
+    {
+        super(src, oc);
+        _formatGeneratorFeatures = src._formatGeneratorFeatures;
+        _maxBlockRows = src._maxBlockRows;
+        _maxBlockBytes = src._maxBlockBytes;
+    }
+
+    @Override
+    public SpadeFactory copy()
+    {
+        _checkInvalidCopy(SpadeFactory.class);
+        return new SpadeFactory(this, null);
+    }
+
+    /*
+    /**********************************************************************
+    /* Serializable overrides
+    /**********************************************************************
+     */
+
+    /**
+     * Method that we need to override to actually make restoration go
+     * through constructors etc.
+     */
+    @Override
+    protected Object readResolve() {
+        return new SpadeFactory(this, _objectCodec);
+    }
+
+    /*
+    /**********************************************************************
+    /* Versioned
+    /**********************************************************************
+     */
+
+    @Override
+    public Version version() {
+        return PackageVersion.VERSION;
+    }
+
+    /*
+    /**********************************************************************
+    /* Format detection functionality
+    /**********************************************************************
+     */
+
+    @Override
+    public String getFormatName() {
+        return FORMAT_NAME_SPADE;
+    }
+
+    @Override
+    public MatchStrength hasFormat(InputAccessor acc) throws IOException
+    {
+        if (!acc.hasMoreBytes()) {
+            return MatchStrength.INCONCLUSIVE;
+        }
+        final byte[] header = new byte[] {
+                SpadeConstants.HEADER_BYTE_1, SpadeConstants.HEADER_BYTE_2, SpadeConstants.HEADER_BYTE_3
+        };
+        for (byte b : header) {
+            if (!acc.hasMoreBytes()) {
+                return MatchStrength.INCONCLUSIVE;
+            }
+            if (acc.nextByte() != b) {
+                return MatchStrength.NO_MATCH;
+            }
+        }
+        return MatchStrength.FULL_MATCH;
+    }
+
+    /*
+    /**********************************************************************
+    /* Capability introspection
+    /**********************************************************************
+     */
+
+    @Override
+    public boolean canUseCharArrays() { return false; }
+
+    @Override
+    public boolean canHandleBinaryNatively() { return true; }
+
+    @Override
+    public boolean canUseSchema(FormatSchema schema) {
+        return (schema instanceof SpadeSchema);
+    }
+
+    @Override
+    public Class<SpadeGenerator.Feature> getFormatWriteFeatureType() {
+        return SpadeGenerator.Feature.class;
+    }
+
+    /*
+    /**********************************************************************
+    /* Configuration, generator settings
+    /**********************************************************************
+     */
+
+    /**
+     * Method for enabling or disabling specified generator feature
+     * (check {@link SpadeGenerator.Feature} for list of features)
+     */
+    public final SpadeFactory configure(SpadeGenerator.Feature f, boolean state)
+    {
+        if (state) {
+            enable(f);
+        } else {
+            disable(f);
+        }
+        return this;
+    }
+
+    public SpadeFactory enable(SpadeGenerator.Feature f) {
+        _formatGeneratorFeatures |= f.getMask();
+        return this;
+    }
+
+    public SpadeFactory disable(SpadeGenerator.Feature f) {
+        _formatGeneratorFeatures &= ~f.getMask();
+        return this;
+    }
+
+    public final boolean isEnabled(SpadeGenerator.Feature f) {
+        return (_formatGeneratorFeatures & f.getMask()) != 0;
+    }
+
+    /**
+     * Method for specifying maximum number of rows generators buffer in a
+     * block before writing it out.
+     */
+    public SpadeFactory setMaxBlockRows(int rows) {
+        if (rows < 1) {
+            throw new IllegalArgumentException(String.format("Invalid maximum block rows %d", rows));
+        }
+        _maxBlockRows = rows;
+        return this;
+    }
+
+    public int getMaxBlockRows() { return _maxBlockRows; }
+
+    /**
+     * Method for specifying approximate maximum size of encoded content generators
+     * buffer in a block before writing it out.
+     */
+    public SpadeFactory setMaxBlockBytes(int bytes) {
+        if (bytes < 1) {
+            throw new IllegalArgumentException(String.format("Invalid maximum block bytes %d", bytes));
+        }
+        _maxBlockBytes = bytes;
+        return this;
+    }
+
+    public int getMaxBlockBytes() { return _maxBlockBytes; }
+
+    /*
+    /**********************************************************************
+    /* Overridden parser factory methods
+    /**********************************************************************
+     */
+
+    @Override
+    protected SpadeParser _createParser(InputStream in, IOContext ctxt) throws IOException {
+        return new SpadeParser(ctxt, _parserFeatures, _objectCodec, in);
+    }
+
+    @Override
+    protected SpadeParser _createParser(byte[] data, int offset, int len, IOContext ctxt) throws IOException {
+        return new SpadeParser(ctxt, _parserFeatures, _objectCodec,
+                new ByteArrayInputStream(data, offset, len));
+    }
+
+    @Override
+    protected JsonParser _createParser(Reader r, IOContext ctxt) throws IOException {
+        return _nonByteSource();
+    }
+
+    @Override
+    protected JsonParser _createParser(char[] data, int offset, int len, IOContext ctxt,
+            boolean recyclable) throws IOException {
+        return _nonByteSource();
+    }
+
+    @Override
+    protected JsonParser _createParser(DataInput input, IOContext ctxt) throws IOException {
+        throw new UnsupportedOperationException("Can not create parser for DataInput source");
+    }
+
+    /*
+    /**********************************************************************
+    /* Overridden generator factory methods
+    /**********************************************************************
+     */
+
+    @Override
+    public SpadeGenerator createGenerator(OutputStream out, JsonEncoding enc) throws IOException {
+        return _createSpadeGenerator(_createContext(out, false), out);
+    }
+
+    /**
+     * Since Spade format always uses UTF-8 internally, no encoding need
+     * to be passed to this method.
+     */
+    @Override
+    public SpadeGenerator createGenerator(OutputStream out) throws IOException {
+        return _createSpadeGenerator(_createContext(out, false), out);
+    }
+
+    @Override
+    protected SpadeGenerator _createUTF8Generator(OutputStream out, IOContext ctxt) throws IOException {
+        return _createSpadeGenerator(ctxt, out);
+    }
+
+    @Override
+    protected JsonGenerator _createGenerator(Writer out, IOContext ctxt) throws IOException {
+        return _nonByteTarget();
+    }
+
+    @Override
+    protected Writer _createWriter(OutputStream out, JsonEncoding enc, IOContext ctxt) throws IOException {
+        return _nonByteTarget();
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    protected SpadeGenerator _createSpadeGenerator(IOContext ctxt, OutputStream out) throws IOException
+    {
+        return new SpadeGenerator(ctxt, _generatorFeatures, _formatGeneratorFeatures,
+                _objectCodec, out, _maxBlockRows, _maxBlockBytes);
+    }
+
+    protected <T> T _nonByteTarget() {
+        throw new UnsupportedOperationException("Can not create generator for non-byte-based target");
+    }
+
+    protected <T> T _nonByteSource() {
+        throw new UnsupportedOperationException("Can not create parser for non-byte-based source");
+    }
+}
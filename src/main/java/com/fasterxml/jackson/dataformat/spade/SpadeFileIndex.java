@@ -0,0 +1,532 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.dataformat.spade.util.ByteBuilder;
+
+/**
+ * Footer index of a Spade file: location (offset and length) of each row
+ * group (block), and for each of its columns, location of column content,
+ * value encoding and number of values. Written by {@link SpadeGenerator}
+ * if {@link SpadeGenerator.Feature#FOOTER_INDEX} is enabled, and used by
+ * {@link SpadeFileReader} to access columns of row groups directly.
+ *<p>
+ * Serialized form consists of number of row groups (VInt), followed, for each
+ * row group, by: offset of block marker (VLong), length of block (VInt), number
+ * of rows (VInt) and number of columns (VInt); and for each column: name (VInt
+ * length, UTF-8 bytes), offset of column content relative to block (VInt),
+ * length of content (VInt), value encoding (1 byte), number of values (VInt) and
+ * length of serialized column statistics (VInt; 0 if none), followed by statistics.
+ *<p>
+ * Column statistics (see {@link ColumnStatistics}) consist of number of null values
+ * (VInt), estimated number of distinct values plus one (VLong; 0 if not known), value
+ * type (1 byte; one of <code>ColumnStatistics.TYPE_xxx</code>) and, unless type is
+ * {@link ColumnStatistics#TYPE_NONE}, lower and upper bounds: as 8-byte big-endian
+ * longs for integers, raw bits of doubles in same layout for doubles, and as VInt
+ * length followed by UTF-8 bytes for Strings. Same serialization is used for
+ * statistics written in block headers (see {@link #appendBlockStatistics}).
+ *<p>
+ * Instances are immutable.
+ */
+public final class SpadeFileIndex
+{
+    protected final List<RowGroup> _rowGroups;
+
+    protected final long _rowCount;
+
+    protected SpadeFileIndex(List<RowGroup> rowGroups)
+    {
+        _rowGroups = Collections.unmodifiableList(rowGroups);
+        long rows = 0L;
+        for (RowGroup rg : rowGroups) {
+            rows += rg.getRowCount();
+        }
+        _rowCount = rows;
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors
+    /**********************************************************************
+     */
+
+    public int getRowGroupCount() { return _rowGroups.size(); }
+
+    public RowGroup getRowGroup(int index) { return _rowGroups.get(index); }
+
+    public List<RowGroup> getRowGroups() { return _rowGroups; }
+
+    /**
+     * @return Total number of rows in all row groups
+     */
+    public long getRowCount() { return _rowCount; }
+
+    /*
+    /**********************************************************************
+    /* Serialization
+    /**********************************************************************
+     */
+
+    public void appendTo(ByteBuilder out)
+    {
+        final ByteBuilder stats = new ByteBuilder(100);
+        out.appendVInt(_rowGroups.size());
+        for (RowGroup rg : _rowGroups) {
+            out.appendVLong(rg._offset);
+            out.appendVInt(rg._length);
+            out.appendVInt(rg._rowCount);
+            out.appendVInt(rg._columns.size());
+            for (ColumnChunk col : rg._columns) {
+                byte[] name = col._name.getBytes(StandardCharsets.UTF_8);
+                out.appendLengthPrefixed(name, 0, name.length);
+                out.appendVInt((int) (col._offset - rg._offset));
+                out.appendVInt(col._length);
+                out.write(col._encoding);
+                out.appendVInt(col._valueCount);
+                if (col._statistics == null) {
+                    out.appendVInt(0);
+                } else {
+                    stats.reset();
+                    _appendStatistics(col._statistics, stats);
+                    out.appendVInt(stats.size());
+                    out.write(stats.getBuffer(), 0, stats.size());
+                }
+            }
+        }
+    }
+
+    /**
+     * Method for reading serialized index.
+     *
+     * @param dataLength Length of content that index refers to (that is, offset
+     *    of the footer index in file); used for validating locations
+     */
+    public static SpadeFileIndex read(byte[] buffer, int offset, int len, long dataLength)
+        throws IOException
+    {
+        final Reader r = new Reader(buffer, offset, offset + len, "footer index");
+        final int groupCount = r.readVInt();
+        if (groupCount > len) {
+            throw r._error(String.format("%d row groups", groupCount));
+        }
+        List<RowGroup> rowGroups = new ArrayList<>(groupCount);
+        for (int i = 0; i < groupCount; ++i) {
+            final long groupOffset = r.readVLong();
+            final int groupLength = r.readVInt();
+            if (groupOffset + groupLength > dataLength) {
+                throw r._error(String.format(
+                        "row group #%d (offset %d, length %d) past end of data (%d)",
+                        i, groupOffset, groupLength, dataLength));
+            }
+            final int rowCount = r.readVInt();
+            final int columnCount = r.readVInt();
+            List<ColumnChunk> columns = new ArrayList<>(Math.min(columnCount, len));
+            for (int j = 0; j < columnCount; ++j) {
+                final String name = r.readString();
+                final int colOffset = r.readVInt();
+                final int colLength = r.readVInt();
+                if ((long) colOffset + colLength > groupLength) {
+                    throw r._error(String.format(
+                            "column '%s' of row group #%d past end of row group", name, i));
+                }
+                final int encoding = r.readByte();
+                final int valueCount = r.readVInt();
+                columns.add(new ColumnChunk(name, groupOffset + colOffset, colLength,
+                        encoding, valueCount, _readStatistics(r, valueCount)));
+            }
+            rowGroups.add(new RowGroup(groupOffset, groupLength, rowCount, columns));
+        }
+        if (r._ptr != r._end) {
+            throw r._error(String.format("%d trailing bytes", r._end - r._ptr));
+        }
+        return new SpadeFileIndex(rowGroups);
+    }
+
+    /**
+     * Method for serializing statistics of a column of a block, as an entry of
+     * statistics section of block header (see
+     * {@link SpadeConstants#MARKER_BLOCK_WITH_STATISTICS}): column name (VInt length,
+     * UTF-8 bytes), number of values (VInt) and length of serialized statistics
+     * (VInt), followed by statistics.
+     */
+    public static void appendBlockStatistics(ByteBuilder out, String name, ColumnStatistics stats)
+    {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        out.appendLengthPrefixed(nameBytes, 0, nameBytes.length);
+        out.appendVInt(stats.getPresentCount());
+        final ByteBuilder content = new ByteBuilder(50);
+        _appendStatistics(stats, content);
+        out.appendLengthPrefixed(content.getBuffer(), 0, content.size());
+    }
+
+    /**
+     * Method for reading statistics section of a block header, as written
+     * using {@link #appendBlockStatistics}.
+     *
+     * @return Statistics of columns of the block, by column name, in order of appearance
+     */
+    public static Map<String,ColumnStatistics> readBlockStatistics(byte[] buffer, int offset, int len)
+        throws IOException
+    {
+        final Reader r = new Reader(buffer, offset, offset + len, "block statistics");
+        Map<String,ColumnStatistics> result = new LinkedHashMap<>();
+        while (r._ptr < r._end) {
+            final String name = r.readString();
+            result.put(name, _readStatistics(r, r.readVInt()));
+        }
+        return result;
+    }
+
+    protected static void _appendStatistics(ColumnStatistics stats, ByteBuilder out)
+    {
+        out.appendVInt(stats.getNullCount());
+        out.appendVLong(stats.getDistinctCount() + 1L);
+        out.write(stats.getValueType());
+        switch (stats.getValueType()) {
+        case ColumnStatistics.TYPE_INTEGER:
+            out.appendInt64((Long) stats.getMin());
+            out.appendInt64((Long) stats.getMax());
+            break;
+        case ColumnStatistics.TYPE_DOUBLE:
+            out.appendInt64(Double.doubleToRawLongBits((Double) stats.getMin()));
+            out.appendInt64(Double.doubleToRawLongBits((Double) stats.getMax()));
+            break;
+        case ColumnStatistics.TYPE_STRING:
+            byte[] b = ((String) stats.getMin()).getBytes(StandardCharsets.UTF_8);
+            out.appendLengthPrefixed(b, 0, b.length);
+            b = ((String) stats.getMax()).getBytes(StandardCharsets.UTF_8);
+            out.appendLengthPrefixed(b, 0, b.length);
+            break;
+        default:
+        }
+    }
+
+    protected static ColumnStatistics _readStatistics(Reader r, int valueCount) throws IOException
+    {
+        final int length = r.readVInt();
+        if (length == 0) {
+            return null;
+        }
+        final int end = r._ptr + length;
+        if (length < 0 || end > r._end) {
+            r._reportEOF();
+        }
+        final int nullCount = r.readVInt();
+        final long distinct = r.readVLong() - 1L;
+        final int type = r.readByte();
+        final Object min, max;
+        switch (type) {
+        case ColumnStatistics.TYPE_NONE:
+            min = max = null;
+            break;
+        case ColumnStatistics.TYPE_INTEGER:
+            min = r.readInt64();
+            max = r.readInt64();
+            break;
+        case ColumnStatistics.TYPE_DOUBLE:
+            min = Double.longBitsToDouble(r.readInt64());
+            max = Double.longBitsToDouble(r.readInt64());
+            break;
+        case ColumnStatistics.TYPE_STRING:
+            min = r.readString();
+            max = r.readString();
+            break;
+        default:
+            throw r._error(String.format("unrecognized statistics value type %d", type));
+        }
+        if (r._ptr > end) {
+            throw r._error("column statistics longer than indicated");
+        }
+        if (nullCount > valueCount) {
+            throw r._error(String.format("null count %d exceeds value count %d",
+                    nullCount, valueCount));
+        }
+        // skip anything added in later versions
+        r._ptr = end;
+        return new ColumnStatistics(valueCount, nullCount, distinct, type, min, max);
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper classes
+    /**********************************************************************
+     */
+
+    /**
+     * Location and contents of a single row group (block)
+     */
+    public final static class RowGroup
+    {
+        protected final long _offset;
+        protected final int _length;
+        protected final int _rowCount;
+        protected final List<ColumnChunk> _columns;
+
+        protected RowGroup(long offset, int length, int rowCount, List<ColumnChunk> columns)
+        {
+            _offset = offset;
+            _length = length;
+            _rowCount = rowCount;
+            _columns = Collections.unmodifiableList(columns);
+        }
+
+        /**
+         * @return Offset of the block (its marker) within file
+         */
+        public long getOffset() { return _offset; }
+
+        /**
+         * @return Length of the block, including its header
+         */
+        public int getLength() { return _length; }
+
+        public int getRowCount() { return _rowCount; }
+
+        /**
+         * @return Columns that have values in row group, in order of appearance
+         */
+        public List<ColumnChunk> getColumns() { return _columns; }
+
+        /**
+         * @return Column with given name, if row group has values for it; null if not
+         */
+        public ColumnChunk findColumn(String name)
+        {
+            for (ColumnChunk col : _columns) {
+                if (col._name.equals(name)) {
+                    return col;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Location and metadata of contents of a single column within a row group
+     */
+    public final static class ColumnChunk
+    {
+        protected final String _name;
+        protected final long _offset;
+        protected final int _length;
+        protected final int _encoding;
+        protected final int _valueCount;
+        protected final ColumnStatistics _statistics;
+
+        protected ColumnChunk(String name, long offset, int length, int encoding, int valueCount,
+                ColumnStatistics statistics)
+        {
+            _name = name;
+            _offset = offset;
+            _length = length;
+            _encoding = encoding;
+            _valueCount = valueCount;
+            _statistics = statistics;
+        }
+
+        public String getName() { return _name; }
+
+        /**
+         * @return Offset of column content (starting with value encoding) within file
+         */
+        public long getOffset() { return _offset; }
+
+        public int getLength() { return _length; }
+
+        /**
+         * @return Value encoding (one of <code>SpadeConstants.COLUMN_ENCODING_xxx</code>)
+         */
+        public int getEncoding() { return _encoding; }
+
+        /**
+         * @return Number of values, that is, number of rows that have the column
+         */
+        public int getValueCount() { return _valueCount; }
+
+        /**
+         * @return Statistics of values, if written (see
+         *    {@link SpadeGenerator.Feature#COLUMN_STATISTICS}); null if not
+         */
+        public ColumnStatistics getStatistics() { return _statistics; }
+    }
+
+    /**
+     * Builder used for constructing index as blocks are written: caller
+     * reports all bytes written, so that builder can keep track of offsets.
+     */
+    public final static class Builder
+    {
+        private final List<RowGroup> _rowGroups = new ArrayList<>();
+
+        // Offset of the next byte to be written
+        private long _position;
+
+        // State of the row group being written, if any
+        private long _groupOffset = -1L;
+        private int _groupRowCount;
+        private List<ColumnChunk> _groupColumns;
+
+        /**
+         * @param position Number of bytes written before the first block (that is,
+         *    length of header)
+         */
+        public Builder(long position) {
+            _position = position;
+        }
+
+        /**
+         * @return Offset of the next byte to be written
+         */
+        public long getPosition() { return _position; }
+
+        /**
+         * Method called when starting to write a block at the current position.
+         *
+         * @param headerLength Length of block header (marker, row and column counts)
+         */
+        public void startRowGroup(int rowCount, int headerLength)
+        {
+            _finishRowGroup();
+            _groupOffset = _position;
+            _groupRowCount = rowCount;
+            _groupColumns = new ArrayList<>();
+            _position += headerLength;
+        }
+
+        /**
+         * Method called when writing contents of a column of the current block.
+         *
+         * @param headerLength Length of column header (name and content length)
+         *    that precedes content
+         */
+        public void addColumn(String name, int headerLength, int contentLength,
+                int encoding, int valueCount) {
+            addColumn(name, headerLength, contentLength, encoding, valueCount, null);
+        }
+
+        /**
+         * Alternative to {@link #addColumn(String, int, int, int, int)} that also
+         * includes statistics of column values, if not null.
+         */
+        public void addColumn(String name, int headerLength, int contentLength,
+                int encoding, int valueCount, ColumnStatistics statistics)
+        {
+            if (_groupColumns == null) {
+                throw new IllegalStateException("Can not add column '"+name+"': no row group started");
+            }
+            _position += headerLength;
+            _groupColumns.add(new ColumnChunk(name, _position, contentLength, encoding, valueCount,
+                    statistics));
+            _position += contentLength;
+        }
+
+        /**
+         * Method for indicating that given number of bytes were written outside
+         * of blocks (like end marker)
+         */
+        public void advance(int bytes)
+        {
+            _finishRowGroup();
+            _position += bytes;
+        }
+
+        public SpadeFileIndex build()
+        {
+            _finishRowGroup();
+            return new SpadeFileIndex(new ArrayList<RowGroup>(_rowGroups));
+        }
+
+        private void _finishRowGroup()
+        {
+            if (_groupColumns != null) {
+                _rowGroups.add(new RowGroup(_groupOffset, (int) (_position - _groupOffset),
+                        _groupRowCount, _groupColumns));
+                _groupColumns = null;
+            }
+        }
+    }
+
+    /**
+     * Minimal reader for serialized index content (and statistics of block headers)
+     */
+    private final static class Reader
+    {
+        final byte[] _buffer;
+        int _ptr;
+        final int _end;
+        // Description of content, for error messages
+        final String _desc;
+
+        Reader(byte[] buffer, int ptr, int end, String desc) {
+            _buffer = buffer;
+            _ptr = ptr;
+            _end = end;
+            _desc = desc;
+        }
+
+        int readByte() throws IOException {
+            if (_ptr >= _end) {
+                _reportEOF();
+            }
+            return _buffer[_ptr++] & 0xFF;
+        }
+
+        int readVInt() throws IOException {
+            long v = readVLong();
+            if (v > Integer.MAX_VALUE) {
+                throw _error("VInt overflow");
+            }
+            return (int) v;
+        }
+
+        long readVLong() throws IOException
+        {
+            long value = 0L;
+            for (int shift = 0; shift < 63; shift += 7) {
+                final int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if (b < 0x80) {
+                    return value;
+                }
+            }
+            throw _error("VLong overflow");
+        }
+
+        long readInt64() throws IOException
+        {
+            if (_ptr + 8 > _end) {
+                _reportEOF();
+            }
+            long value = 0L;
+            for (int i = 0; i < 8; ++i) {
+                value = (value << 8) | (_buffer[_ptr++] & 0xFF);
+            }
+            return value;
+        }
+
+        String readString() throws IOException
+        {
+            final int len = readVInt();
+            if (len > (_end - _ptr)) {
+                _reportEOF();
+            }
+            String str = new String(_buffer, _ptr, len, StandardCharsets.UTF_8);
+            _ptr += len;
+            return str;
+        }
+
+        void _reportEOF() throws IOException {
+            throw _error("unexpected end of content");
+        }
+
+        IOException _error(String msg) {
+            return new IOException("Invalid Spade "+_desc+": "+msg);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import static com.fasterxml.jackson.dataformat.spade.SpadeConstants.*;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reader for random access to Spade files written with footer index (see
+ * {@link SpadeGenerator.Feature#FOOTER_INDEX}). Opening a file only reads
+ * its header and footer index, regardless of file size; row groups are
+ * memory-mapped (using {@link FileChannel#map}) on first access, one row group
+ * at a time, and column contents are accessed directly from mapped regions.
+ *<p>
+ * Column contents may be accessed:
+ *<ul>
+ * <li>As read-only {@link ByteBuffer}s ({@link #getColumnContent}) that share
+ *   content with mapped region</li>
+ * <li>As presence bitsets ({@link #getPresence}), decoded one chunk at a time
+ *   from mapped region; for example, to iterate over rows using {@link PresenceIterator}</li>
+ * <li>Using {@link ColumnReader} ({@link #readColumn}) for decoding values;
+ *   since value decoders operate on byte arrays, content of the column (but
+ *   nothing else) is copied into buffer of the column reader</li>
+ *</ul>
+ * Row groups to access may be selected using {@link #findRowGroups}, which
+ * evaluates a {@link RowGroupFilter} against column statistics of the index.
+ *<p>
+ * Instances are not thread-safe, since mapping is done lazily.
+ */
+public class SpadeFileReader implements Closeable
+{
+    protected final FileChannel _channel;
+
+    protected final SpadeFileIndex _index;
+
+    /**
+     * Mapped contents of row groups, created on first access
+     */
+    protected final ByteBuffer[] _rowGroupContents;
+
+    /*
+    /**********************************************************************
+    /* Life-cycle
+    /**********************************************************************
+     */
+
+    public SpadeFileReader(File file) throws IOException {
+        this(FileChannel.open(file.toPath(), StandardOpenOption.READ));
+    }
+
+    /**
+     * @param channel Channel to read file from; will be closed when reader is closed
+     */
+    public SpadeFileReader(FileChannel channel) throws IOException
+    {
+        _channel = channel;
+        try {
+            _index = _readIndex(channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        _rowGroupContents = new ByteBuffer[_index.getRowGroupCount()];
+    }
+
+    @Override
+    public void close() throws IOException {
+        _channel.close();
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    public SpadeFileIndex getIndex() { return _index; }
+
+    public int getRowGroupCount() { return _index.getRowGroupCount(); }
+
+    /**
+     * Method for finding row groups that may have rows matching given filter,
+     * based on footer index only: row groups excluded by filter are neither
+     * mapped nor read.
+     *
+     * @return Indexes of row groups that may have matching rows, in ascending order
+     */
+    public int[] findRowGroups(RowGroupFilter filter)
+    {
+        final int count = _index.getRowGroupCount();
+        int[] result = new int[count];
+        int matches = 0;
+        for (int i = 0; i < count; ++i) {
+            if (filter.mightMatch(_index.getRowGroup(i))) {
+                result[matches++] = i;
+            }
+        }
+        return Arrays.copyOf(result, matches);
+    }
+
+    /**
+     * Method for accessing encoded content of a column of given row group:
+     * value encoding, number of values, presence bitset and values, as
+     * described in {@link SpadeConstants}.
+     *
+     * @return Read-only buffer with column content (from its position to limit),
+     *    if row group has values for the column; null if not
+     */
+    public ByteBuffer getColumnContent(int rowGroup, String column) throws IOException
+    {
+        final SpadeFileIndex.RowGroup rg = _index.getRowGroup(rowGroup);
+        final SpadeFileIndex.ColumnChunk col = rg.findColumn(column);
+        if (col == null) {
+            return null;
+        }
+        ByteBuffer bb = _rowGroupContents[rowGroup];
+        if (bb == null) {
+            bb = _channel.map(FileChannel.MapMode.READ_ONLY, rg.getOffset(), rg.getLength())
+                    .asReadOnlyBuffer();
+            _rowGroupContents[rowGroup] = bb;
+        }
+        bb = bb.duplicate();
+        final int start = (int) (col.getOffset() - rg.getOffset());
+        bb.limit(start + col.getLength());
+        bb.position(start);
+        return bb.slice();
+    }
+
+    /**
+     * Method for accessing presence bitset of a column of given row group.
+     *
+     * @return Stream for reading presence bitset, if row group has values for
+     *    the column; null if not
+     */
+    public PresenceBitsetInputStream getPresence(int rowGroup, String column) throws IOException
+    {
+        final ByteBuffer content = getColumnContent(rowGroup, column);
+        if (content == null) {
+            return null;
+        }
+        // skip value encoding and value count
+        content.get();
+        while (content.hasRemaining() && (content.get() < 0)) { }
+        return new PresenceBitsetInputStream(new BufferInputStream(content));
+    }
+
+    /**
+     * Method for loading contents of a column of given row group into given
+     * column reader, for decoding values.
+     *
+     * @return True if row group has values for the column (and they were loaded);
+     *    false if not
+     */
+    public boolean readColumn(int rowGroup, String column, ColumnReader reader) throws IOException
+    {
+        final ByteBuffer content = getColumnContent(rowGroup, column);
+        if (content == null) {
+            return false;
+        }
+        final int len = content.remaining();
+        content.get(reader.getBuffer(len), 0, len);
+        reader.load(len, _index.getRowGroup(rowGroup).getRowCount());
+        return true;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    protected static SpadeFileIndex _readIndex(FileChannel channel) throws IOException
+    {
+        final long size = channel.size();
+        // header, end marker, empty index and trailer at least
+        if (size < 4 + 1 + 1 + TRAILER_LENGTH) {
+            throw new IOException(String.format(
+                    "Invalid Spade file: too short (%d bytes) to have footer index", size));
+        }
+        final ByteBuffer header = _readFully(channel, 0L, 4);
+        if (header.get(0) != HEADER_BYTE_1 || header.get(1) != HEADER_BYTE_2
+                || header.get(2) != HEADER_BYTE_3) {
+            throw new IOException("Invalid Spade file: content does not start with 'SPD' signature");
+        }
+        if (header.get(3) != FORMAT_VERSION) {
+            throw new IOException(String.format("Unsupported Spade format version %d (expected %d)",
+                    header.get(3), FORMAT_VERSION));
+        }
+        final ByteBuffer trailer = _readFully(channel, size - TRAILER_LENGTH, TRAILER_LENGTH);
+        if (trailer.get(4) != FOOTER_BYTE_1 || trailer.get(5) != FOOTER_BYTE_2
+                || trailer.get(6) != FOOTER_BYTE_3 || trailer.get(7) != FOOTER_BYTE_4) {
+            throw new IOException("Invalid Spade file: no footer index (missing 'SPDF' signature at end)");
+        }
+        final int footerLength = trailer.getInt(0);
+        final long footerOffset = size - TRAILER_LENGTH - footerLength;
+        if (footerLength <= 0 || footerOffset < 5) {
+            throw new IOException(String.format("Invalid Spade file: invalid footer index length %d",
+                    footerLength));
+        }
+        final ByteBuffer footer = _readFully(channel, footerOffset, footerLength);
+        // data ends with end marker, right before footer
+        return SpadeFileIndex.read(footer.array(), 0, footerLength, footerOffset - 1);
+    }
+
+    private static ByteBuffer _readFully(FileChannel channel, long offset, int len) throws IOException
+    {
+        final ByteBuffer bb = ByteBuffer.allocate(len);
+        while (bb.hasRemaining()) {
+            if (channel.read(bb, offset + bb.position()) < 0) {
+                throw new IOException("Unexpected end-of-input in Spade file at offset "+(offset + bb.position()));
+            }
+        }
+        return bb;
+    }
+
+    /**
+     * Input stream for reading content of a buffer, without copying it
+     */
+    private final static class BufferInputStream extends InputStream
+    {
+        private final ByteBuffer _buffer;
+
+        BufferInputStream(ByteBuffer bb) {
+            _buffer = bb;
+        }
+
+        @Override
+        public int read() {
+            return _buffer.hasRemaining() ? (_buffer.get() & 0xFF) : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int offset, int len)
+        {
+            if (len == 0) {
+                return 0;
+            }
+            final int count = Math.min(len, _buffer.remaining());
+            if (count == 0) {
+                return -1;
+            }
+            _buffer.get(b, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n)
+        {
+            final int count = (int) Math.max(0L, Math.min(n, _buffer.remaining()));
+            _buffer.position(_buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return _buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,755 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import static com.fasterxml.jackson.dataformat.spade.SpadeConstants.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.core.base.GeneratorBase;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.json.JsonWriteContext;
+import com.fasterxml.jackson.dataformat.spade.util.ByteBuilder;
+
+/**
+ * {@link JsonGenerator} that writes content in columnar Spade format. Content
+ * is expected to be a sequence of rows, each row being a JSON Object: either
+ * written as a sequence of root-level values (as with <code>SequenceWriter</code>),
+ * or as elements of a root-level JSON Array (as with serializing a {@link java.util.List}).
+ * Properties of row Objects become columns; their values may be of any type.
+ *<p>
+ * Rows are buffered into blocks (row groups), each block written out once it has
+ * {@link SpadeFactory#getMaxBlockRows()} rows or about {@link SpadeFactory#getMaxBlockBytes()}
+ * bytes of encoded content, so memory usage is bounded by block size. Note that
+ * {@link #flush()} does NOT force writing of an incomplete block, as that would
+ * result in tiny blocks when flushing after each row; block is only written
+ * when full, or when generator is closed.
+ */
+public class SpadeGenerator extends GeneratorBase
+{
+    /**
+     * Enumeration that defines all togglable features for Spade generators.
+     */
+    public enum Feature implements FormatFeature
+    {
+        /**
+         * Feature that determines whether presence bitsets of columns are encoded
+         * using {@link NibblerEncoder} (if enabled) or {@link BitRatEncoder} (if disabled).
+         * BitRat usually compresses better for sparse bitsets.
+         *<p>
+         * Default value is <code>false</code>, meaning BitRat is used.
+         */
+        PRESENCE_NIBBLER(false),
+
+        /**
+         * Feature that determines whether codec for presence bitsets is chosen
+         * separately for each chunk (see {@link PresenceCodecSelector}), so that
+         * chunks with no or all rows present take no space, and sparse, dense
+         * and incompressible chunks are stored in whatever form is most compact.
+         * If enabled, {@link #PRESENCE_NIBBLER} has no effect.
+         *<p>
+         * Default value is <code>true</code>, meaning codec is chosen per chunk.
+         */
+        ADAPTIVE_PRESENCE(true),
+
+        /**
+         * Feature that determines whether columns with only String (and null) values
+         * are dictionary-encoded, as long as they have at most
+         * {@link ColumnWriter#DEFAULT_MAX_DICTIONARY_SIZE} distinct values within a block.
+         * This typically reduces size of low-cardinality columns (like log levels or
+         * host names) significantly, and allows readers to avoid decoding the same
+         * String values repeatedly.
+         *<p>
+         * Default value is <code>true</code>, meaning dictionary encoding is used when possible.
+         */
+        DICTIONARY_ENCODING(true),
+
+        /**
+         * Feature that determines whether columns with only integral (<code>int</code>
+         * and <code>long</code>) values are encoded in blocks of 128 values, using
+         * frame-of-reference or delta encoding with bit-packing. This is much
+         * more compact for timestamps, counters and other values with small
+         * ranges or differences.
+         *<p>
+         * Default value is <code>true</code>, meaning integer encoding is used when possible.
+         */
+        PACKED_INTEGERS(true),
+
+        /**
+         * Feature that determines whether columns with only <code>double</code> values
+         * are encoded by XOR-ing each value with the previous one, and only storing
+         * meaningful bits of the result. This is much more compact for slowly changing
+         * values like measurements and prices; all values (including NaNs,
+         * infinities and negative zero) are preserved exactly.
+         *<p>
+         * Default value is <code>true</code>, meaning XOR encoding is used when possible.
+         */
+        XOR_DOUBLES(true),
+
+        /**
+         * Feature that determines whether a footer index (see {@link SpadeFileIndex})
+         * is written after the end marker, with locations of all blocks and their
+         * columns. This allows {@link SpadeFileReader} to only access row groups and
+         * columns it needs, without reading through the whole file; but is only
+         * useful when writing files (or other random-access storage).
+         * Footer does not affect streaming readers, which stop at the end marker.
+         *<p>
+         * Default value is <code>false</code>, meaning no footer index is written.
+         */
+        FOOTER_INDEX(false),
+
+        /**
+         * Feature that determines whether statistics of row values (see
+         * {@link ColumnStatistics}) are collected for each column of each block, and
+         * written in block header (and in footer index, if {@link #FOOTER_INDEX} is
+         * also enabled). Statistics allow readers to skip row groups that can not match
+         * a filter (see {@link RowGroupFilter}): both streaming readers (see
+         * {@link SpadeSchema#withFilter}) and {@link SpadeFileReader}; at the cost
+         * of some processing for each value written.
+         *<p>
+         * Default value is <code>false</code>, meaning no statistics are collected.
+         */
+        COLUMN_STATISTICS(false),
+        ;
+
+        protected final boolean _defaultState;
+        protected final int _mask;
+
+        /**
+         * Method that calculates bit set (flags) of all features that
+         * are enabled by default.
+         */
+        public static int collectDefaults()
+        {
+            int flags = 0;
+            for (Feature f : values()) {
+                if (f.enabledByDefault()) {
+                    flags |= f.getMask();
+                }
+            }
+            return flags;
+        }
+
+        private Feature(boolean defaultState) {
+            _defaultState = defaultState;
+            _mask = (1 << ordinal());
+        }
+
+        @Override public boolean enabledByDefault() { return _defaultState; }
+        @Override public int getMask() { return _mask; }
+        @Override public boolean enabledIn(int flags) { return (flags & _mask) != 0; }
+    }
+
+    /*
+    /**********************************************************************
+    /* Configuration
+    /**********************************************************************
+     */
+
+    protected final IOContext _ioContext;
+
+    protected final OutputStream _out;
+
+    protected int _formatFeatures;
+
+    protected final int _maxBlockRows;
+
+    protected final int _maxBlockBytes;
+
+    /*
+    /**********************************************************************
+    /* Block state
+    /**********************************************************************
+     */
+
+    /**
+     * Columns seen so far, in order of first appearance; retained across
+     * blocks to allow reuse of buffers, as long as they have values in each
+     * block: columns without values are dropped when block is written, so
+     * that rows with dynamic property names do not keep buffers of all names
+     * ever seen.
+     */
+    protected final Map<String,ColumnWriter> _columns = new LinkedHashMap<>();
+
+    // Column of the current row property
+    protected ColumnWriter _currentColumn;
+
+    // Number of complete rows in current block
+    protected int _rowCount;
+
+    // Number of currently open Objects and Arrays
+    protected int _depth;
+
+    // Nesting level of row properties: 1 for root-level rows, 2 for rows in root-level Array
+    protected int _rowLevel = 1;
+
+    protected boolean _headerWritten;
+
+    protected final ByteBuilder _headerBuffer = new ByteBuilder(100);
+
+    // Buffer for statistics section of block header, if statistics are written
+    protected ByteBuilder _statisticsBuffer;
+
+    /**
+     * Builder for footer index, if one is to be written (see {@link Feature#FOOTER_INDEX})
+     */
+    protected SpadeFileIndex.Builder _fileIndex;
+
+    /*
+    /**********************************************************************
+    /* Life-cycle
+    /**********************************************************************
+     */
+
+    public SpadeGenerator(IOContext ctxt, int stdFeatures, int formatFeatures,
+            ObjectCodec codec, OutputStream out, int maxBlockRows, int maxBlockBytes)
+    {
+        super(stdFeatures, codec);
+        _ioContext = ctxt;
+        _formatFeatures = formatFeatures;
+        _out = out;
+        _maxBlockRows = maxBlockRows;
+        _maxBlockBytes = maxBlockBytes;
+    }
+
+    @Override
+    public Version version() {
+        return PackageVersion.VERSION;
+    }
+
+    @Override
+    public Object getOutputTarget() {
+        return _out;
+    }
+
+    @Override
+    public boolean canWriteBinaryNatively() {
+        return true;
+    }
+
+    /*
+    /**********************************************************************
+    /* Feature handling
+    /**********************************************************************
+     */
+
+    @Override
+    public int getFormatFeatures() {
+        return _formatFeatures;
+    }
+
+    @Override
+    public JsonGenerator overrideFormatFeatures(int values, int mask) {
+        _formatFeatures = (_formatFeatures & ~mask) | (values & mask);
+        return this;
+    }
+
+    public SpadeGenerator enable(Feature f) {
+        _formatFeatures |= f.getMask();
+        return this;
+    }
+
+    public SpadeGenerator disable(Feature f) {
+        _formatFeatures &= ~f.getMask();
+        return this;
+    }
+
+    public final boolean isEnabled(Feature f) {
+        return (_formatFeatures & f.getMask()) != 0;
+    }
+
+    /*
+    /**********************************************************************
+    /* Output method implementations, structural
+    /**********************************************************************
+     */
+
+    @Override
+    public final void writeStartArray() throws IOException
+    {
+        _verifyValueWrite("start an array");
+        if (_depth == 0) { // wrapper Array for rows
+            _rowLevel = 2;
+        } else {
+            _valueColumn("start an array").writeStartArray();
+        }
+        _writeContext = _writeContext.createChildArrayContext();
+        ++_depth;
+    }
+
+    @Override
+    public final void writeEndArray() throws IOException
+    {
+        if (!_writeContext.inArray()) {
+            _reportError("Current context not Array but "+_writeContext.typeDesc());
+        }
+        _writeContext = _writeContext.getParent();
+        if (--_depth == 0) {
+            _rowLevel = 1;
+        } else {
+            _currentColumn.writeEndArray();
+        }
+    }
+
+    @Override
+    public final void writeStartObject() throws IOException
+    {
+        _verifyValueWrite("start an object");
+        if (_depth == _rowLevel-1) { // new row
+            _currentColumn = null;
+        } else {
+            _valueColumn("start an object").writeStartObject();
+        }
+        _writeContext = _writeContext.createChildObjectContext();
+        ++_depth;
+    }
+
+    @Override
+    public final void writeEndObject() throws IOException
+    {
+        if (!_writeContext.inObject()) {
+            _reportError("Current context not Object but "+_writeContext.typeDesc());
+        }
+        _writeContext = _writeContext.getParent();
+        if (--_depth == _rowLevel-1) {
+            _endRow();
+        } else {
+            _currentColumn.writeEndObject();
+        }
+    }
+
+    @Override
+    public final void writeFieldName(String name) throws IOException
+    {
+        if (_writeContext.writeFieldName(name) == JsonWriteContext.STATUS_EXPECT_VALUE) {
+            _reportError("Can not write a field name, expecting a value");
+        }
+        if (_depth == _rowLevel) { // row property, i.e. column
+            ColumnWriter col = _columns.get(name);
+            if (col == null) {
+                col = new ColumnWriter(name, _presenceCodec(),
+                        isEnabled(Feature.DICTIONARY_ENCODING) ? ColumnWriter.DEFAULT_MAX_DICTIONARY_SIZE : 0,
+                        isEnabled(Feature.PACKED_INTEGERS),
+                        isEnabled(Feature.XOR_DOUBLES));
+                if (isEnabled(Feature.COLUMN_STATISTICS)) {
+                    col.enableStatistics();
+                }
+                _columns.put(name, col);
+            } else if (col.getLastRow() == _rowCount) {
+                _reportError(String.format("Duplicate property '%s' for row #%d of block",
+                        name, _rowCount));
+            }
+            _currentColumn = col;
+        } else {
+            _currentColumn.writeFieldName(name);
+        }
+    }
+
+    @Override
+    public final void writeFieldName(SerializableString name) throws IOException {
+        writeFieldName(name.getValue());
+    }
+
+    /*
+    /**********************************************************************
+    /* Output method implementations, textual
+    /**********************************************************************
+     */
+
+    @Override
+    public void writeString(String text) throws IOException
+    {
+        if (text == null) {
+            writeNull();
+            return;
+        }
+        _verifyValueWrite("write String value");
+        _valueColumn("write String value").writeString(text);
+    }
+
+    @Override
+    public void writeString(char[] text, int offset, int len) throws IOException {
+        writeString(new String(text, offset, len));
+    }
+
+    @Override
+    public void writeRawUTF8String(byte[] text, int offset, int len) throws IOException {
+        writeUTF8String(text, offset, len);
+    }
+
+    @Override
+    public void writeUTF8String(byte[] text, int offset, int len) throws IOException {
+        _verifyValueWrite("write String value");
+        _valueColumn("write String value").writeUTF8String(text, offset, len);
+    }
+
+    /*
+    /**********************************************************************
+    /* Output method implementations, unprocessed ("raw")
+    /**********************************************************************
+     */
+
+    @Override
+    public void writeRaw(String text) throws IOException {
+        throw _notSupported();
+    }
+
+    @Override
+    public void writeRaw(String text, int offset, int len) throws IOException {
+        throw _notSupported();
+    }
+
+    @Override
+    public void writeRaw(char[] text, int offset, int len) throws IOException {
+        throw _notSupported();
+    }
+
+    @Override
+    public void writeRaw(char c) throws IOException {
+        throw _notSupported();
+    }
+
+    @Override
+    public void writeRawValue(String text) throws IOException {
+        throw _notSupported();
+    }
+
+    @Override
+    public void writeRawValue(String text, int offset, int len) throws IOException {
+        throw _notSupported();
+    }
+
+    @Override
+    public void writeRawValue(char[] text, int offset, int len) throws IOException {
+        throw _notSupported();
+    }
+
+    /*
+    /**********************************************************************
+    /* Output method implementations, base64-encoded binary
+    /**********************************************************************
+     */
+
+    @Override
+    public void writeBinary(Base64Variant b64variant, byte[] data, int offset, int len) throws IOException
+    {
+        if (data == null) {
+            writeNull();
+            return;
+        }
+        _verifyValueWrite("write Binary value");
+        _valueColumn("write Binary value").writeBinary(data, offset, len);
+    }
+
+    @Override
+    public int writeBinary(Base64Variant b64variant, InputStream data, int dataLength) throws IOException
+    {
+        ByteBuilder bytes = new ByteBuilder(Math.max(dataLength, 100));
+        byte[] buffer = _ioContext.allocBase64Buffer();
+        try {
+            int count;
+            while ((dataLength < 0 || bytes.size() < dataLength)
+                    && (count = data.read(buffer, 0, (dataLength < 0) ? buffer.length
+                            : Math.min(buffer.length, dataLength - bytes.size()))) > 0) {
+                bytes.write(buffer, 0, count);
+            }
+        } finally {
+            _ioContext.releaseBase64Buffer(buffer);
+        }
+        if (dataLength >= 0 && bytes.size() < dataLength) {
+            _reportError(String.format("Too few bytes available: needed %d, only got %d",
+                    dataLength, bytes.size()));
+        }
+        writeBinary(b64variant, bytes.getBuffer(), 0, bytes.size());
+        return bytes.size();
+    }
+
+    /*
+    /**********************************************************************
+    /* Output method implementations, primitive
+    /**********************************************************************
+     */
+
+    @Override
+    public void writeBoolean(boolean state) throws IOException {
+        _verifyValueWrite("write boolean value");
+        _valueColumn("write boolean value").writeBoolean(state);
+    }
+
+    @Override
+    public void writeNull() throws IOException {
+        _verifyValueWrite("write null value");
+        _valueColumn("write null value").writeNull();
+    }
+
+    @Override
+    public void writeNumber(int v) throws IOException {
+        _verifyValueWrite("write number");
+        _valueColumn("write number").writeInt(v);
+    }
+
+    @Override
+    public void writeNumber(long v) throws IOException {
+        _verifyValueWrite("write number");
+        _valueColumn("write number").writeLong(v);
+    }
+
+    @Override
+    public void writeNumber(BigInteger v) throws IOException {
+        if (v == null) {
+            writeNull();
+            return;
+        }
+        _verifyValueWrite("write number");
+        _valueColumn("write number").writeBigInteger(v);
+    }
+
+    @Override
+    public void writeNumber(double v) throws IOException {
+        _verifyValueWrite("write number");
+        _valueColumn("write number").writeDouble(v);
+    }
+
+    @Override
+    public void writeNumber(float v) throws IOException {
+        _verifyValueWrite("write number");
+        _valueColumn("write number").writeFloat(v);
+    }
+
+    @Override
+    public void writeNumber(BigDecimal v) throws IOException {
+        if (v == null) {
+            writeNull();
+            return;
+        }
+        _verifyValueWrite("write number");
+        _valueColumn("write number").writeBigDecimal(v);
+    }
+
+    @Override
+    public void writeNumber(String encodedValue) throws IOException
+    {
+        if (encodedValue == null) {
+            writeNull();
+            return;
+        }
+        // no textual representation for numbers, so need to parse
+        final BigDecimal dec;
+        try {
+            dec = new BigDecimal(encodedValue);
+        } catch (NumberFormatException e) {
+            _reportError("Invalid String representation for a number: \""+encodedValue+"\"");
+            return;
+        }
+        if ((dec.scale() == 0) && (dec.precision() < 19)) {
+            writeNumber(dec.longValue());
+        } else {
+            writeNumber(dec);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Low-level output handling
+    /**********************************************************************
+     */
+
+    /**
+     * Note: does NOT write out an incomplete block, just flushes the
+     * underlying stream (if enabled).
+     */
+    @Override
+    public void flush() throws IOException {
+        if (isEnabled(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)) {
+            _out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        if (isClosed()) {
+            return;
+        }
+        if (isEnabled(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)) {
+            while (true) {
+                JsonStreamContext ctxt = getOutputContext();
+                if (ctxt.inArray()) {
+                    writeEndArray();
+                } else if (ctxt.inObject()) {
+                    writeEndObject();
+                } else {
+                    break;
+                }
+            }
+        }
+        _flushBlock();
+        _writeHeaderIfNeeded();
+        _out.write(MARKER_END);
+        if (_fileIndex != null) {
+            _fileIndex.advance(1);
+            _writeFooter(_fileIndex.build());
+        }
+        super.close();
+
+        if (_ioContext.isResourceManaged() || isEnabled(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            _out.close();
+        } else if (isEnabled(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)) {
+            _out.flush();
+        }
+        _releaseBuffers();
+    }
+
+    @Override
+    protected void _releaseBuffers() { }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    @Override
+    protected final void _verifyValueWrite(String typeMsg) throws IOException
+    {
+        if (_writeContext.writeValue() == JsonWriteContext.STATUS_EXPECT_NAME) {
+            _reportError("Can not "+typeMsg+", expecting field name");
+        }
+    }
+
+    /**
+     * Helper method for finding column for value to write, and marking it
+     * present for the current row if value is the row property value.
+     */
+    protected final ColumnWriter _valueColumn(String typeMsg) throws IOException
+    {
+        if (_depth > _rowLevel) { // within structured column value
+            return _currentColumn;
+        }
+        if (_depth < _rowLevel) {
+            _reportError("Can not "+typeMsg+" outside of a row: Spade rows must be JSON Objects");
+        }
+        _currentColumn.startValue(_rowCount);
+        return _currentColumn;
+    }
+
+    protected int _presenceCodec()
+    {
+        if (isEnabled(Feature.ADAPTIVE_PRESENCE)) {
+            return PresenceBitsetOutputStream.CODEC_ADAPTIVE;
+        }
+        return isEnabled(Feature.PRESENCE_NIBBLER)
+                ? PresenceBitsetOutputStream.TAG_NIBBLER : PresenceBitsetOutputStream.TAG_BITRAT;
+    }
+
+    protected void _endRow() throws IOException
+    {
+        ++_rowCount;
+        _currentColumn = null;
+        if (_rowCount >= _maxBlockRows) {
+            _flushBlock();
+        } else if ((_rowCount & 0x3F) == 0) { // no need to check size after every row
+            int size = 0;
+            for (ColumnWriter col : _columns.values()) {
+                size += col.getBufferedSize();
+            }
+            if (size >= _maxBlockBytes) {
+                _flushBlock();
+            }
+        }
+    }
+
+    protected void _flushBlock() throws IOException
+    {
+        if (_rowCount == 0) {
+            return;
+        }
+        _writeHeaderIfNeeded();
+        int columnCount = 0;
+        // statistics only written if available for all columns (feature may have
+        // been enabled after some columns were added)
+        boolean withStatistics = isEnabled(Feature.COLUMN_STATISTICS);
+        for (ColumnWriter col : _columns.values()) {
+            if (col.getValueCount() > 0) {
+                ++columnCount;
+                if (col.getStatistics() == null) {
+                    withStatistics = false;
+                }
+            }
+        }
+        final ByteBuilder header = _headerBuffer;
+        header.reset();
+        header.write(withStatistics ? MARKER_BLOCK_WITH_STATISTICS : MARKER_BLOCK);
+        header.appendVInt(_rowCount);
+        header.appendVInt(columnCount);
+        if (withStatistics) {
+            _appendStatistics(header);
+        }
+        if (_fileIndex != null) {
+            _fileIndex.startRowGroup(_rowCount, header.size());
+        }
+        header.writeTo(_out);
+        for (Iterator<ColumnWriter> it = _columns.values().iterator(); it.hasNext(); ) {
+            if (!it.next().writeBlock(_out, _rowCount, header, _fileIndex)) {
+                it.remove();
+            }
+        }
+        _rowCount = 0;
+    }
+
+    /**
+     * Helper method for appending length-prefixed statistics section of block
+     * header, with statistics of all columns that have values in the block.
+     */
+    protected void _appendStatistics(ByteBuilder header)
+    {
+        if (_statisticsBuffer == null) {
+            _statisticsBuffer = new ByteBuilder(100);
+        }
+        final ByteBuilder stats = _statisticsBuffer;
+        stats.reset();
+        for (ColumnWriter col : _columns.values()) {
+            if (col.getValueCount() > 0) {
+                SpadeFileIndex.appendBlockStatistics(stats, col.getName(), col.getStatistics());
+            }
+        }
+        header.appendLengthPrefixed(stats.getBuffer(), 0, stats.size());
+    }
+
+    protected void _writeHeaderIfNeeded() throws IOException
+    {
+        if (!_headerWritten) {
+            _headerWritten = true;
+            _out.write(HEADER_BYTE_1);
+            _out.write(HEADER_BYTE_2);
+            _out.write(HEADER_BYTE_3);
+            _out.write(FORMAT_VERSION);
+            if (isEnabled(Feature.FOOTER_INDEX)) {
+                _fileIndex = new SpadeFileIndex.Builder(4);
+            }
+        }
+    }
+
+    protected void _writeFooter(SpadeFileIndex index) throws IOException
+    {
+        final ByteBuilder footer = new ByteBuilder(100 + 20 * _columns.size() * index.getRowGroupCount());
+        index.appendTo(footer);
+        final int length = footer.size();
+        footer.appendInt32(length);
+        footer.write(FOOTER_BYTE_1);
+        footer.write(FOOTER_BYTE_2);
+        footer.write(FOOTER_BYTE_3);
+        footer.write(FOOTER_BYTE_4);
+        footer.writeTo(_out);
+    }
+
+    protected UnsupportedOperationException _notSupported() {
+        return new UnsupportedOperationException("Operation not supported by Spade generator");
+    }
+}
@@ -0,0 +1,823 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import static com.fasterxml.jackson.dataformat.spade.SpadeConstants.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.core.base.ParserMinimalBase;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.json.JsonReadContext;
+
+/**
+ * {@link JsonParser} that reads content written by {@link SpadeGenerator}: exposes
+ * rows as a sequence of root-level JSON Objects, each containing properties for
+ * columns that have a value for the row.
+ *<p>
+ * If a {@link SpadeSchema} with projection is set, only the listed columns are
+ * exposed: contents of other columns are skipped over without being buffered
+ * or decoded, so the cost of reading is mostly proportional to size of the
+ * selected columns. Similarly, if schema has a filter (see {@link SpadeSchema#withFilter}),
+ * blocks with statistics that show no row can match it are skipped altogether.
+ */
+public class SpadeParser extends ParserMinimalBase
+{
+    // States for the row iteration
+    protected final static int STATE_ROOT = 0;
+    protected final static int STATE_ROW_FIELD = 1;
+    protected final static int STATE_ROW_VALUE = 2;
+
+    /*
+    /**********************************************************************
+    /* Configuration
+    /**********************************************************************
+     */
+
+    protected final IOContext _ioContext;
+
+    protected ObjectCodec _objectCodec;
+
+    protected InputStream _inputStream;
+
+    protected SpadeSchema _schema = SpadeSchema.allColumns();
+
+    /*
+    /**********************************************************************
+    /* Input state
+    /**********************************************************************
+     */
+
+    protected boolean _closed;
+
+    protected boolean _headerRead;
+
+    // Set once end marker has been read
+    protected boolean _endOfInput;
+
+    // Number of bytes read from the input stream
+    protected long _bytesRead;
+
+    protected final byte[] _nameBuffer = new byte[256];
+
+    // Buffer for statistics section of block headers, if filter is used
+    protected byte[] _statisticsBuffer;
+
+    /*
+    /**********************************************************************
+    /* Block state
+    /**********************************************************************
+     */
+
+    /**
+     * Readers for selected columns, by name; retained across blocks to
+     * allow reuse of buffers.
+     */
+    protected final Map<String,ColumnReader> _columns = new HashMap<>();
+
+    // Selected columns present in the current block, in order of appearance
+    protected ColumnReader[] _blockColumns = new ColumnReader[8];
+
+    protected int _blockColumnCount;
+
+    protected int _rowCount;
+
+    // Index of the current row within block
+    protected int _row;
+
+    protected int _state = STATE_ROOT;
+
+    // Index of the next column to check for the current row
+    protected int _columnIndex;
+
+    // Column from which value tokens are being read
+    protected ColumnReader _currentColumn;
+
+    // Number of currently open Objects and Arrays within column value
+    protected int _valueDepth;
+
+    protected JsonReadContext _parsingContext;
+
+    /*
+    /**********************************************************************
+    /* Current value
+    /**********************************************************************
+     */
+
+    protected String _textValue;
+
+    protected byte[] _binaryValue;
+
+    protected NumberType _numberType;
+
+    // Value of current INT or LONG token
+    protected long _numberLong;
+
+    // Value of current FLOAT or DOUBLE token
+    protected double _numberDouble;
+
+    protected BigInteger _numberBigInt;
+
+    protected BigDecimal _numberBigDecimal;
+
+    /*
+    /**********************************************************************
+    /* Life-cycle
+    /**********************************************************************
+     */
+
+    public SpadeParser(IOContext ctxt, int parserFeatures, ObjectCodec codec,
+            InputStream in)
+    {
+        super(parserFeatures);
+        _ioContext = ctxt;
+        _objectCodec = codec;
+        _inputStream = in;
+        _parsingContext = JsonReadContext.createRootContext(null);
+    }
+
+    @Override
+    public ObjectCodec getCodec() {
+        return _objectCodec;
+    }
+
+    @Override
+    public void setCodec(ObjectCodec c) {
+        _objectCodec = c;
+    }
+
+    @Override
+    public Version version() {
+        return PackageVersion.VERSION;
+    }
+
+    @Override
+    public Object getInputSource() {
+        return _inputStream;
+    }
+
+    @Override
+    public boolean canUseSchema(FormatSchema schema) {
+        return (schema instanceof SpadeSchema);
+    }
+
+    @Override
+    public SpadeSchema getSchema() {
+        return _schema;
+    }
+
+    @Override
+    public void setSchema(FormatSchema schema)
+    {
+        if (schema == null) {
+            schema = SpadeSchema.allColumns();
+        } else if (!(schema instanceof SpadeSchema)) {
+            super.setSchema(schema); // throws exception
+        }
+        if (_headerRead) {
+            throw new IllegalStateException("Can not change schema after reading has started");
+        }
+        _schema = (SpadeSchema) schema;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        if (!_closed) {
+            _closed = true;
+            _endOfInput = true;
+            if (_inputStream != null) {
+                if (_ioContext.isResourceManaged() || isEnabled(JsonParser.Feature.AUTO_CLOSE_SOURCE)) {
+                    _inputStream.close();
+                }
+                _inputStream = null;
+            }
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return _closed;
+    }
+
+    @Override
+    public JsonStreamContext getParsingContext() {
+        return _parsingContext;
+    }
+
+    @Override
+    public JsonLocation getTokenLocation() {
+        return getCurrentLocation();
+    }
+
+    @Override
+    public JsonLocation getCurrentLocation() {
+        return new JsonLocation(_ioContext.getSourceReference(), _bytesRead, -1, -1);
+    }
+
+    @Override
+    public String getCurrentName() throws IOException
+    {
+        if (_currToken == JsonToken.START_OBJECT || _currToken == JsonToken.START_ARRAY) {
+            JsonReadContext parent = _parsingContext.getParent();
+            return (parent == null) ? null : parent.getCurrentName();
+        }
+        return _parsingContext.getCurrentName();
+    }
+
+    @Override
+    public void overrideCurrentName(String name)
+    {
+        JsonReadContext ctxt = _parsingContext;
+        if (_currToken == JsonToken.START_OBJECT || _currToken == JsonToken.START_ARRAY) {
+            ctxt = ctxt.getParent();
+        }
+        try {
+            ctxt.setCurrentName(name);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API, traversal
+    /**********************************************************************
+     */
+
+    @Override
+    public JsonToken nextToken() throws IOException
+    {
+        _binaryValue = null;
+        switch (_state) {
+        case STATE_ROW_VALUE:
+            return (_currToken = _nextValueToken());
+        case STATE_ROW_FIELD:
+            return (_currToken = _nextRowField());
+        default:
+        }
+        // Between rows: need to advance to the next block?
+        while (_row >= _rowCount) {
+            if (!_loadBlock()) {
+                if (isEnabled(JsonParser.Feature.AUTO_CLOSE_SOURCE)) {
+                    close();
+                }
+                return (_currToken = null);
+            }
+        }
+        _parsingContext = _parsingContext.createChildObjectContext(-1, -1);
+        _columnIndex = 0;
+        _state = STATE_ROW_FIELD;
+        return (_currToken = JsonToken.START_OBJECT);
+    }
+
+    protected JsonToken _nextRowField() throws IOException
+    {
+        final int row = _row;
+        for (int i = _columnIndex; i < _blockColumnCount; ++i) {
+            ColumnReader col = _blockColumns[i];
+            if (col.isPresent(row)) {
+                _columnIndex = i+1;
+                _currentColumn = col;
+                _state = STATE_ROW_VALUE;
+                _parsingContext.setCurrentName(col.getName());
+                return JsonToken.FIELD_NAME;
+            }
+        }
+        ++_row;
+        _state = STATE_ROOT;
+        _parsingContext = _parsingContext.clearAndGetParent();
+        return JsonToken.END_OBJECT;
+    }
+
+    protected JsonToken _nextValueToken() throws IOException
+    {
+        final ColumnReader col = _currentColumn;
+        if (col.isDictionaryEncoded()) {
+            _state = STATE_ROW_FIELD;
+            _textValue = col.readDictionaryValue();
+            return (_textValue == null) ? JsonToken.VALUE_NULL : JsonToken.VALUE_STRING;
+        }
+        if (col.isIntegerEncoded()) {
+            _state = STATE_ROW_FIELD;
+            if (col.readNullValue()) {
+                return JsonToken.VALUE_NULL;
+            }
+            final long l = col.readIntegerValue();
+            _numberLong = l;
+            _numberType = (l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE)
+                    ? NumberType.INT : NumberType.LONG;
+            return JsonToken.VALUE_NUMBER_INT;
+        }
+        if (col.isDoubleEncoded()) {
+            _state = STATE_ROW_FIELD;
+            if (col.readNullValue()) {
+                return JsonToken.VALUE_NULL;
+            }
+            _numberType = NumberType.DOUBLE;
+            _numberDouble = col.readDoubleValue();
+            return JsonToken.VALUE_NUMBER_FLOAT;
+        }
+        final int type = col.readByte();
+        JsonToken t;
+
+        // keep index of enclosing Array up to date
+        if ((type != TOKEN_END_ARRAY) && (type != TOKEN_END_OBJECT) && _parsingContext.inArray()) {
+            _parsingContext.expectComma();
+        }
+
+        switch (type) {
+        case TOKEN_NULL:
+            t = JsonToken.VALUE_NULL;
+            break;
+        case TOKEN_FALSE:
+            t = JsonToken.VALUE_FALSE;
+            break;
+        case TOKEN_TRUE:
+            t = JsonToken.VALUE_TRUE;
+            break;
+        case TOKEN_INT:
+            _numberType = NumberType.INT;
+            _numberLong = col.readZigzagVInt();
+            t = JsonToken.VALUE_NUMBER_INT;
+            break;
+        case TOKEN_LONG:
+            _numberType = NumberType.LONG;
+            _numberLong = col.readZigzagVLong();
+            t = JsonToken.VALUE_NUMBER_INT;
+            break;
+        case TOKEN_BIG_INTEGER:
+            _numberType = NumberType.BIG_INTEGER;
+            _numberBigInt = new BigInteger(col.readLengthPrefixed());
+            t = JsonToken.VALUE_NUMBER_INT;
+            break;
+        case TOKEN_FLOAT:
+            _numberType = NumberType.FLOAT;
+            _numberDouble = Float.intBitsToFloat(col.readInt32());
+            t = JsonToken.VALUE_NUMBER_FLOAT;
+            break;
+        case TOKEN_DOUBLE:
+            _numberType = NumberType.DOUBLE;
+            _numberDouble = Double.longBitsToDouble(col.readInt64());
+            t = JsonToken.VALUE_NUMBER_FLOAT;
+            break;
+        case TOKEN_BIG_DECIMAL:
+            {
+                _numberType = NumberType.BIG_DECIMAL;
+                int scale = col.readZigzagVInt();
+                _numberBigDecimal = new BigDecimal(new BigInteger(col.readLengthPrefixed()), scale);
+            }
+            t = JsonToken.VALUE_NUMBER_FLOAT;
+            break;
+        case TOKEN_STRING:
+            _textValue = col.readLengthPrefixedString();
+            t = JsonToken.VALUE_STRING;
+            break;
+        case TOKEN_BINARY:
+            _binaryValue = col.readLengthPrefixed();
+            t = JsonToken.VALUE_EMBEDDED_OBJECT;
+            break;
+        case TOKEN_START_OBJECT:
+            ++_valueDepth;
+            _parsingContext = _parsingContext.createChildObjectContext(-1, -1);
+            return JsonToken.START_OBJECT;
+        case TOKEN_START_ARRAY:
+            ++_valueDepth;
+            _parsingContext = _parsingContext.createChildArrayContext(-1, -1);
+            return JsonToken.START_ARRAY;
+        case TOKEN_END_OBJECT:
+        case TOKEN_END_ARRAY:
+            if (_valueDepth == 0) {
+                _reportError(String.format("Invalid content for column '%s': unmatched end marker",
+                        col.getName()));
+            }
+            --_valueDepth;
+            _parsingContext = _parsingContext.clearAndGetParent();
+            t = (type == TOKEN_END_OBJECT) ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+            break;
+        case TOKEN_FIELD_NAME:
+            if (!_parsingContext.inObject()) {
+                _reportError(String.format("Invalid content for column '%s': property name outside of Object",
+                        col.getName()));
+            }
+            _parsingContext.setCurrentName(col.readLengthPrefixedString());
+            return JsonToken.FIELD_NAME;
+        default:
+            _reportError(String.format("Invalid value token 0x%02X for column '%s'",
+                    type, col.getName()));
+            return null; // never gets here
+        }
+        // Scalar or end marker: if at root of column value, back to next property of row
+        if (_valueDepth == 0) {
+            _state = STATE_ROW_FIELD;
+        }
+        return t;
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API, access to token information, text
+    /**********************************************************************
+     */
+
+    @Override
+    public String getText() throws IOException
+    {
+        JsonToken t = _currToken;
+        if (t == null) {
+            return null;
+        }
+        switch (t) {
+        case VALUE_STRING:
+            return _textValue;
+        case FIELD_NAME:
+            return _parsingContext.getCurrentName();
+        case VALUE_NUMBER_INT:
+        case VALUE_NUMBER_FLOAT:
+            return getNumberValue().toString();
+        default:
+            return t.asString();
+        }
+    }
+
+    @Override
+    public char[] getTextCharacters() throws IOException {
+        String text = getText();
+        return (text == null) ? null : text.toCharArray();
+    }
+
+    @Override
+    public int getTextLength() throws IOException {
+        String text = getText();
+        return (text == null) ? 0 : text.length();
+    }
+
+    @Override
+    public int getTextOffset() throws IOException {
+        return 0;
+    }
+
+    @Override
+    public boolean hasTextCharacters() {
+        return false;
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API, access to token information, binary
+    /**********************************************************************
+     */
+
+    @Override
+    public byte[] getBinaryValue(Base64Variant b64variant) throws IOException
+    {
+        if (_currToken == JsonToken.VALUE_EMBEDDED_OBJECT && _binaryValue != null) {
+            return _binaryValue;
+        }
+        if (_currToken == JsonToken.VALUE_STRING) {
+            try {
+                return b64variant.decode(_textValue);
+            } catch (IllegalArgumentException e) {
+                _reportError(String.format("Failed to decode VALUE_STRING as base64 (%s): %s",
+                        b64variant, e.getMessage()));
+            }
+        }
+        _reportError("Current token ("+_currToken+") not VALUE_STRING or VALUE_EMBEDDED_OBJECT, can not access as binary");
+        return null; // never gets here
+    }
+
+    @Override
+    public Object getEmbeddedObject() throws IOException {
+        return (_currToken == JsonToken.VALUE_EMBEDDED_OBJECT) ? _binaryValue : null;
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API, access to token information, numeric
+    /**********************************************************************
+     */
+
+    @Override
+    public NumberType getNumberType() throws IOException {
+        _verifyNumber();
+        return _numberType;
+    }
+
+    @Override
+    public Number getNumberValue() throws IOException
+    {
+        _verifyNumber();
+        switch (_numberType) {
+        case INT:
+            return Integer.valueOf((int) _numberLong);
+        case LONG:
+            return Long.valueOf(_numberLong);
+        case BIG_INTEGER:
+            return _numberBigInt;
+        case FLOAT:
+            return Float.valueOf((float) _numberDouble);
+        case DOUBLE:
+            return Double.valueOf(_numberDouble);
+        default:
+            return _numberBigDecimal;
+        }
+    }
+
+    @Override
+    public int getIntValue() throws IOException
+    {
+        _verifyNumber();
+        if (_numberType == NumberType.INT) {
+            return (int) _numberLong;
+        }
+        long l = getLongValue();
+        if (l < Integer.MIN_VALUE || l > Integer.MAX_VALUE) {
+            _reportError("Numeric value ("+getText()+") out of range of int");
+        }
+        return (int) l;
+    }
+
+    @Override
+    public long getLongValue() throws IOException
+    {
+        _verifyNumber();
+        switch (_numberType) {
+        case INT:
+        case LONG:
+            return _numberLong;
+        case FLOAT:
+        case DOUBLE:
+            if (_numberDouble < Long.MIN_VALUE || _numberDouble > Long.MAX_VALUE) {
+                _reportError("Numeric value ("+getText()+") out of range of long");
+            }
+            return (long) _numberDouble;
+        default:
+        }
+        BigInteger big = getBigIntegerValue();
+        if (big.bitLength() > 63) {
+            _reportError("Numeric value ("+getText()+") out of range of long");
+        }
+        return big.longValue();
+    }
+
+    @Override
+    public BigInteger getBigIntegerValue() throws IOException
+    {
+        _verifyNumber();
+        switch (_numberType) {
+        case INT:
+        case LONG:
+            return BigInteger.valueOf(_numberLong);
+        case BIG_INTEGER:
+            return _numberBigInt;
+        default:
+            return getDecimalValue().toBigInteger();
+        }
+    }
+
+    @Override
+    public float getFloatValue() throws IOException {
+        return (float) getDoubleValue();
+    }
+
+    @Override
+    public double getDoubleValue() throws IOException
+    {
+        _verifyNumber();
+        switch (_numberType) {
+        case INT:
+        case LONG:
+            return (double) _numberLong;
+        case FLOAT:
+        case DOUBLE:
+            return _numberDouble;
+        case BIG_INTEGER:
+            return _numberBigInt.doubleValue();
+        default:
+            return _numberBigDecimal.doubleValue();
+        }
+    }
+
+    @Override
+    public BigDecimal getDecimalValue() throws IOException
+    {
+        _verifyNumber();
+        switch (_numberType) {
+        case INT:
+        case LONG:
+            return BigDecimal.valueOf(_numberLong);
+        case FLOAT:
+        case DOUBLE:
+            // use String representation to avoid binary fraction artifacts
+            return new BigDecimal(getNumberValue().toString());
+        case BIG_INTEGER:
+            return new BigDecimal(_numberBigInt);
+        default:
+            return _numberBigDecimal;
+        }
+    }
+
+    protected void _verifyNumber() throws IOException
+    {
+        if (_currToken != JsonToken.VALUE_NUMBER_INT && _currToken != JsonToken.VALUE_NUMBER_FLOAT) {
+            _reportError("Current token ("+_currToken+") not numeric, can not use numeric value accessors");
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, block handling
+    /**********************************************************************
+     */
+
+    /**
+     * Method called to read the next block header and contents of selected
+     * columns, skipping other columns.
+     *
+     * @return True if a block was read; false if end of content reached
+     */
+    protected boolean _loadBlock() throws IOException
+    {
+        if (_endOfInput) {
+            return false;
+        }
+        if (!_headerRead) {
+            _readHeader();
+        }
+        if (_endOfInput) { // empty content
+            return false;
+        }
+        int marker = _readByte();
+        if (marker < 0) {
+            _reportUnexpectedEOF("block marker");
+        }
+        if (marker == MARKER_END) {
+            _endOfInput = true;
+            _rowCount = _row = 0;
+            return false;
+        }
+        if (marker != MARKER_BLOCK && marker != MARKER_BLOCK_WITH_STATISTICS) {
+            _reportError(String.format("Invalid block marker 0x%02X", marker));
+        }
+        _rowCount = _readVInt();
+        final int columnCount = _readVInt();
+        _row = 0;
+        _blockColumnCount = 0;
+        if (marker == MARKER_BLOCK_WITH_STATISTICS && !_statisticsMatch()) {
+            for (int i = 0; i < columnCount; ++i) {
+                _skipBytes(_readVInt()); // name
+                _skipBytes(_readVInt()); // content
+            }
+            _rowCount = 0;
+            return true;
+        }
+
+        for (int i = 0; i < columnCount; ++i) {
+            final String name = _readColumnName();
+            final int contentLength = _readVInt();
+            if (!_schema.includesColumn(name)) {
+                _skipBytes(contentLength);
+                continue;
+            }
+            ColumnReader col = _columns.get(name);
+            if (col == null) {
+                col = new ColumnReader(name);
+                _columns.put(name, col);
+            }
+            _readFully(col.getBuffer(contentLength), contentLength);
+            col.load(contentLength, _rowCount);
+            if (_blockColumnCount == _blockColumns.length) {
+                ColumnReader[] old = _blockColumns;
+                _blockColumns = new ColumnReader[old.length * 2];
+                System.arraycopy(old, 0, _blockColumns, 0, old.length);
+            }
+            _blockColumns[_blockColumnCount++] = col;
+        }
+        return true;
+    }
+
+    /**
+     * Method called to read statistics section of block header, and check
+     * whether block may have rows that match filter of schema, if any.
+     *
+     * @return False if block can be skipped; true if not
+     */
+    protected boolean _statisticsMatch() throws IOException
+    {
+        final int len = _readVInt();
+        final RowGroupFilter filter = _schema.getFilter();
+        if (filter == null) {
+            _skipBytes(len);
+            return true;
+        }
+        if (_statisticsBuffer == null || _statisticsBuffer.length < len) {
+            _statisticsBuffer = new byte[Math.max(len, 256)];
+        }
+        _readFully(_statisticsBuffer, len);
+        Map<String,ColumnStatistics> stats = SpadeFileIndex.readBlockStatistics(_statisticsBuffer, 0, len);
+        return filter.mightMatch(stats.get(filter.getColumn()));
+    }
+
+    protected void _readHeader() throws IOException
+    {
+        _headerRead = true;
+        int b1 = _readByte();
+        if (b1 < 0) { // empty content is fine, nothing to read
+            _endOfInput = true;
+            return;
+        }
+        int b2 = _readByte();
+        int b3 = _readByte();
+        if (b1 != HEADER_BYTE_1 || b2 != HEADER_BYTE_2 || b3 != HEADER_BYTE_3) {
+            _reportError("Invalid Spade header: content does not start with 'SPD' signature");
+        }
+        int version = _readByte();
+        if (version != FORMAT_VERSION) {
+            _reportError(String.format("Unsupported Spade format version %d (expected %d)",
+                    version, FORMAT_VERSION));
+        }
+    }
+
+    protected String _readColumnName() throws IOException
+    {
+        final int len = _readVInt();
+        byte[] buf = (len <= _nameBuffer.length) ? _nameBuffer : new byte[len];
+        _readFully(buf, len);
+        return new String(buf, 0, len, StandardCharsets.UTF_8);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, input
+    /**********************************************************************
+     */
+
+    protected int _readByte() throws IOException
+    {
+        int b = _inputStream.read();
+        if (b >= 0) {
+            ++_bytesRead;
+        }
+        return b;
+    }
+
+    protected int _readVInt() throws IOException
+    {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = _readByte();
+            if (b < 0) {
+                _reportUnexpectedEOF("VInt");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    protected void _readFully(byte[] buf, int len) throws IOException
+    {
+        int offset = 0;
+        while (offset < len) {
+            int count = _inputStream.read(buf, offset, len - offset);
+            if (count < 0) {
+                _reportUnexpectedEOF("column content");
+            }
+            offset += count;
+            _bytesRead += count;
+        }
+    }
+
+    protected void _skipBytes(int len) throws IOException
+    {
+        long left = len;
+        while (left > 0) {
+            long count = _inputStream.skip(left);
+            if (count <= 0) {
+                // may be at end, or just not support skipping: need to read to know
+                if (_readByte() < 0) {
+                    _reportUnexpectedEOF("column content");
+                }
+                count = 1;
+            } else {
+                _bytesRead += count;
+            }
+            left -= count;
+        }
+    }
+
+    @Override
+    protected void _handleEOF() throws JsonParseException {
+        // Rows are always complete when end-of-input is reached, so nothing to check
+    }
+
+    protected void _reportUnexpectedEOF(String desc) throws IOException {
+        throw _constructError("Unexpected end-of-input when reading "+desc);
+    }
+}
@@ -0,0 +1,102 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.util.*;
+
+import com.fasterxml.jackson.core.FormatSchema;
+
+/**
+ * {@link FormatSchema} implementation for Spade format: specifies projection,
+ * that is, set of columns to expose when reading, and optionally a filter for
+ * skipping row groups (see {@link #withFilter}). Contents of other columns are
+ * skipped without decoding. Used either by passing to <code>ObjectReader</code>:
+ *<pre>
+ *  mapper.readerFor(LogEntry.class)
+ *     .with(SpadeSchema.projection("timestamp", "level"))
+ *     .readValues(input);
+ *</pre>
+ * or directly to {@link SpadeParser#setSchema}.
+ */
+public class SpadeSchema implements FormatSchema
+{
+    public final static String SCHEMA_TYPE = "spade";
+
+    private final static SpadeSchema ALL_COLUMNS = new SpadeSchema(null);
+
+    /**
+     * Names of columns to include; null to indicate all columns
+     */
+    protected final Set<String> _columns;
+
+    /**
+     * Filter for skipping row groups, if any
+     */
+    protected final RowGroupFilter _filter;
+
+    protected SpadeSchema(Set<String> columns) {
+        this(columns, null);
+    }
+
+    protected SpadeSchema(Set<String> columns, RowGroupFilter filter) {
+        _columns = columns;
+        _filter = filter;
+    }
+
+    /**
+     * @return Schema that includes all columns
+     */
+    public static SpadeSchema allColumns() {
+        return ALL_COLUMNS;
+    }
+
+    public static SpadeSchema projection(String... columns) {
+        return projection(Arrays.asList(columns));
+    }
+
+    public static SpadeSchema projection(Collection<String> columns) {
+        return new SpadeSchema(Collections.unmodifiableSet(new LinkedHashSet<String>(columns)));
+    }
+
+    /**
+     * Method for constructing a schema with same projection as this one, but with
+     * given filter: blocks (row groups) with statistics in block header (see
+     * {@link SpadeGenerator.Feature#COLUMN_STATISTICS}) that can not have rows
+     * matching the filter are skipped without reading their contents. Note that
+     * filter is not applied to individual rows: all rows of other blocks are
+     * exposed, whether they match or not.
+     *
+     * @param filter Filter to use; null for none
+     */
+    public SpadeSchema withFilter(RowGroupFilter filter) {
+        return new SpadeSchema(_columns, filter);
+    }
+
+    @Override
+    public String getSchemaType() {
+        return SCHEMA_TYPE;
+    }
+
+    /**
+     * @return Names of columns included, if projection specified; null if
+     *   all columns are included
+     */
+    public Set<String> getProjection() {
+        return _columns;
+    }
+
+    /**
+     * @return Filter for skipping row groups, if any; null if none
+     */
+    public RowGroupFilter getFilter() {
+        return _filter;
+    }
+
+    public boolean includesColumn(String name) {
+        return (_columns == null) || _columns.contains(name);
+    }
+
+    @Override
+    public String toString() {
+        String str = (_columns == null) ? "[SpadeSchema: all columns" : "[SpadeSchema: columns "+_columns;
+        return (_filter == null) ? str+"]" : str+", filter "+_filter+"]";
+    }
+}
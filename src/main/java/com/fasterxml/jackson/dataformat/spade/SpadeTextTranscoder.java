@@ -0,0 +1,762 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import static com.fasterxml.jackson.dataformat.spade.PresenceBitsetOutputStream.*;
+import static com.fasterxml.jackson.dataformat.spade.SpadeConstants.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.dataformat.spade.util.ByteBuilder;
+
+/**
+ * Transcoder between binary Spade format and its textual (JSON) representation,
+ * which has the same structure: blocks, columns of blocks and chunks of presence
+ * bitsets are represented as JSON Objects, and encoded content of chunks and
+ * column values as Base64-encoded Strings. Transcoding works on that structure
+ * directly, one column (and chunk) at a time: rows are never materialized,
+ * and no presence bitsets or values are decoded or re-encoded.
+ *<p>
+ * Textual representation of content looks like:
+ *<pre>
+ *{
+ *  "format" : "spade",
+ *  "version" : 1,
+ *  "blocks" : [ {
+ *    "rows" : 100,
+ *    "columns" : [ {
+ *      "name" : "id",
+ *      "encoding" : "integers",
+ *      "valueCount" : 100,
+ *      "presence" : {
+ *        "chunks" : [ { "codec" : "all_set", "length" : 13 } ],
+ *        "padding" : 4
+ *      },
+ *      "values" : "AQIDBAUGBwgJ..."
+ *    } ]
+ *  } ]
+ *}
+ *</pre>
+ * where:
+ *<ul>
+ * <li><code>encoding</code> is one of "tokens", "dictionary", "integers" and "doubles"
+ *   (see <code>SpadeConstants.COLUMN_ENCODING_xxx</code>)</li>
+ * <li><code>codec</code> of a presence chunk is name of its {@link PresenceCodec},
+ *   in lower case</li>
+ * <li><code>length</code> of a chunk is its decoded length in bytes; only included
+ *   for the last chunk, if shorter than {@link PresenceBitsetOutputStream#CHUNK_SIZE}</li>
+ * <li><code>mask</code> of a BitRat chunk is its chunk mask (0 - 255)</li>
+ * <li><code>data</code> of a chunk is its encoded content (for BitRat, excluding mask
+ *   and length; for Nibbler, including its header); not included for all-clear
+ *   and all-set chunks</li>
+ * <li><code>values</code> is encoded content of values, as per encoding</li>
+ * <li><code>statistics</code> of a block is its encoded statistics section (see
+ *   {@link SpadeConstants#MARKER_BLOCK_WITH_STATISTICS}); only included for
+ *   blocks that have one</li>
+ * <li><code>index</code> (after <code>blocks</code>) is serialized footer index (see
+ *   {@link SpadeFileIndex}), excluding trailer; only included for content that
+ *   has one</li>
+ *</ul>
+ * When reading textual representation, properties may be in any order.
+ *<p>
+ * Transcoding binary content to text and back produces identical bytes; with one
+ * exception: empty binary input (which {@link SpadeParser} also accepts, as
+ * content without rows) is transcoded same as content with no blocks.
+ */
+public final class SpadeTextTranscoder
+{
+    private final static String[] ENCODING_NAMES = new String[] {
+        null, "tokens", "dictionary", "integers", "doubles"
+    };
+
+    private final static String FORMAT_NAME = "spade";
+
+    private SpadeTextTranscoder() { }
+
+    /*
+    /**********************************************************************
+    /* Public API, binary to text
+    /**********************************************************************
+     */
+
+    /**
+     * Method for transcoding binary Spade content into textual representation.
+     * Input is read up to and including footer index, if any (otherwise up to and
+     * including end marker: anything else after it is reported as an error);
+     * generator is neither flushed nor closed.
+     */
+    public static void toText(InputStream in, JsonGenerator gen) throws IOException
+    {
+        final BinaryInput input = new BinaryInput(in);
+        if (input.readByteOrEOF() < 0) { // empty content: no header either, same as no blocks
+            gen.writeStartObject();
+            gen.writeStringField("format", FORMAT_NAME);
+            gen.writeNumberField("version", FORMAT_VERSION);
+            gen.writeArrayFieldStart("blocks");
+            gen.writeEndArray();
+            gen.writeEndObject();
+            return;
+        }
+        if (input.buffer[0] != HEADER_BYTE_1 || input.readByte() != HEADER_BYTE_2
+                || input.readByte() != HEADER_BYTE_3) {
+            throw new IOException("Invalid Spade content: does not start with 'SPD' signature");
+        }
+        final int version = input.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format("Unsupported Spade format version %d (expected %d)",
+                    version, FORMAT_VERSION));
+        }
+        gen.writeStartObject();
+        gen.writeStringField("format", FORMAT_NAME);
+        gen.writeNumberField("version", version);
+        gen.writeArrayFieldStart("blocks");
+        int marker;
+        while ((marker = input.readByte()) != MARKER_END) {
+            if (marker != MARKER_BLOCK && marker != MARKER_BLOCK_WITH_STATISTICS) {
+                throw new IOException(String.format("Invalid Spade content: invalid block marker 0x%02X",
+                        marker));
+            }
+            gen.writeStartObject();
+            gen.writeNumberField("rows", input.readVInt());
+            final int columnCount = input.readVInt();
+            if (marker == MARKER_BLOCK_WITH_STATISTICS) {
+                final int len = input.readVInt();
+                gen.writeFieldName("statistics");
+                gen.writeBinary(input.readContent(len), 0, len);
+            }
+            gen.writeArrayFieldStart("columns");
+            for (int i = 0; i < columnCount; ++i) {
+                final String name = input.readString();
+                final int len = input.readVInt();
+                _columnToText(gen, name, input.readContent(len), len);
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        _footerToText(gen, input);
+        gen.writeEndObject();
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API, text to binary
+    /**********************************************************************
+     */
+
+    /**
+     * Method for transcoding textual representation of Spade content into
+     * binary format. Parser may either point to the start of the root Object,
+     * or have no current token (in which case the next token is read);
+     * it will point to the end of the root Object when done. Output stream
+     * is neither flushed nor closed.
+     */
+    public static void toBinary(JsonParser p, OutputStream out) throws IOException
+    {
+        if (!p.hasCurrentToken()) {
+            p.nextToken();
+        }
+        _expect(p, JsonToken.START_OBJECT, "root value");
+        out.write(HEADER_BYTE_1);
+        out.write(HEADER_BYTE_2);
+        out.write(HEADER_BYTE_3);
+        out.write(FORMAT_VERSION);
+        final TextState state = new TextState();
+        boolean hadBlocks = false, hadIndex = false;
+        // header, end marker
+        long dataLength = 5;
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = p.getCurrentName();
+            p.nextToken();
+            switch (field) {
+            case "format":
+                if (!FORMAT_NAME.equals(p.getValueAsString())) {
+                    _reportError(p, "unrecognized format '"+p.getText()+"'");
+                }
+                break;
+            case "version":
+                if (p.getCurrentToken() != JsonToken.VALUE_NUMBER_INT
+                        || p.getIntValue() != FORMAT_VERSION) {
+                    _reportError(p, String.format("unsupported version %s (expected %d)",
+                            p.getText(), FORMAT_VERSION));
+                }
+                break;
+            case "blocks":
+                _expect(p, JsonToken.START_ARRAY, "'blocks'");
+                while (p.nextToken() != JsonToken.END_ARRAY) {
+                    _blockToBinary(p, state);
+                    state.header.reset();
+                    state.header.write(state.hasStatistics ? MARKER_BLOCK_WITH_STATISTICS : MARKER_BLOCK);
+                    state.header.appendVInt(state.rowCount);
+                    state.header.appendVInt(state.columnCount);
+                    if (state.hasStatistics) {
+                        state.header.appendLengthPrefixed(state.statistics.getBuffer(), 0,
+                                state.statistics.size());
+                    }
+                    state.header.writeTo(out);
+                    state.block.writeTo(out);
+                    dataLength += state.header.size() + state.block.size();
+                }
+                hadBlocks = true;
+                break;
+            case "index":
+                _expect(p, JsonToken.VALUE_STRING, "'index'");
+                p.readBinaryValue(state.index);
+                hadIndex = true;
+                break;
+            default:
+                _reportError(p, "unrecognized property '"+field+"'");
+            }
+        }
+        if (!hadBlocks) {
+            _reportError(p, "missing property 'blocks'");
+        }
+        out.write(MARKER_END);
+        if (hadIndex) {
+            final ByteBuilder index = state.index;
+            try { // to catch index that does not match blocks
+                SpadeFileIndex.read(index.getBuffer(), 0, index.size(), dataLength - 1);
+            } catch (IOException e) {
+                _reportError(p, "invalid 'index': "+e.getMessage());
+            }
+            final int length = index.size();
+            index.appendInt32(length);
+            index.write(FOOTER_BYTE_1);
+            index.write(FOOTER_BYTE_2);
+            index.write(FOOTER_BYTE_3);
+            index.write(FOOTER_BYTE_4);
+            index.writeTo(out);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, binary to text
+    /**********************************************************************
+     */
+
+    /**
+     * Method for transcoding footer index that follows end marker, if any. Anything
+     * but a valid footer index (with trailer) is reported as an error, rather than
+     * silently dropped.
+     */
+    private static void _footerToText(JsonGenerator gen, BinaryInput input) throws IOException
+    {
+        // data ends with end marker, right before footer
+        final long dataLength = input.count;
+        if (input.readByteOrEOF() < 0) {
+            return;
+        }
+        final ByteBuilder rest = new ByteBuilder();
+        rest.write(input.buffer[0]);
+        input.readRemaining(rest);
+        final byte[] b = rest.getBuffer();
+        final int end = rest.size() - TRAILER_LENGTH;
+        if (end < 0 || b[end+4] != FOOTER_BYTE_1 || b[end+5] != FOOTER_BYTE_2
+                || b[end+6] != FOOTER_BYTE_3 || b[end+7] != FOOTER_BYTE_4) {
+            throw new IOException(String.format(
+                    "Invalid Spade content: %d bytes after end marker, but no footer index (missing 'SPDF' signature at end)",
+                    rest.size()));
+        }
+        final int length = ((b[end] & 0xFF) << 24) | ((b[end+1] & 0xFF) << 16)
+                | ((b[end+2] & 0xFF) << 8) | (b[end+3] & 0xFF);
+        if (length != end) {
+            throw new IOException(String.format(
+                    "Invalid Spade content: footer index length %d, but %d bytes before trailer",
+                    length, end));
+        }
+        // verify, to only pass valid index
+        SpadeFileIndex.read(b, 0, end, dataLength - 1);
+        gen.writeFieldName("index");
+        gen.writeBinary(b, 0, end);
+    }
+
+    private static void _columnToText(JsonGenerator gen, String name, byte[] content, int len)
+        throws IOException
+    {
+        final ContentReader r = new ContentReader(content, len, name);
+        gen.writeStartObject();
+        gen.writeStringField("name", name);
+        final int encoding = r.readByte();
+        if (encoding <= 0 || encoding >= ENCODING_NAMES.length) {
+            r.reportError(String.format("invalid column encoding 0x%02X", encoding));
+        }
+        gen.writeStringField("encoding", ENCODING_NAMES[encoding]);
+        gen.writeNumberField("valueCount", r.readVInt());
+
+        gen.writeObjectFieldStart("presence");
+        gen.writeArrayFieldStart("chunks");
+        int tag;
+        while ((tag = r.readByte()) != TAG_END) {
+            int chunkLen = CHUNK_SIZE;
+            if ((tag & TAG_PARTIAL) != 0) {
+                chunkLen = r.readUInt16();
+                tag &= ~TAG_PARTIAL;
+            }
+            final PresenceCodec codec = PresenceCodec.forTag(tag);
+            if (codec == null) {
+                r.reportError(String.format("unrecognized presence chunk tag 0x%02X", tag));
+            }
+            gen.writeStartObject();
+            gen.writeStringField("codec", codec.name().toLowerCase(Locale.ROOT));
+            if (chunkLen != CHUNK_SIZE) {
+                gen.writeNumberField("length", chunkLen);
+            }
+            int dataStart = r.ptr;
+            int dataLen;
+            switch (tag) {
+            case TAG_BITRAT:
+                gen.writeNumberField("mask", r.readByte());
+                dataLen = r.readUInt16();
+                dataStart = r.ptr;
+                break;
+            case TAG_NIBBLER:
+                // header is part of data, as Nibbler decoder expects
+                dataLen = 2 + (((r.readByte() & 0x3F) << 8) | r.readByte());
+                break;
+            case TAG_RAW:
+                dataLen = chunkLen;
+                break;
+            case TAG_ROW_LIST:
+                dataLen = r.readUInt16();
+                dataStart = r.ptr;
+                break;
+            default: // all clear, all set
+                dataLen = 0;
+            }
+            r.ptr = dataStart;
+            if (dataLen > 0) {
+                r.verifyAvailable(dataLen);
+                gen.writeFieldName("data");
+                gen.writeBinary(content, dataStart, dataLen);
+                r.ptr += dataLen;
+            }
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeNumberField("padding", r.readByte());
+        gen.writeEndObject();
+
+        gen.writeFieldName("values");
+        gen.writeBinary(content, r.ptr, len - r.ptr);
+        gen.writeEndObject();
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, text to binary
+    /**********************************************************************
+     */
+
+    /**
+     * Method for transcoding a block Object into binary block content (excluding
+     * marker, counts and statistics, which are left in state)
+     */
+    private static void _blockToBinary(JsonParser p, TextState state) throws IOException
+    {
+        _expect(p, JsonToken.START_OBJECT, "block");
+        state.block.reset();
+        state.statistics.reset();
+        state.hasStatistics = false;
+        state.rowCount = -1;
+        state.columnCount = 0;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = p.getCurrentName();
+            p.nextToken();
+            switch (field) {
+            case "rows":
+                state.rowCount = _intValue(p, "rows");
+                break;
+            case "columns":
+                _expect(p, JsonToken.START_ARRAY, "'columns'");
+                while (p.nextToken() != JsonToken.END_ARRAY) {
+                    _columnToBinary(p, state);
+                    ++state.columnCount;
+                }
+                break;
+            case "statistics":
+                _expect(p, JsonToken.VALUE_STRING, "'statistics'");
+                p.readBinaryValue(state.statistics);
+                state.hasStatistics = true;
+                break;
+            default:
+                _reportError(p, "unrecognized block property '"+field+"'");
+            }
+        }
+        if (state.rowCount < 0) {
+            _reportError(p, "missing block property 'rows'");
+        }
+    }
+
+    private static void _columnToBinary(JsonParser p, TextState state) throws IOException
+    {
+        _expect(p, JsonToken.START_OBJECT, "column");
+        String name = null;
+        int encoding = -1, valueCount = -1;
+        final ByteBuilder presence = state.presence;
+        final ByteBuilder values = state.values;
+        presence.reset();
+        values.reset();
+        boolean hadPresence = false, hadValues = false;
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = p.getCurrentName();
+            p.nextToken();
+            switch (field) {
+            case "name":
+                name = _stringValue(p, "name");
+                break;
+            case "encoding":
+                {
+                    final String str = _stringValue(p, "encoding");
+                    for (int i = 1; i < ENCODING_NAMES.length; ++i) {
+                        if (ENCODING_NAMES[i].equals(str)) {
+                            encoding = i;
+                        }
+                    }
+                    if (encoding < 0) {
+                        _reportError(p, "unrecognized column encoding '"+str+"'");
+                    }
+                }
+                break;
+            case "valueCount":
+                valueCount = _intValue(p, "valueCount");
+                break;
+            case "presence":
+                _presenceToBinary(p, state);
+                hadPresence = true;
+                break;
+            case "values":
+                _expect(p, JsonToken.VALUE_STRING, "'values'");
+                p.readBinaryValue(values);
+                hadValues = true;
+                break;
+            default:
+                _reportError(p, "unrecognized column property '"+field+"'");
+            }
+        }
+        if (name == null || encoding < 0 || valueCount < 0 || !hadPresence || !hadValues) {
+            _reportError(p, "missing column property (one of 'name', 'encoding', 'valueCount', 'presence', 'values')");
+        }
+        final ByteBuilder block = state.block;
+        final byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        block.appendLengthPrefixed(nameBytes, 0, nameBytes.length);
+        block.appendVInt(1 + ByteBuilder.vIntLength(valueCount) + presence.size() + values.size());
+        block.write(encoding);
+        block.appendVInt(valueCount);
+        block.write(presence.getBuffer(), 0, presence.size());
+        block.write(values.getBuffer(), 0, values.size());
+    }
+
+    private static void _presenceToBinary(JsonParser p, TextState state) throws IOException
+    {
+        _expect(p, JsonToken.START_OBJECT, "'presence'");
+        final ByteBuilder out = state.presence;
+        int padding = -1;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = p.getCurrentName();
+            p.nextToken();
+            switch (field) {
+            case "chunks":
+                _expect(p, JsonToken.START_ARRAY, "'chunks'");
+                while (p.nextToken() != JsonToken.END_ARRAY) {
+                    _chunkToBinary(p, state);
+                }
+                break;
+            case "padding":
+                padding = _intValue(p, "padding");
+                if (padding > 7) {
+                    _reportError(p, "invalid padding bit count "+padding);
+                }
+                break;
+            default:
+                _reportError(p, "unrecognized presence property '"+field+"'");
+            }
+        }
+        if (padding < 0) {
+            _reportError(p, "missing presence property 'padding'");
+        }
+        out.write(TAG_END);
+        out.write(padding);
+    }
+
+    private static void _chunkToBinary(JsonParser p, TextState state) throws IOException
+    {
+        _expect(p, JsonToken.START_OBJECT, "presence chunk");
+        PresenceCodec codec = null;
+        int len = CHUNK_SIZE;
+        int mask = -1;
+        final ByteBuilder data = state.chunkData;
+        data.reset();
+        boolean hadData = false;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = p.getCurrentName();
+            p.nextToken();
+            switch (field) {
+            case "codec":
+                {
+                    final String str = _stringValue(p, "codec");
+                    for (PresenceCodec c : PresenceCodec.values()) {
+                        if (c.name().toLowerCase(Locale.ROOT).equals(str)) {
+                            codec = c;
+                        }
+                    }
+                    if (codec == null) {
+                        _reportError(p, "unrecognized presence chunk codec '"+str+"'");
+                    }
+                }
+                break;
+            case "length":
+                len = _intValue(p, "length");
+                if (len == 0 || len >= CHUNK_SIZE) {
+                    _reportError(p, "invalid partial chunk length "+len);
+                }
+                break;
+            case "mask":
+                mask = _intValue(p, "mask");
+                if (mask > 0xFF) {
+                    _reportError(p, "invalid BitRat chunk mask "+mask);
+                }
+                break;
+            case "data":
+                _expect(p, JsonToken.VALUE_STRING, "'data'");
+                p.readBinaryValue(data);
+                hadData = true;
+                break;
+            default:
+                _reportError(p, "unrecognized presence chunk property '"+field+"'");
+            }
+        }
+        if (codec == null) {
+            _reportError(p, "missing presence chunk property 'codec'");
+        }
+        final int tag = codec.getTag();
+        final boolean needsData = (tag != TAG_ALL_CLEAR) && (tag != TAG_ALL_SET);
+        if (hadData != needsData) {
+            _reportError(p, String.format("property 'data' %s for chunk codec '%s'",
+                    needsData ? "missing" : "not allowed", codec.name().toLowerCase(Locale.ROOT)));
+        }
+        if ((mask >= 0) != (tag == TAG_BITRAT)) {
+            _reportError(p, "property 'mask' only (and always) needed for BitRat chunks");
+        }
+        final int dataLen = data.size();
+        final ByteBuilder out = state.presence;
+        if (len < CHUNK_SIZE) {
+            out.write(TAG_PARTIAL | tag);
+            out.write(len >> 8);
+            out.write(len);
+        } else {
+            out.write(tag);
+        }
+        switch (tag) {
+        case TAG_BITRAT:
+            out.write(mask);
+            _writeDataLength(p, out, dataLen);
+            break;
+        case TAG_ROW_LIST:
+            _writeDataLength(p, out, dataLen);
+            break;
+        case TAG_RAW:
+            if (dataLen != len) {
+                _reportError(p, String.format("raw presence chunk data of %d bytes, expected %d",
+                        dataLen, len));
+            }
+            break;
+        default:
+        }
+        out.write(data.getBuffer(), 0, dataLen);
+    }
+
+    private static void _writeDataLength(JsonParser p, ByteBuilder out, int dataLen)
+        throws IOException
+    {
+        if (dataLen > 0xFFFF) {
+            _reportError(p, "presence chunk data too long ("+dataLen+" bytes)");
+        }
+        out.write(dataLen >> 8);
+        out.write(dataLen);
+    }
+
+    private static void _expect(JsonParser p, JsonToken exp, String desc) throws IOException
+    {
+        if (p.getCurrentToken() != exp) {
+            _reportError(p, String.format("expected %s for %s, got %s", exp, desc, p.getCurrentToken()));
+        }
+    }
+
+    private static int _intValue(JsonParser p, String desc) throws IOException
+    {
+        _expect(p, JsonToken.VALUE_NUMBER_INT, "'"+desc+"'");
+        final int value = p.getIntValue();
+        if (value < 0) {
+            _reportError(p, String.format("invalid value %d for '%s'", value, desc));
+        }
+        return value;
+    }
+
+    private static String _stringValue(JsonParser p, String desc) throws IOException
+    {
+        _expect(p, JsonToken.VALUE_STRING, "'"+desc+"'");
+        return p.getText();
+    }
+
+    private static void _reportError(JsonParser p, String msg) throws IOException {
+        throw new JsonParseException(p, "Invalid textual Spade content: "+msg);
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper classes
+    /**********************************************************************
+     */
+
+    /**
+     * Reusable buffers for transcoding text into binary
+     */
+    private final static class TextState
+    {
+        final ByteBuilder header = new ByteBuilder(16);
+        final ByteBuilder block = new ByteBuilder();
+        final ByteBuilder presence = new ByteBuilder();
+        final ByteBuilder values = new ByteBuilder();
+        final ByteBuilder chunkData = new ByteBuilder();
+        final ByteBuilder statistics = new ByteBuilder();
+        final ByteBuilder index = new ByteBuilder();
+
+        int rowCount, columnCount;
+        boolean hasStatistics;
+    }
+
+    /**
+     * Reader for binary block structure, with reusable buffer for column contents
+     */
+    private final static class BinaryInput
+    {
+        private final InputStream _in;
+
+        byte[] buffer = new byte[256];
+
+        // Number of bytes read so far
+        long count;
+
+        BinaryInput(InputStream in) {
+            _in = in;
+        }
+
+        int readByteOrEOF() throws IOException {
+            final int b = _in.read();
+            if (b >= 0) {
+                buffer[0] = (byte) b;
+                ++count;
+            }
+            return b;
+        }
+
+        int readByte() throws IOException {
+            final int b = _in.read();
+            if (b < 0) {
+                throw new IOException("Invalid Spade content: unexpected end-of-input");
+            }
+            ++count;
+            return b;
+        }
+
+        int readVInt() throws IOException
+        {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                final int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+        }
+
+        String readString() throws IOException
+        {
+            final int len = readVInt();
+            return new String(readContent(len), 0, len, StandardCharsets.UTF_8);
+        }
+
+        byte[] readContent(int len) throws IOException
+        {
+            if (buffer.length < len) {
+                buffer = new byte[Math.max(len, buffer.length + (buffer.length >> 1))];
+            }
+            int offset = 0;
+            while (offset < len) {
+                final int count = _in.read(buffer, offset, len - offset);
+                if (count < 0) {
+                    throw new IOException("Invalid Spade content: unexpected end-of-input");
+                }
+                offset += count;
+            }
+            this.count += len;
+            return buffer;
+        }
+
+        void readRemaining(ByteBuilder out) throws IOException
+        {
+            int count;
+            while ((count = _in.read(buffer, 0, buffer.length)) > 0) {
+                out.write(buffer, 0, count);
+                this.count += count;
+            }
+        }
+    }
+
+    /**
+     * Reader for binary column contents
+     */
+    private final static class ContentReader
+    {
+        private final byte[] _buffer;
+        private final int _end;
+        private final String _column;
+
+        int ptr;
+
+        ContentReader(byte[] buffer, int end, String column) {
+            _buffer = buffer;
+            _end = end;
+            _column = column;
+        }
+
+        int readByte() throws IOException {
+            verifyAvailable(1);
+            return _buffer[ptr++] & 0xFF;
+        }
+
+        int readUInt16() throws IOException {
+            return (readByte() << 8) | readByte();
+        }
+
+        int readVInt() throws IOException
+        {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                final int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+        }
+
+        void verifyAvailable(int len) throws IOException {
+            if (len > (_end - ptr)) {
+                reportError("unexpected end of content");
+            }
+        }
+
+        void reportError(String msg) throws IOException {
+            throw new IOException(String.format("Invalid Spade content for column '%s': %s",
+                    _column, msg));
+        }
+    }
+}
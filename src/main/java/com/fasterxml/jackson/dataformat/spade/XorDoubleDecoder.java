@@ -0,0 +1,137 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.IOException;
+
+/**
+ * Streaming decoder for sequences of <code>double</code> values written by
+ * {@link XorDoubleEncoder}. Decoder does not allocate anything per value;
+ * instances may be reused for multiple sequences, but are not thread-safe.
+ */
+public class XorDoubleDecoder
+{
+    protected byte[] _input;
+
+    protected int _ptr;
+
+    protected int _end;
+
+    protected int _count;
+
+    protected long _prevBits;
+
+    protected int _windowLeading;
+
+    protected int _windowLength;
+
+    // Bits read from input but not yet consumed: at most 63
+    protected long _bitBuffer;
+
+    protected int _bitsLeft;
+
+    public XorDoubleDecoder() { }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * Method for starting decoding of a new sequence.
+     *
+     * @param input Buffer that contains encoded sequence
+     * @param offset Offset of the first byte of sequence
+     * @param end Offset after the last byte that may be read
+     */
+    public void init(byte[] input, int offset, int end)
+    {
+        _input = input;
+        _ptr = offset;
+        _end = end;
+        _count = 0;
+        _prevBits = 0L;
+        _windowLeading = -1;
+        _windowLength = 0;
+        _bitBuffer = 0L;
+        _bitsLeft = 0;
+    }
+
+    /**
+     * @return Offset after the last byte read (including partially read byte)
+     */
+    public int getOffset() {
+        // full bytes in bit buffer have not been consumed yet
+        return _ptr - (_bitsLeft >> 3);
+    }
+
+    public double read() throws IOException
+    {
+        long bits;
+        if (_count++ == 0) {
+            bits = (_readBits(32) << 32) | _readBits(32);
+        } else if (_readBits(1) == 0L) {
+            bits = _prevBits;
+        } else {
+            if (_readBits(1) != 0L) { // new window
+                int header = (int) _readBits(12);
+                _windowLeading = header >> 6;
+                _windowLength = (header & 0x3F) + 1;
+                if ((_windowLeading + _windowLength) > 64) {
+                    throw new IOException(String.format(
+                            "Invalid XOR-encoded double: %d leading zeroes, %d meaningful bits",
+                            _windowLeading, _windowLength));
+                }
+            } else if (_windowLeading < 0) {
+                throw new IOException("Invalid XOR-encoded double: reference to undefined window");
+            }
+            long xor = _readLongBits(_windowLength);
+            bits = _prevBits ^ (xor << (64 - _windowLeading - _windowLength));
+        }
+        _prevBits = bits;
+        return Double.longBitsToDouble(bits);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private long _readLongBits(int count) throws IOException
+    {
+        if (count > 32) {
+            long high = _readBits(count - 32);
+            return (high << 32) | _readBits(32);
+        }
+        return _readBits(count);
+    }
+
+    // Count must be between 1 and 32
+    private long _readBits(int count) throws IOException
+    {
+        if (_bitsLeft < count) {
+            _loadBits(count);
+        }
+        _bitsLeft -= count;
+        return (_bitBuffer >>> _bitsLeft) & ((1L << count) - 1);
+    }
+
+    private void _loadBits(int count) throws IOException
+    {
+        final byte[] input = _input;
+        final int end = _end;
+        long buffer = _bitBuffer;
+        int bitsLeft = _bitsLeft;
+        int ptr = _ptr;
+        while ((bitsLeft <= 56) && (ptr < end)) {
+            buffer = (buffer << 8) | (input[ptr++] & 0xFF);
+            bitsLeft += 8;
+        }
+        if (bitsLeft < count) {
+            throw new IOException("Unexpected end of content for XOR-encoded doubles");
+        }
+        _bitBuffer = buffer;
+        _bitsLeft = bitsLeft;
+        _ptr = ptr;
+    }
+}
@@ -0,0 +1,149 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Streaming encoder for sequences of <code>double</code> values, using
+ * XOR-with-previous encoding (as introduced by Facebook's "Gorilla" time series
+ * database): slowly changing values only differ in a few bits of their IEEE 754
+ * representation, so XOR with the previous value has long runs of leading and
+ * trailing zeroes that need not be stored. Format is a bit stream, MSB-first:
+ *<ul>
+ * <li>First value: all 64 bits</li>
+ * <li>For each following value, XOR of its bits with those of the previous value:
+ *  <ul>
+ *   <li><code>0</code> if XOR is zero (same value)</li>
+ *   <li><code>10</code> followed by meaningful bits of XOR, if they fit within the
+ *     window (leading and trailing zero counts) of the previous <code>11</code> entry</li>
+ *   <li><code>11</code> followed by count of leading zeroes (6 bits),
+ *     number of meaningful bits minus one (6 bits), and meaningful bits</li>
+ *  </ul>
+ * </li>
+ *</ul>
+ * Last byte is padded with zero bits by {@link #finish}. Encoding uses raw bits
+ * so that all values, including NaNs (with payload), infinities and
+ * <code>-0.0</code>, round-trip exactly.
+ *<p>
+ * Encoder does not allocate anything per value; instances may be reused for
+ * multiple sequences, but are not thread-safe.
+ */
+public class XorDoubleEncoder
+{
+    protected OutputStream _out;
+
+    protected int _count;
+
+    protected long _prevBits;
+
+    // Leading and trailing zero counts of the current window; -1 if none yet
+    protected int _windowLeading = -1;
+
+    protected int _windowTrailing;
+
+    // Bits not yet written out: at most 7 between calls
+    protected long _bitBuffer;
+
+    protected int _bitCount;
+
+    public XorDoubleEncoder(OutputStream out) {
+        _out = out;
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * @return Number of values written in the current sequence
+     */
+    public int getValueCount() {
+        return _count;
+    }
+
+    public void write(double value) throws IOException
+    {
+        final long bits = Double.doubleToRawLongBits(value);
+        if (_count++ == 0) {
+            _writeBits(bits >>> 32, 32);
+            _writeBits(bits, 32);
+            _prevBits = bits;
+            return;
+        }
+        final long xor = bits ^ _prevBits;
+        _prevBits = bits;
+        if (xor == 0L) {
+            _writeBits(0L, 1);
+            return;
+        }
+        final int leading = Long.numberOfLeadingZeros(xor);
+        final int trailing = Long.numberOfTrailingZeros(xor);
+        if ((_windowLeading >= 0) && (leading >= _windowLeading) && (trailing >= _windowTrailing)) {
+            _writeBits(0x2L, 2);
+            _writeLongBits(xor >>> _windowTrailing, 64 - _windowLeading - _windowTrailing);
+        } else {
+            final int length = 64 - leading - trailing;
+            _writeBits((0x3L << 12) | (leading << 6) | (length - 1), 14);
+            _writeLongBits(xor >>> trailing, length);
+            _windowLeading = leading;
+            _windowTrailing = trailing;
+        }
+    }
+
+    /**
+     * Method to call after the last value of a sequence, to write out
+     * remaining bits (padded to full byte) and reset encoder state.
+     */
+    public void finish() throws IOException
+    {
+        if (_bitCount > 0) {
+            _out.write((int) (_bitBuffer << (8 - _bitCount)));
+        }
+        reset(_out);
+    }
+
+    /**
+     * Method for resetting encoder state, to start a new sequence; any bits
+     * not yet written out are discarded.
+     */
+    public void reset(OutputStream out)
+    {
+        _out = out;
+        _count = 0;
+        _prevBits = 0L;
+        _windowLeading = -1;
+        _windowTrailing = 0;
+        _bitBuffer = 0L;
+        _bitCount = 0;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private void _writeLongBits(long value, int count) throws IOException
+    {
+        if (count > 32) {
+            _writeBits(value >>> 32, count - 32);
+            _writeBits(value, 32);
+        } else {
+            _writeBits(value, count);
+        }
+    }
+
+    // Count must be at most 56, to fit in bit buffer with pending bits
+    private void _writeBits(long value, int count) throws IOException
+    {
+        _bitBuffer = (_bitBuffer << count) | (value & ((1L << count) - 1));
+        int bitCount = _bitCount + count;
+        while (bitCount >= 8) {
+            bitCount -= 8;
+            _out.write((int) (_bitBuffer >>> bitCount));
+        }
+        _bitCount = bitCount;
+    }
+}
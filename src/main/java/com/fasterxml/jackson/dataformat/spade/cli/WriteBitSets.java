@@ -1,21 +1,38 @@
 package com.fasterxml.jackson.dataformat.spade.cli;
 
 import java.io.*;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import com.fasterxml.jackson.core.*;
-import com.fasterxml.jackson.databind.*;
-import com.fasterxml.jackson.dataformat.spade.util.ValueBuffer;
+import com.fasterxml.jackson.dataformat.spade.PresenceBitsetInputStream;
+import com.fasterxml.jackson.dataformat.spade.PresenceBitsetOutputStream;
+import com.fasterxml.jackson.dataformat.spade.util.ByteBuilder;
 
 /**
  * Helper tool for writing out "raw" bitsets for presence information over
  * sample applog file.
+ *<p>
+ * Input is processed in a single pass, token by token, without binding rows or
+ * retaining any values: presence of each column is appended to a
+ * {@link PresenceBitsetOutputStream} as rows are read, so it is encoded one chunk
+ * at a time. Encoded chunks are buffered in memory up to a limit per column,
+ * and spilled into a temporary file beyond that; so memory usage depends on
+ * number of columns, not number of rows. Bitsets are decoded from encoded chunks
+ * for output, which uses same layout as {@link java.util.BitSet#toByteArray()}.
  */
 public class WriteBitSets
 {
-    private final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    /**
+     * Maximum number of bytes of encoded presence to buffer in memory for a column,
+     * before appending to spill file
+     */
+    private final static int MAX_BUFFERED_BYTES = 64 * 1024;
 
-    private WriteBitSets() { }
+    private final JsonFactory JSON_F = new JsonFactory();
+
+    protected WriteBitSets() { }
 
     public static void main(String[] args) throws IOException
     {
@@ -39,53 +56,270 @@ public class WriteBitSets
         }
     }
 
-    protected void process(InputStream in, String filename) throws IOException
+    protected void process(InputStream in, String filename) throws IOException {
+        process(in, filename, System.out);
+    }
+
+    protected void process(InputStream in, String filename, OutputStream out) throws IOException
     {
         System.err.printf("Starting to read '%s'...\n", filename);
 
-        // For columnar storage, need plenty of buffering
-        final ValueBuffer valueBuffer = new ValueBuffer();
-        int row = 0;
+        final File spillFile = File.createTempFile("bitsets", ".tmp");
+        try (RandomAccessFile spill = new RandomAccessFile(spillFile, "rw")) {
+            final Map<String,ColumnPresence> columns = new LinkedHashMap<>();
+            final int rows;
+            try (JsonParser p = JSON_F.createParser(in)) {
+                rows = _readRows(p, columns, spill);
+            }
+            System.err.printf("Read %d lines, found %d columns. Will now output bitset output...\n",
+                    rows, columns.size());
+            _writeBitsets(out, rows, columns);
+        } finally {
+            spillFile.delete();
+        }
+        System.err.printf("All done!\n");
+    }
 
-        try (MappingIterator<Map<String,Object>> it = JSON_MAPPER
-                .readerFor(Map.class)
-                .readValues(in))
-        {
-            while (it.hasNextValue()) {
-                Map<String,Object> value = it.nextValue();
-                for (Map.Entry<String,Object> entry : value.entrySet()) {
-                    valueBuffer.addValue(row, entry.getKey(), entry.getValue());
+    /**
+     * Method for reading rows, either as a root-level sequence of Objects or as
+     * an Array of Objects, and appending presence of their properties.
+     *
+     * @return Number of rows read
+     */
+    protected int _readRows(JsonParser p, Map<String,ColumnPresence> columns,
+            RandomAccessFile spill) throws IOException
+    {
+        int row = 0;
+        JsonToken t = p.nextToken();
+        final boolean wrapped = (t == JsonToken.START_ARRAY);
+        if (wrapped) {
+            t = p.nextToken();
+        }
+        for (; t != null; t = p.nextToken()) {
+            if (wrapped && (t == JsonToken.END_ARRAY)) {
+                break;
+            }
+            if (t != JsonToken.START_OBJECT) {
+                throw new JsonParseException(p, String.format(
+                        "Expected START_OBJECT for row #%d, got %s", row+1, t));
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                final String name = p.getCurrentName();
+                ColumnPresence col = columns.get(name);
+                if (col == null) {
+                    col = new ColumnPresence(name, spill);
+                    columns.put(name, col);
                 }
-                ++row;
+                col.set(row);
+                // values are not needed, just presence
+                p.nextToken();
+                p.skipChildren();
             }
+            ++row;
         }
+        return row;
+    }
 
-        
-        System.err.printf("Read %d lines, found %d columns. Will now output bitset output...\n",
-                row, valueBuffer.columnCount());
-        JsonGenerator gen = JSON_MAPPER.getFactory().createGenerator(System.out);
+    protected void _writeBitsets(OutputStream out, int rows, Map<String,ColumnPresence> columns)
+        throws IOException
+    {
+        JsonGenerator gen = JSON_F.createGenerator(out);
         gen.useDefaultPrettyPrinter();
         gen.writeStartObject();
-        gen.writeNumberField("rowCount", row);
-        gen.writeNumberField("columnCount", valueBuffer.columnCount());
+        gen.writeNumberField("rowCount", rows);
+        gen.writeNumberField("columnCount", columns.size());
         gen.writeFieldName("bitsets");
         gen.writeStartObject();
-        for (ValueBuffer.Column col : valueBuffer.columns.values()) {
+        for (ColumnPresence col : columns.values()) {
+            col.finish(rows);
             gen.writeFieldName(col.name);
             gen.writeStartObject();
             gen.writeNumberField("set", col.entries);
             // minor simplification: if "all set", write as number 1
-            if (col.entries == row) { // write as if there was a property+value
+            if (col.entries == rows) { // write as if there was a property+value
                 gen.writeRaw("\n      /* presence: 100% */");
             } else {
                 gen.writeFieldName("presence");
-                gen.writeBinary(col.presence.toByteArray());
+                // like BitSet.toByteArray(): no trailing zero bytes
+                final int len = (col.lastRow >> 3) + 1;
+                try (InputStream bits = new LsbFirstInputStream(
+                        new PresenceBitsetInputStream(col.encodedContent()))) {
+                    gen.writeBinary(bits, len);
+                }
             }
             gen.writeEndObject();
         }
         gen.writeEndObject();
         gen.writeEndObject();
         gen.close();
-        System.err.printf("All done!\n");
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper classes
+    /**********************************************************************
+     */
+
+    /**
+     * Presence bitset of a single column, encoded as rows are appended
+     */
+    protected final static class ColumnPresence extends OutputStream
+    {
+        public final String name;
+
+        public int entries;
+
+        public int lastRow = -1;
+
+        private final PresenceBitsetOutputStream _presence;
+
+        private final RandomAccessFile _spill;
+
+        // Encoded content not yet spilled
+        private final ByteBuilder _buffered = new ByteBuilder();
+
+        // Offset and length pairs of spilled segments of encoded content
+        private long[] _segments = new long[8];
+
+        private int _segmentsLength;
+
+        public ColumnPresence(String n, RandomAccessFile spill)
+        {
+            name = n;
+            _spill = spill;
+            _presence = new PresenceBitsetOutputStream(this, PresenceBitsetOutputStream.CODEC_ADAPTIVE);
+        }
+
+        public void set(int row) throws IOException
+        {
+            // duplicate properties within a row only count once
+            if (row != lastRow) {
+                _presence.setBit(row);
+                lastRow = row;
+                ++entries;
+            }
+        }
+
+        /**
+         * Method called after all rows have been read, to append clear bits for
+         * trailing rows without the column, and encode the last chunk.
+         */
+        public void finish(int rows) throws IOException
+        {
+            _presence.appendRun(rows - _presence.getBitCount(), false);
+            _presence.finish();
+        }
+
+        /**
+         * @return Stream for reading all encoded content, spilled and buffered
+         */
+        public InputStream encodedContent()
+        {
+            return new SequenceInputStream(new SpillInputStream(_spill, _segments, _segmentsLength),
+                    new ByteArrayInputStream(_buffered.getBuffer(), 0, _buffered.size()));
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            _buffered.write(b);
+            _checkSpill();
+        }
+
+        @Override
+        public void write(byte[] b, int offset, int len) throws IOException {
+            _buffered.write(b, offset, len);
+            _checkSpill();
+        }
+
+        private void _checkSpill() throws IOException
+        {
+            if (_buffered.size() >= MAX_BUFFERED_BYTES) {
+                final long offset = _spill.length();
+                _spill.seek(offset);
+                _spill.write(_buffered.getBuffer(), 0, _buffered.size());
+                if ((_segmentsLength + 2) > _segments.length) {
+                    _segments = Arrays.copyOf(_segments, _segments.length << 1);
+                }
+                _segments[_segmentsLength++] = offset;
+                _segments[_segmentsLength++] = _buffered.size();
+                _buffered.reset();
+            }
+        }
+    }
+
+    /**
+     * Stream for reading spilled segments of a column, in order
+     */
+    private final static class SpillInputStream extends InputStream
+    {
+        private final RandomAccessFile _spill;
+        private final long[] _segments;
+        private final int _segmentsLength;
+
+        private int _segmentPtr;
+
+        private long _offset, _remaining;
+
+        SpillInputStream(RandomAccessFile spill, long[] segments, int segmentsLength) {
+            _spill = spill;
+            _segments = segments;
+            _segmentsLength = segmentsLength;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] b = new byte[1];
+            return (read(b, 0, 1) < 0) ? -1 : (b[0] & 0xFF);
+        }
+
+        @Override
+        public int read(byte[] b, int offset, int len) throws IOException
+        {
+            if (len == 0) {
+                return 0;
+            }
+            while (_remaining == 0L) {
+                if (_segmentPtr == _segmentsLength) {
+                    return -1;
+                }
+                _offset = _segments[_segmentPtr++];
+                _remaining = _segments[_segmentPtr++];
+            }
+            _spill.seek(_offset);
+            final int count = _spill.read(b, offset, (int) Math.min(len, _remaining));
+            if (count < 0) {
+                throw new EOFException("Unexpected end of spill file");
+            }
+            _offset += count;
+            _remaining -= count;
+            return count;
+        }
+    }
+
+    /**
+     * Stream that reverses order of bits in bytes, to convert presence bitsets
+     * (most-significant bit first) into {@link java.util.BitSet} byte layout.
+     */
+    private final static class LsbFirstInputStream extends FilterInputStream
+    {
+        LsbFirstInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = in.read();
+            return (b < 0) ? b : (Integer.reverse(b) >>> 24);
+        }
+
+        @Override
+        public int read(byte[] b, int offset, int len) throws IOException
+        {
+            final int count = in.read(b, offset, len);
+            for (int i = 0; i < count; ++i) {
+                b[offset + i] = (byte) (Integer.reverse(b[offset + i]) >>> 24);
+            }
+            return count;
+        }
     }
 }
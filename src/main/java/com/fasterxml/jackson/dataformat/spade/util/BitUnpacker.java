@@ -0,0 +1,6530 @@
+package com.fasterxml.jackson.dataformat.spade.util;
+
+import java.util.Arrays;
+
+/**
+ * Unpacking of bit-packed unsigned values, packed MSB-first into 64-bit words
+ * (that is, the first value starts at the most significant bit of the first word).
+ * Values are unpacked in groups of {@link #GROUP_SIZE}, which take exactly
+ * <code>width</code> words, using separate method for each width, with
+ * constant shifts and masks, and no branches or loops.
+ *<p>
+ * NOTE: generated by <code>BitUnpackerGenerator</code> (in <code>src/build/java</code>);
+ * do not edit by hand.
+ */
+public final class BitUnpacker
+{
+    public final static int GROUP_SIZE = 64;
+
+    private BitUnpacker() { }
+
+    /**
+     * Method for unpacking {@link #GROUP_SIZE} values of given bit width from
+     * <code>width</code> words of <code>in</code>, starting at <code>inPtr</code>,
+     * into <code>out</code>, starting at <code>outPtr</code>.
+     *
+     * @param width Bit width of values, 0 - 64
+     */
+    public static void unpack(int width, long[] in, int inPtr, long[] out, int outPtr)
+    {
+        switch (width) {
+        case 0:
+            Arrays.fill(out, outPtr, outPtr + GROUP_SIZE, 0L);
+            return;
+        case 1:
+            _unpack1(in, inPtr, out, outPtr);
+            return;
+        case 2:
+            _unpack2(in, inPtr, out, outPtr);
+            return;
+        case 3:
+            _unpack3(in, inPtr, out, outPtr);
+            return;
+        case 4:
+            _unpack4(in, inPtr, out, outPtr);
+            return;
+        case 5:
+            _unpack5(in, inPtr, out, outPtr);
+            return;
+        case 6:
+            _unpack6(in, inPtr, out, outPtr);
+            return;
+        case 7:
+            _unpack7(in, inPtr, out, outPtr);
+            return;
+        case 8:
+            _unpack8(in, inPtr, out, outPtr);
+            return;
+        case 9:
+            _unpack9(in, inPtr, out, outPtr);
+            return;
+        case 10:
+            _unpack10(in, inPtr, out, outPtr);
+            return;
+        case 11:
+            _unpack11(in, inPtr, out, outPtr);
+            return;
+        case 12:
+            _unpack12(in, inPtr, out, outPtr);
+            return;
+        case 13:
+            _unpack13(in, inPtr, out, outPtr);
+            return;
+        case 14:
+            _unpack14(in, inPtr, out, outPtr);
+            return;
+        case 15:
+            _unpack15(in, inPtr, out, outPtr);
+            return;
+        case 16:
+            _unpack16(in, inPtr, out, outPtr);
+            return;
+        case 17:
+            _unpack17(in, inPtr, out, outPtr);
+            return;
+        case 18:
+            _unpack18(in, inPtr, out, outPtr);
+            return;
+        case 19:
+            _unpack19(in, inPtr, out, outPtr);
+            return;
+        case 20:
+            _unpack20(in, inPtr, out, outPtr);
+            return;
+        case 21:
+            _unpack21(in, inPtr, out, outPtr);
+            return;
+        case 22:
+            _unpack22(in, inPtr, out, outPtr);
+            return;
+        case 23:
+            _unpack23(in, inPtr, out, outPtr);
+            return;
+        case 24:
+            _unpack24(in, inPtr, out, outPtr);
+            return;
+        case 25:
+            _unpack25(in, inPtr, out, outPtr);
+            return;
+        case 26:
+            _unpack26(in, inPtr, out, outPtr);
+            return;
+        case 27:
+            _unpack27(in, inPtr, out, outPtr);
+            return;
+        case 28:
+            _unpack28(in, inPtr, out, outPtr);
+            return;
+        case 29:
+            _unpack29(in, inPtr, out, outPtr);
+            return;
+        case 30:
+            _unpack30(in, inPtr, out, outPtr);
+            return;
+        case 31:
+            _unpack31(in, inPtr, out, outPtr);
+            return;
+        case 32:
+            _unpack32(in, inPtr, out, outPtr);
+            return;
+        case 33:
+            _unpack33(in, inPtr, out, outPtr);
+            return;
+        case 34:
+            _unpack34(in, inPtr, out, outPtr);
+            return;
+        case 35:
+            _unpack35(in, inPtr, out, outPtr);
+            return;
+        case 36:
+            _unpack36(in, inPtr, out, outPtr);
+            return;
+        case 37:
+            _unpack37(in, inPtr, out, outPtr);
+            return;
+        case 38:
+            _unpack38(in, inPtr, out, outPtr);
+            return;
+        case 39:
+            _unpack39(in, inPtr, out, outPtr);
+            return;
+        case 40:
+            _unpack40(in, inPtr, out, outPtr);
+            return;
+        case 41:
+            _unpack41(in, inPtr, out, outPtr);
+            return;
+        case 42:
+            _unpack42(in, inPtr, out, outPtr);
+            return;
+        case 43:
+            _unpack43(in, inPtr, out, outPtr);
+            return;
+        case 44:
+            _unpack44(in, inPtr, out, outPtr);
+            return;
+        case 45:
+            _unpack45(in, inPtr, out, outPtr);
+            return;
+        case 46:
+            _unpack46(in, inPtr, out, outPtr);
+            return;
+        case 47:
+            _unpack47(in, inPtr, out, outPtr);
+            return;
+        case 48:
+            _unpack48(in, inPtr, out, outPtr);
+            return;
+        case 49:
+            _unpack49(in, inPtr, out, outPtr);
+            return;
+        case 50:
+            _unpack50(in, inPtr, out, outPtr);
+            return;
+        case 51:
+            _unpack51(in, inPtr, out, outPtr);
+            return;
+        case 52:
+            _unpack52(in, inPtr, out, outPtr);
+            return;
+        case 53:
+            _unpack53(in, inPtr, out, outPtr);
+            return;
+        case 54:
+            _unpack54(in, inPtr, out, outPtr);
+            return;
+        case 55:
+            _unpack55(in, inPtr, out, outPtr);
+            return;
+        case 56:
+            _unpack56(in, inPtr, out, outPtr);
+            return;
+        case 57:
+            _unpack57(in, inPtr, out, outPtr);
+            return;
+        case 58:
+            _unpack58(in, inPtr, out, outPtr);
+            return;
+        case 59:
+            _unpack59(in, inPtr, out, outPtr);
+            return;
+        case 60:
+            _unpack60(in, inPtr, out, outPtr);
+            return;
+        case 61:
+            _unpack61(in, inPtr, out, outPtr);
+            return;
+        case 62:
+            _unpack62(in, inPtr, out, outPtr);
+            return;
+        case 63:
+            _unpack63(in, inPtr, out, outPtr);
+            return;
+        case 64:
+            System.arraycopy(in, inPtr, out, outPtr, GROUP_SIZE);
+            return;
+        default:
+            throw new IllegalArgumentException("Invalid bit width "+width);
+        }
+    }
+
+    private static void _unpack1(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 63;
+        out[op+1] = (w0 >>> 62) & 0x1L;
+        out[op+2] = (w0 >>> 61) & 0x1L;
+        out[op+3] = (w0 >>> 60) & 0x1L;
+        out[op+4] = (w0 >>> 59) & 0x1L;
+        out[op+5] = (w0 >>> 58) & 0x1L;
+        out[op+6] = (w0 >>> 57) & 0x1L;
+        out[op+7] = (w0 >>> 56) & 0x1L;
+        out[op+8] = (w0 >>> 55) & 0x1L;
+        out[op+9] = (w0 >>> 54) & 0x1L;
+        out[op+10] = (w0 >>> 53) & 0x1L;
+        out[op+11] = (w0 >>> 52) & 0x1L;
+        out[op+12] = (w0 >>> 51) & 0x1L;
+        out[op+13] = (w0 >>> 50) & 0x1L;
+        out[op+14] = (w0 >>> 49) & 0x1L;
+        out[op+15] = (w0 >>> 48) & 0x1L;
+        out[op+16] = (w0 >>> 47) & 0x1L;
+        out[op+17] = (w0 >>> 46) & 0x1L;
+        out[op+18] = (w0 >>> 45) & 0x1L;
+        out[op+19] = (w0 >>> 44) & 0x1L;
+        out[op+20] = (w0 >>> 43) & 0x1L;
+        out[op+21] = (w0 >>> 42) & 0x1L;
+        out[op+22] = (w0 >>> 41) & 0x1L;
+        out[op+23] = (w0 >>> 40) & 0x1L;
+        out[op+24] = (w0 >>> 39) & 0x1L;
+        out[op+25] = (w0 >>> 38) & 0x1L;
+        out[op+26] = (w0 >>> 37) & 0x1L;
+        out[op+27] = (w0 >>> 36) & 0x1L;
+        out[op+28] = (w0 >>> 35) & 0x1L;
+        out[op+29] = (w0 >>> 34) & 0x1L;
+        out[op+30] = (w0 >>> 33) & 0x1L;
+        out[op+31] = (w0 >>> 32) & 0x1L;
+        out[op+32] = (w0 >>> 31) & 0x1L;
+        out[op+33] = (w0 >>> 30) & 0x1L;
+        out[op+34] = (w0 >>> 29) & 0x1L;
+        out[op+35] = (w0 >>> 28) & 0x1L;
+        out[op+36] = (w0 >>> 27) & 0x1L;
+        out[op+37] = (w0 >>> 26) & 0x1L;
+        out[op+38] = (w0 >>> 25) & 0x1L;
+        out[op+39] = (w0 >>> 24) & 0x1L;
+        out[op+40] = (w0 >>> 23) & 0x1L;
+        out[op+41] = (w0 >>> 22) & 0x1L;
+        out[op+42] = (w0 >>> 21) & 0x1L;
+        out[op+43] = (w0 >>> 20) & 0x1L;
+        out[op+44] = (w0 >>> 19) & 0x1L;
+        out[op+45] = (w0 >>> 18) & 0x1L;
+        out[op+46] = (w0 >>> 17) & 0x1L;
+        out[op+47] = (w0 >>> 16) & 0x1L;
+        out[op+48] = (w0 >>> 15) & 0x1L;
+        out[op+49] = (w0 >>> 14) & 0x1L;
+        out[op+50] = (w0 >>> 13) & 0x1L;
+        out[op+51] = (w0 >>> 12) & 0x1L;
+        out[op+52] = (w0 >>> 11) & 0x1L;
+        out[op+53] = (w0 >>> 10) & 0x1L;
+        out[op+54] = (w0 >>> 9) & 0x1L;
+        out[op+55] = (w0 >>> 8) & 0x1L;
+        out[op+56] = (w0 >>> 7) & 0x1L;
+        out[op+57] = (w0 >>> 6) & 0x1L;
+        out[op+58] = (w0 >>> 5) & 0x1L;
+        out[op+59] = (w0 >>> 4) & 0x1L;
+        out[op+60] = (w0 >>> 3) & 0x1L;
+        out[op+61] = (w0 >>> 2) & 0x1L;
+        out[op+62] = (w0 >>> 1) & 0x1L;
+        out[op+63] = w0 & 0x1L;
+    }
+
+    private static void _unpack2(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 62;
+        out[op+1] = (w0 >>> 60) & 0x3L;
+        out[op+2] = (w0 >>> 58) & 0x3L;
+        out[op+3] = (w0 >>> 56) & 0x3L;
+        out[op+4] = (w0 >>> 54) & 0x3L;
+        out[op+5] = (w0 >>> 52) & 0x3L;
+        out[op+6] = (w0 >>> 50) & 0x3L;
+        out[op+7] = (w0 >>> 48) & 0x3L;
+        out[op+8] = (w0 >>> 46) & 0x3L;
+        out[op+9] = (w0 >>> 44) & 0x3L;
+        out[op+10] = (w0 >>> 42) & 0x3L;
+        out[op+11] = (w0 >>> 40) & 0x3L;
+        out[op+12] = (w0 >>> 38) & 0x3L;
+        out[op+13] = (w0 >>> 36) & 0x3L;
+        out[op+14] = (w0 >>> 34) & 0x3L;
+        out[op+15] = (w0 >>> 32) & 0x3L;
+        out[op+16] = (w0 >>> 30) & 0x3L;
+        out[op+17] = (w0 >>> 28) & 0x3L;
+        out[op+18] = (w0 >>> 26) & 0x3L;
+        out[op+19] = (w0 >>> 24) & 0x3L;
+        out[op+20] = (w0 >>> 22) & 0x3L;
+        out[op+21] = (w0 >>> 20) & 0x3L;
+        out[op+22] = (w0 >>> 18) & 0x3L;
+        out[op+23] = (w0 >>> 16) & 0x3L;
+        out[op+24] = (w0 >>> 14) & 0x3L;
+        out[op+25] = (w0 >>> 12) & 0x3L;
+        out[op+26] = (w0 >>> 10) & 0x3L;
+        out[op+27] = (w0 >>> 8) & 0x3L;
+        out[op+28] = (w0 >>> 6) & 0x3L;
+        out[op+29] = (w0 >>> 4) & 0x3L;
+        out[op+30] = (w0 >>> 2) & 0x3L;
+        out[op+31] = w0 & 0x3L;
+        final long w1 = in[ip+1];
+        out[op+32] = w1 >>> 62;
+        out[op+33] = (w1 >>> 60) & 0x3L;
+        out[op+34] = (w1 >>> 58) & 0x3L;
+        out[op+35] = (w1 >>> 56) & 0x3L;
+        out[op+36] = (w1 >>> 54) & 0x3L;
+        out[op+37] = (w1 >>> 52) & 0x3L;
+        out[op+38] = (w1 >>> 50) & 0x3L;
+        out[op+39] = (w1 >>> 48) & 0x3L;
+        out[op+40] = (w1 >>> 46) & 0x3L;
+        out[op+41] = (w1 >>> 44) & 0x3L;
+        out[op+42] = (w1 >>> 42) & 0x3L;
+        out[op+43] = (w1 >>> 40) & 0x3L;
+        out[op+44] = (w1 >>> 38) & 0x3L;
+        out[op+45] = (w1 >>> 36) & 0x3L;
+        out[op+46] = (w1 >>> 34) & 0x3L;
+        out[op+47] = (w1 >>> 32) & 0x3L;
+        out[op+48] = (w1 >>> 30) & 0x3L;
+        out[op+49] = (w1 >>> 28) & 0x3L;
+        out[op+50] = (w1 >>> 26) & 0x3L;
+        out[op+51] = (w1 >>> 24) & 0x3L;
+        out[op+52] = (w1 >>> 22) & 0x3L;
+        out[op+53] = (w1 >>> 20) & 0x3L;
+        out[op+54] = (w1 >>> 18) & 0x3L;
+        out[op+55] = (w1 >>> 16) & 0x3L;
+        out[op+56] = (w1 >>> 14) & 0x3L;
+        out[op+57] = (w1 >>> 12) & 0x3L;
+        out[op+58] = (w1 >>> 10) & 0x3L;
+        out[op+59] = (w1 >>> 8) & 0x3L;
+        out[op+60] = (w1 >>> 6) & 0x3L;
+        out[op+61] = (w1 >>> 4) & 0x3L;
+        out[op+62] = (w1 >>> 2) & 0x3L;
+        out[op+63] = w1 & 0x3L;
+    }
+
+    private static void _unpack3(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 61;
+        out[op+1] = (w0 >>> 58) & 0x7L;
+        out[op+2] = (w0 >>> 55) & 0x7L;
+        out[op+3] = (w0 >>> 52) & 0x7L;
+        out[op+4] = (w0 >>> 49) & 0x7L;
+        out[op+5] = (w0 >>> 46) & 0x7L;
+        out[op+6] = (w0 >>> 43) & 0x7L;
+        out[op+7] = (w0 >>> 40) & 0x7L;
+        out[op+8] = (w0 >>> 37) & 0x7L;
+        out[op+9] = (w0 >>> 34) & 0x7L;
+        out[op+10] = (w0 >>> 31) & 0x7L;
+        out[op+11] = (w0 >>> 28) & 0x7L;
+        out[op+12] = (w0 >>> 25) & 0x7L;
+        out[op+13] = (w0 >>> 22) & 0x7L;
+        out[op+14] = (w0 >>> 19) & 0x7L;
+        out[op+15] = (w0 >>> 16) & 0x7L;
+        out[op+16] = (w0 >>> 13) & 0x7L;
+        out[op+17] = (w0 >>> 10) & 0x7L;
+        out[op+18] = (w0 >>> 7) & 0x7L;
+        out[op+19] = (w0 >>> 4) & 0x7L;
+        out[op+20] = (w0 >>> 1) & 0x7L;
+        final long w1 = in[ip+1];
+        out[op+21] = ((w0 << 2) | (w1 >>> 62)) & 0x7L;
+        out[op+22] = (w1 >>> 59) & 0x7L;
+        out[op+23] = (w1 >>> 56) & 0x7L;
+        out[op+24] = (w1 >>> 53) & 0x7L;
+        out[op+25] = (w1 >>> 50) & 0x7L;
+        out[op+26] = (w1 >>> 47) & 0x7L;
+        out[op+27] = (w1 >>> 44) & 0x7L;
+        out[op+28] = (w1 >>> 41) & 0x7L;
+        out[op+29] = (w1 >>> 38) & 0x7L;
+        out[op+30] = (w1 >>> 35) & 0x7L;
+        out[op+31] = (w1 >>> 32) & 0x7L;
+        out[op+32] = (w1 >>> 29) & 0x7L;
+        out[op+33] = (w1 >>> 26) & 0x7L;
+        out[op+34] = (w1 >>> 23) & 0x7L;
+        out[op+35] = (w1 >>> 20) & 0x7L;
+        out[op+36] = (w1 >>> 17) & 0x7L;
+        out[op+37] = (w1 >>> 14) & 0x7L;
+        out[op+38] = (w1 >>> 11) & 0x7L;
+        out[op+39] = (w1 >>> 8) & 0x7L;
+        out[op+40] = (w1 >>> 5) & 0x7L;
+        out[op+41] = (w1 >>> 2) & 0x7L;
+        final long w2 = in[ip+2];
+        out[op+42] = ((w1 << 1) | (w2 >>> 63)) & 0x7L;
+        out[op+43] = (w2 >>> 60) & 0x7L;
+        out[op+44] = (w2 >>> 57) & 0x7L;
+        out[op+45] = (w2 >>> 54) & 0x7L;
+        out[op+46] = (w2 >>> 51) & 0x7L;
+        out[op+47] = (w2 >>> 48) & 0x7L;
+        out[op+48] = (w2 >>> 45) & 0x7L;
+        out[op+49] = (w2 >>> 42) & 0x7L;
+        out[op+50] = (w2 >>> 39) & 0x7L;
+        out[op+51] = (w2 >>> 36) & 0x7L;
+        out[op+52] = (w2 >>> 33) & 0x7L;
+        out[op+53] = (w2 >>> 30) & 0x7L;
+        out[op+54] = (w2 >>> 27) & 0x7L;
+        out[op+55] = (w2 >>> 24) & 0x7L;
+        out[op+56] = (w2 >>> 21) & 0x7L;
+        out[op+57] = (w2 >>> 18) & 0x7L;
+        out[op+58] = (w2 >>> 15) & 0x7L;
+        out[op+59] = (w2 >>> 12) & 0x7L;
+        out[op+60] = (w2 >>> 9) & 0x7L;
+        out[op+61] = (w2 >>> 6) & 0x7L;
+        out[op+62] = (w2 >>> 3) & 0x7L;
+        out[op+63] = w2 & 0x7L;
+    }
+
+    private static void _unpack4(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 60;
+        out[op+1] = (w0 >>> 56) & 0xFL;
+        out[op+2] = (w0 >>> 52) & 0xFL;
+        out[op+3] = (w0 >>> 48) & 0xFL;
+        out[op+4] = (w0 >>> 44) & 0xFL;
+        out[op+5] = (w0 >>> 40) & 0xFL;
+        out[op+6] = (w0 >>> 36) & 0xFL;
+        out[op+7] = (w0 >>> 32) & 0xFL;
+        out[op+8] = (w0 >>> 28) & 0xFL;
+        out[op+9] = (w0 >>> 24) & 0xFL;
+        out[op+10] = (w0 >>> 20) & 0xFL;
+        out[op+11] = (w0 >>> 16) & 0xFL;
+        out[op+12] = (w0 >>> 12) & 0xFL;
+        out[op+13] = (w0 >>> 8) & 0xFL;
+        out[op+14] = (w0 >>> 4) & 0xFL;
+        out[op+15] = w0 & 0xFL;
+        final long w1 = in[ip+1];
+        out[op+16] = w1 >>> 60;
+        out[op+17] = (w1 >>> 56) & 0xFL;
+        out[op+18] = (w1 >>> 52) & 0xFL;
+        out[op+19] = (w1 >>> 48) & 0xFL;
+        out[op+20] = (w1 >>> 44) & 0xFL;
+        out[op+21] = (w1 >>> 40) & 0xFL;
+        out[op+22] = (w1 >>> 36) & 0xFL;
+        out[op+23] = (w1 >>> 32) & 0xFL;
+        out[op+24] = (w1 >>> 28) & 0xFL;
+        out[op+25] = (w1 >>> 24) & 0xFL;
+        out[op+26] = (w1 >>> 20) & 0xFL;
+        out[op+27] = (w1 >>> 16) & 0xFL;
+        out[op+28] = (w1 >>> 12) & 0xFL;
+        out[op+29] = (w1 >>> 8) & 0xFL;
+        out[op+30] = (w1 >>> 4) & 0xFL;
+        out[op+31] = w1 & 0xFL;
+        final long w2 = in[ip+2];
+        out[op+32] = w2 >>> 60;
+        out[op+33] = (w2 >>> 56) & 0xFL;
+        out[op+34] = (w2 >>> 52) & 0xFL;
+        out[op+35] = (w2 >>> 48) & 0xFL;
+        out[op+36] = (w2 >>> 44) & 0xFL;
+        out[op+37] = (w2 >>> 40) & 0xFL;
+        out[op+38] = (w2 >>> 36) & 0xFL;
+        out[op+39] = (w2 >>> 32) & 0xFL;
+        out[op+40] = (w2 >>> 28) & 0xFL;
+        out[op+41] = (w2 >>> 24) & 0xFL;
+        out[op+42] = (w2 >>> 20) & 0xFL;
+        out[op+43] = (w2 >>> 16) & 0xFL;
+        out[op+44] = (w2 >>> 12) & 0xFL;
+        out[op+45] = (w2 >>> 8) & 0xFL;
+        out[op+46] = (w2 >>> 4) & 0xFL;
+        out[op+47] = w2 & 0xFL;
+        final long w3 = in[ip+3];
+        out[op+48] = w3 >>> 60;
+        out[op+49] = (w3 >>> 56) & 0xFL;
+        out[op+50] = (w3 >>> 52) & 0xFL;
+        out[op+51] = (w3 >>> 48) & 0xFL;
+        out[op+52] = (w3 >>> 44) & 0xFL;
+        out[op+53] = (w3 >>> 40) & 0xFL;
+        out[op+54] = (w3 >>> 36) & 0xFL;
+        out[op+55] = (w3 >>> 32) & 0xFL;
+        out[op+56] = (w3 >>> 28) & 0xFL;
+        out[op+57] = (w3 >>> 24) & 0xFL;
+        out[op+58] = (w3 >>> 20) & 0xFL;
+        out[op+59] = (w3 >>> 16) & 0xFL;
+        out[op+60] = (w3 >>> 12) & 0xFL;
+        out[op+61] = (w3 >>> 8) & 0xFL;
+        out[op+62] = (w3 >>> 4) & 0xFL;
+        out[op+63] = w3 & 0xFL;
+    }
+
+    private static void _unpack5(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 59;
+        out[op+1] = (w0 >>> 54) & 0x1FL;
+        out[op+2] = (w0 >>> 49) & 0x1FL;
+        out[op+3] = (w0 >>> 44) & 0x1FL;
+        out[op+4] = (w0 >>> 39) & 0x1FL;
+        out[op+5] = (w0 >>> 34) & 0x1FL;
+        out[op+6] = (w0 >>> 29) & 0x1FL;
+        out[op+7] = (w0 >>> 24) & 0x1FL;
+        out[op+8] = (w0 >>> 19) & 0x1FL;
+        out[op+9] = (w0 >>> 14) & 0x1FL;
+        out[op+10] = (w0 >>> 9) & 0x1FL;
+        out[op+11] = (w0 >>> 4) & 0x1FL;
+        final long w1 = in[ip+1];
+        out[op+12] = ((w0 << 1) | (w1 >>> 63)) & 0x1FL;
+        out[op+13] = (w1 >>> 58) & 0x1FL;
+        out[op+14] = (w1 >>> 53) & 0x1FL;
+        out[op+15] = (w1 >>> 48) & 0x1FL;
+        out[op+16] = (w1 >>> 43) & 0x1FL;
+        out[op+17] = (w1 >>> 38) & 0x1FL;
+        out[op+18] = (w1 >>> 33) & 0x1FL;
+        out[op+19] = (w1 >>> 28) & 0x1FL;
+        out[op+20] = (w1 >>> 23) & 0x1FL;
+        out[op+21] = (w1 >>> 18) & 0x1FL;
+        out[op+22] = (w1 >>> 13) & 0x1FL;
+        out[op+23] = (w1 >>> 8) & 0x1FL;
+        out[op+24] = (w1 >>> 3) & 0x1FL;
+        final long w2 = in[ip+2];
+        out[op+25] = ((w1 << 2) | (w2 >>> 62)) & 0x1FL;
+        out[op+26] = (w2 >>> 57) & 0x1FL;
+        out[op+27] = (w2 >>> 52) & 0x1FL;
+        out[op+28] = (w2 >>> 47) & 0x1FL;
+        out[op+29] = (w2 >>> 42) & 0x1FL;
+        out[op+30] = (w2 >>> 37) & 0x1FL;
+        out[op+31] = (w2 >>> 32) & 0x1FL;
+        out[op+32] = (w2 >>> 27) & 0x1FL;
+        out[op+33] = (w2 >>> 22) & 0x1FL;
+        out[op+34] = (w2 >>> 17) & 0x1FL;
+        out[op+35] = (w2 >>> 12) & 0x1FL;
+        out[op+36] = (w2 >>> 7) & 0x1FL;
+        out[op+37] = (w2 >>> 2) & 0x1FL;
+        final long w3 = in[ip+3];
+        out[op+38] = ((w2 << 3) | (w3 >>> 61)) & 0x1FL;
+        out[op+39] = (w3 >>> 56) & 0x1FL;
+        out[op+40] = (w3 >>> 51) & 0x1FL;
+        out[op+41] = (w3 >>> 46) & 0x1FL;
+        out[op+42] = (w3 >>> 41) & 0x1FL;
+        out[op+43] = (w3 >>> 36) & 0x1FL;
+        out[op+44] = (w3 >>> 31) & 0x1FL;
+        out[op+45] = (w3 >>> 26) & 0x1FL;
+        out[op+46] = (w3 >>> 21) & 0x1FL;
+        out[op+47] = (w3 >>> 16) & 0x1FL;
+        out[op+48] = (w3 >>> 11) & 0x1FL;
+        out[op+49] = (w3 >>> 6) & 0x1FL;
+        out[op+50] = (w3 >>> 1) & 0x1FL;
+        final long w4 = in[ip+4];
+        out[op+51] = ((w3 << 4) | (w4 >>> 60)) & 0x1FL;
+        out[op+52] = (w4 >>> 55) & 0x1FL;
+        out[op+53] = (w4 >>> 50) & 0x1FL;
+        out[op+54] = (w4 >>> 45) & 0x1FL;
+        out[op+55] = (w4 >>> 40) & 0x1FL;
+        out[op+56] = (w4 >>> 35) & 0x1FL;
+        out[op+57] = (w4 >>> 30) & 0x1FL;
+        out[op+58] = (w4 >>> 25) & 0x1FL;
+        out[op+59] = (w4 >>> 20) & 0x1FL;
+        out[op+60] = (w4 >>> 15) & 0x1FL;
+        out[op+61] = (w4 >>> 10) & 0x1FL;
+        out[op+62] = (w4 >>> 5) & 0x1FL;
+        out[op+63] = w4 & 0x1FL;
+    }
+
+    private static void _unpack6(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 58;
+        out[op+1] = (w0 >>> 52) & 0x3FL;
+        out[op+2] = (w0 >>> 46) & 0x3FL;
+        out[op+3] = (w0 >>> 40) & 0x3FL;
+        out[op+4] = (w0 >>> 34) & 0x3FL;
+        out[op+5] = (w0 >>> 28) & 0x3FL;
+        out[op+6] = (w0 >>> 22) & 0x3FL;
+        out[op+7] = (w0 >>> 16) & 0x3FL;
+        out[op+8] = (w0 >>> 10) & 0x3FL;
+        out[op+9] = (w0 >>> 4) & 0x3FL;
+        final long w1 = in[ip+1];
+        out[op+10] = ((w0 << 2) | (w1 >>> 62)) & 0x3FL;
+        out[op+11] = (w1 >>> 56) & 0x3FL;
+        out[op+12] = (w1 >>> 50) & 0x3FL;
+        out[op+13] = (w1 >>> 44) & 0x3FL;
+        out[op+14] = (w1 >>> 38) & 0x3FL;
+        out[op+15] = (w1 >>> 32) & 0x3FL;
+        out[op+16] = (w1 >>> 26) & 0x3FL;
+        out[op+17] = (w1 >>> 20) & 0x3FL;
+        out[op+18] = (w1 >>> 14) & 0x3FL;
+        out[op+19] = (w1 >>> 8) & 0x3FL;
+        out[op+20] = (w1 >>> 2) & 0x3FL;
+        final long w2 = in[ip+2];
+        out[op+21] = ((w1 << 4) | (w2 >>> 60)) & 0x3FL;
+        out[op+22] = (w2 >>> 54) & 0x3FL;
+        out[op+23] = (w2 >>> 48) & 0x3FL;
+        out[op+24] = (w2 >>> 42) & 0x3FL;
+        out[op+25] = (w2 >>> 36) & 0x3FL;
+        out[op+26] = (w2 >>> 30) & 0x3FL;
+        out[op+27] = (w2 >>> 24) & 0x3FL;
+        out[op+28] = (w2 >>> 18) & 0x3FL;
+        out[op+29] = (w2 >>> 12) & 0x3FL;
+        out[op+30] = (w2 >>> 6) & 0x3FL;
+        out[op+31] = w2 & 0x3FL;
+        final long w3 = in[ip+3];
+        out[op+32] = w3 >>> 58;
+        out[op+33] = (w3 >>> 52) & 0x3FL;
+        out[op+34] = (w3 >>> 46) & 0x3FL;
+        out[op+35] = (w3 >>> 40) & 0x3FL;
+        out[op+36] = (w3 >>> 34) & 0x3FL;
+        out[op+37] = (w3 >>> 28) & 0x3FL;
+        out[op+38] = (w3 >>> 22) & 0x3FL;
+        out[op+39] = (w3 >>> 16) & 0x3FL;
+        out[op+40] = (w3 >>> 10) & 0x3FL;
+        out[op+41] = (w3 >>> 4) & 0x3FL;
+        final long w4 = in[ip+4];
+        out[op+42] = ((w3 << 2) | (w4 >>> 62)) & 0x3FL;
+        out[op+43] = (w4 >>> 56) & 0x3FL;
+        out[op+44] = (w4 >>> 50) & 0x3FL;
+        out[op+45] = (w4 >>> 44) & 0x3FL;
+        out[op+46] = (w4 >>> 38) & 0x3FL;
+        out[op+47] = (w4 >>> 32) & 0x3FL;
+        out[op+48] = (w4 >>> 26) & 0x3FL;
+        out[op+49] = (w4 >>> 20) & 0x3FL;
+        out[op+50] = (w4 >>> 14) & 0x3FL;
+        out[op+51] = (w4 >>> 8) & 0x3FL;
+        out[op+52] = (w4 >>> 2) & 0x3FL;
+        final long w5 = in[ip+5];
+        out[op+53] = ((w4 << 4) | (w5 >>> 60)) & 0x3FL;
+        out[op+54] = (w5 >>> 54) & 0x3FL;
+        out[op+55] = (w5 >>> 48) & 0x3FL;
+        out[op+56] = (w5 >>> 42) & 0x3FL;
+        out[op+57] = (w5 >>> 36) & 0x3FL;
+        out[op+58] = (w5 >>> 30) & 0x3FL;
+        out[op+59] = (w5 >>> 24) & 0x3FL;
+        out[op+60] = (w5 >>> 18) & 0x3FL;
+        out[op+61] = (w5 >>> 12) & 0x3FL;
+        out[op+62] = (w5 >>> 6) & 0x3FL;
+        out[op+63] = w5 & 0x3FL;
+    }
+
+    private static void _unpack7(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 57;
+        out[op+1] = (w0 >>> 50) & 0x7FL;
+        out[op+2] = (w0 >>> 43) & 0x7FL;
+        out[op+3] = (w0 >>> 36) & 0x7FL;
+        out[op+4] = (w0 >>> 29) & 0x7FL;
+        out[op+5] = (w0 >>> 22) & 0x7FL;
+        out[op+6] = (w0 >>> 15) & 0x7FL;
+        out[op+7] = (w0 >>> 8) & 0x7FL;
+        out[op+8] = (w0 >>> 1) & 0x7FL;
+        final long w1 = in[ip+1];
+        out[op+9] = ((w0 << 6) | (w1 >>> 58)) & 0x7FL;
+        out[op+10] = (w1 >>> 51) & 0x7FL;
+        out[op+11] = (w1 >>> 44) & 0x7FL;
+        out[op+12] = (w1 >>> 37) & 0x7FL;
+        out[op+13] = (w1 >>> 30) & 0x7FL;
+        out[op+14] = (w1 >>> 23) & 0x7FL;
+        out[op+15] = (w1 >>> 16) & 0x7FL;
+        out[op+16] = (w1 >>> 9) & 0x7FL;
+        out[op+17] = (w1 >>> 2) & 0x7FL;
+        final long w2 = in[ip+2];
+        out[op+18] = ((w1 << 5) | (w2 >>> 59)) & 0x7FL;
+        out[op+19] = (w2 >>> 52) & 0x7FL;
+        out[op+20] = (w2 >>> 45) & 0x7FL;
+        out[op+21] = (w2 >>> 38) & 0x7FL;
+        out[op+22] = (w2 >>> 31) & 0x7FL;
+        out[op+23] = (w2 >>> 24) & 0x7FL;
+        out[op+24] = (w2 >>> 17) & 0x7FL;
+        out[op+25] = (w2 >>> 10) & 0x7FL;
+        out[op+26] = (w2 >>> 3) & 0x7FL;
+        final long w3 = in[ip+3];
+        out[op+27] = ((w2 << 4) | (w3 >>> 60)) & 0x7FL;
+        out[op+28] = (w3 >>> 53) & 0x7FL;
+        out[op+29] = (w3 >>> 46) & 0x7FL;
+        out[op+30] = (w3 >>> 39) & 0x7FL;
+        out[op+31] = (w3 >>> 32) & 0x7FL;
+        out[op+32] = (w3 >>> 25) & 0x7FL;
+        out[op+33] = (w3 >>> 18) & 0x7FL;
+        out[op+34] = (w3 >>> 11) & 0x7FL;
+        out[op+35] = (w3 >>> 4) & 0x7FL;
+        final long w4 = in[ip+4];
+        out[op+36] = ((w3 << 3) | (w4 >>> 61)) & 0x7FL;
+        out[op+37] = (w4 >>> 54) & 0x7FL;
+        out[op+38] = (w4 >>> 47) & 0x7FL;
+        out[op+39] = (w4 >>> 40) & 0x7FL;
+        out[op+40] = (w4 >>> 33) & 0x7FL;
+        out[op+41] = (w4 >>> 26) & 0x7FL;
+        out[op+42] = (w4 >>> 19) & 0x7FL;
+        out[op+43] = (w4 >>> 12) & 0x7FL;
+        out[op+44] = (w4 >>> 5) & 0x7FL;
+        final long w5 = in[ip+5];
+        out[op+45] = ((w4 << 2) | (w5 >>> 62)) & 0x7FL;
+        out[op+46] = (w5 >>> 55) & 0x7FL;
+        out[op+47] = (w5 >>> 48) & 0x7FL;
+        out[op+48] = (w5 >>> 41) & 0x7FL;
+        out[op+49] = (w5 >>> 34) & 0x7FL;
+        out[op+50] = (w5 >>> 27) & 0x7FL;
+        out[op+51] = (w5 >>> 20) & 0x7FL;
+        out[op+52] = (w5 >>> 13) & 0x7FL;
+        out[op+53] = (w5 >>> 6) & 0x7FL;
+        final long w6 = in[ip+6];
+        out[op+54] = ((w5 << 1) | (w6 >>> 63)) & 0x7FL;
+        out[op+55] = (w6 >>> 56) & 0x7FL;
+        out[op+56] = (w6 >>> 49) & 0x7FL;
+        out[op+57] = (w6 >>> 42) & 0x7FL;
+        out[op+58] = (w6 >>> 35) & 0x7FL;
+        out[op+59] = (w6 >>> 28) & 0x7FL;
+        out[op+60] = (w6 >>> 21) & 0x7FL;
+        out[op+61] = (w6 >>> 14) & 0x7FL;
+        out[op+62] = (w6 >>> 7) & 0x7FL;
+        out[op+63] = w6 & 0x7FL;
+    }
+
+    private static void _unpack8(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 56;
+        out[op+1] = (w0 >>> 48) & 0xFFL;
+        out[op+2] = (w0 >>> 40) & 0xFFL;
+        out[op+3] = (w0 >>> 32) & 0xFFL;
+        out[op+4] = (w0 >>> 24) & 0xFFL;
+        out[op+5] = (w0 >>> 16) & 0xFFL;
+        out[op+6] = (w0 >>> 8) & 0xFFL;
+        out[op+7] = w0 & 0xFFL;
+        final long w1 = in[ip+1];
+        out[op+8] = w1 >>> 56;
+        out[op+9] = (w1 >>> 48) & 0xFFL;
+        out[op+10] = (w1 >>> 40) & 0xFFL;
+        out[op+11] = (w1 >>> 32) & 0xFFL;
+        out[op+12] = (w1 >>> 24) & 0xFFL;
+        out[op+13] = (w1 >>> 16) & 0xFFL;
+        out[op+14] = (w1 >>> 8) & 0xFFL;
+        out[op+15] = w1 & 0xFFL;
+        final long w2 = in[ip+2];
+        out[op+16] = w2 >>> 56;
+        out[op+17] = (w2 >>> 48) & 0xFFL;
+        out[op+18] = (w2 >>> 40) & 0xFFL;
+        out[op+19] = (w2 >>> 32) & 0xFFL;
+        out[op+20] = (w2 >>> 24) & 0xFFL;
+        out[op+21] = (w2 >>> 16) & 0xFFL;
+        out[op+22] = (w2 >>> 8) & 0xFFL;
+        out[op+23] = w2 & 0xFFL;
+        final long w3 = in[ip+3];
+        out[op+24] = w3 >>> 56;
+        out[op+25] = (w3 >>> 48) & 0xFFL;
+        out[op+26] = (w3 >>> 40) & 0xFFL;
+        out[op+27] = (w3 >>> 32) & 0xFFL;
+        out[op+28] = (w3 >>> 24) & 0xFFL;
+        out[op+29] = (w3 >>> 16) & 0xFFL;
+        out[op+30] = (w3 >>> 8) & 0xFFL;
+        out[op+31] = w3 & 0xFFL;
+        final long w4 = in[ip+4];
+        out[op+32] = w4 >>> 56;
+        out[op+33] = (w4 >>> 48) & 0xFFL;
+        out[op+34] = (w4 >>> 40) & 0xFFL;
+        out[op+35] = (w4 >>> 32) & 0xFFL;
+        out[op+36] = (w4 >>> 24) & 0xFFL;
+        out[op+37] = (w4 >>> 16) & 0xFFL;
+        out[op+38] = (w4 >>> 8) & 0xFFL;
+        out[op+39] = w4 & 0xFFL;
+        final long w5 = in[ip+5];
+        out[op+40] = w5 >>> 56;
+        out[op+41] = (w5 >>> 48) & 0xFFL;
+        out[op+42] = (w5 >>> 40) & 0xFFL;
+        out[op+43] = (w5 >>> 32) & 0xFFL;
+        out[op+44] = (w5 >>> 24) & 0xFFL;
+        out[op+45] = (w5 >>> 16) & 0xFFL;
+        out[op+46] = (w5 >>> 8) & 0xFFL;
+        out[op+47] = w5 & 0xFFL;
+        final long w6 = in[ip+6];
+        out[op+48] = w6 >>> 56;
+        out[op+49] = (w6 >>> 48) & 0xFFL;
+        out[op+50] = (w6 >>> 40) & 0xFFL;
+        out[op+51] = (w6 >>> 32) & 0xFFL;
+        out[op+52] = (w6 >>> 24) & 0xFFL;
+        out[op+53] = (w6 >>> 16) & 0xFFL;
+        out[op+54] = (w6 >>> 8) & 0xFFL;
+        out[op+55] = w6 & 0xFFL;
+        final long w7 = in[ip+7];
+        out[op+56] = w7 >>> 56;
+        out[op+57] = (w7 >>> 48) & 0xFFL;
+        out[op+58] = (w7 >>> 40) & 0xFFL;
+        out[op+59] = (w7 >>> 32) & 0xFFL;
+        out[op+60] = (w7 >>> 24) & 0xFFL;
+        out[op+61] = (w7 >>> 16) & 0xFFL;
+        out[op+62] = (w7 >>> 8) & 0xFFL;
+        out[op+63] = w7 & 0xFFL;
+    }
+
+    private static void _unpack9(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 55;
+        out[op+1] = (w0 >>> 46) & 0x1FFL;
+        out[op+2] = (w0 >>> 37) & 0x1FFL;
+        out[op+3] = (w0 >>> 28) & 0x1FFL;
+        out[op+4] = (w0 >>> 19) & 0x1FFL;
+        out[op+5] = (w0 >>> 10) & 0x1FFL;
+        out[op+6] = (w0 >>> 1) & 0x1FFL;
+        final long w1 = in[ip+1];
+        out[op+7] = ((w0 << 8) | (w1 >>> 56)) & 0x1FFL;
+        out[op+8] = (w1 >>> 47) & 0x1FFL;
+        out[op+9] = (w1 >>> 38) & 0x1FFL;
+        out[op+10] = (w1 >>> 29) & 0x1FFL;
+        out[op+11] = (w1 >>> 20) & 0x1FFL;
+        out[op+12] = (w1 >>> 11) & 0x1FFL;
+        out[op+13] = (w1 >>> 2) & 0x1FFL;
+        final long w2 = in[ip+2];
+        out[op+14] = ((w1 << 7) | (w2 >>> 57)) & 0x1FFL;
+        out[op+15] = (w2 >>> 48) & 0x1FFL;
+        out[op+16] = (w2 >>> 39) & 0x1FFL;
+        out[op+17] = (w2 >>> 30) & 0x1FFL;
+        out[op+18] = (w2 >>> 21) & 0x1FFL;
+        out[op+19] = (w2 >>> 12) & 0x1FFL;
+        out[op+20] = (w2 >>> 3) & 0x1FFL;
+        final long w3 = in[ip+3];
+        out[op+21] = ((w2 << 6) | (w3 >>> 58)) & 0x1FFL;
+        out[op+22] = (w3 >>> 49) & 0x1FFL;
+        out[op+23] = (w3 >>> 40) & 0x1FFL;
+        out[op+24] = (w3 >>> 31) & 0x1FFL;
+        out[op+25] = (w3 >>> 22) & 0x1FFL;
+        out[op+26] = (w3 >>> 13) & 0x1FFL;
+        out[op+27] = (w3 >>> 4) & 0x1FFL;
+        final long w4 = in[ip+4];
+        out[op+28] = ((w3 << 5) | (w4 >>> 59)) & 0x1FFL;
+        out[op+29] = (w4 >>> 50) & 0x1FFL;
+        out[op+30] = (w4 >>> 41) & 0x1FFL;
+        out[op+31] = (w4 >>> 32) & 0x1FFL;
+        out[op+32] = (w4 >>> 23) & 0x1FFL;
+        out[op+33] = (w4 >>> 14) & 0x1FFL;
+        out[op+34] = (w4 >>> 5) & 0x1FFL;
+        final long w5 = in[ip+5];
+        out[op+35] = ((w4 << 4) | (w5 >>> 60)) & 0x1FFL;
+        out[op+36] = (w5 >>> 51) & 0x1FFL;
+        out[op+37] = (w5 >>> 42) & 0x1FFL;
+        out[op+38] = (w5 >>> 33) & 0x1FFL;
+        out[op+39] = (w5 >>> 24) & 0x1FFL;
+        out[op+40] = (w5 >>> 15) & 0x1FFL;
+        out[op+41] = (w5 >>> 6) & 0x1FFL;
+        final long w6 = in[ip+6];
+        out[op+42] = ((w5 << 3) | (w6 >>> 61)) & 0x1FFL;
+        out[op+43] = (w6 >>> 52) & 0x1FFL;
+        out[op+44] = (w6 >>> 43) & 0x1FFL;
+        out[op+45] = (w6 >>> 34) & 0x1FFL;
+        out[op+46] = (w6 >>> 25) & 0x1FFL;
+        out[op+47] = (w6 >>> 16) & 0x1FFL;
+        out[op+48] = (w6 >>> 7) & 0x1FFL;
+        final long w7 = in[ip+7];
+        out[op+49] = ((w6 << 2) | (w7 >>> 62)) & 0x1FFL;
+        out[op+50] = (w7 >>> 53) & 0x1FFL;
+        out[op+51] = (w7 >>> 44) & 0x1FFL;
+        out[op+52] = (w7 >>> 35) & 0x1FFL;
+        out[op+53] = (w7 >>> 26) & 0x1FFL;
+        out[op+54] = (w7 >>> 17) & 0x1FFL;
+        out[op+55] = (w7 >>> 8) & 0x1FFL;
+        final long w8 = in[ip+8];
+        out[op+56] = ((w7 << 1) | (w8 >>> 63)) & 0x1FFL;
+        out[op+57] = (w8 >>> 54) & 0x1FFL;
+        out[op+58] = (w8 >>> 45) & 0x1FFL;
+        out[op+59] = (w8 >>> 36) & 0x1FFL;
+        out[op+60] = (w8 >>> 27) & 0x1FFL;
+        out[op+61] = (w8 >>> 18) & 0x1FFL;
+        out[op+62] = (w8 >>> 9) & 0x1FFL;
+        out[op+63] = w8 & 0x1FFL;
+    }
+
+    private static void _unpack10(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 54;
+        out[op+1] = (w0 >>> 44) & 0x3FFL;
+        out[op+2] = (w0 >>> 34) & 0x3FFL;
+        out[op+3] = (w0 >>> 24) & 0x3FFL;
+        out[op+4] = (w0 >>> 14) & 0x3FFL;
+        out[op+5] = (w0 >>> 4) & 0x3FFL;
+        final long w1 = in[ip+1];
+        out[op+6] = ((w0 << 6) | (w1 >>> 58)) & 0x3FFL;
+        out[op+7] = (w1 >>> 48) & 0x3FFL;
+        out[op+8] = (w1 >>> 38) & 0x3FFL;
+        out[op+9] = (w1 >>> 28) & 0x3FFL;
+        out[op+10] = (w1 >>> 18) & 0x3FFL;
+        out[op+11] = (w1 >>> 8) & 0x3FFL;
+        final long w2 = in[ip+2];
+        out[op+12] = ((w1 << 2) | (w2 >>> 62)) & 0x3FFL;
+        out[op+13] = (w2 >>> 52) & 0x3FFL;
+        out[op+14] = (w2 >>> 42) & 0x3FFL;
+        out[op+15] = (w2 >>> 32) & 0x3FFL;
+        out[op+16] = (w2 >>> 22) & 0x3FFL;
+        out[op+17] = (w2 >>> 12) & 0x3FFL;
+        out[op+18] = (w2 >>> 2) & 0x3FFL;
+        final long w3 = in[ip+3];
+        out[op+19] = ((w2 << 8) | (w3 >>> 56)) & 0x3FFL;
+        out[op+20] = (w3 >>> 46) & 0x3FFL;
+        out[op+21] = (w3 >>> 36) & 0x3FFL;
+        out[op+22] = (w3 >>> 26) & 0x3FFL;
+        out[op+23] = (w3 >>> 16) & 0x3FFL;
+        out[op+24] = (w3 >>> 6) & 0x3FFL;
+        final long w4 = in[ip+4];
+        out[op+25] = ((w3 << 4) | (w4 >>> 60)) & 0x3FFL;
+        out[op+26] = (w4 >>> 50) & 0x3FFL;
+        out[op+27] = (w4 >>> 40) & 0x3FFL;
+        out[op+28] = (w4 >>> 30) & 0x3FFL;
+        out[op+29] = (w4 >>> 20) & 0x3FFL;
+        out[op+30] = (w4 >>> 10) & 0x3FFL;
+        out[op+31] = w4 & 0x3FFL;
+        final long w5 = in[ip+5];
+        out[op+32] = w5 >>> 54;
+        out[op+33] = (w5 >>> 44) & 0x3FFL;
+        out[op+34] = (w5 >>> 34) & 0x3FFL;
+        out[op+35] = (w5 >>> 24) & 0x3FFL;
+        out[op+36] = (w5 >>> 14) & 0x3FFL;
+        out[op+37] = (w5 >>> 4) & 0x3FFL;
+        final long w6 = in[ip+6];
+        out[op+38] = ((w5 << 6) | (w6 >>> 58)) & 0x3FFL;
+        out[op+39] = (w6 >>> 48) & 0x3FFL;
+        out[op+40] = (w6 >>> 38) & 0x3FFL;
+        out[op+41] = (w6 >>> 28) & 0x3FFL;
+        out[op+42] = (w6 >>> 18) & 0x3FFL;
+        out[op+43] = (w6 >>> 8) & 0x3FFL;
+        final long w7 = in[ip+7];
+        out[op+44] = ((w6 << 2) | (w7 >>> 62)) & 0x3FFL;
+        out[op+45] = (w7 >>> 52) & 0x3FFL;
+        out[op+46] = (w7 >>> 42) & 0x3FFL;
+        out[op+47] = (w7 >>> 32) & 0x3FFL;
+        out[op+48] = (w7 >>> 22) & 0x3FFL;
+        out[op+49] = (w7 >>> 12) & 0x3FFL;
+        out[op+50] = (w7 >>> 2) & 0x3FFL;
+        final long w8 = in[ip+8];
+        out[op+51] = ((w7 << 8) | (w8 >>> 56)) & 0x3FFL;
+        out[op+52] = (w8 >>> 46) & 0x3FFL;
+        out[op+53] = (w8 >>> 36) & 0x3FFL;
+        out[op+54] = (w8 >>> 26) & 0x3FFL;
+        out[op+55] = (w8 >>> 16) & 0x3FFL;
+        out[op+56] = (w8 >>> 6) & 0x3FFL;
+        final long w9 = in[ip+9];
+        out[op+57] = ((w8 << 4) | (w9 >>> 60)) & 0x3FFL;
+        out[op+58] = (w9 >>> 50) & 0x3FFL;
+        out[op+59] = (w9 >>> 40) & 0x3FFL;
+        out[op+60] = (w9 >>> 30) & 0x3FFL;
+        out[op+61] = (w9 >>> 20) & 0x3FFL;
+        out[op+62] = (w9 >>> 10) & 0x3FFL;
+        out[op+63] = w9 & 0x3FFL;
+    }
+
+    private static void _unpack11(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 53;
+        out[op+1] = (w0 >>> 42) & 0x7FFL;
+        out[op+2] = (w0 >>> 31) & 0x7FFL;
+        out[op+3] = (w0 >>> 20) & 0x7FFL;
+        out[op+4] = (w0 >>> 9) & 0x7FFL;
+        final long w1 = in[ip+1];
+        out[op+5] = ((w0 << 2) | (w1 >>> 62)) & 0x7FFL;
+        out[op+6] = (w1 >>> 51) & 0x7FFL;
+        out[op+7] = (w1 >>> 40) & 0x7FFL;
+        out[op+8] = (w1 >>> 29) & 0x7FFL;
+        out[op+9] = (w1 >>> 18) & 0x7FFL;
+        out[op+10] = (w1 >>> 7) & 0x7FFL;
+        final long w2 = in[ip+2];
+        out[op+11] = ((w1 << 4) | (w2 >>> 60)) & 0x7FFL;
+        out[op+12] = (w2 >>> 49) & 0x7FFL;
+        out[op+13] = (w2 >>> 38) & 0x7FFL;
+        out[op+14] = (w2 >>> 27) & 0x7FFL;
+        out[op+15] = (w2 >>> 16) & 0x7FFL;
+        out[op+16] = (w2 >>> 5) & 0x7FFL;
+        final long w3 = in[ip+3];
+        out[op+17] = ((w2 << 6) | (w3 >>> 58)) & 0x7FFL;
+        out[op+18] = (w3 >>> 47) & 0x7FFL;
+        out[op+19] = (w3 >>> 36) & 0x7FFL;
+        out[op+20] = (w3 >>> 25) & 0x7FFL;
+        out[op+21] = (w3 >>> 14) & 0x7FFL;
+        out[op+22] = (w3 >>> 3) & 0x7FFL;
+        final long w4 = in[ip+4];
+        out[op+23] = ((w3 << 8) | (w4 >>> 56)) & 0x7FFL;
+        out[op+24] = (w4 >>> 45) & 0x7FFL;
+        out[op+25] = (w4 >>> 34) & 0x7FFL;
+        out[op+26] = (w4 >>> 23) & 0x7FFL;
+        out[op+27] = (w4 >>> 12) & 0x7FFL;
+        out[op+28] = (w4 >>> 1) & 0x7FFL;
+        final long w5 = in[ip+5];
+        out[op+29] = ((w4 << 10) | (w5 >>> 54)) & 0x7FFL;
+        out[op+30] = (w5 >>> 43) & 0x7FFL;
+        out[op+31] = (w5 >>> 32) & 0x7FFL;
+        out[op+32] = (w5 >>> 21) & 0x7FFL;
+        out[op+33] = (w5 >>> 10) & 0x7FFL;
+        final long w6 = in[ip+6];
+        out[op+34] = ((w5 << 1) | (w6 >>> 63)) & 0x7FFL;
+        out[op+35] = (w6 >>> 52) & 0x7FFL;
+        out[op+36] = (w6 >>> 41) & 0x7FFL;
+        out[op+37] = (w6 >>> 30) & 0x7FFL;
+        out[op+38] = (w6 >>> 19) & 0x7FFL;
+        out[op+39] = (w6 >>> 8) & 0x7FFL;
+        final long w7 = in[ip+7];
+        out[op+40] = ((w6 << 3) | (w7 >>> 61)) & 0x7FFL;
+        out[op+41] = (w7 >>> 50) & 0x7FFL;
+        out[op+42] = (w7 >>> 39) & 0x7FFL;
+        out[op+43] = (w7 >>> 28) & 0x7FFL;
+        out[op+44] = (w7 >>> 17) & 0x7FFL;
+        out[op+45] = (w7 >>> 6) & 0x7FFL;
+        final long w8 = in[ip+8];
+        out[op+46] = ((w7 << 5) | (w8 >>> 59)) & 0x7FFL;
+        out[op+47] = (w8 >>> 48) & 0x7FFL;
+        out[op+48] = (w8 >>> 37) & 0x7FFL;
+        out[op+49] = (w8 >>> 26) & 0x7FFL;
+        out[op+50] = (w8 >>> 15) & 0x7FFL;
+        out[op+51] = (w8 >>> 4) & 0x7FFL;
+        final long w9 = in[ip+9];
+        out[op+52] = ((w8 << 7) | (w9 >>> 57)) & 0x7FFL;
+        out[op+53] = (w9 >>> 46) & 0x7FFL;
+        out[op+54] = (w9 >>> 35) & 0x7FFL;
+        out[op+55] = (w9 >>> 24) & 0x7FFL;
+        out[op+56] = (w9 >>> 13) & 0x7FFL;
+        out[op+57] = (w9 >>> 2) & 0x7FFL;
+        final long w10 = in[ip+10];
+        out[op+58] = ((w9 << 9) | (w10 >>> 55)) & 0x7FFL;
+        out[op+59] = (w10 >>> 44) & 0x7FFL;
+        out[op+60] = (w10 >>> 33) & 0x7FFL;
+        out[op+61] = (w10 >>> 22) & 0x7FFL;
+        out[op+62] = (w10 >>> 11) & 0x7FFL;
+        out[op+63] = w10 & 0x7FFL;
+    }
+
+    private static void _unpack12(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 52;
+        out[op+1] = (w0 >>> 40) & 0xFFFL;
+        out[op+2] = (w0 >>> 28) & 0xFFFL;
+        out[op+3] = (w0 >>> 16) & 0xFFFL;
+        out[op+4] = (w0 >>> 4) & 0xFFFL;
+        final long w1 = in[ip+1];
+        out[op+5] = ((w0 << 8) | (w1 >>> 56)) & 0xFFFL;
+        out[op+6] = (w1 >>> 44) & 0xFFFL;
+        out[op+7] = (w1 >>> 32) & 0xFFFL;
+        out[op+8] = (w1 >>> 20) & 0xFFFL;
+        out[op+9] = (w1 >>> 8) & 0xFFFL;
+        final long w2 = in[ip+2];
+        out[op+10] = ((w1 << 4) | (w2 >>> 60)) & 0xFFFL;
+        out[op+11] = (w2 >>> 48) & 0xFFFL;
+        out[op+12] = (w2 >>> 36) & 0xFFFL;
+        out[op+13] = (w2 >>> 24) & 0xFFFL;
+        out[op+14] = (w2 >>> 12) & 0xFFFL;
+        out[op+15] = w2 & 0xFFFL;
+        final long w3 = in[ip+3];
+        out[op+16] = w3 >>> 52;
+        out[op+17] = (w3 >>> 40) & 0xFFFL;
+        out[op+18] = (w3 >>> 28) & 0xFFFL;
+        out[op+19] = (w3 >>> 16) & 0xFFFL;
+        out[op+20] = (w3 >>> 4) & 0xFFFL;
+        final long w4 = in[ip+4];
+        out[op+21] = ((w3 << 8) | (w4 >>> 56)) & 0xFFFL;
+        out[op+22] = (w4 >>> 44) & 0xFFFL;
+        out[op+23] = (w4 >>> 32) & 0xFFFL;
+        out[op+24] = (w4 >>> 20) & 0xFFFL;
+        out[op+25] = (w4 >>> 8) & 0xFFFL;
+        final long w5 = in[ip+5];
+        out[op+26] = ((w4 << 4) | (w5 >>> 60)) & 0xFFFL;
+        out[op+27] = (w5 >>> 48) & 0xFFFL;
+        out[op+28] = (w5 >>> 36) & 0xFFFL;
+        out[op+29] = (w5 >>> 24) & 0xFFFL;
+        out[op+30] = (w5 >>> 12) & 0xFFFL;
+        out[op+31] = w5 & 0xFFFL;
+        final long w6 = in[ip+6];
+        out[op+32] = w6 >>> 52;
+        out[op+33] = (w6 >>> 40) & 0xFFFL;
+        out[op+34] = (w6 >>> 28) & 0xFFFL;
+        out[op+35] = (w6 >>> 16) & 0xFFFL;
+        out[op+36] = (w6 >>> 4) & 0xFFFL;
+        final long w7 = in[ip+7];
+        out[op+37] = ((w6 << 8) | (w7 >>> 56)) & 0xFFFL;
+        out[op+38] = (w7 >>> 44) & 0xFFFL;
+        out[op+39] = (w7 >>> 32) & 0xFFFL;
+        out[op+40] = (w7 >>> 20) & 0xFFFL;
+        out[op+41] = (w7 >>> 8) & 0xFFFL;
+        final long w8 = in[ip+8];
+        out[op+42] = ((w7 << 4) | (w8 >>> 60)) & 0xFFFL;
+        out[op+43] = (w8 >>> 48) & 0xFFFL;
+        out[op+44] = (w8 >>> 36) & 0xFFFL;
+        out[op+45] = (w8 >>> 24) & 0xFFFL;
+        out[op+46] = (w8 >>> 12) & 0xFFFL;
+        out[op+47] = w8 & 0xFFFL;
+        final long w9 = in[ip+9];
+        out[op+48] = w9 >>> 52;
+        out[op+49] = (w9 >>> 40) & 0xFFFL;
+        out[op+50] = (w9 >>> 28) & 0xFFFL;
+        out[op+51] = (w9 >>> 16) & 0xFFFL;
+        out[op+52] = (w9 >>> 4) & 0xFFFL;
+        final long w10 = in[ip+10];
+        out[op+53] = ((w9 << 8) | (w10 >>> 56)) & 0xFFFL;
+        out[op+54] = (w10 >>> 44) & 0xFFFL;
+        out[op+55] = (w10 >>> 32) & 0xFFFL;
+        out[op+56] = (w10 >>> 20) & 0xFFFL;
+        out[op+57] = (w10 >>> 8) & 0xFFFL;
+        final long w11 = in[ip+11];
+        out[op+58] = ((w10 << 4) | (w11 >>> 60)) & 0xFFFL;
+        out[op+59] = (w11 >>> 48) & 0xFFFL;
+        out[op+60] = (w11 >>> 36) & 0xFFFL;
+        out[op+61] = (w11 >>> 24) & 0xFFFL;
+        out[op+62] = (w11 >>> 12) & 0xFFFL;
+        out[op+63] = w11 & 0xFFFL;
+    }
+
+    private static void _unpack13(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 51;
+        out[op+1] = (w0 >>> 38) & 0x1FFFL;
+        out[op+2] = (w0 >>> 25) & 0x1FFFL;
+        out[op+3] = (w0 >>> 12) & 0x1FFFL;
+        final long w1 = in[ip+1];
+        out[op+4] = ((w0 << 1) | (w1 >>> 63)) & 0x1FFFL;
+        out[op+5] = (w1 >>> 50) & 0x1FFFL;
+        out[op+6] = (w1 >>> 37) & 0x1FFFL;
+        out[op+7] = (w1 >>> 24) & 0x1FFFL;
+        out[op+8] = (w1 >>> 11) & 0x1FFFL;
+        final long w2 = in[ip+2];
+        out[op+9] = ((w1 << 2) | (w2 >>> 62)) & 0x1FFFL;
+        out[op+10] = (w2 >>> 49) & 0x1FFFL;
+        out[op+11] = (w2 >>> 36) & 0x1FFFL;
+        out[op+12] = (w2 >>> 23) & 0x1FFFL;
+        out[op+13] = (w2 >>> 10) & 0x1FFFL;
+        final long w3 = in[ip+3];
+        out[op+14] = ((w2 << 3) | (w3 >>> 61)) & 0x1FFFL;
+        out[op+15] = (w3 >>> 48) & 0x1FFFL;
+        out[op+16] = (w3 >>> 35) & 0x1FFFL;
+        out[op+17] = (w3 >>> 22) & 0x1FFFL;
+        out[op+18] = (w3 >>> 9) & 0x1FFFL;
+        final long w4 = in[ip+4];
+        out[op+19] = ((w3 << 4) | (w4 >>> 60)) & 0x1FFFL;
+        out[op+20] = (w4 >>> 47) & 0x1FFFL;
+        out[op+21] = (w4 >>> 34) & 0x1FFFL;
+        out[op+22] = (w4 >>> 21) & 0x1FFFL;
+        out[op+23] = (w4 >>> 8) & 0x1FFFL;
+        final long w5 = in[ip+5];
+        out[op+24] = ((w4 << 5) | (w5 >>> 59)) & 0x1FFFL;
+        out[op+25] = (w5 >>> 46) & 0x1FFFL;
+        out[op+26] = (w5 >>> 33) & 0x1FFFL;
+        out[op+27] = (w5 >>> 20) & 0x1FFFL;
+        out[op+28] = (w5 >>> 7) & 0x1FFFL;
+        final long w6 = in[ip+6];
+        out[op+29] = ((w5 << 6) | (w6 >>> 58)) & 0x1FFFL;
+        out[op+30] = (w6 >>> 45) & 0x1FFFL;
+        out[op+31] = (w6 >>> 32) & 0x1FFFL;
+        out[op+32] = (w6 >>> 19) & 0x1FFFL;
+        out[op+33] = (w6 >>> 6) & 0x1FFFL;
+        final long w7 = in[ip+7];
+        out[op+34] = ((w6 << 7) | (w7 >>> 57)) & 0x1FFFL;
+        out[op+35] = (w7 >>> 44) & 0x1FFFL;
+        out[op+36] = (w7 >>> 31) & 0x1FFFL;
+        out[op+37] = (w7 >>> 18) & 0x1FFFL;
+        out[op+38] = (w7 >>> 5) & 0x1FFFL;
+        final long w8 = in[ip+8];
+        out[op+39] = ((w7 << 8) | (w8 >>> 56)) & 0x1FFFL;
+        out[op+40] = (w8 >>> 43) & 0x1FFFL;
+        out[op+41] = (w8 >>> 30) & 0x1FFFL;
+        out[op+42] = (w8 >>> 17) & 0x1FFFL;
+        out[op+43] = (w8 >>> 4) & 0x1FFFL;
+        final long w9 = in[ip+9];
+        out[op+44] = ((w8 << 9) | (w9 >>> 55)) & 0x1FFFL;
+        out[op+45] = (w9 >>> 42) & 0x1FFFL;
+        out[op+46] = (w9 >>> 29) & 0x1FFFL;
+        out[op+47] = (w9 >>> 16) & 0x1FFFL;
+        out[op+48] = (w9 >>> 3) & 0x1FFFL;
+        final long w10 = in[ip+10];
+        out[op+49] = ((w9 << 10) | (w10 >>> 54)) & 0x1FFFL;
+        out[op+50] = (w10 >>> 41) & 0x1FFFL;
+        out[op+51] = (w10 >>> 28) & 0x1FFFL;
+        out[op+52] = (w10 >>> 15) & 0x1FFFL;
+        out[op+53] = (w10 >>> 2) & 0x1FFFL;
+        final long w11 = in[ip+11];
+        out[op+54] = ((w10 << 11) | (w11 >>> 53)) & 0x1FFFL;
+        out[op+55] = (w11 >>> 40) & 0x1FFFL;
+        out[op+56] = (w11 >>> 27) & 0x1FFFL;
+        out[op+57] = (w11 >>> 14) & 0x1FFFL;
+        out[op+58] = (w11 >>> 1) & 0x1FFFL;
+        final long w12 = in[ip+12];
+        out[op+59] = ((w11 << 12) | (w12 >>> 52)) & 0x1FFFL;
+        out[op+60] = (w12 >>> 39) & 0x1FFFL;
+        out[op+61] = (w12 >>> 26) & 0x1FFFL;
+        out[op+62] = (w12 >>> 13) & 0x1FFFL;
+        out[op+63] = w12 & 0x1FFFL;
+    }
+
+    private static void _unpack14(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 50;
+        out[op+1] = (w0 >>> 36) & 0x3FFFL;
+        out[op+2] = (w0 >>> 22) & 0x3FFFL;
+        out[op+3] = (w0 >>> 8) & 0x3FFFL;
+        final long w1 = in[ip+1];
+        out[op+4] = ((w0 << 6) | (w1 >>> 58)) & 0x3FFFL;
+        out[op+5] = (w1 >>> 44) & 0x3FFFL;
+        out[op+6] = (w1 >>> 30) & 0x3FFFL;
+        out[op+7] = (w1 >>> 16) & 0x3FFFL;
+        out[op+8] = (w1 >>> 2) & 0x3FFFL;
+        final long w2 = in[ip+2];
+        out[op+9] = ((w1 << 12) | (w2 >>> 52)) & 0x3FFFL;
+        out[op+10] = (w2 >>> 38) & 0x3FFFL;
+        out[op+11] = (w2 >>> 24) & 0x3FFFL;
+        out[op+12] = (w2 >>> 10) & 0x3FFFL;
+        final long w3 = in[ip+3];
+        out[op+13] = ((w2 << 4) | (w3 >>> 60)) & 0x3FFFL;
+        out[op+14] = (w3 >>> 46) & 0x3FFFL;
+        out[op+15] = (w3 >>> 32) & 0x3FFFL;
+        out[op+16] = (w3 >>> 18) & 0x3FFFL;
+        out[op+17] = (w3 >>> 4) & 0x3FFFL;
+        final long w4 = in[ip+4];
+        out[op+18] = ((w3 << 10) | (w4 >>> 54)) & 0x3FFFL;
+        out[op+19] = (w4 >>> 40) & 0x3FFFL;
+        out[op+20] = (w4 >>> 26) & 0x3FFFL;
+        out[op+21] = (w4 >>> 12) & 0x3FFFL;
+        final long w5 = in[ip+5];
+        out[op+22] = ((w4 << 2) | (w5 >>> 62)) & 0x3FFFL;
+        out[op+23] = (w5 >>> 48) & 0x3FFFL;
+        out[op+24] = (w5 >>> 34) & 0x3FFFL;
+        out[op+25] = (w5 >>> 20) & 0x3FFFL;
+        out[op+26] = (w5 >>> 6) & 0x3FFFL;
+        final long w6 = in[ip+6];
+        out[op+27] = ((w5 << 8) | (w6 >>> 56)) & 0x3FFFL;
+        out[op+28] = (w6 >>> 42) & 0x3FFFL;
+        out[op+29] = (w6 >>> 28) & 0x3FFFL;
+        out[op+30] = (w6 >>> 14) & 0x3FFFL;
+        out[op+31] = w6 & 0x3FFFL;
+        final long w7 = in[ip+7];
+        out[op+32] = w7 >>> 50;
+        out[op+33] = (w7 >>> 36) & 0x3FFFL;
+        out[op+34] = (w7 >>> 22) & 0x3FFFL;
+        out[op+35] = (w7 >>> 8) & 0x3FFFL;
+        final long w8 = in[ip+8];
+        out[op+36] = ((w7 << 6) | (w8 >>> 58)) & 0x3FFFL;
+        out[op+37] = (w8 >>> 44) & 0x3FFFL;
+        out[op+38] = (w8 >>> 30) & 0x3FFFL;
+        out[op+39] = (w8 >>> 16) & 0x3FFFL;
+        out[op+40] = (w8 >>> 2) & 0x3FFFL;
+        final long w9 = in[ip+9];
+        out[op+41] = ((w8 << 12) | (w9 >>> 52)) & 0x3FFFL;
+        out[op+42] = (w9 >>> 38) & 0x3FFFL;
+        out[op+43] = (w9 >>> 24) & 0x3FFFL;
+        out[op+44] = (w9 >>> 10) & 0x3FFFL;
+        final long w10 = in[ip+10];
+        out[op+45] = ((w9 << 4) | (w10 >>> 60)) & 0x3FFFL;
+        out[op+46] = (w10 >>> 46) & 0x3FFFL;
+        out[op+47] = (w10 >>> 32) & 0x3FFFL;
+        out[op+48] = (w10 >>> 18) & 0x3FFFL;
+        out[op+49] = (w10 >>> 4) & 0x3FFFL;
+        final long w11 = in[ip+11];
+        out[op+50] = ((w10 << 10) | (w11 >>> 54)) & 0x3FFFL;
+        out[op+51] = (w11 >>> 40) & 0x3FFFL;
+        out[op+52] = (w11 >>> 26) & 0x3FFFL;
+        out[op+53] = (w11 >>> 12) & 0x3FFFL;
+        final long w12 = in[ip+12];
+        out[op+54] = ((w11 << 2) | (w12 >>> 62)) & 0x3FFFL;
+        out[op+55] = (w12 >>> 48) & 0x3FFFL;
+        out[op+56] = (w12 >>> 34) & 0x3FFFL;
+        out[op+57] = (w12 >>> 20) & 0x3FFFL;
+        out[op+58] = (w12 >>> 6) & 0x3FFFL;
+        final long w13 = in[ip+13];
+        out[op+59] = ((w12 << 8) | (w13 >>> 56)) & 0x3FFFL;
+        out[op+60] = (w13 >>> 42) & 0x3FFFL;
+        out[op+61] = (w13 >>> 28) & 0x3FFFL;
+        out[op+62] = (w13 >>> 14) & 0x3FFFL;
+        out[op+63] = w13 & 0x3FFFL;
+    }
+
+    private static void _unpack15(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 49;
+        out[op+1] = (w0 >>> 34) & 0x7FFFL;
+        out[op+2] = (w0 >>> 19) & 0x7FFFL;
+        out[op+3] = (w0 >>> 4) & 0x7FFFL;
+        final long w1 = in[ip+1];
+        out[op+4] = ((w0 << 11) | (w1 >>> 53)) & 0x7FFFL;
+        out[op+5] = (w1 >>> 38) & 0x7FFFL;
+        out[op+6] = (w1 >>> 23) & 0x7FFFL;
+        out[op+7] = (w1 >>> 8) & 0x7FFFL;
+        final long w2 = in[ip+2];
+        out[op+8] = ((w1 << 7) | (w2 >>> 57)) & 0x7FFFL;
+        out[op+9] = (w2 >>> 42) & 0x7FFFL;
+        out[op+10] = (w2 >>> 27) & 0x7FFFL;
+        out[op+11] = (w2 >>> 12) & 0x7FFFL;
+        final long w3 = in[ip+3];
+        out[op+12] = ((w2 << 3) | (w3 >>> 61)) & 0x7FFFL;
+        out[op+13] = (w3 >>> 46) & 0x7FFFL;
+        out[op+14] = (w3 >>> 31) & 0x7FFFL;
+        out[op+15] = (w3 >>> 16) & 0x7FFFL;
+        out[op+16] = (w3 >>> 1) & 0x7FFFL;
+        final long w4 = in[ip+4];
+        out[op+17] = ((w3 << 14) | (w4 >>> 50)) & 0x7FFFL;
+        out[op+18] = (w4 >>> 35) & 0x7FFFL;
+        out[op+19] = (w4 >>> 20) & 0x7FFFL;
+        out[op+20] = (w4 >>> 5) & 0x7FFFL;
+        final long w5 = in[ip+5];
+        out[op+21] = ((w4 << 10) | (w5 >>> 54)) & 0x7FFFL;
+        out[op+22] = (w5 >>> 39) & 0x7FFFL;
+        out[op+23] = (w5 >>> 24) & 0x7FFFL;
+        out[op+24] = (w5 >>> 9) & 0x7FFFL;
+        final long w6 = in[ip+6];
+        out[op+25] = ((w5 << 6) | (w6 >>> 58)) & 0x7FFFL;
+        out[op+26] = (w6 >>> 43) & 0x7FFFL;
+        out[op+27] = (w6 >>> 28) & 0x7FFFL;
+        out[op+28] = (w6 >>> 13) & 0x7FFFL;
+        final long w7 = in[ip+7];
+        out[op+29] = ((w6 << 2) | (w7 >>> 62)) & 0x7FFFL;
+        out[op+30] = (w7 >>> 47) & 0x7FFFL;
+        out[op+31] = (w7 >>> 32) & 0x7FFFL;
+        out[op+32] = (w7 >>> 17) & 0x7FFFL;
+        out[op+33] = (w7 >>> 2) & 0x7FFFL;
+        final long w8 = in[ip+8];
+        out[op+34] = ((w7 << 13) | (w8 >>> 51)) & 0x7FFFL;
+        out[op+35] = (w8 >>> 36) & 0x7FFFL;
+        out[op+36] = (w8 >>> 21) & 0x7FFFL;
+        out[op+37] = (w8 >>> 6) & 0x7FFFL;
+        final long w9 = in[ip+9];
+        out[op+38] = ((w8 << 9) | (w9 >>> 55)) & 0x7FFFL;
+        out[op+39] = (w9 >>> 40) & 0x7FFFL;
+        out[op+40] = (w9 >>> 25) & 0x7FFFL;
+        out[op+41] = (w9 >>> 10) & 0x7FFFL;
+        final long w10 = in[ip+10];
+        out[op+42] = ((w9 << 5) | (w10 >>> 59)) & 0x7FFFL;
+        out[op+43] = (w10 >>> 44) & 0x7FFFL;
+        out[op+44] = (w10 >>> 29) & 0x7FFFL;
+        out[op+45] = (w10 >>> 14) & 0x7FFFL;
+        final long w11 = in[ip+11];
+        out[op+46] = ((w10 << 1) | (w11 >>> 63)) & 0x7FFFL;
+        out[op+47] = (w11 >>> 48) & 0x7FFFL;
+        out[op+48] = (w11 >>> 33) & 0x7FFFL;
+        out[op+49] = (w11 >>> 18) & 0x7FFFL;
+        out[op+50] = (w11 >>> 3) & 0x7FFFL;
+        final long w12 = in[ip+12];
+        out[op+51] = ((w11 << 12) | (w12 >>> 52)) & 0x7FFFL;
+        out[op+52] = (w12 >>> 37) & 0x7FFFL;
+        out[op+53] = (w12 >>> 22) & 0x7FFFL;
+        out[op+54] = (w12 >>> 7) & 0x7FFFL;
+        final long w13 = in[ip+13];
+        out[op+55] = ((w12 << 8) | (w13 >>> 56)) & 0x7FFFL;
+        out[op+56] = (w13 >>> 41) & 0x7FFFL;
+        out[op+57] = (w13 >>> 26) & 0x7FFFL;
+        out[op+58] = (w13 >>> 11) & 0x7FFFL;
+        final long w14 = in[ip+14];
+        out[op+59] = ((w13 << 4) | (w14 >>> 60)) & 0x7FFFL;
+        out[op+60] = (w14 >>> 45) & 0x7FFFL;
+        out[op+61] = (w14 >>> 30) & 0x7FFFL;
+        out[op+62] = (w14 >>> 15) & 0x7FFFL;
+        out[op+63] = w14 & 0x7FFFL;
+    }
+
+    private static void _unpack16(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 48;
+        out[op+1] = (w0 >>> 32) & 0xFFFFL;
+        out[op+2] = (w0 >>> 16) & 0xFFFFL;
+        out[op+3] = w0 & 0xFFFFL;
+        final long w1 = in[ip+1];
+        out[op+4] = w1 >>> 48;
+        out[op+5] = (w1 >>> 32) & 0xFFFFL;
+        out[op+6] = (w1 >>> 16) & 0xFFFFL;
+        out[op+7] = w1 & 0xFFFFL;
+        final long w2 = in[ip+2];
+        out[op+8] = w2 >>> 48;
+        out[op+9] = (w2 >>> 32) & 0xFFFFL;
+        out[op+10] = (w2 >>> 16) & 0xFFFFL;
+        out[op+11] = w2 & 0xFFFFL;
+        final long w3 = in[ip+3];
+        out[op+12] = w3 >>> 48;
+        out[op+13] = (w3 >>> 32) & 0xFFFFL;
+        out[op+14] = (w3 >>> 16) & 0xFFFFL;
+        out[op+15] = w3 & 0xFFFFL;
+        final long w4 = in[ip+4];
+        out[op+16] = w4 >>> 48;
+        out[op+17] = (w4 >>> 32) & 0xFFFFL;
+        out[op+18] = (w4 >>> 16) & 0xFFFFL;
+        out[op+19] = w4 & 0xFFFFL;
+        final long w5 = in[ip+5];
+        out[op+20] = w5 >>> 48;
+        out[op+21] = (w5 >>> 32) & 0xFFFFL;
+        out[op+22] = (w5 >>> 16) & 0xFFFFL;
+        out[op+23] = w5 & 0xFFFFL;
+        final long w6 = in[ip+6];
+        out[op+24] = w6 >>> 48;
+        out[op+25] = (w6 >>> 32) & 0xFFFFL;
+        out[op+26] = (w6 >>> 16) & 0xFFFFL;
+        out[op+27] = w6 & 0xFFFFL;
+        final long w7 = in[ip+7];
+        out[op+28] = w7 >>> 48;
+        out[op+29] = (w7 >>> 32) & 0xFFFFL;
+        out[op+30] = (w7 >>> 16) & 0xFFFFL;
+        out[op+31] = w7 & 0xFFFFL;
+        final long w8 = in[ip+8];
+        out[op+32] = w8 >>> 48;
+        out[op+33] = (w8 >>> 32) & 0xFFFFL;
+        out[op+34] = (w8 >>> 16) & 0xFFFFL;
+        out[op+35] = w8 & 0xFFFFL;
+        final long w9 = in[ip+9];
+        out[op+36] = w9 >>> 48;
+        out[op+37] = (w9 >>> 32) & 0xFFFFL;
+        out[op+38] = (w9 >>> 16) & 0xFFFFL;
+        out[op+39] = w9 & 0xFFFFL;
+        final long w10 = in[ip+10];
+        out[op+40] = w10 >>> 48;
+        out[op+41] = (w10 >>> 32) & 0xFFFFL;
+        out[op+42] = (w10 >>> 16) & 0xFFFFL;
+        out[op+43] = w10 & 0xFFFFL;
+        final long w11 = in[ip+11];
+        out[op+44] = w11 >>> 48;
+        out[op+45] = (w11 >>> 32) & 0xFFFFL;
+        out[op+46] = (w11 >>> 16) & 0xFFFFL;
+        out[op+47] = w11 & 0xFFFFL;
+        final long w12 = in[ip+12];
+        out[op+48] = w12 >>> 48;
+        out[op+49] = (w12 >>> 32) & 0xFFFFL;
+        out[op+50] = (w12 >>> 16) & 0xFFFFL;
+        out[op+51] = w12 & 0xFFFFL;
+        final long w13 = in[ip+13];
+        out[op+52] = w13 >>> 48;
+        out[op+53] = (w13 >>> 32) & 0xFFFFL;
+        out[op+54] = (w13 >>> 16) & 0xFFFFL;
+        out[op+55] = w13 & 0xFFFFL;
+        final long w14 = in[ip+14];
+        out[op+56] = w14 >>> 48;
+        out[op+57] = (w14 >>> 32) & 0xFFFFL;
+        out[op+58] = (w14 >>> 16) & 0xFFFFL;
+        out[op+59] = w14 & 0xFFFFL;
+        final long w15 = in[ip+15];
+        out[op+60] = w15 >>> 48;
+        out[op+61] = (w15 >>> 32) & 0xFFFFL;
+        out[op+62] = (w15 >>> 16) & 0xFFFFL;
+        out[op+63] = w15 & 0xFFFFL;
+    }
+
+    private static void _unpack17(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 47;
+        out[op+1] = (w0 >>> 30) & 0x1FFFFL;
+        out[op+2] = (w0 >>> 13) & 0x1FFFFL;
+        final long w1 = in[ip+1];
+        out[op+3] = ((w0 << 4) | (w1 >>> 60)) & 0x1FFFFL;
+        out[op+4] = (w1 >>> 43) & 0x1FFFFL;
+        out[op+5] = (w1 >>> 26) & 0x1FFFFL;
+        out[op+6] = (w1 >>> 9) & 0x1FFFFL;
+        final long w2 = in[ip+2];
+        out[op+7] = ((w1 << 8) | (w2 >>> 56)) & 0x1FFFFL;
+        out[op+8] = (w2 >>> 39) & 0x1FFFFL;
+        out[op+9] = (w2 >>> 22) & 0x1FFFFL;
+        out[op+10] = (w2 >>> 5) & 0x1FFFFL;
+        final long w3 = in[ip+3];
+        out[op+11] = ((w2 << 12) | (w3 >>> 52)) & 0x1FFFFL;
+        out[op+12] = (w3 >>> 35) & 0x1FFFFL;
+        out[op+13] = (w3 >>> 18) & 0x1FFFFL;
+        out[op+14] = (w3 >>> 1) & 0x1FFFFL;
+        final long w4 = in[ip+4];
+        out[op+15] = ((w3 << 16) | (w4 >>> 48)) & 0x1FFFFL;
+        out[op+16] = (w4 >>> 31) & 0x1FFFFL;
+        out[op+17] = (w4 >>> 14) & 0x1FFFFL;
+        final long w5 = in[ip+5];
+        out[op+18] = ((w4 << 3) | (w5 >>> 61)) & 0x1FFFFL;
+        out[op+19] = (w5 >>> 44) & 0x1FFFFL;
+        out[op+20] = (w5 >>> 27) & 0x1FFFFL;
+        out[op+21] = (w5 >>> 10) & 0x1FFFFL;
+        final long w6 = in[ip+6];
+        out[op+22] = ((w5 << 7) | (w6 >>> 57)) & 0x1FFFFL;
+        out[op+23] = (w6 >>> 40) & 0x1FFFFL;
+        out[op+24] = (w6 >>> 23) & 0x1FFFFL;
+        out[op+25] = (w6 >>> 6) & 0x1FFFFL;
+        final long w7 = in[ip+7];
+        out[op+26] = ((w6 << 11) | (w7 >>> 53)) & 0x1FFFFL;
+        out[op+27] = (w7 >>> 36) & 0x1FFFFL;
+        out[op+28] = (w7 >>> 19) & 0x1FFFFL;
+        out[op+29] = (w7 >>> 2) & 0x1FFFFL;
+        final long w8 = in[ip+8];
+        out[op+30] = ((w7 << 15) | (w8 >>> 49)) & 0x1FFFFL;
+        out[op+31] = (w8 >>> 32) & 0x1FFFFL;
+        out[op+32] = (w8 >>> 15) & 0x1FFFFL;
+        final long w9 = in[ip+9];
+        out[op+33] = ((w8 << 2) | (w9 >>> 62)) & 0x1FFFFL;
+        out[op+34] = (w9 >>> 45) & 0x1FFFFL;
+        out[op+35] = (w9 >>> 28) & 0x1FFFFL;
+        out[op+36] = (w9 >>> 11) & 0x1FFFFL;
+        final long w10 = in[ip+10];
+        out[op+37] = ((w9 << 6) | (w10 >>> 58)) & 0x1FFFFL;
+        out[op+38] = (w10 >>> 41) & 0x1FFFFL;
+        out[op+39] = (w10 >>> 24) & 0x1FFFFL;
+        out[op+40] = (w10 >>> 7) & 0x1FFFFL;
+        final long w11 = in[ip+11];
+        out[op+41] = ((w10 << 10) | (w11 >>> 54)) & 0x1FFFFL;
+        out[op+42] = (w11 >>> 37) & 0x1FFFFL;
+        out[op+43] = (w11 >>> 20) & 0x1FFFFL;
+        out[op+44] = (w11 >>> 3) & 0x1FFFFL;
+        final long w12 = in[ip+12];
+        out[op+45] = ((w11 << 14) | (w12 >>> 50)) & 0x1FFFFL;
+        out[op+46] = (w12 >>> 33) & 0x1FFFFL;
+        out[op+47] = (w12 >>> 16) & 0x1FFFFL;
+        final long w13 = in[ip+13];
+        out[op+48] = ((w12 << 1) | (w13 >>> 63)) & 0x1FFFFL;
+        out[op+49] = (w13 >>> 46) & 0x1FFFFL;
+        out[op+50] = (w13 >>> 29) & 0x1FFFFL;
+        out[op+51] = (w13 >>> 12) & 0x1FFFFL;
+        final long w14 = in[ip+14];
+        out[op+52] = ((w13 << 5) | (w14 >>> 59)) & 0x1FFFFL;
+        out[op+53] = (w14 >>> 42) & 0x1FFFFL;
+        out[op+54] = (w14 >>> 25) & 0x1FFFFL;
+        out[op+55] = (w14 >>> 8) & 0x1FFFFL;
+        final long w15 = in[ip+15];
+        out[op+56] = ((w14 << 9) | (w15 >>> 55)) & 0x1FFFFL;
+        out[op+57] = (w15 >>> 38) & 0x1FFFFL;
+        out[op+58] = (w15 >>> 21) & 0x1FFFFL;
+        out[op+59] = (w15 >>> 4) & 0x1FFFFL;
+        final long w16 = in[ip+16];
+        out[op+60] = ((w15 << 13) | (w16 >>> 51)) & 0x1FFFFL;
+        out[op+61] = (w16 >>> 34) & 0x1FFFFL;
+        out[op+62] = (w16 >>> 17) & 0x1FFFFL;
+        out[op+63] = w16 & 0x1FFFFL;
+    }
+
+    private static void _unpack18(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 46;
+        out[op+1] = (w0 >>> 28) & 0x3FFFFL;
+        out[op+2] = (w0 >>> 10) & 0x3FFFFL;
+        final long w1 = in[ip+1];
+        out[op+3] = ((w0 << 8) | (w1 >>> 56)) & 0x3FFFFL;
+        out[op+4] = (w1 >>> 38) & 0x3FFFFL;
+        out[op+5] = (w1 >>> 20) & 0x3FFFFL;
+        out[op+6] = (w1 >>> 2) & 0x3FFFFL;
+        final long w2 = in[ip+2];
+        out[op+7] = ((w1 << 16) | (w2 >>> 48)) & 0x3FFFFL;
+        out[op+8] = (w2 >>> 30) & 0x3FFFFL;
+        out[op+9] = (w2 >>> 12) & 0x3FFFFL;
+        final long w3 = in[ip+3];
+        out[op+10] = ((w2 << 6) | (w3 >>> 58)) & 0x3FFFFL;
+        out[op+11] = (w3 >>> 40) & 0x3FFFFL;
+        out[op+12] = (w3 >>> 22) & 0x3FFFFL;
+        out[op+13] = (w3 >>> 4) & 0x3FFFFL;
+        final long w4 = in[ip+4];
+        out[op+14] = ((w3 << 14) | (w4 >>> 50)) & 0x3FFFFL;
+        out[op+15] = (w4 >>> 32) & 0x3FFFFL;
+        out[op+16] = (w4 >>> 14) & 0x3FFFFL;
+        final long w5 = in[ip+5];
+        out[op+17] = ((w4 << 4) | (w5 >>> 60)) & 0x3FFFFL;
+        out[op+18] = (w5 >>> 42) & 0x3FFFFL;
+        out[op+19] = (w5 >>> 24) & 0x3FFFFL;
+        out[op+20] = (w5 >>> 6) & 0x3FFFFL;
+        final long w6 = in[ip+6];
+        out[op+21] = ((w5 << 12) | (w6 >>> 52)) & 0x3FFFFL;
+        out[op+22] = (w6 >>> 34) & 0x3FFFFL;
+        out[op+23] = (w6 >>> 16) & 0x3FFFFL;
+        final long w7 = in[ip+7];
+        out[op+24] = ((w6 << 2) | (w7 >>> 62)) & 0x3FFFFL;
+        out[op+25] = (w7 >>> 44) & 0x3FFFFL;
+        out[op+26] = (w7 >>> 26) & 0x3FFFFL;
+        out[op+27] = (w7 >>> 8) & 0x3FFFFL;
+        final long w8 = in[ip+8];
+        out[op+28] = ((w7 << 10) | (w8 >>> 54)) & 0x3FFFFL;
+        out[op+29] = (w8 >>> 36) & 0x3FFFFL;
+        out[op+30] = (w8 >>> 18) & 0x3FFFFL;
+        out[op+31] = w8 & 0x3FFFFL;
+        final long w9 = in[ip+9];
+        out[op+32] = w9 >>> 46;
+        out[op+33] = (w9 >>> 28) & 0x3FFFFL;
+        out[op+34] = (w9 >>> 10) & 0x3FFFFL;
+        final long w10 = in[ip+10];
+        out[op+35] = ((w9 << 8) | (w10 >>> 56)) & 0x3FFFFL;
+        out[op+36] = (w10 >>> 38) & 0x3FFFFL;
+        out[op+37] = (w10 >>> 20) & 0x3FFFFL;
+        out[op+38] = (w10 >>> 2) & 0x3FFFFL;
+        final long w11 = in[ip+11];
+        out[op+39] = ((w10 << 16) | (w11 >>> 48)) & 0x3FFFFL;
+        out[op+40] = (w11 >>> 30) & 0x3FFFFL;
+        out[op+41] = (w11 >>> 12) & 0x3FFFFL;
+        final long w12 = in[ip+12];
+        out[op+42] = ((w11 << 6) | (w12 >>> 58)) & 0x3FFFFL;
+        out[op+43] = (w12 >>> 40) & 0x3FFFFL;
+        out[op+44] = (w12 >>> 22) & 0x3FFFFL;
+        out[op+45] = (w12 >>> 4) & 0x3FFFFL;
+        final long w13 = in[ip+13];
+        out[op+46] = ((w12 << 14) | (w13 >>> 50)) & 0x3FFFFL;
+        out[op+47] = (w13 >>> 32) & 0x3FFFFL;
+        out[op+48] = (w13 >>> 14) & 0x3FFFFL;
+        final long w14 = in[ip+14];
+        out[op+49] = ((w13 << 4) | (w14 >>> 60)) & 0x3FFFFL;
+        out[op+50] = (w14 >>> 42) & 0x3FFFFL;
+        out[op+51] = (w14 >>> 24) & 0x3FFFFL;
+        out[op+52] = (w14 >>> 6) & 0x3FFFFL;
+        final long w15 = in[ip+15];
+        out[op+53] = ((w14 << 12) | (w15 >>> 52)) & 0x3FFFFL;
+        out[op+54] = (w15 >>> 34) & 0x3FFFFL;
+        out[op+55] = (w15 >>> 16) & 0x3FFFFL;
+        final long w16 = in[ip+16];
+        out[op+56] = ((w15 << 2) | (w16 >>> 62)) & 0x3FFFFL;
+        out[op+57] = (w16 >>> 44) & 0x3FFFFL;
+        out[op+58] = (w16 >>> 26) & 0x3FFFFL;
+        out[op+59] = (w16 >>> 8) & 0x3FFFFL;
+        final long w17 = in[ip+17];
+        out[op+60] = ((w16 << 10) | (w17 >>> 54)) & 0x3FFFFL;
+        out[op+61] = (w17 >>> 36) & 0x3FFFFL;
+        out[op+62] = (w17 >>> 18) & 0x3FFFFL;
+        out[op+63] = w17 & 0x3FFFFL;
+    }
+
+    private static void _unpack19(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 45;
+        out[op+1] = (w0 >>> 26) & 0x7FFFFL;
+        out[op+2] = (w0 >>> 7) & 0x7FFFFL;
+        final long w1 = in[ip+1];
+        out[op+3] = ((w0 << 12) | (w1 >>> 52)) & 0x7FFFFL;
+        out[op+4] = (w1 >>> 33) & 0x7FFFFL;
+        out[op+5] = (w1 >>> 14) & 0x7FFFFL;
+        final long w2 = in[ip+2];
+        out[op+6] = ((w1 << 5) | (w2 >>> 59)) & 0x7FFFFL;
+        out[op+7] = (w2 >>> 40) & 0x7FFFFL;
+        out[op+8] = (w2 >>> 21) & 0x7FFFFL;
+        out[op+9] = (w2 >>> 2) & 0x7FFFFL;
+        final long w3 = in[ip+3];
+        out[op+10] = ((w2 << 17) | (w3 >>> 47)) & 0x7FFFFL;
+        out[op+11] = (w3 >>> 28) & 0x7FFFFL;
+        out[op+12] = (w3 >>> 9) & 0x7FFFFL;
+        final long w4 = in[ip+4];
+        out[op+13] = ((w3 << 10) | (w4 >>> 54)) & 0x7FFFFL;
+        out[op+14] = (w4 >>> 35) & 0x7FFFFL;
+        out[op+15] = (w4 >>> 16) & 0x7FFFFL;
+        final long w5 = in[ip+5];
+        out[op+16] = ((w4 << 3) | (w5 >>> 61)) & 0x7FFFFL;
+        out[op+17] = (w5 >>> 42) & 0x7FFFFL;
+        out[op+18] = (w5 >>> 23) & 0x7FFFFL;
+        out[op+19] = (w5 >>> 4) & 0x7FFFFL;
+        final long w6 = in[ip+6];
+        out[op+20] = ((w5 << 15) | (w6 >>> 49)) & 0x7FFFFL;
+        out[op+21] = (w6 >>> 30) & 0x7FFFFL;
+        out[op+22] = (w6 >>> 11) & 0x7FFFFL;
+        final long w7 = in[ip+7];
+        out[op+23] = ((w6 << 8) | (w7 >>> 56)) & 0x7FFFFL;
+        out[op+24] = (w7 >>> 37) & 0x7FFFFL;
+        out[op+25] = (w7 >>> 18) & 0x7FFFFL;
+        final long w8 = in[ip+8];
+        out[op+26] = ((w7 << 1) | (w8 >>> 63)) & 0x7FFFFL;
+        out[op+27] = (w8 >>> 44) & 0x7FFFFL;
+        out[op+28] = (w8 >>> 25) & 0x7FFFFL;
+        out[op+29] = (w8 >>> 6) & 0x7FFFFL;
+        final long w9 = in[ip+9];
+        out[op+30] = ((w8 << 13) | (w9 >>> 51)) & 0x7FFFFL;
+        out[op+31] = (w9 >>> 32) & 0x7FFFFL;
+        out[op+32] = (w9 >>> 13) & 0x7FFFFL;
+        final long w10 = in[ip+10];
+        out[op+33] = ((w9 << 6) | (w10 >>> 58)) & 0x7FFFFL;
+        out[op+34] = (w10 >>> 39) & 0x7FFFFL;
+        out[op+35] = (w10 >>> 20) & 0x7FFFFL;
+        out[op+36] = (w10 >>> 1) & 0x7FFFFL;
+        final long w11 = in[ip+11];
+        out[op+37] = ((w10 << 18) | (w11 >>> 46)) & 0x7FFFFL;
+        out[op+38] = (w11 >>> 27) & 0x7FFFFL;
+        out[op+39] = (w11 >>> 8) & 0x7FFFFL;
+        final long w12 = in[ip+12];
+        out[op+40] = ((w11 << 11) | (w12 >>> 53)) & 0x7FFFFL;
+        out[op+41] = (w12 >>> 34) & 0x7FFFFL;
+        out[op+42] = (w12 >>> 15) & 0x7FFFFL;
+        final long w13 = in[ip+13];
+        out[op+43] = ((w12 << 4) | (w13 >>> 60)) & 0x7FFFFL;
+        out[op+44] = (w13 >>> 41) & 0x7FFFFL;
+        out[op+45] = (w13 >>> 22) & 0x7FFFFL;
+        out[op+46] = (w13 >>> 3) & 0x7FFFFL;
+        final long w14 = in[ip+14];
+        out[op+47] = ((w13 << 16) | (w14 >>> 48)) & 0x7FFFFL;
+        out[op+48] = (w14 >>> 29) & 0x7FFFFL;
+        out[op+49] = (w14 >>> 10) & 0x7FFFFL;
+        final long w15 = in[ip+15];
+        out[op+50] = ((w14 << 9) | (w15 >>> 55)) & 0x7FFFFL;
+        out[op+51] = (w15 >>> 36) & 0x7FFFFL;
+        out[op+52] = (w15 >>> 17) & 0x7FFFFL;
+        final long w16 = in[ip+16];
+        out[op+53] = ((w15 << 2) | (w16 >>> 62)) & 0x7FFFFL;
+        out[op+54] = (w16 >>> 43) & 0x7FFFFL;
+        out[op+55] = (w16 >>> 24) & 0x7FFFFL;
+        out[op+56] = (w16 >>> 5) & 0x7FFFFL;
+        final long w17 = in[ip+17];
+        out[op+57] = ((w16 << 14) | (w17 >>> 50)) & 0x7FFFFL;
+        out[op+58] = (w17 >>> 31) & 0x7FFFFL;
+        out[op+59] = (w17 >>> 12) & 0x7FFFFL;
+        final long w18 = in[ip+18];
+        out[op+60] = ((w17 << 7) | (w18 >>> 57)) & 0x7FFFFL;
+        out[op+61] = (w18 >>> 38) & 0x7FFFFL;
+        out[op+62] = (w18 >>> 19) & 0x7FFFFL;
+        out[op+63] = w18 & 0x7FFFFL;
+    }
+
+    private static void _unpack20(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 44;
+        out[op+1] = (w0 >>> 24) & 0xFFFFFL;
+        out[op+2] = (w0 >>> 4) & 0xFFFFFL;
+        final long w1 = in[ip+1];
+        out[op+3] = ((w0 << 16) | (w1 >>> 48)) & 0xFFFFFL;
+        out[op+4] = (w1 >>> 28) & 0xFFFFFL;
+        out[op+5] = (w1 >>> 8) & 0xFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+6] = ((w1 << 12) | (w2 >>> 52)) & 0xFFFFFL;
+        out[op+7] = (w2 >>> 32) & 0xFFFFFL;
+        out[op+8] = (w2 >>> 12) & 0xFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+9] = ((w2 << 8) | (w3 >>> 56)) & 0xFFFFFL;
+        out[op+10] = (w3 >>> 36) & 0xFFFFFL;
+        out[op+11] = (w3 >>> 16) & 0xFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+12] = ((w3 << 4) | (w4 >>> 60)) & 0xFFFFFL;
+        out[op+13] = (w4 >>> 40) & 0xFFFFFL;
+        out[op+14] = (w4 >>> 20) & 0xFFFFFL;
+        out[op+15] = w4 & 0xFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+16] = w5 >>> 44;
+        out[op+17] = (w5 >>> 24) & 0xFFFFFL;
+        out[op+18] = (w5 >>> 4) & 0xFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+19] = ((w5 << 16) | (w6 >>> 48)) & 0xFFFFFL;
+        out[op+20] = (w6 >>> 28) & 0xFFFFFL;
+        out[op+21] = (w6 >>> 8) & 0xFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+22] = ((w6 << 12) | (w7 >>> 52)) & 0xFFFFFL;
+        out[op+23] = (w7 >>> 32) & 0xFFFFFL;
+        out[op+24] = (w7 >>> 12) & 0xFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+25] = ((w7 << 8) | (w8 >>> 56)) & 0xFFFFFL;
+        out[op+26] = (w8 >>> 36) & 0xFFFFFL;
+        out[op+27] = (w8 >>> 16) & 0xFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+28] = ((w8 << 4) | (w9 >>> 60)) & 0xFFFFFL;
+        out[op+29] = (w9 >>> 40) & 0xFFFFFL;
+        out[op+30] = (w9 >>> 20) & 0xFFFFFL;
+        out[op+31] = w9 & 0xFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+32] = w10 >>> 44;
+        out[op+33] = (w10 >>> 24) & 0xFFFFFL;
+        out[op+34] = (w10 >>> 4) & 0xFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+35] = ((w10 << 16) | (w11 >>> 48)) & 0xFFFFFL;
+        out[op+36] = (w11 >>> 28) & 0xFFFFFL;
+        out[op+37] = (w11 >>> 8) & 0xFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+38] = ((w11 << 12) | (w12 >>> 52)) & 0xFFFFFL;
+        out[op+39] = (w12 >>> 32) & 0xFFFFFL;
+        out[op+40] = (w12 >>> 12) & 0xFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+41] = ((w12 << 8) | (w13 >>> 56)) & 0xFFFFFL;
+        out[op+42] = (w13 >>> 36) & 0xFFFFFL;
+        out[op+43] = (w13 >>> 16) & 0xFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+44] = ((w13 << 4) | (w14 >>> 60)) & 0xFFFFFL;
+        out[op+45] = (w14 >>> 40) & 0xFFFFFL;
+        out[op+46] = (w14 >>> 20) & 0xFFFFFL;
+        out[op+47] = w14 & 0xFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+48] = w15 >>> 44;
+        out[op+49] = (w15 >>> 24) & 0xFFFFFL;
+        out[op+50] = (w15 >>> 4) & 0xFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+51] = ((w15 << 16) | (w16 >>> 48)) & 0xFFFFFL;
+        out[op+52] = (w16 >>> 28) & 0xFFFFFL;
+        out[op+53] = (w16 >>> 8) & 0xFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+54] = ((w16 << 12) | (w17 >>> 52)) & 0xFFFFFL;
+        out[op+55] = (w17 >>> 32) & 0xFFFFFL;
+        out[op+56] = (w17 >>> 12) & 0xFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+57] = ((w17 << 8) | (w18 >>> 56)) & 0xFFFFFL;
+        out[op+58] = (w18 >>> 36) & 0xFFFFFL;
+        out[op+59] = (w18 >>> 16) & 0xFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+60] = ((w18 << 4) | (w19 >>> 60)) & 0xFFFFFL;
+        out[op+61] = (w19 >>> 40) & 0xFFFFFL;
+        out[op+62] = (w19 >>> 20) & 0xFFFFFL;
+        out[op+63] = w19 & 0xFFFFFL;
+    }
+
+    private static void _unpack21(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 43;
+        out[op+1] = (w0 >>> 22) & 0x1FFFFFL;
+        out[op+2] = (w0 >>> 1) & 0x1FFFFFL;
+        final long w1 = in[ip+1];
+        out[op+3] = ((w0 << 20) | (w1 >>> 44)) & 0x1FFFFFL;
+        out[op+4] = (w1 >>> 23) & 0x1FFFFFL;
+        out[op+5] = (w1 >>> 2) & 0x1FFFFFL;
+        final long w2 = in[ip+2];
+        out[op+6] = ((w1 << 19) | (w2 >>> 45)) & 0x1FFFFFL;
+        out[op+7] = (w2 >>> 24) & 0x1FFFFFL;
+        out[op+8] = (w2 >>> 3) & 0x1FFFFFL;
+        final long w3 = in[ip+3];
+        out[op+9] = ((w2 << 18) | (w3 >>> 46)) & 0x1FFFFFL;
+        out[op+10] = (w3 >>> 25) & 0x1FFFFFL;
+        out[op+11] = (w3 >>> 4) & 0x1FFFFFL;
+        final long w4 = in[ip+4];
+        out[op+12] = ((w3 << 17) | (w4 >>> 47)) & 0x1FFFFFL;
+        out[op+13] = (w4 >>> 26) & 0x1FFFFFL;
+        out[op+14] = (w4 >>> 5) & 0x1FFFFFL;
+        final long w5 = in[ip+5];
+        out[op+15] = ((w4 << 16) | (w5 >>> 48)) & 0x1FFFFFL;
+        out[op+16] = (w5 >>> 27) & 0x1FFFFFL;
+        out[op+17] = (w5 >>> 6) & 0x1FFFFFL;
+        final long w6 = in[ip+6];
+        out[op+18] = ((w5 << 15) | (w6 >>> 49)) & 0x1FFFFFL;
+        out[op+19] = (w6 >>> 28) & 0x1FFFFFL;
+        out[op+20] = (w6 >>> 7) & 0x1FFFFFL;
+        final long w7 = in[ip+7];
+        out[op+21] = ((w6 << 14) | (w7 >>> 50)) & 0x1FFFFFL;
+        out[op+22] = (w7 >>> 29) & 0x1FFFFFL;
+        out[op+23] = (w7 >>> 8) & 0x1FFFFFL;
+        final long w8 = in[ip+8];
+        out[op+24] = ((w7 << 13) | (w8 >>> 51)) & 0x1FFFFFL;
+        out[op+25] = (w8 >>> 30) & 0x1FFFFFL;
+        out[op+26] = (w8 >>> 9) & 0x1FFFFFL;
+        final long w9 = in[ip+9];
+        out[op+27] = ((w8 << 12) | (w9 >>> 52)) & 0x1FFFFFL;
+        out[op+28] = (w9 >>> 31) & 0x1FFFFFL;
+        out[op+29] = (w9 >>> 10) & 0x1FFFFFL;
+        final long w10 = in[ip+10];
+        out[op+30] = ((w9 << 11) | (w10 >>> 53)) & 0x1FFFFFL;
+        out[op+31] = (w10 >>> 32) & 0x1FFFFFL;
+        out[op+32] = (w10 >>> 11) & 0x1FFFFFL;
+        final long w11 = in[ip+11];
+        out[op+33] = ((w10 << 10) | (w11 >>> 54)) & 0x1FFFFFL;
+        out[op+34] = (w11 >>> 33) & 0x1FFFFFL;
+        out[op+35] = (w11 >>> 12) & 0x1FFFFFL;
+        final long w12 = in[ip+12];
+        out[op+36] = ((w11 << 9) | (w12 >>> 55)) & 0x1FFFFFL;
+        out[op+37] = (w12 >>> 34) & 0x1FFFFFL;
+        out[op+38] = (w12 >>> 13) & 0x1FFFFFL;
+        final long w13 = in[ip+13];
+        out[op+39] = ((w12 << 8) | (w13 >>> 56)) & 0x1FFFFFL;
+        out[op+40] = (w13 >>> 35) & 0x1FFFFFL;
+        out[op+41] = (w13 >>> 14) & 0x1FFFFFL;
+        final long w14 = in[ip+14];
+        out[op+42] = ((w13 << 7) | (w14 >>> 57)) & 0x1FFFFFL;
+        out[op+43] = (w14 >>> 36) & 0x1FFFFFL;
+        out[op+44] = (w14 >>> 15) & 0x1FFFFFL;
+        final long w15 = in[ip+15];
+        out[op+45] = ((w14 << 6) | (w15 >>> 58)) & 0x1FFFFFL;
+        out[op+46] = (w15 >>> 37) & 0x1FFFFFL;
+        out[op+47] = (w15 >>> 16) & 0x1FFFFFL;
+        final long w16 = in[ip+16];
+        out[op+48] = ((w15 << 5) | (w16 >>> 59)) & 0x1FFFFFL;
+        out[op+49] = (w16 >>> 38) & 0x1FFFFFL;
+        out[op+50] = (w16 >>> 17) & 0x1FFFFFL;
+        final long w17 = in[ip+17];
+        out[op+51] = ((w16 << 4) | (w17 >>> 60)) & 0x1FFFFFL;
+        out[op+52] = (w17 >>> 39) & 0x1FFFFFL;
+        out[op+53] = (w17 >>> 18) & 0x1FFFFFL;
+        final long w18 = in[ip+18];
+        out[op+54] = ((w17 << 3) | (w18 >>> 61)) & 0x1FFFFFL;
+        out[op+55] = (w18 >>> 40) & 0x1FFFFFL;
+        out[op+56] = (w18 >>> 19) & 0x1FFFFFL;
+        final long w19 = in[ip+19];
+        out[op+57] = ((w18 << 2) | (w19 >>> 62)) & 0x1FFFFFL;
+        out[op+58] = (w19 >>> 41) & 0x1FFFFFL;
+        out[op+59] = (w19 >>> 20) & 0x1FFFFFL;
+        final long w20 = in[ip+20];
+        out[op+60] = ((w19 << 1) | (w20 >>> 63)) & 0x1FFFFFL;
+        out[op+61] = (w20 >>> 42) & 0x1FFFFFL;
+        out[op+62] = (w20 >>> 21) & 0x1FFFFFL;
+        out[op+63] = w20 & 0x1FFFFFL;
+    }
+
+    private static void _unpack22(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 42;
+        out[op+1] = (w0 >>> 20) & 0x3FFFFFL;
+        final long w1 = in[ip+1];
+        out[op+2] = ((w0 << 2) | (w1 >>> 62)) & 0x3FFFFFL;
+        out[op+3] = (w1 >>> 40) & 0x3FFFFFL;
+        out[op+4] = (w1 >>> 18) & 0x3FFFFFL;
+        final long w2 = in[ip+2];
+        out[op+5] = ((w1 << 4) | (w2 >>> 60)) & 0x3FFFFFL;
+        out[op+6] = (w2 >>> 38) & 0x3FFFFFL;
+        out[op+7] = (w2 >>> 16) & 0x3FFFFFL;
+        final long w3 = in[ip+3];
+        out[op+8] = ((w2 << 6) | (w3 >>> 58)) & 0x3FFFFFL;
+        out[op+9] = (w3 >>> 36) & 0x3FFFFFL;
+        out[op+10] = (w3 >>> 14) & 0x3FFFFFL;
+        final long w4 = in[ip+4];
+        out[op+11] = ((w3 << 8) | (w4 >>> 56)) & 0x3FFFFFL;
+        out[op+12] = (w4 >>> 34) & 0x3FFFFFL;
+        out[op+13] = (w4 >>> 12) & 0x3FFFFFL;
+        final long w5 = in[ip+5];
+        out[op+14] = ((w4 << 10) | (w5 >>> 54)) & 0x3FFFFFL;
+        out[op+15] = (w5 >>> 32) & 0x3FFFFFL;
+        out[op+16] = (w5 >>> 10) & 0x3FFFFFL;
+        final long w6 = in[ip+6];
+        out[op+17] = ((w5 << 12) | (w6 >>> 52)) & 0x3FFFFFL;
+        out[op+18] = (w6 >>> 30) & 0x3FFFFFL;
+        out[op+19] = (w6 >>> 8) & 0x3FFFFFL;
+        final long w7 = in[ip+7];
+        out[op+20] = ((w6 << 14) | (w7 >>> 50)) & 0x3FFFFFL;
+        out[op+21] = (w7 >>> 28) & 0x3FFFFFL;
+        out[op+22] = (w7 >>> 6) & 0x3FFFFFL;
+        final long w8 = in[ip+8];
+        out[op+23] = ((w7 << 16) | (w8 >>> 48)) & 0x3FFFFFL;
+        out[op+24] = (w8 >>> 26) & 0x3FFFFFL;
+        out[op+25] = (w8 >>> 4) & 0x3FFFFFL;
+        final long w9 = in[ip+9];
+        out[op+26] = ((w8 << 18) | (w9 >>> 46)) & 0x3FFFFFL;
+        out[op+27] = (w9 >>> 24) & 0x3FFFFFL;
+        out[op+28] = (w9 >>> 2) & 0x3FFFFFL;
+        final long w10 = in[ip+10];
+        out[op+29] = ((w9 << 20) | (w10 >>> 44)) & 0x3FFFFFL;
+        out[op+30] = (w10 >>> 22) & 0x3FFFFFL;
+        out[op+31] = w10 & 0x3FFFFFL;
+        final long w11 = in[ip+11];
+        out[op+32] = w11 >>> 42;
+        out[op+33] = (w11 >>> 20) & 0x3FFFFFL;
+        final long w12 = in[ip+12];
+        out[op+34] = ((w11 << 2) | (w12 >>> 62)) & 0x3FFFFFL;
+        out[op+35] = (w12 >>> 40) & 0x3FFFFFL;
+        out[op+36] = (w12 >>> 18) & 0x3FFFFFL;
+        final long w13 = in[ip+13];
+        out[op+37] = ((w12 << 4) | (w13 >>> 60)) & 0x3FFFFFL;
+        out[op+38] = (w13 >>> 38) & 0x3FFFFFL;
+        out[op+39] = (w13 >>> 16) & 0x3FFFFFL;
+        final long w14 = in[ip+14];
+        out[op+40] = ((w13 << 6) | (w14 >>> 58)) & 0x3FFFFFL;
+        out[op+41] = (w14 >>> 36) & 0x3FFFFFL;
+        out[op+42] = (w14 >>> 14) & 0x3FFFFFL;
+        final long w15 = in[ip+15];
+        out[op+43] = ((w14 << 8) | (w15 >>> 56)) & 0x3FFFFFL;
+        out[op+44] = (w15 >>> 34) & 0x3FFFFFL;
+        out[op+45] = (w15 >>> 12) & 0x3FFFFFL;
+        final long w16 = in[ip+16];
+        out[op+46] = ((w15 << 10) | (w16 >>> 54)) & 0x3FFFFFL;
+        out[op+47] = (w16 >>> 32) & 0x3FFFFFL;
+        out[op+48] = (w16 >>> 10) & 0x3FFFFFL;
+        final long w17 = in[ip+17];
+        out[op+49] = ((w16 << 12) | (w17 >>> 52)) & 0x3FFFFFL;
+        out[op+50] = (w17 >>> 30) & 0x3FFFFFL;
+        out[op+51] = (w17 >>> 8) & 0x3FFFFFL;
+        final long w18 = in[ip+18];
+        out[op+52] = ((w17 << 14) | (w18 >>> 50)) & 0x3FFFFFL;
+        out[op+53] = (w18 >>> 28) & 0x3FFFFFL;
+        out[op+54] = (w18 >>> 6) & 0x3FFFFFL;
+        final long w19 = in[ip+19];
+        out[op+55] = ((w18 << 16) | (w19 >>> 48)) & 0x3FFFFFL;
+        out[op+56] = (w19 >>> 26) & 0x3FFFFFL;
+        out[op+57] = (w19 >>> 4) & 0x3FFFFFL;
+        final long w20 = in[ip+20];
+        out[op+58] = ((w19 << 18) | (w20 >>> 46)) & 0x3FFFFFL;
+        out[op+59] = (w20 >>> 24) & 0x3FFFFFL;
+        out[op+60] = (w20 >>> 2) & 0x3FFFFFL;
+        final long w21 = in[ip+21];
+        out[op+61] = ((w20 << 20) | (w21 >>> 44)) & 0x3FFFFFL;
+        out[op+62] = (w21 >>> 22) & 0x3FFFFFL;
+        out[op+63] = w21 & 0x3FFFFFL;
+    }
+
+    private static void _unpack23(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 41;
+        out[op+1] = (w0 >>> 18) & 0x7FFFFFL;
+        final long w1 = in[ip+1];
+        out[op+2] = ((w0 << 5) | (w1 >>> 59)) & 0x7FFFFFL;
+        out[op+3] = (w1 >>> 36) & 0x7FFFFFL;
+        out[op+4] = (w1 >>> 13) & 0x7FFFFFL;
+        final long w2 = in[ip+2];
+        out[op+5] = ((w1 << 10) | (w2 >>> 54)) & 0x7FFFFFL;
+        out[op+6] = (w2 >>> 31) & 0x7FFFFFL;
+        out[op+7] = (w2 >>> 8) & 0x7FFFFFL;
+        final long w3 = in[ip+3];
+        out[op+8] = ((w2 << 15) | (w3 >>> 49)) & 0x7FFFFFL;
+        out[op+9] = (w3 >>> 26) & 0x7FFFFFL;
+        out[op+10] = (w3 >>> 3) & 0x7FFFFFL;
+        final long w4 = in[ip+4];
+        out[op+11] = ((w3 << 20) | (w4 >>> 44)) & 0x7FFFFFL;
+        out[op+12] = (w4 >>> 21) & 0x7FFFFFL;
+        final long w5 = in[ip+5];
+        out[op+13] = ((w4 << 2) | (w5 >>> 62)) & 0x7FFFFFL;
+        out[op+14] = (w5 >>> 39) & 0x7FFFFFL;
+        out[op+15] = (w5 >>> 16) & 0x7FFFFFL;
+        final long w6 = in[ip+6];
+        out[op+16] = ((w5 << 7) | (w6 >>> 57)) & 0x7FFFFFL;
+        out[op+17] = (w6 >>> 34) & 0x7FFFFFL;
+        out[op+18] = (w6 >>> 11) & 0x7FFFFFL;
+        final long w7 = in[ip+7];
+        out[op+19] = ((w6 << 12) | (w7 >>> 52)) & 0x7FFFFFL;
+        out[op+20] = (w7 >>> 29) & 0x7FFFFFL;
+        out[op+21] = (w7 >>> 6) & 0x7FFFFFL;
+        final long w8 = in[ip+8];
+        out[op+22] = ((w7 << 17) | (w8 >>> 47)) & 0x7FFFFFL;
+        out[op+23] = (w8 >>> 24) & 0x7FFFFFL;
+        out[op+24] = (w8 >>> 1) & 0x7FFFFFL;
+        final long w9 = in[ip+9];
+        out[op+25] = ((w8 << 22) | (w9 >>> 42)) & 0x7FFFFFL;
+        out[op+26] = (w9 >>> 19) & 0x7FFFFFL;
+        final long w10 = in[ip+10];
+        out[op+27] = ((w9 << 4) | (w10 >>> 60)) & 0x7FFFFFL;
+        out[op+28] = (w10 >>> 37) & 0x7FFFFFL;
+        out[op+29] = (w10 >>> 14) & 0x7FFFFFL;
+        final long w11 = in[ip+11];
+        out[op+30] = ((w10 << 9) | (w11 >>> 55)) & 0x7FFFFFL;
+        out[op+31] = (w11 >>> 32) & 0x7FFFFFL;
+        out[op+32] = (w11 >>> 9) & 0x7FFFFFL;
+        final long w12 = in[ip+12];
+        out[op+33] = ((w11 << 14) | (w12 >>> 50)) & 0x7FFFFFL;
+        out[op+34] = (w12 >>> 27) & 0x7FFFFFL;
+        out[op+35] = (w12 >>> 4) & 0x7FFFFFL;
+        final long w13 = in[ip+13];
+        out[op+36] = ((w12 << 19) | (w13 >>> 45)) & 0x7FFFFFL;
+        out[op+37] = (w13 >>> 22) & 0x7FFFFFL;
+        final long w14 = in[ip+14];
+        out[op+38] = ((w13 << 1) | (w14 >>> 63)) & 0x7FFFFFL;
+        out[op+39] = (w14 >>> 40) & 0x7FFFFFL;
+        out[op+40] = (w14 >>> 17) & 0x7FFFFFL;
+        final long w15 = in[ip+15];
+        out[op+41] = ((w14 << 6) | (w15 >>> 58)) & 0x7FFFFFL;
+        out[op+42] = (w15 >>> 35) & 0x7FFFFFL;
+        out[op+43] = (w15 >>> 12) & 0x7FFFFFL;
+        final long w16 = in[ip+16];
+        out[op+44] = ((w15 << 11) | (w16 >>> 53)) & 0x7FFFFFL;
+        out[op+45] = (w16 >>> 30) & 0x7FFFFFL;
+        out[op+46] = (w16 >>> 7) & 0x7FFFFFL;
+        final long w17 = in[ip+17];
+        out[op+47] = ((w16 << 16) | (w17 >>> 48)) & 0x7FFFFFL;
+        out[op+48] = (w17 >>> 25) & 0x7FFFFFL;
+        out[op+49] = (w17 >>> 2) & 0x7FFFFFL;
+        final long w18 = in[ip+18];
+        out[op+50] = ((w17 << 21) | (w18 >>> 43)) & 0x7FFFFFL;
+        out[op+51] = (w18 >>> 20) & 0x7FFFFFL;
+        final long w19 = in[ip+19];
+        out[op+52] = ((w18 << 3) | (w19 >>> 61)) & 0x7FFFFFL;
+        out[op+53] = (w19 >>> 38) & 0x7FFFFFL;
+        out[op+54] = (w19 >>> 15) & 0x7FFFFFL;
+        final long w20 = in[ip+20];
+        out[op+55] = ((w19 << 8) | (w20 >>> 56)) & 0x7FFFFFL;
+        out[op+56] = (w20 >>> 33) & 0x7FFFFFL;
+        out[op+57] = (w20 >>> 10) & 0x7FFFFFL;
+        final long w21 = in[ip+21];
+        out[op+58] = ((w20 << 13) | (w21 >>> 51)) & 0x7FFFFFL;
+        out[op+59] = (w21 >>> 28) & 0x7FFFFFL;
+        out[op+60] = (w21 >>> 5) & 0x7FFFFFL;
+        final long w22 = in[ip+22];
+        out[op+61] = ((w21 << 18) | (w22 >>> 46)) & 0x7FFFFFL;
+        out[op+62] = (w22 >>> 23) & 0x7FFFFFL;
+        out[op+63] = w22 & 0x7FFFFFL;
+    }
+
+    private static void _unpack24(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 40;
+        out[op+1] = (w0 >>> 16) & 0xFFFFFFL;
+        final long w1 = in[ip+1];
+        out[op+2] = ((w0 << 8) | (w1 >>> 56)) & 0xFFFFFFL;
+        out[op+3] = (w1 >>> 32) & 0xFFFFFFL;
+        out[op+4] = (w1 >>> 8) & 0xFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+5] = ((w1 << 16) | (w2 >>> 48)) & 0xFFFFFFL;
+        out[op+6] = (w2 >>> 24) & 0xFFFFFFL;
+        out[op+7] = w2 & 0xFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+8] = w3 >>> 40;
+        out[op+9] = (w3 >>> 16) & 0xFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+10] = ((w3 << 8) | (w4 >>> 56)) & 0xFFFFFFL;
+        out[op+11] = (w4 >>> 32) & 0xFFFFFFL;
+        out[op+12] = (w4 >>> 8) & 0xFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+13] = ((w4 << 16) | (w5 >>> 48)) & 0xFFFFFFL;
+        out[op+14] = (w5 >>> 24) & 0xFFFFFFL;
+        out[op+15] = w5 & 0xFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+16] = w6 >>> 40;
+        out[op+17] = (w6 >>> 16) & 0xFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+18] = ((w6 << 8) | (w7 >>> 56)) & 0xFFFFFFL;
+        out[op+19] = (w7 >>> 32) & 0xFFFFFFL;
+        out[op+20] = (w7 >>> 8) & 0xFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+21] = ((w7 << 16) | (w8 >>> 48)) & 0xFFFFFFL;
+        out[op+22] = (w8 >>> 24) & 0xFFFFFFL;
+        out[op+23] = w8 & 0xFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+24] = w9 >>> 40;
+        out[op+25] = (w9 >>> 16) & 0xFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+26] = ((w9 << 8) | (w10 >>> 56)) & 0xFFFFFFL;
+        out[op+27] = (w10 >>> 32) & 0xFFFFFFL;
+        out[op+28] = (w10 >>> 8) & 0xFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+29] = ((w10 << 16) | (w11 >>> 48)) & 0xFFFFFFL;
+        out[op+30] = (w11 >>> 24) & 0xFFFFFFL;
+        out[op+31] = w11 & 0xFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+32] = w12 >>> 40;
+        out[op+33] = (w12 >>> 16) & 0xFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+34] = ((w12 << 8) | (w13 >>> 56)) & 0xFFFFFFL;
+        out[op+35] = (w13 >>> 32) & 0xFFFFFFL;
+        out[op+36] = (w13 >>> 8) & 0xFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+37] = ((w13 << 16) | (w14 >>> 48)) & 0xFFFFFFL;
+        out[op+38] = (w14 >>> 24) & 0xFFFFFFL;
+        out[op+39] = w14 & 0xFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+40] = w15 >>> 40;
+        out[op+41] = (w15 >>> 16) & 0xFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+42] = ((w15 << 8) | (w16 >>> 56)) & 0xFFFFFFL;
+        out[op+43] = (w16 >>> 32) & 0xFFFFFFL;
+        out[op+44] = (w16 >>> 8) & 0xFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+45] = ((w16 << 16) | (w17 >>> 48)) & 0xFFFFFFL;
+        out[op+46] = (w17 >>> 24) & 0xFFFFFFL;
+        out[op+47] = w17 & 0xFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+48] = w18 >>> 40;
+        out[op+49] = (w18 >>> 16) & 0xFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+50] = ((w18 << 8) | (w19 >>> 56)) & 0xFFFFFFL;
+        out[op+51] = (w19 >>> 32) & 0xFFFFFFL;
+        out[op+52] = (w19 >>> 8) & 0xFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+53] = ((w19 << 16) | (w20 >>> 48)) & 0xFFFFFFL;
+        out[op+54] = (w20 >>> 24) & 0xFFFFFFL;
+        out[op+55] = w20 & 0xFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+56] = w21 >>> 40;
+        out[op+57] = (w21 >>> 16) & 0xFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+58] = ((w21 << 8) | (w22 >>> 56)) & 0xFFFFFFL;
+        out[op+59] = (w22 >>> 32) & 0xFFFFFFL;
+        out[op+60] = (w22 >>> 8) & 0xFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+61] = ((w22 << 16) | (w23 >>> 48)) & 0xFFFFFFL;
+        out[op+62] = (w23 >>> 24) & 0xFFFFFFL;
+        out[op+63] = w23 & 0xFFFFFFL;
+    }
+
+    private static void _unpack25(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 39;
+        out[op+1] = (w0 >>> 14) & 0x1FFFFFFL;
+        final long w1 = in[ip+1];
+        out[op+2] = ((w0 << 11) | (w1 >>> 53)) & 0x1FFFFFFL;
+        out[op+3] = (w1 >>> 28) & 0x1FFFFFFL;
+        out[op+4] = (w1 >>> 3) & 0x1FFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+5] = ((w1 << 22) | (w2 >>> 42)) & 0x1FFFFFFL;
+        out[op+6] = (w2 >>> 17) & 0x1FFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+7] = ((w2 << 8) | (w3 >>> 56)) & 0x1FFFFFFL;
+        out[op+8] = (w3 >>> 31) & 0x1FFFFFFL;
+        out[op+9] = (w3 >>> 6) & 0x1FFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+10] = ((w3 << 19) | (w4 >>> 45)) & 0x1FFFFFFL;
+        out[op+11] = (w4 >>> 20) & 0x1FFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+12] = ((w4 << 5) | (w5 >>> 59)) & 0x1FFFFFFL;
+        out[op+13] = (w5 >>> 34) & 0x1FFFFFFL;
+        out[op+14] = (w5 >>> 9) & 0x1FFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+15] = ((w5 << 16) | (w6 >>> 48)) & 0x1FFFFFFL;
+        out[op+16] = (w6 >>> 23) & 0x1FFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+17] = ((w6 << 2) | (w7 >>> 62)) & 0x1FFFFFFL;
+        out[op+18] = (w7 >>> 37) & 0x1FFFFFFL;
+        out[op+19] = (w7 >>> 12) & 0x1FFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+20] = ((w7 << 13) | (w8 >>> 51)) & 0x1FFFFFFL;
+        out[op+21] = (w8 >>> 26) & 0x1FFFFFFL;
+        out[op+22] = (w8 >>> 1) & 0x1FFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+23] = ((w8 << 24) | (w9 >>> 40)) & 0x1FFFFFFL;
+        out[op+24] = (w9 >>> 15) & 0x1FFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+25] = ((w9 << 10) | (w10 >>> 54)) & 0x1FFFFFFL;
+        out[op+26] = (w10 >>> 29) & 0x1FFFFFFL;
+        out[op+27] = (w10 >>> 4) & 0x1FFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+28] = ((w10 << 21) | (w11 >>> 43)) & 0x1FFFFFFL;
+        out[op+29] = (w11 >>> 18) & 0x1FFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+30] = ((w11 << 7) | (w12 >>> 57)) & 0x1FFFFFFL;
+        out[op+31] = (w12 >>> 32) & 0x1FFFFFFL;
+        out[op+32] = (w12 >>> 7) & 0x1FFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+33] = ((w12 << 18) | (w13 >>> 46)) & 0x1FFFFFFL;
+        out[op+34] = (w13 >>> 21) & 0x1FFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+35] = ((w13 << 4) | (w14 >>> 60)) & 0x1FFFFFFL;
+        out[op+36] = (w14 >>> 35) & 0x1FFFFFFL;
+        out[op+37] = (w14 >>> 10) & 0x1FFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+38] = ((w14 << 15) | (w15 >>> 49)) & 0x1FFFFFFL;
+        out[op+39] = (w15 >>> 24) & 0x1FFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+40] = ((w15 << 1) | (w16 >>> 63)) & 0x1FFFFFFL;
+        out[op+41] = (w16 >>> 38) & 0x1FFFFFFL;
+        out[op+42] = (w16 >>> 13) & 0x1FFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+43] = ((w16 << 12) | (w17 >>> 52)) & 0x1FFFFFFL;
+        out[op+44] = (w17 >>> 27) & 0x1FFFFFFL;
+        out[op+45] = (w17 >>> 2) & 0x1FFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+46] = ((w17 << 23) | (w18 >>> 41)) & 0x1FFFFFFL;
+        out[op+47] = (w18 >>> 16) & 0x1FFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+48] = ((w18 << 9) | (w19 >>> 55)) & 0x1FFFFFFL;
+        out[op+49] = (w19 >>> 30) & 0x1FFFFFFL;
+        out[op+50] = (w19 >>> 5) & 0x1FFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+51] = ((w19 << 20) | (w20 >>> 44)) & 0x1FFFFFFL;
+        out[op+52] = (w20 >>> 19) & 0x1FFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+53] = ((w20 << 6) | (w21 >>> 58)) & 0x1FFFFFFL;
+        out[op+54] = (w21 >>> 33) & 0x1FFFFFFL;
+        out[op+55] = (w21 >>> 8) & 0x1FFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+56] = ((w21 << 17) | (w22 >>> 47)) & 0x1FFFFFFL;
+        out[op+57] = (w22 >>> 22) & 0x1FFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+58] = ((w22 << 3) | (w23 >>> 61)) & 0x1FFFFFFL;
+        out[op+59] = (w23 >>> 36) & 0x1FFFFFFL;
+        out[op+60] = (w23 >>> 11) & 0x1FFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+61] = ((w23 << 14) | (w24 >>> 50)) & 0x1FFFFFFL;
+        out[op+62] = (w24 >>> 25) & 0x1FFFFFFL;
+        out[op+63] = w24 & 0x1FFFFFFL;
+    }
+
+    private static void _unpack26(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 38;
+        out[op+1] = (w0 >>> 12) & 0x3FFFFFFL;
+        final long w1 = in[ip+1];
+        out[op+2] = ((w0 << 14) | (w1 >>> 50)) & 0x3FFFFFFL;
+        out[op+3] = (w1 >>> 24) & 0x3FFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+4] = ((w1 << 2) | (w2 >>> 62)) & 0x3FFFFFFL;
+        out[op+5] = (w2 >>> 36) & 0x3FFFFFFL;
+        out[op+6] = (w2 >>> 10) & 0x3FFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+7] = ((w2 << 16) | (w3 >>> 48)) & 0x3FFFFFFL;
+        out[op+8] = (w3 >>> 22) & 0x3FFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+9] = ((w3 << 4) | (w4 >>> 60)) & 0x3FFFFFFL;
+        out[op+10] = (w4 >>> 34) & 0x3FFFFFFL;
+        out[op+11] = (w4 >>> 8) & 0x3FFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+12] = ((w4 << 18) | (w5 >>> 46)) & 0x3FFFFFFL;
+        out[op+13] = (w5 >>> 20) & 0x3FFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+14] = ((w5 << 6) | (w6 >>> 58)) & 0x3FFFFFFL;
+        out[op+15] = (w6 >>> 32) & 0x3FFFFFFL;
+        out[op+16] = (w6 >>> 6) & 0x3FFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+17] = ((w6 << 20) | (w7 >>> 44)) & 0x3FFFFFFL;
+        out[op+18] = (w7 >>> 18) & 0x3FFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+19] = ((w7 << 8) | (w8 >>> 56)) & 0x3FFFFFFL;
+        out[op+20] = (w8 >>> 30) & 0x3FFFFFFL;
+        out[op+21] = (w8 >>> 4) & 0x3FFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+22] = ((w8 << 22) | (w9 >>> 42)) & 0x3FFFFFFL;
+        out[op+23] = (w9 >>> 16) & 0x3FFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+24] = ((w9 << 10) | (w10 >>> 54)) & 0x3FFFFFFL;
+        out[op+25] = (w10 >>> 28) & 0x3FFFFFFL;
+        out[op+26] = (w10 >>> 2) & 0x3FFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+27] = ((w10 << 24) | (w11 >>> 40)) & 0x3FFFFFFL;
+        out[op+28] = (w11 >>> 14) & 0x3FFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+29] = ((w11 << 12) | (w12 >>> 52)) & 0x3FFFFFFL;
+        out[op+30] = (w12 >>> 26) & 0x3FFFFFFL;
+        out[op+31] = w12 & 0x3FFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+32] = w13 >>> 38;
+        out[op+33] = (w13 >>> 12) & 0x3FFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+34] = ((w13 << 14) | (w14 >>> 50)) & 0x3FFFFFFL;
+        out[op+35] = (w14 >>> 24) & 0x3FFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+36] = ((w14 << 2) | (w15 >>> 62)) & 0x3FFFFFFL;
+        out[op+37] = (w15 >>> 36) & 0x3FFFFFFL;
+        out[op+38] = (w15 >>> 10) & 0x3FFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+39] = ((w15 << 16) | (w16 >>> 48)) & 0x3FFFFFFL;
+        out[op+40] = (w16 >>> 22) & 0x3FFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+41] = ((w16 << 4) | (w17 >>> 60)) & 0x3FFFFFFL;
+        out[op+42] = (w17 >>> 34) & 0x3FFFFFFL;
+        out[op+43] = (w17 >>> 8) & 0x3FFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+44] = ((w17 << 18) | (w18 >>> 46)) & 0x3FFFFFFL;
+        out[op+45] = (w18 >>> 20) & 0x3FFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+46] = ((w18 << 6) | (w19 >>> 58)) & 0x3FFFFFFL;
+        out[op+47] = (w19 >>> 32) & 0x3FFFFFFL;
+        out[op+48] = (w19 >>> 6) & 0x3FFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+49] = ((w19 << 20) | (w20 >>> 44)) & 0x3FFFFFFL;
+        out[op+50] = (w20 >>> 18) & 0x3FFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+51] = ((w20 << 8) | (w21 >>> 56)) & 0x3FFFFFFL;
+        out[op+52] = (w21 >>> 30) & 0x3FFFFFFL;
+        out[op+53] = (w21 >>> 4) & 0x3FFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+54] = ((w21 << 22) | (w22 >>> 42)) & 0x3FFFFFFL;
+        out[op+55] = (w22 >>> 16) & 0x3FFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+56] = ((w22 << 10) | (w23 >>> 54)) & 0x3FFFFFFL;
+        out[op+57] = (w23 >>> 28) & 0x3FFFFFFL;
+        out[op+58] = (w23 >>> 2) & 0x3FFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+59] = ((w23 << 24) | (w24 >>> 40)) & 0x3FFFFFFL;
+        out[op+60] = (w24 >>> 14) & 0x3FFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+61] = ((w24 << 12) | (w25 >>> 52)) & 0x3FFFFFFL;
+        out[op+62] = (w25 >>> 26) & 0x3FFFFFFL;
+        out[op+63] = w25 & 0x3FFFFFFL;
+    }
+
+    private static void _unpack27(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 37;
+        out[op+1] = (w0 >>> 10) & 0x7FFFFFFL;
+        final long w1 = in[ip+1];
+        out[op+2] = ((w0 << 17) | (w1 >>> 47)) & 0x7FFFFFFL;
+        out[op+3] = (w1 >>> 20) & 0x7FFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+4] = ((w1 << 7) | (w2 >>> 57)) & 0x7FFFFFFL;
+        out[op+5] = (w2 >>> 30) & 0x7FFFFFFL;
+        out[op+6] = (w2 >>> 3) & 0x7FFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+7] = ((w2 << 24) | (w3 >>> 40)) & 0x7FFFFFFL;
+        out[op+8] = (w3 >>> 13) & 0x7FFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+9] = ((w3 << 14) | (w4 >>> 50)) & 0x7FFFFFFL;
+        out[op+10] = (w4 >>> 23) & 0x7FFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+11] = ((w4 << 4) | (w5 >>> 60)) & 0x7FFFFFFL;
+        out[op+12] = (w5 >>> 33) & 0x7FFFFFFL;
+        out[op+13] = (w5 >>> 6) & 0x7FFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+14] = ((w5 << 21) | (w6 >>> 43)) & 0x7FFFFFFL;
+        out[op+15] = (w6 >>> 16) & 0x7FFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+16] = ((w6 << 11) | (w7 >>> 53)) & 0x7FFFFFFL;
+        out[op+17] = (w7 >>> 26) & 0x7FFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+18] = ((w7 << 1) | (w8 >>> 63)) & 0x7FFFFFFL;
+        out[op+19] = (w8 >>> 36) & 0x7FFFFFFL;
+        out[op+20] = (w8 >>> 9) & 0x7FFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+21] = ((w8 << 18) | (w9 >>> 46)) & 0x7FFFFFFL;
+        out[op+22] = (w9 >>> 19) & 0x7FFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+23] = ((w9 << 8) | (w10 >>> 56)) & 0x7FFFFFFL;
+        out[op+24] = (w10 >>> 29) & 0x7FFFFFFL;
+        out[op+25] = (w10 >>> 2) & 0x7FFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+26] = ((w10 << 25) | (w11 >>> 39)) & 0x7FFFFFFL;
+        out[op+27] = (w11 >>> 12) & 0x7FFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+28] = ((w11 << 15) | (w12 >>> 49)) & 0x7FFFFFFL;
+        out[op+29] = (w12 >>> 22) & 0x7FFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+30] = ((w12 << 5) | (w13 >>> 59)) & 0x7FFFFFFL;
+        out[op+31] = (w13 >>> 32) & 0x7FFFFFFL;
+        out[op+32] = (w13 >>> 5) & 0x7FFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+33] = ((w13 << 22) | (w14 >>> 42)) & 0x7FFFFFFL;
+        out[op+34] = (w14 >>> 15) & 0x7FFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+35] = ((w14 << 12) | (w15 >>> 52)) & 0x7FFFFFFL;
+        out[op+36] = (w15 >>> 25) & 0x7FFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+37] = ((w15 << 2) | (w16 >>> 62)) & 0x7FFFFFFL;
+        out[op+38] = (w16 >>> 35) & 0x7FFFFFFL;
+        out[op+39] = (w16 >>> 8) & 0x7FFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+40] = ((w16 << 19) | (w17 >>> 45)) & 0x7FFFFFFL;
+        out[op+41] = (w17 >>> 18) & 0x7FFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+42] = ((w17 << 9) | (w18 >>> 55)) & 0x7FFFFFFL;
+        out[op+43] = (w18 >>> 28) & 0x7FFFFFFL;
+        out[op+44] = (w18 >>> 1) & 0x7FFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+45] = ((w18 << 26) | (w19 >>> 38)) & 0x7FFFFFFL;
+        out[op+46] = (w19 >>> 11) & 0x7FFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+47] = ((w19 << 16) | (w20 >>> 48)) & 0x7FFFFFFL;
+        out[op+48] = (w20 >>> 21) & 0x7FFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+49] = ((w20 << 6) | (w21 >>> 58)) & 0x7FFFFFFL;
+        out[op+50] = (w21 >>> 31) & 0x7FFFFFFL;
+        out[op+51] = (w21 >>> 4) & 0x7FFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+52] = ((w21 << 23) | (w22 >>> 41)) & 0x7FFFFFFL;
+        out[op+53] = (w22 >>> 14) & 0x7FFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+54] = ((w22 << 13) | (w23 >>> 51)) & 0x7FFFFFFL;
+        out[op+55] = (w23 >>> 24) & 0x7FFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+56] = ((w23 << 3) | (w24 >>> 61)) & 0x7FFFFFFL;
+        out[op+57] = (w24 >>> 34) & 0x7FFFFFFL;
+        out[op+58] = (w24 >>> 7) & 0x7FFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+59] = ((w24 << 20) | (w25 >>> 44)) & 0x7FFFFFFL;
+        out[op+60] = (w25 >>> 17) & 0x7FFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+61] = ((w25 << 10) | (w26 >>> 54)) & 0x7FFFFFFL;
+        out[op+62] = (w26 >>> 27) & 0x7FFFFFFL;
+        out[op+63] = w26 & 0x7FFFFFFL;
+    }
+
+    private static void _unpack28(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 36;
+        out[op+1] = (w0 >>> 8) & 0xFFFFFFFL;
+        final long w1 = in[ip+1];
+        out[op+2] = ((w0 << 20) | (w1 >>> 44)) & 0xFFFFFFFL;
+        out[op+3] = (w1 >>> 16) & 0xFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+4] = ((w1 << 12) | (w2 >>> 52)) & 0xFFFFFFFL;
+        out[op+5] = (w2 >>> 24) & 0xFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+6] = ((w2 << 4) | (w3 >>> 60)) & 0xFFFFFFFL;
+        out[op+7] = (w3 >>> 32) & 0xFFFFFFFL;
+        out[op+8] = (w3 >>> 4) & 0xFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+9] = ((w3 << 24) | (w4 >>> 40)) & 0xFFFFFFFL;
+        out[op+10] = (w4 >>> 12) & 0xFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+11] = ((w4 << 16) | (w5 >>> 48)) & 0xFFFFFFFL;
+        out[op+12] = (w5 >>> 20) & 0xFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+13] = ((w5 << 8) | (w6 >>> 56)) & 0xFFFFFFFL;
+        out[op+14] = (w6 >>> 28) & 0xFFFFFFFL;
+        out[op+15] = w6 & 0xFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+16] = w7 >>> 36;
+        out[op+17] = (w7 >>> 8) & 0xFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+18] = ((w7 << 20) | (w8 >>> 44)) & 0xFFFFFFFL;
+        out[op+19] = (w8 >>> 16) & 0xFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+20] = ((w8 << 12) | (w9 >>> 52)) & 0xFFFFFFFL;
+        out[op+21] = (w9 >>> 24) & 0xFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+22] = ((w9 << 4) | (w10 >>> 60)) & 0xFFFFFFFL;
+        out[op+23] = (w10 >>> 32) & 0xFFFFFFFL;
+        out[op+24] = (w10 >>> 4) & 0xFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+25] = ((w10 << 24) | (w11 >>> 40)) & 0xFFFFFFFL;
+        out[op+26] = (w11 >>> 12) & 0xFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+27] = ((w11 << 16) | (w12 >>> 48)) & 0xFFFFFFFL;
+        out[op+28] = (w12 >>> 20) & 0xFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+29] = ((w12 << 8) | (w13 >>> 56)) & 0xFFFFFFFL;
+        out[op+30] = (w13 >>> 28) & 0xFFFFFFFL;
+        out[op+31] = w13 & 0xFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+32] = w14 >>> 36;
+        out[op+33] = (w14 >>> 8) & 0xFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+34] = ((w14 << 20) | (w15 >>> 44)) & 0xFFFFFFFL;
+        out[op+35] = (w15 >>> 16) & 0xFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+36] = ((w15 << 12) | (w16 >>> 52)) & 0xFFFFFFFL;
+        out[op+37] = (w16 >>> 24) & 0xFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+38] = ((w16 << 4) | (w17 >>> 60)) & 0xFFFFFFFL;
+        out[op+39] = (w17 >>> 32) & 0xFFFFFFFL;
+        out[op+40] = (w17 >>> 4) & 0xFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+41] = ((w17 << 24) | (w18 >>> 40)) & 0xFFFFFFFL;
+        out[op+42] = (w18 >>> 12) & 0xFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+43] = ((w18 << 16) | (w19 >>> 48)) & 0xFFFFFFFL;
+        out[op+44] = (w19 >>> 20) & 0xFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+45] = ((w19 << 8) | (w20 >>> 56)) & 0xFFFFFFFL;
+        out[op+46] = (w20 >>> 28) & 0xFFFFFFFL;
+        out[op+47] = w20 & 0xFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+48] = w21 >>> 36;
+        out[op+49] = (w21 >>> 8) & 0xFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+50] = ((w21 << 20) | (w22 >>> 44)) & 0xFFFFFFFL;
+        out[op+51] = (w22 >>> 16) & 0xFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+52] = ((w22 << 12) | (w23 >>> 52)) & 0xFFFFFFFL;
+        out[op+53] = (w23 >>> 24) & 0xFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+54] = ((w23 << 4) | (w24 >>> 60)) & 0xFFFFFFFL;
+        out[op+55] = (w24 >>> 32) & 0xFFFFFFFL;
+        out[op+56] = (w24 >>> 4) & 0xFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+57] = ((w24 << 24) | (w25 >>> 40)) & 0xFFFFFFFL;
+        out[op+58] = (w25 >>> 12) & 0xFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+59] = ((w25 << 16) | (w26 >>> 48)) & 0xFFFFFFFL;
+        out[op+60] = (w26 >>> 20) & 0xFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+61] = ((w26 << 8) | (w27 >>> 56)) & 0xFFFFFFFL;
+        out[op+62] = (w27 >>> 28) & 0xFFFFFFFL;
+        out[op+63] = w27 & 0xFFFFFFFL;
+    }
+
+    private static void _unpack29(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 35;
+        out[op+1] = (w0 >>> 6) & 0x1FFFFFFFL;
+        final long w1 = in[ip+1];
+        out[op+2] = ((w0 << 23) | (w1 >>> 41)) & 0x1FFFFFFFL;
+        out[op+3] = (w1 >>> 12) & 0x1FFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+4] = ((w1 << 17) | (w2 >>> 47)) & 0x1FFFFFFFL;
+        out[op+5] = (w2 >>> 18) & 0x1FFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+6] = ((w2 << 11) | (w3 >>> 53)) & 0x1FFFFFFFL;
+        out[op+7] = (w3 >>> 24) & 0x1FFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+8] = ((w3 << 5) | (w4 >>> 59)) & 0x1FFFFFFFL;
+        out[op+9] = (w4 >>> 30) & 0x1FFFFFFFL;
+        out[op+10] = (w4 >>> 1) & 0x1FFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+11] = ((w4 << 28) | (w5 >>> 36)) & 0x1FFFFFFFL;
+        out[op+12] = (w5 >>> 7) & 0x1FFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+13] = ((w5 << 22) | (w6 >>> 42)) & 0x1FFFFFFFL;
+        out[op+14] = (w6 >>> 13) & 0x1FFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+15] = ((w6 << 16) | (w7 >>> 48)) & 0x1FFFFFFFL;
+        out[op+16] = (w7 >>> 19) & 0x1FFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+17] = ((w7 << 10) | (w8 >>> 54)) & 0x1FFFFFFFL;
+        out[op+18] = (w8 >>> 25) & 0x1FFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+19] = ((w8 << 4) | (w9 >>> 60)) & 0x1FFFFFFFL;
+        out[op+20] = (w9 >>> 31) & 0x1FFFFFFFL;
+        out[op+21] = (w9 >>> 2) & 0x1FFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+22] = ((w9 << 27) | (w10 >>> 37)) & 0x1FFFFFFFL;
+        out[op+23] = (w10 >>> 8) & 0x1FFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+24] = ((w10 << 21) | (w11 >>> 43)) & 0x1FFFFFFFL;
+        out[op+25] = (w11 >>> 14) & 0x1FFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+26] = ((w11 << 15) | (w12 >>> 49)) & 0x1FFFFFFFL;
+        out[op+27] = (w12 >>> 20) & 0x1FFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+28] = ((w12 << 9) | (w13 >>> 55)) & 0x1FFFFFFFL;
+        out[op+29] = (w13 >>> 26) & 0x1FFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+30] = ((w13 << 3) | (w14 >>> 61)) & 0x1FFFFFFFL;
+        out[op+31] = (w14 >>> 32) & 0x1FFFFFFFL;
+        out[op+32] = (w14 >>> 3) & 0x1FFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+33] = ((w14 << 26) | (w15 >>> 38)) & 0x1FFFFFFFL;
+        out[op+34] = (w15 >>> 9) & 0x1FFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+35] = ((w15 << 20) | (w16 >>> 44)) & 0x1FFFFFFFL;
+        out[op+36] = (w16 >>> 15) & 0x1FFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+37] = ((w16 << 14) | (w17 >>> 50)) & 0x1FFFFFFFL;
+        out[op+38] = (w17 >>> 21) & 0x1FFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+39] = ((w17 << 8) | (w18 >>> 56)) & 0x1FFFFFFFL;
+        out[op+40] = (w18 >>> 27) & 0x1FFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+41] = ((w18 << 2) | (w19 >>> 62)) & 0x1FFFFFFFL;
+        out[op+42] = (w19 >>> 33) & 0x1FFFFFFFL;
+        out[op+43] = (w19 >>> 4) & 0x1FFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+44] = ((w19 << 25) | (w20 >>> 39)) & 0x1FFFFFFFL;
+        out[op+45] = (w20 >>> 10) & 0x1FFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+46] = ((w20 << 19) | (w21 >>> 45)) & 0x1FFFFFFFL;
+        out[op+47] = (w21 >>> 16) & 0x1FFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+48] = ((w21 << 13) | (w22 >>> 51)) & 0x1FFFFFFFL;
+        out[op+49] = (w22 >>> 22) & 0x1FFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+50] = ((w22 << 7) | (w23 >>> 57)) & 0x1FFFFFFFL;
+        out[op+51] = (w23 >>> 28) & 0x1FFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+52] = ((w23 << 1) | (w24 >>> 63)) & 0x1FFFFFFFL;
+        out[op+53] = (w24 >>> 34) & 0x1FFFFFFFL;
+        out[op+54] = (w24 >>> 5) & 0x1FFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+55] = ((w24 << 24) | (w25 >>> 40)) & 0x1FFFFFFFL;
+        out[op+56] = (w25 >>> 11) & 0x1FFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+57] = ((w25 << 18) | (w26 >>> 46)) & 0x1FFFFFFFL;
+        out[op+58] = (w26 >>> 17) & 0x1FFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+59] = ((w26 << 12) | (w27 >>> 52)) & 0x1FFFFFFFL;
+        out[op+60] = (w27 >>> 23) & 0x1FFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+61] = ((w27 << 6) | (w28 >>> 58)) & 0x1FFFFFFFL;
+        out[op+62] = (w28 >>> 29) & 0x1FFFFFFFL;
+        out[op+63] = w28 & 0x1FFFFFFFL;
+    }
+
+    private static void _unpack30(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 34;
+        out[op+1] = (w0 >>> 4) & 0x3FFFFFFFL;
+        final long w1 = in[ip+1];
+        out[op+2] = ((w0 << 26) | (w1 >>> 38)) & 0x3FFFFFFFL;
+        out[op+3] = (w1 >>> 8) & 0x3FFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+4] = ((w1 << 22) | (w2 >>> 42)) & 0x3FFFFFFFL;
+        out[op+5] = (w2 >>> 12) & 0x3FFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+6] = ((w2 << 18) | (w3 >>> 46)) & 0x3FFFFFFFL;
+        out[op+7] = (w3 >>> 16) & 0x3FFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+8] = ((w3 << 14) | (w4 >>> 50)) & 0x3FFFFFFFL;
+        out[op+9] = (w4 >>> 20) & 0x3FFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+10] = ((w4 << 10) | (w5 >>> 54)) & 0x3FFFFFFFL;
+        out[op+11] = (w5 >>> 24) & 0x3FFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+12] = ((w5 << 6) | (w6 >>> 58)) & 0x3FFFFFFFL;
+        out[op+13] = (w6 >>> 28) & 0x3FFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+14] = ((w6 << 2) | (w7 >>> 62)) & 0x3FFFFFFFL;
+        out[op+15] = (w7 >>> 32) & 0x3FFFFFFFL;
+        out[op+16] = (w7 >>> 2) & 0x3FFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+17] = ((w7 << 28) | (w8 >>> 36)) & 0x3FFFFFFFL;
+        out[op+18] = (w8 >>> 6) & 0x3FFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+19] = ((w8 << 24) | (w9 >>> 40)) & 0x3FFFFFFFL;
+        out[op+20] = (w9 >>> 10) & 0x3FFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+21] = ((w9 << 20) | (w10 >>> 44)) & 0x3FFFFFFFL;
+        out[op+22] = (w10 >>> 14) & 0x3FFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+23] = ((w10 << 16) | (w11 >>> 48)) & 0x3FFFFFFFL;
+        out[op+24] = (w11 >>> 18) & 0x3FFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+25] = ((w11 << 12) | (w12 >>> 52)) & 0x3FFFFFFFL;
+        out[op+26] = (w12 >>> 22) & 0x3FFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+27] = ((w12 << 8) | (w13 >>> 56)) & 0x3FFFFFFFL;
+        out[op+28] = (w13 >>> 26) & 0x3FFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+29] = ((w13 << 4) | (w14 >>> 60)) & 0x3FFFFFFFL;
+        out[op+30] = (w14 >>> 30) & 0x3FFFFFFFL;
+        out[op+31] = w14 & 0x3FFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+32] = w15 >>> 34;
+        out[op+33] = (w15 >>> 4) & 0x3FFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+34] = ((w15 << 26) | (w16 >>> 38)) & 0x3FFFFFFFL;
+        out[op+35] = (w16 >>> 8) & 0x3FFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+36] = ((w16 << 22) | (w17 >>> 42)) & 0x3FFFFFFFL;
+        out[op+37] = (w17 >>> 12) & 0x3FFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+38] = ((w17 << 18) | (w18 >>> 46)) & 0x3FFFFFFFL;
+        out[op+39] = (w18 >>> 16) & 0x3FFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+40] = ((w18 << 14) | (w19 >>> 50)) & 0x3FFFFFFFL;
+        out[op+41] = (w19 >>> 20) & 0x3FFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+42] = ((w19 << 10) | (w20 >>> 54)) & 0x3FFFFFFFL;
+        out[op+43] = (w20 >>> 24) & 0x3FFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+44] = ((w20 << 6) | (w21 >>> 58)) & 0x3FFFFFFFL;
+        out[op+45] = (w21 >>> 28) & 0x3FFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+46] = ((w21 << 2) | (w22 >>> 62)) & 0x3FFFFFFFL;
+        out[op+47] = (w22 >>> 32) & 0x3FFFFFFFL;
+        out[op+48] = (w22 >>> 2) & 0x3FFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+49] = ((w22 << 28) | (w23 >>> 36)) & 0x3FFFFFFFL;
+        out[op+50] = (w23 >>> 6) & 0x3FFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+51] = ((w23 << 24) | (w24 >>> 40)) & 0x3FFFFFFFL;
+        out[op+52] = (w24 >>> 10) & 0x3FFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+53] = ((w24 << 20) | (w25 >>> 44)) & 0x3FFFFFFFL;
+        out[op+54] = (w25 >>> 14) & 0x3FFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+55] = ((w25 << 16) | (w26 >>> 48)) & 0x3FFFFFFFL;
+        out[op+56] = (w26 >>> 18) & 0x3FFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+57] = ((w26 << 12) | (w27 >>> 52)) & 0x3FFFFFFFL;
+        out[op+58] = (w27 >>> 22) & 0x3FFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+59] = ((w27 << 8) | (w28 >>> 56)) & 0x3FFFFFFFL;
+        out[op+60] = (w28 >>> 26) & 0x3FFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+61] = ((w28 << 4) | (w29 >>> 60)) & 0x3FFFFFFFL;
+        out[op+62] = (w29 >>> 30) & 0x3FFFFFFFL;
+        out[op+63] = w29 & 0x3FFFFFFFL;
+    }
+
+    private static void _unpack31(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 33;
+        out[op+1] = (w0 >>> 2) & 0x7FFFFFFFL;
+        final long w1 = in[ip+1];
+        out[op+2] = ((w0 << 29) | (w1 >>> 35)) & 0x7FFFFFFFL;
+        out[op+3] = (w1 >>> 4) & 0x7FFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+4] = ((w1 << 27) | (w2 >>> 37)) & 0x7FFFFFFFL;
+        out[op+5] = (w2 >>> 6) & 0x7FFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+6] = ((w2 << 25) | (w3 >>> 39)) & 0x7FFFFFFFL;
+        out[op+7] = (w3 >>> 8) & 0x7FFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+8] = ((w3 << 23) | (w4 >>> 41)) & 0x7FFFFFFFL;
+        out[op+9] = (w4 >>> 10) & 0x7FFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+10] = ((w4 << 21) | (w5 >>> 43)) & 0x7FFFFFFFL;
+        out[op+11] = (w5 >>> 12) & 0x7FFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+12] = ((w5 << 19) | (w6 >>> 45)) & 0x7FFFFFFFL;
+        out[op+13] = (w6 >>> 14) & 0x7FFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+14] = ((w6 << 17) | (w7 >>> 47)) & 0x7FFFFFFFL;
+        out[op+15] = (w7 >>> 16) & 0x7FFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+16] = ((w7 << 15) | (w8 >>> 49)) & 0x7FFFFFFFL;
+        out[op+17] = (w8 >>> 18) & 0x7FFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+18] = ((w8 << 13) | (w9 >>> 51)) & 0x7FFFFFFFL;
+        out[op+19] = (w9 >>> 20) & 0x7FFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+20] = ((w9 << 11) | (w10 >>> 53)) & 0x7FFFFFFFL;
+        out[op+21] = (w10 >>> 22) & 0x7FFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+22] = ((w10 << 9) | (w11 >>> 55)) & 0x7FFFFFFFL;
+        out[op+23] = (w11 >>> 24) & 0x7FFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+24] = ((w11 << 7) | (w12 >>> 57)) & 0x7FFFFFFFL;
+        out[op+25] = (w12 >>> 26) & 0x7FFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+26] = ((w12 << 5) | (w13 >>> 59)) & 0x7FFFFFFFL;
+        out[op+27] = (w13 >>> 28) & 0x7FFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+28] = ((w13 << 3) | (w14 >>> 61)) & 0x7FFFFFFFL;
+        out[op+29] = (w14 >>> 30) & 0x7FFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+30] = ((w14 << 1) | (w15 >>> 63)) & 0x7FFFFFFFL;
+        out[op+31] = (w15 >>> 32) & 0x7FFFFFFFL;
+        out[op+32] = (w15 >>> 1) & 0x7FFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+33] = ((w15 << 30) | (w16 >>> 34)) & 0x7FFFFFFFL;
+        out[op+34] = (w16 >>> 3) & 0x7FFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+35] = ((w16 << 28) | (w17 >>> 36)) & 0x7FFFFFFFL;
+        out[op+36] = (w17 >>> 5) & 0x7FFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+37] = ((w17 << 26) | (w18 >>> 38)) & 0x7FFFFFFFL;
+        out[op+38] = (w18 >>> 7) & 0x7FFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+39] = ((w18 << 24) | (w19 >>> 40)) & 0x7FFFFFFFL;
+        out[op+40] = (w19 >>> 9) & 0x7FFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+41] = ((w19 << 22) | (w20 >>> 42)) & 0x7FFFFFFFL;
+        out[op+42] = (w20 >>> 11) & 0x7FFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+43] = ((w20 << 20) | (w21 >>> 44)) & 0x7FFFFFFFL;
+        out[op+44] = (w21 >>> 13) & 0x7FFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+45] = ((w21 << 18) | (w22 >>> 46)) & 0x7FFFFFFFL;
+        out[op+46] = (w22 >>> 15) & 0x7FFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+47] = ((w22 << 16) | (w23 >>> 48)) & 0x7FFFFFFFL;
+        out[op+48] = (w23 >>> 17) & 0x7FFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+49] = ((w23 << 14) | (w24 >>> 50)) & 0x7FFFFFFFL;
+        out[op+50] = (w24 >>> 19) & 0x7FFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+51] = ((w24 << 12) | (w25 >>> 52)) & 0x7FFFFFFFL;
+        out[op+52] = (w25 >>> 21) & 0x7FFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+53] = ((w25 << 10) | (w26 >>> 54)) & 0x7FFFFFFFL;
+        out[op+54] = (w26 >>> 23) & 0x7FFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+55] = ((w26 << 8) | (w27 >>> 56)) & 0x7FFFFFFFL;
+        out[op+56] = (w27 >>> 25) & 0x7FFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+57] = ((w27 << 6) | (w28 >>> 58)) & 0x7FFFFFFFL;
+        out[op+58] = (w28 >>> 27) & 0x7FFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+59] = ((w28 << 4) | (w29 >>> 60)) & 0x7FFFFFFFL;
+        out[op+60] = (w29 >>> 29) & 0x7FFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+61] = ((w29 << 2) | (w30 >>> 62)) & 0x7FFFFFFFL;
+        out[op+62] = (w30 >>> 31) & 0x7FFFFFFFL;
+        out[op+63] = w30 & 0x7FFFFFFFL;
+    }
+
+    private static void _unpack32(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 32;
+        out[op+1] = w0 & 0xFFFFFFFFL;
+        final long w1 = in[ip+1];
+        out[op+2] = w1 >>> 32;
+        out[op+3] = w1 & 0xFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+4] = w2 >>> 32;
+        out[op+5] = w2 & 0xFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+6] = w3 >>> 32;
+        out[op+7] = w3 & 0xFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+8] = w4 >>> 32;
+        out[op+9] = w4 & 0xFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+10] = w5 >>> 32;
+        out[op+11] = w5 & 0xFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+12] = w6 >>> 32;
+        out[op+13] = w6 & 0xFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+14] = w7 >>> 32;
+        out[op+15] = w7 & 0xFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+16] = w8 >>> 32;
+        out[op+17] = w8 & 0xFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+18] = w9 >>> 32;
+        out[op+19] = w9 & 0xFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+20] = w10 >>> 32;
+        out[op+21] = w10 & 0xFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+22] = w11 >>> 32;
+        out[op+23] = w11 & 0xFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+24] = w12 >>> 32;
+        out[op+25] = w12 & 0xFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+26] = w13 >>> 32;
+        out[op+27] = w13 & 0xFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+28] = w14 >>> 32;
+        out[op+29] = w14 & 0xFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+30] = w15 >>> 32;
+        out[op+31] = w15 & 0xFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+32] = w16 >>> 32;
+        out[op+33] = w16 & 0xFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+34] = w17 >>> 32;
+        out[op+35] = w17 & 0xFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+36] = w18 >>> 32;
+        out[op+37] = w18 & 0xFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+38] = w19 >>> 32;
+        out[op+39] = w19 & 0xFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+40] = w20 >>> 32;
+        out[op+41] = w20 & 0xFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+42] = w21 >>> 32;
+        out[op+43] = w21 & 0xFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+44] = w22 >>> 32;
+        out[op+45] = w22 & 0xFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+46] = w23 >>> 32;
+        out[op+47] = w23 & 0xFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+48] = w24 >>> 32;
+        out[op+49] = w24 & 0xFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+50] = w25 >>> 32;
+        out[op+51] = w25 & 0xFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+52] = w26 >>> 32;
+        out[op+53] = w26 & 0xFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+54] = w27 >>> 32;
+        out[op+55] = w27 & 0xFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+56] = w28 >>> 32;
+        out[op+57] = w28 & 0xFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+58] = w29 >>> 32;
+        out[op+59] = w29 & 0xFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+60] = w30 >>> 32;
+        out[op+61] = w30 & 0xFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+62] = w31 >>> 32;
+        out[op+63] = w31 & 0xFFFFFFFFL;
+    }
+
+    private static void _unpack33(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 31;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 2) | (w1 >>> 62)) & 0x1FFFFFFFFL;
+        out[op+2] = (w1 >>> 29) & 0x1FFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+3] = ((w1 << 4) | (w2 >>> 60)) & 0x1FFFFFFFFL;
+        out[op+4] = (w2 >>> 27) & 0x1FFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+5] = ((w2 << 6) | (w3 >>> 58)) & 0x1FFFFFFFFL;
+        out[op+6] = (w3 >>> 25) & 0x1FFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+7] = ((w3 << 8) | (w4 >>> 56)) & 0x1FFFFFFFFL;
+        out[op+8] = (w4 >>> 23) & 0x1FFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+9] = ((w4 << 10) | (w5 >>> 54)) & 0x1FFFFFFFFL;
+        out[op+10] = (w5 >>> 21) & 0x1FFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+11] = ((w5 << 12) | (w6 >>> 52)) & 0x1FFFFFFFFL;
+        out[op+12] = (w6 >>> 19) & 0x1FFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+13] = ((w6 << 14) | (w7 >>> 50)) & 0x1FFFFFFFFL;
+        out[op+14] = (w7 >>> 17) & 0x1FFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+15] = ((w7 << 16) | (w8 >>> 48)) & 0x1FFFFFFFFL;
+        out[op+16] = (w8 >>> 15) & 0x1FFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+17] = ((w8 << 18) | (w9 >>> 46)) & 0x1FFFFFFFFL;
+        out[op+18] = (w9 >>> 13) & 0x1FFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+19] = ((w9 << 20) | (w10 >>> 44)) & 0x1FFFFFFFFL;
+        out[op+20] = (w10 >>> 11) & 0x1FFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+21] = ((w10 << 22) | (w11 >>> 42)) & 0x1FFFFFFFFL;
+        out[op+22] = (w11 >>> 9) & 0x1FFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+23] = ((w11 << 24) | (w12 >>> 40)) & 0x1FFFFFFFFL;
+        out[op+24] = (w12 >>> 7) & 0x1FFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+25] = ((w12 << 26) | (w13 >>> 38)) & 0x1FFFFFFFFL;
+        out[op+26] = (w13 >>> 5) & 0x1FFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+27] = ((w13 << 28) | (w14 >>> 36)) & 0x1FFFFFFFFL;
+        out[op+28] = (w14 >>> 3) & 0x1FFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+29] = ((w14 << 30) | (w15 >>> 34)) & 0x1FFFFFFFFL;
+        out[op+30] = (w15 >>> 1) & 0x1FFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+31] = ((w15 << 32) | (w16 >>> 32)) & 0x1FFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+32] = ((w16 << 1) | (w17 >>> 63)) & 0x1FFFFFFFFL;
+        out[op+33] = (w17 >>> 30) & 0x1FFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+34] = ((w17 << 3) | (w18 >>> 61)) & 0x1FFFFFFFFL;
+        out[op+35] = (w18 >>> 28) & 0x1FFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+36] = ((w18 << 5) | (w19 >>> 59)) & 0x1FFFFFFFFL;
+        out[op+37] = (w19 >>> 26) & 0x1FFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+38] = ((w19 << 7) | (w20 >>> 57)) & 0x1FFFFFFFFL;
+        out[op+39] = (w20 >>> 24) & 0x1FFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+40] = ((w20 << 9) | (w21 >>> 55)) & 0x1FFFFFFFFL;
+        out[op+41] = (w21 >>> 22) & 0x1FFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+42] = ((w21 << 11) | (w22 >>> 53)) & 0x1FFFFFFFFL;
+        out[op+43] = (w22 >>> 20) & 0x1FFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+44] = ((w22 << 13) | (w23 >>> 51)) & 0x1FFFFFFFFL;
+        out[op+45] = (w23 >>> 18) & 0x1FFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+46] = ((w23 << 15) | (w24 >>> 49)) & 0x1FFFFFFFFL;
+        out[op+47] = (w24 >>> 16) & 0x1FFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+48] = ((w24 << 17) | (w25 >>> 47)) & 0x1FFFFFFFFL;
+        out[op+49] = (w25 >>> 14) & 0x1FFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+50] = ((w25 << 19) | (w26 >>> 45)) & 0x1FFFFFFFFL;
+        out[op+51] = (w26 >>> 12) & 0x1FFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+52] = ((w26 << 21) | (w27 >>> 43)) & 0x1FFFFFFFFL;
+        out[op+53] = (w27 >>> 10) & 0x1FFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+54] = ((w27 << 23) | (w28 >>> 41)) & 0x1FFFFFFFFL;
+        out[op+55] = (w28 >>> 8) & 0x1FFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+56] = ((w28 << 25) | (w29 >>> 39)) & 0x1FFFFFFFFL;
+        out[op+57] = (w29 >>> 6) & 0x1FFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+58] = ((w29 << 27) | (w30 >>> 37)) & 0x1FFFFFFFFL;
+        out[op+59] = (w30 >>> 4) & 0x1FFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+60] = ((w30 << 29) | (w31 >>> 35)) & 0x1FFFFFFFFL;
+        out[op+61] = (w31 >>> 2) & 0x1FFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+62] = ((w31 << 31) | (w32 >>> 33)) & 0x1FFFFFFFFL;
+        out[op+63] = w32 & 0x1FFFFFFFFL;
+    }
+
+    private static void _unpack34(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 30;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 4) | (w1 >>> 60)) & 0x3FFFFFFFFL;
+        out[op+2] = (w1 >>> 26) & 0x3FFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+3] = ((w1 << 8) | (w2 >>> 56)) & 0x3FFFFFFFFL;
+        out[op+4] = (w2 >>> 22) & 0x3FFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+5] = ((w2 << 12) | (w3 >>> 52)) & 0x3FFFFFFFFL;
+        out[op+6] = (w3 >>> 18) & 0x3FFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+7] = ((w3 << 16) | (w4 >>> 48)) & 0x3FFFFFFFFL;
+        out[op+8] = (w4 >>> 14) & 0x3FFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+9] = ((w4 << 20) | (w5 >>> 44)) & 0x3FFFFFFFFL;
+        out[op+10] = (w5 >>> 10) & 0x3FFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+11] = ((w5 << 24) | (w6 >>> 40)) & 0x3FFFFFFFFL;
+        out[op+12] = (w6 >>> 6) & 0x3FFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+13] = ((w6 << 28) | (w7 >>> 36)) & 0x3FFFFFFFFL;
+        out[op+14] = (w7 >>> 2) & 0x3FFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+15] = ((w7 << 32) | (w8 >>> 32)) & 0x3FFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+16] = ((w8 << 2) | (w9 >>> 62)) & 0x3FFFFFFFFL;
+        out[op+17] = (w9 >>> 28) & 0x3FFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+18] = ((w9 << 6) | (w10 >>> 58)) & 0x3FFFFFFFFL;
+        out[op+19] = (w10 >>> 24) & 0x3FFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+20] = ((w10 << 10) | (w11 >>> 54)) & 0x3FFFFFFFFL;
+        out[op+21] = (w11 >>> 20) & 0x3FFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+22] = ((w11 << 14) | (w12 >>> 50)) & 0x3FFFFFFFFL;
+        out[op+23] = (w12 >>> 16) & 0x3FFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+24] = ((w12 << 18) | (w13 >>> 46)) & 0x3FFFFFFFFL;
+        out[op+25] = (w13 >>> 12) & 0x3FFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+26] = ((w13 << 22) | (w14 >>> 42)) & 0x3FFFFFFFFL;
+        out[op+27] = (w14 >>> 8) & 0x3FFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+28] = ((w14 << 26) | (w15 >>> 38)) & 0x3FFFFFFFFL;
+        out[op+29] = (w15 >>> 4) & 0x3FFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+30] = ((w15 << 30) | (w16 >>> 34)) & 0x3FFFFFFFFL;
+        out[op+31] = w16 & 0x3FFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+32] = w17 >>> 30;
+        final long w18 = in[ip+18];
+        out[op+33] = ((w17 << 4) | (w18 >>> 60)) & 0x3FFFFFFFFL;
+        out[op+34] = (w18 >>> 26) & 0x3FFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+35] = ((w18 << 8) | (w19 >>> 56)) & 0x3FFFFFFFFL;
+        out[op+36] = (w19 >>> 22) & 0x3FFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+37] = ((w19 << 12) | (w20 >>> 52)) & 0x3FFFFFFFFL;
+        out[op+38] = (w20 >>> 18) & 0x3FFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+39] = ((w20 << 16) | (w21 >>> 48)) & 0x3FFFFFFFFL;
+        out[op+40] = (w21 >>> 14) & 0x3FFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+41] = ((w21 << 20) | (w22 >>> 44)) & 0x3FFFFFFFFL;
+        out[op+42] = (w22 >>> 10) & 0x3FFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+43] = ((w22 << 24) | (w23 >>> 40)) & 0x3FFFFFFFFL;
+        out[op+44] = (w23 >>> 6) & 0x3FFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+45] = ((w23 << 28) | (w24 >>> 36)) & 0x3FFFFFFFFL;
+        out[op+46] = (w24 >>> 2) & 0x3FFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+47] = ((w24 << 32) | (w25 >>> 32)) & 0x3FFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+48] = ((w25 << 2) | (w26 >>> 62)) & 0x3FFFFFFFFL;
+        out[op+49] = (w26 >>> 28) & 0x3FFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+50] = ((w26 << 6) | (w27 >>> 58)) & 0x3FFFFFFFFL;
+        out[op+51] = (w27 >>> 24) & 0x3FFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+52] = ((w27 << 10) | (w28 >>> 54)) & 0x3FFFFFFFFL;
+        out[op+53] = (w28 >>> 20) & 0x3FFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+54] = ((w28 << 14) | (w29 >>> 50)) & 0x3FFFFFFFFL;
+        out[op+55] = (w29 >>> 16) & 0x3FFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+56] = ((w29 << 18) | (w30 >>> 46)) & 0x3FFFFFFFFL;
+        out[op+57] = (w30 >>> 12) & 0x3FFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+58] = ((w30 << 22) | (w31 >>> 42)) & 0x3FFFFFFFFL;
+        out[op+59] = (w31 >>> 8) & 0x3FFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+60] = ((w31 << 26) | (w32 >>> 38)) & 0x3FFFFFFFFL;
+        out[op+61] = (w32 >>> 4) & 0x3FFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+62] = ((w32 << 30) | (w33 >>> 34)) & 0x3FFFFFFFFL;
+        out[op+63] = w33 & 0x3FFFFFFFFL;
+    }
+
+    private static void _unpack35(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 29;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 6) | (w1 >>> 58)) & 0x7FFFFFFFFL;
+        out[op+2] = (w1 >>> 23) & 0x7FFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+3] = ((w1 << 12) | (w2 >>> 52)) & 0x7FFFFFFFFL;
+        out[op+4] = (w2 >>> 17) & 0x7FFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+5] = ((w2 << 18) | (w3 >>> 46)) & 0x7FFFFFFFFL;
+        out[op+6] = (w3 >>> 11) & 0x7FFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+7] = ((w3 << 24) | (w4 >>> 40)) & 0x7FFFFFFFFL;
+        out[op+8] = (w4 >>> 5) & 0x7FFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+9] = ((w4 << 30) | (w5 >>> 34)) & 0x7FFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+10] = ((w5 << 1) | (w6 >>> 63)) & 0x7FFFFFFFFL;
+        out[op+11] = (w6 >>> 28) & 0x7FFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+12] = ((w6 << 7) | (w7 >>> 57)) & 0x7FFFFFFFFL;
+        out[op+13] = (w7 >>> 22) & 0x7FFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+14] = ((w7 << 13) | (w8 >>> 51)) & 0x7FFFFFFFFL;
+        out[op+15] = (w8 >>> 16) & 0x7FFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+16] = ((w8 << 19) | (w9 >>> 45)) & 0x7FFFFFFFFL;
+        out[op+17] = (w9 >>> 10) & 0x7FFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+18] = ((w9 << 25) | (w10 >>> 39)) & 0x7FFFFFFFFL;
+        out[op+19] = (w10 >>> 4) & 0x7FFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+20] = ((w10 << 31) | (w11 >>> 33)) & 0x7FFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+21] = ((w11 << 2) | (w12 >>> 62)) & 0x7FFFFFFFFL;
+        out[op+22] = (w12 >>> 27) & 0x7FFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+23] = ((w12 << 8) | (w13 >>> 56)) & 0x7FFFFFFFFL;
+        out[op+24] = (w13 >>> 21) & 0x7FFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+25] = ((w13 << 14) | (w14 >>> 50)) & 0x7FFFFFFFFL;
+        out[op+26] = (w14 >>> 15) & 0x7FFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+27] = ((w14 << 20) | (w15 >>> 44)) & 0x7FFFFFFFFL;
+        out[op+28] = (w15 >>> 9) & 0x7FFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+29] = ((w15 << 26) | (w16 >>> 38)) & 0x7FFFFFFFFL;
+        out[op+30] = (w16 >>> 3) & 0x7FFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+31] = ((w16 << 32) | (w17 >>> 32)) & 0x7FFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+32] = ((w17 << 3) | (w18 >>> 61)) & 0x7FFFFFFFFL;
+        out[op+33] = (w18 >>> 26) & 0x7FFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+34] = ((w18 << 9) | (w19 >>> 55)) & 0x7FFFFFFFFL;
+        out[op+35] = (w19 >>> 20) & 0x7FFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+36] = ((w19 << 15) | (w20 >>> 49)) & 0x7FFFFFFFFL;
+        out[op+37] = (w20 >>> 14) & 0x7FFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+38] = ((w20 << 21) | (w21 >>> 43)) & 0x7FFFFFFFFL;
+        out[op+39] = (w21 >>> 8) & 0x7FFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+40] = ((w21 << 27) | (w22 >>> 37)) & 0x7FFFFFFFFL;
+        out[op+41] = (w22 >>> 2) & 0x7FFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+42] = ((w22 << 33) | (w23 >>> 31)) & 0x7FFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+43] = ((w23 << 4) | (w24 >>> 60)) & 0x7FFFFFFFFL;
+        out[op+44] = (w24 >>> 25) & 0x7FFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+45] = ((w24 << 10) | (w25 >>> 54)) & 0x7FFFFFFFFL;
+        out[op+46] = (w25 >>> 19) & 0x7FFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+47] = ((w25 << 16) | (w26 >>> 48)) & 0x7FFFFFFFFL;
+        out[op+48] = (w26 >>> 13) & 0x7FFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+49] = ((w26 << 22) | (w27 >>> 42)) & 0x7FFFFFFFFL;
+        out[op+50] = (w27 >>> 7) & 0x7FFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+51] = ((w27 << 28) | (w28 >>> 36)) & 0x7FFFFFFFFL;
+        out[op+52] = (w28 >>> 1) & 0x7FFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+53] = ((w28 << 34) | (w29 >>> 30)) & 0x7FFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+54] = ((w29 << 5) | (w30 >>> 59)) & 0x7FFFFFFFFL;
+        out[op+55] = (w30 >>> 24) & 0x7FFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+56] = ((w30 << 11) | (w31 >>> 53)) & 0x7FFFFFFFFL;
+        out[op+57] = (w31 >>> 18) & 0x7FFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+58] = ((w31 << 17) | (w32 >>> 47)) & 0x7FFFFFFFFL;
+        out[op+59] = (w32 >>> 12) & 0x7FFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+60] = ((w32 << 23) | (w33 >>> 41)) & 0x7FFFFFFFFL;
+        out[op+61] = (w33 >>> 6) & 0x7FFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+62] = ((w33 << 29) | (w34 >>> 35)) & 0x7FFFFFFFFL;
+        out[op+63] = w34 & 0x7FFFFFFFFL;
+    }
+
+    private static void _unpack36(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 28;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 8) | (w1 >>> 56)) & 0xFFFFFFFFFL;
+        out[op+2] = (w1 >>> 20) & 0xFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+3] = ((w1 << 16) | (w2 >>> 48)) & 0xFFFFFFFFFL;
+        out[op+4] = (w2 >>> 12) & 0xFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+5] = ((w2 << 24) | (w3 >>> 40)) & 0xFFFFFFFFFL;
+        out[op+6] = (w3 >>> 4) & 0xFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+7] = ((w3 << 32) | (w4 >>> 32)) & 0xFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+8] = ((w4 << 4) | (w5 >>> 60)) & 0xFFFFFFFFFL;
+        out[op+9] = (w5 >>> 24) & 0xFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+10] = ((w5 << 12) | (w6 >>> 52)) & 0xFFFFFFFFFL;
+        out[op+11] = (w6 >>> 16) & 0xFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+12] = ((w6 << 20) | (w7 >>> 44)) & 0xFFFFFFFFFL;
+        out[op+13] = (w7 >>> 8) & 0xFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+14] = ((w7 << 28) | (w8 >>> 36)) & 0xFFFFFFFFFL;
+        out[op+15] = w8 & 0xFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+16] = w9 >>> 28;
+        final long w10 = in[ip+10];
+        out[op+17] = ((w9 << 8) | (w10 >>> 56)) & 0xFFFFFFFFFL;
+        out[op+18] = (w10 >>> 20) & 0xFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+19] = ((w10 << 16) | (w11 >>> 48)) & 0xFFFFFFFFFL;
+        out[op+20] = (w11 >>> 12) & 0xFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+21] = ((w11 << 24) | (w12 >>> 40)) & 0xFFFFFFFFFL;
+        out[op+22] = (w12 >>> 4) & 0xFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+23] = ((w12 << 32) | (w13 >>> 32)) & 0xFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+24] = ((w13 << 4) | (w14 >>> 60)) & 0xFFFFFFFFFL;
+        out[op+25] = (w14 >>> 24) & 0xFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+26] = ((w14 << 12) | (w15 >>> 52)) & 0xFFFFFFFFFL;
+        out[op+27] = (w15 >>> 16) & 0xFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+28] = ((w15 << 20) | (w16 >>> 44)) & 0xFFFFFFFFFL;
+        out[op+29] = (w16 >>> 8) & 0xFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+30] = ((w16 << 28) | (w17 >>> 36)) & 0xFFFFFFFFFL;
+        out[op+31] = w17 & 0xFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+32] = w18 >>> 28;
+        final long w19 = in[ip+19];
+        out[op+33] = ((w18 << 8) | (w19 >>> 56)) & 0xFFFFFFFFFL;
+        out[op+34] = (w19 >>> 20) & 0xFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+35] = ((w19 << 16) | (w20 >>> 48)) & 0xFFFFFFFFFL;
+        out[op+36] = (w20 >>> 12) & 0xFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+37] = ((w20 << 24) | (w21 >>> 40)) & 0xFFFFFFFFFL;
+        out[op+38] = (w21 >>> 4) & 0xFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+39] = ((w21 << 32) | (w22 >>> 32)) & 0xFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+40] = ((w22 << 4) | (w23 >>> 60)) & 0xFFFFFFFFFL;
+        out[op+41] = (w23 >>> 24) & 0xFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+42] = ((w23 << 12) | (w24 >>> 52)) & 0xFFFFFFFFFL;
+        out[op+43] = (w24 >>> 16) & 0xFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+44] = ((w24 << 20) | (w25 >>> 44)) & 0xFFFFFFFFFL;
+        out[op+45] = (w25 >>> 8) & 0xFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+46] = ((w25 << 28) | (w26 >>> 36)) & 0xFFFFFFFFFL;
+        out[op+47] = w26 & 0xFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+48] = w27 >>> 28;
+        final long w28 = in[ip+28];
+        out[op+49] = ((w27 << 8) | (w28 >>> 56)) & 0xFFFFFFFFFL;
+        out[op+50] = (w28 >>> 20) & 0xFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+51] = ((w28 << 16) | (w29 >>> 48)) & 0xFFFFFFFFFL;
+        out[op+52] = (w29 >>> 12) & 0xFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+53] = ((w29 << 24) | (w30 >>> 40)) & 0xFFFFFFFFFL;
+        out[op+54] = (w30 >>> 4) & 0xFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+55] = ((w30 << 32) | (w31 >>> 32)) & 0xFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+56] = ((w31 << 4) | (w32 >>> 60)) & 0xFFFFFFFFFL;
+        out[op+57] = (w32 >>> 24) & 0xFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+58] = ((w32 << 12) | (w33 >>> 52)) & 0xFFFFFFFFFL;
+        out[op+59] = (w33 >>> 16) & 0xFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+60] = ((w33 << 20) | (w34 >>> 44)) & 0xFFFFFFFFFL;
+        out[op+61] = (w34 >>> 8) & 0xFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+62] = ((w34 << 28) | (w35 >>> 36)) & 0xFFFFFFFFFL;
+        out[op+63] = w35 & 0xFFFFFFFFFL;
+    }
+
+    private static void _unpack37(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 27;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 10) | (w1 >>> 54)) & 0x1FFFFFFFFFL;
+        out[op+2] = (w1 >>> 17) & 0x1FFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+3] = ((w1 << 20) | (w2 >>> 44)) & 0x1FFFFFFFFFL;
+        out[op+4] = (w2 >>> 7) & 0x1FFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+5] = ((w2 << 30) | (w3 >>> 34)) & 0x1FFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+6] = ((w3 << 3) | (w4 >>> 61)) & 0x1FFFFFFFFFL;
+        out[op+7] = (w4 >>> 24) & 0x1FFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+8] = ((w4 << 13) | (w5 >>> 51)) & 0x1FFFFFFFFFL;
+        out[op+9] = (w5 >>> 14) & 0x1FFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+10] = ((w5 << 23) | (w6 >>> 41)) & 0x1FFFFFFFFFL;
+        out[op+11] = (w6 >>> 4) & 0x1FFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+12] = ((w6 << 33) | (w7 >>> 31)) & 0x1FFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+13] = ((w7 << 6) | (w8 >>> 58)) & 0x1FFFFFFFFFL;
+        out[op+14] = (w8 >>> 21) & 0x1FFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+15] = ((w8 << 16) | (w9 >>> 48)) & 0x1FFFFFFFFFL;
+        out[op+16] = (w9 >>> 11) & 0x1FFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+17] = ((w9 << 26) | (w10 >>> 38)) & 0x1FFFFFFFFFL;
+        out[op+18] = (w10 >>> 1) & 0x1FFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+19] = ((w10 << 36) | (w11 >>> 28)) & 0x1FFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+20] = ((w11 << 9) | (w12 >>> 55)) & 0x1FFFFFFFFFL;
+        out[op+21] = (w12 >>> 18) & 0x1FFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+22] = ((w12 << 19) | (w13 >>> 45)) & 0x1FFFFFFFFFL;
+        out[op+23] = (w13 >>> 8) & 0x1FFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+24] = ((w13 << 29) | (w14 >>> 35)) & 0x1FFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+25] = ((w14 << 2) | (w15 >>> 62)) & 0x1FFFFFFFFFL;
+        out[op+26] = (w15 >>> 25) & 0x1FFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+27] = ((w15 << 12) | (w16 >>> 52)) & 0x1FFFFFFFFFL;
+        out[op+28] = (w16 >>> 15) & 0x1FFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+29] = ((w16 << 22) | (w17 >>> 42)) & 0x1FFFFFFFFFL;
+        out[op+30] = (w17 >>> 5) & 0x1FFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+31] = ((w17 << 32) | (w18 >>> 32)) & 0x1FFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+32] = ((w18 << 5) | (w19 >>> 59)) & 0x1FFFFFFFFFL;
+        out[op+33] = (w19 >>> 22) & 0x1FFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+34] = ((w19 << 15) | (w20 >>> 49)) & 0x1FFFFFFFFFL;
+        out[op+35] = (w20 >>> 12) & 0x1FFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+36] = ((w20 << 25) | (w21 >>> 39)) & 0x1FFFFFFFFFL;
+        out[op+37] = (w21 >>> 2) & 0x1FFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+38] = ((w21 << 35) | (w22 >>> 29)) & 0x1FFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+39] = ((w22 << 8) | (w23 >>> 56)) & 0x1FFFFFFFFFL;
+        out[op+40] = (w23 >>> 19) & 0x1FFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+41] = ((w23 << 18) | (w24 >>> 46)) & 0x1FFFFFFFFFL;
+        out[op+42] = (w24 >>> 9) & 0x1FFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+43] = ((w24 << 28) | (w25 >>> 36)) & 0x1FFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+44] = ((w25 << 1) | (w26 >>> 63)) & 0x1FFFFFFFFFL;
+        out[op+45] = (w26 >>> 26) & 0x1FFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+46] = ((w26 << 11) | (w27 >>> 53)) & 0x1FFFFFFFFFL;
+        out[op+47] = (w27 >>> 16) & 0x1FFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+48] = ((w27 << 21) | (w28 >>> 43)) & 0x1FFFFFFFFFL;
+        out[op+49] = (w28 >>> 6) & 0x1FFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+50] = ((w28 << 31) | (w29 >>> 33)) & 0x1FFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+51] = ((w29 << 4) | (w30 >>> 60)) & 0x1FFFFFFFFFL;
+        out[op+52] = (w30 >>> 23) & 0x1FFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+53] = ((w30 << 14) | (w31 >>> 50)) & 0x1FFFFFFFFFL;
+        out[op+54] = (w31 >>> 13) & 0x1FFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+55] = ((w31 << 24) | (w32 >>> 40)) & 0x1FFFFFFFFFL;
+        out[op+56] = (w32 >>> 3) & 0x1FFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+57] = ((w32 << 34) | (w33 >>> 30)) & 0x1FFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+58] = ((w33 << 7) | (w34 >>> 57)) & 0x1FFFFFFFFFL;
+        out[op+59] = (w34 >>> 20) & 0x1FFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+60] = ((w34 << 17) | (w35 >>> 47)) & 0x1FFFFFFFFFL;
+        out[op+61] = (w35 >>> 10) & 0x1FFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+62] = ((w35 << 27) | (w36 >>> 37)) & 0x1FFFFFFFFFL;
+        out[op+63] = w36 & 0x1FFFFFFFFFL;
+    }
+
+    private static void _unpack38(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 26;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 12) | (w1 >>> 52)) & 0x3FFFFFFFFFL;
+        out[op+2] = (w1 >>> 14) & 0x3FFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+3] = ((w1 << 24) | (w2 >>> 40)) & 0x3FFFFFFFFFL;
+        out[op+4] = (w2 >>> 2) & 0x3FFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+5] = ((w2 << 36) | (w3 >>> 28)) & 0x3FFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+6] = ((w3 << 10) | (w4 >>> 54)) & 0x3FFFFFFFFFL;
+        out[op+7] = (w4 >>> 16) & 0x3FFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+8] = ((w4 << 22) | (w5 >>> 42)) & 0x3FFFFFFFFFL;
+        out[op+9] = (w5 >>> 4) & 0x3FFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+10] = ((w5 << 34) | (w6 >>> 30)) & 0x3FFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+11] = ((w6 << 8) | (w7 >>> 56)) & 0x3FFFFFFFFFL;
+        out[op+12] = (w7 >>> 18) & 0x3FFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+13] = ((w7 << 20) | (w8 >>> 44)) & 0x3FFFFFFFFFL;
+        out[op+14] = (w8 >>> 6) & 0x3FFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+15] = ((w8 << 32) | (w9 >>> 32)) & 0x3FFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+16] = ((w9 << 6) | (w10 >>> 58)) & 0x3FFFFFFFFFL;
+        out[op+17] = (w10 >>> 20) & 0x3FFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+18] = ((w10 << 18) | (w11 >>> 46)) & 0x3FFFFFFFFFL;
+        out[op+19] = (w11 >>> 8) & 0x3FFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+20] = ((w11 << 30) | (w12 >>> 34)) & 0x3FFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+21] = ((w12 << 4) | (w13 >>> 60)) & 0x3FFFFFFFFFL;
+        out[op+22] = (w13 >>> 22) & 0x3FFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+23] = ((w13 << 16) | (w14 >>> 48)) & 0x3FFFFFFFFFL;
+        out[op+24] = (w14 >>> 10) & 0x3FFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+25] = ((w14 << 28) | (w15 >>> 36)) & 0x3FFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+26] = ((w15 << 2) | (w16 >>> 62)) & 0x3FFFFFFFFFL;
+        out[op+27] = (w16 >>> 24) & 0x3FFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+28] = ((w16 << 14) | (w17 >>> 50)) & 0x3FFFFFFFFFL;
+        out[op+29] = (w17 >>> 12) & 0x3FFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+30] = ((w17 << 26) | (w18 >>> 38)) & 0x3FFFFFFFFFL;
+        out[op+31] = w18 & 0x3FFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+32] = w19 >>> 26;
+        final long w20 = in[ip+20];
+        out[op+33] = ((w19 << 12) | (w20 >>> 52)) & 0x3FFFFFFFFFL;
+        out[op+34] = (w20 >>> 14) & 0x3FFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+35] = ((w20 << 24) | (w21 >>> 40)) & 0x3FFFFFFFFFL;
+        out[op+36] = (w21 >>> 2) & 0x3FFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+37] = ((w21 << 36) | (w22 >>> 28)) & 0x3FFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+38] = ((w22 << 10) | (w23 >>> 54)) & 0x3FFFFFFFFFL;
+        out[op+39] = (w23 >>> 16) & 0x3FFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+40] = ((w23 << 22) | (w24 >>> 42)) & 0x3FFFFFFFFFL;
+        out[op+41] = (w24 >>> 4) & 0x3FFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+42] = ((w24 << 34) | (w25 >>> 30)) & 0x3FFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+43] = ((w25 << 8) | (w26 >>> 56)) & 0x3FFFFFFFFFL;
+        out[op+44] = (w26 >>> 18) & 0x3FFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+45] = ((w26 << 20) | (w27 >>> 44)) & 0x3FFFFFFFFFL;
+        out[op+46] = (w27 >>> 6) & 0x3FFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+47] = ((w27 << 32) | (w28 >>> 32)) & 0x3FFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+48] = ((w28 << 6) | (w29 >>> 58)) & 0x3FFFFFFFFFL;
+        out[op+49] = (w29 >>> 20) & 0x3FFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+50] = ((w29 << 18) | (w30 >>> 46)) & 0x3FFFFFFFFFL;
+        out[op+51] = (w30 >>> 8) & 0x3FFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+52] = ((w30 << 30) | (w31 >>> 34)) & 0x3FFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+53] = ((w31 << 4) | (w32 >>> 60)) & 0x3FFFFFFFFFL;
+        out[op+54] = (w32 >>> 22) & 0x3FFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+55] = ((w32 << 16) | (w33 >>> 48)) & 0x3FFFFFFFFFL;
+        out[op+56] = (w33 >>> 10) & 0x3FFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+57] = ((w33 << 28) | (w34 >>> 36)) & 0x3FFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+58] = ((w34 << 2) | (w35 >>> 62)) & 0x3FFFFFFFFFL;
+        out[op+59] = (w35 >>> 24) & 0x3FFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+60] = ((w35 << 14) | (w36 >>> 50)) & 0x3FFFFFFFFFL;
+        out[op+61] = (w36 >>> 12) & 0x3FFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+62] = ((w36 << 26) | (w37 >>> 38)) & 0x3FFFFFFFFFL;
+        out[op+63] = w37 & 0x3FFFFFFFFFL;
+    }
+
+    private static void _unpack39(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 25;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 14) | (w1 >>> 50)) & 0x7FFFFFFFFFL;
+        out[op+2] = (w1 >>> 11) & 0x7FFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+3] = ((w1 << 28) | (w2 >>> 36)) & 0x7FFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+4] = ((w2 << 3) | (w3 >>> 61)) & 0x7FFFFFFFFFL;
+        out[op+5] = (w3 >>> 22) & 0x7FFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+6] = ((w3 << 17) | (w4 >>> 47)) & 0x7FFFFFFFFFL;
+        out[op+7] = (w4 >>> 8) & 0x7FFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+8] = ((w4 << 31) | (w5 >>> 33)) & 0x7FFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+9] = ((w5 << 6) | (w6 >>> 58)) & 0x7FFFFFFFFFL;
+        out[op+10] = (w6 >>> 19) & 0x7FFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+11] = ((w6 << 20) | (w7 >>> 44)) & 0x7FFFFFFFFFL;
+        out[op+12] = (w7 >>> 5) & 0x7FFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+13] = ((w7 << 34) | (w8 >>> 30)) & 0x7FFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+14] = ((w8 << 9) | (w9 >>> 55)) & 0x7FFFFFFFFFL;
+        out[op+15] = (w9 >>> 16) & 0x7FFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+16] = ((w9 << 23) | (w10 >>> 41)) & 0x7FFFFFFFFFL;
+        out[op+17] = (w10 >>> 2) & 0x7FFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+18] = ((w10 << 37) | (w11 >>> 27)) & 0x7FFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+19] = ((w11 << 12) | (w12 >>> 52)) & 0x7FFFFFFFFFL;
+        out[op+20] = (w12 >>> 13) & 0x7FFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+21] = ((w12 << 26) | (w13 >>> 38)) & 0x7FFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+22] = ((w13 << 1) | (w14 >>> 63)) & 0x7FFFFFFFFFL;
+        out[op+23] = (w14 >>> 24) & 0x7FFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+24] = ((w14 << 15) | (w15 >>> 49)) & 0x7FFFFFFFFFL;
+        out[op+25] = (w15 >>> 10) & 0x7FFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+26] = ((w15 << 29) | (w16 >>> 35)) & 0x7FFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+27] = ((w16 << 4) | (w17 >>> 60)) & 0x7FFFFFFFFFL;
+        out[op+28] = (w17 >>> 21) & 0x7FFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+29] = ((w17 << 18) | (w18 >>> 46)) & 0x7FFFFFFFFFL;
+        out[op+30] = (w18 >>> 7) & 0x7FFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+31] = ((w18 << 32) | (w19 >>> 32)) & 0x7FFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+32] = ((w19 << 7) | (w20 >>> 57)) & 0x7FFFFFFFFFL;
+        out[op+33] = (w20 >>> 18) & 0x7FFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+34] = ((w20 << 21) | (w21 >>> 43)) & 0x7FFFFFFFFFL;
+        out[op+35] = (w21 >>> 4) & 0x7FFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+36] = ((w21 << 35) | (w22 >>> 29)) & 0x7FFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+37] = ((w22 << 10) | (w23 >>> 54)) & 0x7FFFFFFFFFL;
+        out[op+38] = (w23 >>> 15) & 0x7FFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+39] = ((w23 << 24) | (w24 >>> 40)) & 0x7FFFFFFFFFL;
+        out[op+40] = (w24 >>> 1) & 0x7FFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+41] = ((w24 << 38) | (w25 >>> 26)) & 0x7FFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+42] = ((w25 << 13) | (w26 >>> 51)) & 0x7FFFFFFFFFL;
+        out[op+43] = (w26 >>> 12) & 0x7FFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+44] = ((w26 << 27) | (w27 >>> 37)) & 0x7FFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+45] = ((w27 << 2) | (w28 >>> 62)) & 0x7FFFFFFFFFL;
+        out[op+46] = (w28 >>> 23) & 0x7FFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+47] = ((w28 << 16) | (w29 >>> 48)) & 0x7FFFFFFFFFL;
+        out[op+48] = (w29 >>> 9) & 0x7FFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+49] = ((w29 << 30) | (w30 >>> 34)) & 0x7FFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+50] = ((w30 << 5) | (w31 >>> 59)) & 0x7FFFFFFFFFL;
+        out[op+51] = (w31 >>> 20) & 0x7FFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+52] = ((w31 << 19) | (w32 >>> 45)) & 0x7FFFFFFFFFL;
+        out[op+53] = (w32 >>> 6) & 0x7FFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+54] = ((w32 << 33) | (w33 >>> 31)) & 0x7FFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+55] = ((w33 << 8) | (w34 >>> 56)) & 0x7FFFFFFFFFL;
+        out[op+56] = (w34 >>> 17) & 0x7FFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+57] = ((w34 << 22) | (w35 >>> 42)) & 0x7FFFFFFFFFL;
+        out[op+58] = (w35 >>> 3) & 0x7FFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+59] = ((w35 << 36) | (w36 >>> 28)) & 0x7FFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+60] = ((w36 << 11) | (w37 >>> 53)) & 0x7FFFFFFFFFL;
+        out[op+61] = (w37 >>> 14) & 0x7FFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+62] = ((w37 << 25) | (w38 >>> 39)) & 0x7FFFFFFFFFL;
+        out[op+63] = w38 & 0x7FFFFFFFFFL;
+    }
+
+    private static void _unpack40(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 24;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 16) | (w1 >>> 48)) & 0xFFFFFFFFFFL;
+        out[op+2] = (w1 >>> 8) & 0xFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+3] = ((w1 << 32) | (w2 >>> 32)) & 0xFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+4] = ((w2 << 8) | (w3 >>> 56)) & 0xFFFFFFFFFFL;
+        out[op+5] = (w3 >>> 16) & 0xFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+6] = ((w3 << 24) | (w4 >>> 40)) & 0xFFFFFFFFFFL;
+        out[op+7] = w4 & 0xFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+8] = w5 >>> 24;
+        final long w6 = in[ip+6];
+        out[op+9] = ((w5 << 16) | (w6 >>> 48)) & 0xFFFFFFFFFFL;
+        out[op+10] = (w6 >>> 8) & 0xFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+11] = ((w6 << 32) | (w7 >>> 32)) & 0xFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+12] = ((w7 << 8) | (w8 >>> 56)) & 0xFFFFFFFFFFL;
+        out[op+13] = (w8 >>> 16) & 0xFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+14] = ((w8 << 24) | (w9 >>> 40)) & 0xFFFFFFFFFFL;
+        out[op+15] = w9 & 0xFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+16] = w10 >>> 24;
+        final long w11 = in[ip+11];
+        out[op+17] = ((w10 << 16) | (w11 >>> 48)) & 0xFFFFFFFFFFL;
+        out[op+18] = (w11 >>> 8) & 0xFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+19] = ((w11 << 32) | (w12 >>> 32)) & 0xFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+20] = ((w12 << 8) | (w13 >>> 56)) & 0xFFFFFFFFFFL;
+        out[op+21] = (w13 >>> 16) & 0xFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+22] = ((w13 << 24) | (w14 >>> 40)) & 0xFFFFFFFFFFL;
+        out[op+23] = w14 & 0xFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+24] = w15 >>> 24;
+        final long w16 = in[ip+16];
+        out[op+25] = ((w15 << 16) | (w16 >>> 48)) & 0xFFFFFFFFFFL;
+        out[op+26] = (w16 >>> 8) & 0xFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+27] = ((w16 << 32) | (w17 >>> 32)) & 0xFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+28] = ((w17 << 8) | (w18 >>> 56)) & 0xFFFFFFFFFFL;
+        out[op+29] = (w18 >>> 16) & 0xFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+30] = ((w18 << 24) | (w19 >>> 40)) & 0xFFFFFFFFFFL;
+        out[op+31] = w19 & 0xFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+32] = w20 >>> 24;
+        final long w21 = in[ip+21];
+        out[op+33] = ((w20 << 16) | (w21 >>> 48)) & 0xFFFFFFFFFFL;
+        out[op+34] = (w21 >>> 8) & 0xFFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+35] = ((w21 << 32) | (w22 >>> 32)) & 0xFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+36] = ((w22 << 8) | (w23 >>> 56)) & 0xFFFFFFFFFFL;
+        out[op+37] = (w23 >>> 16) & 0xFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+38] = ((w23 << 24) | (w24 >>> 40)) & 0xFFFFFFFFFFL;
+        out[op+39] = w24 & 0xFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+40] = w25 >>> 24;
+        final long w26 = in[ip+26];
+        out[op+41] = ((w25 << 16) | (w26 >>> 48)) & 0xFFFFFFFFFFL;
+        out[op+42] = (w26 >>> 8) & 0xFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+43] = ((w26 << 32) | (w27 >>> 32)) & 0xFFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+44] = ((w27 << 8) | (w28 >>> 56)) & 0xFFFFFFFFFFL;
+        out[op+45] = (w28 >>> 16) & 0xFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+46] = ((w28 << 24) | (w29 >>> 40)) & 0xFFFFFFFFFFL;
+        out[op+47] = w29 & 0xFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+48] = w30 >>> 24;
+        final long w31 = in[ip+31];
+        out[op+49] = ((w30 << 16) | (w31 >>> 48)) & 0xFFFFFFFFFFL;
+        out[op+50] = (w31 >>> 8) & 0xFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+51] = ((w31 << 32) | (w32 >>> 32)) & 0xFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+52] = ((w32 << 8) | (w33 >>> 56)) & 0xFFFFFFFFFFL;
+        out[op+53] = (w33 >>> 16) & 0xFFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+54] = ((w33 << 24) | (w34 >>> 40)) & 0xFFFFFFFFFFL;
+        out[op+55] = w34 & 0xFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+56] = w35 >>> 24;
+        final long w36 = in[ip+36];
+        out[op+57] = ((w35 << 16) | (w36 >>> 48)) & 0xFFFFFFFFFFL;
+        out[op+58] = (w36 >>> 8) & 0xFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+59] = ((w36 << 32) | (w37 >>> 32)) & 0xFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+60] = ((w37 << 8) | (w38 >>> 56)) & 0xFFFFFFFFFFL;
+        out[op+61] = (w38 >>> 16) & 0xFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+62] = ((w38 << 24) | (w39 >>> 40)) & 0xFFFFFFFFFFL;
+        out[op+63] = w39 & 0xFFFFFFFFFFL;
+    }
+
+    private static void _unpack41(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 23;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 18) | (w1 >>> 46)) & 0x1FFFFFFFFFFL;
+        out[op+2] = (w1 >>> 5) & 0x1FFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+3] = ((w1 << 36) | (w2 >>> 28)) & 0x1FFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+4] = ((w2 << 13) | (w3 >>> 51)) & 0x1FFFFFFFFFFL;
+        out[op+5] = (w3 >>> 10) & 0x1FFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+6] = ((w3 << 31) | (w4 >>> 33)) & 0x1FFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+7] = ((w4 << 8) | (w5 >>> 56)) & 0x1FFFFFFFFFFL;
+        out[op+8] = (w5 >>> 15) & 0x1FFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+9] = ((w5 << 26) | (w6 >>> 38)) & 0x1FFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+10] = ((w6 << 3) | (w7 >>> 61)) & 0x1FFFFFFFFFFL;
+        out[op+11] = (w7 >>> 20) & 0x1FFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+12] = ((w7 << 21) | (w8 >>> 43)) & 0x1FFFFFFFFFFL;
+        out[op+13] = (w8 >>> 2) & 0x1FFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+14] = ((w8 << 39) | (w9 >>> 25)) & 0x1FFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+15] = ((w9 << 16) | (w10 >>> 48)) & 0x1FFFFFFFFFFL;
+        out[op+16] = (w10 >>> 7) & 0x1FFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+17] = ((w10 << 34) | (w11 >>> 30)) & 0x1FFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+18] = ((w11 << 11) | (w12 >>> 53)) & 0x1FFFFFFFFFFL;
+        out[op+19] = (w12 >>> 12) & 0x1FFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+20] = ((w12 << 29) | (w13 >>> 35)) & 0x1FFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+21] = ((w13 << 6) | (w14 >>> 58)) & 0x1FFFFFFFFFFL;
+        out[op+22] = (w14 >>> 17) & 0x1FFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+23] = ((w14 << 24) | (w15 >>> 40)) & 0x1FFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+24] = ((w15 << 1) | (w16 >>> 63)) & 0x1FFFFFFFFFFL;
+        out[op+25] = (w16 >>> 22) & 0x1FFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+26] = ((w16 << 19) | (w17 >>> 45)) & 0x1FFFFFFFFFFL;
+        out[op+27] = (w17 >>> 4) & 0x1FFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+28] = ((w17 << 37) | (w18 >>> 27)) & 0x1FFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+29] = ((w18 << 14) | (w19 >>> 50)) & 0x1FFFFFFFFFFL;
+        out[op+30] = (w19 >>> 9) & 0x1FFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+31] = ((w19 << 32) | (w20 >>> 32)) & 0x1FFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+32] = ((w20 << 9) | (w21 >>> 55)) & 0x1FFFFFFFFFFL;
+        out[op+33] = (w21 >>> 14) & 0x1FFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+34] = ((w21 << 27) | (w22 >>> 37)) & 0x1FFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+35] = ((w22 << 4) | (w23 >>> 60)) & 0x1FFFFFFFFFFL;
+        out[op+36] = (w23 >>> 19) & 0x1FFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+37] = ((w23 << 22) | (w24 >>> 42)) & 0x1FFFFFFFFFFL;
+        out[op+38] = (w24 >>> 1) & 0x1FFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+39] = ((w24 << 40) | (w25 >>> 24)) & 0x1FFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+40] = ((w25 << 17) | (w26 >>> 47)) & 0x1FFFFFFFFFFL;
+        out[op+41] = (w26 >>> 6) & 0x1FFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+42] = ((w26 << 35) | (w27 >>> 29)) & 0x1FFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+43] = ((w27 << 12) | (w28 >>> 52)) & 0x1FFFFFFFFFFL;
+        out[op+44] = (w28 >>> 11) & 0x1FFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+45] = ((w28 << 30) | (w29 >>> 34)) & 0x1FFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+46] = ((w29 << 7) | (w30 >>> 57)) & 0x1FFFFFFFFFFL;
+        out[op+47] = (w30 >>> 16) & 0x1FFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+48] = ((w30 << 25) | (w31 >>> 39)) & 0x1FFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+49] = ((w31 << 2) | (w32 >>> 62)) & 0x1FFFFFFFFFFL;
+        out[op+50] = (w32 >>> 21) & 0x1FFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+51] = ((w32 << 20) | (w33 >>> 44)) & 0x1FFFFFFFFFFL;
+        out[op+52] = (w33 >>> 3) & 0x1FFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+53] = ((w33 << 38) | (w34 >>> 26)) & 0x1FFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+54] = ((w34 << 15) | (w35 >>> 49)) & 0x1FFFFFFFFFFL;
+        out[op+55] = (w35 >>> 8) & 0x1FFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+56] = ((w35 << 33) | (w36 >>> 31)) & 0x1FFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+57] = ((w36 << 10) | (w37 >>> 54)) & 0x1FFFFFFFFFFL;
+        out[op+58] = (w37 >>> 13) & 0x1FFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+59] = ((w37 << 28) | (w38 >>> 36)) & 0x1FFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+60] = ((w38 << 5) | (w39 >>> 59)) & 0x1FFFFFFFFFFL;
+        out[op+61] = (w39 >>> 18) & 0x1FFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+62] = ((w39 << 23) | (w40 >>> 41)) & 0x1FFFFFFFFFFL;
+        out[op+63] = w40 & 0x1FFFFFFFFFFL;
+    }
+
+    private static void _unpack42(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 22;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 20) | (w1 >>> 44)) & 0x3FFFFFFFFFFL;
+        out[op+2] = (w1 >>> 2) & 0x3FFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+3] = ((w1 << 40) | (w2 >>> 24)) & 0x3FFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+4] = ((w2 << 18) | (w3 >>> 46)) & 0x3FFFFFFFFFFL;
+        out[op+5] = (w3 >>> 4) & 0x3FFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+6] = ((w3 << 38) | (w4 >>> 26)) & 0x3FFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+7] = ((w4 << 16) | (w5 >>> 48)) & 0x3FFFFFFFFFFL;
+        out[op+8] = (w5 >>> 6) & 0x3FFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+9] = ((w5 << 36) | (w6 >>> 28)) & 0x3FFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+10] = ((w6 << 14) | (w7 >>> 50)) & 0x3FFFFFFFFFFL;
+        out[op+11] = (w7 >>> 8) & 0x3FFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+12] = ((w7 << 34) | (w8 >>> 30)) & 0x3FFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+13] = ((w8 << 12) | (w9 >>> 52)) & 0x3FFFFFFFFFFL;
+        out[op+14] = (w9 >>> 10) & 0x3FFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+15] = ((w9 << 32) | (w10 >>> 32)) & 0x3FFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+16] = ((w10 << 10) | (w11 >>> 54)) & 0x3FFFFFFFFFFL;
+        out[op+17] = (w11 >>> 12) & 0x3FFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+18] = ((w11 << 30) | (w12 >>> 34)) & 0x3FFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+19] = ((w12 << 8) | (w13 >>> 56)) & 0x3FFFFFFFFFFL;
+        out[op+20] = (w13 >>> 14) & 0x3FFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+21] = ((w13 << 28) | (w14 >>> 36)) & 0x3FFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+22] = ((w14 << 6) | (w15 >>> 58)) & 0x3FFFFFFFFFFL;
+        out[op+23] = (w15 >>> 16) & 0x3FFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+24] = ((w15 << 26) | (w16 >>> 38)) & 0x3FFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+25] = ((w16 << 4) | (w17 >>> 60)) & 0x3FFFFFFFFFFL;
+        out[op+26] = (w17 >>> 18) & 0x3FFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+27] = ((w17 << 24) | (w18 >>> 40)) & 0x3FFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+28] = ((w18 << 2) | (w19 >>> 62)) & 0x3FFFFFFFFFFL;
+        out[op+29] = (w19 >>> 20) & 0x3FFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+30] = ((w19 << 22) | (w20 >>> 42)) & 0x3FFFFFFFFFFL;
+        out[op+31] = w20 & 0x3FFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+32] = w21 >>> 22;
+        final long w22 = in[ip+22];
+        out[op+33] = ((w21 << 20) | (w22 >>> 44)) & 0x3FFFFFFFFFFL;
+        out[op+34] = (w22 >>> 2) & 0x3FFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+35] = ((w22 << 40) | (w23 >>> 24)) & 0x3FFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+36] = ((w23 << 18) | (w24 >>> 46)) & 0x3FFFFFFFFFFL;
+        out[op+37] = (w24 >>> 4) & 0x3FFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+38] = ((w24 << 38) | (w25 >>> 26)) & 0x3FFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+39] = ((w25 << 16) | (w26 >>> 48)) & 0x3FFFFFFFFFFL;
+        out[op+40] = (w26 >>> 6) & 0x3FFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+41] = ((w26 << 36) | (w27 >>> 28)) & 0x3FFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+42] = ((w27 << 14) | (w28 >>> 50)) & 0x3FFFFFFFFFFL;
+        out[op+43] = (w28 >>> 8) & 0x3FFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+44] = ((w28 << 34) | (w29 >>> 30)) & 0x3FFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+45] = ((w29 << 12) | (w30 >>> 52)) & 0x3FFFFFFFFFFL;
+        out[op+46] = (w30 >>> 10) & 0x3FFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+47] = ((w30 << 32) | (w31 >>> 32)) & 0x3FFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+48] = ((w31 << 10) | (w32 >>> 54)) & 0x3FFFFFFFFFFL;
+        out[op+49] = (w32 >>> 12) & 0x3FFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+50] = ((w32 << 30) | (w33 >>> 34)) & 0x3FFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+51] = ((w33 << 8) | (w34 >>> 56)) & 0x3FFFFFFFFFFL;
+        out[op+52] = (w34 >>> 14) & 0x3FFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+53] = ((w34 << 28) | (w35 >>> 36)) & 0x3FFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+54] = ((w35 << 6) | (w36 >>> 58)) & 0x3FFFFFFFFFFL;
+        out[op+55] = (w36 >>> 16) & 0x3FFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+56] = ((w36 << 26) | (w37 >>> 38)) & 0x3FFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+57] = ((w37 << 4) | (w38 >>> 60)) & 0x3FFFFFFFFFFL;
+        out[op+58] = (w38 >>> 18) & 0x3FFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+59] = ((w38 << 24) | (w39 >>> 40)) & 0x3FFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+60] = ((w39 << 2) | (w40 >>> 62)) & 0x3FFFFFFFFFFL;
+        out[op+61] = (w40 >>> 20) & 0x3FFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+62] = ((w40 << 22) | (w41 >>> 42)) & 0x3FFFFFFFFFFL;
+        out[op+63] = w41 & 0x3FFFFFFFFFFL;
+    }
+
+    private static void _unpack43(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 21;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 22) | (w1 >>> 42)) & 0x7FFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 1) | (w2 >>> 63)) & 0x7FFFFFFFFFFL;
+        out[op+3] = (w2 >>> 20) & 0x7FFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+4] = ((w2 << 23) | (w3 >>> 41)) & 0x7FFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+5] = ((w3 << 2) | (w4 >>> 62)) & 0x7FFFFFFFFFFL;
+        out[op+6] = (w4 >>> 19) & 0x7FFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+7] = ((w4 << 24) | (w5 >>> 40)) & 0x7FFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+8] = ((w5 << 3) | (w6 >>> 61)) & 0x7FFFFFFFFFFL;
+        out[op+9] = (w6 >>> 18) & 0x7FFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+10] = ((w6 << 25) | (w7 >>> 39)) & 0x7FFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+11] = ((w7 << 4) | (w8 >>> 60)) & 0x7FFFFFFFFFFL;
+        out[op+12] = (w8 >>> 17) & 0x7FFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+13] = ((w8 << 26) | (w9 >>> 38)) & 0x7FFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+14] = ((w9 << 5) | (w10 >>> 59)) & 0x7FFFFFFFFFFL;
+        out[op+15] = (w10 >>> 16) & 0x7FFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+16] = ((w10 << 27) | (w11 >>> 37)) & 0x7FFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+17] = ((w11 << 6) | (w12 >>> 58)) & 0x7FFFFFFFFFFL;
+        out[op+18] = (w12 >>> 15) & 0x7FFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+19] = ((w12 << 28) | (w13 >>> 36)) & 0x7FFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+20] = ((w13 << 7) | (w14 >>> 57)) & 0x7FFFFFFFFFFL;
+        out[op+21] = (w14 >>> 14) & 0x7FFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+22] = ((w14 << 29) | (w15 >>> 35)) & 0x7FFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+23] = ((w15 << 8) | (w16 >>> 56)) & 0x7FFFFFFFFFFL;
+        out[op+24] = (w16 >>> 13) & 0x7FFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+25] = ((w16 << 30) | (w17 >>> 34)) & 0x7FFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+26] = ((w17 << 9) | (w18 >>> 55)) & 0x7FFFFFFFFFFL;
+        out[op+27] = (w18 >>> 12) & 0x7FFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+28] = ((w18 << 31) | (w19 >>> 33)) & 0x7FFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+29] = ((w19 << 10) | (w20 >>> 54)) & 0x7FFFFFFFFFFL;
+        out[op+30] = (w20 >>> 11) & 0x7FFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+31] = ((w20 << 32) | (w21 >>> 32)) & 0x7FFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+32] = ((w21 << 11) | (w22 >>> 53)) & 0x7FFFFFFFFFFL;
+        out[op+33] = (w22 >>> 10) & 0x7FFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+34] = ((w22 << 33) | (w23 >>> 31)) & 0x7FFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+35] = ((w23 << 12) | (w24 >>> 52)) & 0x7FFFFFFFFFFL;
+        out[op+36] = (w24 >>> 9) & 0x7FFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+37] = ((w24 << 34) | (w25 >>> 30)) & 0x7FFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+38] = ((w25 << 13) | (w26 >>> 51)) & 0x7FFFFFFFFFFL;
+        out[op+39] = (w26 >>> 8) & 0x7FFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+40] = ((w26 << 35) | (w27 >>> 29)) & 0x7FFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+41] = ((w27 << 14) | (w28 >>> 50)) & 0x7FFFFFFFFFFL;
+        out[op+42] = (w28 >>> 7) & 0x7FFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+43] = ((w28 << 36) | (w29 >>> 28)) & 0x7FFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+44] = ((w29 << 15) | (w30 >>> 49)) & 0x7FFFFFFFFFFL;
+        out[op+45] = (w30 >>> 6) & 0x7FFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+46] = ((w30 << 37) | (w31 >>> 27)) & 0x7FFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+47] = ((w31 << 16) | (w32 >>> 48)) & 0x7FFFFFFFFFFL;
+        out[op+48] = (w32 >>> 5) & 0x7FFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+49] = ((w32 << 38) | (w33 >>> 26)) & 0x7FFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+50] = ((w33 << 17) | (w34 >>> 47)) & 0x7FFFFFFFFFFL;
+        out[op+51] = (w34 >>> 4) & 0x7FFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+52] = ((w34 << 39) | (w35 >>> 25)) & 0x7FFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+53] = ((w35 << 18) | (w36 >>> 46)) & 0x7FFFFFFFFFFL;
+        out[op+54] = (w36 >>> 3) & 0x7FFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+55] = ((w36 << 40) | (w37 >>> 24)) & 0x7FFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+56] = ((w37 << 19) | (w38 >>> 45)) & 0x7FFFFFFFFFFL;
+        out[op+57] = (w38 >>> 2) & 0x7FFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+58] = ((w38 << 41) | (w39 >>> 23)) & 0x7FFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+59] = ((w39 << 20) | (w40 >>> 44)) & 0x7FFFFFFFFFFL;
+        out[op+60] = (w40 >>> 1) & 0x7FFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+61] = ((w40 << 42) | (w41 >>> 22)) & 0x7FFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+62] = ((w41 << 21) | (w42 >>> 43)) & 0x7FFFFFFFFFFL;
+        out[op+63] = w42 & 0x7FFFFFFFFFFL;
+    }
+
+    private static void _unpack44(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 20;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 24) | (w1 >>> 40)) & 0xFFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 4) | (w2 >>> 60)) & 0xFFFFFFFFFFFL;
+        out[op+3] = (w2 >>> 16) & 0xFFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+4] = ((w2 << 28) | (w3 >>> 36)) & 0xFFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+5] = ((w3 << 8) | (w4 >>> 56)) & 0xFFFFFFFFFFFL;
+        out[op+6] = (w4 >>> 12) & 0xFFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+7] = ((w4 << 32) | (w5 >>> 32)) & 0xFFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+8] = ((w5 << 12) | (w6 >>> 52)) & 0xFFFFFFFFFFFL;
+        out[op+9] = (w6 >>> 8) & 0xFFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+10] = ((w6 << 36) | (w7 >>> 28)) & 0xFFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+11] = ((w7 << 16) | (w8 >>> 48)) & 0xFFFFFFFFFFFL;
+        out[op+12] = (w8 >>> 4) & 0xFFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+13] = ((w8 << 40) | (w9 >>> 24)) & 0xFFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+14] = ((w9 << 20) | (w10 >>> 44)) & 0xFFFFFFFFFFFL;
+        out[op+15] = w10 & 0xFFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+16] = w11 >>> 20;
+        final long w12 = in[ip+12];
+        out[op+17] = ((w11 << 24) | (w12 >>> 40)) & 0xFFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+18] = ((w12 << 4) | (w13 >>> 60)) & 0xFFFFFFFFFFFL;
+        out[op+19] = (w13 >>> 16) & 0xFFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+20] = ((w13 << 28) | (w14 >>> 36)) & 0xFFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+21] = ((w14 << 8) | (w15 >>> 56)) & 0xFFFFFFFFFFFL;
+        out[op+22] = (w15 >>> 12) & 0xFFFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+23] = ((w15 << 32) | (w16 >>> 32)) & 0xFFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+24] = ((w16 << 12) | (w17 >>> 52)) & 0xFFFFFFFFFFFL;
+        out[op+25] = (w17 >>> 8) & 0xFFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+26] = ((w17 << 36) | (w18 >>> 28)) & 0xFFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+27] = ((w18 << 16) | (w19 >>> 48)) & 0xFFFFFFFFFFFL;
+        out[op+28] = (w19 >>> 4) & 0xFFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+29] = ((w19 << 40) | (w20 >>> 24)) & 0xFFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+30] = ((w20 << 20) | (w21 >>> 44)) & 0xFFFFFFFFFFFL;
+        out[op+31] = w21 & 0xFFFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+32] = w22 >>> 20;
+        final long w23 = in[ip+23];
+        out[op+33] = ((w22 << 24) | (w23 >>> 40)) & 0xFFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+34] = ((w23 << 4) | (w24 >>> 60)) & 0xFFFFFFFFFFFL;
+        out[op+35] = (w24 >>> 16) & 0xFFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+36] = ((w24 << 28) | (w25 >>> 36)) & 0xFFFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+37] = ((w25 << 8) | (w26 >>> 56)) & 0xFFFFFFFFFFFL;
+        out[op+38] = (w26 >>> 12) & 0xFFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+39] = ((w26 << 32) | (w27 >>> 32)) & 0xFFFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+40] = ((w27 << 12) | (w28 >>> 52)) & 0xFFFFFFFFFFFL;
+        out[op+41] = (w28 >>> 8) & 0xFFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+42] = ((w28 << 36) | (w29 >>> 28)) & 0xFFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+43] = ((w29 << 16) | (w30 >>> 48)) & 0xFFFFFFFFFFFL;
+        out[op+44] = (w30 >>> 4) & 0xFFFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+45] = ((w30 << 40) | (w31 >>> 24)) & 0xFFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+46] = ((w31 << 20) | (w32 >>> 44)) & 0xFFFFFFFFFFFL;
+        out[op+47] = w32 & 0xFFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+48] = w33 >>> 20;
+        final long w34 = in[ip+34];
+        out[op+49] = ((w33 << 24) | (w34 >>> 40)) & 0xFFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+50] = ((w34 << 4) | (w35 >>> 60)) & 0xFFFFFFFFFFFL;
+        out[op+51] = (w35 >>> 16) & 0xFFFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+52] = ((w35 << 28) | (w36 >>> 36)) & 0xFFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+53] = ((w36 << 8) | (w37 >>> 56)) & 0xFFFFFFFFFFFL;
+        out[op+54] = (w37 >>> 12) & 0xFFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+55] = ((w37 << 32) | (w38 >>> 32)) & 0xFFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+56] = ((w38 << 12) | (w39 >>> 52)) & 0xFFFFFFFFFFFL;
+        out[op+57] = (w39 >>> 8) & 0xFFFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+58] = ((w39 << 36) | (w40 >>> 28)) & 0xFFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+59] = ((w40 << 16) | (w41 >>> 48)) & 0xFFFFFFFFFFFL;
+        out[op+60] = (w41 >>> 4) & 0xFFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+61] = ((w41 << 40) | (w42 >>> 24)) & 0xFFFFFFFFFFFL;
+        final long w43 = in[ip+43];
+        out[op+62] = ((w42 << 20) | (w43 >>> 44)) & 0xFFFFFFFFFFFL;
+        out[op+63] = w43 & 0xFFFFFFFFFFFL;
+    }
+
+    private static void _unpack45(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 19;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 26) | (w1 >>> 38)) & 0x1FFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 7) | (w2 >>> 57)) & 0x1FFFFFFFFFFFL;
+        out[op+3] = (w2 >>> 12) & 0x1FFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+4] = ((w2 << 33) | (w3 >>> 31)) & 0x1FFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+5] = ((w3 << 14) | (w4 >>> 50)) & 0x1FFFFFFFFFFFL;
+        out[op+6] = (w4 >>> 5) & 0x1FFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+7] = ((w4 << 40) | (w5 >>> 24)) & 0x1FFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+8] = ((w5 << 21) | (w6 >>> 43)) & 0x1FFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+9] = ((w6 << 2) | (w7 >>> 62)) & 0x1FFFFFFFFFFFL;
+        out[op+10] = (w7 >>> 17) & 0x1FFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+11] = ((w7 << 28) | (w8 >>> 36)) & 0x1FFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+12] = ((w8 << 9) | (w9 >>> 55)) & 0x1FFFFFFFFFFFL;
+        out[op+13] = (w9 >>> 10) & 0x1FFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+14] = ((w9 << 35) | (w10 >>> 29)) & 0x1FFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+15] = ((w10 << 16) | (w11 >>> 48)) & 0x1FFFFFFFFFFFL;
+        out[op+16] = (w11 >>> 3) & 0x1FFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+17] = ((w11 << 42) | (w12 >>> 22)) & 0x1FFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+18] = ((w12 << 23) | (w13 >>> 41)) & 0x1FFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+19] = ((w13 << 4) | (w14 >>> 60)) & 0x1FFFFFFFFFFFL;
+        out[op+20] = (w14 >>> 15) & 0x1FFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+21] = ((w14 << 30) | (w15 >>> 34)) & 0x1FFFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+22] = ((w15 << 11) | (w16 >>> 53)) & 0x1FFFFFFFFFFFL;
+        out[op+23] = (w16 >>> 8) & 0x1FFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+24] = ((w16 << 37) | (w17 >>> 27)) & 0x1FFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+25] = ((w17 << 18) | (w18 >>> 46)) & 0x1FFFFFFFFFFFL;
+        out[op+26] = (w18 >>> 1) & 0x1FFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+27] = ((w18 << 44) | (w19 >>> 20)) & 0x1FFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+28] = ((w19 << 25) | (w20 >>> 39)) & 0x1FFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+29] = ((w20 << 6) | (w21 >>> 58)) & 0x1FFFFFFFFFFFL;
+        out[op+30] = (w21 >>> 13) & 0x1FFFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+31] = ((w21 << 32) | (w22 >>> 32)) & 0x1FFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+32] = ((w22 << 13) | (w23 >>> 51)) & 0x1FFFFFFFFFFFL;
+        out[op+33] = (w23 >>> 6) & 0x1FFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+34] = ((w23 << 39) | (w24 >>> 25)) & 0x1FFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+35] = ((w24 << 20) | (w25 >>> 44)) & 0x1FFFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+36] = ((w25 << 1) | (w26 >>> 63)) & 0x1FFFFFFFFFFFL;
+        out[op+37] = (w26 >>> 18) & 0x1FFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+38] = ((w26 << 27) | (w27 >>> 37)) & 0x1FFFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+39] = ((w27 << 8) | (w28 >>> 56)) & 0x1FFFFFFFFFFFL;
+        out[op+40] = (w28 >>> 11) & 0x1FFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+41] = ((w28 << 34) | (w29 >>> 30)) & 0x1FFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+42] = ((w29 << 15) | (w30 >>> 49)) & 0x1FFFFFFFFFFFL;
+        out[op+43] = (w30 >>> 4) & 0x1FFFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+44] = ((w30 << 41) | (w31 >>> 23)) & 0x1FFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+45] = ((w31 << 22) | (w32 >>> 42)) & 0x1FFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+46] = ((w32 << 3) | (w33 >>> 61)) & 0x1FFFFFFFFFFFL;
+        out[op+47] = (w33 >>> 16) & 0x1FFFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+48] = ((w33 << 29) | (w34 >>> 35)) & 0x1FFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+49] = ((w34 << 10) | (w35 >>> 54)) & 0x1FFFFFFFFFFFL;
+        out[op+50] = (w35 >>> 9) & 0x1FFFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+51] = ((w35 << 36) | (w36 >>> 28)) & 0x1FFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+52] = ((w36 << 17) | (w37 >>> 47)) & 0x1FFFFFFFFFFFL;
+        out[op+53] = (w37 >>> 2) & 0x1FFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+54] = ((w37 << 43) | (w38 >>> 21)) & 0x1FFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+55] = ((w38 << 24) | (w39 >>> 40)) & 0x1FFFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+56] = ((w39 << 5) | (w40 >>> 59)) & 0x1FFFFFFFFFFFL;
+        out[op+57] = (w40 >>> 14) & 0x1FFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+58] = ((w40 << 31) | (w41 >>> 33)) & 0x1FFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+59] = ((w41 << 12) | (w42 >>> 52)) & 0x1FFFFFFFFFFFL;
+        out[op+60] = (w42 >>> 7) & 0x1FFFFFFFFFFFL;
+        final long w43 = in[ip+43];
+        out[op+61] = ((w42 << 38) | (w43 >>> 26)) & 0x1FFFFFFFFFFFL;
+        final long w44 = in[ip+44];
+        out[op+62] = ((w43 << 19) | (w44 >>> 45)) & 0x1FFFFFFFFFFFL;
+        out[op+63] = w44 & 0x1FFFFFFFFFFFL;
+    }
+
+    private static void _unpack46(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 18;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 28) | (w1 >>> 36)) & 0x3FFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 10) | (w2 >>> 54)) & 0x3FFFFFFFFFFFL;
+        out[op+3] = (w2 >>> 8) & 0x3FFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+4] = ((w2 << 38) | (w3 >>> 26)) & 0x3FFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+5] = ((w3 << 20) | (w4 >>> 44)) & 0x3FFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+6] = ((w4 << 2) | (w5 >>> 62)) & 0x3FFFFFFFFFFFL;
+        out[op+7] = (w5 >>> 16) & 0x3FFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+8] = ((w5 << 30) | (w6 >>> 34)) & 0x3FFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+9] = ((w6 << 12) | (w7 >>> 52)) & 0x3FFFFFFFFFFFL;
+        out[op+10] = (w7 >>> 6) & 0x3FFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+11] = ((w7 << 40) | (w8 >>> 24)) & 0x3FFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+12] = ((w8 << 22) | (w9 >>> 42)) & 0x3FFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+13] = ((w9 << 4) | (w10 >>> 60)) & 0x3FFFFFFFFFFFL;
+        out[op+14] = (w10 >>> 14) & 0x3FFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+15] = ((w10 << 32) | (w11 >>> 32)) & 0x3FFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+16] = ((w11 << 14) | (w12 >>> 50)) & 0x3FFFFFFFFFFFL;
+        out[op+17] = (w12 >>> 4) & 0x3FFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+18] = ((w12 << 42) | (w13 >>> 22)) & 0x3FFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+19] = ((w13 << 24) | (w14 >>> 40)) & 0x3FFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+20] = ((w14 << 6) | (w15 >>> 58)) & 0x3FFFFFFFFFFFL;
+        out[op+21] = (w15 >>> 12) & 0x3FFFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+22] = ((w15 << 34) | (w16 >>> 30)) & 0x3FFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+23] = ((w16 << 16) | (w17 >>> 48)) & 0x3FFFFFFFFFFFL;
+        out[op+24] = (w17 >>> 2) & 0x3FFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+25] = ((w17 << 44) | (w18 >>> 20)) & 0x3FFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+26] = ((w18 << 26) | (w19 >>> 38)) & 0x3FFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+27] = ((w19 << 8) | (w20 >>> 56)) & 0x3FFFFFFFFFFFL;
+        out[op+28] = (w20 >>> 10) & 0x3FFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+29] = ((w20 << 36) | (w21 >>> 28)) & 0x3FFFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+30] = ((w21 << 18) | (w22 >>> 46)) & 0x3FFFFFFFFFFFL;
+        out[op+31] = w22 & 0x3FFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+32] = w23 >>> 18;
+        final long w24 = in[ip+24];
+        out[op+33] = ((w23 << 28) | (w24 >>> 36)) & 0x3FFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+34] = ((w24 << 10) | (w25 >>> 54)) & 0x3FFFFFFFFFFFL;
+        out[op+35] = (w25 >>> 8) & 0x3FFFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+36] = ((w25 << 38) | (w26 >>> 26)) & 0x3FFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+37] = ((w26 << 20) | (w27 >>> 44)) & 0x3FFFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+38] = ((w27 << 2) | (w28 >>> 62)) & 0x3FFFFFFFFFFFL;
+        out[op+39] = (w28 >>> 16) & 0x3FFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+40] = ((w28 << 30) | (w29 >>> 34)) & 0x3FFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+41] = ((w29 << 12) | (w30 >>> 52)) & 0x3FFFFFFFFFFFL;
+        out[op+42] = (w30 >>> 6) & 0x3FFFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+43] = ((w30 << 40) | (w31 >>> 24)) & 0x3FFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+44] = ((w31 << 22) | (w32 >>> 42)) & 0x3FFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+45] = ((w32 << 4) | (w33 >>> 60)) & 0x3FFFFFFFFFFFL;
+        out[op+46] = (w33 >>> 14) & 0x3FFFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+47] = ((w33 << 32) | (w34 >>> 32)) & 0x3FFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+48] = ((w34 << 14) | (w35 >>> 50)) & 0x3FFFFFFFFFFFL;
+        out[op+49] = (w35 >>> 4) & 0x3FFFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+50] = ((w35 << 42) | (w36 >>> 22)) & 0x3FFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+51] = ((w36 << 24) | (w37 >>> 40)) & 0x3FFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+52] = ((w37 << 6) | (w38 >>> 58)) & 0x3FFFFFFFFFFFL;
+        out[op+53] = (w38 >>> 12) & 0x3FFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+54] = ((w38 << 34) | (w39 >>> 30)) & 0x3FFFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+55] = ((w39 << 16) | (w40 >>> 48)) & 0x3FFFFFFFFFFFL;
+        out[op+56] = (w40 >>> 2) & 0x3FFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+57] = ((w40 << 44) | (w41 >>> 20)) & 0x3FFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+58] = ((w41 << 26) | (w42 >>> 38)) & 0x3FFFFFFFFFFFL;
+        final long w43 = in[ip+43];
+        out[op+59] = ((w42 << 8) | (w43 >>> 56)) & 0x3FFFFFFFFFFFL;
+        out[op+60] = (w43 >>> 10) & 0x3FFFFFFFFFFFL;
+        final long w44 = in[ip+44];
+        out[op+61] = ((w43 << 36) | (w44 >>> 28)) & 0x3FFFFFFFFFFFL;
+        final long w45 = in[ip+45];
+        out[op+62] = ((w44 << 18) | (w45 >>> 46)) & 0x3FFFFFFFFFFFL;
+        out[op+63] = w45 & 0x3FFFFFFFFFFFL;
+    }
+
+    private static void _unpack47(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 17;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 30) | (w1 >>> 34)) & 0x7FFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 13) | (w2 >>> 51)) & 0x7FFFFFFFFFFFL;
+        out[op+3] = (w2 >>> 4) & 0x7FFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+4] = ((w2 << 43) | (w3 >>> 21)) & 0x7FFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+5] = ((w3 << 26) | (w4 >>> 38)) & 0x7FFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+6] = ((w4 << 9) | (w5 >>> 55)) & 0x7FFFFFFFFFFFL;
+        out[op+7] = (w5 >>> 8) & 0x7FFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+8] = ((w5 << 39) | (w6 >>> 25)) & 0x7FFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+9] = ((w6 << 22) | (w7 >>> 42)) & 0x7FFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+10] = ((w7 << 5) | (w8 >>> 59)) & 0x7FFFFFFFFFFFL;
+        out[op+11] = (w8 >>> 12) & 0x7FFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+12] = ((w8 << 35) | (w9 >>> 29)) & 0x7FFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+13] = ((w9 << 18) | (w10 >>> 46)) & 0x7FFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+14] = ((w10 << 1) | (w11 >>> 63)) & 0x7FFFFFFFFFFFL;
+        out[op+15] = (w11 >>> 16) & 0x7FFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+16] = ((w11 << 31) | (w12 >>> 33)) & 0x7FFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+17] = ((w12 << 14) | (w13 >>> 50)) & 0x7FFFFFFFFFFFL;
+        out[op+18] = (w13 >>> 3) & 0x7FFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+19] = ((w13 << 44) | (w14 >>> 20)) & 0x7FFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+20] = ((w14 << 27) | (w15 >>> 37)) & 0x7FFFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+21] = ((w15 << 10) | (w16 >>> 54)) & 0x7FFFFFFFFFFFL;
+        out[op+22] = (w16 >>> 7) & 0x7FFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+23] = ((w16 << 40) | (w17 >>> 24)) & 0x7FFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+24] = ((w17 << 23) | (w18 >>> 41)) & 0x7FFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+25] = ((w18 << 6) | (w19 >>> 58)) & 0x7FFFFFFFFFFFL;
+        out[op+26] = (w19 >>> 11) & 0x7FFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+27] = ((w19 << 36) | (w20 >>> 28)) & 0x7FFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+28] = ((w20 << 19) | (w21 >>> 45)) & 0x7FFFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+29] = ((w21 << 2) | (w22 >>> 62)) & 0x7FFFFFFFFFFFL;
+        out[op+30] = (w22 >>> 15) & 0x7FFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+31] = ((w22 << 32) | (w23 >>> 32)) & 0x7FFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+32] = ((w23 << 15) | (w24 >>> 49)) & 0x7FFFFFFFFFFFL;
+        out[op+33] = (w24 >>> 2) & 0x7FFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+34] = ((w24 << 45) | (w25 >>> 19)) & 0x7FFFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+35] = ((w25 << 28) | (w26 >>> 36)) & 0x7FFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+36] = ((w26 << 11) | (w27 >>> 53)) & 0x7FFFFFFFFFFFL;
+        out[op+37] = (w27 >>> 6) & 0x7FFFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+38] = ((w27 << 41) | (w28 >>> 23)) & 0x7FFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+39] = ((w28 << 24) | (w29 >>> 40)) & 0x7FFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+40] = ((w29 << 7) | (w30 >>> 57)) & 0x7FFFFFFFFFFFL;
+        out[op+41] = (w30 >>> 10) & 0x7FFFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+42] = ((w30 << 37) | (w31 >>> 27)) & 0x7FFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+43] = ((w31 << 20) | (w32 >>> 44)) & 0x7FFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+44] = ((w32 << 3) | (w33 >>> 61)) & 0x7FFFFFFFFFFFL;
+        out[op+45] = (w33 >>> 14) & 0x7FFFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+46] = ((w33 << 33) | (w34 >>> 31)) & 0x7FFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+47] = ((w34 << 16) | (w35 >>> 48)) & 0x7FFFFFFFFFFFL;
+        out[op+48] = (w35 >>> 1) & 0x7FFFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+49] = ((w35 << 46) | (w36 >>> 18)) & 0x7FFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+50] = ((w36 << 29) | (w37 >>> 35)) & 0x7FFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+51] = ((w37 << 12) | (w38 >>> 52)) & 0x7FFFFFFFFFFFL;
+        out[op+52] = (w38 >>> 5) & 0x7FFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+53] = ((w38 << 42) | (w39 >>> 22)) & 0x7FFFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+54] = ((w39 << 25) | (w40 >>> 39)) & 0x7FFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+55] = ((w40 << 8) | (w41 >>> 56)) & 0x7FFFFFFFFFFFL;
+        out[op+56] = (w41 >>> 9) & 0x7FFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+57] = ((w41 << 38) | (w42 >>> 26)) & 0x7FFFFFFFFFFFL;
+        final long w43 = in[ip+43];
+        out[op+58] = ((w42 << 21) | (w43 >>> 43)) & 0x7FFFFFFFFFFFL;
+        final long w44 = in[ip+44];
+        out[op+59] = ((w43 << 4) | (w44 >>> 60)) & 0x7FFFFFFFFFFFL;
+        out[op+60] = (w44 >>> 13) & 0x7FFFFFFFFFFFL;
+        final long w45 = in[ip+45];
+        out[op+61] = ((w44 << 34) | (w45 >>> 30)) & 0x7FFFFFFFFFFFL;
+        final long w46 = in[ip+46];
+        out[op+62] = ((w45 << 17) | (w46 >>> 47)) & 0x7FFFFFFFFFFFL;
+        out[op+63] = w46 & 0x7FFFFFFFFFFFL;
+    }
+
+    private static void _unpack48(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 16;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 32) | (w1 >>> 32)) & 0xFFFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 16) | (w2 >>> 48)) & 0xFFFFFFFFFFFFL;
+        out[op+3] = w2 & 0xFFFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+4] = w3 >>> 16;
+        final long w4 = in[ip+4];
+        out[op+5] = ((w3 << 32) | (w4 >>> 32)) & 0xFFFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+6] = ((w4 << 16) | (w5 >>> 48)) & 0xFFFFFFFFFFFFL;
+        out[op+7] = w5 & 0xFFFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+8] = w6 >>> 16;
+        final long w7 = in[ip+7];
+        out[op+9] = ((w6 << 32) | (w7 >>> 32)) & 0xFFFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+10] = ((w7 << 16) | (w8 >>> 48)) & 0xFFFFFFFFFFFFL;
+        out[op+11] = w8 & 0xFFFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+12] = w9 >>> 16;
+        final long w10 = in[ip+10];
+        out[op+13] = ((w9 << 32) | (w10 >>> 32)) & 0xFFFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+14] = ((w10 << 16) | (w11 >>> 48)) & 0xFFFFFFFFFFFFL;
+        out[op+15] = w11 & 0xFFFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+16] = w12 >>> 16;
+        final long w13 = in[ip+13];
+        out[op+17] = ((w12 << 32) | (w13 >>> 32)) & 0xFFFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+18] = ((w13 << 16) | (w14 >>> 48)) & 0xFFFFFFFFFFFFL;
+        out[op+19] = w14 & 0xFFFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+20] = w15 >>> 16;
+        final long w16 = in[ip+16];
+        out[op+21] = ((w15 << 32) | (w16 >>> 32)) & 0xFFFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+22] = ((w16 << 16) | (w17 >>> 48)) & 0xFFFFFFFFFFFFL;
+        out[op+23] = w17 & 0xFFFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+24] = w18 >>> 16;
+        final long w19 = in[ip+19];
+        out[op+25] = ((w18 << 32) | (w19 >>> 32)) & 0xFFFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+26] = ((w19 << 16) | (w20 >>> 48)) & 0xFFFFFFFFFFFFL;
+        out[op+27] = w20 & 0xFFFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+28] = w21 >>> 16;
+        final long w22 = in[ip+22];
+        out[op+29] = ((w21 << 32) | (w22 >>> 32)) & 0xFFFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+30] = ((w22 << 16) | (w23 >>> 48)) & 0xFFFFFFFFFFFFL;
+        out[op+31] = w23 & 0xFFFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+32] = w24 >>> 16;
+        final long w25 = in[ip+25];
+        out[op+33] = ((w24 << 32) | (w25 >>> 32)) & 0xFFFFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+34] = ((w25 << 16) | (w26 >>> 48)) & 0xFFFFFFFFFFFFL;
+        out[op+35] = w26 & 0xFFFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+36] = w27 >>> 16;
+        final long w28 = in[ip+28];
+        out[op+37] = ((w27 << 32) | (w28 >>> 32)) & 0xFFFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+38] = ((w28 << 16) | (w29 >>> 48)) & 0xFFFFFFFFFFFFL;
+        out[op+39] = w29 & 0xFFFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+40] = w30 >>> 16;
+        final long w31 = in[ip+31];
+        out[op+41] = ((w30 << 32) | (w31 >>> 32)) & 0xFFFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+42] = ((w31 << 16) | (w32 >>> 48)) & 0xFFFFFFFFFFFFL;
+        out[op+43] = w32 & 0xFFFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+44] = w33 >>> 16;
+        final long w34 = in[ip+34];
+        out[op+45] = ((w33 << 32) | (w34 >>> 32)) & 0xFFFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+46] = ((w34 << 16) | (w35 >>> 48)) & 0xFFFFFFFFFFFFL;
+        out[op+47] = w35 & 0xFFFFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+48] = w36 >>> 16;
+        final long w37 = in[ip+37];
+        out[op+49] = ((w36 << 32) | (w37 >>> 32)) & 0xFFFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+50] = ((w37 << 16) | (w38 >>> 48)) & 0xFFFFFFFFFFFFL;
+        out[op+51] = w38 & 0xFFFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+52] = w39 >>> 16;
+        final long w40 = in[ip+40];
+        out[op+53] = ((w39 << 32) | (w40 >>> 32)) & 0xFFFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+54] = ((w40 << 16) | (w41 >>> 48)) & 0xFFFFFFFFFFFFL;
+        out[op+55] = w41 & 0xFFFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+56] = w42 >>> 16;
+        final long w43 = in[ip+43];
+        out[op+57] = ((w42 << 32) | (w43 >>> 32)) & 0xFFFFFFFFFFFFL;
+        final long w44 = in[ip+44];
+        out[op+58] = ((w43 << 16) | (w44 >>> 48)) & 0xFFFFFFFFFFFFL;
+        out[op+59] = w44 & 0xFFFFFFFFFFFFL;
+        final long w45 = in[ip+45];
+        out[op+60] = w45 >>> 16;
+        final long w46 = in[ip+46];
+        out[op+61] = ((w45 << 32) | (w46 >>> 32)) & 0xFFFFFFFFFFFFL;
+        final long w47 = in[ip+47];
+        out[op+62] = ((w46 << 16) | (w47 >>> 48)) & 0xFFFFFFFFFFFFL;
+        out[op+63] = w47 & 0xFFFFFFFFFFFFL;
+    }
+
+    private static void _unpack49(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 15;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 34) | (w1 >>> 30)) & 0x1FFFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 19) | (w2 >>> 45)) & 0x1FFFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+3] = ((w2 << 4) | (w3 >>> 60)) & 0x1FFFFFFFFFFFFL;
+        out[op+4] = (w3 >>> 11) & 0x1FFFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+5] = ((w3 << 38) | (w4 >>> 26)) & 0x1FFFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+6] = ((w4 << 23) | (w5 >>> 41)) & 0x1FFFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+7] = ((w5 << 8) | (w6 >>> 56)) & 0x1FFFFFFFFFFFFL;
+        out[op+8] = (w6 >>> 7) & 0x1FFFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+9] = ((w6 << 42) | (w7 >>> 22)) & 0x1FFFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+10] = ((w7 << 27) | (w8 >>> 37)) & 0x1FFFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+11] = ((w8 << 12) | (w9 >>> 52)) & 0x1FFFFFFFFFFFFL;
+        out[op+12] = (w9 >>> 3) & 0x1FFFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+13] = ((w9 << 46) | (w10 >>> 18)) & 0x1FFFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+14] = ((w10 << 31) | (w11 >>> 33)) & 0x1FFFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+15] = ((w11 << 16) | (w12 >>> 48)) & 0x1FFFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+16] = ((w12 << 1) | (w13 >>> 63)) & 0x1FFFFFFFFFFFFL;
+        out[op+17] = (w13 >>> 14) & 0x1FFFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+18] = ((w13 << 35) | (w14 >>> 29)) & 0x1FFFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+19] = ((w14 << 20) | (w15 >>> 44)) & 0x1FFFFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+20] = ((w15 << 5) | (w16 >>> 59)) & 0x1FFFFFFFFFFFFL;
+        out[op+21] = (w16 >>> 10) & 0x1FFFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+22] = ((w16 << 39) | (w17 >>> 25)) & 0x1FFFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+23] = ((w17 << 24) | (w18 >>> 40)) & 0x1FFFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+24] = ((w18 << 9) | (w19 >>> 55)) & 0x1FFFFFFFFFFFFL;
+        out[op+25] = (w19 >>> 6) & 0x1FFFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+26] = ((w19 << 43) | (w20 >>> 21)) & 0x1FFFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+27] = ((w20 << 28) | (w21 >>> 36)) & 0x1FFFFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+28] = ((w21 << 13) | (w22 >>> 51)) & 0x1FFFFFFFFFFFFL;
+        out[op+29] = (w22 >>> 2) & 0x1FFFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+30] = ((w22 << 47) | (w23 >>> 17)) & 0x1FFFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+31] = ((w23 << 32) | (w24 >>> 32)) & 0x1FFFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+32] = ((w24 << 17) | (w25 >>> 47)) & 0x1FFFFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+33] = ((w25 << 2) | (w26 >>> 62)) & 0x1FFFFFFFFFFFFL;
+        out[op+34] = (w26 >>> 13) & 0x1FFFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+35] = ((w26 << 36) | (w27 >>> 28)) & 0x1FFFFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+36] = ((w27 << 21) | (w28 >>> 43)) & 0x1FFFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+37] = ((w28 << 6) | (w29 >>> 58)) & 0x1FFFFFFFFFFFFL;
+        out[op+38] = (w29 >>> 9) & 0x1FFFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+39] = ((w29 << 40) | (w30 >>> 24)) & 0x1FFFFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+40] = ((w30 << 25) | (w31 >>> 39)) & 0x1FFFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+41] = ((w31 << 10) | (w32 >>> 54)) & 0x1FFFFFFFFFFFFL;
+        out[op+42] = (w32 >>> 5) & 0x1FFFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+43] = ((w32 << 44) | (w33 >>> 20)) & 0x1FFFFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+44] = ((w33 << 29) | (w34 >>> 35)) & 0x1FFFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+45] = ((w34 << 14) | (w35 >>> 50)) & 0x1FFFFFFFFFFFFL;
+        out[op+46] = (w35 >>> 1) & 0x1FFFFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+47] = ((w35 << 48) | (w36 >>> 16)) & 0x1FFFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+48] = ((w36 << 33) | (w37 >>> 31)) & 0x1FFFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+49] = ((w37 << 18) | (w38 >>> 46)) & 0x1FFFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+50] = ((w38 << 3) | (w39 >>> 61)) & 0x1FFFFFFFFFFFFL;
+        out[op+51] = (w39 >>> 12) & 0x1FFFFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+52] = ((w39 << 37) | (w40 >>> 27)) & 0x1FFFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+53] = ((w40 << 22) | (w41 >>> 42)) & 0x1FFFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+54] = ((w41 << 7) | (w42 >>> 57)) & 0x1FFFFFFFFFFFFL;
+        out[op+55] = (w42 >>> 8) & 0x1FFFFFFFFFFFFL;
+        final long w43 = in[ip+43];
+        out[op+56] = ((w42 << 41) | (w43 >>> 23)) & 0x1FFFFFFFFFFFFL;
+        final long w44 = in[ip+44];
+        out[op+57] = ((w43 << 26) | (w44 >>> 38)) & 0x1FFFFFFFFFFFFL;
+        final long w45 = in[ip+45];
+        out[op+58] = ((w44 << 11) | (w45 >>> 53)) & 0x1FFFFFFFFFFFFL;
+        out[op+59] = (w45 >>> 4) & 0x1FFFFFFFFFFFFL;
+        final long w46 = in[ip+46];
+        out[op+60] = ((w45 << 45) | (w46 >>> 19)) & 0x1FFFFFFFFFFFFL;
+        final long w47 = in[ip+47];
+        out[op+61] = ((w46 << 30) | (w47 >>> 34)) & 0x1FFFFFFFFFFFFL;
+        final long w48 = in[ip+48];
+        out[op+62] = ((w47 << 15) | (w48 >>> 49)) & 0x1FFFFFFFFFFFFL;
+        out[op+63] = w48 & 0x1FFFFFFFFFFFFL;
+    }
+
+    private static void _unpack50(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 14;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 36) | (w1 >>> 28)) & 0x3FFFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 22) | (w2 >>> 42)) & 0x3FFFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+3] = ((w2 << 8) | (w3 >>> 56)) & 0x3FFFFFFFFFFFFL;
+        out[op+4] = (w3 >>> 6) & 0x3FFFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+5] = ((w3 << 44) | (w4 >>> 20)) & 0x3FFFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+6] = ((w4 << 30) | (w5 >>> 34)) & 0x3FFFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+7] = ((w5 << 16) | (w6 >>> 48)) & 0x3FFFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+8] = ((w6 << 2) | (w7 >>> 62)) & 0x3FFFFFFFFFFFFL;
+        out[op+9] = (w7 >>> 12) & 0x3FFFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+10] = ((w7 << 38) | (w8 >>> 26)) & 0x3FFFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+11] = ((w8 << 24) | (w9 >>> 40)) & 0x3FFFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+12] = ((w9 << 10) | (w10 >>> 54)) & 0x3FFFFFFFFFFFFL;
+        out[op+13] = (w10 >>> 4) & 0x3FFFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+14] = ((w10 << 46) | (w11 >>> 18)) & 0x3FFFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+15] = ((w11 << 32) | (w12 >>> 32)) & 0x3FFFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+16] = ((w12 << 18) | (w13 >>> 46)) & 0x3FFFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+17] = ((w13 << 4) | (w14 >>> 60)) & 0x3FFFFFFFFFFFFL;
+        out[op+18] = (w14 >>> 10) & 0x3FFFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+19] = ((w14 << 40) | (w15 >>> 24)) & 0x3FFFFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+20] = ((w15 << 26) | (w16 >>> 38)) & 0x3FFFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+21] = ((w16 << 12) | (w17 >>> 52)) & 0x3FFFFFFFFFFFFL;
+        out[op+22] = (w17 >>> 2) & 0x3FFFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+23] = ((w17 << 48) | (w18 >>> 16)) & 0x3FFFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+24] = ((w18 << 34) | (w19 >>> 30)) & 0x3FFFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+25] = ((w19 << 20) | (w20 >>> 44)) & 0x3FFFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+26] = ((w20 << 6) | (w21 >>> 58)) & 0x3FFFFFFFFFFFFL;
+        out[op+27] = (w21 >>> 8) & 0x3FFFFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+28] = ((w21 << 42) | (w22 >>> 22)) & 0x3FFFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+29] = ((w22 << 28) | (w23 >>> 36)) & 0x3FFFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+30] = ((w23 << 14) | (w24 >>> 50)) & 0x3FFFFFFFFFFFFL;
+        out[op+31] = w24 & 0x3FFFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+32] = w25 >>> 14;
+        final long w26 = in[ip+26];
+        out[op+33] = ((w25 << 36) | (w26 >>> 28)) & 0x3FFFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+34] = ((w26 << 22) | (w27 >>> 42)) & 0x3FFFFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+35] = ((w27 << 8) | (w28 >>> 56)) & 0x3FFFFFFFFFFFFL;
+        out[op+36] = (w28 >>> 6) & 0x3FFFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+37] = ((w28 << 44) | (w29 >>> 20)) & 0x3FFFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+38] = ((w29 << 30) | (w30 >>> 34)) & 0x3FFFFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+39] = ((w30 << 16) | (w31 >>> 48)) & 0x3FFFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+40] = ((w31 << 2) | (w32 >>> 62)) & 0x3FFFFFFFFFFFFL;
+        out[op+41] = (w32 >>> 12) & 0x3FFFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+42] = ((w32 << 38) | (w33 >>> 26)) & 0x3FFFFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+43] = ((w33 << 24) | (w34 >>> 40)) & 0x3FFFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+44] = ((w34 << 10) | (w35 >>> 54)) & 0x3FFFFFFFFFFFFL;
+        out[op+45] = (w35 >>> 4) & 0x3FFFFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+46] = ((w35 << 46) | (w36 >>> 18)) & 0x3FFFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+47] = ((w36 << 32) | (w37 >>> 32)) & 0x3FFFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+48] = ((w37 << 18) | (w38 >>> 46)) & 0x3FFFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+49] = ((w38 << 4) | (w39 >>> 60)) & 0x3FFFFFFFFFFFFL;
+        out[op+50] = (w39 >>> 10) & 0x3FFFFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+51] = ((w39 << 40) | (w40 >>> 24)) & 0x3FFFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+52] = ((w40 << 26) | (w41 >>> 38)) & 0x3FFFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+53] = ((w41 << 12) | (w42 >>> 52)) & 0x3FFFFFFFFFFFFL;
+        out[op+54] = (w42 >>> 2) & 0x3FFFFFFFFFFFFL;
+        final long w43 = in[ip+43];
+        out[op+55] = ((w42 << 48) | (w43 >>> 16)) & 0x3FFFFFFFFFFFFL;
+        final long w44 = in[ip+44];
+        out[op+56] = ((w43 << 34) | (w44 >>> 30)) & 0x3FFFFFFFFFFFFL;
+        final long w45 = in[ip+45];
+        out[op+57] = ((w44 << 20) | (w45 >>> 44)) & 0x3FFFFFFFFFFFFL;
+        final long w46 = in[ip+46];
+        out[op+58] = ((w45 << 6) | (w46 >>> 58)) & 0x3FFFFFFFFFFFFL;
+        out[op+59] = (w46 >>> 8) & 0x3FFFFFFFFFFFFL;
+        final long w47 = in[ip+47];
+        out[op+60] = ((w46 << 42) | (w47 >>> 22)) & 0x3FFFFFFFFFFFFL;
+        final long w48 = in[ip+48];
+        out[op+61] = ((w47 << 28) | (w48 >>> 36)) & 0x3FFFFFFFFFFFFL;
+        final long w49 = in[ip+49];
+        out[op+62] = ((w48 << 14) | (w49 >>> 50)) & 0x3FFFFFFFFFFFFL;
+        out[op+63] = w49 & 0x3FFFFFFFFFFFFL;
+    }
+
+    private static void _unpack51(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 13;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 38) | (w1 >>> 26)) & 0x7FFFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 25) | (w2 >>> 39)) & 0x7FFFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+3] = ((w2 << 12) | (w3 >>> 52)) & 0x7FFFFFFFFFFFFL;
+        out[op+4] = (w3 >>> 1) & 0x7FFFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+5] = ((w3 << 50) | (w4 >>> 14)) & 0x7FFFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+6] = ((w4 << 37) | (w5 >>> 27)) & 0x7FFFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+7] = ((w5 << 24) | (w6 >>> 40)) & 0x7FFFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+8] = ((w6 << 11) | (w7 >>> 53)) & 0x7FFFFFFFFFFFFL;
+        out[op+9] = (w7 >>> 2) & 0x7FFFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+10] = ((w7 << 49) | (w8 >>> 15)) & 0x7FFFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+11] = ((w8 << 36) | (w9 >>> 28)) & 0x7FFFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+12] = ((w9 << 23) | (w10 >>> 41)) & 0x7FFFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+13] = ((w10 << 10) | (w11 >>> 54)) & 0x7FFFFFFFFFFFFL;
+        out[op+14] = (w11 >>> 3) & 0x7FFFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+15] = ((w11 << 48) | (w12 >>> 16)) & 0x7FFFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+16] = ((w12 << 35) | (w13 >>> 29)) & 0x7FFFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+17] = ((w13 << 22) | (w14 >>> 42)) & 0x7FFFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+18] = ((w14 << 9) | (w15 >>> 55)) & 0x7FFFFFFFFFFFFL;
+        out[op+19] = (w15 >>> 4) & 0x7FFFFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+20] = ((w15 << 47) | (w16 >>> 17)) & 0x7FFFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+21] = ((w16 << 34) | (w17 >>> 30)) & 0x7FFFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+22] = ((w17 << 21) | (w18 >>> 43)) & 0x7FFFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+23] = ((w18 << 8) | (w19 >>> 56)) & 0x7FFFFFFFFFFFFL;
+        out[op+24] = (w19 >>> 5) & 0x7FFFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+25] = ((w19 << 46) | (w20 >>> 18)) & 0x7FFFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+26] = ((w20 << 33) | (w21 >>> 31)) & 0x7FFFFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+27] = ((w21 << 20) | (w22 >>> 44)) & 0x7FFFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+28] = ((w22 << 7) | (w23 >>> 57)) & 0x7FFFFFFFFFFFFL;
+        out[op+29] = (w23 >>> 6) & 0x7FFFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+30] = ((w23 << 45) | (w24 >>> 19)) & 0x7FFFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+31] = ((w24 << 32) | (w25 >>> 32)) & 0x7FFFFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+32] = ((w25 << 19) | (w26 >>> 45)) & 0x7FFFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+33] = ((w26 << 6) | (w27 >>> 58)) & 0x7FFFFFFFFFFFFL;
+        out[op+34] = (w27 >>> 7) & 0x7FFFFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+35] = ((w27 << 44) | (w28 >>> 20)) & 0x7FFFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+36] = ((w28 << 31) | (w29 >>> 33)) & 0x7FFFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+37] = ((w29 << 18) | (w30 >>> 46)) & 0x7FFFFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+38] = ((w30 << 5) | (w31 >>> 59)) & 0x7FFFFFFFFFFFFL;
+        out[op+39] = (w31 >>> 8) & 0x7FFFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+40] = ((w31 << 43) | (w32 >>> 21)) & 0x7FFFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+41] = ((w32 << 30) | (w33 >>> 34)) & 0x7FFFFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+42] = ((w33 << 17) | (w34 >>> 47)) & 0x7FFFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+43] = ((w34 << 4) | (w35 >>> 60)) & 0x7FFFFFFFFFFFFL;
+        out[op+44] = (w35 >>> 9) & 0x7FFFFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+45] = ((w35 << 42) | (w36 >>> 22)) & 0x7FFFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+46] = ((w36 << 29) | (w37 >>> 35)) & 0x7FFFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+47] = ((w37 << 16) | (w38 >>> 48)) & 0x7FFFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+48] = ((w38 << 3) | (w39 >>> 61)) & 0x7FFFFFFFFFFFFL;
+        out[op+49] = (w39 >>> 10) & 0x7FFFFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+50] = ((w39 << 41) | (w40 >>> 23)) & 0x7FFFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+51] = ((w40 << 28) | (w41 >>> 36)) & 0x7FFFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+52] = ((w41 << 15) | (w42 >>> 49)) & 0x7FFFFFFFFFFFFL;
+        final long w43 = in[ip+43];
+        out[op+53] = ((w42 << 2) | (w43 >>> 62)) & 0x7FFFFFFFFFFFFL;
+        out[op+54] = (w43 >>> 11) & 0x7FFFFFFFFFFFFL;
+        final long w44 = in[ip+44];
+        out[op+55] = ((w43 << 40) | (w44 >>> 24)) & 0x7FFFFFFFFFFFFL;
+        final long w45 = in[ip+45];
+        out[op+56] = ((w44 << 27) | (w45 >>> 37)) & 0x7FFFFFFFFFFFFL;
+        final long w46 = in[ip+46];
+        out[op+57] = ((w45 << 14) | (w46 >>> 50)) & 0x7FFFFFFFFFFFFL;
+        final long w47 = in[ip+47];
+        out[op+58] = ((w46 << 1) | (w47 >>> 63)) & 0x7FFFFFFFFFFFFL;
+        out[op+59] = (w47 >>> 12) & 0x7FFFFFFFFFFFFL;
+        final long w48 = in[ip+48];
+        out[op+60] = ((w47 << 39) | (w48 >>> 25)) & 0x7FFFFFFFFFFFFL;
+        final long w49 = in[ip+49];
+        out[op+61] = ((w48 << 26) | (w49 >>> 38)) & 0x7FFFFFFFFFFFFL;
+        final long w50 = in[ip+50];
+        out[op+62] = ((w49 << 13) | (w50 >>> 51)) & 0x7FFFFFFFFFFFFL;
+        out[op+63] = w50 & 0x7FFFFFFFFFFFFL;
+    }
+
+    private static void _unpack52(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 12;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 40) | (w1 >>> 24)) & 0xFFFFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 28) | (w2 >>> 36)) & 0xFFFFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+3] = ((w2 << 16) | (w3 >>> 48)) & 0xFFFFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+4] = ((w3 << 4) | (w4 >>> 60)) & 0xFFFFFFFFFFFFFL;
+        out[op+5] = (w4 >>> 8) & 0xFFFFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+6] = ((w4 << 44) | (w5 >>> 20)) & 0xFFFFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+7] = ((w5 << 32) | (w6 >>> 32)) & 0xFFFFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+8] = ((w6 << 20) | (w7 >>> 44)) & 0xFFFFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+9] = ((w7 << 8) | (w8 >>> 56)) & 0xFFFFFFFFFFFFFL;
+        out[op+10] = (w8 >>> 4) & 0xFFFFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+11] = ((w8 << 48) | (w9 >>> 16)) & 0xFFFFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+12] = ((w9 << 36) | (w10 >>> 28)) & 0xFFFFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+13] = ((w10 << 24) | (w11 >>> 40)) & 0xFFFFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+14] = ((w11 << 12) | (w12 >>> 52)) & 0xFFFFFFFFFFFFFL;
+        out[op+15] = w12 & 0xFFFFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+16] = w13 >>> 12;
+        final long w14 = in[ip+14];
+        out[op+17] = ((w13 << 40) | (w14 >>> 24)) & 0xFFFFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+18] = ((w14 << 28) | (w15 >>> 36)) & 0xFFFFFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+19] = ((w15 << 16) | (w16 >>> 48)) & 0xFFFFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+20] = ((w16 << 4) | (w17 >>> 60)) & 0xFFFFFFFFFFFFFL;
+        out[op+21] = (w17 >>> 8) & 0xFFFFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+22] = ((w17 << 44) | (w18 >>> 20)) & 0xFFFFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+23] = ((w18 << 32) | (w19 >>> 32)) & 0xFFFFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+24] = ((w19 << 20) | (w20 >>> 44)) & 0xFFFFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+25] = ((w20 << 8) | (w21 >>> 56)) & 0xFFFFFFFFFFFFFL;
+        out[op+26] = (w21 >>> 4) & 0xFFFFFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+27] = ((w21 << 48) | (w22 >>> 16)) & 0xFFFFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+28] = ((w22 << 36) | (w23 >>> 28)) & 0xFFFFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+29] = ((w23 << 24) | (w24 >>> 40)) & 0xFFFFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+30] = ((w24 << 12) | (w25 >>> 52)) & 0xFFFFFFFFFFFFFL;
+        out[op+31] = w25 & 0xFFFFFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+32] = w26 >>> 12;
+        final long w27 = in[ip+27];
+        out[op+33] = ((w26 << 40) | (w27 >>> 24)) & 0xFFFFFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+34] = ((w27 << 28) | (w28 >>> 36)) & 0xFFFFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+35] = ((w28 << 16) | (w29 >>> 48)) & 0xFFFFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+36] = ((w29 << 4) | (w30 >>> 60)) & 0xFFFFFFFFFFFFFL;
+        out[op+37] = (w30 >>> 8) & 0xFFFFFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+38] = ((w30 << 44) | (w31 >>> 20)) & 0xFFFFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+39] = ((w31 << 32) | (w32 >>> 32)) & 0xFFFFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+40] = ((w32 << 20) | (w33 >>> 44)) & 0xFFFFFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+41] = ((w33 << 8) | (w34 >>> 56)) & 0xFFFFFFFFFFFFFL;
+        out[op+42] = (w34 >>> 4) & 0xFFFFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+43] = ((w34 << 48) | (w35 >>> 16)) & 0xFFFFFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+44] = ((w35 << 36) | (w36 >>> 28)) & 0xFFFFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+45] = ((w36 << 24) | (w37 >>> 40)) & 0xFFFFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+46] = ((w37 << 12) | (w38 >>> 52)) & 0xFFFFFFFFFFFFFL;
+        out[op+47] = w38 & 0xFFFFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+48] = w39 >>> 12;
+        final long w40 = in[ip+40];
+        out[op+49] = ((w39 << 40) | (w40 >>> 24)) & 0xFFFFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+50] = ((w40 << 28) | (w41 >>> 36)) & 0xFFFFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+51] = ((w41 << 16) | (w42 >>> 48)) & 0xFFFFFFFFFFFFFL;
+        final long w43 = in[ip+43];
+        out[op+52] = ((w42 << 4) | (w43 >>> 60)) & 0xFFFFFFFFFFFFFL;
+        out[op+53] = (w43 >>> 8) & 0xFFFFFFFFFFFFFL;
+        final long w44 = in[ip+44];
+        out[op+54] = ((w43 << 44) | (w44 >>> 20)) & 0xFFFFFFFFFFFFFL;
+        final long w45 = in[ip+45];
+        out[op+55] = ((w44 << 32) | (w45 >>> 32)) & 0xFFFFFFFFFFFFFL;
+        final long w46 = in[ip+46];
+        out[op+56] = ((w45 << 20) | (w46 >>> 44)) & 0xFFFFFFFFFFFFFL;
+        final long w47 = in[ip+47];
+        out[op+57] = ((w46 << 8) | (w47 >>> 56)) & 0xFFFFFFFFFFFFFL;
+        out[op+58] = (w47 >>> 4) & 0xFFFFFFFFFFFFFL;
+        final long w48 = in[ip+48];
+        out[op+59] = ((w47 << 48) | (w48 >>> 16)) & 0xFFFFFFFFFFFFFL;
+        final long w49 = in[ip+49];
+        out[op+60] = ((w48 << 36) | (w49 >>> 28)) & 0xFFFFFFFFFFFFFL;
+        final long w50 = in[ip+50];
+        out[op+61] = ((w49 << 24) | (w50 >>> 40)) & 0xFFFFFFFFFFFFFL;
+        final long w51 = in[ip+51];
+        out[op+62] = ((w50 << 12) | (w51 >>> 52)) & 0xFFFFFFFFFFFFFL;
+        out[op+63] = w51 & 0xFFFFFFFFFFFFFL;
+    }
+
+    private static void _unpack53(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 11;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 42) | (w1 >>> 22)) & 0x1FFFFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 31) | (w2 >>> 33)) & 0x1FFFFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+3] = ((w2 << 20) | (w3 >>> 44)) & 0x1FFFFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+4] = ((w3 << 9) | (w4 >>> 55)) & 0x1FFFFFFFFFFFFFL;
+        out[op+5] = (w4 >>> 2) & 0x1FFFFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+6] = ((w4 << 51) | (w5 >>> 13)) & 0x1FFFFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+7] = ((w5 << 40) | (w6 >>> 24)) & 0x1FFFFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+8] = ((w6 << 29) | (w7 >>> 35)) & 0x1FFFFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+9] = ((w7 << 18) | (w8 >>> 46)) & 0x1FFFFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+10] = ((w8 << 7) | (w9 >>> 57)) & 0x1FFFFFFFFFFFFFL;
+        out[op+11] = (w9 >>> 4) & 0x1FFFFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+12] = ((w9 << 49) | (w10 >>> 15)) & 0x1FFFFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+13] = ((w10 << 38) | (w11 >>> 26)) & 0x1FFFFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+14] = ((w11 << 27) | (w12 >>> 37)) & 0x1FFFFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+15] = ((w12 << 16) | (w13 >>> 48)) & 0x1FFFFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+16] = ((w13 << 5) | (w14 >>> 59)) & 0x1FFFFFFFFFFFFFL;
+        out[op+17] = (w14 >>> 6) & 0x1FFFFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+18] = ((w14 << 47) | (w15 >>> 17)) & 0x1FFFFFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+19] = ((w15 << 36) | (w16 >>> 28)) & 0x1FFFFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+20] = ((w16 << 25) | (w17 >>> 39)) & 0x1FFFFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+21] = ((w17 << 14) | (w18 >>> 50)) & 0x1FFFFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+22] = ((w18 << 3) | (w19 >>> 61)) & 0x1FFFFFFFFFFFFFL;
+        out[op+23] = (w19 >>> 8) & 0x1FFFFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+24] = ((w19 << 45) | (w20 >>> 19)) & 0x1FFFFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+25] = ((w20 << 34) | (w21 >>> 30)) & 0x1FFFFFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+26] = ((w21 << 23) | (w22 >>> 41)) & 0x1FFFFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+27] = ((w22 << 12) | (w23 >>> 52)) & 0x1FFFFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+28] = ((w23 << 1) | (w24 >>> 63)) & 0x1FFFFFFFFFFFFFL;
+        out[op+29] = (w24 >>> 10) & 0x1FFFFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+30] = ((w24 << 43) | (w25 >>> 21)) & 0x1FFFFFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+31] = ((w25 << 32) | (w26 >>> 32)) & 0x1FFFFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+32] = ((w26 << 21) | (w27 >>> 43)) & 0x1FFFFFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+33] = ((w27 << 10) | (w28 >>> 54)) & 0x1FFFFFFFFFFFFFL;
+        out[op+34] = (w28 >>> 1) & 0x1FFFFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+35] = ((w28 << 52) | (w29 >>> 12)) & 0x1FFFFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+36] = ((w29 << 41) | (w30 >>> 23)) & 0x1FFFFFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+37] = ((w30 << 30) | (w31 >>> 34)) & 0x1FFFFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+38] = ((w31 << 19) | (w32 >>> 45)) & 0x1FFFFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+39] = ((w32 << 8) | (w33 >>> 56)) & 0x1FFFFFFFFFFFFFL;
+        out[op+40] = (w33 >>> 3) & 0x1FFFFFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+41] = ((w33 << 50) | (w34 >>> 14)) & 0x1FFFFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+42] = ((w34 << 39) | (w35 >>> 25)) & 0x1FFFFFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+43] = ((w35 << 28) | (w36 >>> 36)) & 0x1FFFFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+44] = ((w36 << 17) | (w37 >>> 47)) & 0x1FFFFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+45] = ((w37 << 6) | (w38 >>> 58)) & 0x1FFFFFFFFFFFFFL;
+        out[op+46] = (w38 >>> 5) & 0x1FFFFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+47] = ((w38 << 48) | (w39 >>> 16)) & 0x1FFFFFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+48] = ((w39 << 37) | (w40 >>> 27)) & 0x1FFFFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+49] = ((w40 << 26) | (w41 >>> 38)) & 0x1FFFFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+50] = ((w41 << 15) | (w42 >>> 49)) & 0x1FFFFFFFFFFFFFL;
+        final long w43 = in[ip+43];
+        out[op+51] = ((w42 << 4) | (w43 >>> 60)) & 0x1FFFFFFFFFFFFFL;
+        out[op+52] = (w43 >>> 7) & 0x1FFFFFFFFFFFFFL;
+        final long w44 = in[ip+44];
+        out[op+53] = ((w43 << 46) | (w44 >>> 18)) & 0x1FFFFFFFFFFFFFL;
+        final long w45 = in[ip+45];
+        out[op+54] = ((w44 << 35) | (w45 >>> 29)) & 0x1FFFFFFFFFFFFFL;
+        final long w46 = in[ip+46];
+        out[op+55] = ((w45 << 24) | (w46 >>> 40)) & 0x1FFFFFFFFFFFFFL;
+        final long w47 = in[ip+47];
+        out[op+56] = ((w46 << 13) | (w47 >>> 51)) & 0x1FFFFFFFFFFFFFL;
+        final long w48 = in[ip+48];
+        out[op+57] = ((w47 << 2) | (w48 >>> 62)) & 0x1FFFFFFFFFFFFFL;
+        out[op+58] = (w48 >>> 9) & 0x1FFFFFFFFFFFFFL;
+        final long w49 = in[ip+49];
+        out[op+59] = ((w48 << 44) | (w49 >>> 20)) & 0x1FFFFFFFFFFFFFL;
+        final long w50 = in[ip+50];
+        out[op+60] = ((w49 << 33) | (w50 >>> 31)) & 0x1FFFFFFFFFFFFFL;
+        final long w51 = in[ip+51];
+        out[op+61] = ((w50 << 22) | (w51 >>> 42)) & 0x1FFFFFFFFFFFFFL;
+        final long w52 = in[ip+52];
+        out[op+62] = ((w51 << 11) | (w52 >>> 53)) & 0x1FFFFFFFFFFFFFL;
+        out[op+63] = w52 & 0x1FFFFFFFFFFFFFL;
+    }
+
+    private static void _unpack54(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 10;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 44) | (w1 >>> 20)) & 0x3FFFFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 34) | (w2 >>> 30)) & 0x3FFFFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+3] = ((w2 << 24) | (w3 >>> 40)) & 0x3FFFFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+4] = ((w3 << 14) | (w4 >>> 50)) & 0x3FFFFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+5] = ((w4 << 4) | (w5 >>> 60)) & 0x3FFFFFFFFFFFFFL;
+        out[op+6] = (w5 >>> 6) & 0x3FFFFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+7] = ((w5 << 48) | (w6 >>> 16)) & 0x3FFFFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+8] = ((w6 << 38) | (w7 >>> 26)) & 0x3FFFFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+9] = ((w7 << 28) | (w8 >>> 36)) & 0x3FFFFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+10] = ((w8 << 18) | (w9 >>> 46)) & 0x3FFFFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+11] = ((w9 << 8) | (w10 >>> 56)) & 0x3FFFFFFFFFFFFFL;
+        out[op+12] = (w10 >>> 2) & 0x3FFFFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+13] = ((w10 << 52) | (w11 >>> 12)) & 0x3FFFFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+14] = ((w11 << 42) | (w12 >>> 22)) & 0x3FFFFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+15] = ((w12 << 32) | (w13 >>> 32)) & 0x3FFFFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+16] = ((w13 << 22) | (w14 >>> 42)) & 0x3FFFFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+17] = ((w14 << 12) | (w15 >>> 52)) & 0x3FFFFFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+18] = ((w15 << 2) | (w16 >>> 62)) & 0x3FFFFFFFFFFFFFL;
+        out[op+19] = (w16 >>> 8) & 0x3FFFFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+20] = ((w16 << 46) | (w17 >>> 18)) & 0x3FFFFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+21] = ((w17 << 36) | (w18 >>> 28)) & 0x3FFFFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+22] = ((w18 << 26) | (w19 >>> 38)) & 0x3FFFFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+23] = ((w19 << 16) | (w20 >>> 48)) & 0x3FFFFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+24] = ((w20 << 6) | (w21 >>> 58)) & 0x3FFFFFFFFFFFFFL;
+        out[op+25] = (w21 >>> 4) & 0x3FFFFFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+26] = ((w21 << 50) | (w22 >>> 14)) & 0x3FFFFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+27] = ((w22 << 40) | (w23 >>> 24)) & 0x3FFFFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+28] = ((w23 << 30) | (w24 >>> 34)) & 0x3FFFFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+29] = ((w24 << 20) | (w25 >>> 44)) & 0x3FFFFFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+30] = ((w25 << 10) | (w26 >>> 54)) & 0x3FFFFFFFFFFFFFL;
+        out[op+31] = w26 & 0x3FFFFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+32] = w27 >>> 10;
+        final long w28 = in[ip+28];
+        out[op+33] = ((w27 << 44) | (w28 >>> 20)) & 0x3FFFFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+34] = ((w28 << 34) | (w29 >>> 30)) & 0x3FFFFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+35] = ((w29 << 24) | (w30 >>> 40)) & 0x3FFFFFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+36] = ((w30 << 14) | (w31 >>> 50)) & 0x3FFFFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+37] = ((w31 << 4) | (w32 >>> 60)) & 0x3FFFFFFFFFFFFFL;
+        out[op+38] = (w32 >>> 6) & 0x3FFFFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+39] = ((w32 << 48) | (w33 >>> 16)) & 0x3FFFFFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+40] = ((w33 << 38) | (w34 >>> 26)) & 0x3FFFFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+41] = ((w34 << 28) | (w35 >>> 36)) & 0x3FFFFFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+42] = ((w35 << 18) | (w36 >>> 46)) & 0x3FFFFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+43] = ((w36 << 8) | (w37 >>> 56)) & 0x3FFFFFFFFFFFFFL;
+        out[op+44] = (w37 >>> 2) & 0x3FFFFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+45] = ((w37 << 52) | (w38 >>> 12)) & 0x3FFFFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+46] = ((w38 << 42) | (w39 >>> 22)) & 0x3FFFFFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+47] = ((w39 << 32) | (w40 >>> 32)) & 0x3FFFFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+48] = ((w40 << 22) | (w41 >>> 42)) & 0x3FFFFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+49] = ((w41 << 12) | (w42 >>> 52)) & 0x3FFFFFFFFFFFFFL;
+        final long w43 = in[ip+43];
+        out[op+50] = ((w42 << 2) | (w43 >>> 62)) & 0x3FFFFFFFFFFFFFL;
+        out[op+51] = (w43 >>> 8) & 0x3FFFFFFFFFFFFFL;
+        final long w44 = in[ip+44];
+        out[op+52] = ((w43 << 46) | (w44 >>> 18)) & 0x3FFFFFFFFFFFFFL;
+        final long w45 = in[ip+45];
+        out[op+53] = ((w44 << 36) | (w45 >>> 28)) & 0x3FFFFFFFFFFFFFL;
+        final long w46 = in[ip+46];
+        out[op+54] = ((w45 << 26) | (w46 >>> 38)) & 0x3FFFFFFFFFFFFFL;
+        final long w47 = in[ip+47];
+        out[op+55] = ((w46 << 16) | (w47 >>> 48)) & 0x3FFFFFFFFFFFFFL;
+        final long w48 = in[ip+48];
+        out[op+56] = ((w47 << 6) | (w48 >>> 58)) & 0x3FFFFFFFFFFFFFL;
+        out[op+57] = (w48 >>> 4) & 0x3FFFFFFFFFFFFFL;
+        final long w49 = in[ip+49];
+        out[op+58] = ((w48 << 50) | (w49 >>> 14)) & 0x3FFFFFFFFFFFFFL;
+        final long w50 = in[ip+50];
+        out[op+59] = ((w49 << 40) | (w50 >>> 24)) & 0x3FFFFFFFFFFFFFL;
+        final long w51 = in[ip+51];
+        out[op+60] = ((w50 << 30) | (w51 >>> 34)) & 0x3FFFFFFFFFFFFFL;
+        final long w52 = in[ip+52];
+        out[op+61] = ((w51 << 20) | (w52 >>> 44)) & 0x3FFFFFFFFFFFFFL;
+        final long w53 = in[ip+53];
+        out[op+62] = ((w52 << 10) | (w53 >>> 54)) & 0x3FFFFFFFFFFFFFL;
+        out[op+63] = w53 & 0x3FFFFFFFFFFFFFL;
+    }
+
+    private static void _unpack55(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 9;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 46) | (w1 >>> 18)) & 0x7FFFFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 37) | (w2 >>> 27)) & 0x7FFFFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+3] = ((w2 << 28) | (w3 >>> 36)) & 0x7FFFFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+4] = ((w3 << 19) | (w4 >>> 45)) & 0x7FFFFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+5] = ((w4 << 10) | (w5 >>> 54)) & 0x7FFFFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+6] = ((w5 << 1) | (w6 >>> 63)) & 0x7FFFFFFFFFFFFFL;
+        out[op+7] = (w6 >>> 8) & 0x7FFFFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+8] = ((w6 << 47) | (w7 >>> 17)) & 0x7FFFFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+9] = ((w7 << 38) | (w8 >>> 26)) & 0x7FFFFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+10] = ((w8 << 29) | (w9 >>> 35)) & 0x7FFFFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+11] = ((w9 << 20) | (w10 >>> 44)) & 0x7FFFFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+12] = ((w10 << 11) | (w11 >>> 53)) & 0x7FFFFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+13] = ((w11 << 2) | (w12 >>> 62)) & 0x7FFFFFFFFFFFFFL;
+        out[op+14] = (w12 >>> 7) & 0x7FFFFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+15] = ((w12 << 48) | (w13 >>> 16)) & 0x7FFFFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+16] = ((w13 << 39) | (w14 >>> 25)) & 0x7FFFFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+17] = ((w14 << 30) | (w15 >>> 34)) & 0x7FFFFFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+18] = ((w15 << 21) | (w16 >>> 43)) & 0x7FFFFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+19] = ((w16 << 12) | (w17 >>> 52)) & 0x7FFFFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+20] = ((w17 << 3) | (w18 >>> 61)) & 0x7FFFFFFFFFFFFFL;
+        out[op+21] = (w18 >>> 6) & 0x7FFFFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+22] = ((w18 << 49) | (w19 >>> 15)) & 0x7FFFFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+23] = ((w19 << 40) | (w20 >>> 24)) & 0x7FFFFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+24] = ((w20 << 31) | (w21 >>> 33)) & 0x7FFFFFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+25] = ((w21 << 22) | (w22 >>> 42)) & 0x7FFFFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+26] = ((w22 << 13) | (w23 >>> 51)) & 0x7FFFFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+27] = ((w23 << 4) | (w24 >>> 60)) & 0x7FFFFFFFFFFFFFL;
+        out[op+28] = (w24 >>> 5) & 0x7FFFFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+29] = ((w24 << 50) | (w25 >>> 14)) & 0x7FFFFFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+30] = ((w25 << 41) | (w26 >>> 23)) & 0x7FFFFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+31] = ((w26 << 32) | (w27 >>> 32)) & 0x7FFFFFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+32] = ((w27 << 23) | (w28 >>> 41)) & 0x7FFFFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+33] = ((w28 << 14) | (w29 >>> 50)) & 0x7FFFFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+34] = ((w29 << 5) | (w30 >>> 59)) & 0x7FFFFFFFFFFFFFL;
+        out[op+35] = (w30 >>> 4) & 0x7FFFFFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+36] = ((w30 << 51) | (w31 >>> 13)) & 0x7FFFFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+37] = ((w31 << 42) | (w32 >>> 22)) & 0x7FFFFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+38] = ((w32 << 33) | (w33 >>> 31)) & 0x7FFFFFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+39] = ((w33 << 24) | (w34 >>> 40)) & 0x7FFFFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+40] = ((w34 << 15) | (w35 >>> 49)) & 0x7FFFFFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+41] = ((w35 << 6) | (w36 >>> 58)) & 0x7FFFFFFFFFFFFFL;
+        out[op+42] = (w36 >>> 3) & 0x7FFFFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+43] = ((w36 << 52) | (w37 >>> 12)) & 0x7FFFFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+44] = ((w37 << 43) | (w38 >>> 21)) & 0x7FFFFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+45] = ((w38 << 34) | (w39 >>> 30)) & 0x7FFFFFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+46] = ((w39 << 25) | (w40 >>> 39)) & 0x7FFFFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+47] = ((w40 << 16) | (w41 >>> 48)) & 0x7FFFFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+48] = ((w41 << 7) | (w42 >>> 57)) & 0x7FFFFFFFFFFFFFL;
+        out[op+49] = (w42 >>> 2) & 0x7FFFFFFFFFFFFFL;
+        final long w43 = in[ip+43];
+        out[op+50] = ((w42 << 53) | (w43 >>> 11)) & 0x7FFFFFFFFFFFFFL;
+        final long w44 = in[ip+44];
+        out[op+51] = ((w43 << 44) | (w44 >>> 20)) & 0x7FFFFFFFFFFFFFL;
+        final long w45 = in[ip+45];
+        out[op+52] = ((w44 << 35) | (w45 >>> 29)) & 0x7FFFFFFFFFFFFFL;
+        final long w46 = in[ip+46];
+        out[op+53] = ((w45 << 26) | (w46 >>> 38)) & 0x7FFFFFFFFFFFFFL;
+        final long w47 = in[ip+47];
+        out[op+54] = ((w46 << 17) | (w47 >>> 47)) & 0x7FFFFFFFFFFFFFL;
+        final long w48 = in[ip+48];
+        out[op+55] = ((w47 << 8) | (w48 >>> 56)) & 0x7FFFFFFFFFFFFFL;
+        out[op+56] = (w48 >>> 1) & 0x7FFFFFFFFFFFFFL;
+        final long w49 = in[ip+49];
+        out[op+57] = ((w48 << 54) | (w49 >>> 10)) & 0x7FFFFFFFFFFFFFL;
+        final long w50 = in[ip+50];
+        out[op+58] = ((w49 << 45) | (w50 >>> 19)) & 0x7FFFFFFFFFFFFFL;
+        final long w51 = in[ip+51];
+        out[op+59] = ((w50 << 36) | (w51 >>> 28)) & 0x7FFFFFFFFFFFFFL;
+        final long w52 = in[ip+52];
+        out[op+60] = ((w51 << 27) | (w52 >>> 37)) & 0x7FFFFFFFFFFFFFL;
+        final long w53 = in[ip+53];
+        out[op+61] = ((w52 << 18) | (w53 >>> 46)) & 0x7FFFFFFFFFFFFFL;
+        final long w54 = in[ip+54];
+        out[op+62] = ((w53 << 9) | (w54 >>> 55)) & 0x7FFFFFFFFFFFFFL;
+        out[op+63] = w54 & 0x7FFFFFFFFFFFFFL;
+    }
+
+    private static void _unpack56(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 8;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 48) | (w1 >>> 16)) & 0xFFFFFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 40) | (w2 >>> 24)) & 0xFFFFFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+3] = ((w2 << 32) | (w3 >>> 32)) & 0xFFFFFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+4] = ((w3 << 24) | (w4 >>> 40)) & 0xFFFFFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+5] = ((w4 << 16) | (w5 >>> 48)) & 0xFFFFFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+6] = ((w5 << 8) | (w6 >>> 56)) & 0xFFFFFFFFFFFFFFL;
+        out[op+7] = w6 & 0xFFFFFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+8] = w7 >>> 8;
+        final long w8 = in[ip+8];
+        out[op+9] = ((w7 << 48) | (w8 >>> 16)) & 0xFFFFFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+10] = ((w8 << 40) | (w9 >>> 24)) & 0xFFFFFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+11] = ((w9 << 32) | (w10 >>> 32)) & 0xFFFFFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+12] = ((w10 << 24) | (w11 >>> 40)) & 0xFFFFFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+13] = ((w11 << 16) | (w12 >>> 48)) & 0xFFFFFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+14] = ((w12 << 8) | (w13 >>> 56)) & 0xFFFFFFFFFFFFFFL;
+        out[op+15] = w13 & 0xFFFFFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+16] = w14 >>> 8;
+        final long w15 = in[ip+15];
+        out[op+17] = ((w14 << 48) | (w15 >>> 16)) & 0xFFFFFFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+18] = ((w15 << 40) | (w16 >>> 24)) & 0xFFFFFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+19] = ((w16 << 32) | (w17 >>> 32)) & 0xFFFFFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+20] = ((w17 << 24) | (w18 >>> 40)) & 0xFFFFFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+21] = ((w18 << 16) | (w19 >>> 48)) & 0xFFFFFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+22] = ((w19 << 8) | (w20 >>> 56)) & 0xFFFFFFFFFFFFFFL;
+        out[op+23] = w20 & 0xFFFFFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+24] = w21 >>> 8;
+        final long w22 = in[ip+22];
+        out[op+25] = ((w21 << 48) | (w22 >>> 16)) & 0xFFFFFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+26] = ((w22 << 40) | (w23 >>> 24)) & 0xFFFFFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+27] = ((w23 << 32) | (w24 >>> 32)) & 0xFFFFFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+28] = ((w24 << 24) | (w25 >>> 40)) & 0xFFFFFFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+29] = ((w25 << 16) | (w26 >>> 48)) & 0xFFFFFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+30] = ((w26 << 8) | (w27 >>> 56)) & 0xFFFFFFFFFFFFFFL;
+        out[op+31] = w27 & 0xFFFFFFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+32] = w28 >>> 8;
+        final long w29 = in[ip+29];
+        out[op+33] = ((w28 << 48) | (w29 >>> 16)) & 0xFFFFFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+34] = ((w29 << 40) | (w30 >>> 24)) & 0xFFFFFFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+35] = ((w30 << 32) | (w31 >>> 32)) & 0xFFFFFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+36] = ((w31 << 24) | (w32 >>> 40)) & 0xFFFFFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+37] = ((w32 << 16) | (w33 >>> 48)) & 0xFFFFFFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+38] = ((w33 << 8) | (w34 >>> 56)) & 0xFFFFFFFFFFFFFFL;
+        out[op+39] = w34 & 0xFFFFFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+40] = w35 >>> 8;
+        final long w36 = in[ip+36];
+        out[op+41] = ((w35 << 48) | (w36 >>> 16)) & 0xFFFFFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+42] = ((w36 << 40) | (w37 >>> 24)) & 0xFFFFFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+43] = ((w37 << 32) | (w38 >>> 32)) & 0xFFFFFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+44] = ((w38 << 24) | (w39 >>> 40)) & 0xFFFFFFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+45] = ((w39 << 16) | (w40 >>> 48)) & 0xFFFFFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+46] = ((w40 << 8) | (w41 >>> 56)) & 0xFFFFFFFFFFFFFFL;
+        out[op+47] = w41 & 0xFFFFFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+48] = w42 >>> 8;
+        final long w43 = in[ip+43];
+        out[op+49] = ((w42 << 48) | (w43 >>> 16)) & 0xFFFFFFFFFFFFFFL;
+        final long w44 = in[ip+44];
+        out[op+50] = ((w43 << 40) | (w44 >>> 24)) & 0xFFFFFFFFFFFFFFL;
+        final long w45 = in[ip+45];
+        out[op+51] = ((w44 << 32) | (w45 >>> 32)) & 0xFFFFFFFFFFFFFFL;
+        final long w46 = in[ip+46];
+        out[op+52] = ((w45 << 24) | (w46 >>> 40)) & 0xFFFFFFFFFFFFFFL;
+        final long w47 = in[ip+47];
+        out[op+53] = ((w46 << 16) | (w47 >>> 48)) & 0xFFFFFFFFFFFFFFL;
+        final long w48 = in[ip+48];
+        out[op+54] = ((w47 << 8) | (w48 >>> 56)) & 0xFFFFFFFFFFFFFFL;
+        out[op+55] = w48 & 0xFFFFFFFFFFFFFFL;
+        final long w49 = in[ip+49];
+        out[op+56] = w49 >>> 8;
+        final long w50 = in[ip+50];
+        out[op+57] = ((w49 << 48) | (w50 >>> 16)) & 0xFFFFFFFFFFFFFFL;
+        final long w51 = in[ip+51];
+        out[op+58] = ((w50 << 40) | (w51 >>> 24)) & 0xFFFFFFFFFFFFFFL;
+        final long w52 = in[ip+52];
+        out[op+59] = ((w51 << 32) | (w52 >>> 32)) & 0xFFFFFFFFFFFFFFL;
+        final long w53 = in[ip+53];
+        out[op+60] = ((w52 << 24) | (w53 >>> 40)) & 0xFFFFFFFFFFFFFFL;
+        final long w54 = in[ip+54];
+        out[op+61] = ((w53 << 16) | (w54 >>> 48)) & 0xFFFFFFFFFFFFFFL;
+        final long w55 = in[ip+55];
+        out[op+62] = ((w54 << 8) | (w55 >>> 56)) & 0xFFFFFFFFFFFFFFL;
+        out[op+63] = w55 & 0xFFFFFFFFFFFFFFL;
+    }
+
+    private static void _unpack57(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 7;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 50) | (w1 >>> 14)) & 0x1FFFFFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 43) | (w2 >>> 21)) & 0x1FFFFFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+3] = ((w2 << 36) | (w3 >>> 28)) & 0x1FFFFFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+4] = ((w3 << 29) | (w4 >>> 35)) & 0x1FFFFFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+5] = ((w4 << 22) | (w5 >>> 42)) & 0x1FFFFFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+6] = ((w5 << 15) | (w6 >>> 49)) & 0x1FFFFFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+7] = ((w6 << 8) | (w7 >>> 56)) & 0x1FFFFFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+8] = ((w7 << 1) | (w8 >>> 63)) & 0x1FFFFFFFFFFFFFFL;
+        out[op+9] = (w8 >>> 6) & 0x1FFFFFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+10] = ((w8 << 51) | (w9 >>> 13)) & 0x1FFFFFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+11] = ((w9 << 44) | (w10 >>> 20)) & 0x1FFFFFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+12] = ((w10 << 37) | (w11 >>> 27)) & 0x1FFFFFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+13] = ((w11 << 30) | (w12 >>> 34)) & 0x1FFFFFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+14] = ((w12 << 23) | (w13 >>> 41)) & 0x1FFFFFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+15] = ((w13 << 16) | (w14 >>> 48)) & 0x1FFFFFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+16] = ((w14 << 9) | (w15 >>> 55)) & 0x1FFFFFFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+17] = ((w15 << 2) | (w16 >>> 62)) & 0x1FFFFFFFFFFFFFFL;
+        out[op+18] = (w16 >>> 5) & 0x1FFFFFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+19] = ((w16 << 52) | (w17 >>> 12)) & 0x1FFFFFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+20] = ((w17 << 45) | (w18 >>> 19)) & 0x1FFFFFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+21] = ((w18 << 38) | (w19 >>> 26)) & 0x1FFFFFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+22] = ((w19 << 31) | (w20 >>> 33)) & 0x1FFFFFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+23] = ((w20 << 24) | (w21 >>> 40)) & 0x1FFFFFFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+24] = ((w21 << 17) | (w22 >>> 47)) & 0x1FFFFFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+25] = ((w22 << 10) | (w23 >>> 54)) & 0x1FFFFFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+26] = ((w23 << 3) | (w24 >>> 61)) & 0x1FFFFFFFFFFFFFFL;
+        out[op+27] = (w24 >>> 4) & 0x1FFFFFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+28] = ((w24 << 53) | (w25 >>> 11)) & 0x1FFFFFFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+29] = ((w25 << 46) | (w26 >>> 18)) & 0x1FFFFFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+30] = ((w26 << 39) | (w27 >>> 25)) & 0x1FFFFFFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+31] = ((w27 << 32) | (w28 >>> 32)) & 0x1FFFFFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+32] = ((w28 << 25) | (w29 >>> 39)) & 0x1FFFFFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+33] = ((w29 << 18) | (w30 >>> 46)) & 0x1FFFFFFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+34] = ((w30 << 11) | (w31 >>> 53)) & 0x1FFFFFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+35] = ((w31 << 4) | (w32 >>> 60)) & 0x1FFFFFFFFFFFFFFL;
+        out[op+36] = (w32 >>> 3) & 0x1FFFFFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+37] = ((w32 << 54) | (w33 >>> 10)) & 0x1FFFFFFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+38] = ((w33 << 47) | (w34 >>> 17)) & 0x1FFFFFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+39] = ((w34 << 40) | (w35 >>> 24)) & 0x1FFFFFFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+40] = ((w35 << 33) | (w36 >>> 31)) & 0x1FFFFFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+41] = ((w36 << 26) | (w37 >>> 38)) & 0x1FFFFFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+42] = ((w37 << 19) | (w38 >>> 45)) & 0x1FFFFFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+43] = ((w38 << 12) | (w39 >>> 52)) & 0x1FFFFFFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+44] = ((w39 << 5) | (w40 >>> 59)) & 0x1FFFFFFFFFFFFFFL;
+        out[op+45] = (w40 >>> 2) & 0x1FFFFFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+46] = ((w40 << 55) | (w41 >>> 9)) & 0x1FFFFFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+47] = ((w41 << 48) | (w42 >>> 16)) & 0x1FFFFFFFFFFFFFFL;
+        final long w43 = in[ip+43];
+        out[op+48] = ((w42 << 41) | (w43 >>> 23)) & 0x1FFFFFFFFFFFFFFL;
+        final long w44 = in[ip+44];
+        out[op+49] = ((w43 << 34) | (w44 >>> 30)) & 0x1FFFFFFFFFFFFFFL;
+        final long w45 = in[ip+45];
+        out[op+50] = ((w44 << 27) | (w45 >>> 37)) & 0x1FFFFFFFFFFFFFFL;
+        final long w46 = in[ip+46];
+        out[op+51] = ((w45 << 20) | (w46 >>> 44)) & 0x1FFFFFFFFFFFFFFL;
+        final long w47 = in[ip+47];
+        out[op+52] = ((w46 << 13) | (w47 >>> 51)) & 0x1FFFFFFFFFFFFFFL;
+        final long w48 = in[ip+48];
+        out[op+53] = ((w47 << 6) | (w48 >>> 58)) & 0x1FFFFFFFFFFFFFFL;
+        out[op+54] = (w48 >>> 1) & 0x1FFFFFFFFFFFFFFL;
+        final long w49 = in[ip+49];
+        out[op+55] = ((w48 << 56) | (w49 >>> 8)) & 0x1FFFFFFFFFFFFFFL;
+        final long w50 = in[ip+50];
+        out[op+56] = ((w49 << 49) | (w50 >>> 15)) & 0x1FFFFFFFFFFFFFFL;
+        final long w51 = in[ip+51];
+        out[op+57] = ((w50 << 42) | (w51 >>> 22)) & 0x1FFFFFFFFFFFFFFL;
+        final long w52 = in[ip+52];
+        out[op+58] = ((w51 << 35) | (w52 >>> 29)) & 0x1FFFFFFFFFFFFFFL;
+        final long w53 = in[ip+53];
+        out[op+59] = ((w52 << 28) | (w53 >>> 36)) & 0x1FFFFFFFFFFFFFFL;
+        final long w54 = in[ip+54];
+        out[op+60] = ((w53 << 21) | (w54 >>> 43)) & 0x1FFFFFFFFFFFFFFL;
+        final long w55 = in[ip+55];
+        out[op+61] = ((w54 << 14) | (w55 >>> 50)) & 0x1FFFFFFFFFFFFFFL;
+        final long w56 = in[ip+56];
+        out[op+62] = ((w55 << 7) | (w56 >>> 57)) & 0x1FFFFFFFFFFFFFFL;
+        out[op+63] = w56 & 0x1FFFFFFFFFFFFFFL;
+    }
+
+    private static void _unpack58(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 6;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 52) | (w1 >>> 12)) & 0x3FFFFFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 46) | (w2 >>> 18)) & 0x3FFFFFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+3] = ((w2 << 40) | (w3 >>> 24)) & 0x3FFFFFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+4] = ((w3 << 34) | (w4 >>> 30)) & 0x3FFFFFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+5] = ((w4 << 28) | (w5 >>> 36)) & 0x3FFFFFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+6] = ((w5 << 22) | (w6 >>> 42)) & 0x3FFFFFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+7] = ((w6 << 16) | (w7 >>> 48)) & 0x3FFFFFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+8] = ((w7 << 10) | (w8 >>> 54)) & 0x3FFFFFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+9] = ((w8 << 4) | (w9 >>> 60)) & 0x3FFFFFFFFFFFFFFL;
+        out[op+10] = (w9 >>> 2) & 0x3FFFFFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+11] = ((w9 << 56) | (w10 >>> 8)) & 0x3FFFFFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+12] = ((w10 << 50) | (w11 >>> 14)) & 0x3FFFFFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+13] = ((w11 << 44) | (w12 >>> 20)) & 0x3FFFFFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+14] = ((w12 << 38) | (w13 >>> 26)) & 0x3FFFFFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+15] = ((w13 << 32) | (w14 >>> 32)) & 0x3FFFFFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+16] = ((w14 << 26) | (w15 >>> 38)) & 0x3FFFFFFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+17] = ((w15 << 20) | (w16 >>> 44)) & 0x3FFFFFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+18] = ((w16 << 14) | (w17 >>> 50)) & 0x3FFFFFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+19] = ((w17 << 8) | (w18 >>> 56)) & 0x3FFFFFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+20] = ((w18 << 2) | (w19 >>> 62)) & 0x3FFFFFFFFFFFFFFL;
+        out[op+21] = (w19 >>> 4) & 0x3FFFFFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+22] = ((w19 << 54) | (w20 >>> 10)) & 0x3FFFFFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+23] = ((w20 << 48) | (w21 >>> 16)) & 0x3FFFFFFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+24] = ((w21 << 42) | (w22 >>> 22)) & 0x3FFFFFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+25] = ((w22 << 36) | (w23 >>> 28)) & 0x3FFFFFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+26] = ((w23 << 30) | (w24 >>> 34)) & 0x3FFFFFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+27] = ((w24 << 24) | (w25 >>> 40)) & 0x3FFFFFFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+28] = ((w25 << 18) | (w26 >>> 46)) & 0x3FFFFFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+29] = ((w26 << 12) | (w27 >>> 52)) & 0x3FFFFFFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+30] = ((w27 << 6) | (w28 >>> 58)) & 0x3FFFFFFFFFFFFFFL;
+        out[op+31] = w28 & 0x3FFFFFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+32] = w29 >>> 6;
+        final long w30 = in[ip+30];
+        out[op+33] = ((w29 << 52) | (w30 >>> 12)) & 0x3FFFFFFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+34] = ((w30 << 46) | (w31 >>> 18)) & 0x3FFFFFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+35] = ((w31 << 40) | (w32 >>> 24)) & 0x3FFFFFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+36] = ((w32 << 34) | (w33 >>> 30)) & 0x3FFFFFFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+37] = ((w33 << 28) | (w34 >>> 36)) & 0x3FFFFFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+38] = ((w34 << 22) | (w35 >>> 42)) & 0x3FFFFFFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+39] = ((w35 << 16) | (w36 >>> 48)) & 0x3FFFFFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+40] = ((w36 << 10) | (w37 >>> 54)) & 0x3FFFFFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+41] = ((w37 << 4) | (w38 >>> 60)) & 0x3FFFFFFFFFFFFFFL;
+        out[op+42] = (w38 >>> 2) & 0x3FFFFFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+43] = ((w38 << 56) | (w39 >>> 8)) & 0x3FFFFFFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+44] = ((w39 << 50) | (w40 >>> 14)) & 0x3FFFFFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+45] = ((w40 << 44) | (w41 >>> 20)) & 0x3FFFFFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+46] = ((w41 << 38) | (w42 >>> 26)) & 0x3FFFFFFFFFFFFFFL;
+        final long w43 = in[ip+43];
+        out[op+47] = ((w42 << 32) | (w43 >>> 32)) & 0x3FFFFFFFFFFFFFFL;
+        final long w44 = in[ip+44];
+        out[op+48] = ((w43 << 26) | (w44 >>> 38)) & 0x3FFFFFFFFFFFFFFL;
+        final long w45 = in[ip+45];
+        out[op+49] = ((w44 << 20) | (w45 >>> 44)) & 0x3FFFFFFFFFFFFFFL;
+        final long w46 = in[ip+46];
+        out[op+50] = ((w45 << 14) | (w46 >>> 50)) & 0x3FFFFFFFFFFFFFFL;
+        final long w47 = in[ip+47];
+        out[op+51] = ((w46 << 8) | (w47 >>> 56)) & 0x3FFFFFFFFFFFFFFL;
+        final long w48 = in[ip+48];
+        out[op+52] = ((w47 << 2) | (w48 >>> 62)) & 0x3FFFFFFFFFFFFFFL;
+        out[op+53] = (w48 >>> 4) & 0x3FFFFFFFFFFFFFFL;
+        final long w49 = in[ip+49];
+        out[op+54] = ((w48 << 54) | (w49 >>> 10)) & 0x3FFFFFFFFFFFFFFL;
+        final long w50 = in[ip+50];
+        out[op+55] = ((w49 << 48) | (w50 >>> 16)) & 0x3FFFFFFFFFFFFFFL;
+        final long w51 = in[ip+51];
+        out[op+56] = ((w50 << 42) | (w51 >>> 22)) & 0x3FFFFFFFFFFFFFFL;
+        final long w52 = in[ip+52];
+        out[op+57] = ((w51 << 36) | (w52 >>> 28)) & 0x3FFFFFFFFFFFFFFL;
+        final long w53 = in[ip+53];
+        out[op+58] = ((w52 << 30) | (w53 >>> 34)) & 0x3FFFFFFFFFFFFFFL;
+        final long w54 = in[ip+54];
+        out[op+59] = ((w53 << 24) | (w54 >>> 40)) & 0x3FFFFFFFFFFFFFFL;
+        final long w55 = in[ip+55];
+        out[op+60] = ((w54 << 18) | (w55 >>> 46)) & 0x3FFFFFFFFFFFFFFL;
+        final long w56 = in[ip+56];
+        out[op+61] = ((w55 << 12) | (w56 >>> 52)) & 0x3FFFFFFFFFFFFFFL;
+        final long w57 = in[ip+57];
+        out[op+62] = ((w56 << 6) | (w57 >>> 58)) & 0x3FFFFFFFFFFFFFFL;
+        out[op+63] = w57 & 0x3FFFFFFFFFFFFFFL;
+    }
+
+    private static void _unpack59(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 5;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 54) | (w1 >>> 10)) & 0x7FFFFFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 49) | (w2 >>> 15)) & 0x7FFFFFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+3] = ((w2 << 44) | (w3 >>> 20)) & 0x7FFFFFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+4] = ((w3 << 39) | (w4 >>> 25)) & 0x7FFFFFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+5] = ((w4 << 34) | (w5 >>> 30)) & 0x7FFFFFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+6] = ((w5 << 29) | (w6 >>> 35)) & 0x7FFFFFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+7] = ((w6 << 24) | (w7 >>> 40)) & 0x7FFFFFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+8] = ((w7 << 19) | (w8 >>> 45)) & 0x7FFFFFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+9] = ((w8 << 14) | (w9 >>> 50)) & 0x7FFFFFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+10] = ((w9 << 9) | (w10 >>> 55)) & 0x7FFFFFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+11] = ((w10 << 4) | (w11 >>> 60)) & 0x7FFFFFFFFFFFFFFL;
+        out[op+12] = (w11 >>> 1) & 0x7FFFFFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+13] = ((w11 << 58) | (w12 >>> 6)) & 0x7FFFFFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+14] = ((w12 << 53) | (w13 >>> 11)) & 0x7FFFFFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+15] = ((w13 << 48) | (w14 >>> 16)) & 0x7FFFFFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+16] = ((w14 << 43) | (w15 >>> 21)) & 0x7FFFFFFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+17] = ((w15 << 38) | (w16 >>> 26)) & 0x7FFFFFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+18] = ((w16 << 33) | (w17 >>> 31)) & 0x7FFFFFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+19] = ((w17 << 28) | (w18 >>> 36)) & 0x7FFFFFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+20] = ((w18 << 23) | (w19 >>> 41)) & 0x7FFFFFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+21] = ((w19 << 18) | (w20 >>> 46)) & 0x7FFFFFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+22] = ((w20 << 13) | (w21 >>> 51)) & 0x7FFFFFFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+23] = ((w21 << 8) | (w22 >>> 56)) & 0x7FFFFFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+24] = ((w22 << 3) | (w23 >>> 61)) & 0x7FFFFFFFFFFFFFFL;
+        out[op+25] = (w23 >>> 2) & 0x7FFFFFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+26] = ((w23 << 57) | (w24 >>> 7)) & 0x7FFFFFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+27] = ((w24 << 52) | (w25 >>> 12)) & 0x7FFFFFFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+28] = ((w25 << 47) | (w26 >>> 17)) & 0x7FFFFFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+29] = ((w26 << 42) | (w27 >>> 22)) & 0x7FFFFFFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+30] = ((w27 << 37) | (w28 >>> 27)) & 0x7FFFFFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+31] = ((w28 << 32) | (w29 >>> 32)) & 0x7FFFFFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+32] = ((w29 << 27) | (w30 >>> 37)) & 0x7FFFFFFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+33] = ((w30 << 22) | (w31 >>> 42)) & 0x7FFFFFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+34] = ((w31 << 17) | (w32 >>> 47)) & 0x7FFFFFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+35] = ((w32 << 12) | (w33 >>> 52)) & 0x7FFFFFFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+36] = ((w33 << 7) | (w34 >>> 57)) & 0x7FFFFFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+37] = ((w34 << 2) | (w35 >>> 62)) & 0x7FFFFFFFFFFFFFFL;
+        out[op+38] = (w35 >>> 3) & 0x7FFFFFFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+39] = ((w35 << 56) | (w36 >>> 8)) & 0x7FFFFFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+40] = ((w36 << 51) | (w37 >>> 13)) & 0x7FFFFFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+41] = ((w37 << 46) | (w38 >>> 18)) & 0x7FFFFFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+42] = ((w38 << 41) | (w39 >>> 23)) & 0x7FFFFFFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+43] = ((w39 << 36) | (w40 >>> 28)) & 0x7FFFFFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+44] = ((w40 << 31) | (w41 >>> 33)) & 0x7FFFFFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+45] = ((w41 << 26) | (w42 >>> 38)) & 0x7FFFFFFFFFFFFFFL;
+        final long w43 = in[ip+43];
+        out[op+46] = ((w42 << 21) | (w43 >>> 43)) & 0x7FFFFFFFFFFFFFFL;
+        final long w44 = in[ip+44];
+        out[op+47] = ((w43 << 16) | (w44 >>> 48)) & 0x7FFFFFFFFFFFFFFL;
+        final long w45 = in[ip+45];
+        out[op+48] = ((w44 << 11) | (w45 >>> 53)) & 0x7FFFFFFFFFFFFFFL;
+        final long w46 = in[ip+46];
+        out[op+49] = ((w45 << 6) | (w46 >>> 58)) & 0x7FFFFFFFFFFFFFFL;
+        final long w47 = in[ip+47];
+        out[op+50] = ((w46 << 1) | (w47 >>> 63)) & 0x7FFFFFFFFFFFFFFL;
+        out[op+51] = (w47 >>> 4) & 0x7FFFFFFFFFFFFFFL;
+        final long w48 = in[ip+48];
+        out[op+52] = ((w47 << 55) | (w48 >>> 9)) & 0x7FFFFFFFFFFFFFFL;
+        final long w49 = in[ip+49];
+        out[op+53] = ((w48 << 50) | (w49 >>> 14)) & 0x7FFFFFFFFFFFFFFL;
+        final long w50 = in[ip+50];
+        out[op+54] = ((w49 << 45) | (w50 >>> 19)) & 0x7FFFFFFFFFFFFFFL;
+        final long w51 = in[ip+51];
+        out[op+55] = ((w50 << 40) | (w51 >>> 24)) & 0x7FFFFFFFFFFFFFFL;
+        final long w52 = in[ip+52];
+        out[op+56] = ((w51 << 35) | (w52 >>> 29)) & 0x7FFFFFFFFFFFFFFL;
+        final long w53 = in[ip+53];
+        out[op+57] = ((w52 << 30) | (w53 >>> 34)) & 0x7FFFFFFFFFFFFFFL;
+        final long w54 = in[ip+54];
+        out[op+58] = ((w53 << 25) | (w54 >>> 39)) & 0x7FFFFFFFFFFFFFFL;
+        final long w55 = in[ip+55];
+        out[op+59] = ((w54 << 20) | (w55 >>> 44)) & 0x7FFFFFFFFFFFFFFL;
+        final long w56 = in[ip+56];
+        out[op+60] = ((w55 << 15) | (w56 >>> 49)) & 0x7FFFFFFFFFFFFFFL;
+        final long w57 = in[ip+57];
+        out[op+61] = ((w56 << 10) | (w57 >>> 54)) & 0x7FFFFFFFFFFFFFFL;
+        final long w58 = in[ip+58];
+        out[op+62] = ((w57 << 5) | (w58 >>> 59)) & 0x7FFFFFFFFFFFFFFL;
+        out[op+63] = w58 & 0x7FFFFFFFFFFFFFFL;
+    }
+
+    private static void _unpack60(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 4;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 56) | (w1 >>> 8)) & 0xFFFFFFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 52) | (w2 >>> 12)) & 0xFFFFFFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+3] = ((w2 << 48) | (w3 >>> 16)) & 0xFFFFFFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+4] = ((w3 << 44) | (w4 >>> 20)) & 0xFFFFFFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+5] = ((w4 << 40) | (w5 >>> 24)) & 0xFFFFFFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+6] = ((w5 << 36) | (w6 >>> 28)) & 0xFFFFFFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+7] = ((w6 << 32) | (w7 >>> 32)) & 0xFFFFFFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+8] = ((w7 << 28) | (w8 >>> 36)) & 0xFFFFFFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+9] = ((w8 << 24) | (w9 >>> 40)) & 0xFFFFFFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+10] = ((w9 << 20) | (w10 >>> 44)) & 0xFFFFFFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+11] = ((w10 << 16) | (w11 >>> 48)) & 0xFFFFFFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+12] = ((w11 << 12) | (w12 >>> 52)) & 0xFFFFFFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+13] = ((w12 << 8) | (w13 >>> 56)) & 0xFFFFFFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+14] = ((w13 << 4) | (w14 >>> 60)) & 0xFFFFFFFFFFFFFFFL;
+        out[op+15] = w14 & 0xFFFFFFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+16] = w15 >>> 4;
+        final long w16 = in[ip+16];
+        out[op+17] = ((w15 << 56) | (w16 >>> 8)) & 0xFFFFFFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+18] = ((w16 << 52) | (w17 >>> 12)) & 0xFFFFFFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+19] = ((w17 << 48) | (w18 >>> 16)) & 0xFFFFFFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+20] = ((w18 << 44) | (w19 >>> 20)) & 0xFFFFFFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+21] = ((w19 << 40) | (w20 >>> 24)) & 0xFFFFFFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+22] = ((w20 << 36) | (w21 >>> 28)) & 0xFFFFFFFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+23] = ((w21 << 32) | (w22 >>> 32)) & 0xFFFFFFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+24] = ((w22 << 28) | (w23 >>> 36)) & 0xFFFFFFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+25] = ((w23 << 24) | (w24 >>> 40)) & 0xFFFFFFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+26] = ((w24 << 20) | (w25 >>> 44)) & 0xFFFFFFFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+27] = ((w25 << 16) | (w26 >>> 48)) & 0xFFFFFFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+28] = ((w26 << 12) | (w27 >>> 52)) & 0xFFFFFFFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+29] = ((w27 << 8) | (w28 >>> 56)) & 0xFFFFFFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+30] = ((w28 << 4) | (w29 >>> 60)) & 0xFFFFFFFFFFFFFFFL;
+        out[op+31] = w29 & 0xFFFFFFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+32] = w30 >>> 4;
+        final long w31 = in[ip+31];
+        out[op+33] = ((w30 << 56) | (w31 >>> 8)) & 0xFFFFFFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+34] = ((w31 << 52) | (w32 >>> 12)) & 0xFFFFFFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+35] = ((w32 << 48) | (w33 >>> 16)) & 0xFFFFFFFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+36] = ((w33 << 44) | (w34 >>> 20)) & 0xFFFFFFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+37] = ((w34 << 40) | (w35 >>> 24)) & 0xFFFFFFFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+38] = ((w35 << 36) | (w36 >>> 28)) & 0xFFFFFFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+39] = ((w36 << 32) | (w37 >>> 32)) & 0xFFFFFFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+40] = ((w37 << 28) | (w38 >>> 36)) & 0xFFFFFFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+41] = ((w38 << 24) | (w39 >>> 40)) & 0xFFFFFFFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+42] = ((w39 << 20) | (w40 >>> 44)) & 0xFFFFFFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+43] = ((w40 << 16) | (w41 >>> 48)) & 0xFFFFFFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+44] = ((w41 << 12) | (w42 >>> 52)) & 0xFFFFFFFFFFFFFFFL;
+        final long w43 = in[ip+43];
+        out[op+45] = ((w42 << 8) | (w43 >>> 56)) & 0xFFFFFFFFFFFFFFFL;
+        final long w44 = in[ip+44];
+        out[op+46] = ((w43 << 4) | (w44 >>> 60)) & 0xFFFFFFFFFFFFFFFL;
+        out[op+47] = w44 & 0xFFFFFFFFFFFFFFFL;
+        final long w45 = in[ip+45];
+        out[op+48] = w45 >>> 4;
+        final long w46 = in[ip+46];
+        out[op+49] = ((w45 << 56) | (w46 >>> 8)) & 0xFFFFFFFFFFFFFFFL;
+        final long w47 = in[ip+47];
+        out[op+50] = ((w46 << 52) | (w47 >>> 12)) & 0xFFFFFFFFFFFFFFFL;
+        final long w48 = in[ip+48];
+        out[op+51] = ((w47 << 48) | (w48 >>> 16)) & 0xFFFFFFFFFFFFFFFL;
+        final long w49 = in[ip+49];
+        out[op+52] = ((w48 << 44) | (w49 >>> 20)) & 0xFFFFFFFFFFFFFFFL;
+        final long w50 = in[ip+50];
+        out[op+53] = ((w49 << 40) | (w50 >>> 24)) & 0xFFFFFFFFFFFFFFFL;
+        final long w51 = in[ip+51];
+        out[op+54] = ((w50 << 36) | (w51 >>> 28)) & 0xFFFFFFFFFFFFFFFL;
+        final long w52 = in[ip+52];
+        out[op+55] = ((w51 << 32) | (w52 >>> 32)) & 0xFFFFFFFFFFFFFFFL;
+        final long w53 = in[ip+53];
+        out[op+56] = ((w52 << 28) | (w53 >>> 36)) & 0xFFFFFFFFFFFFFFFL;
+        final long w54 = in[ip+54];
+        out[op+57] = ((w53 << 24) | (w54 >>> 40)) & 0xFFFFFFFFFFFFFFFL;
+        final long w55 = in[ip+55];
+        out[op+58] = ((w54 << 20) | (w55 >>> 44)) & 0xFFFFFFFFFFFFFFFL;
+        final long w56 = in[ip+56];
+        out[op+59] = ((w55 << 16) | (w56 >>> 48)) & 0xFFFFFFFFFFFFFFFL;
+        final long w57 = in[ip+57];
+        out[op+60] = ((w56 << 12) | (w57 >>> 52)) & 0xFFFFFFFFFFFFFFFL;
+        final long w58 = in[ip+58];
+        out[op+61] = ((w57 << 8) | (w58 >>> 56)) & 0xFFFFFFFFFFFFFFFL;
+        final long w59 = in[ip+59];
+        out[op+62] = ((w58 << 4) | (w59 >>> 60)) & 0xFFFFFFFFFFFFFFFL;
+        out[op+63] = w59 & 0xFFFFFFFFFFFFFFFL;
+    }
+
+    private static void _unpack61(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 3;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 58) | (w1 >>> 6)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 55) | (w2 >>> 9)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+3] = ((w2 << 52) | (w3 >>> 12)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+4] = ((w3 << 49) | (w4 >>> 15)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+5] = ((w4 << 46) | (w5 >>> 18)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+6] = ((w5 << 43) | (w6 >>> 21)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+7] = ((w6 << 40) | (w7 >>> 24)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+8] = ((w7 << 37) | (w8 >>> 27)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+9] = ((w8 << 34) | (w9 >>> 30)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+10] = ((w9 << 31) | (w10 >>> 33)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+11] = ((w10 << 28) | (w11 >>> 36)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+12] = ((w11 << 25) | (w12 >>> 39)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+13] = ((w12 << 22) | (w13 >>> 42)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+14] = ((w13 << 19) | (w14 >>> 45)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+15] = ((w14 << 16) | (w15 >>> 48)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+16] = ((w15 << 13) | (w16 >>> 51)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+17] = ((w16 << 10) | (w17 >>> 54)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+18] = ((w17 << 7) | (w18 >>> 57)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+19] = ((w18 << 4) | (w19 >>> 60)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+20] = ((w19 << 1) | (w20 >>> 63)) & 0x1FFFFFFFFFFFFFFFL;
+        out[op+21] = (w20 >>> 2) & 0x1FFFFFFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+22] = ((w20 << 59) | (w21 >>> 5)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+23] = ((w21 << 56) | (w22 >>> 8)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+24] = ((w22 << 53) | (w23 >>> 11)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+25] = ((w23 << 50) | (w24 >>> 14)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+26] = ((w24 << 47) | (w25 >>> 17)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+27] = ((w25 << 44) | (w26 >>> 20)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+28] = ((w26 << 41) | (w27 >>> 23)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+29] = ((w27 << 38) | (w28 >>> 26)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+30] = ((w28 << 35) | (w29 >>> 29)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+31] = ((w29 << 32) | (w30 >>> 32)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+32] = ((w30 << 29) | (w31 >>> 35)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+33] = ((w31 << 26) | (w32 >>> 38)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+34] = ((w32 << 23) | (w33 >>> 41)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+35] = ((w33 << 20) | (w34 >>> 44)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+36] = ((w34 << 17) | (w35 >>> 47)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+37] = ((w35 << 14) | (w36 >>> 50)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+38] = ((w36 << 11) | (w37 >>> 53)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+39] = ((w37 << 8) | (w38 >>> 56)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+40] = ((w38 << 5) | (w39 >>> 59)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+41] = ((w39 << 2) | (w40 >>> 62)) & 0x1FFFFFFFFFFFFFFFL;
+        out[op+42] = (w40 >>> 1) & 0x1FFFFFFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+43] = ((w40 << 60) | (w41 >>> 4)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+44] = ((w41 << 57) | (w42 >>> 7)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w43 = in[ip+43];
+        out[op+45] = ((w42 << 54) | (w43 >>> 10)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w44 = in[ip+44];
+        out[op+46] = ((w43 << 51) | (w44 >>> 13)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w45 = in[ip+45];
+        out[op+47] = ((w44 << 48) | (w45 >>> 16)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w46 = in[ip+46];
+        out[op+48] = ((w45 << 45) | (w46 >>> 19)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w47 = in[ip+47];
+        out[op+49] = ((w46 << 42) | (w47 >>> 22)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w48 = in[ip+48];
+        out[op+50] = ((w47 << 39) | (w48 >>> 25)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w49 = in[ip+49];
+        out[op+51] = ((w48 << 36) | (w49 >>> 28)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w50 = in[ip+50];
+        out[op+52] = ((w49 << 33) | (w50 >>> 31)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w51 = in[ip+51];
+        out[op+53] = ((w50 << 30) | (w51 >>> 34)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w52 = in[ip+52];
+        out[op+54] = ((w51 << 27) | (w52 >>> 37)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w53 = in[ip+53];
+        out[op+55] = ((w52 << 24) | (w53 >>> 40)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w54 = in[ip+54];
+        out[op+56] = ((w53 << 21) | (w54 >>> 43)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w55 = in[ip+55];
+        out[op+57] = ((w54 << 18) | (w55 >>> 46)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w56 = in[ip+56];
+        out[op+58] = ((w55 << 15) | (w56 >>> 49)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w57 = in[ip+57];
+        out[op+59] = ((w56 << 12) | (w57 >>> 52)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w58 = in[ip+58];
+        out[op+60] = ((w57 << 9) | (w58 >>> 55)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w59 = in[ip+59];
+        out[op+61] = ((w58 << 6) | (w59 >>> 58)) & 0x1FFFFFFFFFFFFFFFL;
+        final long w60 = in[ip+60];
+        out[op+62] = ((w59 << 3) | (w60 >>> 61)) & 0x1FFFFFFFFFFFFFFFL;
+        out[op+63] = w60 & 0x1FFFFFFFFFFFFFFFL;
+    }
+
+    private static void _unpack62(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 2;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 60) | (w1 >>> 4)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 58) | (w2 >>> 6)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+3] = ((w2 << 56) | (w3 >>> 8)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+4] = ((w3 << 54) | (w4 >>> 10)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+5] = ((w4 << 52) | (w5 >>> 12)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+6] = ((w5 << 50) | (w6 >>> 14)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+7] = ((w6 << 48) | (w7 >>> 16)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+8] = ((w7 << 46) | (w8 >>> 18)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+9] = ((w8 << 44) | (w9 >>> 20)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+10] = ((w9 << 42) | (w10 >>> 22)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+11] = ((w10 << 40) | (w11 >>> 24)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+12] = ((w11 << 38) | (w12 >>> 26)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+13] = ((w12 << 36) | (w13 >>> 28)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+14] = ((w13 << 34) | (w14 >>> 30)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+15] = ((w14 << 32) | (w15 >>> 32)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+16] = ((w15 << 30) | (w16 >>> 34)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+17] = ((w16 << 28) | (w17 >>> 36)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+18] = ((w17 << 26) | (w18 >>> 38)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+19] = ((w18 << 24) | (w19 >>> 40)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+20] = ((w19 << 22) | (w20 >>> 42)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+21] = ((w20 << 20) | (w21 >>> 44)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+22] = ((w21 << 18) | (w22 >>> 46)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+23] = ((w22 << 16) | (w23 >>> 48)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+24] = ((w23 << 14) | (w24 >>> 50)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+25] = ((w24 << 12) | (w25 >>> 52)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+26] = ((w25 << 10) | (w26 >>> 54)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+27] = ((w26 << 8) | (w27 >>> 56)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+28] = ((w27 << 6) | (w28 >>> 58)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+29] = ((w28 << 4) | (w29 >>> 60)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+30] = ((w29 << 2) | (w30 >>> 62)) & 0x3FFFFFFFFFFFFFFFL;
+        out[op+31] = w30 & 0x3FFFFFFFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+32] = w31 >>> 2;
+        final long w32 = in[ip+32];
+        out[op+33] = ((w31 << 60) | (w32 >>> 4)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+34] = ((w32 << 58) | (w33 >>> 6)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+35] = ((w33 << 56) | (w34 >>> 8)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+36] = ((w34 << 54) | (w35 >>> 10)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+37] = ((w35 << 52) | (w36 >>> 12)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+38] = ((w36 << 50) | (w37 >>> 14)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+39] = ((w37 << 48) | (w38 >>> 16)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+40] = ((w38 << 46) | (w39 >>> 18)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+41] = ((w39 << 44) | (w40 >>> 20)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+42] = ((w40 << 42) | (w41 >>> 22)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+43] = ((w41 << 40) | (w42 >>> 24)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w43 = in[ip+43];
+        out[op+44] = ((w42 << 38) | (w43 >>> 26)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w44 = in[ip+44];
+        out[op+45] = ((w43 << 36) | (w44 >>> 28)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w45 = in[ip+45];
+        out[op+46] = ((w44 << 34) | (w45 >>> 30)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w46 = in[ip+46];
+        out[op+47] = ((w45 << 32) | (w46 >>> 32)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w47 = in[ip+47];
+        out[op+48] = ((w46 << 30) | (w47 >>> 34)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w48 = in[ip+48];
+        out[op+49] = ((w47 << 28) | (w48 >>> 36)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w49 = in[ip+49];
+        out[op+50] = ((w48 << 26) | (w49 >>> 38)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w50 = in[ip+50];
+        out[op+51] = ((w49 << 24) | (w50 >>> 40)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w51 = in[ip+51];
+        out[op+52] = ((w50 << 22) | (w51 >>> 42)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w52 = in[ip+52];
+        out[op+53] = ((w51 << 20) | (w52 >>> 44)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w53 = in[ip+53];
+        out[op+54] = ((w52 << 18) | (w53 >>> 46)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w54 = in[ip+54];
+        out[op+55] = ((w53 << 16) | (w54 >>> 48)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w55 = in[ip+55];
+        out[op+56] = ((w54 << 14) | (w55 >>> 50)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w56 = in[ip+56];
+        out[op+57] = ((w55 << 12) | (w56 >>> 52)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w57 = in[ip+57];
+        out[op+58] = ((w56 << 10) | (w57 >>> 54)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w58 = in[ip+58];
+        out[op+59] = ((w57 << 8) | (w58 >>> 56)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w59 = in[ip+59];
+        out[op+60] = ((w58 << 6) | (w59 >>> 58)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w60 = in[ip+60];
+        out[op+61] = ((w59 << 4) | (w60 >>> 60)) & 0x3FFFFFFFFFFFFFFFL;
+        final long w61 = in[ip+61];
+        out[op+62] = ((w60 << 2) | (w61 >>> 62)) & 0x3FFFFFFFFFFFFFFFL;
+        out[op+63] = w61 & 0x3FFFFFFFFFFFFFFFL;
+    }
+
+    private static void _unpack63(long[] in, int ip, long[] out, int op)
+    {
+        final long w0 = in[ip];
+        out[op] = w0 >>> 1;
+        final long w1 = in[ip+1];
+        out[op+1] = ((w0 << 62) | (w1 >>> 2)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w2 = in[ip+2];
+        out[op+2] = ((w1 << 61) | (w2 >>> 3)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w3 = in[ip+3];
+        out[op+3] = ((w2 << 60) | (w3 >>> 4)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w4 = in[ip+4];
+        out[op+4] = ((w3 << 59) | (w4 >>> 5)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w5 = in[ip+5];
+        out[op+5] = ((w4 << 58) | (w5 >>> 6)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w6 = in[ip+6];
+        out[op+6] = ((w5 << 57) | (w6 >>> 7)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w7 = in[ip+7];
+        out[op+7] = ((w6 << 56) | (w7 >>> 8)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w8 = in[ip+8];
+        out[op+8] = ((w7 << 55) | (w8 >>> 9)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w9 = in[ip+9];
+        out[op+9] = ((w8 << 54) | (w9 >>> 10)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w10 = in[ip+10];
+        out[op+10] = ((w9 << 53) | (w10 >>> 11)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w11 = in[ip+11];
+        out[op+11] = ((w10 << 52) | (w11 >>> 12)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w12 = in[ip+12];
+        out[op+12] = ((w11 << 51) | (w12 >>> 13)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w13 = in[ip+13];
+        out[op+13] = ((w12 << 50) | (w13 >>> 14)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w14 = in[ip+14];
+        out[op+14] = ((w13 << 49) | (w14 >>> 15)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w15 = in[ip+15];
+        out[op+15] = ((w14 << 48) | (w15 >>> 16)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w16 = in[ip+16];
+        out[op+16] = ((w15 << 47) | (w16 >>> 17)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w17 = in[ip+17];
+        out[op+17] = ((w16 << 46) | (w17 >>> 18)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w18 = in[ip+18];
+        out[op+18] = ((w17 << 45) | (w18 >>> 19)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w19 = in[ip+19];
+        out[op+19] = ((w18 << 44) | (w19 >>> 20)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w20 = in[ip+20];
+        out[op+20] = ((w19 << 43) | (w20 >>> 21)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w21 = in[ip+21];
+        out[op+21] = ((w20 << 42) | (w21 >>> 22)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w22 = in[ip+22];
+        out[op+22] = ((w21 << 41) | (w22 >>> 23)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w23 = in[ip+23];
+        out[op+23] = ((w22 << 40) | (w23 >>> 24)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w24 = in[ip+24];
+        out[op+24] = ((w23 << 39) | (w24 >>> 25)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w25 = in[ip+25];
+        out[op+25] = ((w24 << 38) | (w25 >>> 26)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w26 = in[ip+26];
+        out[op+26] = ((w25 << 37) | (w26 >>> 27)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w27 = in[ip+27];
+        out[op+27] = ((w26 << 36) | (w27 >>> 28)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w28 = in[ip+28];
+        out[op+28] = ((w27 << 35) | (w28 >>> 29)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w29 = in[ip+29];
+        out[op+29] = ((w28 << 34) | (w29 >>> 30)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w30 = in[ip+30];
+        out[op+30] = ((w29 << 33) | (w30 >>> 31)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w31 = in[ip+31];
+        out[op+31] = ((w30 << 32) | (w31 >>> 32)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w32 = in[ip+32];
+        out[op+32] = ((w31 << 31) | (w32 >>> 33)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w33 = in[ip+33];
+        out[op+33] = ((w32 << 30) | (w33 >>> 34)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w34 = in[ip+34];
+        out[op+34] = ((w33 << 29) | (w34 >>> 35)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w35 = in[ip+35];
+        out[op+35] = ((w34 << 28) | (w35 >>> 36)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w36 = in[ip+36];
+        out[op+36] = ((w35 << 27) | (w36 >>> 37)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w37 = in[ip+37];
+        out[op+37] = ((w36 << 26) | (w37 >>> 38)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w38 = in[ip+38];
+        out[op+38] = ((w37 << 25) | (w38 >>> 39)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w39 = in[ip+39];
+        out[op+39] = ((w38 << 24) | (w39 >>> 40)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w40 = in[ip+40];
+        out[op+40] = ((w39 << 23) | (w40 >>> 41)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w41 = in[ip+41];
+        out[op+41] = ((w40 << 22) | (w41 >>> 42)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w42 = in[ip+42];
+        out[op+42] = ((w41 << 21) | (w42 >>> 43)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w43 = in[ip+43];
+        out[op+43] = ((w42 << 20) | (w43 >>> 44)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w44 = in[ip+44];
+        out[op+44] = ((w43 << 19) | (w44 >>> 45)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w45 = in[ip+45];
+        out[op+45] = ((w44 << 18) | (w45 >>> 46)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w46 = in[ip+46];
+        out[op+46] = ((w45 << 17) | (w46 >>> 47)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w47 = in[ip+47];
+        out[op+47] = ((w46 << 16) | (w47 >>> 48)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w48 = in[ip+48];
+        out[op+48] = ((w47 << 15) | (w48 >>> 49)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w49 = in[ip+49];
+        out[op+49] = ((w48 << 14) | (w49 >>> 50)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w50 = in[ip+50];
+        out[op+50] = ((w49 << 13) | (w50 >>> 51)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w51 = in[ip+51];
+        out[op+51] = ((w50 << 12) | (w51 >>> 52)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w52 = in[ip+52];
+        out[op+52] = ((w51 << 11) | (w52 >>> 53)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w53 = in[ip+53];
+        out[op+53] = ((w52 << 10) | (w53 >>> 54)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w54 = in[ip+54];
+        out[op+54] = ((w53 << 9) | (w54 >>> 55)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w55 = in[ip+55];
+        out[op+55] = ((w54 << 8) | (w55 >>> 56)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w56 = in[ip+56];
+        out[op+56] = ((w55 << 7) | (w56 >>> 57)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w57 = in[ip+57];
+        out[op+57] = ((w56 << 6) | (w57 >>> 58)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w58 = in[ip+58];
+        out[op+58] = ((w57 << 5) | (w58 >>> 59)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w59 = in[ip+59];
+        out[op+59] = ((w58 << 4) | (w59 >>> 60)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w60 = in[ip+60];
+        out[op+60] = ((w59 << 3) | (w60 >>> 61)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w61 = in[ip+61];
+        out[op+61] = ((w60 << 2) | (w61 >>> 62)) & 0x7FFFFFFFFFFFFFFFL;
+        final long w62 = in[ip+62];
+        out[op+62] = ((w61 << 1) | (w62 >>> 63)) & 0x7FFFFFFFFFFFFFFFL;
+        out[op+63] = w62 & 0x7FFFFFFFFFFFFFFFL;
+    }
+}
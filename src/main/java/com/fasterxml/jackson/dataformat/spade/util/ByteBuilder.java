@@ -0,0 +1,168 @@
+package com.fasterxml.jackson.dataformat.spade.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer used for buffering encoded content, with helper methods
+ * for appending variable-length integers ("VInts": 7 bits per byte, least-significant
+ * group first, high bit set for all but the last byte) and fixed-length big-endian
+ * values. Extends {@link OutputStream} so it can be used as a target for
+ * stream-based encoders.
+ */
+public final class ByteBuilder extends OutputStream
+{
+    private byte[] _buffer;
+
+    private int _length;
+
+    public ByteBuilder() {
+        this(500);
+    }
+
+    public ByteBuilder(int initialSize) {
+        _buffer = new byte[Math.max(16, initialSize)];
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors
+    /**********************************************************************
+     */
+
+    public int size() { return _length; }
+
+    /**
+     * Accessor for the underlying buffer; only first {@link #size()} bytes are valid.
+     */
+    public byte[] getBuffer() { return _buffer; }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(_buffer, _length);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(_buffer, 0, _length);
+    }
+
+    public void reset() {
+        _length = 0;
+    }
+
+    /*
+    /**********************************************************************
+    /* OutputStream implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public void write(int b) {
+        if (_length == _buffer.length) {
+            _grow(1);
+        }
+        _buffer[_length++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int offset, int len) {
+        if ((_length + len) > _buffer.length) {
+            _grow(len);
+        }
+        System.arraycopy(b, offset, _buffer, _length, len);
+        _length += len;
+    }
+
+    /*
+    /**********************************************************************
+    /* Appending encoded values
+    /**********************************************************************
+     */
+
+    /**
+     * Method for appending an unsigned variable-length int; negative values
+     * are encoded as 5 bytes.
+     */
+    public void appendVInt(int value)
+    {
+        if ((_length + 5) > _buffer.length) {
+            _grow(5);
+        }
+        final byte[] buf = _buffer;
+        int ptr = _length;
+        while ((value & ~0x7F) != 0) {
+            buf[ptr++] = (byte) (value | 0x80);
+            value >>>= 7;
+        }
+        buf[ptr++] = (byte) value;
+        _length = ptr;
+    }
+
+    public void appendVLong(long value)
+    {
+        if ((_length + 10) > _buffer.length) {
+            _grow(10);
+        }
+        final byte[] buf = _buffer;
+        int ptr = _length;
+        while ((value & ~0x7FL) != 0L) {
+            buf[ptr++] = (byte) (value | 0x80);
+            value >>>= 7;
+        }
+        buf[ptr++] = (byte) value;
+        _length = ptr;
+    }
+
+    /**
+     * Method for appending a signed int as "zigzag" encoded variable-length int,
+     * so that values with small magnitude use few bytes regardless of sign.
+     */
+    public void appendZigzagVInt(int value) {
+        appendVInt((value << 1) ^ (value >> 31));
+    }
+
+    public void appendZigzagVLong(long value) {
+        appendVLong((value << 1) ^ (value >> 63));
+    }
+
+    public void appendInt32(int value)
+    {
+        if ((_length + 4) > _buffer.length) {
+            _grow(4);
+        }
+        final byte[] buf = _buffer;
+        int ptr = _length;
+        buf[ptr++] = (byte) (value >> 24);
+        buf[ptr++] = (byte) (value >> 16);
+        buf[ptr++] = (byte) (value >> 8);
+        buf[ptr++] = (byte) value;
+        _length = ptr;
+    }
+
+    public void appendInt64(long value) {
+        appendInt32((int) (value >> 32));
+        appendInt32((int) value);
+    }
+
+    /**
+     * Method for appending given bytes prefixed by their length as VInt
+     */
+    public void appendLengthPrefixed(byte[] b, int offset, int len) {
+        appendVInt(len);
+        write(b, offset, len);
+    }
+
+    /**
+     * @return Number of bytes needed to encode given (unsigned) value as VInt
+     */
+    public static int vIntLength(int value) {
+        // 7 bits per byte; need at least one byte even for zero
+        return 1 + ((31 - Integer.numberOfLeadingZeros(value | 1)) / 7);
+    }
+
+    private void _grow(int needed)
+    {
+        int newSize = Math.max(_length + needed, _buffer.length + (_buffer.length >> 1));
+        _buffer = Arrays.copyOf(_buffer, newSize);
+    }
+}
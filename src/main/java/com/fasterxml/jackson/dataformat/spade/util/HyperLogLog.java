@@ -0,0 +1,77 @@
+package com.fasterxml.jackson.dataformat.spade.util;
+
+import java.util.Arrays;
+
+/**
+ * Minimal HyperLogLog sketch for estimating number of distinct values,
+ * used for column statistics. Uses 2048 one-byte registers, for standard
+ * error of about 2.3%; small cardinalities are estimated using linear counting,
+ * which is nearly exact for up to a few hundred values.
+ *<p>
+ * Callers add 64-bit hashes of values; {@link #hash(long)} may be used for
+ * mixing bits of values that are not yet well distributed.
+ */
+public final class HyperLogLog
+{
+    private final static int INDEX_BITS = 11;
+
+    private final static int REGISTER_COUNT = 1 << INDEX_BITS;
+
+    private final static double ALPHA = 0.7213 / (1.0 + 1.079 / REGISTER_COUNT);
+
+    private final byte[] _registers = new byte[REGISTER_COUNT];
+
+    // Number of registers that are still zero; needed for linear counting
+    private int _zeroRegisters = REGISTER_COUNT;
+
+    /**
+     * Mixing function (finalizer of MurmurHash3) for turning values into
+     * hashes with well-distributed bits.
+     */
+    public static long hash(long v)
+    {
+        v ^= (v >>> 33);
+        v *= 0xff51afd7ed558ccdL;
+        v ^= (v >>> 33);
+        v *= 0xc4ceb9fe1a85ec53L;
+        return v ^ (v >>> 33);
+    }
+
+    public void add(long hash)
+    {
+        final int index = (int) (hash >>> (64 - INDEX_BITS));
+        // rank: position of the first set bit of remaining bits
+        final int rank = Long.numberOfLeadingZeros((hash << INDEX_BITS) | (1L << (INDEX_BITS - 1))) + 1;
+        final int old = _registers[index];
+        if (rank > old) {
+            if (old == 0) {
+                --_zeroRegisters;
+            }
+            _registers[index] = (byte) rank;
+        }
+    }
+
+    /**
+     * @return Estimated number of distinct hashes added since construction or
+     *    the last {@link #reset}
+     */
+    public long estimate()
+    {
+        final double m = REGISTER_COUNT;
+        double sum = 0.0;
+        for (byte b : _registers) {
+            sum += Double.longBitsToDouble((1023L - b) << 52); // 2^-b
+        }
+        final double raw = ALPHA * m * m / sum;
+        if ((raw <= 2.5 * m) && (_zeroRegisters > 0)) {
+            return Math.round(m * Math.log(m / _zeroRegisters));
+        }
+        return Math.round(raw);
+    }
+
+    public void reset()
+    {
+        Arrays.fill(_registers, (byte) 0);
+        _zeroRegisters = REGISTER_COUNT;
+    }
+}
@@ -0,0 +1,105 @@
+package com.fasterxml.jackson.dataformat.spade.util;
+
+/**
+ * Strategy for scanning raw presence bytes for all-zero/all-one runs, used by
+ * encoders for their innermost loops. Default implementation is plain scalar
+ * (byte-at-a-time) one; but if running on JDK 17 or later, with
+ * <code>jdk.incubator.vector</code> module enabled (JVM option
+ * <code>--add-modules jdk.incubator.vector</code>), a SIMD implementation
+ * that compares 16 - 64 bytes at a time is used instead.
+ * Both produce identical results.
+ *<p>
+ * Use of vectorized implementation may be prevented by setting system property
+ * {@link #SYSPROP_DISABLE_VECTOR} to <code>true</code>.
+ */
+public abstract class RunScanner
+{
+    public final static String SYSPROP_DISABLE_VECTOR = "com.fasterxml.jackson.dataformat.spade.disableVector";
+
+    private final static String VECTOR_IMPL = "com.fasterxml.jackson.dataformat.spade.util.VectorRunScanner";
+
+    private final static RunScanner DEFAULT = _findDefault();
+
+    /**
+     * Accessor for the best implementation available on current runtime.
+     */
+    public static RunScanner instance() {
+        return DEFAULT;
+    }
+
+    /**
+     * Accessor for the scalar implementation, regardless of runtime support
+     * for vectorization.
+     */
+    public static RunScanner scalar() {
+        return Scalar.INSTANCE;
+    }
+
+    /**
+     * @return Number of bytes, starting at <code>ptr</code> (but before <code>end</code>)
+     *   that are equal to given byte
+     */
+    public abstract int runLength(byte[] input, int ptr, int end, int b);
+
+    /**
+     * @return Offset of the first byte at or after <code>ptr</code> (but before <code>end</code>)
+     *   that is either all-zero or all-one byte, that is, could start a run;
+     *   or <code>end</code> if none
+     */
+    public abstract int findRunCandidate(byte[] input, int ptr, int end);
+
+    /**
+     * @return Short description of the implementation, for diagnostics
+     */
+    public abstract String description();
+
+    @Override
+    public String toString() { return description(); }
+
+    private static RunScanner _findDefault()
+    {
+        try {
+            if (!Boolean.getBoolean(SYSPROP_DISABLE_VECTOR)) {
+                // Fails unless running on JDK 17+ with incubator module added
+                Class.forName("jdk.incubator.vector.ByteVector");
+                return (RunScanner) Class.forName(VECTOR_IMPL).getDeclaredConstructor().newInstance();
+            }
+        } catch (Throwable t) {
+            // Class not found, unsupported class version, security manager; all fine
+        }
+        return Scalar.INSTANCE;
+    }
+
+    /**
+     * Default implementation that compares one byte at a time.
+     */
+    static class Scalar extends RunScanner
+    {
+        final static Scalar INSTANCE = new Scalar();
+
+        @Override
+        public int runLength(byte[] input, int ptr, int end, int b)
+        {
+            final int start = ptr;
+            while ((ptr < end) && (input[ptr] == b)) {
+                ++ptr;
+            }
+            return (ptr - start);
+        }
+
+        @Override
+        public int findRunCandidate(byte[] input, int ptr, int end)
+        {
+            for (; ptr < end; ++ptr) {
+                // 0x00 -> 1, 0xFF -> 0; others larger
+                if (((input[ptr] + 1) & 0xFF) <= 1) {
+                    break;
+                }
+            }
+            return ptr;
+        }
+
+        @Override
+        public String description() { return "scalar"; }
+    }
+}
@@ -1,19 +1,28 @@
 package com.fasterxml.jackson.dataformat.spade.util;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializable;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.dataformat.spade.PresenceBitsetInputStream;
+import com.fasterxml.jackson.dataformat.spade.PresenceBitsetOutputStream;
 
 /**
  * Simple container object used for constructing test data for bitset compression
  * comparison: from simple tabular (but heterogenous data -- think of a sequence
  * of shallow key/value hash maps) data calculate presence bitsets,
  * and allow serialization as well.
+ *<p>
+ * Values of each column are stored in type-specific unboxed form (see
+ * {@link Column}) to keep memory usage low for large data sets; and presence
+ * bitsets are encoded as rows are appended.
  */
 public class ValueBuffer
     implements JsonSerializable
@@ -49,14 +58,55 @@ public class ValueBuffer
         gen.writeEndObject();
     }
 
+    /**
+     * Values of a single column. Values are stored in a type-specialized array
+     * based on type of the first (non-null) value: <code>int[]</code>,
+     * <code>long[]</code>, <code>double[]</code>, bit-packed <code>long[]</code>
+     * for booleans, or UTF-8 bytes with end offsets for Strings.
+     * Column is only promoted to a wider type (from int to long), or to
+     * "mixed" type that stores values as {@link Object}s, when a value
+     * of conflicting type is appended.
+     *<p>
+     * Since rows are appended in increasing order, presence bitset is appended
+     * as gaps between rows to a {@link PresenceBitsetOutputStream}, which encodes
+     * it one chunk at a time; bitset is only decoded when accessed.
+     */
     public static class Column implements JsonSerializable
     {
+        public final static int TYPE_EMPTY = 0;
+        public final static int TYPE_BOOLEAN = 1;
+        public final static int TYPE_INT = 2;
+        public final static int TYPE_LONG = 3;
+        public final static int TYPE_DOUBLE = 4;
+        public final static int TYPE_STRING = 5;
+        public final static int TYPE_MIXED = 6;
+
+        private final static int INITIAL_CAPACITY = 16;
+
         public final String name;
-        public final List<Object> values = new ArrayList<>();
-        public final BitSet presence = new BitSet();
         public int lastRow = -1; // for sanity checking
         public int entries;
 
+        protected int _type = TYPE_EMPTY;
+
+        // Encoded presence bitset, and stream for appending to it
+        protected final ByteBuilder _presence = new ByteBuilder();
+        protected final PresenceBitsetOutputStream _presenceWriter
+            = new PresenceBitsetOutputStream(_presence, PresenceBitsetOutputStream.CODEC_ADAPTIVE);
+
+        // Indexes of null values, if any; lazily constructed
+        protected BitSet _nulls;
+
+        protected int[] _ints;
+        protected long[] _longs; // for longs, as well as bit-packed booleans
+        protected double[] _doubles;
+        protected Object[] _objects;
+
+        // For Strings: end offsets of values within UTF-8 content buffer
+        protected int[] _stringEnds;
+        protected byte[] _stringBytes;
+        protected int _stringBytesLength;
+
         public Column(String n) {
             name = n;
         }
@@ -67,70 +117,405 @@ public class ValueBuffer
                         "Bad row index %d for property '%s': last given was %s",
                         rowNr, name, lastRow));
             }
+            try {
+                _presenceWriter.appendSetBit(rowNr - lastRow - 1);
+            } catch (IOException e) { // should never occur, as we write into memory
+                throw new IllegalStateException(e);
+            }
             lastRow = rowNr;
-            values.add(value);
-            presence.set(rowNr);
+            _appendValue(value);
             ++entries;
+        }
+
+        /*
+        /**********************************************************************
+        /* Accessors
+        /**********************************************************************
+         */
+
+        /**
+         * @return Type of storage used for values; one of <code>TYPE_xxx</code> constants
+         */
+        public int getType() { return _type; }
+
+        /**
+         * Accessor for encoded presence bitset (see {@link PresenceBitsetOutputStream}
+         * for format), covering rows up to and including the last one with a value.
+         */
+        public byte[] getEncodedPresence()
+        {
+            final ByteBuilder result = new ByteBuilder(_presence.size() + 64);
+            result.write(_presence.getBuffer(), 0, _presence.size());
+            try {
+                _presenceWriter.encodePending(result);
+            } catch (IOException e) { // should never occur, as we write into memory
+                throw new IllegalStateException(e);
+            }
+            return result.toByteArray();
+        }
 
-// sanity check
-//            if (values.size() != entries) throw new Error("Entries '"+entries+", but buffered "+values.size()+" values");
+        /**
+         * Accessor for decoded presence bitset, with bits ordered most-significant-bit
+         * first, up to and including the last byte with a set bit.
+         */
+        public byte[] getPresence()
+        {
+            final byte[] encoded = getEncodedPresence();
+            final byte[] result = new byte[(lastRow >> 3) + 1];
+            try (InputStream in = new PresenceBitsetInputStream(new ByteArrayInputStream(encoded))) {
+                int offset = 0;
+                while (offset < result.length) {
+                    final int count = in.read(result, offset, result.length - offset);
+                    if (count < 0) {
+                        throw new IOException("Unexpected end of presence bitset");
+                    }
+                    offset += count;
+                }
+            } catch (IOException e) { // should never occur, as we wrote the content
+                throw new IllegalStateException(e);
+            }
+            return result;
+        }
+
+        /**
+         * Accessor for value with given index (NOT row index); note that this will
+         * box primitive values.
+         */
+        public Object getValue(int index)
+        {
+            if (index < 0 || index >= entries) {
+                throw new IllegalArgumentException(String.format(
+                        "Invalid value index %d for property '%s': only %d values",
+                        index, name, entries));
+            }
+            if (_isNull(index)) {
+                return null;
+            }
+            switch (_type) {
+            case TYPE_BOOLEAN:
+                return Boolean.valueOf(_getBit(index));
+            case TYPE_INT:
+                return Integer.valueOf(_ints[index]);
+            case TYPE_LONG:
+                return Long.valueOf(_longs[index]);
+            case TYPE_DOUBLE:
+                return Double.valueOf(_doubles[index]);
+            case TYPE_STRING:
+                {
+                    int start = (index == 0) ? 0 : _stringEnds[index-1];
+                    return new String(_stringBytes, start, _stringEnds[index] - start,
+                            StandardCharsets.UTF_8);
+                }
+            case TYPE_MIXED:
+                return _objects[index];
+            default: // TYPE_EMPTY, all nulls
+                return null;
+            }
+        }
+
+        /*
+        /**********************************************************************
+        /* Internal methods, appending
+        /**********************************************************************
+         */
+
+        protected void _appendValue(Object value)
+        {
+            final int index = entries;
+            if (value == null) {
+                if (_nulls == null) {
+                    _nulls = new BitSet();
+                }
+                _nulls.set(index);
+                _appendPlaceholder(index);
+                return;
+            }
+            if (_type == TYPE_EMPTY) {
+                _initType(value);
+            }
+            switch (_type) {
+            case TYPE_BOOLEAN:
+                if (value instanceof Boolean) {
+                    _appendBoolean(index, ((Boolean) value).booleanValue());
+                    return;
+                }
+                break;
+            case TYPE_INT:
+                if (value instanceof Integer) {
+                    _ints = _ensureCapacity(_ints, index);
+                    _ints[index] = ((Integer) value).intValue();
+                    return;
+                }
+                if (value instanceof Long) { // widen, but only for longs
+                    _promoteToLong();
+                    _appendLong(index, ((Long) value).longValue());
+                    return;
+                }
+                break;
+            case TYPE_LONG:
+                if ((value instanceof Long) || (value instanceof Integer)) {
+                    _appendLong(index, ((Number) value).longValue());
+                    return;
+                }
+                break;
+            case TYPE_DOUBLE:
+                if (value instanceof Double) {
+                    _doubles = _ensureCapacity(_doubles, index);
+                    _doubles[index] = ((Double) value).doubleValue();
+                    return;
+                }
+                break;
+            case TYPE_STRING:
+                if ((value instanceof String) || (value instanceof Character)) {
+                    _appendString(index, value.toString());
+                    return;
+                }
+                break;
+            default:
+            }
+            if (_type != TYPE_MIXED) {
+                _promoteToMixed();
+            }
+            _objects = _ensureCapacity(_objects, index);
+            _objects[index] = value;
+        }
+
+        protected void _initType(Object value)
+        {
+            if (value instanceof Boolean) {
+                _type = TYPE_BOOLEAN;
+            } else if (value instanceof Integer) {
+                _type = TYPE_INT;
+            } else if (value instanceof Long) {
+                _type = TYPE_LONG;
+            } else if (value instanceof Double) {
+                _type = TYPE_DOUBLE;
+            } else if ((value instanceof String) || (value instanceof Character)) {
+                _type = TYPE_STRING;
+            } else {
+                _type = TYPE_MIXED;
+            }
+            // and then need to add placeholders for nulls before the first value, if any
+            for (int i = 0; i < entries; ++i) {
+                _appendPlaceholder(i);
+            }
+        }
+
+        // Method for adding slot for a null value, so that value indexes stay aligned
+        protected void _appendPlaceholder(int index)
+        {
+            switch (_type) {
+            case TYPE_BOOLEAN:
+                _appendBoolean(index, false);
+                break;
+            case TYPE_INT:
+                _ints = _ensureCapacity(_ints, index);
+                break;
+            case TYPE_LONG:
+                _appendLong(index, 0L);
+                break;
+            case TYPE_DOUBLE:
+                _doubles = _ensureCapacity(_doubles, index);
+                break;
+            case TYPE_STRING:
+                _appendString(index, "");
+                break;
+            case TYPE_MIXED:
+                _objects = _ensureCapacity(_objects, index);
+                break;
+            default: // TYPE_EMPTY: no storage needed yet
+            }
         }
 
+        protected void _appendBoolean(int index, boolean state)
+        {
+            final int word = index >> 6;
+            if (_longs == null) {
+                _longs = new long[INITIAL_CAPACITY];
+            } else if (word >= _longs.length) {
+                _longs = Arrays.copyOf(_longs, _longs.length << 1);
+            }
+            if (state) {
+                _longs[word] |= (1L << index);
+            }
+        }
+
+        protected void _appendLong(int index, long value)
+        {
+            _longs = _ensureCapacity(_longs, index);
+            _longs[index] = value;
+        }
+
+        protected void _appendString(int index, String value)
+        {
+            byte[] b = value.getBytes(StandardCharsets.UTF_8);
+            if (_stringBytes == null) {
+                _stringBytes = new byte[Math.max(INITIAL_CAPACITY * 8, b.length)];
+            } else if ((_stringBytesLength + b.length) > _stringBytes.length) {
+                _stringBytes = Arrays.copyOf(_stringBytes,
+                        Math.max(_stringBytes.length << 1, _stringBytesLength + b.length));
+            }
+            System.arraycopy(b, 0, _stringBytes, _stringBytesLength, b.length);
+            _stringBytesLength += b.length;
+            _stringEnds = _ensureCapacity(_stringEnds, index);
+            _stringEnds[index] = _stringBytesLength;
+        }
+
+        protected void _promoteToLong()
+        {
+            final int count = entries;
+            long[] longs = new long[Math.max(INITIAL_CAPACITY, _ints.length)];
+            for (int i = 0; i < count; ++i) {
+                longs[i] = _ints[i];
+            }
+            _longs = longs;
+            _ints = null;
+            _type = TYPE_LONG;
+        }
+
+        protected void _promoteToMixed()
+        {
+            final int count = entries;
+            Object[] objects = new Object[Math.max(INITIAL_CAPACITY, count + (count >> 1))];
+            for (int i = 0; i < count; ++i) {
+                objects[i] = getValue(i);
+            }
+            _objects = objects;
+            _ints = null;
+            _longs = null;
+            _doubles = null;
+            _stringEnds = null;
+            _stringBytes = null;
+            _stringBytesLength = 0;
+            _type = TYPE_MIXED;
+        }
+
+        private final boolean _isNull(int index) {
+            return (_nulls != null) && _nulls.get(index);
+        }
+
+        private final boolean _getBit(int index) {
+            return (_longs[index >> 6] & (1L << index)) != 0L;
+        }
+
+        private static int[] _ensureCapacity(int[] arr, int index) {
+            if (arr == null) {
+                return new int[INITIAL_CAPACITY];
+            }
+            return (index < arr.length) ? arr : Arrays.copyOf(arr, arr.length << 1);
+        }
+
+        private static long[] _ensureCapacity(long[] arr, int index) {
+            if (arr == null) {
+                return new long[INITIAL_CAPACITY];
+            }
+            return (index < arr.length) ? arr : Arrays.copyOf(arr, arr.length << 1);
+        }
+
+        private static double[] _ensureCapacity(double[] arr, int index) {
+            if (arr == null) {
+                return new double[INITIAL_CAPACITY];
+            }
+            return (index < arr.length) ? arr : Arrays.copyOf(arr, arr.length << 1);
+        }
+
+        private static Object[] _ensureCapacity(Object[] arr, int index) {
+            if (arr == null) {
+                return new Object[INITIAL_CAPACITY];
+            }
+            return (index < arr.length) ? arr : Arrays.copyOf(arr, arr.length << 1);
+        }
+
+        /*
+        /**********************************************************************
+        /* Serialization
+        /**********************************************************************
+         */
+
         @Override
         public void serialize(JsonGenerator gen, SerializerProvider provider) throws IOException
         {
             gen.writeStartArray();
-            // first: write presence set as byte[] (note: could optimize, won't for now)
-            gen.writeBinary(presence.toByteArray());
+            // first: write presence set as byte[], most-significant-bit first
+            gen.writeBinary(getPresence());
             // then all values
-            int row = 0;
-            for (Object ob : values) {
-                ++row;
-                if (ob == null) {
+            final int count = entries;
+            for (int i = 0; i < count; ++i) {
+                if (_isNull(i)) {
                     gen.writeNull(); // should we ever get these?
-                } else if (ob instanceof String) {
-                    gen.writeString((String) ob);
-                } else if (ob instanceof Boolean) {
-                    gen.writeBoolean(((Boolean) ob).booleanValue());
-                } else if (ob instanceof Number) {
-                    if (ob instanceof Integer) {
-                        gen.writeNumber((Integer) ob);
-                    } else if (ob instanceof Long) {
-                        gen.writeNumber((Long) ob);
-                    } else if (ob instanceof Double) {
-                        gen.writeNumber((Double) ob);
-                    } else if (ob instanceof BigDecimal) {
-                        gen.writeNumber((BigDecimal) ob);
-                    } else {
-                        throw new IllegalStateException("Weird number: "+ob.getClass());
-                    }
-                } else if (ob instanceof Character) {
-                    gen.writeString(ob.toString());
-                } else if (ob instanceof Collection<?>) {
-                    Collection<?> values = (Collection<?>) ob;
-                    gen.writeStartArray();
-                    if (!values.isEmpty()) {
-                        for (Object value : values) {
-                            gen.writeString((String) value);
-                        }
-                    }
-                    gen.writeEndArray();
-                } else if (ob instanceof String[]) {
-                    String[] values = (String[]) ob;
-                    gen.writeStartArray();
-                    for (String value : values) {
-                        gen.writeString(value);
+                    continue;
+                }
+                switch (_type) {
+                case TYPE_BOOLEAN:
+                    gen.writeBoolean(_getBit(i));
+                    break;
+                case TYPE_INT:
+                    gen.writeNumber(_ints[i]);
+                    break;
+                case TYPE_LONG:
+                    gen.writeNumber(_longs[i]);
+                    break;
+                case TYPE_DOUBLE:
+                    gen.writeNumber(_doubles[i]);
+                    break;
+                case TYPE_STRING:
+                    {
+                        int start = (i == 0) ? 0 : _stringEnds[i-1];
+                        gen.writeUTF8String(_stringBytes, start, _stringEnds[i] - start);
                     }
-                    gen.writeEndArray();
-                } else {
-                    throw new IllegalStateException(String.format(
-                            "Weird value for field '%s', row #%d: %s",
-                            name, row, ob.getClass()));
+                    break;
+                default:
+                    _writeObject(gen, i, _objects[i]);
                 }
             }
             gen.writeEndArray();
         }
 
+        protected void _writeObject(JsonGenerator gen, int index, Object ob) throws IOException
+        {
+            if (ob == null) {
+                gen.writeNull();
+            } else if (ob instanceof String) {
+                gen.writeString((String) ob);
+            } else if (ob instanceof Boolean) {
+                gen.writeBoolean(((Boolean) ob).booleanValue());
+            } else if (ob instanceof Number) {
+                if (ob instanceof Integer) {
+                    gen.writeNumber((Integer) ob);
+                } else if (ob instanceof Long) {
+                    gen.writeNumber((Long) ob);
+                } else if (ob instanceof Double) {
+                    gen.writeNumber((Double) ob);
+                } else if (ob instanceof BigDecimal) {
+                    gen.writeNumber((BigDecimal) ob);
+                } else {
+                    throw new IllegalStateException("Weird number: "+ob.getClass());
+                }
+            } else if (ob instanceof Character) {
+                gen.writeString(ob.toString());
+            } else if (ob instanceof Collection<?>) {
+                Collection<?> values = (Collection<?>) ob;
+                gen.writeStartArray();
+                if (!values.isEmpty()) {
+                    for (Object value : values) {
+                        gen.writeString((String) value);
+                    }
+                }
+                gen.writeEndArray();
+            } else if (ob instanceof String[]) {
+                String[] values = (String[]) ob;
+                gen.writeStartArray();
+                for (String value : values) {
+                    gen.writeString(value);
+                }
+                gen.writeEndArray();
+            } else {
+                throw new IllegalStateException(String.format(
+                        "Weird value for field '%s', row #%d: %s",
+                        name, index+1, ob.getClass()));
+            }
+        }
+
         @Override
         public void serializeWithType(JsonGenerator gen, SerializerProvider provider, TypeSerializer tser)
                 throws IOException {
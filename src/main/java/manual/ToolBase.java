@@ -4,6 +4,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.util.BitSet;
 import java.util.HashSet;
@@ -14,6 +15,8 @@ import java.util.Set;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.spade.BitRatEncoder;
+import com.fasterxml.jackson.dataformat.spade.EncoderContext;
+import com.fasterxml.jackson.dataformat.spade.EncoderContextPool;
 import com.fasterxml.jackson.dataformat.spade.NibblerEncoder;
 
 public class ToolBase
@@ -96,26 +99,26 @@ public class ToolBase
         return bytes.size();
     }
 
-    final byte[] _ratInput = new byte[4096];
-    
+    /**
+     * Encoders and buffers are reused across calls, since tools compress
+     * large numbers of bitsets
+     */
+    final EncoderContextPool _encoders = EncoderContextPool.threadLocalPool();
+
     int ratCompress(byte[] data)
     {
-        byte[] output = new byte[4096 + 100];
-        final BitRatEncoder enc = new BitRatEncoder();
-        int i = 0;
-        int left = data.length;
+        final ByteBuffer input = ByteBuffer.wrap(data);
+        final EncoderContext ctx = _encoders.acquire();
+        final ByteBuffer output = ctx.getOutputByteBuffer();
+        final BitRatEncoder enc = ctx.getBitRatEncoder();
         int totalOutput = 0;
 
-        for (; left >= 4096; i += 4096, left -= 4096) {
-            System.arraycopy(data, i, _ratInput, 0, 4096);
-            enc.encodeFullChunk(false, _ratInput, output, 0);
-            totalOutput += enc.getOutputPtr() + ratOverheadPerChunk();
-        }
-        if (left > 0) {
-            System.arraycopy(data, i, _ratInput, 0, left);
-            enc.encodePartialChunk(false, _ratInput, left, output, 0);
-            totalOutput += enc.getOutputPtr() + ratOverheadPerChunk();
+        while (input.hasRemaining()) {
+            output.clear();
+            enc.encodePartialChunk(false, input, Math.min(input.remaining(), 4096), output);
+            totalOutput += output.position() + ratOverheadPerChunk();
         }
+        ctx.release();
         return totalOutput;
     }
 
@@ -123,25 +126,26 @@ public class ToolBase
         // one byte for bit mask, 2-byte length indicator
         return 1 + 2;
     }
-    
-    final byte[] _nibblerOutput = new byte[NibblerEncoder.MAX_OUTPUT_BUFFER];
-    
+
     int nibblerCompress(byte[] data)
     {
         final int CHUNK_LEN = NibblerEncoder.MAX_CHUNK_SIZE;
-        final NibblerEncoder enc = new NibblerEncoder();
+        final EncoderContext ctx = _encoders.acquire();
+        final NibblerEncoder enc = ctx.getNibblerEncoder();
+        final byte[] output = ctx.getOutputBuffer();
         int i = 0;
         int left = data.length;
         int totalOutput = 0;
 
         for (; left >= CHUNK_LEN; i += CHUNK_LEN, left -= CHUNK_LEN) {
-            int outBytes = enc.encode(data, i, CHUNK_LEN, _nibblerOutput, 0);
+            int outBytes = enc.encode(data, i, CHUNK_LEN, output, 0);
             totalOutput += outBytes;
         }
         if (left > 0) {
-            int outBytes = enc.encode(data, i, left, _nibblerOutput, 0);
+            int outBytes = enc.encode(data, i, left, output, 0);
             totalOutput += outBytes;
         }
+        ctx.release();
         return totalOutput;
     }
 
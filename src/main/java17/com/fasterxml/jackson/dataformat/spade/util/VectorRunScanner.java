@@ -0,0 +1,67 @@
+package com.fasterxml.jackson.dataformat.spade.util;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link RunScanner} implementation that uses JDK Vector API (incubating in
+ * JDK 17) to compare as many bytes at a time as preferred vector size
+ * of the platform allows. Only loaded via reflection, by
+ * {@link RunScanner#instance()}, if runtime supports it.
+ */
+public class VectorRunScanner extends RunScanner
+{
+    private final static VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    private final static int LANES = SPECIES.length();
+
+    private final static ByteVector ZEROES = ByteVector.zero(SPECIES);
+
+    private final static ByteVector ONES = ByteVector.broadcast(SPECIES, (byte) -1);
+
+    public VectorRunScanner() { }
+
+    @Override
+    public int runLength(byte[] input, int ptr, int end, int b)
+    {
+        final int start = ptr;
+        final ByteVector match = (b == 0) ? ZEROES : ONES;
+        for (final int last = end - LANES; ptr <= last; ptr += LANES) {
+            VectorMask<Byte> diff = ByteVector.fromArray(SPECIES, input, ptr)
+                    .compare(VectorOperators.NE, match);
+            if (diff.anyTrue()) {
+                return ptr + diff.firstTrue() - start;
+            }
+        }
+        while ((ptr < end) && (input[ptr] == b)) {
+            ++ptr;
+        }
+        return (ptr - start);
+    }
+
+    @Override
+    public int findRunCandidate(byte[] input, int ptr, int end)
+    {
+        for (final int last = end - LANES; ptr <= last; ptr += LANES) {
+            ByteVector v = ByteVector.fromArray(SPECIES, input, ptr);
+            VectorMask<Byte> found = v.compare(VectorOperators.EQ, ZEROES)
+                    .or(v.compare(VectorOperators.EQ, ONES));
+            if (found.anyTrue()) {
+                return ptr + found.firstTrue();
+            }
+        }
+        for (; ptr < end; ++ptr) {
+            if (((input[ptr] + 1) & 0xFF) <= 1) {
+                break;
+            }
+        }
+        return ptr;
+    }
+
+    @Override
+    public String description() {
+        return "vector("+SPECIES+")";
+    }
+}
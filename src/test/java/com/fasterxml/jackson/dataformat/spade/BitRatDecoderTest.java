@@ -0,0 +1,164 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class BitRatDecoderTest extends ModuleTestBase
+{
+    private final static int FULL = BitRatEncoder.FULL_CHUNK_SIZE;
+
+    public void testFullChunkRuns()
+    {
+        byte[] input = new byte[FULL];
+        _verifyFull(input, false);
+        _verifyFull(input, true);
+
+        Arrays.fill(input, (byte) 0xFF);
+        _verifyFull(input, false);
+        _verifyFull(input, true);
+
+        input = new byte[FULL];
+        Arrays.fill(input, FULL/2, FULL, (byte) 0xFF);
+        _verifyFull(input, false);
+
+        input = new byte[FULL];
+        input[0] = 0x01;
+        input[1000] = (byte) 0x80;
+        input[FULL-1] = 0x7F;
+        _verifyFull(input, false);
+        _verifyFull(input, true);
+    }
+
+    public void testFullChunkLiterals()
+    {
+        byte[] input = new byte[FULL];
+        Arrays.fill(input, (byte) 0xAA);
+        _verifyFull(input, false);
+        Arrays.fill(input, (byte) 0x55);
+        _verifyFull(input, true);
+
+        Random r = new Random(123);
+        for (int i = 0; i < 20; ++i) {
+            _verifyFull(_randomInput(r, FULL, i), (i & 1) == 0);
+        }
+    }
+
+    public void testPartialChunks()
+    {
+        Random r = new Random(42);
+        final int[] SIZES = new int[] { 1, 3, 7, 8, 9, 31, 32, 63, 64, 65, 100,
+                511, 512, 513, 512+64+8+3, 1000, 2048, FULL-1 };
+        for (int size : SIZES) {
+            for (int i = 0; i < 10; ++i) {
+                _verifyPartial(_randomInput(r, size, i), (i & 1) != 0);
+            }
+        }
+    }
+
+    public void testMultipleChunks()
+    {
+        final int len = FULL * 5 + 777;
+        byte[] data = _randomInput(new Random(1), len, 3);
+        byte[] encoded = new byte[len * 2];
+        int[] masks = new int[6];
+
+        BitRatEncoder enc = new BitRatEncoder();
+        byte[] chunk = new byte[FULL];
+        int outPtr = 0;
+        boolean prevBit = false;
+        for (int i = 0, offset = 0; offset < len; ++i, offset += FULL) {
+            int count = Math.min(FULL, len - offset);
+            System.arraycopy(data, offset, chunk, 0, count);
+            masks[i] = enc.encodePartialChunk(prevBit, chunk, count, encoded, outPtr);
+            outPtr = enc.getOutputPtr();
+            prevBit = enc.wasLastBitSet();
+        }
+
+        BitRatDecoder dec = new BitRatDecoder();
+        byte[] decoded = new byte[len];
+        int inPtr = 0;
+        prevBit = false;
+        for (int i = 0, offset = 0; offset < len; ++i, offset += FULL) {
+            int count = Math.min(FULL, len - offset);
+            inPtr = dec.decodePartialChunk(prevBit, masks[i], encoded, inPtr, decoded, offset, count);
+            assertEquals(offset + count, dec.getOutputPtr());
+            prevBit = dec.wasLastBitSet();
+        }
+        assertEquals(outPtr, inPtr);
+        _verifyBytes(decoded, data);
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper methods
+    /**********************************************************************
+     */
+
+    private void _verifyFull(byte[] input, boolean prevBit)
+    {
+        byte[] encoded = new byte[FULL * 2];
+        BitRatEncoder enc = new BitRatEncoder();
+        final int offset = 3;
+        int mask = enc.encodeFullChunk(prevBit, input, encoded, offset);
+        int encLen = enc.getOutputPtr();
+
+        BitRatDecoder dec = new BitRatDecoder();
+        byte[] decoded = new byte[FULL];
+        assertEquals(encLen, dec.decodeFullChunk(prevBit, mask, encoded, offset, decoded, 0));
+        assertEquals(FULL, dec.getOutputPtr());
+        assertEquals(enc.wasLastBitSet(), dec.wasLastBitSet());
+        _verifyBytes(decoded, input);
+    }
+
+    private void _verifyPartial(byte[] input, boolean prevBit)
+    {
+        final int len = input.length;
+        byte[] encoded = new byte[len * 2 + 10];
+        BitRatEncoder enc = new BitRatEncoder();
+        int mask = enc.encodePartialChunk(prevBit, input, len, encoded, 0);
+        int encLen = enc.getOutputPtr();
+
+        BitRatDecoder dec = new BitRatDecoder();
+        byte[] decoded = new byte[len + 2];
+        assertEquals(encLen, dec.decodePartialChunk(prevBit, mask, encoded, 0, decoded, 1, len));
+        assertEquals(len + 1, dec.getOutputPtr());
+        assertEquals(enc.wasLastBitSet(), dec.wasLastBitSet());
+        _verifyBytes(Arrays.copyOfRange(decoded, 1, len + 1), input);
+    }
+
+    // Helper for generating input with mix of runs and literals, based on "variant"
+    static byte[] _randomInput(Random r, int len, int variant)
+    {
+        byte[] result = new byte[len];
+        switch (variant % 4) {
+        case 0: // fully random
+            r.nextBytes(result);
+            break;
+        case 1: // sparse bits
+            for (int i = 0; i < 20; ++i) {
+                int ix = r.nextInt(len * 8);
+                result[ix >> 3] |= (byte) (0x80 >> (ix & 7));
+            }
+            break;
+        case 2: // clustered runs
+            for (int i = 0; i < len; ) {
+                int runLen = Math.min(len - i, 1 + r.nextInt(300));
+                if (r.nextBoolean()) {
+                    Arrays.fill(result, i, i + runLen, (byte) 0xFF);
+                }
+                i += runLen;
+                if (i < len) {
+                    result[i++] = (byte) r.nextInt();
+                }
+            }
+            break;
+        default: // dense, with sparse clear bits
+            Arrays.fill(result, (byte) 0xFF);
+            for (int i = 0; i < 20; ++i) {
+                int ix = r.nextInt(len * 8);
+                result[ix >> 3] &= (byte) ~(0x80 >> (ix & 7));
+            }
+        }
+        return result;
+    }
+}
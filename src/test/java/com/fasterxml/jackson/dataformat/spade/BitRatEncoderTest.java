@@ -1,9 +1,14 @@
 package com.fasterxml.jackson.dataformat.spade;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.Random;
 
 public class BitRatEncoderTest extends ModuleTestBase
 {
+    private final static int FULL_CHUNK_SIZE = BitRatEncoder.FULL_CHUNK_SIZE;
+
     public void testFixLast()
     {
         // with 4 bits in last byte, last bit is 1, so should fill
@@ -353,6 +358,64 @@ public class BitRatEncoderTest extends ModuleTestBase
         assertEquals(0xFF, encoder._matchLevel1);
     }
 
+    public void testByteBuffers()
+    {
+        Random r = new Random(3);
+        for (int i = 0; i < 8; ++i) {
+            final int len = (i < 4) ? FULL_CHUNK_SIZE : 1 + r.nextInt(FULL_CHUNK_SIZE - 1);
+            byte[] input = BitRatDecoderTest._randomInput(r, len, i);
+            final boolean prevBit = (i & 1) != 0;
+            byte[] exp = new byte[BitRatEncoder.MAX_OUTPUT_BUFFER];
+            BitRatEncoder enc = new BitRatEncoder();
+            final int expMask = enc.encodePartialChunk(prevBit, input, len, exp, 0);
+            exp = Arrays.copyOf(exp, enc.getOutputPtr());
+
+            for (boolean directIn : new boolean[] { false, true }) {
+                for (boolean directOut : new boolean[] { false, true }) {
+                    for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+                        ByteBuffer in = NibblerEncoderTest._buffer(input, directIn, 5).order(order);
+                        ByteBuffer out = directOut ? ByteBuffer.allocateDirect(exp.length + 1)
+                                : ByteBuffer.allocate(BitRatEncoder.MAX_OUTPUT_BUFFER + 1);
+                        out.position(1);
+                        enc = new BitRatEncoder();
+                        assertEquals(expMask, enc.encodePartialChunk(prevBit, in, len, out));
+                        assertEquals(0, in.remaining());
+                        assertEquals(1 + exp.length, out.position());
+                        out.flip();
+                        out.position(1);
+                        byte[] actual = new byte[out.remaining()];
+                        out.get(actual);
+                        _verifyBytes(actual, exp);
+                    }
+                }
+            }
+        }
+    }
+
+    // Alternating calls with heap buffer slice, and its backing array, on the same encoder
+    public void testByteBufferSliceAndArray()
+    {
+        Random r = new Random(4);
+        byte[] array = BitRatDecoderTest._randomInput(r, FULL_CHUNK_SIZE + 5, 3);
+        ByteBuffer slice = ByteBuffer.wrap(array, 5, FULL_CHUNK_SIZE).slice();
+        byte[] exp = new byte[BitRatEncoder.MAX_OUTPUT_BUFFER];
+        final int expMask = new BitRatEncoder().encodeFullChunk(false, array, exp, 0);
+        byte[] expSlice = new byte[BitRatEncoder.MAX_OUTPUT_BUFFER];
+        final int expSliceMask = new BitRatEncoder().encodeFullChunk(false,
+                Arrays.copyOfRange(array, 5, FULL_CHUNK_SIZE + 5), expSlice, 0);
+
+        BitRatEncoder enc = new BitRatEncoder();
+        for (int i = 0; i < 3; ++i) {
+            byte[] out = new byte[BitRatEncoder.MAX_OUTPUT_BUFFER];
+            assertEquals(expMask, enc.encodeFullChunk(false, array, out, 0));
+            _verifyBytes(out, exp);
+
+            ByteBuffer bbOut = ByteBuffer.allocate(BitRatEncoder.MAX_OUTPUT_BUFFER);
+            assertEquals(expSliceMask, enc.encodeFullChunk(false, slice.duplicate(), bbOut));
+            _verifyBytes(Arrays.copyOf(bbOut.array(), BitRatEncoder.MAX_OUTPUT_BUFFER), expSlice);
+        }
+    }
+
     private int _encodeFullLevel1(BitRatEncoder encoder, byte[] input) {
         return _encodeFullLevel1(encoder, input,
                 new byte[input.length + (input.length>>4) + 4]);
@@ -0,0 +1,316 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import com.fasterxml.jackson.dataformat.spade.util.ByteBuilder;
+
+public class ColumnBulkAccessTest extends ModuleTestBase
+{
+    private final static int ROWS = 20000;
+
+    private final static int ADAPTIVE = PresenceBitsetOutputStream.CODEC_ADAPTIVE;
+
+    public void testLongs() throws Exception
+    {
+        final long ABSENT = Long.MIN_VALUE;
+        final long[] values = new long[ROWS];
+        final boolean[] present = _presence(new Random(1));
+        final Random r = new Random(2);
+        for (int i = 0; i < ROWS; ++i) {
+            values[i] = present[i] ? (r.nextLong() >> r.nextInt(64)) : ABSENT;
+        }
+        for (boolean pack : new boolean[] { true, false }) {
+            ColumnWriter perRow = new ColumnWriter("col", ADAPTIVE, 0, pack, false);
+            for (int i = 0; i < ROWS; ++i) {
+                if (values[i] != ABSENT) {
+                    perRow.startValue(i);
+                    perRow.writeLong(values[i]);
+                }
+            }
+            // first row one at a time, rest in two ranges
+            ColumnWriter bulk = new ColumnWriter("col", ADAPTIVE, 0, pack, false);
+            bulk.startValue(0);
+            bulk.writeLong(values[0]);
+            bulk.writeIntegers(1, values, 1, 7000, ABSENT);
+            bulk.writeIntegers(7001, values, 7001, ROWS - 7001, ABSENT);
+            assertEquals(perRow.getValueCount(), bulk.getValueCount());
+            assertEquals(perRow.getLastRow(), bulk.getLastRow());
+            final byte[] content = _content(bulk, ROWS);
+            assertTrue(Arrays.equals(_content(perRow, ROWS), content));
+
+            ColumnReader reader = _load(content, ROWS);
+            assertEquals(pack, reader.isIntegerEncoded());
+            long[] result = new long[ROWS + 3];
+            result[0] = 42L;
+            reader.readIntegers(result, 3, ABSENT);
+            assertEquals(42L, result[0]);
+            assertTrue(Arrays.equals(values, Arrays.copyOfRange(result, 3, ROWS + 3)));
+        }
+    }
+
+    public void testInts() throws Exception
+    {
+        final int[] values = new int[ROWS];
+        final boolean[] present = _presence(new Random(3));
+        final Random r = new Random(4);
+        for (int i = 0; i < ROWS; ++i) {
+            values[i] = present[i] ? r.nextInt(1000) : -1;
+        }
+        for (boolean pack : new boolean[] { true, false }) {
+            ColumnWriter perRow = new ColumnWriter("col", ADAPTIVE, 0, pack, false);
+            for (int i = 0; i < ROWS; ++i) {
+                if (values[i] >= 0) {
+                    perRow.startValue(i);
+                    perRow.writeInt(values[i]);
+                }
+            }
+            ColumnWriter bulk = new ColumnWriter("col", ADAPTIVE, 0, pack, false);
+            bulk.writeIntegers(0, values, 0, ROWS, -1);
+            final byte[] content = _content(bulk, ROWS);
+            assertTrue(Arrays.equals(_content(perRow, ROWS), content));
+
+            int[] result = new int[ROWS];
+            _load(content, ROWS).readIntegers(result, 0, -1);
+            assertTrue(Arrays.equals(values, result));
+
+            // as well as widened to longs
+            long[] longs = new long[ROWS];
+            _load(content, ROWS).readIntegers(longs, 0, -1L);
+            for (int i = 0; i < ROWS; ++i) {
+                assertEquals(values[i], longs[i]);
+            }
+        }
+    }
+
+    public void testDoubles() throws Exception
+    {
+        final double[] values = new double[ROWS];
+        final boolean[] present = _presence(new Random(5));
+        final Random r = new Random(6);
+        double d = 100.0;
+        for (int i = 0; i < ROWS; ++i) {
+            d += r.nextGaussian();
+            values[i] = present[i] ? d : Double.NaN;
+        }
+        for (boolean xor : new boolean[] { true, false }) {
+            ColumnWriter perRow = new ColumnWriter("col", ADAPTIVE, 0, false, xor);
+            for (int i = 0; i < ROWS; ++i) {
+                if (!Double.isNaN(values[i])) {
+                    perRow.startValue(i);
+                    perRow.writeDouble(values[i]);
+                }
+            }
+            ColumnWriter bulk = new ColumnWriter("col", ADAPTIVE, 0, false, xor);
+            bulk.writeDoubles(0, values, 0, ROWS, Double.NaN);
+            final byte[] content = _content(bulk, ROWS);
+            assertTrue(Arrays.equals(_content(perRow, ROWS), content));
+
+            ColumnReader reader = _load(content, ROWS);
+            assertEquals(xor, reader.isDoubleEncoded());
+            double[] result = new double[ROWS];
+            reader.readDoubles(result, 0, Double.NaN);
+            assertTrue(Arrays.equals(values, result));
+        }
+    }
+
+    public void testTokensWithNulls() throws Exception
+    {
+        ColumnWriter w = new ColumnWriter("col", ADAPTIVE, 0, false, false);
+        w.startValue(1);
+        w.writeInt(3);
+        w.startValue(2);
+        w.writeNull();
+        w.startValue(3);
+        w.writeLong(-5L);
+        long[] result = new long[5];
+        _load(_content(w, 5), 5).readIntegers(result, 0, 0L);
+        assertTrue(Arrays.equals(new long[] { 0L, 3L, 0L, -5L, 0L }, result));
+    }
+
+    public void testPackedWithNulls() throws Exception
+    {
+        // nulls before the first value, between values, and at the end
+        final int[] nullRows = { 0, 2, 3, 200, 299 };
+        ColumnWriter ints = new ColumnWriter("col", ADAPTIVE, 16, true, false);
+        ColumnWriter doubles = new ColumnWriter("col", ADAPTIVE, 16, false, true);
+        final long[] expLongs = new long[300];
+        final double[] expDoubles = new double[300];
+        for (int row = 0, n = 0; row < 300; ++row) {
+            ints.startValue(row);
+            doubles.startValue(row);
+            if ((n < nullRows.length) && (nullRows[n] == row)) {
+                ++n;
+                ints.writeNull();
+                doubles.writeNull();
+                expLongs[row] = -1L;
+                expDoubles[row] = Double.NaN;
+            } else {
+                ints.writeLong(row * 3L);
+                doubles.writeDouble(row * 0.5);
+                expLongs[row] = row * 3L;
+                expDoubles[row] = row * 0.5;
+            }
+        }
+        ColumnReader reader = _load(_content(ints, 300), 300);
+        assertTrue(reader.isIntegerEncoded());
+        long[] longs = new long[300];
+        reader.readIntegers(longs, 0, -1L);
+        assertTrue(Arrays.equals(expLongs, longs));
+
+        reader = _load(_content(doubles, 300), 300);
+        assertTrue(reader.isDoubleEncoded());
+        double[] result = new double[300];
+        reader.readDoubles(result, 0, Double.NaN);
+        assertTrue(Arrays.equals(expDoubles, result));
+
+        // and one value at a time
+        reader = _load(_content(_nullsAndLong(ints), 3), 3);
+        assertTrue(reader.readNullValue());
+        try {
+            reader.readIntegerValue();
+            fail("Should not pass");
+        } catch (IllegalStateException e) {
+            verifyException(e, "value is null");
+        }
+        assertTrue(reader.readNullValue());
+        assertFalse(reader.readNullValue());
+        assertEquals(7L, reader.readIntegerValue());
+        assertFalse(reader.hasMoreValues());
+    }
+
+    public void testOnlyNulls() throws Exception
+    {
+        // with dictionary enabled, nulls are dictionary-encoded with no ids
+        for (int maxDictionarySize : new int[] { 16, 0 }) {
+            ColumnWriter w = new ColumnWriter("col", ADAPTIVE, maxDictionarySize, true, true);
+            for (int row = 0; row < 10; ++row) {
+                w.startValue(row);
+                w.writeNull();
+            }
+            final byte[] content = _content(w, 12);
+            assertEquals(maxDictionarySize > 0, _load(content, 12).isDictionaryEncoded());
+
+            long[] longs = new long[12];
+            _load(content, 12).readIntegers(longs, 0, 5L);
+            for (long l : longs) {
+                assertEquals(5L, l);
+            }
+            int[] ints = new int[12];
+            _load(content, 12).readIntegers(ints, 0, 5);
+            for (int i : ints) {
+                assertEquals(5, i);
+            }
+            double[] doubles = new double[12];
+            _load(content, 12).readDoubles(doubles, 0, 0.5);
+            for (double d : doubles) {
+                assertEquals(0.5, d);
+            }
+        }
+    }
+
+    public void testInvalid() throws Exception
+    {
+        ColumnWriter w = new ColumnWriter("col", ADAPTIVE, 0, true, false);
+        w.writeIntegers(0, new long[] { 1L, 0L, Long.MAX_VALUE }, 0, 3, 0L);
+        try {
+            w.writeIntegers(2, new long[] { 1L }, 0, 1, 0L);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Invalid first row 2");
+        }
+        try {
+            w.writeIntegers(3, new long[] { 1L }, 1, 1, 0L);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Invalid offset 1 and length 1");
+        }
+        final byte[] content = _content(w, 3);
+
+        try {
+            _load(content, 3).readIntegers(new long[3], 1, 0L);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "array length only 3");
+        }
+        try {
+            _load(content, 3).readIntegers(new int[3], 0, 0);
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "out of range of Java int");
+        }
+        try {
+            _load(content, 3).readDoubles(new double[3], 0, 0.0);
+            fail("Should not pass");
+        } catch (IllegalStateException e) {
+            verifyException(e, "incompatible column encoding");
+        }
+        ColumnReader reader = _load(content, 3);
+        assertEquals(1L, reader.readIntegerValue());
+        try {
+            reader.readIntegers(new long[3], 0, 0L);
+            fail("Should not pass");
+        } catch (IllegalStateException e) {
+            verifyException(e, "values already read");
+        }
+    }
+
+    private ColumnWriter _nullsAndLong(ColumnWriter w) throws IOException
+    {
+        w.startValue(0);
+        w.writeNull();
+        w.startValue(1);
+        w.writeNull();
+        w.startValue(2);
+        w.writeLong(7L);
+        return w;
+    }
+
+    // Presence with long runs of rows with and without values, as well as random rows
+    private boolean[] _presence(Random r)
+    {
+        boolean[] present = new boolean[ROWS];
+        for (int i = 0; i < ROWS; ++i) {
+            switch ((i / 2500) % 4) {
+            case 0:
+                present[i] = true;
+                break;
+            case 1:
+                present[i] = r.nextBoolean();
+                break;
+            case 2:
+                present[i] = false;
+                break;
+            default:
+                present[i] = (r.nextInt(50) == 0);
+            }
+        }
+        present[0] = true;
+        return present;
+    }
+
+    private byte[] _content(ColumnWriter w, int rows) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertTrue(w.writeBlock(out, rows, new ByteBuilder()));
+        return out.toByteArray();
+    }
+
+    // Loads column written by ColumnWriter, skipping name and content length
+    private ColumnReader _load(byte[] block, int rows) throws IOException
+    {
+        ColumnReader header = new ColumnReader("header");
+        System.arraycopy(block, 0, header.getBuffer(block.length), 0, block.length);
+        header._end = block.length;
+        final String name = header.readLengthPrefixedString();
+        final int contentLength = header.readVInt();
+        assertEquals(block.length - header._ptr, contentLength);
+
+        ColumnReader reader = new ColumnReader(name);
+        System.arraycopy(block, header._ptr, reader.getBuffer(contentLength), 0, contentLength);
+        reader.load(contentLength, rows);
+        return reader;
+    }
+}
@@ -0,0 +1,128 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.ByteArrayOutputStream;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class EncoderContextPoolTest extends ModuleTestBase
+{
+    public void testThreadLocalPool() throws Exception
+    {
+        final EncoderContextPool pool = EncoderContextPool.threadLocalPool();
+        EncoderContext ctx = pool.acquire();
+        // nested use must get a different context
+        EncoderContext nested = pool.acquire();
+        assertNotSame(ctx, nested);
+        nested.release();
+        ctx.release();
+        assertSame(ctx, pool.acquire());
+
+        // and other threads their own
+        ExecutorService exec = Executors.newSingleThreadExecutor();
+        Future<EncoderContext> other = exec.submit(
+                new Callable<EncoderContext>() {
+                    @Override
+                    public EncoderContext call() {
+                        return pool.acquire();
+                    }
+                });
+        assertNotSame(ctx, other.get());
+        exec.shutdown();
+    }
+
+    public void testBoundedPool() throws Exception
+    {
+        EncoderContextPool pool = EncoderContextPool.boundedPool(2);
+        EncoderContext[] ctxs = { pool.acquire(), pool.acquire(), pool.acquire() };
+        for (EncoderContext ctx : ctxs) {
+            ctx.release();
+        }
+        // only 2 retained (third dropped)
+        Set<EncoderContext> reused = Collections.newSetFromMap(new IdentityHashMap<EncoderContext,Boolean>());
+        reused.add(pool.acquire());
+        reused.add(pool.acquire());
+        assertEquals(2, reused.size());
+        assertTrue(reused.contains(ctxs[0]));
+        assertTrue(reused.contains(ctxs[1]));
+        assertFalse(reused.contains(pool.acquire()));
+
+        try {
+            EncoderContextPool.boundedPool(0);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Invalid pool size 0");
+        }
+    }
+
+    public void testNonRecyclingPool() throws Exception
+    {
+        EncoderContextPool pool = EncoderContextPool.nonRecyclingPool();
+        EncoderContext ctx = pool.acquire();
+        ctx.release();
+        assertNotSame(ctx, pool.acquire());
+    }
+
+    public void testContextReuse() throws Exception
+    {
+        EncoderContext ctx = EncoderContextPool.boundedPool(1).acquire();
+        assertSame(ctx.getBitRatEncoder(), ctx.getBitRatEncoder());
+        assertSame(ctx.getNibblerEncoder(), ctx.getNibblerEncoder());
+        assertEquals(EncoderContext.CHUNK_BUFFER_SIZE, ctx.getChunkBuffer().length);
+        assertEquals(EncoderContext.OUTPUT_BUFFER_SIZE, ctx.getOutputBuffer().length);
+        assertSame(ctx.getOutputBuffer(), ctx.getOutputByteBuffer().array());
+        assertEquals(EncoderContext.OUTPUT_BUFFER_SIZE, ctx.getOutputByteBuffer().remaining());
+
+        // reset encoders must produce same output as new ones
+        Random r = new Random(5);
+        byte[] input = BitRatDecoderTest._randomInput(r, BitRatEncoder.FULL_CHUNK_SIZE, 1);
+        byte[] exp = new byte[BitRatEncoder.MAX_OUTPUT_BUFFER];
+        int expMask = new BitRatEncoder().encodeFullChunk(true, input, exp, 0);
+        byte[] output = ctx.getOutputBuffer();
+        ctx.getBitRatEncoder().encodeFullChunk(false, input, output, 0);
+        ctx.release();
+        int mask = ctx.getBitRatEncoder().encodeFullChunk(true, input, output, 0);
+        assertEquals(expMask, mask);
+        assertTrue(Arrays.equals(exp, Arrays.copyOf(output, exp.length)));
+
+        int expLen = new NibblerEncoder().encode(input, 0, input.length, exp, 0);
+        ctx.getNibblerEncoder().encode(input, 1, 100, output, 0);
+        ctx.release();
+        assertEquals(expLen, ctx.getNibblerEncoder().encode(input, 0, input.length, output, 0));
+        assertTrue(Arrays.equals(Arrays.copyOf(exp, expLen), Arrays.copyOf(output, expLen)));
+    }
+
+    public void testConcurrentStreams() throws Exception
+    {
+        // many streams sharing a small pool, from multiple threads
+        final EncoderContextPool pool = EncoderContextPool.boundedPool(2);
+        final Random r = new Random(9);
+        final byte[] data = BitRatDecoderTest._randomInput(r,
+                3 * PresenceBitsetOutputStream.CHUNK_SIZE + 99, 3);
+        ByteArrayOutputStream exp = new ByteArrayOutputStream();
+        PresenceBitsetOutputStream out = new PresenceBitsetOutputStream(exp,
+                PresenceBitsetOutputStream.TAG_NIBBLER, EncoderContextPool.nonRecyclingPool());
+        out.write(data);
+        out.close();
+        final byte[] expected = exp.toByteArray();
+
+        ExecutorService exec = Executors.newFixedThreadPool(4);
+        List<Future<byte[]>> results = new ArrayList<>();
+        for (int i = 0; i < 40; ++i) {
+            results.add(exec.submit(new Callable<byte[]>() {
+                @Override
+                public byte[] call() throws Exception {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    PresenceBitsetOutputStream out = new PresenceBitsetOutputStream(bytes,
+                            PresenceBitsetOutputStream.TAG_NIBBLER, pool);
+                    out.write(data);
+                    out.close();
+                    return bytes.toByteArray();
+                }
+            }));
+        }
+        for (Future<byte[]> f : results) {
+            assertTrue(Arrays.equals(expected, f.get()));
+        }
+        exec.shutdown();
+    }
+}
@@ -0,0 +1,114 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.Random;
+
+import com.fasterxml.jackson.dataformat.spade.util.ByteBuilder;
+
+public class IndexedPresenceBitsetTest extends ModuleTestBase
+{
+    private final static int CHUNK_BITS = PresenceBitsetOutputStream.CHUNK_SIZE << 3;
+
+    private final static int[] CODECS = new int[] {
+        PresenceBitsetOutputStream.TAG_BITRAT, PresenceBitsetOutputStream.TAG_NIBBLER,
+        PresenceBitsetOutputStream.CODEC_ADAPTIVE
+    };
+
+    public void testRankAndSelect() throws IOException
+    {
+        Random r = new Random(3);
+        for (int codec : CODECS) {
+            for (int round = 0; round < 4; ++round) {
+                BitSet exp = new BitSet();
+                final int bitCount = _randomBits(r, exp, 1 + round, round != 3, 500);
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                PresenceBitsetOutputStream out = new PresenceBitsetOutputStream(bytes, codec)
+                        .enableRankIndex();
+                for (int i = 0; i < bitCount; ++i) {
+                    out.appendBit(exp.get(i));
+                }
+                assertNull(out.getRankIndex());
+                out.close();
+                PresenceRankIndex index = out.getRankIndex();
+                assertEquals(bitCount, index.getBitCount());
+                assertEquals(exp.cardinality(), index.getCardinality());
+                assertEquals((bitCount + CHUNK_BITS - 1) / CHUNK_BITS, index.getChunkCount());
+
+                byte[] encoded = bytes.toByteArray();
+                _verify(exp, bitCount, new IndexedPresenceBitset(encoded, 0, encoded.length, index), r);
+
+                // and same with serialized index, with encoded bitset at an offset
+                ByteBuilder bb = new ByteBuilder();
+                index.appendTo(bb);
+                byte[] withPrefix = new byte[encoded.length + 3];
+                System.arraycopy(encoded, 0, withPrefix, 3, encoded.length);
+                PresenceRankIndex index2 = PresenceRankIndex.read(bb.getBuffer(), 0, bb.size(), 0L);
+                _verify(exp, bitCount, new IndexedPresenceBitset(withPrefix, 3, encoded.length, index2), r);
+            }
+        }
+    }
+
+    public void testEmptyAndInvalid() throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PresenceBitsetOutputStream out = new PresenceBitsetOutputStream(bytes).enableRankIndex();
+        out.close();
+        IndexedPresenceBitset bitset = new IndexedPresenceBitset(bytes.toByteArray(), 0, bytes.size(),
+                out.getRankIndex());
+        assertEquals(0L, bitset.getCardinality());
+        assertEquals(0L, bitset.rank(0));
+        assertEquals(-1L, bitset.select(0));
+        try {
+            bitset.get(0);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Invalid row 0: bitset has 0 rows");
+        }
+
+        out = new PresenceBitsetOutputStream(new ByteArrayOutputStream());
+        out.appendBit(true);
+        try {
+            out.enableRankIndex();
+            fail("Should not pass");
+        } catch (IllegalStateException e) {
+            verifyException(e, "bits already appended");
+        }
+
+        // chunk count must match bit count
+        ByteBuilder bb = new ByteBuilder();
+        bb.appendVLong(100000L);
+        bb.appendVInt(1);
+        try {
+            PresenceRankIndex.read(bb.getBuffer(), 0, bb.size(), 0L);
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "1 chunks for 100000 bits");
+        }
+    }
+
+    private void _verify(BitSet exp, int bitCount, IndexedPresenceBitset bitset, Random r)
+        throws IOException
+    {
+        assertEquals(exp.cardinality(), bitset.getCardinality());
+        assertEquals(exp.cardinality(), bitset.rank(bitCount));
+        // rows in random order, to cover switching between chunks
+        for (int i = 0; i < 2000; ++i) {
+            int row = r.nextInt(bitCount);
+            assertEquals("Bit #"+row, exp.get(row), bitset.get(row));
+            assertEquals("Rank of #"+row, exp.get(0, row).cardinality(), bitset.rank(row));
+        }
+        // and ones at block and chunk boundaries
+        for (int row = 0; row < bitCount; row += PresenceRankIndex.BLOCK_SIZE << 3) {
+            assertEquals("Rank of #"+row, exp.get(0, row).cardinality(), bitset.rank(row));
+        }
+        int n = 0;
+        for (int row = exp.nextSetBit(0); row >= 0; row = exp.nextSetBit(row + 1), ++n) {
+            if ((n % 7) == 0 || row == bitCount - 1) {
+                assertEquals("Set bit #"+n, row, bitset.select(n));
+            }
+        }
+        assertEquals(-1L, bitset.select(n));
+    }
+}
@@ -2,6 +2,8 @@ package com.fasterxml.jackson.dataformat.spade;
 
 import java.io.*;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
 
 import org.junit.Assert;
 
@@ -88,4 +90,49 @@ public abstract class ModuleTestBase
     public String quote(String str) {
         return '"'+str+'"';
     }
+
+    /**
+     * Method for generating random presence bits: mix of sparse set bits, runs
+     * of set and clear bits, and random bits, ending with a set bit (to cover
+     * padding).
+     *
+     * @param chunks Number of full presence bitset chunks
+     * @param partialChunk Whether to add partial chunk (of random length) after full ones
+     * @param sparseGap Maximum gap between sparse set bits
+     *
+     * @return Number of bits generated
+     */
+    protected int _randomBits(Random r, BitSet bits, int chunks, boolean partialChunk,
+            int sparseGap)
+    {
+        final int chunkBits = PresenceBitsetOutputStream.CHUNK_SIZE << 3;
+        // vary length so that last chunk and last byte are partial (or not)
+        final int bitCount = chunks * chunkBits + (partialChunk ? r.nextInt(chunkBits) : 0);
+        int row = 0;
+        while (row < bitCount) {
+            switch (r.nextInt(4)) {
+            case 0: // sparse
+                row += r.nextInt(sparseGap);
+                bits.set(row);
+                ++row;
+                break;
+            case 1: // run of set bits
+                int len = r.nextInt(5000);
+                bits.set(row, row + len);
+                row += len;
+                break;
+            case 2: // run of clear bits
+                row += r.nextInt(20000);
+                break;
+            default: // random bits
+                for (int end = row + r.nextInt(1000); row < end; ++row) {
+                    bits.set(row, r.nextBoolean());
+                }
+            }
+        }
+        // end with a set bit, to cover (adaptive) padding
+        bits.clear(bitCount, row + 1);
+        bits.set(bitCount - 1);
+        return bitCount;
+    }
 }
@@ -0,0 +1,170 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class NibblerDecoderTest extends ModuleTestBase
+{
+    private final static int MAX = NibblerEncoder.MAX_CHUNK_SIZE;
+
+    public void testSimpleRuns()
+    {
+        _verifyRoundTrip(new byte[1]);
+        _verifyRoundTrip(new byte[MAX]);
+        byte[] input = new byte[MAX];
+        Arrays.fill(input, (byte) 0xFF);
+        _verifyRoundTrip(input);
+
+        input = new byte[100];
+        Arrays.fill(input, 50, 100, (byte) 0xFF);
+        _verifyRoundTrip(input);
+    }
+
+    public void testSimpleLiterals()
+    {
+        _verifyRoundTrip(new byte[] { 0x12 });
+        _verifyRoundTrip(new byte[] { 0x12, 0x34 });
+        _verifyRoundTrip(new byte[] { 0x12, 0x34, 0x56 });
+        byte[] input = new byte[MAX];
+        Arrays.fill(input, (byte) 0xAA);
+        _verifyRoundTrip(input);
+    }
+
+    // Test to cover all combinations of short/medium/long run and literal lengths,
+    // to exercise all cases of nibble alignment
+    public void testLengthCombinations()
+    {
+        final int[] LENGTHS = new int[] { 1, 2, 3, 4, 7, 8, 9, 10, 11, 12, 70, 71, 72, 73, 74, 75, 300 };
+        for (int runLen : LENGTHS) {
+            for (int litLen : LENGTHS) {
+                byte[] input = new byte[3 * (runLen + litLen)];
+                int ix = 0;
+                for (int i = 0; i < 3; ++i) {
+                    ix += (i == 1) ? (runLen + 1) : runLen;
+                    for (int j = 0; j < litLen && ix < input.length; ++j) {
+                        input[ix++] = (byte) (0x11 + j);
+                    }
+                }
+                _verifyRoundTrip(input);
+                // and then with leading literal
+                input[0] = 0x33;
+                _verifyRoundTrip(input);
+            }
+        }
+    }
+
+    public void testRandomChunks()
+    {
+        Random r = new Random(9);
+        final int[] SIZES = new int[] { 5, 17, 100, 1000, 4096, MAX-1, MAX };
+        for (int size : SIZES) {
+            for (int i = 0; i < 12; ++i) {
+                _verifyRoundTrip(BitRatDecoderTest._randomInput(r, size, i));
+            }
+        }
+    }
+
+    public void testSegmentIteration()
+    {
+        byte[] input = new byte[MAX];
+        input[5000] = 0x10;
+        input[5001] = 0x20;
+        Arrays.fill(input, 6000, MAX, (byte) 0xFF);
+        input[7000] = 0x7F;
+        byte[] encoded = new byte[NibblerEncoder.MAX_OUTPUT_BUFFER];
+        int encLen = new NibblerEncoder().encode(input, 0, MAX, encoded, 0);
+
+        NibblerDecoder dec = new NibblerDecoder();
+        assertEquals(encLen, dec.startChunk(encoded, 0, MAX));
+        assertEquals(NibblerDecoder.SEGMENT_ZEROES, dec.nextSegment());
+        assertEquals(0, dec.getSegmentOffset());
+        assertEquals(5000, dec.getSegmentLength());
+        assertEquals(NibblerDecoder.SEGMENT_LITERAL, dec.nextSegment());
+        assertEquals(5000, dec.getSegmentOffset());
+        assertEquals(2, dec.getSegmentLength());
+        assertEquals(0x10, dec.getLiteralByte(0));
+        assertEquals(0x20, dec.getLiteralByte(1));
+        assertEquals(NibblerDecoder.SEGMENT_ZEROES, dec.nextSegment());
+        assertEquals(998, dec.getSegmentLength());
+        // 0xFF after literal with last bit 0 has to be a literal
+        assertEquals(NibblerDecoder.SEGMENT_LITERAL, dec.nextSegment());
+        assertEquals(6000, dec.getSegmentOffset());
+        assertEquals(1, dec.getSegmentLength());
+        assertEquals(NibblerDecoder.SEGMENT_ONES, dec.nextSegment());
+        assertEquals(999, dec.getSegmentLength());
+        assertEquals(NibblerDecoder.SEGMENT_LITERAL, dec.nextSegment());
+        assertEquals(0x7F, dec.getLiteralByte(0));
+        assertEquals(NibblerDecoder.SEGMENT_ONES, dec.nextSegment());
+        assertEquals(MAX - 7001, dec.getSegmentLength());
+        assertEquals(NibblerDecoder.SEGMENT_END, dec.nextSegment());
+        assertEquals(NibblerDecoder.SEGMENT_END, dec.nextSegment());
+    }
+
+    public void testMultipleChunks()
+    {
+        final int len = MAX * 3 + 123;
+        byte[] data = BitRatDecoderTest._randomInput(new Random(3), len, 2);
+        byte[] encoded = new byte[len + 4 * NibblerEncoder.MAX_OVERHEAD_BYTES];
+        NibblerEncoder enc = new NibblerEncoder();
+        int outPtr = 0;
+        for (int offset = 0; offset < len; offset += MAX) {
+            outPtr = enc.encode(data, offset, Math.min(MAX, len - offset), encoded, outPtr);
+        }
+        NibblerDecoder dec = new NibblerDecoder();
+        byte[] decoded = new byte[len];
+        int inPtr = 0;
+        for (int offset = 0; offset < len; offset += MAX) {
+            inPtr = dec.decode(encoded, inPtr, decoded, offset, Math.min(MAX, len - offset));
+        }
+        assertEquals(outPtr, inPtr);
+        _verifyBytes(decoded, data);
+    }
+
+    public void testInvalidLength()
+    {
+        byte[] input = new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 };
+        byte[] encoded = new byte[100];
+        new NibblerEncoder().encode(input, 0, input.length, encoded, 0);
+        try {
+            new NibblerDecoder().decode(encoded, 0, new byte[20], 0, 20);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Invalid encoded content");
+        }
+    }
+
+    private void _verifyRoundTrip(byte[] input)
+    {
+        final int len = input.length;
+        byte[] encoded = new byte[len + NibblerEncoder.MAX_OVERHEAD_BYTES + 3];
+        int encEnd = new NibblerEncoder().encode(input, 0, len, encoded, 3);
+
+        NibblerDecoder dec = new NibblerDecoder();
+        byte[] decoded = new byte[len + 1];
+        assertEquals(encEnd, dec.decode(encoded, 3, decoded, 1, len));
+        _verifyBytes(Arrays.copyOfRange(decoded, 1, len+1), input);
+
+        // and then verify segment iteration as well
+        dec.startChunk(encoded, 3, len);
+        int offset = 0;
+        int type;
+        while ((type = dec.nextSegment()) != NibblerDecoder.SEGMENT_END) {
+            assertEquals(offset, dec.getSegmentOffset());
+            for (int i = 0, end = dec.getSegmentLength(); i < end; ++i) {
+                int exp = input[offset+i] & 0xFF;
+                switch (type) {
+                case NibblerDecoder.SEGMENT_ZEROES:
+                    assertEquals(0, exp);
+                    break;
+                case NibblerDecoder.SEGMENT_ONES:
+                    assertEquals(0xFF, exp);
+                    break;
+                default:
+                    assertEquals(exp, dec.getLiteralByte(i));
+                }
+            }
+            offset += dec.getSegmentLength();
+        }
+        assertEquals(len, offset);
+    }
+}
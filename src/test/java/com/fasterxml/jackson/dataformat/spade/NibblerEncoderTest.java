@@ -0,0 +1,49 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+public class NibblerEncoderTest extends ModuleTestBase
+{
+    public void testByteBuffers()
+    {
+        Random r = new Random(5);
+        for (int i = 0; i < 8; ++i) {
+            byte[] input = BitRatDecoderTest._randomInput(r, 100 + r.nextInt(NibblerEncoder.MAX_CHUNK_SIZE - 100), i);
+            byte[] exp = new byte[NibblerEncoder.MAX_OUTPUT_BUFFER];
+            final int expLen = new NibblerEncoder().encode(input, 0, input.length, exp, 0);
+            exp = Arrays.copyOf(exp, expLen);
+
+            for (boolean directIn : new boolean[] { false, true }) {
+                for (boolean directOut : new boolean[] { false, true }) {
+                    ByteBuffer in = _buffer(input, directIn, 7);
+                    ByteBuffer out = directOut ? ByteBuffer.allocateDirect(expLen + 20)
+                            : ByteBuffer.allocate(NibblerEncoder.MAX_OUTPUT_BUFFER + 20);
+                    out.position(3);
+                    NibblerEncoder enc = new NibblerEncoder();
+                    assertEquals(3 + expLen, enc.encode(in, out));
+                    assertEquals(0, in.remaining());
+                    out.flip();
+                    out.position(3);
+                    byte[] actual = new byte[out.remaining()];
+                    out.get(actual);
+                    _verifyBytes(actual, exp);
+                }
+            }
+        }
+    }
+
+    // Helper for constructing buffer with given content at non-zero position
+    static ByteBuffer _buffer(byte[] content, boolean direct, int offset)
+    {
+        ByteBuffer bb = direct ? ByteBuffer.allocateDirect(content.length + offset + 10)
+                : ByteBuffer.allocate(content.length + offset + 10);
+        bb.position(offset);
+        bb.put(content);
+        bb.position(offset);
+        bb.limit(offset + content.length);
+        // and to ensure array offset is handled as well, slice
+        return direct ? bb : bb.slice();
+    }
+}
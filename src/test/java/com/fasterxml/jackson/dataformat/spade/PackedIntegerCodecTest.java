@@ -0,0 +1,102 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import com.fasterxml.jackson.dataformat.spade.util.ByteBuilder;
+
+public class PackedIntegerCodecTest extends ModuleTestBase
+{
+    public void testConstant() throws Exception
+    {
+        long[] values = new long[100];
+        Arrays.fill(values, 123456789L);
+        byte[] encoded = _verifyRoundTrip(values);
+        // method, zero bit width, base value; no packed offsets
+        assertEquals(PackedIntegerCodec.METHOD_FOR, encoded[0]);
+        assertEquals(0, encoded[1]);
+        assertEquals(2 + 4, encoded.length);
+    }
+
+    public void testMonotonic() throws Exception
+    {
+        // timestamps with small, variable increments: should use delta encoding
+        long[] values = new long[128];
+        long ts = 1500000000000L;
+        for (int i = 0; i < values.length; ++i) {
+            ts += 10 + (i % 7);
+            values[i] = ts;
+        }
+        byte[] encoded = _verifyRoundTrip(values);
+        assertEquals(PackedIntegerCodec.METHOD_DELTA, encoded[0]);
+        assertEquals(3, encoded[1]);
+        assertTrue(encoded.length < 60);
+    }
+
+    public void testRandom() throws Exception
+    {
+        Random r = new Random(123);
+        for (int width = 1; width <= 64; ++width) {
+            long[] values = new long[1 + r.nextInt(PackedIntegerCodec.BLOCK_SIZE)];
+            for (int i = 0; i < values.length; ++i) {
+                long v = r.nextLong();
+                values[i] = (width == 64) ? v : (v & ((1L << width) - 1)) - 1000;
+            }
+            _verifyRoundTrip(values);
+        }
+    }
+
+    // All bit widths, with both full and partial groups of unpacked values
+    public void testAllWidths() throws Exception
+    {
+        Random r = new Random(456);
+        for (int width = 1; width <= 64; ++width) {
+            final long mask = (width == 64) ? -1L : ((1L << width) - 1);
+            for (int count : new int[] { 2, 63, 64, 65, 127, 128 }) {
+                long[] values = new long[count];
+                for (int i = 0; i < count; ++i) {
+                    values[i] = r.nextLong() & mask;
+                }
+                // ensure full range, so that frame-of-reference uses exactly given width
+                values[r.nextInt(count)] = 0L;
+                values[r.nextInt(count)] = mask;
+                _verifyRoundTrip(values);
+            }
+        }
+    }
+
+    public void testExtremes() throws Exception
+    {
+        _verifyRoundTrip(new long[] { Long.MIN_VALUE, Long.MAX_VALUE, 0L, -1L, Long.MIN_VALUE });
+        _verifyRoundTrip(new long[] { Long.MAX_VALUE, Long.MIN_VALUE });
+        _verifyRoundTrip(new long[] { -5L });
+    }
+
+    public void testTruncated() throws Exception
+    {
+        long[] values = { 1L, 100L, 10000L };
+        ByteBuilder out = new ByteBuilder();
+        new PackedIntegerCodec().encodeBlock(values, values.length, out);
+        try {
+            new PackedIntegerCodec().decodeBlock(out.getBuffer(), 0, out.size() - 1,
+                    new long[3], 0, 3);
+            fail("Should not pass");
+        } catch (java.io.IOException e) {
+            verifyException(e, "Unexpected end of content");
+        }
+    }
+
+    private byte[] _verifyRoundTrip(long[] values) throws Exception
+    {
+        PackedIntegerCodec codec = new PackedIntegerCodec();
+        ByteBuilder out = new ByteBuilder();
+        codec.encodeBlock(values, values.length, out);
+        // append something to ensure decoder does not read past the block
+        out.write(0x7F);
+        long[] result = new long[values.length + 2];
+        int end = codec.decodeBlock(out.getBuffer(), 0, out.size(), result, 1, values.length);
+        assertEquals(out.size() - 1, end);
+        assertTrue(Arrays.equals(values, Arrays.copyOfRange(result, 1, values.length + 1)));
+        return Arrays.copyOf(out.toByteArray(), end);
+    }
+}
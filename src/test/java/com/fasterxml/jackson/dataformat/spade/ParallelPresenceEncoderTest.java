@@ -0,0 +1,73 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class ParallelPresenceEncoderTest extends ModuleTestBase
+{
+    private final static int CHUNK = PresenceBitsetOutputStream.CHUNK_SIZE;
+
+    private final static int[] CODECS = new int[] {
+        PresenceBitsetOutputStream.TAG_BITRAT, PresenceBitsetOutputStream.TAG_NIBBLER,
+        PresenceBitsetOutputStream.CODEC_ADAPTIVE
+    };
+
+    public void testSameAsSequential() throws Exception
+    {
+        Random r = new Random(17);
+        final int[] SIZES = new int[] { 0, 1, CHUNK, 3*CHUNK - 1, 10*CHUNK, 17*CHUNK + 333 };
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (int codec : CODECS) {
+                // use small tasks, to get plenty of segments
+                ParallelPresenceEncoder enc = new ParallelPresenceEncoder(codec, executor, 2);
+                ParallelPresenceEncoder defaultEnc = new ParallelPresenceEncoder(codec);
+                for (int size : SIZES) {
+                    for (int variant = 0; variant < 4; ++variant) {
+                        byte[] input = BitRatDecoderTest._randomInput(r, size + 5, variant);
+                        byte[] exp = _encodeSequential(codec, input, 5, size);
+                        _verifyBytes(enc.encode(input, 5, size), exp);
+                        _verifyBytes(defaultEnc.encode(input, 5, size), exp);
+
+                        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                        enc.encode(input, 5, size, bytes);
+                        _verifyBytes(bytes.toByteArray(), exp);
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void testRoundTrip() throws Exception
+    {
+        // a few megs, with long runs crossing segment boundaries
+        byte[] input = BitRatDecoderTest._randomInput(new Random(2), 200 * CHUNK + 12, 2);
+        byte[] encoded = new ParallelPresenceEncoder(PresenceBitsetOutputStream.TAG_BITRAT)
+                .encode(input, 0, input.length);
+        PresenceBitsetInputStream in = new PresenceBitsetInputStream(new ByteArrayInputStream(encoded));
+        byte[] result = new byte[input.length];
+        int count = 0;
+        int n;
+        while ((n = in.read(result, count, result.length - count)) > 0) {
+            count += n;
+        }
+        assertEquals(input.length, count);
+        _verifyBytes(result, input);
+        in.close();
+    }
+
+    private byte[] _encodeSequential(int codec, byte[] input, int offset, int len) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PresenceBitsetOutputStream out = new PresenceBitsetOutputStream(bytes, codec);
+        out.write(input, offset, len);
+        out.close();
+        return bytes.toByteArray();
+    }
+}
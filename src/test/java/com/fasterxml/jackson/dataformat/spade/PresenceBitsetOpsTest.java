@@ -0,0 +1,150 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.Random;
+
+public class PresenceBitsetOpsTest extends ModuleTestBase
+{
+    private final static int CHUNK_BITS = PresenceBitsetOutputStream.CHUNK_SIZE << 3;
+
+    private final static int[] CODECS = new int[] {
+        PresenceBitsetOutputStream.TAG_BITRAT, PresenceBitsetOutputStream.TAG_NIBBLER,
+        PresenceBitsetOutputStream.CODEC_ADAPTIVE
+    };
+
+    public void testRandom() throws IOException
+    {
+        Random r = new Random(5);
+        for (int round = 0; round < 30; ++round) {
+            final int bitsA = r.nextInt(5 * CHUNK_BITS);
+            // mostly same length, but sometimes not
+            final int bitsB = (round % 3 == 0) ? r.nextInt(5 * CHUNK_BITS) : bitsA;
+            BitSet a = _randomBits(r, bitsA);
+            BitSet b = _randomBits(r, bitsB);
+            byte[] encA = _encode(a, bitsA, CODECS[round % 3]);
+            byte[] encB = _encode(b, bitsB, CODECS[(round / 3) % 3]);
+            final int bits = Math.max(bitsA, bitsB);
+
+            BitSet exp = (BitSet) a.clone();
+            exp.and(b);
+            _verify("AND", exp, bits, PresenceBitsetOps.and(encA, encB));
+            exp = (BitSet) a.clone();
+            exp.or(b);
+            _verify("OR", exp, bits, PresenceBitsetOps.or(encA, encB));
+            exp = (BitSet) a.clone();
+            exp.andNot(b);
+            _verify("AND-NOT", exp, bits, PresenceBitsetOps.andNot(encA, encB));
+            exp = (BitSet) b.clone();
+            exp.andNot(a);
+            _verify("AND-NOT", exp, bits, PresenceBitsetOps.andNot(encB, encA));
+        }
+    }
+
+    public void testUniformChunks() throws IOException
+    {
+        // chunks: all set, all clear, mixed; combined with mixed, all set, all clear
+        final int bits = 3 * CHUNK_BITS + 5;
+        BitSet a = new BitSet();
+        a.set(0, CHUNK_BITS);
+        a.set(2 * CHUNK_BITS + 17);
+        a.set(3 * CHUNK_BITS, bits);
+        BitSet b = new BitSet();
+        b.set(100, 200);
+        b.set(CHUNK_BITS, 2 * CHUNK_BITS);
+        b.set(2 * CHUNK_BITS + 17);
+        b.set(3 * CHUNK_BITS + 1);
+        for (int codec : CODECS) {
+            byte[] encA = _encode(a, bits, codec);
+            byte[] encB = _encode(b, bits, codec);
+            BitSet exp = (BitSet) a.clone();
+            exp.and(b);
+            _verify("AND", exp, bits, PresenceBitsetOps.and(encA, encB));
+            exp = (BitSet) a.clone();
+            exp.or(b);
+            _verify("OR", exp, bits, PresenceBitsetOps.or(encA, encB));
+            exp = (BitSet) a.clone();
+            exp.andNot(b);
+            _verify("AND-NOT", exp, bits, PresenceBitsetOps.andNot(encA, encB));
+        }
+    }
+
+    public void testStreams() throws IOException
+    {
+        BitSet a = new BitSet();
+        a.set(3, 9000);
+        BitSet b = new BitSet();
+        b.set(5000, 20000);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PresenceBitsetOutputStream out = new PresenceBitsetOutputStream(bytes,
+                PresenceBitsetOutputStream.TAG_NIBBLER);
+        PresenceBitsetOps.and(_reader(_encode(a, 10000, PresenceBitsetOutputStream.TAG_BITRAT)),
+                _reader(_encode(b, 20000, PresenceBitsetOutputStream.TAG_BITRAT)), out);
+        // already finished, but not closed
+        assertEquals(20000L, out.getBitCount());
+        BitSet exp = new BitSet();
+        exp.set(5000, 9000);
+        _verify("AND", exp, 20000, bytes.toByteArray());
+
+        PresenceBitsetInputStream in = _reader(bytes.toByteArray());
+        in.readBit();
+        try {
+            PresenceBitsetOps.or(in, _reader(bytes.toByteArray()), out);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "must not have been read from");
+        }
+    }
+
+    private BitSet _randomBits(Random r, int bitCount)
+    {
+        BitSet bits = new BitSet();
+        int row = 0;
+        while (row < bitCount) {
+            int len = r.nextInt(r.nextBoolean() ? 100 : 2 * CHUNK_BITS);
+            switch (r.nextInt(3)) {
+            case 0:
+                bits.set(row, Math.min(bitCount, row + len));
+                break;
+            case 1:
+                break;
+            default:
+                for (int i = row, end = Math.min(bitCount, row + len); i < end; ++i) {
+                    bits.set(i, r.nextInt(8) == 0);
+                }
+            }
+            row += len;
+        }
+        return bits;
+    }
+
+    private byte[] _encode(BitSet bits, int bitCount, int codec) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PresenceBitsetOutputStream out = new PresenceBitsetOutputStream(bytes, codec);
+        for (int row = bits.nextSetBit(0); row >= 0; row = bits.nextSetBit(row + 1)) {
+            out.setBit(row);
+        }
+        out.appendRun(bitCount - out.getBitCount(), false);
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    private void _verify(String op, BitSet exp, int bitCount, byte[] encoded) throws IOException
+    {
+        PresenceBitsetInputStream in = _reader(encoded);
+        for (int i = 0; i < bitCount; ++i) {
+            int bit = in.readBit();
+            if (bit != (exp.get(i) ? 1 : 0)) {
+                fail(String.format("%s: bit #%d (of %d) should be %s", op, i, bitCount, exp.get(i)));
+            }
+        }
+        assertEquals(-1, in.readBit());
+    }
+
+    private PresenceBitsetInputStream _reader(byte[] encoded) {
+        return new PresenceBitsetInputStream(new ByteArrayInputStream(encoded));
+    }
+}
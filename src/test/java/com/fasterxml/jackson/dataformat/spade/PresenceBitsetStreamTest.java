@@ -0,0 +1,375 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+public class PresenceBitsetStreamTest extends ModuleTestBase
+{
+    private final static int[] CODECS = new int[] {
+        PresenceBitsetOutputStream.TAG_BITRAT, PresenceBitsetOutputStream.TAG_NIBBLER,
+        PresenceBitsetOutputStream.CODEC_ADAPTIVE
+    };
+
+    private final static int CHUNK = PresenceBitsetOutputStream.CHUNK_SIZE;
+
+    public void testEmpty() throws IOException
+    {
+        for (int codec : CODECS) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            new PresenceBitsetOutputStream(bytes, codec).close();
+            _verifyBytes(bytes.toByteArray(), (byte) 0, (byte) 0);
+
+            PresenceBitsetInputStream in = _reader(bytes);
+            assertEquals(-1, in.readBit());
+            assertEquals(-1, in.read());
+            in.close();
+        }
+    }
+
+    public void testBytesRoundTrip() throws IOException
+    {
+        Random r = new Random(7);
+        final int[] SIZES = new int[] { 1, 100, CHUNK-1, CHUNK, CHUNK+1, 3*CHUNK, 5*CHUNK + 1234 };
+        for (int codec : CODECS) {
+            for (int size : SIZES) {
+                for (int variant = 0; variant < 4; ++variant) {
+                    byte[] data = BitRatDecoderTest._randomInput(r, size, variant);
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    PresenceBitsetOutputStream out = new PresenceBitsetOutputStream(bytes, codec);
+                    // write in pieces of varying size to cross chunk boundaries
+                    for (int offset = 0; offset < size; ) {
+                        int len = Math.min(size - offset, 1 + r.nextInt(3 * CHUNK));
+                        out.write(data, offset, len);
+                        offset += len;
+                    }
+                    assertEquals(8L * size, out.getBitCount());
+                    out.close();
+
+                    PresenceBitsetInputStream in = _reader(bytes);
+                    byte[] result = new byte[size];
+                    int count = 0;
+                    int n;
+                    while ((n = in.read(result, count, Math.min(size - count, 1000))) > 0) {
+                        count += n;
+                    }
+                    assertEquals(size, count);
+                    assertEquals(-1, in.read());
+                    _verifyBytes(result, data);
+                }
+            }
+        }
+    }
+
+    public void testBitsRoundTrip() throws IOException
+    {
+        Random r = new Random(11);
+        for (int codec : CODECS) {
+            for (int round = 0; round < 6; ++round) {
+                BitSet exp = new BitSet();
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                PresenceBitsetOutputStream out = new PresenceBitsetOutputStream(bytes, codec);
+                long row = 0;
+                // mix of individual bits, runs of both kinds, and set bits with gaps
+                for (int i = 0; i < 2000; ++i) {
+                    switch (r.nextInt(4)) {
+                    case 0:
+                        boolean bit = r.nextBoolean();
+                        exp.set((int) row, bit);
+                        out.appendBit(bit);
+                        ++row;
+                        break;
+                    case 1:
+                        int len = r.nextInt(2000);
+                        exp.set((int) row, (int) row + len);
+                        out.appendRun(len, true);
+                        row += len;
+                        break;
+                    case 2:
+                        len = r.nextInt(2000);
+                        out.appendRun(len, false);
+                        row += len;
+                        break;
+                    default:
+                        row += r.nextInt(50);
+                        exp.set((int) row);
+                        out.setBit(row);
+                        ++row;
+                    }
+                }
+                // ensure we get to test all kinds of padding
+                row += round;
+                out.appendRun(round, false);
+                assertEquals(row, out.getBitCount());
+                out.close();
+
+                PresenceBitsetInputStream in = _reader(bytes);
+                for (int i = 0; i < row; ++i) {
+                    assertEquals("Bit #"+i, exp.get(i) ? 1 : 0, in.readBit());
+                }
+                assertEquals(row, in.getBitPosition());
+                assertEquals(-1, in.readBit());
+                in.close();
+            }
+        }
+    }
+
+    public void testUnalignedBytes() throws IOException
+    {
+        byte[] data = BitRatDecoderTest._randomInput(new Random(3), 2 * CHUNK + 17, 0);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PresenceBitsetOutputStream out = new PresenceBitsetOutputStream(bytes,
+                PresenceBitsetOutputStream.TAG_NIBBLER);
+        out.appendBit(true);
+        out.appendBit(false);
+        out.appendBit(true);
+        out.write(data);
+        out.close();
+
+        PresenceBitsetInputStream in = _reader(bytes);
+        assertEquals(1, in.readBit());
+        assertEquals(0, in.readBit());
+        assertEquals(1, in.readBit());
+        byte[] result = new byte[data.length];
+        assertEquals(data.length, in.read(result));
+        _verifyBytes(result, data);
+        assertEquals(-1, in.read());
+        in.close();
+    }
+
+    public void testChannels() throws IOException
+    {
+        byte[] data = BitRatDecoderTest._randomInput(new Random(1), 3 * CHUNK + 99, 2);
+        for (int codec : CODECS) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            PresenceBitsetOutputStream out = new PresenceBitsetOutputStream(Channels.newChannel(bytes), codec);
+            out.write(data);
+            out.appendBit(true);
+            out.close();
+
+            // and make sure reader does not read past the end marker
+            bytes.write(123);
+            ByteArrayInputStream raw = new ByteArrayInputStream(bytes.toByteArray());
+            PresenceBitsetInputStream in = new PresenceBitsetInputStream(Channels.newChannel(raw));
+            byte[] result = new byte[data.length];
+            int count = 0;
+            while (count < result.length) {
+                count += in.read(result, count, result.length - count);
+            }
+            _verifyBytes(result, data);
+            assertEquals(1, in.readBit());
+            assertEquals(-1, in.readBit());
+            assertEquals(123, raw.read());
+        }
+    }
+
+    public void testReset() throws IOException
+    {
+        Random r = new Random(3);
+        byte[] first = BitRatDecoderTest._randomInput(r, 2*CHUNK + 17, 1);
+        byte[] second = BitRatDecoderTest._randomInput(r, CHUNK + 5, 2);
+        for (int codec : CODECS) {
+            ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            PresenceBitsetOutputStream out = new PresenceBitsetOutputStream(expected, codec);
+            out.write(second);
+            out.appendBit(true);
+            out.finish();
+
+            // reused stream must produce identical output for second bitset
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            out = new PresenceBitsetOutputStream(bytes, codec,
+                    EncoderContextPool.nonRecyclingPool());
+            out.write(first);
+            out.appendBit(false);
+            out.finish();
+            final int firstLength = bytes.size();
+            out.reset();
+            assertEquals(0L, out.getBitCount());
+            out.write(second);
+            out.appendBit(true);
+            out.finish();
+            byte[] all = bytes.toByteArray();
+            _verifyBytes(Arrays.copyOfRange(all, firstLength, all.length), expected.toByteArray());
+        }
+    }
+
+    public void testEncodePending() throws IOException
+    {
+        Random r = new Random(5);
+        for (int codec : CODECS) {
+            BitSet exp = new BitSet();
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            PresenceBitsetOutputStream out = new PresenceBitsetOutputStream(bytes, codec);
+            int row = 0;
+            for (int round = 0; round < 40; ++round) {
+                // set bits with gaps, mostly short, some over chunk boundaries
+                for (int i = r.nextInt(500); i > 0; --i) {
+                    final int gap = r.nextBoolean() ? r.nextInt(3) : r.nextInt(CHUNK);
+                    row += gap;
+                    exp.set(row++);
+                    out.appendSetBit(gap);
+                }
+                assertEquals(row, out.getBitCount());
+
+                // snapshot must be a complete bitset, without affecting stream
+                ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+                snapshot.write(bytes.toByteArray());
+                out.encodePending(snapshot);
+                PresenceBitsetInputStream in = new PresenceBitsetInputStream(
+                        new ByteArrayInputStream(snapshot.toByteArray()));
+                for (int i = 0; i < row; ++i) {
+                    assertEquals("Bit #"+i, exp.get(i) ? 1 : 0, in.readBit());
+                }
+                assertEquals(-1, in.readBit());
+
+                if (round == 39) { // and last one must match finished content
+                    out.finish();
+                    _verifyBytes(bytes.toByteArray(), snapshot.toByteArray());
+                }
+            }
+            try {
+                out.encodePending(new ByteArrayOutputStream());
+                fail("Should not pass");
+            } catch (IllegalStateException e) {
+                verifyException(e, "already finished");
+            }
+        }
+    }
+
+    public void testAppendAfterFinish() throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PresenceBitsetOutputStream out = new PresenceBitsetOutputStream(bytes);
+        out.appendRun(7, true);
+        out.finish();
+        final long bitCount = out.getBitCount();
+        final byte[] finished = bytes.toByteArray();
+
+        // must fail right away, even if no chunk would be flushed yet
+        for (int i = 0; i < 6; ++i) {
+            try {
+                switch (i) {
+                case 0:
+                    out.appendBit(true);
+                    break;
+                case 1:
+                    out.appendSetBit(0);
+                    break;
+                case 2:
+                    out.setBit(10);
+                    break;
+                case 3:
+                    out.appendRun(3, false);
+                    break;
+                case 4:
+                    out.write(0xFF);
+                    break;
+                default:
+                    out.write(new byte[2], 0, 2);
+                }
+                fail("Should not pass (#"+i+")");
+            } catch (IOException e) {
+                verifyException(e, "stream already finished");
+            }
+        }
+        assertEquals(bitCount, out.getBitCount());
+        _verifyBytes(finished, bytes.toByteArray());
+    }
+
+    public void testInvalid() throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PresenceBitsetOutputStream out = new PresenceBitsetOutputStream(bytes);
+        out.setBit(100);
+        try {
+            out.setBit(50);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Invalid row 50");
+        }
+        out.close();
+
+        // truncated content
+        byte[] encoded = bytes.toByteArray();
+        PresenceBitsetInputStream in = new PresenceBitsetInputStream(
+                new ByteArrayInputStream(Arrays.copyOf(encoded, encoded.length - 1)));
+        try {
+            in.read();
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "Unexpected end-of-input");
+        }
+        // or unknown tag
+        in = new PresenceBitsetInputStream(new ByteArrayInputStream(new byte[] { 0x7F }));
+        try {
+            in.readBit();
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "unrecognized chunk tag 0x7F");
+        }
+        // or row list index past end of chunk
+        in = new PresenceBitsetInputStream(new ByteArrayInputStream(new byte[] {
+                (byte) (PresenceBitsetOutputStream.TAG_PARTIAL | PresenceBitsetOutputStream.TAG_ROW_LIST),
+                0, 1, 0, 1, 8, PresenceBitsetOutputStream.TAG_END, 0 }));
+        try {
+            in.readBit();
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "invalid row list index 8");
+        }
+    }
+
+    public void testAdaptive() throws IOException
+    {
+        byte[] random = new byte[CHUNK];
+        new Random(5).nextBytes(random);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PresenceBitsetOutputStream out = new PresenceBitsetOutputStream(bytes,
+                PresenceBitsetOutputStream.CODEC_ADAPTIVE);
+        out.appendRun(8 * CHUNK, false);
+        out.appendRun(8 * CHUNK, true);
+        out.write(random);
+        out.setBit(3L * 8 * CHUNK + 5);
+        out.setBit(4L * 8 * CHUNK - 1);
+        // last chunk: 13 set bits; padding must not prevent use of all-set
+        out.appendRun(13, true);
+        out.close();
+
+        byte[] encoded = bytes.toByteArray();
+        assertEquals(PresenceBitsetOutputStream.TAG_ALL_CLEAR, encoded[0]);
+        assertEquals(PresenceBitsetOutputStream.TAG_ALL_SET, encoded[1]);
+        assertEquals(PresenceBitsetOutputStream.TAG_RAW, encoded[2]);
+        int ptr = 3 + CHUNK;
+        assertEquals(PresenceBitsetOutputStream.TAG_ROW_LIST, encoded[ptr]);
+        // two entries: 5, and 32767 - 5 - 1
+        _verifyBytes(Arrays.copyOfRange(encoded, ptr + 1, ptr + 7),
+                (byte) 0, (byte) 4, (byte) 5, (byte) 0xF9, (byte) 0xFF, (byte) 0x01);
+        ptr += 7;
+        _verifyBytes(Arrays.copyOfRange(encoded, ptr, encoded.length),
+                (byte) (PresenceBitsetOutputStream.TAG_PARTIAL | PresenceBitsetOutputStream.TAG_ALL_SET),
+                (byte) 0, (byte) 2, (byte) PresenceBitsetOutputStream.TAG_END, (byte) 3);
+
+        PresenceBitsetInputStream in = _reader(bytes);
+        byte[] result = new byte[4 * CHUNK + 1];
+        int count = 0;
+        while (count < result.length) {
+            count += in.read(result, count, result.length - count);
+        }
+        assertEquals(0, result[CHUNK - 1]);
+        assertEquals((byte) 0xFF, result[CHUNK]);
+        _verifyBytes(Arrays.copyOfRange(result, 2 * CHUNK, 3 * CHUNK), random);
+        assertEquals(0x04, result[3 * CHUNK]);
+        assertEquals(0x01, result[4 * CHUNK - 1]);
+        assertEquals((byte) 0xFF, result[4 * CHUNK]);
+        // padding bits of the last byte read as clear
+        assertEquals(0xF8, in.read());
+        assertEquals(-1, in.read());
+        in.close();
+    }
+
+    private PresenceBitsetInputStream _reader(ByteArrayOutputStream bytes) {
+        return new PresenceBitsetInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+}
@@ -0,0 +1,98 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class PresenceCodecSelectorTest extends ModuleTestBase
+{
+    private final static int CHUNK = PresenceBitsetOutputStream.CHUNK_SIZE;
+
+    public void testUniform()
+    {
+        PresenceCodecSelector sel = new PresenceCodecSelector();
+        byte[] input = new byte[CHUNK];
+        assertEquals(PresenceCodec.ALL_CLEAR, sel.select(true, input, 0, CHUNK));
+        assertEquals(0, sel.getSetBitCount());
+        Arrays.fill(input, (byte) 0xFF);
+        assertEquals(PresenceCodec.ALL_SET, sel.select(false, input, 0, CHUNK));
+        assertEquals(8 * CHUNK, sel.getSetBitCount());
+        // partial chunks too, at any offset
+        assertEquals(PresenceCodec.ALL_SET, sel.select(false, input, 3, 13));
+        assertEquals(8 * 13, sel.getSetBitCount());
+        assertEquals(0, sel.getEstimatedSize());
+    }
+
+    public void testSparse()
+    {
+        PresenceCodecSelector sel = new PresenceCodecSelector();
+        // just a handful of set bits: row list
+        byte[] input = new byte[CHUNK];
+        input[10] = 0x01;
+        input[300] = (byte) 0x81;
+        input[CHUNK-1] = 0x40;
+        assertEquals(PresenceCodec.ROW_LIST, sel.select(false, input, 0, CHUNK));
+        assertEquals(4, sel.getSetBitCount());
+        assertEquals(2 + PresenceCodecSelector.rowListLength(input, 0, CHUNK), sel.getEstimatedSize());
+
+        // every fourth byte with random bits: BitRat
+        Random r = new Random(1);
+        for (int i = 0; i < CHUNK; i += 4) {
+            input[i] = (byte) (1 + r.nextInt(254));
+        }
+        assertEquals(PresenceCodec.BITRAT, sel.select(false, input, 0, CHUNK));
+        _verifyEstimate(sel.getEstimatedSize(), _bitratSize(input));
+    }
+
+    public void testRuns()
+    {
+        // long runs of both kinds: Nibbler
+        Random r = new Random(2);
+        byte[] input = new byte[CHUNK];
+        for (int i = 0; i < CHUNK; ) {
+            int len = Math.min(CHUNK - i, 20 + r.nextInt(200));
+            Arrays.fill(input, i, i + len, ((i & 1) == 0) ? 0 : (byte) 0xFF);
+            i += len;
+            if (i < CHUNK) {
+                input[i++] = (byte) r.nextInt(256);
+            }
+        }
+        PresenceCodecSelector sel = new PresenceCodecSelector();
+        assertEquals(PresenceCodec.NIBBLER, sel.select(false, input, 0, CHUNK));
+        byte[] output = new byte[NibblerEncoder.MAX_OUTPUT_BUFFER];
+        _verifyEstimate(sel.getEstimatedSize(), new NibblerEncoder().encode(input, 0, CHUNK, output, 0));
+    }
+
+    public void testIncompressible()
+    {
+        byte[] input = new byte[CHUNK];
+        new Random(3).nextBytes(input);
+        PresenceCodecSelector sel = new PresenceCodecSelector();
+        assertEquals(PresenceCodec.RAW, sel.select(false, input, 0, CHUNK));
+        assertEquals(CHUNK, sel.getEstimatedSize());
+    }
+
+    public void testTags()
+    {
+        for (PresenceCodec codec : PresenceCodec.values()) {
+            assertSame(codec, PresenceCodec.forTag(codec.getTag()));
+        }
+        assertNull(PresenceCodec.forTag(PresenceBitsetOutputStream.TAG_END));
+        assertNull(PresenceCodec.forTag(PresenceBitsetOutputStream.CODEC_ADAPTIVE));
+    }
+
+    private int _bitratSize(byte[] input)
+    {
+        BitRatEncoder enc = new BitRatEncoder();
+        byte[] output = new byte[BitRatEncoder.MAX_OUTPUT_BUFFER];
+        enc._encodePartial(false, input, 0, input.length, output, 0);
+        // plus chunk mask and length
+        return 3 + enc.getOutputPtr();
+    }
+
+    private void _verifyEstimate(int estimate, int actual)
+    {
+        if (Math.abs(estimate - actual) > actual / 10) {
+            fail(String.format("Estimate %d too far from actual size %d", estimate, actual));
+        }
+    }
+}
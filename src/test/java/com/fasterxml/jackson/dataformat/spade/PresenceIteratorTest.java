@@ -0,0 +1,94 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.function.LongConsumer;
+
+public class PresenceIteratorTest extends ModuleTestBase
+{
+    private final static int CHUNK_BITS = PresenceBitsetOutputStream.CHUNK_SIZE << 3;
+
+    private final static int[] CODECS = new int[] {
+        PresenceBitsetOutputStream.TAG_BITRAT, PresenceBitsetOutputStream.TAG_NIBBLER,
+        PresenceBitsetOutputStream.CODEC_ADAPTIVE
+    };
+
+    public void testNextSetBit() throws IOException
+    {
+        Random r = new Random(7);
+        for (int codec : CODECS) {
+            for (int round = 0; round < 8; ++round) {
+                BitSet exp = new BitSet();
+                final int bitCount = _randomBits(r, exp, 1 + (round & 3), (round & 3) != 3,
+                        (round < 4) ? 500 : 20);
+                PresenceIterator it = _iterator(exp, bitCount, codec);
+                for (int row = exp.nextSetBit(0); row >= 0; row = exp.nextSetBit(row + 1)) {
+                    assertEquals(row, it.nextSetBit());
+                }
+                assertEquals(-1L, it.nextSetBit());
+                assertEquals(-1L, it.nextSetBit());
+
+                final long[] count = new long[1];
+                _iterator(exp, bitCount, codec).forEach(new LongConsumer() {
+                    @Override
+                    public void accept(long row) {
+                        ++count[0];
+                    }
+                });
+                assertEquals(exp.cardinality(), count[0]);
+            }
+        }
+    }
+
+    public void testAdvance() throws IOException
+    {
+        Random r = new Random(11);
+        for (int codec : CODECS) {
+            for (int round = 0; round < 8; ++round) {
+                BitSet exp = new BitSet();
+                final int bitCount = _randomBits(r, exp, 1 + (round & 3), (round & 3) != 3,
+                        (round < 4) ? 500 : 20);
+                PresenceIterator it = _iterator(exp, bitCount, codec);
+                int row = 0;
+                while (true) {
+                    // mix of short and long (multi-chunk) skips
+                    row += r.nextBoolean() ? r.nextInt(100) : r.nextInt(2 * CHUNK_BITS);
+                    final int expRow = (row < bitCount) ? exp.nextSetBit(row) : -1;
+                    assertEquals("Advance to #"+row, expRow, it.advance(row));
+                    if (expRow < 0) {
+                        break;
+                    }
+                    // and then one more bit, without skipping
+                    final int next = exp.nextSetBit(expRow + 1);
+                    assertEquals(next, it.nextSetBit());
+                    if (next < 0) {
+                        break;
+                    }
+                    row = next + 1;
+                }
+            }
+        }
+
+        try {
+            _iterator(new BitSet(), 10, PresenceBitsetOutputStream.TAG_BITRAT).advance(-1L);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Invalid row -1");
+        }
+    }
+
+    private PresenceIterator _iterator(BitSet bits, int bitCount, int codec) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PresenceBitsetOutputStream out = new PresenceBitsetOutputStream(bytes, codec);
+        for (int i = 0; i < bitCount; ++i) {
+            out.appendBit(bits.get(i));
+        }
+        out.close();
+        return new PresenceIterator(new PresenceBitsetInputStream(
+                new ByteArrayInputStream(bytes.toByteArray())));
+    }
+}
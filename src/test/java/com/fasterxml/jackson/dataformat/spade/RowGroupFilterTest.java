@@ -0,0 +1,219 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class RowGroupFilterTest extends ModuleTestBase
+{
+    private final static int ROWS = 5000;
+
+    private final static int GROUP_ROWS = 1000;
+
+    public void testStatistics() throws Exception
+    {
+        try (SpadeFileReader reader = new SpadeFileReader(_writeFile(true))) {
+            assertEquals(5, reader.getRowGroupCount());
+            SpadeFileIndex.RowGroup group = reader.getIndex().getRowGroup(2);
+
+            ColumnStatistics stats = group.findColumn("id").getStatistics();
+            assertEquals(GROUP_ROWS, stats.getPresentCount());
+            assertEquals(0, stats.getNullCount());
+            assertEquals(ColumnStatistics.TYPE_INTEGER, stats.getValueType());
+            assertEquals(Long.valueOf(2000L), stats.getMin());
+            assertEquals(Long.valueOf(2999L), stats.getMax());
+            assertEquals(1000.0, stats.getDistinctCount(), 30.0);
+
+            stats = group.findColumn("level").getStatistics();
+            assertEquals(GROUP_ROWS, stats.getPresentCount());
+            assertEquals(GROUP_ROWS / 10, stats.getNullCount());
+            assertEquals(ColumnStatistics.TYPE_STRING, stats.getValueType());
+            assertEquals("DEBUG", stats.getMin());
+            assertEquals("WARN", stats.getMax());
+            assertEquals(3L, stats.getDistinctCount());
+
+            stats = group.findColumn("ratio").getStatistics();
+            assertEquals(GROUP_ROWS / 2, stats.getPresentCount());
+            assertEquals(ColumnStatistics.TYPE_DOUBLE, stats.getValueType());
+            assertEquals(Double.valueOf(2000.5), stats.getMin());
+            assertEquals(Double.valueOf(2998.5), stats.getMax());
+
+            // values nested in Objects are not included, and prevent distinct estimate
+            stats = group.findColumn("obj").getStatistics();
+            assertEquals(ColumnStatistics.TYPE_NONE, stats.getValueType());
+            assertNull(stats.getMin());
+            assertEquals(-1L, stats.getDistinctCount());
+
+            stats = group.findColumn("mixed").getStatistics();
+            assertEquals(ColumnStatistics.TYPE_NONE, stats.getValueType());
+            assertEquals(2L, stats.getDistinctCount());
+
+            // long Strings are truncated, but bounds must still hold
+            stats = group.findColumn("long").getStatistics();
+            String min = (String) stats.getMin(), max = (String) stats.getMax();
+            assertEquals(ColumnStatistics.MAX_STRING_BOUND_LENGTH, min.length());
+            assertEquals(ColumnStatistics.MAX_STRING_BOUND_LENGTH, max.length());
+            assertTrue(min.compareTo(_longString(2000)) <= 0);
+            assertTrue(max.compareTo(_longString(2999)) > 0);
+
+            assertNull(reader.getIndex().getRowGroup(0).findColumn("tag"));
+        }
+    }
+
+    public void testFilters() throws Exception
+    {
+        try (SpadeFileReader reader = new SpadeFileReader(_writeFile(true))) {
+            _verify(reader, RowGroupFilter.equal("id", 2500), 2);
+            _verify(reader, RowGroupFilter.equal("id", 2500.0), 2);
+            _verify(reader, RowGroupFilter.equal("id", 2999.5));
+            _verify(reader, RowGroupFilter.equal("id", "2500"));
+            _verify(reader, RowGroupFilter.equal("id", null));
+            _verify(reader, RowGroupFilter.lessThan("id", 1000L), 0);
+            _verify(reader, RowGroupFilter.lessThan("id", 1000.5f), 0, 1);
+            _verify(reader, RowGroupFilter.lessThan("id", -1));
+            _verify(reader, RowGroupFilter.in("id", 5, 4999L, -3), 0, 4);
+
+            _verify(reader, RowGroupFilter.equal("level", "ALERT"), 3);
+            _verify(reader, RowGroupFilter.equal("level", "ERROR"), 0, 1, 2, 3, 4);
+            _verify(reader, RowGroupFilter.equal("level", null), 0, 1, 2, 3, 4);
+            _verify(reader, RowGroupFilter.lessThan("level", "DEBUG"), 3);
+            _verify(reader, RowGroupFilter.in("level", "ZZZ", "ALERT", 1), 3);
+
+            _verify(reader, RowGroupFilter.lessThan("ratio", 1000.5), 0);
+            _verify(reader, RowGroupFilter.lessThan("ratio", 1001L), 0, 1);
+            _verify(reader, RowGroupFilter.equal("ratio", 1), 0);
+
+            _verify(reader, RowGroupFilter.isPresent("tag"), 2);
+            _verify(reader, RowGroupFilter.equal("tag", true), 2);
+            _verify(reader, RowGroupFilter.isPresent("noSuchColumn"));
+
+            // no bounds for mixed types, so can not skip any groups
+            _verify(reader, RowGroupFilter.equal("mixed", 12345), 0, 1, 2, 3, 4);
+            _verify(reader, RowGroupFilter.equal("long", _longString(123)), 0);
+        }
+    }
+
+    public void testNoStatistics() throws Exception
+    {
+        try (SpadeFileReader reader = new SpadeFileReader(_writeFile(false))) {
+            assertNull(reader.getIndex().getRowGroup(0).findColumn("id").getStatistics());
+            // only presence may be used
+            _verify(reader, RowGroupFilter.equal("id", 2500), 0, 1, 2, 3, 4);
+            _verify(reader, RowGroupFilter.equal("tag", 3), 2);
+        }
+    }
+
+    // Mixed comparisons of longs and doubles must be exact beyond 2^53
+    public void testLargeNumbers() throws Exception
+    {
+        SpadeFactory f = new SpadeFactory()
+                .enable(SpadeGenerator.Feature.FOOTER_INDEX)
+                .enable(SpadeGenerator.Feature.COLUMN_STATISTICS);
+        File file = File.createTempFile("spade", ".spd");
+        file.deleteOnExit();
+        try (JsonGenerator g = f.createGenerator(Files.newOutputStream(file.toPath()))) {
+            Map<String,Object> row = new LinkedHashMap<>();
+            row.put("x", 9007199254740995L); // 2^53 + 3
+            row.put("y", 0x1p53);
+            row.put("z", Long.MAX_VALUE);
+            new ObjectMapper(f).writeValue(g, row);
+        }
+        try (SpadeFileReader reader = new SpadeFileReader(file)) {
+            // (double) 2^53 + 3 would round to 2^53 + 4
+            _verify(reader, RowGroupFilter.lessThan("x", 9007199254740996.0), 0);
+            _verify(reader, RowGroupFilter.lessThan("x", 9007199254740994.0));
+            _verify(reader, RowGroupFilter.equal("x", 9007199254740996.0));
+            _verify(reader, RowGroupFilter.in("x", 9007199254740994.0, 9007199254740995L), 0);
+
+            // (double) 2^53 + 1 would round to 2^53
+            _verify(reader, RowGroupFilter.lessThan("y", 9007199254740993L), 0);
+            _verify(reader, RowGroupFilter.lessThan("y", 9007199254740992L));
+            _verify(reader, RowGroupFilter.equal("y", 9007199254740993L));
+            _verify(reader, RowGroupFilter.equal("y", 9007199254740992L), 0);
+
+            // (double) Long.MAX_VALUE would round to 2^63
+            _verify(reader, RowGroupFilter.lessThan("z", 0x1p63), 0);
+            _verify(reader, RowGroupFilter.equal("z", 0x1p63));
+            _verify(reader, RowGroupFilter.lessThan("z", Double.NaN));
+        }
+    }
+
+    public void testInvalid() throws Exception
+    {
+        try {
+            RowGroupFilter.equal("id", BigDecimal.ONE);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Unsupported value type for filtering: java.math.BigDecimal");
+        }
+        try {
+            RowGroupFilter.lessThan("id", null);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Can not compare to null");
+        }
+        try {
+            RowGroupFilter.lessThan("id", Boolean.TRUE);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Can not compare to java.lang.Boolean");
+        }
+    }
+
+    private void _verify(SpadeFileReader reader, RowGroupFilter filter, int... expected)
+    {
+        assertEquals(filter.toString(), Arrays.toString(expected),
+                Arrays.toString(reader.findRowGroups(filter)));
+    }
+
+    // Strings longer than bounds, with prefix that differs between row groups
+    private String _longString(int i) {
+        return (char) ('a' + i / GROUP_ROWS) + String.join("", Collections.nCopies(10, "0123456789")) + i;
+    }
+
+    private File _writeFile(boolean statistics) throws IOException
+    {
+        SpadeFactory f = new SpadeFactory()
+                .enable(SpadeGenerator.Feature.FOOTER_INDEX)
+                .configure(SpadeGenerator.Feature.COLUMN_STATISTICS, statistics)
+                .setMaxBlockRows(GROUP_ROWS);
+        File file = File.createTempFile("spade", ".spd");
+        file.deleteOnExit();
+        final String[] levels = new String[] { "DEBUG", "INFO", "WARN" };
+        try (JsonGenerator g = f.createGenerator(Files.newOutputStream(file.toPath()))) {
+            ObjectMapper mapper = new ObjectMapper(f);
+            for (int i = 0; i < ROWS; ++i) {
+                Map<String,Object> row = new LinkedHashMap<>();
+                row.put("id", i);
+                if ((i % 10) == 0) {
+                    row.put("level", null);
+                } else if (i == 3211) {
+                    row.put("level", "ALERT");
+                } else {
+                    row.put("level", levels[i % 3]);
+                }
+                if ((i & 1) != 0) {
+                    row.put("ratio", i - 0.5);
+                }
+                if (i == 2345) {
+                    row.put("tag", true);
+                }
+                List<Integer> nested = Collections.singletonList(-i);
+                row.put("obj", Collections.singletonMap("nested", nested));
+                row.put("mixed", ((i & 1) == 0) ? (Object) 12345 : "12345");
+                row.put("long", _longString(i));
+                mapper.writeValue(g, row);
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,111 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class SpadeFileReaderTest extends ModuleTestBase
+{
+    private final static int ROWS = 250;
+
+    public void testReadColumns() throws Exception
+    {
+        SpadeFactory f = new SpadeFactory()
+                .enable(SpadeGenerator.Feature.FOOTER_INDEX)
+                .setMaxBlockRows(100);
+        File file = _writeFile(f);
+        try (SpadeFileReader reader = new SpadeFileReader(file)) {
+            SpadeFileIndex index = reader.getIndex();
+            assertEquals(3, reader.getRowGroupCount());
+            assertEquals(ROWS, index.getRowCount());
+            assertEquals(50, index.getRowGroup(2).getRowCount());
+
+            ColumnReader col = new ColumnReader("id");
+            for (int rg = 0; rg < 3; ++rg) {
+                final int firstRow = rg * 100;
+                SpadeFileIndex.RowGroup group = index.getRowGroup(rg);
+                // "id" in all rows; "odd" in odd rows; "rare" only in first group
+                assertEquals(rg == 0 ? 3 : 2, group.getColumns().size());
+                SpadeFileIndex.ColumnChunk chunk = group.findColumn("id");
+                assertEquals(group.getRowCount(), chunk.getValueCount());
+                assertEquals(SpadeConstants.COLUMN_ENCODING_INTEGERS, chunk.getEncoding());
+
+                assertTrue(reader.readColumn(rg, "id", col));
+                for (int i = 0; i < group.getRowCount(); ++i) {
+                    assertTrue(col.isPresent(i));
+                    assertEquals(firstRow + i, col.readIntegerValue());
+                }
+                assertFalse(col.hasMoreValues());
+
+                PresenceIterator it = new PresenceIterator(reader.getPresence(rg, "odd"));
+                for (int i = 1; i < group.getRowCount(); i += 2) {
+                    assertEquals(i, it.nextSetBit());
+                }
+                assertEquals(-1L, it.nextSetBit());
+
+                ByteBuffer content = reader.getColumnContent(rg, "odd");
+                assertEquals(group.findColumn("odd").getLength(), content.remaining());
+                assertEquals(SpadeConstants.COLUMN_ENCODING_DICTIONARY, content.get(0));
+                assertTrue(content.isReadOnly());
+            }
+            assertNull(reader.getColumnContent(1, "rare"));
+            assertNull(reader.getPresence(2, "rare"));
+            assertFalse(reader.readColumn(1, "noSuchColumn", col));
+        }
+
+        // and footer must not prevent regular streaming reading
+        List<?> rows = new ObjectMapper(f).readerFor(Map.class).readValues(file).readAll();
+        assertEquals(ROWS, rows.size());
+    }
+
+    public void testNoFooter() throws Exception
+    {
+        File file = _writeFile(new SpadeFactory());
+        try {
+            new SpadeFileReader(file).close();
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "no footer index");
+        }
+
+        try (OutputStream out = new FileOutputStream(file)) {
+            out.write(new byte[] { 'n', 'o', 't', ' ', 'S', 'p', 'a', 'd', 'e', '!', '!', '!', '!', '!' });
+        }
+        try {
+            new SpadeFileReader(file).close();
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "does not start with 'SPD'");
+        }
+    }
+
+    private File _writeFile(SpadeFactory f) throws IOException
+    {
+        File file = File.createTempFile("spade", ".spd");
+        file.deleteOnExit();
+        try (JsonGenerator g = f.createGenerator(Files.newOutputStream(file.toPath()))) {
+            ObjectMapper mapper = new ObjectMapper(f);
+            for (int i = 0; i < ROWS; ++i) {
+                Map<String,Object> row = new LinkedHashMap<>();
+                row.put("id", i);
+                if ((i & 1) != 0) {
+                    row.put("odd", "odd-"+(i % 3));
+                }
+                if (i == 17) {
+                    row.put("rare", true);
+                }
+                mapper.writeValue(g, row);
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,300 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import static com.fasterxml.jackson.dataformat.spade.SpadeConstants.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+public class SpadeGeneratorTest extends ModuleTestBase
+{
+    static class Point {
+        public int x, y;
+        public String label;
+
+        public Point(int x, int y, String label) {
+            this.x = x;
+            this.y = y;
+            this.label = label;
+        }
+    }
+
+    public void testEmpty() throws Exception
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new SpadeFactory().createGenerator(bytes).close();
+        _verifyBytes(bytes.toByteArray(),
+                HEADER_BYTE_1, HEADER_BYTE_2, HEADER_BYTE_3, FORMAT_VERSION, MARKER_END);
+    }
+
+    public void testRowsAsList() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper(new SpadeFactory().setMaxBlockRows(3)
+                .disable(SpadeGenerator.Feature.DICTIONARY_ENCODING));
+        List<Map<String,Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 7; ++i) {
+            Map<String,Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            if ((i % 4) == 0) {
+                row.put("name", "row"+i);
+            }
+            rows.add(row);
+        }
+        byte[] doc = mapper.writeValueAsBytes(rows);
+
+        List<Map<String,Column>> blocks = _readBlocks(doc);
+        assertEquals(3, blocks.size());
+        Column c = blocks.get(0).get("id");
+        assertEquals(3, c.valueCount);
+        assertEquals(Arrays.asList(0, 1, 2), c.rows);
+        c = blocks.get(0).get("name");
+        assertEquals(1, c.valueCount);
+        assertEquals(Arrays.asList(0), c.rows);
+        // first value of the column: String token
+        assertEquals(TOKEN_STRING, c.values[0]);
+        assertEquals(4, c.values[1]);
+        assertEquals("row0", new String(c.values, 2, 4, StandardCharsets.UTF_8));
+
+        c = blocks.get(1).get("name");
+        assertEquals(Arrays.asList(1), c.rows);
+        c = blocks.get(2).get("id");
+        assertEquals(Arrays.asList(0), c.rows);
+        // last block has no "name" values, so no column either
+        assertEquals(1, blocks.get(2).size());
+    }
+
+    public void testSequenceWriter() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper(new SpadeFactory()
+                .enable(SpadeGenerator.Feature.PRESENCE_NIBBLER)
+                .disable(SpadeGenerator.Feature.DICTIONARY_ENCODING));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SequenceWriter w = mapper.writer().writeValues(bytes);
+        for (int i = 0; i < 1000; ++i) {
+            w.write(new Point(i, -i, ((i & 1) == 0) ? null : "odd"));
+        }
+        w.close();
+
+        List<Map<String,Column>> blocks = _readBlocks(bytes.toByteArray());
+        assertEquals(1, blocks.size());
+        assertEquals(3, blocks.get(0).size());
+        Column label = blocks.get(0).get("label");
+        // nulls are still present, as values
+        assertEquals(1000, label.valueCount);
+        assertEquals(TOKEN_NULL, label.values[0]);
+        assertEquals(TOKEN_STRING, label.values[1]);
+    }
+
+    public void testBlockSizeLimit() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper(new SpadeFactory().setMaxBlockBytes(1000));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SequenceWriter w = mapper.writer().writeValues(bytes);
+        for (int i = 0; i < 1000; ++i) {
+            w.write(Collections.singletonMap("text", "Some longer text value, #"+i));
+        }
+        w.close();
+        List<Map<String,Column>> blocks = _readBlocks(bytes.toByteArray());
+        assertTrue(blocks.size() > 10);
+        int rows = 0;
+        for (Map<String,Column> block : blocks) {
+            rows += block.get("text").valueCount;
+        }
+        assertEquals(1000, rows);
+    }
+
+    public void testNestedValues() throws Exception
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JsonGenerator g = new SpadeFactory().createGenerator(bytes);
+        g.writeStartObject();
+        g.writeFieldName("tags");
+        g.writeStartArray();
+        g.writeString("a");
+        g.writeEndArray();
+        g.writeFieldName("pos");
+        g.writeStartObject();
+        g.writeNumberField("x", 1);
+        g.writeEndObject();
+        g.writeBooleanField("ok", true);
+        g.writeEndObject();
+        g.close();
+
+        Map<String,Column> block = _readBlocks(bytes.toByteArray()).get(0);
+        _verifyBytes(block.get("tags").values,
+                TOKEN_START_ARRAY, TOKEN_STRING, (byte) 1, (byte) 'a', TOKEN_END_ARRAY);
+        _verifyBytes(block.get("pos").values,
+                TOKEN_START_OBJECT, TOKEN_FIELD_NAME, (byte) 1, (byte) 'x', TOKEN_INT, (byte) 2,
+                TOKEN_END_OBJECT);
+        _verifyBytes(block.get("ok").values, TOKEN_TRUE);
+    }
+
+    public void testDictionaryEncoding() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper(new SpadeFactory());
+        final String[] levels = { "INFO", "WARN", "ERROR" };
+        List<Map<String,Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            Map<String,Object> row = new LinkedHashMap<>();
+            row.put("level", ((i % 10) == 9) ? null : levels[i % 3]);
+            row.put("mixed", ((i % 100) == 50) ? (Object) i : "text");
+            rows.add(row);
+        }
+        Map<String,Column> block = _readBlocks(mapper.writeValueAsBytes(rows)).get(0);
+        Column c = block.get("level");
+        assertEquals(COLUMN_ENCODING_DICTIONARY, c.encoding);
+        assertEquals(1000, c.valueCount);
+        // 3 entries, then bit width (2), followed by 2-bit ids
+        assertEquals(3, c.values[0]);
+        assertEquals(4, c.values[1]);
+        assertEquals("INFO", new String(c.values, 2, 4, StandardCharsets.UTF_8));
+        int ptr = 2 + 4 + 1 + 4 + 1 + 5;
+        assertEquals(2, c.values[ptr++]);
+        assertEquals(ptr + 250, c.values.length);
+        // ids 1, 2, 3, 1
+        assertEquals((byte) 0x6D, c.values[ptr]);
+
+        // and non-String value forces use of plain tokens
+        c = block.get("mixed");
+        assertEquals(COLUMN_ENCODING_TOKENS, c.encoding);
+        assertEquals(TOKEN_STRING, c.values[0]);
+    }
+
+    public void testDictionaryOverflow() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper(new SpadeFactory().setMaxBlockRows(1000));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SequenceWriter w = mapper.writer().writeValues(bytes);
+        for (int i = 0; i < 2000; ++i) {
+            // first block has too many distinct values; second one not
+            String value = (i < 1000) ? ("value"+i) : "value";
+            w.write(Collections.singletonMap("str", value));
+        }
+        w.close();
+        List<Map<String,Column>> blocks = _readBlocks(bytes.toByteArray());
+        assertEquals(2, blocks.size());
+        // once maximum size is exceeded, dictionary is not used for later blocks either
+        assertEquals(COLUMN_ENCODING_TOKENS, blocks.get(0).get("str").encoding);
+        assertEquals(COLUMN_ENCODING_TOKENS, blocks.get(1).get("str").encoding);
+    }
+
+    public void testDynamicColumns() throws Exception
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SpadeGenerator g = new SpadeFactory().setMaxBlockRows(100)
+                .createGenerator(bytes);
+        ObjectMapper mapper = new ObjectMapper();
+        for (int i = 0; i < 500; ++i) {
+            Map<String,Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            // property names change for each block
+            row.put("key"+(i / 100)+"_"+(i % 10), "value");
+            mapper.writeValue(g, row);
+            // columns without values in previous blocks should have been dropped
+            assertTrue(g._columns.size() <= 21);
+        }
+        g.close();
+        assertEquals(11, g._columns.size());
+
+        List<Map<String,Column>> blocks = _readBlocks(bytes.toByteArray());
+        assertEquals(5, blocks.size());
+        for (int i = 0; i < blocks.size(); ++i) {
+            Map<String,Column> block = blocks.get(i);
+            assertEquals(11, block.size());
+            assertEquals(100, block.get("id").valueCount);
+            assertEquals(10, block.get("key"+i+"_3").valueCount);
+        }
+    }
+
+    public void testInvalidContent() throws Exception
+    {
+        JsonGenerator g = new SpadeFactory().createGenerator(new ByteArrayOutputStream());
+        try {
+            g.writeNumber(3);
+            fail("Should not pass");
+        } catch (JsonGenerationException e) {
+            verifyException(e, "rows must be JSON Objects");
+        }
+
+        g = new SpadeFactory().createGenerator(new ByteArrayOutputStream());
+        g.writeStartObject();
+        g.writeNumberField("a", 1);
+        try {
+            g.writeNumberField("a", 2);
+            fail("Should not pass");
+        } catch (JsonGenerationException e) {
+            verifyException(e, "Duplicate property 'a'");
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper methods
+    /**********************************************************************
+     */
+
+    static class Column {
+        public int encoding;
+        public int valueCount;
+        public List<Integer> rows = new ArrayList<>();
+        public byte[] values;
+    }
+
+    private List<Map<String,Column>> _readBlocks(byte[] doc) throws IOException
+    {
+        ByteArrayInputStream in = new ByteArrayInputStream(doc);
+        assertEquals(HEADER_BYTE_1, in.read());
+        assertEquals(HEADER_BYTE_2, in.read());
+        assertEquals(HEADER_BYTE_3, in.read());
+        assertEquals(FORMAT_VERSION, in.read());
+        List<Map<String,Column>> blocks = new ArrayList<>();
+        int marker;
+        while ((marker = in.read()) == MARKER_BLOCK) {
+            final int rowCount = _readVInt(in);
+            final int columnCount = _readVInt(in);
+            Map<String,Column> block = new LinkedHashMap<>();
+            for (int i = 0; i < columnCount; ++i) {
+                byte[] name = new byte[_readVInt(in)];
+                in.read(name);
+                int contentLength = _readVInt(in);
+                final int start = in.available();
+                Column col = new Column();
+                col.encoding = in.read();
+                col.valueCount = _readVInt(in);
+                PresenceBitsetInputStream presence = new PresenceBitsetInputStream(in);
+                int bit;
+                for (int row = 0; (bit = presence.readBit()) >= 0; ++row) {
+                    if (bit != 0) {
+                        col.rows.add(row);
+                    }
+                }
+                assertEquals(rowCount, presence.getBitPosition());
+                assertEquals(col.valueCount, col.rows.size());
+                col.values = new byte[contentLength - (start - in.available())];
+                in.read(col.values);
+                block.put(new String(name, StandardCharsets.UTF_8), col);
+            }
+            blocks.add(block);
+        }
+        assertEquals(MARKER_END, marker);
+        assertEquals(-1, in.read());
+        return blocks;
+    }
+
+    private int _readVInt(InputStream in) throws IOException
+    {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = in.read();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+}
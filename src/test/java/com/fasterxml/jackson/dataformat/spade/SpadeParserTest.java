@@ -0,0 +1,417 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class SpadeParserTest extends ModuleTestBase
+{
+    static class Entry {
+        public long timestamp;
+        public String level;
+        public String message;
+        public List<String> tags;
+        public double score;
+
+        protected Entry() { }
+
+        public Entry(long ts, String level, String msg, double score, String... tags) {
+            timestamp = ts;
+            this.level = level;
+            message = msg;
+            this.score = score;
+            this.tags = (tags.length == 0) ? null : Arrays.asList(tags);
+        }
+    }
+
+    public void testEmpty() throws Exception
+    {
+        SpadeFactory f = new SpadeFactory();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        f.createGenerator(bytes).close();
+        JsonParser p = f.createParser(bytes.toByteArray());
+        assertNull(p.nextToken());
+        p.close();
+
+        // and completely empty content is fine too
+        p = f.createParser(new byte[0]);
+        assertNull(p.nextToken());
+        p.close();
+    }
+
+    public void testRoundTrip() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper(new SpadeFactory().setMaxBlockRows(7));
+        List<Entry> input = _entries(50);
+        byte[] doc = mapper.writeValueAsBytes(input);
+
+        MappingIterator<Entry> it = mapper.readerFor(Entry.class).readValues(doc);
+        List<Entry> result = it.readAll();
+        assertEquals(input.size(), result.size());
+        for (int i = 0; i < input.size(); ++i) {
+            Entry exp = input.get(i);
+            Entry act = result.get(i);
+            assertEquals(exp.timestamp, act.timestamp);
+            assertEquals(exp.level, act.level);
+            assertEquals(exp.message, act.message);
+            assertEquals(exp.tags, act.tags);
+            assertEquals(exp.score, act.score);
+        }
+    }
+
+    public void testProjection() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper(new SpadeFactory().setMaxBlockRows(7));
+        byte[] doc = mapper.writeValueAsBytes(_entries(20));
+
+        MappingIterator<Map<String,Object>> it = mapper.readerFor(Map.class)
+                .with(SpadeSchema.projection("level", "tags"))
+                .readValues(doc);
+        int count = 0;
+        while (it.hasNext()) {
+            Map<String,Object> row = it.next();
+            assertEquals(row.containsKey("tags") ? 2 : 1, row.size());
+            assertEquals(((count % 3) == 0) ? "WARN" : "INFO", row.get("level"));
+            ++count;
+        }
+        assertEquals(20, count);
+
+        // also via parser directly, with input stream, for column missing from content
+        JsonParser p = mapper.getFactory().createParser(new ByteArrayInputStream(doc));
+        p.setSchema(SpadeSchema.projection("noSuchColumn"));
+        for (int i = 0; i < 20; ++i) {
+            assertToken(JsonToken.START_OBJECT, p.nextToken());
+            assertToken(JsonToken.END_OBJECT, p.nextToken());
+        }
+        assertNull(p.nextToken());
+        p.close();
+    }
+
+    public void testRowGroupFilter() throws Exception
+    {
+        // statistics in block headers, without footer index
+        SpadeFactory f = new SpadeFactory().setMaxBlockRows(7)
+                .enable(SpadeGenerator.Feature.COLUMN_STATISTICS);
+        ObjectMapper mapper = new ObjectMapper(f);
+        byte[] doc = mapper.writeValueAsBytes(_entries(50));
+
+        // timestamps of rows 14 - 20 are in the third block
+        List<Entry> result = mapper.readerFor(Entry.class)
+                .with(SpadeSchema.allColumns().withFilter(RowGroupFilter.equal("timestamp", 15000)))
+                .<Entry>readValues(doc).readAll();
+        assertEquals(7, result.size());
+        assertEquals(14000L, result.get(0).timestamp);
+        assertEquals(20000L, result.get(6).timestamp);
+
+        // filter column need not be projected; rows of blocks that may match are all included
+        MappingIterator<Map<String,Object>> it = mapper.readerFor(Map.class)
+                .with(SpadeSchema.projection("level").withFilter(RowGroupFilter.lessThan("score", -42)))
+                .readValues(doc);
+        // rows 42 - 49, in last two blocks
+        assertEquals(Arrays.asList("WARN", "INFO", "INFO", "WARN", "INFO", "INFO", "WARN", "INFO"),
+                _values(it.readAll(), "level"));
+
+        // no block has values for column
+        JsonParser p = f.createParser(new ByteArrayInputStream(doc));
+        p.setSchema(SpadeSchema.allColumns().withFilter(RowGroupFilter.isPresent("noSuchColumn")));
+        assertNull(p.nextToken());
+        p.close();
+
+        // without statistics, no blocks can be skipped
+        f.disable(SpadeGenerator.Feature.COLUMN_STATISTICS);
+        doc = mapper.writeValueAsBytes(_entries(50));
+        result = mapper.readerFor(Entry.class)
+                .with(SpadeSchema.allColumns().withFilter(RowGroupFilter.equal("timestamp", 15000)))
+                .<Entry>readValues(doc).readAll();
+        assertEquals(50, result.size());
+    }
+
+    public void testScalarTypes() throws Exception
+    {
+        SpadeFactory f = new SpadeFactory();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JsonGenerator g = f.createGenerator(bytes);
+        g.writeStartObject();
+        g.writeNumberField("i", -3);
+        g.writeNumberField("l", Long.MAX_VALUE);
+        g.writeFieldName("bi");
+        g.writeNumber(BigInteger.TEN.pow(30));
+        g.writeNumberField("f", 0.25f);
+        g.writeNumberField("d", -1.5);
+        g.writeNumberField("bd", new BigDecimal("12.345"));
+        g.writeBooleanField("t", true);
+        g.writeBooleanField("fa", false);
+        g.writeNullField("n");
+        g.writeBinaryField("b", new byte[] { 1, 2, 3 });
+        g.writeStringField("s", "\u00E9t\u00E9");
+        g.writeEndObject();
+        g.close();
+
+        JsonParser p = f.createParser(bytes.toByteArray());
+        assertToken(JsonToken.START_OBJECT, p.nextToken());
+        _verifyField(p, "i", JsonToken.VALUE_NUMBER_INT);
+        assertEquals(JsonParser.NumberType.INT, p.getNumberType());
+        assertEquals(-3, p.getIntValue());
+        _verifyField(p, "l", JsonToken.VALUE_NUMBER_INT);
+        assertEquals(JsonParser.NumberType.LONG, p.getNumberType());
+        assertEquals(Long.MAX_VALUE, p.getLongValue());
+        _verifyField(p, "bi", JsonToken.VALUE_NUMBER_INT);
+        assertEquals(BigInteger.TEN.pow(30), p.getBigIntegerValue());
+        _verifyField(p, "f", JsonToken.VALUE_NUMBER_FLOAT);
+        assertEquals(JsonParser.NumberType.FLOAT, p.getNumberType());
+        assertEquals(0.25f, p.getFloatValue());
+        _verifyField(p, "d", JsonToken.VALUE_NUMBER_FLOAT);
+        assertEquals(-1.5, p.getDoubleValue());
+        assertEquals("-1.5", p.getText());
+        _verifyField(p, "bd", JsonToken.VALUE_NUMBER_FLOAT);
+        assertEquals(new BigDecimal("12.345"), p.getDecimalValue());
+        _verifyField(p, "t", JsonToken.VALUE_TRUE);
+        _verifyField(p, "fa", JsonToken.VALUE_FALSE);
+        _verifyField(p, "n", JsonToken.VALUE_NULL);
+        _verifyField(p, "b", JsonToken.VALUE_EMBEDDED_OBJECT);
+        assertTrue(Arrays.equals(new byte[] { 1, 2, 3 }, p.getBinaryValue()));
+        _verifyField(p, "s", JsonToken.VALUE_STRING);
+        assertEquals("\u00E9t\u00E9", p.getText());
+        assertToken(JsonToken.END_OBJECT, p.nextToken());
+        assertNull(p.nextToken());
+        p.close();
+    }
+
+    public void testNestedValues() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper(new SpadeFactory());
+        Map<String,Object> row = new LinkedHashMap<>();
+        row.put("a", Arrays.asList(1, Arrays.asList("x"), Collections.singletonMap("k", true)));
+        row.put("b", Collections.singletonMap("nested", Collections.singletonMap("deep", 2.5)));
+        byte[] doc = mapper.writeValueAsBytes(Arrays.asList(row, row));
+
+        List<Map<String,Object>> result = mapper.readerFor(Map.class)
+                .<Map<String,Object>>readValues(doc).readAll();
+        assertEquals(Arrays.asList(row, row), result);
+
+        // and verify that skipping works with projection as well
+        JsonParser p = mapper.getFactory().createParser(doc);
+        p.setSchema(SpadeSchema.projection("b"));
+        assertToken(JsonToken.START_OBJECT, p.nextToken());
+        assertToken(JsonToken.FIELD_NAME, p.nextToken());
+        assertEquals("b", p.getCurrentName());
+        assertToken(JsonToken.START_OBJECT, p.nextToken());
+        assertEquals("b", p.getCurrentName());
+        p.skipChildren();
+        assertToken(JsonToken.END_OBJECT, p.nextToken());
+        assertToken(JsonToken.START_OBJECT, p.nextToken());
+        p.skipChildren();
+        assertNull(p.nextToken());
+        p.close();
+    }
+
+    public void testDictionaryValues() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper(new SpadeFactory().setMaxBlockRows(100));
+        final String[] hosts = { "alpha", "beta", "gamma", "delta", "epsilon" };
+        List<Map<String,Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 250; ++i) {
+            Map<String,Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            row.put("host", ((i % 7) == 3) ? null : hosts[i % hosts.length]);
+            rows.add(row);
+        }
+        byte[] doc = mapper.writeValueAsBytes(rows);
+        List<Map<String,Object>> result = mapper.readerFor(Map.class)
+                .<Map<String,Object>>readValues(doc).readAll();
+        assertEquals(rows, result);
+
+        // String instances should be shared, not allocated per row (nor per block)
+        assertSame(result.get(0).get("host"), result.get(5).get("host"));
+        assertSame(result.get(0).get("host"), result.get(200).get("host"));
+    }
+
+    public void testPackedIntegers() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper(new SpadeFactory().setMaxBlockRows(1000));
+        List<Map<String,Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 2500; ++i) {
+            Map<String,Object> row = new LinkedHashMap<>();
+            row.put("ts", 1500000000000L + i * 1000L + (i % 3));
+            row.put("count", i % 50);
+            // in second block, a String value forces conversion to plain tokens
+            row.put("mixed", (i == 1500) ? (Object) "x" : (Object) (i * 7L));
+            rows.add(row);
+        }
+        byte[] doc = mapper.writeValueAsBytes(rows);
+        // packed integers should be much more compact than plain VInts
+        assertTrue(doc.length < 2500 * 10);
+
+        JsonParser p = mapper.getFactory().createParser(doc);
+        for (int i = 0; i < rows.size(); ++i) {
+            Map<String,Object> row = rows.get(i);
+            assertToken(JsonToken.START_OBJECT, p.nextToken());
+            _verifyField(p, "ts", JsonToken.VALUE_NUMBER_INT);
+            assertEquals(JsonParser.NumberType.LONG, p.getNumberType());
+            assertEquals(row.get("ts"), p.getLongValue());
+            _verifyField(p, "count", JsonToken.VALUE_NUMBER_INT);
+            assertEquals(JsonParser.NumberType.INT, p.getNumberType());
+            assertEquals(row.get("count"), p.getIntValue());
+            assertToken(JsonToken.FIELD_NAME, p.nextToken());
+            if (i == 1500) {
+                assertToken(JsonToken.VALUE_STRING, p.nextToken());
+                assertEquals("x", p.getText());
+            } else {
+                assertToken(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+                assertEquals(i * 7L, p.getLongValue());
+            }
+            assertToken(JsonToken.END_OBJECT, p.nextToken());
+        }
+        assertNull(p.nextToken());
+        p.close();
+    }
+
+    public void testXorDoubles() throws Exception
+    {
+        SpadeFactory f = new SpadeFactory().setMaxBlockRows(100);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JsonGenerator g = f.createGenerator(bytes);
+        for (int i = 0; i < 250; ++i) {
+            g.writeStartObject();
+            g.writeNumberField("temp", 20.0 + (i % 10) * 0.25);
+            // special values must be preserved exactly
+            g.writeNumberField("special", _specialDouble(i));
+            // in second block, an int value forces conversion to plain tokens
+            if (i == 150) {
+                g.writeNumberField("mixed", 3);
+            } else {
+                g.writeNumberField("mixed", i * 0.5);
+            }
+            g.writeEndObject();
+        }
+        g.close();
+
+        JsonParser p = f.createParser(bytes.toByteArray());
+        for (int i = 0; i < 250; ++i) {
+            assertToken(JsonToken.START_OBJECT, p.nextToken());
+            _verifyField(p, "temp", JsonToken.VALUE_NUMBER_FLOAT);
+            assertEquals(JsonParser.NumberType.DOUBLE, p.getNumberType());
+            assertEquals(20.0 + (i % 10) * 0.25, p.getDoubleValue());
+            _verifyField(p, "special", JsonToken.VALUE_NUMBER_FLOAT);
+            assertEquals(Double.doubleToRawLongBits(_specialDouble(i)),
+                    Double.doubleToRawLongBits(p.getDoubleValue()));
+            if (i == 150) {
+                _verifyField(p, "mixed", JsonToken.VALUE_NUMBER_INT);
+                assertEquals(3, p.getIntValue());
+            } else {
+                _verifyField(p, "mixed", JsonToken.VALUE_NUMBER_FLOAT);
+                assertEquals(i * 0.5, p.getDoubleValue());
+            }
+            assertToken(JsonToken.END_OBJECT, p.nextToken());
+        }
+        assertNull(p.nextToken());
+        p.close();
+    }
+
+    public void testNumbersWithNulls() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper(new SpadeFactory().setMaxBlockRows(1000));
+        List<Map<String,Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 2500; ++i) {
+            Map<String,Object> row = new LinkedHashMap<>();
+            // null as the first value of block, as well as within and at the end of block
+            final boolean isNull = ((i % 1000) == 0) || (i == 1234) || (i == 1999) || (i > 2490);
+            row.put("ts", isNull ? null : 1500000000000L + i * 1000L);
+            row.put("temp", isNull ? null : 20.0 + (i % 10) * 0.25);
+            // in second block, a String value forces conversion to plain tokens
+            row.put("mixed", isNull ? null : ((i == 1500) ? (Object) "x" : (Object) i));
+            row.put("nulls", null);
+            rows.add(row);
+        }
+        byte[] doc = mapper.writeValueAsBytes(rows);
+        List<Map<String,Object>> result = mapper.readerFor(Map.class)
+                .<Map<String,Object>>readValues(doc).readAll();
+        assertEquals(rows, result);
+
+        // a few nulls should not prevent packing of numbers: only null bitsets
+        // are needed, compared to leaving out null values altogether
+        for (Map<String,Object> row : rows) {
+            row.remove("mixed");
+            row.remove("nulls");
+        }
+        final int withNulls = mapper.writeValueAsBytes(rows).length;
+        for (Map<String,Object> row : rows) {
+            row.values().removeAll(Collections.singleton(null));
+        }
+        final int withoutNulls = mapper.writeValueAsBytes(rows).length;
+        assertTrue("Size with nulls "+withNulls+", without "+withoutNulls,
+                withNulls < withoutNulls + 100);
+    }
+
+    public void testInvalidHeader() throws Exception
+    {
+        JsonParser p = new SpadeFactory().createParser(new byte[] { 'S', 'P', 'X', 1 });
+        try {
+            p.nextToken();
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "Invalid Spade header");
+        }
+        p.close();
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper methods
+    /**********************************************************************
+     */
+
+    private List<Object> _values(List<Map<String,Object>> rows, String column)
+    {
+        List<Object> result = new ArrayList<>();
+        for (Map<String,Object> row : rows) {
+            result.add(row.get(column));
+        }
+        return result;
+    }
+
+    private List<Entry> _entries(int count)
+    {
+        List<Entry> result = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            String level = ((i % 3) == 0) ? "WARN" : "INFO";
+            if ((i % 4) == 0) {
+                result.add(new Entry(1000L * i, level, "Message #"+i, i * 0.5, "a", "tag"+i));
+            } else {
+                result.add(new Entry(1000L * i, level, null, -i));
+            }
+        }
+        return result;
+    }
+
+    private double _specialDouble(int i)
+    {
+        switch (i % 5) {
+        case 0:
+            return Double.NaN;
+        case 1:
+            return -0.0;
+        case 2:
+            return Double.POSITIVE_INFINITY;
+        case 3:
+            return Double.NEGATIVE_INFINITY;
+        default:
+            return 0.0;
+        }
+    }
+
+    private void _verifyField(JsonParser p, String name, JsonToken valueToken) throws IOException
+    {
+        assertToken(JsonToken.FIELD_NAME, p.nextToken());
+        assertEquals(name, p.getCurrentName());
+        assertToken(valueToken, p.nextToken());
+        assertEquals(name, p.getCurrentName());
+    }
+}
@@ -0,0 +1,247 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class SpadeTextTranscoderTest extends ModuleTestBase
+{
+    private final JsonFactory JSON_F = new JsonFactory();
+
+    public void testRoundTrip() throws Exception
+    {
+        SpadeFactory f = new SpadeFactory().setMaxBlockRows(10000);
+        ObjectMapper mapper = new ObjectMapper(f);
+        Random r = new Random(3);
+        List<Map<String,Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 25000; ++i) {
+            Map<String,Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            if (r.nextInt(10) == 0) {
+                row.put("sparse", r.nextDouble());
+            }
+            if ((i / 3000) % 2 == 0) {
+                row.put("runs", "value-"+(i % 7));
+            }
+            if (r.nextBoolean()) {
+                row.put("random", "str"+r.nextInt(1000));
+            }
+            rows.add(row);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonGenerator g = f.createGenerator(bytes)) {
+            for (Map<String,Object> row : rows) {
+                mapper.writeValue(g, row);
+            }
+        }
+        final byte[] binary = bytes.toByteArray();
+
+        final String text = _toText(binary);
+        JsonNode root = new ObjectMapper().readTree(text);
+        assertEquals("spade", root.path("format").asText());
+        assertEquals(3, root.path("blocks").size());
+        JsonNode col = root.path("blocks").path(0).path("columns").path(0);
+        assertEquals("id", col.path("name").asText());
+        assertEquals("integers", col.path("encoding").asText());
+        assertEquals(10000, col.path("valueCount").asInt());
+
+        // binary must be identical after round trip, and readable
+        final byte[] binary2 = _toBinary(text);
+        assertTrue(Arrays.equals(binary, binary2));
+        List<?> result = mapper.readerFor(Map.class).readValues(binary2).readAll();
+        assertEquals(rows, result);
+
+        // and property order of text should not matter
+        ObjectMapper jsonMapper = new ObjectMapper();
+        JsonNode reversed = _reverseProperties(jsonMapper.readTree(text));
+        assertFalse(text.equals(jsonMapper.writeValueAsString(reversed)));
+        assertTrue(Arrays.equals(binary, _toBinary(jsonMapper.writeValueAsString(reversed))));
+    }
+
+    public void testStatistics() throws Exception
+    {
+        SpadeFactory f = new SpadeFactory().setMaxBlockRows(100)
+                .enable(SpadeGenerator.Feature.COLUMN_STATISTICS);
+        ObjectMapper mapper = new ObjectMapper(f);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonGenerator g = f.createGenerator(bytes)) {
+            for (int i = 0; i < 250; ++i) {
+                Map<String,Object> row = new LinkedHashMap<>();
+                row.put("id", i);
+                row.put("name", "name"+(i % 10));
+                mapper.writeValue(g, row);
+            }
+        }
+        final byte[] binary = bytes.toByteArray();
+        final String text = _toText(binary);
+        JsonNode block = new ObjectMapper().readTree(text).path("blocks").path(2);
+        assertTrue(block.path("statistics").isTextual());
+        byte[] stats = block.path("statistics").binaryValue();
+        ColumnStatistics id = SpadeFileIndex.readBlockStatistics(stats, 0, stats.length).get("id");
+        assertEquals(50, id.getPresentCount());
+        assertEquals(Long.valueOf(200L), id.getMin());
+        assertEquals(Long.valueOf(249L), id.getMax());
+
+        assertTrue(Arrays.equals(binary, _toBinary(text)));
+    }
+
+    public void testFooterIndex() throws Exception
+    {
+        SpadeFactory f = new SpadeFactory().setMaxBlockRows(100)
+                .enable(SpadeGenerator.Feature.FOOTER_INDEX)
+                .enable(SpadeGenerator.Feature.COLUMN_STATISTICS);
+        ObjectMapper mapper = new ObjectMapper(f);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonGenerator g = f.createGenerator(bytes)) {
+            for (int i = 0; i < 250; ++i) {
+                mapper.writeValue(g, Collections.singletonMap("id", i));
+            }
+        }
+        final byte[] binary = bytes.toByteArray();
+        final String text = _toText(binary);
+        JsonNode root = new ObjectMapper().readTree(text);
+        byte[] index = root.path("index").binaryValue();
+        assertEquals(binary.length - SpadeConstants.TRAILER_LENGTH - index.length,
+                _toBinary(text.replaceAll(",\"index\":\"[^\"]*\"", "")).length);
+        SpadeFileIndex fileIndex = SpadeFileIndex.read(index, 0, index.length,
+                binary.length - SpadeConstants.TRAILER_LENGTH - index.length - 1);
+        assertEquals(3, fileIndex.getRowGroupCount());
+        assertEquals(250, fileIndex.getRowCount());
+
+        // footer, too, must be identical after round trip
+        assertTrue(Arrays.equals(binary, _toBinary(text)));
+
+        // but index must match blocks
+        ObjectNode broken = (ObjectNode) root.deepCopy();
+        ((ArrayNode) broken.path("blocks")).remove(2);
+        try {
+            _toBinary(broken.toString());
+            fail("Should not pass");
+        } catch (JsonParseException e) {
+            verifyException(e, "invalid 'index'");
+        }
+    }
+
+    public void testEmpty() throws Exception
+    {
+        // SpadeParser accepts empty input as content without rows; so must we
+        assertEquals("{\"format\":\"spade\",\"version\":1,\"blocks\":[]}",
+                _toText(new byte[0]));
+
+        SpadeFactory f = new SpadeFactory();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonGenerator g = f.createGenerator(bytes)) {
+            g.writeStartObject();
+            g.writeEndObject();
+        }
+        final String text = _toText(bytes.toByteArray());
+        assertEquals("{\"format\":\"spade\",\"version\":1,\"blocks\":[{\"rows\":1,\"columns\":[]}]}",
+                text);
+        assertTrue(Arrays.equals(bytes.toByteArray(), _toBinary(text)));
+    }
+
+    public void testInvalid() throws Exception
+    {
+        try {
+            _toBinary("{\"blocks\":[{\"rows\":1,\"columns\":[{\"name\":\"x\"}]}]}");
+            fail("Should not pass");
+        } catch (JsonParseException e) {
+            verifyException(e, "missing column property");
+        }
+        try {
+            _toBinary("{\"blocks\":[{\"rows\":1,\"columns\":[{\"presence\":"
+                    +"{\"chunks\":[{\"codec\":\"bogus\"}],\"padding\":0}}]}]}");
+            fail("Should not pass");
+        } catch (JsonParseException e) {
+            verifyException(e, "unrecognized presence chunk codec 'bogus'");
+        }
+        try {
+            _toBinary("{\"blocks\":[{\"rows\":1,\"columns\":[{\"presence\":"
+                    +"{\"chunks\":[{\"codec\":\"raw\",\"length\":1}],\"padding\":0}}]}]}");
+            fail("Should not pass");
+        } catch (JsonParseException e) {
+            verifyException(e, "property 'data' missing");
+        }
+        try {
+            _toText(new byte[] { 'S', 'P', 'D', SpadeConstants.FORMAT_VERSION, 7 });
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "invalid block marker 0x07");
+        }
+        // anything after end marker must be a footer index, not silently dropped
+        try {
+            _toText(new byte[] { 'S', 'P', 'D', SpadeConstants.FORMAT_VERSION, 0, 1, 2 });
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "2 bytes after end marker, but no footer index");
+        }
+        try {
+            _toText(new byte[] { 'S', 'P', 'D', SpadeConstants.FORMAT_VERSION, 0,
+                    0, 0, 0, 3, 'S', 'P', 'D', 'F' });
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "footer index length 3, but 0 bytes before trailer");
+        }
+    }
+
+    private JsonNode _reverseProperties(JsonNode node)
+    {
+        if (node.isArray()) {
+            ArrayNode result = (ArrayNode) node.deepCopy();
+            for (int i = 0; i < result.size(); ++i) {
+                result.set(i, _reverseProperties(result.get(i)));
+            }
+            return result;
+        }
+        if (node.isObject()) {
+            List<String> names = new ArrayList<>();
+            Iterator<String> it = node.fieldNames();
+            while (it.hasNext()) {
+                names.add(it.next());
+            }
+            Collections.reverse(names);
+            ObjectNode result = ((ObjectNode) node).objectNode();
+            for (String name : names) {
+                result.set(name, _reverseProperties(node.get(name)));
+            }
+            return result;
+        }
+        return node;
+    }
+
+    private String _toText(byte[] binary) throws IOException
+    {
+        StringWriter w = new StringWriter();
+        try (JsonGenerator gen = JSON_F.createGenerator(w)) {
+            SpadeTextTranscoder.toText(new ByteArrayInputStream(binary), gen);
+        }
+        return w.toString();
+    }
+
+    private byte[] _toBinary(String text) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonParser p = JSON_F.createParser(text)) {
+            SpadeTextTranscoder.toBinary(p, bytes);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,111 @@
+package com.fasterxml.jackson.dataformat.spade;
+
+import java.io.IOException;
+import java.util.Random;
+
+import com.fasterxml.jackson.dataformat.spade.util.ByteBuilder;
+
+public class XorDoubleCodecTest extends ModuleTestBase
+{
+    public void testSpecialValues() throws Exception
+    {
+        final double[] values = {
+                0.0, -0.0, 0.0, Double.NaN, Double.longBitsToDouble(0x7FF8000000000123L),
+                Double.longBitsToDouble(0xFFF0000000000001L), Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY, Double.MIN_VALUE, -Double.MAX_VALUE,
+                Double.MIN_NORMAL, 1.0, 1.0, -0.0
+        };
+        _verifyRoundTrip(values);
+    }
+
+    public void testSlowlyChanging() throws Exception
+    {
+        // repeated values only take a single bit, small changes a few bits
+        double[] values = new double[1000];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = 20.0 + ((i / 10) % 8) * 0.5;
+        }
+        byte[] encoded = _verifyRoundTrip(values);
+        assertTrue("Too long: "+encoded.length, encoded.length < values.length / 4);
+    }
+
+    public void testRandom() throws Exception
+    {
+        Random r = new Random(42);
+        double[] values = new double[777];
+        for (int i = 0; i < values.length; ++i) {
+            switch (i % 3) {
+            case 0:
+                values[i] = r.nextDouble() * 100.0;
+                break;
+            case 1:
+                values[i] = Double.longBitsToDouble(r.nextLong());
+                break;
+            default:
+                values[i] = values[i-1] + r.nextInt(3);
+            }
+        }
+        _verifyRoundTrip(values);
+    }
+
+    public void testReuse() throws Exception
+    {
+        ByteBuilder out = new ByteBuilder();
+        XorDoubleEncoder enc = new XorDoubleEncoder(out);
+        enc.write(3.25);
+        enc.write(-1.0);
+        enc.finish();
+        final int firstLength = out.size();
+        enc.write(7.5);
+        enc.finish();
+
+        XorDoubleDecoder dec = new XorDoubleDecoder();
+        dec.init(out.getBuffer(), 0, out.size());
+        assertEquals(3.25, dec.read());
+        assertEquals(-1.0, dec.read());
+        assertEquals(firstLength, dec.getOffset());
+        dec.init(out.getBuffer(), firstLength, out.size());
+        assertEquals(7.5, dec.read());
+        assertEquals(out.size(), dec.getOffset());
+    }
+
+    public void testTruncated() throws Exception
+    {
+        ByteBuilder out = new ByteBuilder();
+        XorDoubleEncoder enc = new XorDoubleEncoder(out);
+        enc.write(1.0);
+        enc.write(Math.PI);
+        enc.finish();
+        XorDoubleDecoder dec = new XorDoubleDecoder();
+        dec.init(out.getBuffer(), 0, out.size() - 1);
+        dec.read();
+        try {
+            dec.read();
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "Unexpected end of content");
+        }
+    }
+
+    private byte[] _verifyRoundTrip(double[] values) throws Exception
+    {
+        ByteBuilder out = new ByteBuilder();
+        XorDoubleEncoder enc = new XorDoubleEncoder(out);
+        for (double d : values) {
+            enc.write(d);
+        }
+        assertEquals(values.length, enc.getValueCount());
+        enc.finish();
+        byte[] encoded = out.toByteArray();
+
+        XorDoubleDecoder dec = new XorDoubleDecoder();
+        dec.init(encoded, 0, encoded.length);
+        for (int i = 0; i < values.length; ++i) {
+            final double d = dec.read();
+            assertEquals("Value #"+i, Double.doubleToRawLongBits(values[i]),
+                    Double.doubleToRawLongBits(d));
+        }
+        assertEquals(encoded.length, dec.getOffset());
+        return encoded;
+    }
+}
@@ -0,0 +1,75 @@
+package com.fasterxml.jackson.dataformat.spade.cli;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.spade.ModuleTestBase;
+
+public class WriteBitSetsTest extends ModuleTestBase
+{
+    // output has comments for columns present in all rows
+    private final ObjectMapper MAPPER = new ObjectMapper().enable(JsonParser.Feature.ALLOW_COMMENTS);
+
+    public void testBitSets() throws Exception
+    {
+        // enough rows for encoded content of "random" column to be spilled
+        final int rows = 700000;
+        final Random r = new Random(5);
+        final BitSet sparse = new BitSet(), random = new BitSet(), clustered = new BitSet();
+        StringBuilder sb = new StringBuilder(rows * 40);
+        for (int i = 0; i < rows; ++i) {
+            sb.append("{\"id\":").append(i);
+            if (r.nextInt(1000) == 0) {
+                sparse.set(i);
+                sb.append(",\"sparse\":{\"nested\":[1,{\"id\":2}]}");
+            }
+            if (r.nextBoolean()) {
+                random.set(i);
+                sb.append(",\"random\":null");
+            }
+            if ((i / 10000) % 3 == 0) {
+                clustered.set(i);
+                // duplicates within a row only count once
+                sb.append(",\"clustered\":true,\"clustered\":false");
+            }
+            sb.append("}\n");
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new WriteBitSets().process(new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8)),
+                "test", out);
+
+        JsonNode root = MAPPER.readTree(out.toByteArray());
+        assertEquals(rows, root.path("rowCount").asInt());
+        assertEquals(4, root.path("columnCount").asInt());
+        JsonNode bitsets = root.path("bitsets");
+        assertEquals(rows, bitsets.path("id").path("set").asInt());
+        assertNull(bitsets.path("id").get("presence"));
+        _verifyBitSet(sparse, bitsets.path("sparse"));
+        _verifyBitSet(random, bitsets.path("random"));
+        _verifyBitSet(clustered, bitsets.path("clustered"));
+    }
+
+    public void testArrayOfRows() throws Exception
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new WriteBitSets().process(new ByteArrayInputStream(
+                "[{\"a\":1},{\"b\":2},{\"a\":3,\"b\":[]}]".getBytes(StandardCharsets.UTF_8)),
+                "test", out);
+        JsonNode bitsets = MAPPER.readTree(out.toByteArray()).path("bitsets");
+        assertTrue(Arrays.equals(new byte[] { 5 }, bitsets.path("a").path("presence").binaryValue()));
+        assertTrue(Arrays.equals(new byte[] { 6 }, bitsets.path("b").path("presence").binaryValue()));
+    }
+
+    private void _verifyBitSet(BitSet exp, JsonNode result) throws Exception
+    {
+        assertEquals(exp.cardinality(), result.path("set").asInt());
+        assertTrue(Arrays.equals(exp.toByteArray(), result.path("presence").binaryValue()));
+    }
+}
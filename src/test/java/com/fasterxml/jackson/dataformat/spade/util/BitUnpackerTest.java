@@ -0,0 +1,59 @@
+package com.fasterxml.jackson.dataformat.spade.util;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+
+import com.fasterxml.jackson.dataformat.spade.ModuleTestBase;
+
+public class BitUnpackerTest extends ModuleTestBase
+{
+    private final static String SOURCE_PATH
+        = "src/main/java/com/fasterxml/jackson/dataformat/spade/util/BitUnpacker.java";
+
+    // Committed source must be exactly what generator produces
+    public void testGeneratedSourceUpToDate() throws Exception
+    {
+        File f = new File(SOURCE_PATH);
+        assertTrue("Missing "+f.getAbsolutePath(), f.isFile());
+        String committed = new String(Files.readAllBytes(f.toPath()), StandardCharsets.UTF_8);
+        assertEquals("BitUnpacker.java out of date: regenerate with BitUnpackerGenerator",
+                BitUnpackerGenerator.generate(), committed);
+    }
+
+    public void testAllWidths()
+    {
+        Random r = new Random(13);
+        final int GROUP = BitUnpacker.GROUP_SIZE;
+        for (int width = 0; width <= 64; ++width) {
+            final long mask = (width == 64) ? -1L : ((1L << width) - 1);
+            long[] exp = new long[GROUP];
+            long[] words = new long[1 + width];
+            // pack MSB-first, with one word of offset to verify input pointer
+            for (int i = 0; i < GROUP; ++i) {
+                final long value = r.nextLong() & mask;
+                exp[i] = value;
+                for (int bit = 0; bit < width; ++bit) {
+                    if ((value & (1L << (width - 1 - bit))) != 0L) {
+                        final int pos = i * width + bit;
+                        words[1 + (pos >>> 6)] |= 1L << (63 - (pos & 63));
+                    }
+                }
+            }
+            long[] out = new long[GROUP + 3];
+            out[2 + GROUP] = 42L;
+            BitUnpacker.unpack(width, words, 1, out, 2);
+            for (int i = 0; i < GROUP; ++i) {
+                assertEquals("Width "+width+", value #"+i, exp[i], out[2 + i]);
+            }
+            assertEquals(42L, out[2 + GROUP]);
+        }
+        try {
+            BitUnpacker.unpack(65, new long[65], 0, new long[64], 0);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Invalid bit width 65");
+        }
+    }
+}
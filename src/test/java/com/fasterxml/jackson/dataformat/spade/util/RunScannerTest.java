@@ -0,0 +1,84 @@
+package com.fasterxml.jackson.dataformat.spade.util;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import com.fasterxml.jackson.dataformat.spade.ModuleTestBase;
+import com.fasterxml.jackson.dataformat.spade.NibblerEncoder;
+
+public class RunScannerTest extends ModuleTestBase
+{
+    public void testScalar()
+    {
+        RunScanner sc = RunScanner.scalar();
+        byte[] input = new byte[] { 0, 0, 0, 5, -1, -1, 3 };
+        assertEquals(3, sc.runLength(input, 0, input.length, 0));
+        assertEquals(2, sc.runLength(input, 1, input.length, 0));
+        assertEquals(0, sc.runLength(input, 3, input.length, 0));
+        assertEquals(2, sc.runLength(input, 4, input.length, -1));
+        assertEquals(1, sc.runLength(input, 4, 5, -1));
+
+        assertEquals(0, sc.findRunCandidate(input, 0, input.length));
+        assertEquals(4, sc.findRunCandidate(input, 3, input.length));
+        assertEquals(7, sc.findRunCandidate(input, 6, input.length));
+        assertEquals(4, sc.findRunCandidate(input, 3, 4));
+    }
+
+    // Verify that whatever default implementation we have works identically to scalar
+    public void testDefaultSameAsScalar()
+    {
+        final RunScanner scalar = RunScanner.scalar();
+        final RunScanner def = RunScanner.instance();
+        Random r = new Random(7);
+        for (int round = 0; round < 200; ++round) {
+            byte[] input = new byte[1 + r.nextInt(300)];
+            Arrays.fill(input, (byte) ((round & 1) - 1));
+            for (int i = r.nextInt(4); i > 0; --i) {
+                input[r.nextInt(input.length)] = (byte) r.nextInt();
+            }
+            for (int start = 0; start < input.length; start += 1 + r.nextInt(20)) {
+                int end = start + r.nextInt(input.length - start + 1);
+                assertEquals(scalar.runLength(input, start, end, 0), def.runLength(input, start, end, 0));
+                assertEquals(scalar.runLength(input, start, end, -1), def.runLength(input, start, end, -1));
+                assertEquals(scalar.findRunCandidate(input, start, end), def.findRunCandidate(input, start, end));
+            }
+            // and then the other way around, mostly literals
+            r.nextBytes(input);
+            for (int start = 0; start < input.length; start += 1 + r.nextInt(20)) {
+                assertEquals(scalar.findRunCandidate(input, start, input.length),
+                        def.findRunCandidate(input, start, input.length));
+            }
+        }
+    }
+
+    public void testNibblerOutputIdentical()
+    {
+        final NibblerEncoder scalarEnc = new NibblerEncoder(RunScanner.scalar());
+        final NibblerEncoder defEnc = new NibblerEncoder();
+        Random r = new Random(11);
+        byte[] input = new byte[NibblerEncoder.MAX_CHUNK_SIZE];
+        byte[] out1 = new byte[NibblerEncoder.MAX_OUTPUT_BUFFER];
+        byte[] out2 = new byte[NibblerEncoder.MAX_OUTPUT_BUFFER];
+        for (int round = 0; round < 50; ++round) {
+            Arrays.fill(input, (byte) 0);
+            for (int i = 0; i < input.length; ) {
+                int len = Math.min(input.length - i, r.nextInt(200));
+                switch (r.nextInt(3)) {
+                case 0:
+                    Arrays.fill(input, i, i + len, (byte) -1);
+                    break;
+                case 1:
+                    for (int j = 0; j < len; ++j) {
+                        input[i+j] = (byte) r.nextInt();
+                    }
+                    break;
+                }
+                i += len;
+            }
+            int end1 = scalarEnc.encode(input, 0, input.length, out1, 0);
+            int end2 = defEnc.encode(input, 0, input.length, out2, 0);
+            assertEquals(end1, end2);
+            _verifyBytes(Arrays.copyOf(out2, end2), Arrays.copyOf(out1, end1));
+        }
+    }
+}
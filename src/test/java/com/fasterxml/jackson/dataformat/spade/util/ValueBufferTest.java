@@ -0,0 +1,98 @@
+package com.fasterxml.jackson.dataformat.spade.util;
+
+import java.util.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.spade.ModuleTestBase;
+
+public class ValueBufferTest extends ModuleTestBase
+{
+    private final ObjectMapper MAPPER = new ObjectMapper();
+
+    public void testTypedColumns() throws Exception
+    {
+        ValueBuffer buffer = new ValueBuffer();
+        for (int row = 0; row < 100; ++row) {
+            buffer.addValue(row, "int", row);
+            buffer.addValue(row, "double", row * 0.5);
+            if ((row % 3) == 0) {
+                buffer.addValue(row, "bool", (row % 2) == 0);
+                buffer.addValue(row, "str", "s"+row);
+            }
+        }
+        ValueBuffer.Column col = buffer.columns.get("int");
+        assertEquals(ValueBuffer.Column.TYPE_INT, col.getType());
+        assertEquals(100, col.entries);
+        assertEquals(Integer.valueOf(99), col.getValue(99));
+        assertEquals(ValueBuffer.Column.TYPE_DOUBLE, buffer.columns.get("double").getType());
+        assertEquals(Double.valueOf(1.5), buffer.columns.get("double").getValue(3));
+
+        col = buffer.columns.get("bool");
+        assertEquals(ValueBuffer.Column.TYPE_BOOLEAN, col.getType());
+        assertEquals(34, col.entries);
+        assertEquals(Boolean.TRUE, col.getValue(0));
+        assertEquals(Boolean.FALSE, col.getValue(1));
+        // every third row, most-significant-bit first
+        byte[] presence = col.getPresence();
+        assertEquals(13, presence.length);
+        assertEquals((byte) 0x92, presence[0]);
+        assertEquals((byte) 0x49, presence[1]);
+        assertEquals((byte) 0x90, presence[12]);
+        // and more rows may be appended after access
+        buffer.addValue(101, "bool", true);
+        presence = col.getPresence();
+        assertEquals(13, presence.length);
+        assertEquals((byte) 0x94, presence[12]);
+
+        col = buffer.columns.get("str");
+        assertEquals(ValueBuffer.Column.TYPE_STRING, col.getType());
+        assertEquals("s99", col.getValue(33));
+    }
+
+    public void testPromotion() throws Exception
+    {
+        ValueBuffer buffer = new ValueBuffer();
+        buffer.addValue(0, "a", null);
+        buffer.addValue(1, "a", 1);
+        buffer.addValue(2, "a", Long.MAX_VALUE);
+        buffer.addValue(3, "a", null);
+        buffer.addValue(4, "a", 3);
+        ValueBuffer.Column col = buffer.columns.get("a");
+        assertEquals(ValueBuffer.Column.TYPE_LONG, col.getType());
+        assertNull(col.getValue(0));
+        assertEquals(Long.valueOf(1L), col.getValue(1));
+        assertEquals(Long.valueOf(Long.MAX_VALUE), col.getValue(2));
+        assertNull(col.getValue(3));
+        assertEquals("[\"+A==\",null,1,9223372036854775807,null,3]", MAPPER.writeValueAsString(col));
+
+        // and then conflicting type to get mixed column
+        buffer.addValue(5, "a", "x");
+        buffer.addValue(6, "a", Arrays.asList("y", "z"));
+        assertEquals(ValueBuffer.Column.TYPE_MIXED, col.getType());
+        assertEquals(Long.valueOf(1L), col.getValue(1));
+        assertEquals("x", col.getValue(5));
+        assertEquals("[\"/g==\",null,1,9223372036854775807,null,3,\"x\",[\"y\",\"z\"]]",
+                MAPPER.writeValueAsString(col));
+
+        // as well as Strings and doubles
+        buffer.addValue(0, "b", "abc");
+        buffer.addValue(1, "b", 'd');
+        buffer.addValue(2, "b", 0.25);
+        assertEquals(ValueBuffer.Column.TYPE_MIXED, buffer.columns.get("b").getType());
+        assertEquals("{\"a\":[\"/g==\",null,1,9223372036854775807,null,3,\"x\",[\"y\",\"z\"]],"
+                +"\"b\":[\"4A==\",\"abc\",\"d\",0.25]}",
+                MAPPER.writeValueAsString(buffer));
+    }
+
+    public void testInvalidRow() throws Exception
+    {
+        ValueBuffer buffer = new ValueBuffer();
+        buffer.addValue(3, "a", true);
+        try {
+            buffer.addValue(3, "a", false);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Bad row index 3");
+        }
+    }
+}